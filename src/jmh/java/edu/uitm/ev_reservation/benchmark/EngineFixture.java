@@ -0,0 +1,100 @@
+package edu.uitm.ev_reservation.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import edu.uitm.ev_reservation.entity.ChargingSession;
+import edu.uitm.ev_reservation.entity.EVStation;
+import edu.uitm.ev_reservation.entity.User;
+import edu.uitm.ev_reservation.entity.Vehicle;
+import edu.uitm.ev_reservation.repository.ChargingSessionRepository;
+import edu.uitm.ev_reservation.service.ChargingClock;
+import edu.uitm.ev_reservation.service.ChargingMetrics;
+import edu.uitm.ev_reservation.service.ChargingThreadManager;
+import edu.uitm.ev_reservation.service.InMemoryProgressEventBus;
+import edu.uitm.ev_reservation.service.ProgressEventBus;
+import edu.uitm.ev_reservation.service.PumpAllocationIndex;
+import edu.uitm.ev_reservation.service.SessionLeases;
+import edu.uitm.ev_reservation.service.SessionStateWriter;
+import edu.uitm.ev_reservation.websocket.ChargingWebSocketHandler;
+import edu.uitm.ev_reservation.websocket.ProgressReplayBuffer;
+
+/**
+ * Wires a {@link ChargingThreadManager} the way Spring would, with the
+ * repository stubbed out and the write-behind stage never flushing.
+ */
+public final class EngineFixture {
+
+  // Large enough that no session completes while a benchmark runs
+  public static final int BATTERY_CAPACITY = 100_000_000;
+
+  private EngineFixture() {
+  }
+
+  public static ChargingClock systemClock() {
+    return new ChargingClock(ChargingClock.Mode.SYSTEM, 1, null);
+  }
+
+  public static ChargingMetrics metrics() {
+    return new ChargingMetrics(new SimpleMeterRegistry());
+  }
+
+  /**
+   * An in-memory progress bus with a WebSocket handler subscribed to it, as on
+   * a single node.
+   */
+  public static ProgressEventBus progressBus() {
+    ProgressEventBus bus = new InMemoryProgressEventBus();
+    webSocketHandler(bus);
+    return bus;
+  }
+
+  public static ChargingWebSocketHandler webSocketHandler(ProgressEventBus bus) {
+    ProgressReplayBuffer replayBuffer = new ProgressReplayBuffer(bus, new SimpleMeterRegistry(), 16, 300);
+    // Benchmark clients never subscribe, so no session owner is ever looked up
+    return new ChargingWebSocketHandler(replayBuffer, null, new SimpleMeterRegistry(), true,
+        ChargingWebSocketHandler.WireFormat.LEGACY, ChargingWebSocketHandler.SlowConsumerPolicy.CONFLATE, 256,
+        512 * 1024, 5000, 250);
+  }
+
+  public static ChargingThreadManager manager(ChargingSessionRepository repository,
+      ProgressEventBus progressEventBus, int engineThreads) {
+    ChargingClock clock = systemClock();
+    ChargingMetrics metrics = metrics();
+    return new ChargingThreadManager(
+        progressEventBus,
+        repository,
+        new PumpAllocationIndex(repository, clock),
+        new SessionStateWriter(new JdbcTemplate(), metrics, 200, Integer.MAX_VALUE),
+        new SessionLeases(repository, clock, false, "benchmark", 30),
+        clock,
+        metrics,
+        engineThreads,
+        ChargingThreadManager.ExecutionMode.PLATFORM,
+        10);
+  }
+
+  public static List<ChargingSession> sessions(int count, boolean reserved) {
+    User owner = User.builder().id(1L).email("bench@example.com").password("secret").name("Bench").build();
+    Vehicle vehicle = Vehicle.builder().id(1L).make("Make").model("Model").plateNumber("BENCH1")
+        .batteryCapacity(BATTERY_CAPACITY).owner(owner).build();
+    EVStation station = EVStation.builder().id(1L).name("Station").location("Shah Alam").numberOfPumps(8).build();
+
+    List<ChargingSession> sessions = new ArrayList<>(count);
+    for (long id = 1; id <= count; id++) {
+      sessions.add(ChargingSession.builder()
+          .id(id)
+          .user(owner)
+          .vehicle(vehicle)
+          .station(station)
+          .pumpNumber((int) (id % 8) + 1)
+          .isReserved(reserved)
+          .build());
+    }
+    return sessions;
+  }
+}
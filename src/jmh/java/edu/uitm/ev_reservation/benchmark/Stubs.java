@@ -0,0 +1,68 @@
+package edu.uitm.ev_reservation.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Proxy-based stand-ins for the repositories and framework interfaces the
+ * benchmarked classes depend on, so the benchmarks run without a database or
+ * a servlet container.
+ */
+public final class Stubs {
+
+  private Stubs() {
+  }
+
+  /**
+   * Returns an implementation of {@code type} whose methods answer from
+   * {@code answers} by method name, or with an empty/zero default.
+   */
+  public static <T> T of(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+    Object stub = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "equals":
+          return proxy == args[0];
+        case "toString":
+          return type.getSimpleName() + "Stub";
+        default:
+          break;
+      }
+
+      Function<Object[], Object> answer = answers.get(method.getName());
+      if (answer != null) {
+        return answer.apply(args);
+      }
+      return defaultValue(method.getReturnType());
+    });
+    return type.cast(stub);
+  }
+
+  public static <T> T of(Class<T> type) {
+    return of(type, new HashMap<>());
+  }
+
+  private static Object defaultValue(Class<?> returnType) {
+    if (returnType == boolean.class) {
+      return false;
+    }
+    if (returnType == int.class) {
+      return 0;
+    }
+    if (returnType == long.class) {
+      return 0L;
+    }
+    if (returnType == Optional.class) {
+      return Optional.empty();
+    }
+    if (List.class.isAssignableFrom(returnType)) {
+      return List.of();
+    }
+    return null;
+  }
+}
@@ -0,0 +1,72 @@
+package edu.uitm.ev_reservation.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.uitm.ev_reservation.benchmark.EngineFixture;
+import edu.uitm.ev_reservation.benchmark.Stubs;
+import edu.uitm.ev_reservation.entity.ChargingSession;
+import edu.uitm.ev_reservation.repository.ChargingSessionRepository;
+
+/**
+ * Time to start, and to start then stop, a batch of sessions on a fresh
+ * charging engine. Ticks of already started sessions run in the background,
+ * as they would in production.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ChargingEngineBenchmark {
+
+  @Param({ "1000", "10000", "100000" })
+  int sessions;
+
+  private ChargingThreadManager manager;
+  private List<ChargingSession> batch;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    ChargingSessionRepository repository = Stubs.of(ChargingSessionRepository.class);
+    manager = EngineFixture.manager(repository, EngineFixture.progressBus(), 4);
+    batch = EngineFixture.sessions(sessions, false);
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() {
+    manager.shutdown();
+  }
+
+  @Benchmark
+  public void startAll() {
+    for (ChargingSession session : batch) {
+      manager.startChargingSessionImmediately(session);
+    }
+  }
+
+  @Benchmark
+  public void startThenStopAll() {
+    for (ChargingSession session : batch) {
+      manager.startChargingSessionImmediately(session);
+    }
+    for (ChargingSession session : batch) {
+      manager.stopChargingSession(session.getId());
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package edu.uitm.ev_reservation.service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.uitm.ev_reservation.benchmark.EngineFixture;
+import edu.uitm.ev_reservation.benchmark.Stubs;
+import edu.uitm.ev_reservation.entity.ChargingSession;
+import edu.uitm.ev_reservation.repository.ChargingSessionRepository;
+
+/**
+ * Cost of the reservation scheduler as the number of pending reservations
+ * grows: seeding the heap from the repository, re-running a refill over
+ * reservations that are already queued, and queueing one new reservation.
+ * Completed and charging sessions never reach the scheduler, so the size of
+ * the charging_sessions history does not appear here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationSchedulerBenchmark {
+
+  @Param({ "1000", "10000", "100000" })
+  int pending;
+
+  private ChargingThreadManager manager;
+  private ReservationScheduler scheduler;
+  private ChargingSession reservation;
+  private long nextId;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    ChargingSessionRepository repository = repositoryFor(pending);
+    manager = EngineFixture.manager(repository, EngineFixture.progressBus(), 1);
+    scheduler = new ReservationScheduler(repository, manager, EngineFixture.systemClock(), EngineFixture.metrics(), 60);
+    scheduler.refill(System.currentTimeMillis());
+
+    reservation = EngineFixture.sessions(1, true).get(0);
+    reservation.setStartTime(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)));
+    nextId = pending + 1;
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() {
+    scheduler.shutdown();
+    manager.shutdown();
+  }
+
+  @Benchmark
+  public int refillAlreadyQueued() {
+    scheduler.refill(System.currentTimeMillis());
+    return scheduler.getPendingCount();
+  }
+
+  @Benchmark
+  public int scheduleOne() {
+    reservation.setId(nextId++);
+    scheduler.schedule(reservation);
+    return scheduler.getPendingCount();
+  }
+
+  @State(Scope.Thread)
+  public static class EmptyScheduler {
+    ReservationScheduler scheduler;
+
+    @Setup(Level.Invocation)
+    public void setUp(ReservationSchedulerBenchmark benchmark) {
+      scheduler = new ReservationScheduler(benchmark.repositoryFor(benchmark.pending), benchmark.manager,
+          EngineFixture.systemClock(), EngineFixture.metrics(), 60);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10)
+  public int seed(EmptyScheduler empty) {
+    empty.scheduler.refill(System.currentTimeMillis());
+    return empty.scheduler.getPendingCount();
+  }
+
+  private ChargingSessionRepository repositoryFor(int count) {
+    long start = System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1);
+    List<PendingReservation> rows = new ArrayList<>(count);
+    for (long id = 1; id <= count; id++) {
+      rows.add(new PendingReservation(id, new Date(start + id)));
+    }
+    Map<String, Function<Object[], Object>> answers = Map.of("findPendingReservations", args -> rows);
+    return Stubs.of(ChargingSessionRepository.class, answers);
+  }
+}
@@ -0,0 +1,130 @@
+package edu.uitm.ev_reservation.websocket;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import edu.uitm.ev_reservation.benchmark.EngineFixture;
+import edu.uitm.ev_reservation.benchmark.Stubs;
+import edu.uitm.ev_reservation.dto.ChargingProgressMessage;
+import edu.uitm.ev_reservation.entity.ChargingSession;
+import edu.uitm.ev_reservation.entity.User;
+import edu.uitm.ev_reservation.mapper.DtoMapper;
+import edu.uitm.ev_reservation.service.InMemoryProgressEventBus;
+import edu.uitm.ev_reservation.service.ProgressEventBus;
+
+/**
+ * Serialization and fan-out cost of one progress broadcast to N connected
+ * WebSocket sessions, as paid by the broadcasting thread: frames are queued
+ * per connection and sent by the handler's sender threads. The mock sessions
+ * belong to an admin, who may follow any station, and accept every frame
+ * immediately.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BroadcastBenchmark {
+
+  @Param({ "10", "100", "1000" })
+  int connections;
+
+  // When set, each connection subscribes to its own station and only one of them receives the message
+  @Param({ "false", "true" })
+  boolean subscribed;
+
+  @Param({ "legacy", "compact", "binary" })
+  String format;
+
+  private final AtomicLong bytesSent = new AtomicLong();
+  private ProgressEventBus bus;
+  private ChargingWebSocketHandler handler;
+  private List<WebSocketSession> sessions;
+  private ChargingProgressMessage message;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    bus = new InMemoryProgressEventBus();
+    handler = EngineFixture.webSocketHandler(bus);
+    sessions = new ArrayList<>(connections);
+    for (int i = 0; i < connections; i++) {
+      WebSocketSession session = mockSession("ws-" + i);
+      sessions.add(session);
+      handler.afterConnectionEstablished(session);
+      handler.handleMessage(session, new TextMessage("{\"action\":\"format\",\"format\":\"" + format + "\"}"));
+      if (subscribed) {
+        handler.handleMessage(session,
+            new TextMessage("{\"action\":\"subscribe\",\"topic\":\"station\",\"id\":" + (i + 1) + "}"));
+        // A refused subscription leaves the connection on the legacy broadcast, measuring the full fan-out again
+        if (!ChargingWebSocketHandler.topicsOf(session).contains("station:" + (i + 1))) {
+          throw new IllegalStateException("Subscription of " + session.getId() + " was refused");
+        }
+      }
+    }
+
+    ChargingSession chargingSession = EngineFixture.sessions(1, false).get(0);
+    message = ChargingProgressMessage.builder()
+        .sessionId(chargingSession.getId())
+        .userId(chargingSession.getUser().getId())
+        .station(DtoMapper.toEVStationResponseDto(chargingSession.getStation()))
+        .pump(chargingSession.getPumpNumber())
+        .vehicle(DtoMapper.toVehicleResponseDto(chargingSession.getVehicle()))
+        .chargingRate(1200)
+        .status("charging")
+        .sequence(12)
+        .timestamp(System.currentTimeMillis())
+        .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    for (WebSocketSession session : sessions) {
+      handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+    }
+    handler.shutdown();
+  }
+
+  @Benchmark
+  public long broadcastProgress() {
+    bus.publish(message);
+    return bytesSent.get();
+  }
+
+  private WebSocketSession mockSession(String id) {
+    Map<String, Object> attributes = new HashMap<>();
+    attributes.put(ChargingWebSocketHandler.USER_ATTRIBUTE, User.builder().id(1L).isAdmin(true).build());
+    Map<String, Function<Object[], Object>> answers = new HashMap<>();
+    answers.put("getId", args -> id);
+    answers.put("isOpen", args -> true);
+    answers.put("getAttributes", args -> attributes);
+    answers.put("sendMessage", args -> {
+      bytesSent.addAndGet(((WebSocketMessage<?>) args[0]).getPayloadLength());
+      return null;
+    });
+    return Stubs.of(WebSocketSession.class, answers);
+  }
+}
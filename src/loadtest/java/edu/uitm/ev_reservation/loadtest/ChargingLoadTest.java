@@ -0,0 +1,324 @@
+package edu.uitm.ev_reservation.loadtest;
+
+import java.io.File;
+import java.net.CookieManager;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import edu.uitm.ev_reservation.EvReservationApplication;
+import edu.uitm.ev_reservation.entity.User;
+import edu.uitm.ev_reservation.repository.UserRepository;
+
+/**
+ * WebSocket fan-out load test: opens N simulated {@code /ws/charging} clients,
+ * starts M charging sessions through {@code POST /api/charging-sessions} and
+ * reports end-to-end delivery latency (tick produced to frame received), frames
+ * lost on the way and the server's CPU and heap.
+ *
+ * Without {@code loadtest.url} the application is started in this JVM against
+ * the datasource in {@code application.properties} (or
+ * {@code SPRING_DATASOURCE_URL}), in a schema of its own that is dropped when
+ * the run ends, with the system charging clock so tick timestamps are
+ * wall-clock time. The server's CPU figure then includes the
+ * simulated clients; point {@code loadtest.url} at a separately started server
+ * for a clean one. Server metrics are read from the management port, which
+ * is opened for the in-process server and taken from
+ * {@code loadtest.metrics-url} (for example {@code http://host:8081}) for a
+ * remote one. Only admins may follow whole stations, so the in-process run
+ * creates an admin to log in as; against a remote server pass an admin's
+ * {@code loadtest.email} and {@code loadtest.password}. Run it with {@code ./mvnw -Ploadtest -DskipTests verify}.
+ */
+public final class ChargingLoadTest {
+
+  private static final ObjectMapper mapper = new ObjectMapper();
+
+  private static final int PUMPS_PER_STATION = 10;
+
+  // Only ever exists in the throwaway schema of an in-process run
+  private static final String ADMIN_PASSWORD = UUID.randomUUID().toString();
+
+  private final String baseUrl;
+  private final String metricsUrl;
+  private final String email;
+  private final String password;
+  private final int clients;
+  private final int sessions;
+  private final int durationSeconds;
+  private final String format;
+  private final boolean subscribeByStation;
+  private final HttpClient httpClient;
+
+  private ChargingLoadTest(String baseUrl, String metricsUrl, String email, String password, int clients,
+      int sessions, int durationSeconds, String format, boolean subscribeByStation) {
+    this.baseUrl = baseUrl;
+    this.metricsUrl = metricsUrl;
+    this.email = email;
+    this.password = password;
+    this.clients = clients;
+    this.sessions = sessions;
+    this.durationSeconds = durationSeconds;
+    this.format = format;
+    this.subscribeByStation = subscribeByStation;
+    this.httpClient = HttpClient.newBuilder()
+        .cookieHandler(new CookieManager())
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+  }
+
+  public static void main(String[] args) throws Exception {
+    int clients = Integer.getInteger("loadtest.clients", 1000);
+    int sessions = Integer.getInteger("loadtest.sessions", 100);
+    int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 30);
+    String format = System.getProperty("loadtest.format", "compact");
+    boolean subscribeByStation = !"all".equals(System.getProperty("loadtest.subscribe", "station"));
+    String result = System.getProperty("loadtest.result", "target/loadtest-result.json");
+    String url = System.getProperty("loadtest.url", "");
+    String metricsUrl = System.getProperty("loadtest.metrics-url", url);
+    String email = System.getProperty("loadtest.email", "");
+    String password = System.getProperty("loadtest.password", "");
+
+    ConfigurableApplicationContext context = null;
+    ThrowawaySchema schema = null;
+    try {
+      if (url.isBlank()) {
+        int managementPort = freePort();
+        schema = new ThrowawaySchema();
+        context = new SpringApplicationBuilder(EvReservationApplication.class)
+            .properties(
+                "server.port=0",
+                "management.server.port=" + managementPort,
+                "charging.clock.mode=system",
+                "spring.jpa.show-sql=false")
+            .listeners(schema)
+            .run(args);
+        url = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        metricsUrl = "http://localhost:" + managementPort;
+        email = createAdmin(context);
+        password = ADMIN_PASSWORD;
+      }
+
+      Map<String, Object> report = new ChargingLoadTest(url, metricsUrl, email, password, clients, sessions,
+          durationSeconds, format, subscribeByStation).run();
+      File resultFile = new File(result);
+      if (resultFile.getParentFile() != null) {
+        resultFile.getParentFile().mkdirs();
+      }
+      mapper.writerWithDefaultPrettyPrinter().writeValue(resultFile, report);
+      System.out.println("Results written to " + resultFile.getPath());
+    } finally {
+      if (context != null) {
+        context.close();
+      }
+      if (schema != null) {
+        schema.drop();
+      }
+    }
+    System.exit(0);
+  }
+
+  /** Registration never makes an admin, so the in-process run creates one directly. */
+  private static String createAdmin(ConfigurableApplicationContext context) {
+    String email = "loadtest-" + System.currentTimeMillis() + "@example.com";
+    User admin = new User();
+    admin.setEmail(email);
+    admin.setPassword(context.getBean(PasswordEncoder.class).encode(ADMIN_PASSWORD));
+    admin.setName("Load test");
+    admin.setIsAdmin(true);
+    context.getBean(UserRepository.class).save(admin);
+    return email;
+  }
+
+  /** The actuator only allows an unauthenticated scrape on a fixed management port, so pick one up front. */
+  private static int freePort() throws Exception {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private Map<String, Object> run() throws Exception {
+    log("Target " + baseUrl + ": " + clients + " clients, " + sessions + " sessions of " + durationSeconds
+        + " s, " + format + " frames, subscribe " + (subscribeByStation ? "by station" : "to everything"));
+
+    long userId = login();
+    int stationCount = (sessions + PUMPS_PER_STATION - 1) / PUMPS_PER_STATION;
+    List<Long> stations = new ArrayList<>();
+    for (int i = 0; i < stationCount; i++) {
+      stations.add(post("/api/stations", Map.of(
+          "name", "Load test " + i,
+          "location", "Load test",
+          "numberOfPumps", PUMPS_PER_STATION)).path("id").asLong());
+    }
+    // One tick per second per 1000 units (see ChargingProfile), so the capacity sets how long a session charges
+    List<Long> vehicles = new ArrayList<>();
+    for (int i = 0; i < sessions; i++) {
+      vehicles.add(post("/api/vehicles", Map.of(
+          "make", "Load",
+          "model", "Test",
+          "plateNumber", "LT" + System.nanoTime(),
+          "batteryCapacity", durationSeconds * 1000,
+          "owner", Map.of("id", userId))).path("id").asLong());
+    }
+
+    ProgressClient.Totals totals = new ProgressClient.Totals();
+    List<WebSocket> sockets = connect(stations, totals);
+    ServerMetricsSampler sampler = new ServerMetricsSampler(httpClient, metricsUrl);
+    sampler.start();
+
+    long expectedTerminals = 0;
+    for (int client = 0; client < clients; client++) {
+      expectedTerminals += subscribeByStation ? sessionsAt(client % stationCount) : sessions;
+    }
+
+    long started = System.nanoTime();
+    startSessions(userId, stations, vehicles);
+    log("Started " + sessions + " charging sessions in "
+        + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) + " ms");
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds * 2L + 30);
+    while (totals.terminals.sum() < expectedTerminals && System.nanoTime() < deadline) {
+      Thread.sleep(1000);
+      log(totals.frames.sum() + " frames, " + totals.terminals.sum() + "/" + expectedTerminals
+          + " sessions completed on clients, p99 " + totals.latency.percentile(99) + " ms");
+    }
+    long elapsedNanos = System.nanoTime() - started;
+    sampler.stop();
+    for (WebSocket socket : sockets) {
+      socket.sendClose(WebSocket.NORMAL_CLOSURE, "done");
+    }
+
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("clients", clients);
+    report.put("sessions", sessions);
+    report.put("durationSeconds", durationSeconds);
+    report.put("format", format);
+    report.put("subscribe", subscribeByStation ? "station" : "all");
+    report.put("elapsedSeconds", elapsedNanos / 1e9);
+    report.put("framesReceived", totals.frames.sum());
+    report.put("framesPerSecond", totals.frames.sum() / (elapsedNanos / 1e9));
+    report.put("framesMissing", totals.gaps.sum());
+    report.put("sessionsNotCompletedOnClients", expectedTerminals - totals.terminals.sum());
+    report.put("connectionsClosed", totals.closed.sum());
+    Map<String, Object> latency = new LinkedHashMap<>();
+    latency.put("p50", totals.latency.percentile(50));
+    latency.put("p90", totals.latency.percentile(90));
+    latency.put("p99", totals.latency.percentile(99));
+    latency.put("p99.9", totals.latency.percentile(99.9));
+    latency.put("max", totals.latency.max());
+    latency.put("negativeSamples", totals.latency.negativeCount());
+    report.put("latencyMillis", latency);
+    Map<String, Object> server = new LinkedHashMap<>();
+    server.put("cpuMean", sampler.cpuMean());
+    server.put("cpuMax", sampler.cpuMax());
+    server.put("heapMaxMegabytes", sampler.heapMaxBytes() / (1024 * 1024));
+    server.put("framesDropped", sampler.droppedFrames());
+    server.put("evictions", sampler.evictions());
+    server.put("tickJitterMaxMillis", sampler.tickJitterMaxSeconds() * 1000);
+    report.put("server", server);
+
+    System.out.println();
+    System.out.println(mapper.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+    return report;
+  }
+
+  private long login() throws Exception {
+    if (email.isBlank()) {
+      String registered = "loadtest-" + System.currentTimeMillis() + "@example.com";
+      if (subscribeByStation) {
+        log("No loadtest.email given; a registered user is no admin, so station subscriptions will be refused");
+      }
+      post("/api/auth/register", Map.of("email", registered, "password", "loadtest", "name", "Load test"));
+      return post("/api/auth/login", Map.of("email", registered, "password", "loadtest")).path("userId").asLong();
+    }
+    return post("/api/auth/login", Map.of("email", email, "password", password)).path("userId").asLong();
+  }
+
+  private List<WebSocket> connect(List<Long> stations, ProgressClient.Totals totals) throws Exception {
+    URI uri = URI.create(baseUrl.replaceFirst("^http", "ws") + "/ws/charging");
+    List<CompletableFuture<WebSocket>> pending = new ArrayList<>(clients);
+    for (int client = 0; client < clients; client++) {
+      pending.add(httpClient.newWebSocketBuilder()
+          .connectTimeout(Duration.ofSeconds(30))
+          .buildAsync(uri, new ProgressClient(totals)));
+    }
+
+    List<WebSocket> sockets = new ArrayList<>(clients);
+    for (int client = 0; client < clients; client++) {
+      WebSocket socket = pending.get(client).get(60, TimeUnit.SECONDS);
+      socket.sendText("{\"action\":\"format\",\"format\":\"" + format + "\"}", true).join();
+      if (subscribeByStation) {
+        socket.sendText("{\"action\":\"subscribe\",\"topic\":\"station\",\"id\":"
+            + stations.get(client % stations.size()) + "}", true).join();
+      } else {
+        // Every session belongs to the load test user, so its own topic covers all of them
+        socket.sendText("{\"action\":\"subscribe\",\"topic\":\"mine\"}", true).join();
+      }
+      sockets.add(socket);
+    }
+    log("Connected " + sockets.size() + " WebSocket clients");
+    return sockets;
+  }
+
+  private void startSessions(long userId, List<Long> stations, List<Long> vehicles) throws Exception {
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      List<Future<JsonNode>> requests = new ArrayList<>(sessions);
+      for (int i = 0; i < sessions; i++) {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("userId", userId);
+        request.put("vehicleId", vehicles.get(i));
+        request.put("stationId", stations.get(i / PUMPS_PER_STATION));
+        request.put("pumpNumber", i % PUMPS_PER_STATION + 1);
+        request.put("isReserved", false);
+        requests.add(executor.submit(() -> post("/api/charging-sessions", request)));
+      }
+      for (Future<JsonNode> request : requests) {
+        request.get();
+      }
+    }
+  }
+
+  private int sessionsAt(int station) {
+    return Math.min(PUMPS_PER_STATION, sessions - station * PUMPS_PER_STATION);
+  }
+
+  private JsonNode post(String path, Object body) throws Exception {
+    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .timeout(Duration.ofSeconds(30))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)))
+        .build();
+    HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    if (response.statusCode() >= 300) {
+      throw new IllegalStateException("POST " + path + " failed with " + response.statusCode() + ": "
+          + response.body());
+    }
+    return response.body().isEmpty() ? mapper.missingNode() : mapper.readTree(response.body());
+  }
+
+  static void log(String message) {
+    System.out.println("[loadtest] " + message);
+  }
+
+}
@@ -0,0 +1,77 @@
+package edu.uitm.ev_reservation.loadtest;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Delivery latencies in whole milliseconds, the resolution of the progress
+ * timestamp. One striped counter per millisecond keeps recording cheap when
+ * thousands of clients receive frames at once; anything above the last bucket
+ * is counted there.
+ */
+class LatencyHistogram {
+
+  private final LongAdder[] buckets;
+  private final LongAdder negative = new LongAdder();
+
+  LatencyHistogram(int maxMillis) {
+    buckets = new LongAdder[maxMillis + 1];
+    for (int i = 0; i < buckets.length; i++) {
+      buckets[i] = new LongAdder();
+    }
+  }
+
+  void record(long millis) {
+    if (millis < 0) {
+      // Clock skew with a remote server; counted, but kept out of the percentiles
+      negative.increment();
+      return;
+    }
+    buckets[(int) Math.min(millis, buckets.length - 1)].increment();
+  }
+
+  long count() {
+    long count = 0;
+    for (LongAdder bucket : buckets) {
+      count += bucket.sum();
+    }
+    return count;
+  }
+
+  long negativeCount() {
+    return negative.sum();
+  }
+
+  /**
+   * The smallest latency that at least {@code percentile} percent of frames
+   * did not exceed, or -1 if nothing was recorded.
+   */
+  long percentile(double percentile) {
+    long[] counts = new long[buckets.length];
+    long total = 0;
+    for (int i = 0; i < buckets.length; i++) {
+      counts[i] = buckets[i].sum();
+      total += counts[i];
+    }
+    if (total == 0) {
+      return -1;
+    }
+    long rank = (long) Math.ceil(total * percentile / 100.0);
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return i;
+      }
+    }
+    return counts.length - 1;
+  }
+
+  long max() {
+    for (int i = buckets.length - 1; i >= 0; i--) {
+      if (buckets[i].sum() > 0) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,126 @@
+package edu.uitm.ev_reservation.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * One simulated {@code /ws/charging} client. It records the delivery latency
+ * of every progress frame (receive time minus the timestamp the engine put on
+ * the tick) and counts frames it never saw as gaps in each session's sequence
+ * numbers.
+ *
+ * The JDK client calls a listener for one frame at a time, so the per-session
+ * state needs no locking; the totals are shared by every client.
+ */
+class ProgressClient implements WebSocket.Listener {
+
+  private static final ObjectMapper mapper = new ObjectMapper();
+
+  // Binary frame layout as in ProgressFrameCodec: status code at 1, sequence at 8, session id at 16, timestamp at 48
+  private static final int BINARY_LENGTH = 56;
+  private static final int STATUS_COMPLETED = 4;
+  private static final int STATUS_STOPPED = 5;
+
+  private final Totals totals;
+  private final Map<Long, Long> lastSequences = new HashMap<>();
+  private final StringBuilder text = new StringBuilder();
+  private final ByteArrayOutputStream binary = new ByteArrayOutputStream();
+
+  ProgressClient(Totals totals) {
+    this.totals = totals;
+  }
+
+  @Override
+  public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+    text.append(data);
+    if (last) {
+      long received = System.currentTimeMillis();
+      String payload = text.toString();
+      text.setLength(0);
+      readJson(payload, received);
+    }
+    webSocket.request(1);
+    return null;
+  }
+
+  @Override
+  public CompletionStage<?> onBinary(WebSocket webSocket, ByteBuffer data, boolean last) {
+    byte[] chunk = new byte[data.remaining()];
+    data.get(chunk);
+    binary.writeBytes(chunk);
+    if (last) {
+      long received = System.currentTimeMillis();
+      ByteBuffer frame = ByteBuffer.wrap(binary.toByteArray());
+      binary.reset();
+      if (frame.remaining() == BINARY_LENGTH) {
+        int status = frame.get(1);
+        record(frame.getLong(16), frame.getLong(8), frame.getLong(48),
+            status == STATUS_COMPLETED || status == STATUS_STOPPED, received);
+      }
+    }
+    webSocket.request(1);
+    return null;
+  }
+
+  @Override
+  public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+    totals.closed.increment();
+    return null;
+  }
+
+  @Override
+  public void onError(WebSocket webSocket, Throwable error) {
+    totals.closed.increment();
+  }
+
+  private void readJson(String payload, long received) {
+    JsonNode frame;
+    try {
+      frame = mapper.readTree(payload);
+    } catch (Exception e) {
+      return;
+    }
+    if ("descriptor".equals(frame.path("type").asText())) {
+      return;
+    }
+    // Legacy messages call the sequence number "sequence", compact frames "seq"
+    JsonNode sequence = frame.has("seq") ? frame.get("seq") : frame.path("sequence");
+    String status = frame.path("status").asText();
+    record(frame.path("sessionId").asLong(), sequence.asLong(), frame.path("timestamp").asLong(),
+        "completed".equals(status) || "stopped".equals(status), received);
+  }
+
+  private void record(long sessionId, long sequence, long timestamp, boolean terminal, long received) {
+    totals.frames.increment();
+    totals.latency.record(received - timestamp);
+
+    // Clients connect before any session starts, so every session should be seen from sequence 0
+    Long last = lastSequences.put(sessionId, sequence);
+    long expected = last != null ? last + 1 : 0;
+    if (sequence > expected) {
+      totals.gaps.add(sequence - expected);
+    }
+    if (terminal) {
+      totals.terminals.increment();
+    }
+  }
+
+  /**
+   * Counters shared by every client of a run.
+   */
+  static class Totals {
+    final LatencyHistogram latency = new LatencyHistogram(60_000);
+    final LongAdder frames = new LongAdder();
+    final LongAdder gaps = new LongAdder();
+    final LongAdder terminals = new LongAdder();
+    final LongAdder closed = new LongAdder();
+  }
+}
@@ -0,0 +1,137 @@
+package edu.uitm.ev_reservation.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the server's CPU and heap once a second from
+ * {@code /actuator/prometheus} on the server's management port, which works the
+ * same for an in-process and a remote server.
+ */
+class ServerMetricsSampler {
+
+  private final HttpClient httpClient;
+  private final URI prometheus;
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable);
+    thread.setName("ServerMetricsSampler");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private double cpuSum;
+  private double cpuMax;
+  private int cpuSamples;
+  private double heapMaxBytes;
+  private double droppedFrames;
+  private double evictions;
+  private double tickJitterMaxSeconds;
+
+  ServerMetricsSampler(HttpClient httpClient, String metricsUrl) {
+    this.httpClient = httpClient;
+    this.prometheus = URI.create(metricsUrl + "/actuator/prometheus");
+  }
+
+  void start() {
+    scheduler.scheduleAtFixedRate(this::sample, 0, 1, TimeUnit.SECONDS);
+  }
+
+  void stop() {
+    scheduler.shutdownNow();
+    try {
+      scheduler.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    sample();
+  }
+
+  synchronized double cpuMean() {
+    return cpuSamples > 0 ? cpuSum / cpuSamples : 0;
+  }
+
+  synchronized double cpuMax() {
+    return cpuMax;
+  }
+
+  synchronized double heapMaxBytes() {
+    return heapMaxBytes;
+  }
+
+  synchronized double droppedFrames() {
+    return droppedFrames;
+  }
+
+  synchronized double evictions() {
+    return evictions;
+  }
+
+  synchronized double tickJitterMaxSeconds() {
+    return tickJitterMaxSeconds;
+  }
+
+  private void sample() {
+    String body;
+    try {
+      body = httpClient.send(HttpRequest.newBuilder(prometheus).timeout(Duration.ofSeconds(5)).build(),
+          HttpResponse.BodyHandlers.ofString()).body();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    } catch (Exception e) {
+      return;
+    }
+
+    double heap = 0;
+    double dropped = 0;
+    Double cpu = null;
+    Double evicted = null;
+    Double jitter = null;
+    for (String line : body.split("\n")) {
+      if (line.startsWith("#")) {
+        continue;
+      }
+      if (line.startsWith("process_cpu_usage ")) {
+        cpu = valueOf(line);
+      } else if (line.startsWith("jvm_memory_used_bytes{") && line.contains("area=\"heap\"")) {
+        heap += valueOf(line);
+      } else if (line.startsWith("charging_websocket_frames_dropped_total")) {
+        dropped += valueOf(line);
+      } else if (line.startsWith("charging_websocket_evictions_total")) {
+        evicted = valueOf(line);
+      } else if (line.startsWith("charging_tick_jitter_seconds_max")) {
+        jitter = valueOf(line);
+      }
+    }
+
+    synchronized (this) {
+      if (cpu != null && !cpu.isNaN()) {
+        cpuSum += cpu;
+        cpuSamples++;
+        cpuMax = Math.max(cpuMax, cpu);
+      }
+      heapMaxBytes = Math.max(heapMaxBytes, heap);
+      droppedFrames = dropped;
+      if (evicted != null) {
+        evictions = evicted;
+      }
+      if (jitter != null) {
+        tickJitterMaxSeconds = Math.max(tickJitterMaxSeconds, jitter);
+      }
+    }
+  }
+
+  private static double valueOf(String line) {
+    try {
+      return Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1));
+    } catch (NumberFormatException e) {
+      return Double.NaN;
+    }
+  }
+}
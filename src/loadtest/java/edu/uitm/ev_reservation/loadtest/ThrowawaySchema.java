@@ -0,0 +1,50 @@
+package edu.uitm.ev_reservation.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * Schema of its own for the in-process server, so the admin, stations,
+ * vehicles and sessions the load test creates never land in the developer's
+ * tables. Registered as a listener, it points the configured datasource at
+ * the schema (Flyway creates and migrates it on startup); {@link #drop()}
+ * removes it with everything in it.
+ */
+class ThrowawaySchema implements ApplicationListener<ApplicationEnvironmentPreparedEvent> {
+
+  private final String name = "loadtest_" + System.currentTimeMillis();
+  private String url;
+  private String username;
+  private String password;
+
+  @Override
+  public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+    ConfigurableEnvironment environment = event.getEnvironment();
+    url = environment.getRequiredProperty("spring.datasource.url");
+    username = environment.getProperty("spring.datasource.username");
+    password = environment.getProperty("spring.datasource.password");
+    environment.getPropertySources().addFirst(new MapPropertySource("loadtestSchema", Map.of(
+        "spring.datasource.url", url + (url.contains("?") ? "&" : "?") + "currentSchema=" + name,
+        "spring.flyway.schemas", name)));
+  }
+
+  /** Drops the schema; call it once the server is closed. */
+  void drop() throws SQLException {
+    if (url == null) {
+      return;
+    }
+    try (Connection connection = DriverManager.getConnection(url, username, password);
+        Statement statement = connection.createStatement()) {
+      statement.execute("DROP SCHEMA IF EXISTS " + name + " CASCADE");
+    }
+    ChargingLoadTest.log("Dropped schema " + name);
+  }
+}
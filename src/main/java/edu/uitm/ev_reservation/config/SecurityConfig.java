@@ -1,5 +1,6 @@
 package edu.uitm.ev_reservation.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -9,15 +10,19 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import edu.uitm.ev_reservation.security.SessionAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
   private final SessionAuthenticationFilter sessionAuthenticationFilter;
+  private final int managementPort;
 
-  public SecurityConfig(SessionAuthenticationFilter sessionAuthenticationFilter) {
+  public SecurityConfig(SessionAuthenticationFilter sessionAuthenticationFilter,
+      @Value("${management.server.port:-1}") int managementPort) {
     this.sessionAuthenticationFilter = sessionAuthenticationFilter;
+    this.managementPort = managementPort;
   }
 
   @Bean
@@ -26,8 +31,14 @@ public class SecurityConfig {
         .cors(Customizer.withDefaults())
         .csrf(csrf -> csrf.disable())
         .authorizeHttpRequests(auth -> auth
+            // SSE streams end with an async dispatch; the request was already authorised when the stream opened
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
             .requestMatchers("/api/auth/**").permitAll()
             .requestMatchers("/api/health").permitAll()
+            .requestMatchers("/actuator/health").permitAll()
+            // The management port is internal (Prometheus scrapes it); on the public port metrics need an admin
+            .requestMatchers(request -> managementPort > 0 && request.getLocalPort() == managementPort).permitAll()
+            .requestMatchers("/actuator/**").hasRole("ADMIN")
             .requestMatchers("/ws/**").permitAll()
             .requestMatchers("/", "/index.html", "/static/**", "/assets/**",
                 "/*.js", "/*.css", "/*.ico", "/*.svg", "/*.png", "/*.jpg", "/*.jpeg",
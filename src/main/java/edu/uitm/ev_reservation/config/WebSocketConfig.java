@@ -1,9 +1,12 @@
 package edu.uitm.ev_reservation.config;
 
+import java.util.List;
+
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.support.HttpSessionHandshakeInterceptor;
 
 import edu.uitm.ev_reservation.websocket.ChargingWebSocketHandler;
 
@@ -19,6 +22,9 @@ public class WebSocketConfig implements WebSocketConfigurer {
 
   @Override
   public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
-    registry.addHandler(chargingWebSocketHandler, "/ws/charging").setAllowedOrigins("*");
+    // Copy the logged-in user into the WebSocket session so clients can subscribe to their own sessions
+    registry.addHandler(chargingWebSocketHandler, "/ws/charging")
+        .addInterceptors(new HttpSessionHandshakeInterceptor(List.of(ChargingWebSocketHandler.USER_ATTRIBUTE)))
+        .setAllowedOrigins("*");
   }
 }
@@ -1,59 +1,120 @@
 package edu.uitm.ev_reservation.controller;
 
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import edu.uitm.ev_reservation.dto.ChargingSessionCursorPage;
 import edu.uitm.ev_reservation.dto.ChargingSessionRequest;
 import edu.uitm.ev_reservation.dto.ChargingSessionResponseDto;
 import edu.uitm.ev_reservation.entity.ChargingSession;
+import edu.uitm.ev_reservation.entity.ChargingSessionStatus;
 import edu.uitm.ev_reservation.entity.EVStation;
 import edu.uitm.ev_reservation.entity.User;
 import edu.uitm.ev_reservation.entity.Vehicle;
-import edu.uitm.ev_reservation.mapper.DtoMapper;
 import edu.uitm.ev_reservation.repository.ChargingSessionRepository;
 import edu.uitm.ev_reservation.repository.EVStationRepository;
 import edu.uitm.ev_reservation.repository.UserRepository;
 import edu.uitm.ev_reservation.repository.VehicleRepository;
+import edu.uitm.ev_reservation.service.ChargingClock;
+import edu.uitm.ev_reservation.service.ChargingSessionHistory;
 import edu.uitm.ev_reservation.service.ChargingThreadManager;
+import edu.uitm.ev_reservation.service.PumpAllocationIndex;
+import edu.uitm.ev_reservation.service.PumpAllocationIndex.AllocationResult;
+import edu.uitm.ev_reservation.service.ReservationScheduler;
+import edu.uitm.ev_reservation.sse.ChargingProgressStreams;
+import jakarta.servlet.http.HttpSession;
 
 @RestController
 @RequestMapping("/api/charging-sessions")
 public class ChargingSessionController {
   private static final Logger logger = LoggerFactory.getLogger(ChargingSessionController.class);
+  private static final int MAX_CURSOR_LIMIT = 1000;
   private final ChargingSessionRepository chargingSessionRepository;
   private final UserRepository userRepository;
   private final VehicleRepository vehicleRepository;
   private final EVStationRepository evStationRepository;
   private final ChargingThreadManager chargingThreadManager;
+  private final ReservationScheduler reservationScheduler;
+  private final PumpAllocationIndex pumpAllocationIndex;
+  private final ChargingClock chargingClock;
+  private final ChargingProgressStreams chargingProgressStreams;
+  private final ChargingSessionHistory chargingSessionHistory;
 
   public ChargingSessionController(ChargingSessionRepository chargingSessionRepository,
       UserRepository userRepository,
       VehicleRepository vehicleRepository,
       EVStationRepository evStationRepository,
-      ChargingThreadManager chargingThreadManager) {
+      ChargingThreadManager chargingThreadManager,
+      ReservationScheduler reservationScheduler,
+      PumpAllocationIndex pumpAllocationIndex,
+      ChargingClock chargingClock,
+      ChargingProgressStreams chargingProgressStreams,
+      ChargingSessionHistory chargingSessionHistory) {
     this.chargingSessionRepository = chargingSessionRepository;
     this.userRepository = userRepository;
     this.vehicleRepository = vehicleRepository;
     this.evStationRepository = evStationRepository;
     this.chargingThreadManager = chargingThreadManager;
+    this.reservationScheduler = reservationScheduler;
+    this.pumpAllocationIndex = pumpAllocationIndex;
+    this.chargingClock = chargingClock;
+    this.chargingProgressStreams = chargingProgressStreams;
+    this.chargingSessionHistory = chargingSessionHistory;
   }
 
   @PostMapping
-  public ResponseEntity<Void> createChargingSession(@RequestBody ChargingSessionRequest request) {
+  public ResponseEntity<?> createChargingSession(@RequestBody ChargingSessionRequest request) {
     User user = userRepository.findById(request.userId).orElse(null);
-    Vehicle vehicle = vehicleRepository.findById(request.vehicleId).orElse(null);
+    // The engine maps the vehicle and its owner into progress messages on its own threads
+    Vehicle vehicle = vehicleRepository.findWithOwnerById(request.vehicleId).orElse(null);
     EVStation station = evStationRepository.findById(request.stationId).orElse(null);
 
+    if (vehicle == null || station == null) {
+      return ResponseEntity.badRequest().body(Map.of("error", "Vehicle or station not found"));
+    }
+    if (request.isReserved && request.startTime == null) {
+      return ResponseEntity.badRequest().body(Map.of("error", "Reserved sessions need a start time"));
+    }
+
+    Date windowStart = request.isReserved ? request.startTime : chargingClock.now();
+    AllocationResult allocation = pumpAllocationIndex.reserve(station, request.pumpNumber, windowStart,
+        vehicle.getBatteryCapacity());
+    if (allocation.getStatus() == AllocationResult.Status.INVALID_PUMP) {
+      return ResponseEntity.badRequest().body(Map.of("error",
+          "Pump " + request.pumpNumber + " does not exist at station " + station.getId()));
+    }
+    if (allocation.getStatus() == AllocationResult.Status.CONFLICT) {
+      Map<String, Object> conflict = new HashMap<>();
+      conflict.put("error", "Pump " + request.pumpNumber + " is already booked for that time");
+      conflict.put("suggestedPump", allocation.getSuggestedPump());
+      conflict.put("nextAvailableAt", allocation.getNextAvailableAt());
+      return ResponseEntity.status(HttpStatus.CONFLICT).body(conflict);
+    }
+
     ChargingSession session = ChargingSession.builder()
         .user(user)
         .vehicle(vehicle)
@@ -61,43 +122,109 @@ public class ChargingSessionController {
         .pumpNumber(request.pumpNumber)
         .isReserved(request.isReserved)
         .startTime(request.startTime)
-        .isCompleted(false)
         .build();
 
-    chargingSessionRepository.save(session);
+    try {
+      chargingSessionRepository.save(session);
+    } catch (RuntimeException e) {
+      pumpAllocationIndex.release(allocation.getBooking());
+      throw e;
+    }
+    pumpAllocationIndex.bind(allocation.getBooking(), session.getId());
     logger.info("Created ChargingSession: {}", session);
-    System.out.println("Created ChargingSession: " + session);
 
     if (!request.isReserved) {
       logger.info("Session {} is not reserved, starting charging immediately", session.getId());
       chargingThreadManager.startChargingSessionImmediately(session);
     } else {
-      logger.info("Session {} is reserved for {}, will be checked by scheduler", session.getId(),
+      logger.info("Session {} is reserved for {}, handing over to reservation scheduler", session.getId(),
           session.getStartTime());
+      reservationScheduler.schedule(session);
     }
 
     return ResponseEntity.ok().build();
   }
 
+  /**
+   * Lists sessions by page number, or by cursor when {@code after} or
+   * {@code limit} is given (see PAGINATION_API_DOCS.md).
+   */
   @GetMapping
-  public ResponseEntity<Page<ChargingSessionResponseDto>> getAllChargingSessions(
+  public ResponseEntity<?> getAllChargingSessions(
       @PageableDefault(size = 10, sort = "id") Pageable pageable,
       @RequestParam(required = false) Long userId,
       @RequestParam(required = false) Boolean isCompleted,
-      @RequestParam(required = false) Boolean isCharging) {
+      @RequestParam(required = false) Boolean isCharging,
+      @RequestParam(required = false) ChargingSessionStatus status,
+      @RequestParam(required = false) String after,
+      @RequestParam(required = false) Integer limit) {
 
-    Page<ChargingSession> sessions = chargingSessionRepository.findSessionsWithFilters(
-        userId, isCompleted, isCharging, pageable);
+    // The filters become one condition on the indexed status column
+    Set<ChargingSessionStatus> statuses = ChargingSessionStatus.matching(isCompleted, isCharging);
+    if (status != null) {
+      statuses.retainAll(Set.of(status));
+    }
 
-    // Convert entities to DTOs to prevent password exposure and fix serialization
-    // warning
-    Page<ChargingSessionResponseDto> sessionDtos = DtoMapper.toChargingSessionResponseDtoPage(sessions);
+    if (after != null || limit != null) {
+      int pageLimit = limit != null ? limit : pageable.getPageSize();
+      if (pageLimit < 1 || pageLimit > MAX_CURSOR_LIMIT) {
+        return ResponseEntity.badRequest().body(Map.of("error",
+            "Limit must be between 1 and " + MAX_CURSOR_LIMIT));
+      }
+      Sort.Order order = pageable.getSort().stream().findFirst().orElse(Sort.Order.asc("id"));
+      try {
+        ChargingSessionCursorPage page = statuses.isEmpty()
+            ? ChargingSessionCursorPage.builder().content(List.of()).limit(pageLimit).build()
+            : chargingSessionHistory.scroll(userId, statuses, order, after, pageLimit);
+        logger.info("Retrieved {} charging sessions (cursor, limit {}) with filters: userId={}, statuses={}",
+            page.getContent().size(), pageLimit, userId, statuses);
+        return ResponseEntity.ok(page);
+      } catch (IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+      }
+    }
+
+    // Read straight into DTOs, so no password is loaded and no entities are
+    // managed for a read-only listing
+    Page<ChargingSessionResponseDto> sessionDtos = statuses.isEmpty()
+        ? new PageImpl<>(List.of(), pageable, 0)
+        : chargingSessionRepository.findSessionDtosWithFilters(userId, statuses, pageable);
 
-    logger.info(
-        "Retrieved {} charging sessions (page {}, size {}) with filters: userId={}, isCompleted={}, isCharging={}",
-        sessionDtos.getNumberOfElements(), sessionDtos.getNumber(), sessionDtos.getSize(), userId, isCompleted,
-        isCharging);
+    logger.info("Retrieved {} charging sessions (page {}, size {}) with filters: userId={}, statuses={}",
+        sessionDtos.getNumberOfElements(), sessionDtos.getNumber(), sessionDtos.getSize(), userId, statuses);
 
     return ResponseEntity.ok(sessionDtos);
   }
+
+  /**
+   * Server-Sent Events stream of one session's progress, for clients that
+   * cannot hold a WebSocket. Reconnecting clients send {@code Last-Event-ID}
+   * and get the events they missed. Only the session's owner or an admin may
+   * follow it, as on the WebSocket.
+   */
+  @GetMapping("/{id}/stream")
+  public ResponseEntity<?> streamChargingSession(@PathVariable Long id,
+      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+      @RequestParam(defaultValue = "legacy") String format,
+      HttpSession httpSession) {
+    if (!"legacy".equals(format) && !"compact".equals(format)) {
+      return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+          .body(Map.of("error", "Format must be legacy or compact"));
+    }
+    Optional<Long> ownerId = chargingSessionRepository.findUserIdById(id);
+    if (ownerId.isEmpty()) {
+      return ResponseEntity.notFound().build();
+    }
+    User user = (User) httpSession.getAttribute("user");
+    if (user == null || !(Boolean.TRUE.equals(user.getIsAdmin()) || ownerId.get().equals(user.getId()))) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).contentType(MediaType.APPLICATION_JSON)
+          .body(Map.of("error", "Not your charging session"));
+    }
+
+    // X-Accel-Buffering stops nginx style proxies from holding events back
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.noCache())
+        .header("X-Accel-Buffering", "no")
+        .body(chargingProgressStreams.openSessionStream(id, lastEventId, "compact".equals(format)));
+  }
 }
@@ -1,8 +1,12 @@
 package edu.uitm.ev_reservation.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,11 +14,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import edu.uitm.ev_reservation.dto.StationAvailabilityDto;
 import edu.uitm.ev_reservation.entity.EVStation;
+import edu.uitm.ev_reservation.entity.User;
 import edu.uitm.ev_reservation.repository.EVStationRepository;
+import edu.uitm.ev_reservation.service.StationAvailabilityIndex;
+import edu.uitm.ev_reservation.sse.ChargingProgressStreams;
+import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -25,9 +36,17 @@ public class EVStationController {
   @Autowired
   private EVStationRepository stationRepository;
 
+  @Autowired
+  private ChargingProgressStreams chargingProgressStreams;
+
+  @Autowired
+  private StationAvailabilityIndex stationAvailabilityIndex;
+
   @PostMapping
   public ResponseEntity<EVStation> createStation(@RequestBody EVStation station) {
-    return ResponseEntity.ok(stationRepository.save(station));
+    EVStation saved = stationRepository.save(station);
+    stationAvailabilityIndex.updateStation(saved);
+    return ResponseEntity.ok(saved);
   }
 
   @GetMapping
@@ -49,7 +68,9 @@ public class EVStationController {
           station.setName(updated.getName());
           station.setLocation(updated.getLocation());
           station.setNumberOfPumps(updated.getNumberOfPumps());
-          return ResponseEntity.ok(stationRepository.save(station));
+          EVStation saved = stationRepository.save(station);
+          stationAvailabilityIndex.updateStation(saved);
+          return ResponseEntity.ok(saved);
         })
         .orElse(ResponseEntity.notFound().build());
   }
@@ -58,8 +79,56 @@ public class EVStationController {
   public ResponseEntity<Void> deleteStation(@PathVariable Long id) {
     if (stationRepository.existsById(id)) {
       stationRepository.deleteById(id);
+      stationAvailabilityIndex.removeStation(id);
       return ResponseEntity.noContent().build();
     }
     return ResponseEntity.notFound().build();
   }
-}
\ No newline at end of file
+
+  /**
+   * Free, reserved and charging pumps of the given stations, or of every
+   * station, answered from memory.
+   */
+  @GetMapping("/availability")
+  public ResponseEntity<List<StationAvailabilityDto>> getAvailability(
+      @RequestParam(required = false) List<Long> ids) {
+    return ResponseEntity.ok(stationAvailabilityIndex.getAvailability(ids));
+  }
+
+  @GetMapping("/{id}/availability")
+  public ResponseEntity<StationAvailabilityDto> getStationAvailability(@PathVariable Long id) {
+    StationAvailabilityDto availability = stationAvailabilityIndex.getAvailability(id);
+    if (availability == null) {
+      return ResponseEntity.notFound().build();
+    }
+    return ResponseEntity.ok(availability);
+  }
+
+  /**
+   * Server-Sent Events stream of every charging session at a station, for
+   * displays that cannot hold a WebSocket. It carries every driver's
+   * sessions, so only admins may follow it, as on the WebSocket.
+   */
+  @GetMapping("/{id}/stream")
+  public ResponseEntity<?> streamStation(@PathVariable Long id,
+      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+      @RequestParam(defaultValue = "legacy") String format,
+      HttpSession httpSession) {
+    if (!"legacy".equals(format) && !"compact".equals(format)) {
+      return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON)
+          .body(Map.of("error", "Format must be legacy or compact"));
+    }
+    User user = (User) httpSession.getAttribute("user");
+    if (user == null || !Boolean.TRUE.equals(user.getIsAdmin())) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).contentType(MediaType.APPLICATION_JSON)
+          .body(Map.of("error", "Station streams are for admins"));
+    }
+    if (!stationRepository.existsById(id)) {
+      return ResponseEntity.notFound().build();
+    }
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.noCache())
+        .header("X-Accel-Buffering", "no")
+        .body(chargingProgressStreams.openStationStream(id, lastEventId, "compact".equals(format)));
+  }
+}
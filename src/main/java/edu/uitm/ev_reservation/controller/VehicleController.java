@@ -39,7 +39,7 @@ public class VehicleController {
 
   @GetMapping("/{id}")
   public ResponseEntity<Vehicle> getVehicleById(@PathVariable Long id) {
-    Optional<Vehicle> vehicle = vehicleRepository.findById(id);
+    Optional<Vehicle> vehicle = vehicleRepository.findWithOwnerById(id);
     return vehicle.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
   }
 
@@ -50,12 +50,12 @@ public class VehicleController {
       owner.ifPresent(vehicle::setOwner);
     }
     Vehicle savedVehicle = vehicleRepository.save(vehicle);
-    return ResponseEntity.ok(savedVehicle);
+    return ResponseEntity.of(vehicleRepository.findWithOwnerById(savedVehicle.getId()));
   }
 
   @PutMapping("/{id}")
   public ResponseEntity<Vehicle> updateVehicle(@PathVariable Long id, @RequestBody Vehicle vehicleDetails) {
-    Optional<Vehicle> optionalVehicle = vehicleRepository.findById(id);
+    Optional<Vehicle> optionalVehicle = vehicleRepository.findWithOwnerById(id);
     if (!optionalVehicle.isPresent()) {
       return ResponseEntity.notFound().build();
     }
@@ -68,8 +68,10 @@ public class VehicleController {
       Optional<User> owner = userRepository.findById(vehicleDetails.getOwner().getId());
       owner.ifPresent(vehicle::setOwner);
     }
+    // save() merges the detached vehicle and hands back a copy whose owner is
+    // an unloaded proxy, so read it again with the owner for serializing
     Vehicle updatedVehicle = vehicleRepository.save(vehicle);
-    return ResponseEntity.ok(updatedVehicle);
+    return ResponseEntity.of(vehicleRepository.findWithOwnerById(updatedVehicle.getId()));
   }
 
   @DeleteMapping("/{id}")
@@ -0,0 +1,31 @@
+package edu.uitm.ev_reservation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Compact progress frame: ids and the values that change every tick. The
+ * station and vehicle details go out once per connection in a
+ * {@link ChargingSessionDescriptor}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChargingProgressFrame {
+  private int seq;
+  private Long sessionId;
+  private Long stationId;
+  private Long vehicleId;
+  private Long userId;
+  private Integer pump;
+  private Integer units;
+  private String status;
+  private Long timestamp;
+
+  public String getType() {
+    return "progress";
+  }
+}
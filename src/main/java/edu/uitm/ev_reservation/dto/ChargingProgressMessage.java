@@ -1,38 +1,46 @@
 package edu.uitm.ev_reservation.dto;
 
-import edu.uitm.ev_reservation.entity.EVStation;
-import edu.uitm.ev_reservation.entity.Vehicle;
-
+/**
+ * One charging progress event in the original WebSocket message shape. The
+ * station and vehicle are response DTOs, never entities, so nothing like the
+ * owner's password hash can end up on the wire.
+ */
 public class ChargingProgressMessage {
-  private EVStation station;
+  private EVStationResponseDto station;
   private Integer pump;
-  private Vehicle vehicle;
+  private VehicleResponseDto vehicle;
   private Integer chargingRate;
   private Long sessionId;
+  private Long userId;
   private String status;
+  private Integer sequence;
+  private Long timestamp;
 
   public ChargingProgressMessage() {
   }
 
-  public ChargingProgressMessage(EVStation station, Integer pump, Vehicle vehicle, Integer chargingRate, Long sessionId,
-      String status) {
+  public ChargingProgressMessage(EVStationResponseDto station, Integer pump, VehicleResponseDto vehicle,
+      Integer chargingRate, Long sessionId, Long userId, String status, Integer sequence, Long timestamp) {
     this.station = station;
     this.pump = pump;
     this.vehicle = vehicle;
     this.chargingRate = chargingRate;
     this.sessionId = sessionId;
+    this.userId = userId;
     this.status = status;
+    this.sequence = sequence;
+    this.timestamp = timestamp;
   }
 
   public static ChargingProgressMessageBuilder builder() {
     return new ChargingProgressMessageBuilder();
   }
 
-  public EVStation getStation() {
+  public EVStationResponseDto getStation() {
     return station;
   }
 
-  public void setStation(EVStation station) {
+  public void setStation(EVStationResponseDto station) {
     this.station = station;
   }
 
@@ -44,11 +52,11 @@ public class ChargingProgressMessage {
     this.pump = pump;
   }
 
-  public Vehicle getVehicle() {
+  public VehicleResponseDto getVehicle() {
     return vehicle;
   }
 
-  public void setVehicle(Vehicle vehicle) {
+  public void setVehicle(VehicleResponseDto vehicle) {
     this.vehicle = vehicle;
   }
 
@@ -68,6 +76,14 @@ public class ChargingProgressMessage {
     this.sessionId = sessionId;
   }
 
+  public Long getUserId() {
+    return userId;
+  }
+
+  public void setUserId(Long userId) {
+    this.userId = userId;
+  }
+
   public String getStatus() {
     return status;
   }
@@ -76,15 +92,34 @@ public class ChargingProgressMessage {
     this.status = status;
   }
 
+  public Integer getSequence() {
+    return sequence;
+  }
+
+  public void setSequence(Integer sequence) {
+    this.sequence = sequence;
+  }
+
+  public Long getTimestamp() {
+    return timestamp;
+  }
+
+  public void setTimestamp(Long timestamp) {
+    this.timestamp = timestamp;
+  }
+
   public static class ChargingProgressMessageBuilder {
-    private EVStation station;
+    private EVStationResponseDto station;
     private Integer pump;
-    private Vehicle vehicle;
+    private VehicleResponseDto vehicle;
     private Integer chargingRate;
     private Long sessionId;
+    private Long userId;
     private String status;
+    private Integer sequence;
+    private Long timestamp;
 
-    public ChargingProgressMessageBuilder station(EVStation station) {
+    public ChargingProgressMessageBuilder station(EVStationResponseDto station) {
       this.station = station;
       return this;
     }
@@ -94,7 +129,7 @@ public class ChargingProgressMessage {
       return this;
     }
 
-    public ChargingProgressMessageBuilder vehicle(Vehicle vehicle) {
+    public ChargingProgressMessageBuilder vehicle(VehicleResponseDto vehicle) {
       this.vehicle = vehicle;
       return this;
     }
@@ -109,13 +144,29 @@ public class ChargingProgressMessage {
       return this;
     }
 
+    public ChargingProgressMessageBuilder userId(Long userId) {
+      this.userId = userId;
+      return this;
+    }
+
     public ChargingProgressMessageBuilder status(String status) {
       this.status = status;
       return this;
     }
 
+    public ChargingProgressMessageBuilder sequence(Integer sequence) {
+      this.sequence = sequence;
+      return this;
+    }
+
+    public ChargingProgressMessageBuilder timestamp(Long timestamp) {
+      this.timestamp = timestamp;
+      return this;
+    }
+
     public ChargingProgressMessage build() {
-      return new ChargingProgressMessage(station, pump, vehicle, chargingRate, sessionId, status);
+      return new ChargingProgressMessage(station, pump, vehicle, chargingRate, sessionId, userId, status, sequence,
+          timestamp);
     }
   }
 }
@@ -0,0 +1,22 @@
+package edu.uitm.ev_reservation.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of charging sessions in cursor mode. {@code nextCursor} is passed
+ * back as {@code after} for the next page and is null on the last one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChargingSessionCursorPage {
+  private List<ChargingSessionResponseDto> content;
+  private int limit;
+  private String nextCursor;
+}
@@ -0,0 +1,26 @@
+package edu.uitm.ev_reservation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Static details of a charging session, sent once to a compact or binary
+ * connection before its first progress frame for that session.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChargingSessionDescriptor {
+  private Long sessionId;
+  private Long userId;
+  private Integer pump;
+  private EVStationResponseDto station;
+  private VehicleResponseDto vehicle;
+
+  public String getType() {
+    return "descriptor";
+  }
+}
@@ -2,6 +2,8 @@ package edu.uitm.ev_reservation.dto;
 
 import java.util.Date;
 
+import edu.uitm.ev_reservation.entity.ChargingSessionStatus;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -21,4 +23,35 @@ public class ChargingSessionResponseDto {
   private Boolean isReserved;
   private Boolean isCharging;
   private Date startTime;
+  private ChargingSessionStatus status;
+
+  /**
+   * Builds the response straight from the flat columns of
+   * {@code ChargingSessionRepository.findSessionDtosWithFilters}, without
+   * loading entities. A null id means the association is not set.
+   */
+  public ChargingSessionResponseDto(Long id, Integer pumpNumber, Boolean isReserved, ChargingSessionStatus status,
+      Date startTime,
+      Long userId, String userEmail, String userName, Boolean userIsAdmin,
+      Long vehicleId, String make, String model, String plateNumber, Integer batteryCapacity,
+      Long ownerId, String ownerEmail, String ownerName, Boolean ownerIsAdmin,
+      Long stationId, String stationName, String location, Integer numberOfPumps) {
+    this.id = id;
+    this.pumpNumber = pumpNumber;
+    this.isCompleted = status == ChargingSessionStatus.COMPLETED;
+    this.isReserved = isReserved;
+    this.isCharging = status == ChargingSessionStatus.CHARGING;
+    this.startTime = startTime;
+    this.status = status;
+    this.user = userId != null ? new UserResponseDto(userId, userEmail, userName, userIsAdmin) : null;
+    if (vehicleId != null) {
+      UserResponseDto owner = ownerId != null
+          ? new UserResponseDto(ownerId, ownerEmail, ownerName, ownerIsAdmin)
+          : null;
+      this.vehicle = new VehicleResponseDto(vehicleId, make, model, plateNumber, batteryCapacity, owner);
+    }
+    if (stationId != null) {
+      this.station = new EVStationResponseDto(stationId, stationName, location, numberOfPumps);
+    }
+  }
 }
@@ -0,0 +1,24 @@
+package edu.uitm.ev_reservation.dto;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State of one pump right now: {@code free}, {@code reserved} or
+ * {@code charging}, with the session holding it and, for a reservation, when
+ * it starts.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PumpAvailabilityDto {
+  private int pump;
+  private String status;
+  private Long sessionId;
+  private Date reservedFrom;
+}
@@ -0,0 +1,21 @@
+package edu.uitm.ev_reservation.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StationAvailabilityDto {
+  private Long stationId;
+  private int numberOfPumps;
+  private int free;
+  private int reserved;
+  private int charging;
+  private List<PumpAvailabilityDto> pumps;
+}
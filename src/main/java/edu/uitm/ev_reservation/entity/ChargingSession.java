@@ -2,54 +2,86 @@ package edu.uitm.ev_reservation.entity;
 
 import java.util.Date;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
+// Associations are lazy; queries that map sessions to DTOs fetch them with
+// this graph so a page of sessions costs one select instead of one per row
 @Entity
 @Table(name = "charging_sessions")
+@NamedEntityGraph(name = ChargingSession.DETAILS, attributeNodes = {
+    @NamedAttributeNode("user"),
+    @NamedAttributeNode(value = "vehicle", subgraph = "vehicle"),
+    @NamedAttributeNode("station")
+}, subgraphs = @NamedSubgraph(name = "vehicle", attributeNodes = @NamedAttributeNode("owner")))
 public class ChargingSession {
+  public static final String DETAILS = "ChargingSession.details";
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   private User user;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   private Vehicle vehicle;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   private EVStation station;
 
   private int pumpNumber;
 
-  private boolean isCompleted;
-
+  // How the session was booked; its lifecycle is in status
   private boolean isReserved;
 
-  private boolean isCharging;
+  // Changed only by conditional updates on the current status (see
+  // SessionStateWriter), never by saving the entity
+  @Enumerated(EnumType.STRING)
+  @Column(length = 16, nullable = false)
+  private ChargingSessionStatus status = ChargingSessionStatus.PENDING;
+
+  @Version
+  private long version;
 
   private Date startTime;
 
+  // Units charged as of the last progress checkpoint, used to resume after a
+  // restart
+  private Integer chargedUnits;
+
+  // Node currently running the session and until when, in cluster mode
+  @Column(length = 64)
+  private String leaseOwner;
+
+  private Date leaseExpiresAt;
+
   public ChargingSession() {
   }
 
   public ChargingSession(Long id, User user, Vehicle vehicle, EVStation station,
-      int pumpNumber, boolean isCompleted, boolean isReserved,
-      boolean isCharging, Date startTime) {
+      int pumpNumber, boolean isReserved, ChargingSessionStatus status, Date startTime, Integer chargedUnits) {
     this.id = id;
     this.user = user;
     this.vehicle = vehicle;
     this.station = station;
     this.pumpNumber = pumpNumber;
-    this.isCompleted = isCompleted;
     this.isReserved = isReserved;
-    this.isCharging = isCharging;
+    this.status = status;
     this.startTime = startTime;
+    this.chargedUnits = chargedUnits;
   }
 
   public Long getId() {
@@ -93,11 +125,7 @@ public class ChargingSession {
   }
 
   public boolean isCompleted() {
-    return isCompleted;
-  }
-
-  public void setCompleted(boolean completed) {
-    isCompleted = completed;
+    return status == ChargingSessionStatus.COMPLETED;
   }
 
   public boolean isReserved() {
@@ -109,11 +137,19 @@ public class ChargingSession {
   }
 
   public boolean isCharging() {
-    return isCharging;
+    return status == ChargingSessionStatus.CHARGING;
   }
 
-  public void setCharging(boolean charging) {
-    isCharging = charging;
+  public ChargingSessionStatus getStatus() {
+    return status;
+  }
+
+  public void setStatus(ChargingSessionStatus status) {
+    this.status = status;
+  }
+
+  public long getVersion() {
+    return version;
   }
 
   public Date getStartTime() {
@@ -124,6 +160,30 @@ public class ChargingSession {
     this.startTime = startTime;
   }
 
+  public Integer getChargedUnits() {
+    return chargedUnits;
+  }
+
+  public void setChargedUnits(Integer chargedUnits) {
+    this.chargedUnits = chargedUnits;
+  }
+
+  public String getLeaseOwner() {
+    return leaseOwner;
+  }
+
+  public void setLeaseOwner(String leaseOwner) {
+    this.leaseOwner = leaseOwner;
+  }
+
+  public Date getLeaseExpiresAt() {
+    return leaseExpiresAt;
+  }
+
+  public void setLeaseExpiresAt(Date leaseExpiresAt) {
+    this.leaseExpiresAt = leaseExpiresAt;
+  }
+
   public static ChargingSessionBuilder builder() {
     return new ChargingSessionBuilder();
   }
@@ -134,10 +194,10 @@ public class ChargingSession {
     private Vehicle vehicle;
     private EVStation station;
     private int pumpNumber;
-    private boolean isCompleted;
     private boolean isReserved;
-    private boolean isCharging;
+    private ChargingSessionStatus status = ChargingSessionStatus.PENDING;
     private Date startTime;
+    private Integer chargedUnits;
 
     public ChargingSessionBuilder id(Long id) {
       this.id = id;
@@ -164,18 +224,13 @@ public class ChargingSession {
       return this;
     }
 
-    public ChargingSessionBuilder isCompleted(boolean isCompleted) {
-      this.isCompleted = isCompleted;
-      return this;
-    }
-
     public ChargingSessionBuilder isReserved(boolean isReserved) {
       this.isReserved = isReserved;
       return this;
     }
 
-    public ChargingSessionBuilder isCharging(boolean isCharging) {
-      this.isCharging = isCharging;
+    public ChargingSessionBuilder status(ChargingSessionStatus status) {
+      this.status = status;
       return this;
     }
 
@@ -184,9 +239,14 @@ public class ChargingSession {
       return this;
     }
 
+    public ChargingSessionBuilder chargedUnits(Integer chargedUnits) {
+      this.chargedUnits = chargedUnits;
+      return this;
+    }
+
     public ChargingSession build() {
-      return new ChargingSession(id, user, vehicle, station, pumpNumber,
-          isCompleted, isReserved, isCharging, startTime);
+      return new ChargingSession(id, user, vehicle, station, pumpNumber, isReserved, status, startTime,
+          chargedUnits);
     }
   }
 }
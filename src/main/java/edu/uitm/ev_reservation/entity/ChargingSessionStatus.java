@@ -0,0 +1,36 @@
+package edu.uitm.ev_reservation.entity;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Lifecycle of a charging session. A session is created {@code PENDING}
+ * (a reservation waits here for its start time), runs while
+ * {@code CHARGING} and ends {@code COMPLETED}, or {@code STOPPED} when it was
+ * interrupted or failed. The two end states are final.
+ *
+ * Transitions are conditional updates on the current status, made by
+ * {@code SessionStateWriter} and the bulk queries in
+ * {@code ChargingSessionRepository}.
+ */
+public enum ChargingSessionStatus {
+  PENDING,
+  CHARGING,
+  COMPLETED,
+  STOPPED;
+
+  /**
+   * Statuses that pass the legacy {@code isCompleted} and {@code isCharging}
+   * filters; null leaves a filter out.
+   */
+  public static Set<ChargingSessionStatus> matching(Boolean isCompleted, Boolean isCharging) {
+    Set<ChargingSessionStatus> statuses = EnumSet.allOf(ChargingSessionStatus.class);
+    if (isCompleted != null) {
+      statuses.removeIf(status -> (status == COMPLETED) != isCompleted);
+    }
+    if (isCharging != null) {
+      statuses.removeIf(status -> (status == CHARGING) != isCharging);
+    }
+    return statuses;
+  }
+}
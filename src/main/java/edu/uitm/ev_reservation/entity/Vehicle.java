@@ -1,6 +1,7 @@
 package edu.uitm.ev_reservation.entity;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -22,7 +23,7 @@ public class Vehicle {
 
   private int batteryCapacity;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   private User owner;
 
   public Vehicle() {
@@ -85,6 +85,7 @@ public class DtoMapper {
         .isReserved(session.isReserved())
         .isCharging(session.isCharging())
         .startTime(session.getStartTime())
+        .status(session.getStatus())
         .build();
   }
 
@@ -1,44 +1,225 @@
 package edu.uitm.ev_reservation.repository;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import edu.uitm.ev_reservation.dto.ChargingSessionResponseDto;
 import edu.uitm.ev_reservation.entity.ChargingSession;
+import edu.uitm.ev_reservation.entity.ChargingSessionStatus;
+import edu.uitm.ev_reservation.service.PendingReservation;
 
 public interface ChargingSessionRepository extends JpaRepository<ChargingSession, Long> {
 
+  // Listing queries fetch user, vehicle (with its owner) and station with the
+  // session, so mapping a page to DTOs needs no further selects
+
   // Find sessions by user ID
+  @EntityGraph(ChargingSession.DETAILS)
   Page<ChargingSession> findByUserId(Long userId, Pageable pageable);
 
-  // Find sessions by completion status
-  Page<ChargingSession> findByIsCompleted(Boolean isCompleted, Pageable pageable);
+  // Find sessions by status
+  @EntityGraph(ChargingSession.DETAILS)
+  Page<ChargingSession> findByStatus(ChargingSessionStatus status, Pageable pageable);
 
-  // Find sessions by charging status
-  Page<ChargingSession> findByIsCharging(Boolean isCharging, Pageable pageable);
+  // Find sessions by user ID and status
+  @EntityGraph(ChargingSession.DETAILS)
+  Page<ChargingSession> findByUserIdAndStatus(Long userId, ChargingSessionStatus status, Pageable pageable);
 
-  // Find sessions by user ID and completion status
-  Page<ChargingSession> findByUserIdAndIsCompleted(Long userId, Boolean isCompleted, Pageable pageable);
+  // Custom query for flexible filtering; statuses holds the statuses that
+  // pass the filters (see ChargingSessionStatus.matching). The count query
+  // leaves out the fetched associations so it stays a single count over
+  // charging_sessions
+  @EntityGraph(ChargingSession.DETAILS)
+  @Query(value = "SELECT cs FROM ChargingSession cs WHERE " + SESSION_FILTERS,
+      countQuery = "SELECT COUNT(cs) FROM ChargingSession cs WHERE " + SESSION_FILTERS)
+  Page<ChargingSession> findSessionsWithFilters(@Param("userId") Long userId,
+      @Param("statuses") Collection<ChargingSessionStatus> statuses,
+      Pageable pageable);
 
-  // Find sessions by user ID and charging status
-  Page<ChargingSession> findByUserIdAndIsCharging(Long userId, Boolean isCharging, Pageable pageable);
+  // Same filters, read straight into response DTOs: only the columns the
+  // response shows, no managed entities, no password hashes, no dirty checking
+  String SESSION_DTO_QUERY = "SELECT new edu.uitm.ev_reservation.dto.ChargingSessionResponseDto(" +
+      "cs.id, cs.pumpNumber, cs.isReserved, cs.status, cs.startTime, " +
+      "u.id, u.email, u.name, u.isAdmin, " +
+      "v.id, v.make, v.model, v.plateNumber, v.batteryCapacity, " +
+      "o.id, o.email, o.name, o.isAdmin, " +
+      "s.id, s.name, s.location, s.numberOfPumps) " +
+      "FROM ChargingSession cs " +
+      "LEFT JOIN cs.user u " +
+      "LEFT JOIN cs.vehicle v " +
+      "LEFT JOIN v.owner o " +
+      "LEFT JOIN cs.station s WHERE ";
 
-  // Find sessions by completion status and charging status
-  Page<ChargingSession> findByIsCompletedAndIsCharging(Boolean isCompleted, Boolean isCharging, Pageable pageable);
+  String SESSION_FILTERS = "(:userId IS NULL OR cs.user.id = :userId) AND cs.status IN :statuses";
 
-  // Find sessions by all three filters
-  Page<ChargingSession> findByUserIdAndIsCompletedAndIsCharging(Long userId, Boolean isCompleted, Boolean isCharging,
+  @Transactional(readOnly = true)
+  @Query(value = SESSION_DTO_QUERY + SESSION_FILTERS,
+      countQuery = "SELECT COUNT(cs) FROM ChargingSession cs WHERE " + SESSION_FILTERS)
+  Page<ChargingSessionResponseDto> findSessionDtosWithFilters(@Param("userId") Long userId,
+      @Param("statuses") Collection<ChargingSessionStatus> statuses,
       Pageable pageable);
 
-  // Custom query for flexible filtering
-  @Query("SELECT cs FROM ChargingSession cs WHERE " +
-      "(:userId IS NULL OR cs.user.id = :userId) AND " +
-      "(:isCompleted IS NULL OR cs.isCompleted = :isCompleted) AND " +
-      "(:isCharging IS NULL OR cs.isCharging = :isCharging)")
-  Page<ChargingSession> findSessionsWithFilters(@Param("userId") Long userId,
-      @Param("isCompleted") Boolean isCompleted,
-      @Param("isCharging") Boolean isCharging,
-      Pageable pageable);
+  // Keyset pages for cursor pagination: each seeks past the last (sort value,
+  // id) seen, so a deep page costs the same as the first and nothing is
+  // counted. Sessions without a start time sort last when ascending and first
+  // when descending, as PostgreSQL orders nulls, and are paged by id alone.
+
+  @Transactional(readOnly = true)
+  @Query(SESSION_DTO_QUERY + SESSION_FILTERS + " AND cs.id > :afterId ORDER BY cs.id ASC")
+  List<ChargingSessionResponseDto> findSessionDtosByIdAsc(@Param("userId") Long userId,
+      @Param("statuses") Collection<ChargingSessionStatus> statuses,
+      @Param("afterId") Long afterId,
+      Limit limit);
+
+  @Transactional(readOnly = true)
+  @Query(SESSION_DTO_QUERY + SESSION_FILTERS + " AND cs.id < :afterId ORDER BY cs.id DESC")
+  List<ChargingSessionResponseDto> findSessionDtosByIdDesc(@Param("userId") Long userId,
+      @Param("statuses") Collection<ChargingSessionStatus> statuses,
+      @Param("afterId") Long afterId,
+      Limit limit);
+
+  // A null afterStartTime starts from the first session that has a start time
+  @Transactional(readOnly = true)
+  @Query(SESSION_DTO_QUERY + SESSION_FILTERS + " AND cs.startTime IS NOT NULL AND " +
+      "(:afterStartTime IS NULL OR cs.startTime > :afterStartTime OR " +
+      "(cs.startTime = :afterStartTime AND cs.id > :afterId)) " +
+      "ORDER BY cs.startTime ASC, cs.id ASC")
+  List<ChargingSessionResponseDto> findSessionDtosByStartTimeAsc(@Param("userId") Long userId,
+      @Param("statuses") Collection<ChargingSessionStatus> statuses,
+      @Param("afterStartTime") Date afterStartTime,
+      @Param("afterId") Long afterId,
+      Limit limit);
+
+  @Transactional(readOnly = true)
+  @Query(SESSION_DTO_QUERY + SESSION_FILTERS + " AND cs.startTime IS NOT NULL AND " +
+      "(:afterStartTime IS NULL OR cs.startTime < :afterStartTime OR " +
+      "(cs.startTime = :afterStartTime AND cs.id < :afterId)) " +
+      "ORDER BY cs.startTime DESC, cs.id DESC")
+  List<ChargingSessionResponseDto> findSessionDtosByStartTimeDesc(@Param("userId") Long userId,
+      @Param("statuses") Collection<ChargingSessionStatus> statuses,
+      @Param("afterStartTime") Date afterStartTime,
+      @Param("afterId") Long afterId,
+      Limit limit);
+
+  @Transactional(readOnly = true)
+  @Query(SESSION_DTO_QUERY + SESSION_FILTERS + " AND cs.startTime IS NULL AND cs.id > :afterId " +
+      "ORDER BY cs.id ASC")
+  List<ChargingSessionResponseDto> findUnscheduledSessionDtosByIdAsc(@Param("userId") Long userId,
+      @Param("statuses") Collection<ChargingSessionStatus> statuses,
+      @Param("afterId") Long afterId,
+      Limit limit);
+
+  @Transactional(readOnly = true)
+  @Query(SESSION_DTO_QUERY + SESSION_FILTERS + " AND cs.startTime IS NULL AND cs.id < :afterId " +
+      "ORDER BY cs.id DESC")
+  List<ChargingSessionResponseDto> findUnscheduledSessionDtosByIdDesc(@Param("userId") Long userId,
+      @Param("statuses") Collection<ChargingSessionStatus> statuses,
+      @Param("afterId") Long afterId,
+      Limit limit);
+
+  // Owner of a session, for checking WebSocket subscriptions without loading the session
+  @Query("SELECT cs.user.id FROM ChargingSession cs WHERE cs.id = :id")
+  Optional<Long> findUserIdById(@Param("id") Long id);
+
+  // Reservations waiting to start up to the given time, for the reservation
+  // scheduler
+  @Query("SELECT new edu.uitm.ev_reservation.service.PendingReservation(cs.id, cs.startTime) " +
+      "FROM ChargingSession cs WHERE cs.isReserved = true AND " +
+      "cs.status = edu.uitm.ev_reservation.entity.ChargingSessionStatus.PENDING AND " +
+      "cs.startTime <= :horizon ORDER BY cs.startTime")
+  List<PendingReservation> findPendingReservations(@Param("horizon") Date horizon);
+
+  // Sessions left charging by a previous run, with everything needed to resume
+  // them
+  @Query("SELECT cs FROM ChargingSession cs " +
+      "LEFT JOIN FETCH cs.user " +
+      "LEFT JOIN FETCH cs.vehicle v " +
+      "LEFT JOIN FETCH v.owner " +
+      "LEFT JOIN FETCH cs.station " +
+      "WHERE cs.status = edu.uitm.ev_reservation.entity.ChargingSessionStatus.CHARGING")
+  List<ChargingSession> findOrphanedChargingSessions();
+
+  // Reserved or charging sessions that still hold a pump, for the pump
+  // allocation index
+  @Query("SELECT cs FROM ChargingSession cs " +
+      "JOIN FETCH cs.vehicle " +
+      "JOIN FETCH cs.station " +
+      "WHERE cs.status = edu.uitm.ev_reservation.entity.ChargingSessionStatus.CHARGING OR " +
+      "(cs.status = edu.uitm.ev_reservation.entity.ChargingSessionStatus.PENDING AND cs.isReserved = true)")
+  List<ChargingSession> findUnfinishedBookings();
+
+  @Transactional
+  @Modifying
+  @Query("UPDATE ChargingSession cs " +
+      "SET cs.status = edu.uitm.ev_reservation.entity.ChargingSessionStatus.COMPLETED, " +
+      "cs.version = cs.version + 1 " +
+      "WHERE cs.id IN :ids AND cs.status = edu.uitm.ev_reservation.entity.ChargingSessionStatus.CHARGING")
+  int markCompleted(@Param("ids") List<Long> ids);
+
+  @Query("SELECT cs FROM ChargingSession cs " +
+      "LEFT JOIN FETCH cs.user " +
+      "LEFT JOIN FETCH cs.vehicle v " +
+      "LEFT JOIN FETCH v.owner " +
+      "LEFT JOIN FETCH cs.station " +
+      "WHERE cs.id IN :ids")
+  List<ChargingSession> findWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+  // A session with everything the charging engine reads from other threads
+  @EntityGraph(ChargingSession.DETAILS)
+  Optional<ChargingSession> findWithDetailsById(Long id);
+
+  // Cluster leases. Native because they rely on PostgreSQL's
+  // FOR UPDATE SKIP LOCKED and UPDATE ... RETURNING. The batch claims pick
+  // their rows in a MATERIALIZED CTE: as an IN (...) subquery the planner may
+  // rerun the locking scan per row, which then skips the rows this statement
+  // already updated and claims fewer than it could.
+
+  @Transactional
+  @Modifying
+  @Query(value = "UPDATE charging_sessions SET lease_owner = :node, lease_expires_at = :expiresAt " +
+      "WHERE id = :id AND status IN ('PENDING', 'CHARGING') " +
+      "AND (lease_owner IS NULL OR lease_owner = :node OR lease_expires_at < :now)", nativeQuery = true)
+  int claimSession(@Param("id") Long id, @Param("node") String node, @Param("now") Date now,
+      @Param("expiresAt") Date expiresAt);
+
+  @Transactional
+  @Query(value = "WITH claimed AS MATERIALIZED (SELECT id FROM charging_sessions " +
+      "WHERE status = 'PENDING' AND is_reserved = true " +
+      "AND start_time <= :now AND (lease_owner IS NULL OR lease_expires_at < :now) " +
+      "ORDER BY start_time LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+      "UPDATE charging_sessions cs SET lease_owner = :node, lease_expires_at = :expiresAt " +
+      "FROM claimed WHERE cs.id = claimed.id " +
+      "RETURNING cs.id", nativeQuery = true)
+  List<Long> claimDueReservations(@Param("node") String node, @Param("now") Date now,
+      @Param("expiresAt") Date expiresAt, @Param("limit") int limit);
+
+  @Transactional
+  @Query(value = "WITH claimed AS MATERIALIZED (SELECT id FROM charging_sessions " +
+      "WHERE status = 'CHARGING' " +
+      "AND (lease_owner IS NULL OR lease_expires_at < :now) " +
+      "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+      "UPDATE charging_sessions cs SET lease_owner = :node, lease_expires_at = :expiresAt " +
+      "FROM claimed WHERE cs.id = claimed.id " +
+      "RETURNING cs.id", nativeQuery = true)
+  List<Long> claimAbandonedChargingSessions(@Param("node") String node, @Param("now") Date now,
+      @Param("expiresAt") Date expiresAt, @Param("limit") int limit);
+
+  @Transactional
+  @Query(value = "UPDATE charging_sessions SET lease_expires_at = :expiresAt " +
+      "WHERE id IN (:ids) AND lease_owner = :node " +
+      "RETURNING id", nativeQuery = true)
+  List<Long> renewLeases(@Param("ids") Collection<Long> ids, @Param("node") String node,
+      @Param("expiresAt") Date expiresAt);
 }
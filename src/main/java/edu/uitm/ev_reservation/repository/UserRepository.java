@@ -7,5 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import edu.uitm.ev_reservation.entity.User;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+  // Emails are stored lower-case (see AuthController), so an exact match on
+  // the unique email column finds at most one account
   Optional<User> findByEmail(String email);
 }
@@ -1,12 +1,22 @@
 package edu.uitm.ev_reservation.repository;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import edu.uitm.ev_reservation.entity.Vehicle;
 
 public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
+  // The owner is lazy; these fetch it for callers that serialize the vehicle
+  @EntityGraph(attributePaths = "owner")
   List<Vehicle> findByOwnerId(Long ownerId);
 
+  @Override
+  @EntityGraph(attributePaths = "owner")
+  List<Vehicle> findAll();
+
+  @EntityGraph(attributePaths = "owner")
+  Optional<Vehicle> findWithOwnerById(Long id);
 }
@@ -2,9 +2,12 @@ package edu.uitm.ev_reservation.security;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -31,8 +34,11 @@ public class SessionAuthenticationFilter extends OncePerRequestFilter {
       User user = (User) session.getAttribute("user");
 
       if (user != null) {
+        List<GrantedAuthority> authorities = Boolean.TRUE.equals(user.getIsAdmin())
+            ? List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))
+            : Collections.emptyList();
         UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
-            user, null, Collections.emptyList());
+            user, null, authorities);
         auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(auth);
       }
@@ -0,0 +1,83 @@
+package edu.uitm.ev_reservation.service;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Time source for the charging engine, the reservation scheduler and the pump
+ * allocation index.
+ *
+ * In {@code system} mode it is the wall clock. In {@code simulated} mode time
+ * starts at {@code charging.clock.start} (or now) and runs {@code speed} times
+ * faster than the wall clock, so that for example a day of recorded
+ * reservations can be replayed in minutes. Scheduling code converts simulated
+ * durations back to real delays with {@link #toRealNanos(long)}.
+ */
+@Component
+public class ChargingClock {
+
+  private static final Logger logger = LoggerFactory.getLogger(ChargingClock.class);
+
+  public enum Mode {
+    SYSTEM,
+    SIMULATED
+  }
+
+  private final Mode mode;
+  private final double speed;
+  private final long simulatedStartMillis;
+  private final long realStartNanos;
+
+  public ChargingClock(@Value("${charging.clock.mode:system}") Mode mode,
+      @Value("${charging.clock.speed:1}") double speed,
+      @Value("${charging.clock.start:}") String start) {
+    this.mode = mode;
+    this.speed = mode == Mode.SIMULATED ? Math.max(speed, 0.001) : 1;
+    this.simulatedStartMillis = start == null || start.isBlank()
+        ? System.currentTimeMillis()
+        : Instant.parse(start).toEpochMilli();
+    this.realStartNanos = System.nanoTime();
+
+    if (mode == Mode.SIMULATED) {
+      logger.info("Charging clock simulated at {}x starting from {}", this.speed,
+          Instant.ofEpochMilli(simulatedStartMillis));
+    }
+  }
+
+  public long millis() {
+    if (mode == Mode.SYSTEM) {
+      return System.currentTimeMillis();
+    }
+    long elapsedNanos = System.nanoTime() - realStartNanos;
+    return simulatedStartMillis + (long) (elapsedNanos / 1_000_000.0 * speed);
+  }
+
+  public Date now() {
+    return new Date(millis());
+  }
+
+  public double getSpeed() {
+    return speed;
+  }
+
+  /**
+   * Real time, in nanoseconds, that passes while the clock advances by
+   * {@code simulatedMillis}. Never less than one nanosecond.
+   */
+  public long toRealNanos(long simulatedMillis) {
+    return Math.max(1, (long) (TimeUnit.MILLISECONDS.toNanos(simulatedMillis) / speed));
+  }
+
+  /**
+   * Simulated time that passes during {@code realMillis} of wall-clock time.
+   */
+  public long toSimulatedMillis(long realMillis) {
+    return (long) (realMillis * speed);
+  }
+}
@@ -0,0 +1,90 @@
+package edu.uitm.ev_reservation.service;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Micrometer meters for the charging engine and the reservation scheduler,
+ * exposed through the actuator metrics and prometheus endpoints.
+ */
+@Component
+public class ChargingMetrics {
+
+  private final MeterRegistry registry;
+  private final Timer reservationStartLag;
+  private final Timer reservationRefill;
+  private final Timer tickJitter;
+  private final Counter completed;
+  private final Counter interrupted;
+  private final Counter failed;
+  private final Counter resumed;
+
+  public ChargingMetrics(MeterRegistry registry) {
+    this.registry = registry;
+    this.reservationStartLag = Timer.builder("charging.reservations.start.lag")
+        .description("Time between a reservation's start time and its session actually starting")
+        .publishPercentileHistogram()
+        .maximumExpectedValue(Duration.ofMinutes(1))
+        .register(registry);
+    this.reservationRefill = Timer.builder("charging.reservations.refill")
+        .description("Time taken to reload pending reservations into the scheduler heap")
+        .register(registry);
+    this.tickJitter = Timer.builder("charging.tick.jitter")
+        .description("How late a session tick ran compared to its schedule")
+        .publishPercentileHistogram()
+        .maximumExpectedValue(Duration.ofSeconds(5))
+        .register(registry);
+    this.completed = sessionsEnded("completed");
+    this.interrupted = sessionsEnded("interrupted");
+    this.failed = sessionsEnded("failed");
+    this.resumed = Counter.builder("charging.sessions.resumed")
+        .description("Sessions taken over from a checkpoint after a restart or node failure")
+        .register(registry);
+  }
+
+  private Counter sessionsEnded(String outcome) {
+    return Counter.builder("charging.sessions.ended")
+        .description("Charging sessions that stopped ticking, by outcome")
+        .tag("outcome", outcome)
+        .register(registry);
+  }
+
+  public void gauge(String name, String description, Supplier<Number> value) {
+    Gauge.builder(name, value).description(description).register(registry);
+  }
+
+  public void recordReservationStartLag(long lagMillis) {
+    reservationStartLag.record(Duration.ofMillis(Math.max(0, lagMillis)));
+  }
+
+  public Timer reservationRefill() {
+    return reservationRefill;
+  }
+
+  public void recordTickJitter(long lateNanos) {
+    tickJitter.record(Duration.ofNanos(Math.max(0, lateNanos)));
+  }
+
+  public void sessionCompleted() {
+    completed.increment();
+  }
+
+  public void sessionInterrupted() {
+    interrupted.increment();
+  }
+
+  public void sessionFailed() {
+    failed.increment();
+  }
+
+  public void sessionsResumed(int count) {
+    resumed.increment(count);
+  }
+}
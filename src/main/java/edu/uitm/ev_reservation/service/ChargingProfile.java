@@ -0,0 +1,23 @@
+package edu.uitm.ev_reservation.service;
+
+/**
+ * Charging simulation constants shared by the charging engine and the pump
+ * allocation index: a vehicle charges {@link #UNITS_PER_TICK} units per tick,
+ * one tick per 1000 units of battery capacity.
+ */
+public final class ChargingProfile {
+
+  public static final long TICK_INTERVAL_MILLIS = 1000;
+  public static final int UNITS_PER_TICK = 100;
+
+  private ChargingProfile() {
+  }
+
+  public static int durationTicks(int batteryCapacity) {
+    return (int) Math.ceil(batteryCapacity / 1000.0);
+  }
+
+  public static long durationMillis(int batteryCapacity) {
+    return durationTicks(batteryCapacity) * TICK_INTERVAL_MILLIS;
+  }
+}
@@ -0,0 +1,141 @@
+package edu.uitm.ev_reservation.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import edu.uitm.ev_reservation.dto.ChargingSessionCursorPage;
+import edu.uitm.ev_reservation.dto.ChargingSessionResponseDto;
+import edu.uitm.ev_reservation.entity.ChargingSessionStatus;
+import edu.uitm.ev_reservation.repository.ChargingSessionRepository;
+
+/**
+ * Cursor (keyset) pagination over charging sessions, sorted by {@code id} or
+ * {@code startTime} with the id as tie-breaker.
+ *
+ * The cursor is an opaque token holding the sort and the sort value and id of
+ * the last session returned, so the next page seeks straight past it instead
+ * of skipping rows. One more row than asked for is read to tell whether there
+ * is a next page; nothing is counted.
+ */
+@Service
+public class ChargingSessionHistory {
+
+  public static final String SORT_ID = "id";
+  public static final String SORT_START_TIME = "startTime";
+
+  private final ChargingSessionRepository chargingSessionRepository;
+
+  public ChargingSessionHistory(ChargingSessionRepository chargingSessionRepository) {
+    this.chargingSessionRepository = chargingSessionRepository;
+  }
+
+  /**
+   * Reads the page after {@code after}, or the first page when it is null.
+   * The sort is taken from the cursor when there is one, otherwise from
+   * {@code order}.
+   *
+   * @throws IllegalArgumentException if the cursor or sort is not supported
+   */
+  public ChargingSessionCursorPage scroll(Long userId, Collection<ChargingSessionStatus> statuses,
+      Sort.Order order, String after, int limit) {
+    Cursor cursor = after != null ? Cursor.decode(after) : Cursor.first(order);
+    int fetch = limit + 1;
+    List<ChargingSessionResponseDto> sessions = new ArrayList<>(fetch);
+
+    if (SORT_ID.equals(cursor.sort)) {
+      long afterId = cursor.id != null ? cursor.id : cursor.ascending ? 0 : Long.MAX_VALUE;
+      sessions.addAll(cursor.ascending
+          ? chargingSessionRepository.findSessionDtosByIdAsc(userId, statuses, afterId, Limit.of(fetch))
+          : chargingSessionRepository.findSessionDtosByIdDesc(userId, statuses, afterId, Limit.of(fetch)));
+    } else if (cursor.ascending) {
+      // Scheduled sessions by start time, then unscheduled ones by id
+      if (cursor.id == null || cursor.startTime != null) {
+        sessions.addAll(chargingSessionRepository.findSessionDtosByStartTimeAsc(userId, statuses,
+            cursor.startTime, cursor.id, Limit.of(fetch)));
+      }
+      if (sessions.size() < fetch) {
+        long afterId = cursor.id != null && cursor.startTime == null ? cursor.id : 0;
+        sessions.addAll(chargingSessionRepository.findUnscheduledSessionDtosByIdAsc(userId, statuses, afterId,
+            Limit.of(fetch - sessions.size())));
+      }
+    } else {
+      // Unscheduled sessions by id, then scheduled ones by start time
+      if (cursor.id == null || cursor.startTime == null) {
+        long afterId = cursor.id != null ? cursor.id : Long.MAX_VALUE;
+        sessions.addAll(chargingSessionRepository.findUnscheduledSessionDtosByIdDesc(userId, statuses, afterId,
+            Limit.of(fetch)));
+      }
+      if (sessions.size() < fetch) {
+        sessions.addAll(chargingSessionRepository.findSessionDtosByStartTimeDesc(userId, statuses,
+            cursor.startTime, cursor.startTime != null ? cursor.id : null, Limit.of(fetch - sessions.size())));
+      }
+    }
+
+    String nextCursor = null;
+    if (sessions.size() > limit) {
+      sessions = new ArrayList<>(sessions.subList(0, limit));
+      ChargingSessionResponseDto last = sessions.get(limit - 1);
+      Date lastStartTime = SORT_ID.equals(cursor.sort) ? null : last.getStartTime();
+      nextCursor = new Cursor(cursor.sort, cursor.ascending, lastStartTime, last.getId()).encode();
+    }
+    return ChargingSessionCursorPage.builder()
+        .content(sessions)
+        .limit(limit)
+        .nextCursor(nextCursor)
+        .build();
+  }
+
+  /**
+   * Position after the last session of a page, encoded as base64url of
+   * {@code sort:direction:startTimeMillis:id} with {@code -} for no start time.
+   */
+  private static class Cursor {
+    private final String sort;
+    private final boolean ascending;
+    private final Date startTime;
+    private final Long id;
+
+    Cursor(String sort, boolean ascending, Date startTime, Long id) {
+      this.sort = sort;
+      this.ascending = ascending;
+      this.startTime = startTime;
+      this.id = id;
+    }
+
+    static Cursor first(Sort.Order order) {
+      if (!SORT_ID.equals(order.getProperty()) && !SORT_START_TIME.equals(order.getProperty())) {
+        throw new IllegalArgumentException("Cursor pagination sorts by id or startTime");
+      }
+      return new Cursor(order.getProperty(), order.isAscending(), null, null);
+    }
+
+    static Cursor decode(String token) {
+      try {
+        String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+        if (parts.length != 4 || !(SORT_ID.equals(parts[0]) || SORT_START_TIME.equals(parts[0]))
+            || !("asc".equals(parts[1]) || "desc".equals(parts[1]))) {
+          throw new IllegalArgumentException("Invalid cursor");
+        }
+        Date startTime = "-".equals(parts[2]) ? null : new Date(Long.parseLong(parts[2]));
+        return new Cursor(parts[0], "asc".equals(parts[1]), startTime, Long.parseLong(parts[3]));
+      } catch (IllegalArgumentException e) {
+        // Covers malformed base64 and numbers too
+        throw new IllegalArgumentException("Invalid cursor", e);
+      }
+    }
+
+    String encode() {
+      String value = sort + ":" + (ascending ? "asc" : "desc") + ":"
+          + (startTime != null ? startTime.getTime() : "-") + ":" + id;
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+}
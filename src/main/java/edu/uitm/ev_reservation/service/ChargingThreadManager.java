@@ -1,318 +1,540 @@
 package edu.uitm.ev_reservation.service;
 
-import java.util.Date;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import edu.uitm.ev_reservation.dto.ChargingProgressMessage;
 import edu.uitm.ev_reservation.entity.ChargingSession;
+import edu.uitm.ev_reservation.entity.ChargingSessionStatus;
+import edu.uitm.ev_reservation.mapper.DtoMapper;
 import edu.uitm.ev_reservation.repository.ChargingSessionRepository;
-import edu.uitm.ev_reservation.websocket.ChargingWebSocketHandler;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 
+/**
+ * Drives every active charging session from a small pool of scheduler threads.
+ * Each session is a {@link ChargingTask} that is ticked once per second instead
+ * of owning a sleeping thread of its own.
+ *
+ * In {@code virtual} execution mode the scheduler threads only keep time and
+ * every tick runs on its own virtual thread, so a slow repository save or
+ * WebSocket send parks a cheap virtual thread instead of holding up the ticks
+ * of other sessions.
+ *
+ * State changes go through {@link SessionStateWriter}, which batches them. If
+ * the writer finds a session's row was moved on by someone else, for example
+ * stopped before its start was written, the session stops ticking here.
+ * Progress is checkpointed to {@code chargedUnits} every few ticks and on
+ * shutdown, and sessions left charging by a previous run are resumed from that
+ * checkpoint on startup. In cluster mode a session only runs on the node holding
+ * its lease (see {@link SessionLeases}).
+ *
+ * Ticks are one second of {@link ChargingClock} time apart, which is less wall
+ * time when the clock is simulated.
+ */
 @Service
 public class ChargingThreadManager {
 
   private static final Logger logger = LoggerFactory.getLogger(ChargingThreadManager.class);
 
-  private final Map<String, Thread> sessionThreads = new ConcurrentHashMap<>();
-  private Thread monitorThread;
-  private volatile boolean running = true;
+  private final Map<Long, ChargingTask> activeSessions = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService chargingScheduler;
+  private final ExecutorService tickExecutor;
 
-  private final ChargingWebSocketHandler chargingWebSocketHandler;
+  private final ProgressEventBus progressEventBus;
   private final ChargingSessionRepository chargingSessionRepository;
-
-  public ChargingThreadManager(ChargingWebSocketHandler chargingWebSocketHandler,
-      ChargingSessionRepository chargingSessionRepository) {
-    this.chargingWebSocketHandler = chargingWebSocketHandler;
+  private final PumpAllocationIndex pumpAllocationIndex;
+  private final SessionStateWriter sessionStateWriter;
+  private final SessionLeases sessionLeases;
+  private final ChargingClock chargingClock;
+  private final ChargingMetrics chargingMetrics;
+  private final long tickPeriodNanos;
+  private final int checkpointIntervalTicks;
+
+  public ChargingThreadManager(ProgressEventBus progressEventBus,
+      ChargingSessionRepository chargingSessionRepository,
+      PumpAllocationIndex pumpAllocationIndex,
+      SessionStateWriter sessionStateWriter,
+      SessionLeases sessionLeases,
+      ChargingClock chargingClock,
+      ChargingMetrics chargingMetrics,
+      @Value("${charging.engine.threads:4}") int engineThreads,
+      @Value("${charging.engine.execution-mode:platform}") ExecutionMode executionMode,
+      @Value("${charging.engine.checkpoint-interval-ticks:10}") int checkpointIntervalTicks) {
+    this.progressEventBus = progressEventBus;
     this.chargingSessionRepository = chargingSessionRepository;
+    this.pumpAllocationIndex = pumpAllocationIndex;
+    this.sessionStateWriter = sessionStateWriter;
+    this.sessionLeases = sessionLeases;
+    this.chargingClock = chargingClock;
+    this.chargingMetrics = chargingMetrics;
+    this.tickPeriodNanos = chargingClock.toRealNanos(ChargingProfile.TICK_INTERVAL_MILLIS);
+    this.checkpointIntervalTicks = Math.max(1, checkpointIntervalTicks);
+    this.chargingScheduler = Executors.newScheduledThreadPool(engineThreads, new EngineThreadFactory());
+    this.tickExecutor = executionMode == ExecutionMode.VIRTUAL
+        ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ChargingTick-", 0).factory())
+        : null;
+    logger.info("Charging engine running {} scheduler threads in {} execution mode", engineThreads, executionMode);
+
+    chargingMetrics.gauge("charging.sessions.active", "Charging sessions currently ticking on this node",
+        activeSessions::size);
+    sessionStateWriter.onLostTransition(this::transitionLost);
+  }
+
+  public enum ExecutionMode {
+    PLATFORM,
+    VIRTUAL
   }
 
+  /**
+   * Picks up sessions that a previous run left CHARGING. They are
+   * loaded in one query together with their vehicle and station; sessions whose
+   * checkpoint already covers the full charge are completed in one update and
+   * the rest resume ticking from their checkpoint.
+   */
   @PostConstruct
-  public void startChargingMonitor() {
-    logger.info("Starting reserved charging session monitor - checks every 30 seconds");
-
-    // Create a monitor thread that extends Thread class
-    monitorThread = new Thread(new Runnable() {
-      @Override
-      public void run() {
-        while (running) {
-          try {
-            checkChargingSessions();
-            Thread.sleep(30000); // Sleep for 30 seconds
-          } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.info("Monitor thread interrupted");
-            break;
-          } catch (Exception e) {
-            logger.error("Error in monitor thread", e);
-          }
-        }
+  public void recoverOrphanedSessions() {
+    if (sessionLeases.isEnabled()) {
+      logger.info("Cluster mode: orphaned sessions are reclaimed through expired leases");
+      return;
+    }
+
+    try {
+      resumeSessions(chargingSessionRepository.findOrphanedChargingSessions());
+    } catch (Exception e) {
+      logger.error("Error recovering orphaned charging sessions", e);
+    }
+  }
+
+  /**
+   * Takes over sessions that are marked as charging but not running here,
+   * completing or resuming them from their checkpoint.
+   */
+  public void resumeSessions(List<ChargingSession> orphaned) {
+    if (orphaned.isEmpty()) {
+      return;
+    }
+
+    List<ChargingSession> finished = new ArrayList<>();
+    List<ChargingSession> resumable = new ArrayList<>();
+    for (ChargingSession session : orphaned) {
+      if (session.getVehicle() != null && checkpointTick(session) >= chargingDurationSeconds(session)) {
+        finished.add(session);
+      } else {
+        resumable.add(session);
       }
-    });
+    }
+
+    if (!finished.isEmpty()) {
+      chargingSessionRepository.markCompleted(finished.stream().map(ChargingSession::getId).toList());
+      for (ChargingSession session : finished) {
+        pumpAllocationIndex.release(session.getId());
+        int duration = chargingDurationSeconds(session);
+        broadcast(session, duration + 1, duration * ChargingProfile.UNITS_PER_TICK, "completed");
+      }
+    }
 
-    monitorThread.setName("ChargingSessionMonitor");
-    monitorThread.start();
+    for (ChargingSession session : resumable) {
+      ChargingTask task = new ChargingTask(session, checkpointTick(session));
+      if (activeSessions.putIfAbsent(session.getId(), task) == null) {
+        task.start();
+      }
+    }
+    chargingMetrics.sessionsResumed(resumable.size());
+
+    logger.info("Took over {} orphaned charging sessions: {} completed, {} resumed", orphaned.size(),
+        finished.size(), resumable.size());
+  }
+
+  private static int chargingDurationSeconds(ChargingSession session) {
+    return ChargingProfile.durationTicks(session.getVehicle().getBatteryCapacity());
+  }
+
+  private static int checkpointTick(ChargingSession session) {
+    Integer chargedUnits = session.getChargedUnits();
+    return chargedUnits == null ? 0 : chargedUnits / ChargingProfile.UNITS_PER_TICK;
   }
 
   @PreDestroy
   public void shutdown() {
     logger.info("Shutting down charging thread manager");
-    running = false;
 
-    // Interrupt monitor thread
-    if (monitorThread != null && monitorThread.isAlive()) {
-      monitorThread.interrupt();
-      try {
-        monitorThread.join(5000); // Wait up to 5 seconds for thread to finish
-      } catch (InterruptedException e) {
-        Thread.currentThread().interrupt();
-        logger.warn("Interrupted while waiting for monitor thread to finish");
-      }
+    // Checkpoint all charging sessions so the next run resumes them, then stop
+    // the ticking threads themselves
+    for (ChargingTask task : activeSessions.values()) {
+      task.suspend();
     }
+    activeSessions.clear();
 
-    // Stop all charging session threads
-    Thread[] threads = sessionThreads.values().toArray(new Thread[0]);
-    for (int i = 0; i < threads.length; i++) {
-      Thread thread = threads[i];
-      if (thread != null && thread.isAlive()) {
-        thread.interrupt();
-        try {
-          thread.join(2000); // Wait up to 2 seconds for each thread to finish
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt();
-          logger.warn("Interrupted while waiting for charging thread to finish");
-        }
-      }
+    awaitTermination(chargingScheduler);
+    if (tickExecutor != null) {
+      awaitTermination(tickExecutor);
     }
-    sessionThreads.clear();
   }
 
-  private void checkChargingSessions() {
-    logger.info("Checking reserved charging sessions...111");
-
+  private void awaitTermination(ExecutorService executor) {
+    executor.shutdown();
     try {
-      List<ChargingSession> allSessions = chargingSessionRepository.findAll();
-      Date currentTime = new Date();
-
-      for (int i = 0; i < allSessions.size(); i++) {
-        ChargingSession session = allSessions.get(i);
-        if (session.isCompleted()) {
-          logger.info("Session {} is completed, no action needed", session.getId());
-          continue;
-        }
+      if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      executor.shutdownNow();
+      logger.warn("Interrupted while waiting for charging executor to finish");
+    }
+  }
 
-        if (session.isCharging()) {
-          logger.info("Session {} is already charging, skipping", session.getId());
-          continue;
-        }
+  /**
+   * Stops a session whose recorded change the database refused: the row is no
+   * longer in the state this node is running it from.
+   */
+  private void transitionLost(Long sessionId) {
+    ChargingTask task = activeSessions.get(sessionId);
+    if (task != null) {
+      task.lose();
+    }
+  }
 
-        if (!session.isReserved()) {
-          logger.debug("Session {} is not reserved, should have been started immediately", session.getId());
-          continue;
-        }
+  private void launch(ChargingSession session) {
+    ChargingTask task = new ChargingTask(session, 0);
+    if (activeSessions.putIfAbsent(session.getId(), task) != null) {
+      logger.info("Session {} was started concurrently, skipping", session.getId());
+      return;
+    }
 
-        String sessionKey = "session_" + session.getId();
+    if (!sessionLeases.claim(session.getId())) {
+      activeSessions.remove(session.getId(), task);
+      logger.info("Session {} is leased by another node, skipping", session.getId());
+      return;
+    }
 
-        if (session.getStartTime() != null &&
-            currentTime.getTime() >= session.getStartTime().getTime()) {
-          logger.info("Reserved session {} start time reached: {}", session.getId(), session.getStartTime());
+    session.setStatus(ChargingSessionStatus.CHARGING);
+    sessionStateWriter.markCharging(session.getId());
+    task.start();
+  }
 
-          if (!sessionThreads.containsKey(sessionKey) && !session.isCompleted() && !session.isCharging()) {
-            logger.info("Starting charging thread for reserved session {}", session.getId());
+  /**
+   * Per-session charging state. Holds only the session and a tick counter; the
+   * scheduler calls {@link #run()} once per tick.
+   */
+  private class ChargingTask implements Runnable {
+    private final ChargingSession session;
+    private final AtomicBoolean finished = new AtomicBoolean(false);
+    private final AtomicBoolean tickInFlight = new AtomicBoolean(false);
+    private int chargingDurationSeconds;
+    private volatile int tick;
+    private volatile ScheduledFuture<?> future;
+    private long nextDueNanos;
+
+    ChargingTask(ChargingSession session, int startTick) {
+      this.session = session;
+      this.tick = startTick;
+    }
 
-            session.setCharging(true);
-            chargingSessionRepository.save(session);
+    void start() {
+      boolean resumed = tick > 0;
+      logger.info("Charging session {} {}", session.getId(), resumed ? "resumed at tick " + tick : "started");
 
-            // Create and start a new Thread for charging session
-            Thread chargingThread = new Thread(new ChargingSessionRunnable(session));
-            chargingThread.setName("ChargingSession-" + session.getId());
-            sessionThreads.put(sessionKey, chargingThread);
-            chargingThread.start();
-          }
-        } else {
-          logger.debug("Reserved session {} start time not reached yet. Current time: {}, Start time: {}",
-              session.getId(), currentTime, session.getStartTime());
+      try {
+        chargingDurationSeconds = chargingDurationSeconds(session);
+        logger.info("Session {} - Battery capacity: {}, Charging duration: {} seconds",
+            session.getId(), session.getVehicle().getBatteryCapacity(), chargingDurationSeconds);
+
+        broadcast(session, tick, tick * ChargingProfile.UNITS_PER_TICK, resumed ? "resumed" : "started");
+        nextDueNanos = System.nanoTime();
+        future = chargingScheduler.scheduleAtFixedRate(this::dispatchTick, 0, tickPeriodNanos,
+            TimeUnit.NANOSECONDS);
+        if (finished.get()) {
+          future.cancel(false);
         }
+      } catch (Exception e) {
+        fail(e);
       }
-    } catch (Exception e) {
-      logger.error("Error checking charging sessions", e);
     }
-  }
 
-  // Inner class that implements Runnable for charging session threads
-  private class ChargingSessionRunnable implements Runnable {
-    private final ChargingSession session;
+    /**
+     * Runs the tick on the scheduler thread, or hands it to a virtual thread.
+     * A tick that is still in flight when the next one is due is skipped rather
+     * than run concurrently.
+     */
+    private void dispatchTick() {
+      long dueNanos = nextDueNanos;
+      nextDueNanos += tickPeriodNanos;
+
+      if (tickExecutor == null) {
+        runTick(dueNanos);
+        return;
+      }
 
-    public ChargingSessionRunnable(ChargingSession session) {
-      this.session = session;
+      if (!tickInFlight.compareAndSet(false, true)) {
+        logger.debug("Session {} tick still in flight, skipping", session.getId());
+        return;
+      }
+      try {
+        tickExecutor.execute(() -> {
+          try {
+            runTick(dueNanos);
+          } finally {
+            tickInFlight.set(false);
+          }
+        });
+      } catch (Exception e) {
+        tickInFlight.set(false);
+        fail(e);
+      }
     }
 
-    @Override
-    public void run() {
-      runChargingSession(session);
+    private void runTick(long dueNanos) {
+      chargingMetrics.recordTickJitter(System.nanoTime() - dueNanos);
+      run();
     }
-  }
 
-  private void runChargingSession(ChargingSession session) {
-    String sessionKey = "session_" + session.getId();
-    logger.info("Charging session {} started", session.getId());
+    @Override
+    public void run() {
+      if (finished.get()) {
+        return;
+      }
 
-    try {
-      int batteryCapacity = session.getVehicle().getBatteryCapacity();
-      int chargingDurationSeconds = (int) Math.ceil(batteryCapacity / 1000.0);
-
-      logger.info("Session {} - Battery capacity: {}, Charging duration: {} seconds",
-          session.getId(), batteryCapacity, chargingDurationSeconds);
-
-      ChargingProgressMessage startMessage = ChargingProgressMessage.builder()
-          .sessionId(session.getId())
-          .station(session.getStation())
-          .pump(session.getPumpNumber())
-          .vehicle(session.getVehicle())
-          .chargingRate(0)
-          .status("started")
-          .build();
-      chargingWebSocketHandler.broadcastChargingProgress(startMessage);
-
-      for (int i = 1; i <= chargingDurationSeconds; i++) {
-        int currentCharge = i * 100;
-        logger.info("Session {} charging: {} units ({}/{}s)", session.getId(), currentCharge, i,
-            chargingDurationSeconds);
-        System.out.println("Session " + session.getId() + " charging: " + currentCharge + " units (" + i + "/"
-            + chargingDurationSeconds + "s)");
-
-        try {
-          ChargingProgressMessage progressMessage = ChargingProgressMessage.builder()
-              .sessionId(session.getId())
-              .station(session.getStation())
-              .pump(session.getPumpNumber())
-              .vehicle(session.getVehicle())
-              .chargingRate(currentCharge)
-              .status("charging")
-              .build();
-          chargingWebSocketHandler.broadcastChargingProgress(progressMessage);
-        } catch (Exception e) {
-          logger.error("Error broadcasting charging progress", e);
+      try {
+        tick++;
+        if (tick <= chargingDurationSeconds) {
+          int currentCharge = tick * ChargingProfile.UNITS_PER_TICK;
+          logger.debug("Session {} charging: {} units ({}/{}s)", session.getId(), currentCharge, tick,
+              chargingDurationSeconds);
+          try {
+            broadcast(session, tick, currentCharge, "charging");
+          } catch (Exception e) {
+            logger.error("Error broadcasting charging progress", e);
+          }
+          if (tick % checkpointIntervalTicks == 0) {
+            checkpoint();
+          }
+        } else {
+          complete();
         }
+      } catch (Exception e) {
+        fail(e);
+      }
+    }
 
-        try {
-          Thread.sleep(1000);
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt();
-          throw e;
-        }
+    private void complete() {
+      if (!finish()) {
+        return;
       }
 
+      pumpAllocationIndex.release(session.getId());
       try {
-        ChargingSession updatedSession = chargingSessionRepository.findById(session.getId()).orElse(null);
-        if (updatedSession != null) {
-          updatedSession.setCompleted(true);
-          updatedSession.setCharging(false);
-          chargingSessionRepository.save(updatedSession);
-
-          int finalCharge = chargingDurationSeconds * 100;
-          ChargingProgressMessage completionMessage = ChargingProgressMessage.builder()
-              .sessionId(updatedSession.getId())
-              .station(updatedSession.getStation())
-              .pump(updatedSession.getPumpNumber())
-              .vehicle(updatedSession.getVehicle())
-              .chargingRate(finalCharge)
-              .status("completed")
-              .build();
-          chargingWebSocketHandler.broadcastChargingProgress(completionMessage);
-        }
+        int finalCharge = chargingDurationSeconds * ChargingProfile.UNITS_PER_TICK;
+        sessionStateWriter.markCompleted(session.getId(), finalCharge);
+        chargingMetrics.sessionCompleted();
+        broadcast(session, tick, finalCharge, "completed");
       } catch (Exception e) {
         logger.error("Error completing charging session", e);
       }
 
       logger.info("Charging session {} completed", session.getId());
+    }
+
+    void interrupt() {
+      if (!finish()) {
+        return;
+      }
 
-    } catch (InterruptedException e) {
       logger.info("Charging session {} was interrupted", session.getId());
-      Thread.currentThread().interrupt();
+      chargingMetrics.sessionInterrupted();
+      pumpAllocationIndex.release(session.getId());
+      sessionStateWriter.markStopped(session.getId());
+      broadcastStopped();
+    }
 
-      try {
-        ChargingSession updatedSession = chargingSessionRepository.findById(session.getId()).orElse(null);
-        if (updatedSession != null) {
-          updatedSession.setCharging(false);
-          chargingSessionRepository.save(updatedSession);
-        }
-      } catch (Exception ex) {
-        logger.error("Error resetting charging status for interrupted session", ex);
+    /**
+     * Stops ticking without touching the session's state, because another node
+     * has taken it over.
+     */
+    void abandon() {
+      if (finish()) {
+        pumpAllocationIndex.release(session.getId());
+      }
+    }
+
+    /**
+     * Stops ticking because the session's row moved on without this node, and
+     * frees its pump. The row is left as the other writer set it.
+     */
+    void lose() {
+      if (!finish()) {
+        return;
+      }
+
+      logger.warn("Charging session {} was changed elsewhere, stopping it here", session.getId());
+      chargingMetrics.sessionInterrupted();
+      pumpAllocationIndex.release(session.getId());
+      broadcastStopped();
+    }
+
+    /**
+     * Stops ticking but leaves the session marked as charging, with its progress
+     * checkpointed, so that the next startup resumes it.
+     */
+    void suspend() {
+      if (!finish()) {
+        return;
+      }
+
+      checkpoint();
+      logger.info("Charging session {} suspended at {} units", session.getId(),
+          tick * ChargingProfile.UNITS_PER_TICK);
+    }
+
+    private void checkpoint() {
+      sessionStateWriter.checkpoint(session.getId(), tick * ChargingProfile.UNITS_PER_TICK);
+    }
+
+    private void fail(Exception cause) {
+      if (!finish()) {
+        return;
       }
-    } catch (Exception e) {
-      logger.error("Error in charging session " + session.getId(), e);
 
+      logger.error("Error in charging session " + session.getId(), cause);
+      chargingMetrics.sessionFailed();
+      pumpAllocationIndex.release(session.getId());
+      sessionStateWriter.markStopped(session.getId());
+      broadcastStopped();
+    }
+
+    /**
+     * Tells listeners the session ended without completing, so its pump shows
+     * up as free and clients stop waiting for further progress.
+     */
+    private void broadcastStopped() {
       try {
-        ChargingSession updatedSession = chargingSessionRepository.findById(session.getId()).orElse(null);
-        if (updatedSession != null) {
-          updatedSession.setCharging(false);
-          chargingSessionRepository.save(updatedSession);
-        }
-      } catch (Exception ex) {
-        logger.error("Error resetting charging status for failed session", ex);
+        broadcast(session, tick + 1, tick * ChargingProfile.UNITS_PER_TICK, "stopped");
+      } catch (Exception e) {
+        logger.error("Error broadcasting stop of charging session " + session.getId(), e);
       }
-    } finally {
-      sessionThreads.remove(sessionKey);
-      logger.info("Charging thread for session {} terminated", session.getId());
+    }
+
+    /**
+     * Stops further ticks and deregisters the task. Returns false if another
+     * path (completion, interrupt or failure) already finished it.
+     */
+    private boolean finish() {
+      if (!finished.compareAndSet(false, true)) {
+        return false;
+      }
+      ScheduledFuture<?> scheduled = future;
+      if (scheduled != null) {
+        scheduled.cancel(false);
+      }
+      activeSessions.remove(session.getId(), this);
+      logger.info("Charging task for session {} terminated", session.getId());
+      return true;
+    }
+  }
+
+  private void broadcast(ChargingSession session, int sequence, int chargedUnits, String status) {
+    ChargingProgressMessage message = ChargingProgressMessage.builder()
+        .sessionId(session.getId())
+        .userId(session.getUser() != null ? session.getUser().getId() : null)
+        .station(DtoMapper.toEVStationResponseDto(session.getStation()))
+        .pump(session.getPumpNumber())
+        .vehicle(DtoMapper.toVehicleResponseDto(session.getVehicle()))
+        .chargingRate(chargedUnits)
+        .status(status)
+        .sequence(sequence)
+        .timestamp(chargingClock.millis())
+        .build();
+    progressEventBus.publish(message);
+  }
+
+  private static class EngineThreadFactory implements ThreadFactory {
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable);
+      thread.setName("ChargingEngine-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
     }
   }
 
   public void stopChargingSession(Long sessionId) {
-    String sessionKey = "session_" + sessionId;
-    Thread thread = sessionThreads.get(sessionKey);
-    if (thread != null && thread.isAlive()) {
+    ChargingTask task = activeSessions.get(sessionId);
+    if (task != null) {
       logger.info("Manually stopping charging session {}", sessionId);
-      thread.interrupt();
-      sessionThreads.remove(sessionKey);
+      task.interrupt();
     }
   }
 
+  public void abandonChargingSession(Long sessionId) {
+    ChargingTask task = activeSessions.get(sessionId);
+    if (task != null) {
+      task.abandon();
+    }
+  }
+
+  public Set<Long> getActiveSessionIds() {
+    return Set.copyOf(activeSessions.keySet());
+  }
+
   public boolean isSessionCharging(Long sessionId) {
-    String sessionKey = "session_" + sessionId;
-    Thread thread = sessionThreads.get(sessionKey);
-    return thread != null && thread.isAlive();
+    return activeSessions.containsKey(sessionId);
   }
 
   public void startChargingSessionImmediately(ChargingSession session) {
-    if (session.isCompleted()) {
-      logger.info("Session {} is already completed, cannot start", session.getId());
+    if (session.getStatus() != ChargingSessionStatus.PENDING) {
+      logger.info("Session {} is {}, cannot start", session.getId(), session.getStatus());
       return;
     }
 
-    if (session.isCharging()) {
-      logger.info("Session {} is already charging, cannot start", session.getId());
+    if (session.isReserved()) {
+      logger.info("Session {} is reserved, cannot start immediately", session.getId());
       return;
     }
 
-    if (session.isReserved()) {
-      logger.info("Session {} is reserved, cannot start immediately", session.getId());
+    if (activeSessions.containsKey(session.getId())) {
+      logger.info("Session {} is already being charged, cannot start", session.getId());
       return;
     }
 
-    String sessionKey = "session_" + session.getId();
+    logger.info("Starting charging immediately for non-reserved session {}", session.getId());
+    launch(session);
+  }
+
+  public void startReservedChargingSession(ChargingSession session) {
+    sessionStateWriter.applyPending(session);
 
-    if (sessionThreads.containsKey(sessionKey)) {
-      logger.info("Session {} already has a running thread, cannot start", session.getId());
+    if (session.getStatus() != ChargingSessionStatus.PENDING || activeSessions.containsKey(session.getId())) {
+      logger.info("Session {} is {}, skipping", session.getId(),
+          activeSessions.containsKey(session.getId()) ? "already charging" : session.getStatus());
       return;
     }
 
-    logger.info("Starting charging thread immediately for non-reserved session {}", session.getId());
-
-    session.setCharging(true);
-    chargingSessionRepository.save(session);
+    if (!session.isReserved()) {
+      logger.debug("Session {} is not reserved, should have been started immediately", session.getId());
+      return;
+    }
 
-    // Create and start a new Thread for immediate charging session
-    Thread chargingThread = new Thread(new ChargingSessionRunnable(session));
-    chargingThread.setName("ChargingSession-" + session.getId());
-    sessionThreads.put(sessionKey, chargingThread);
-    chargingThread.start();
+    logger.info("Starting charging for reserved session {} (start time {})", session.getId(),
+        session.getStartTime());
+    launch(session);
   }
 }
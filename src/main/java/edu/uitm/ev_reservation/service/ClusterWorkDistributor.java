@@ -0,0 +1,111 @@
+package edu.uitm.ev_reservation.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import edu.uitm.ev_reservation.entity.ChargingSession;
+import edu.uitm.ev_reservation.repository.ChargingSessionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Cluster-mode sweep, run every third of a lease. It renews the leases of the
+ * sessions this node is charging, drops the ones another node has taken over,
+ * starts due reservations nobody has claimed and resumes charging sessions
+ * whose node died.
+ */
+@Service
+@ConditionalOnProperty(name = "charging.cluster.enabled", havingValue = "true")
+public class ClusterWorkDistributor {
+
+  private static final Logger logger = LoggerFactory.getLogger(ClusterWorkDistributor.class);
+
+  private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable);
+    thread.setName("ClusterWorkDistributor");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final SessionLeases sessionLeases;
+  private final ChargingThreadManager chargingThreadManager;
+  private final ChargingSessionRepository chargingSessionRepository;
+  private final int claimBatchSize;
+
+  public ClusterWorkDistributor(SessionLeases sessionLeases,
+      ChargingThreadManager chargingThreadManager,
+      ChargingSessionRepository chargingSessionRepository,
+      @Value("${charging.cluster.claim-batch-size:100}") int claimBatchSize) {
+    this.sessionLeases = sessionLeases;
+    this.chargingThreadManager = chargingThreadManager;
+    this.chargingSessionRepository = chargingSessionRepository;
+    this.claimBatchSize = claimBatchSize;
+  }
+
+  @PostConstruct
+  public void startSweeper() {
+    long period = Math.max(1000, sessionLeases.getLeaseMillis() / 3);
+    sweeper.scheduleWithFixedDelay(this::sweep, 0, period, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    sweeper.shutdownNow();
+  }
+
+  private void sweep() {
+    try {
+      renewLeases();
+      startDueReservations();
+      resumeAbandonedSessions();
+    } catch (Exception e) {
+      logger.error("Error in cluster sweep", e);
+    }
+  }
+
+  private void renewLeases() {
+    Set<Long> active = chargingThreadManager.getActiveSessionIds();
+    if (active.isEmpty()) {
+      return;
+    }
+
+    Set<Long> lost = new HashSet<>(active);
+    lost.removeAll(sessionLeases.renew(active));
+    for (Long sessionId : lost) {
+      logger.warn("Lease on session {} was taken over by another node, abandoning it", sessionId);
+      chargingThreadManager.abandonChargingSession(sessionId);
+    }
+  }
+
+  private void startDueReservations() {
+    List<Long> claimed = sessionLeases.claimDueReservations(claimBatchSize);
+    if (claimed.isEmpty()) {
+      return;
+    }
+
+    logger.info("Claimed {} due reservations", claimed.size());
+    for (ChargingSession session : chargingSessionRepository.findWithDetailsByIdIn(claimed)) {
+      chargingThreadManager.startReservedChargingSession(session);
+    }
+  }
+
+  private void resumeAbandonedSessions() {
+    List<Long> claimed = sessionLeases.claimAbandonedChargingSessions(claimBatchSize);
+    if (claimed.isEmpty()) {
+      return;
+    }
+
+    logger.info("Claimed {} charging sessions abandoned by other nodes", claimed.size());
+    chargingThreadManager.resumeSessions(chargingSessionRepository.findWithDetailsByIdIn(claimed));
+  }
+}
@@ -0,0 +1,45 @@
+package edu.uitm.ev_reservation.service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import edu.uitm.ev_reservation.dto.ChargingProgressMessage;
+
+/**
+ * Single-node progress bus: events go straight to the listeners on the
+ * publishing thread.
+ */
+@Service
+@ConditionalOnProperty(name = "charging.progress-bus.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryProgressEventBus implements ProgressEventBus {
+
+  private static final Logger logger = LoggerFactory.getLogger(InMemoryProgressEventBus.class);
+
+  private final List<Consumer<ChargingProgressMessage>> listeners = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void publish(ChargingProgressMessage message) {
+    deliver(listeners, message);
+  }
+
+  @Override
+  public void subscribe(Consumer<ChargingProgressMessage> listener) {
+    listeners.add(listener);
+  }
+
+  static void deliver(List<Consumer<ChargingProgressMessage>> listeners, ChargingProgressMessage message) {
+    for (Consumer<ChargingProgressMessage> listener : listeners) {
+      try {
+        listener.accept(message);
+      } catch (Exception e) {
+        logger.error("Progress listener failed for charging session " + message.getSessionId(), e);
+      }
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package edu.uitm.ev_reservation.service;
+
+import java.util.Date;
+
+/**
+ * A reserved session that has not started yet, as loaded by the reservation
+ * scheduler.
+ */
+public class PendingReservation {
+  private final Long sessionId;
+  private final long startTimeMillis;
+
+  public PendingReservation(Long sessionId, Date startTime) {
+    this.sessionId = sessionId;
+    this.startTimeMillis = startTime.getTime();
+  }
+
+  public Long getSessionId() {
+    return sessionId;
+  }
+
+  public long getStartTimeMillis() {
+    return startTimeMillis;
+  }
+}
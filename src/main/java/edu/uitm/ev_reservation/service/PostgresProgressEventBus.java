@@ -0,0 +1,273 @@
+package edu.uitm.ev_reservation.service;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import edu.uitm.ev_reservation.dto.ChargingProgressMessage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Progress bus that relays events between nodes through Postgres
+ * {@code LISTEN/NOTIFY}.
+ *
+ * Local listeners get an event on the publishing thread, as with the in-memory
+ * bus. The event is also queued and a publisher thread sends the queue every
+ * batch interval as a few {@code pg_notify} calls, each payload a JSON batch
+ * that stays under the 8000 byte NOTIFY limit. A listener thread opens its own
+ * connection, outside the pool, with {@code LISTEN} on the channel and hands
+ * events from other nodes to the local listeners; batches this node sent
+ * itself are recognised by node id and skipped.
+ */
+@Service
+@ConditionalOnProperty(name = "charging.progress-bus.type", havingValue = "postgres")
+public class PostgresProgressEventBus implements ProgressEventBus {
+
+  private static final Logger logger = LoggerFactory.getLogger(PostgresProgressEventBus.class);
+
+  // NOTIFY payloads must be shorter than 8000 bytes; leave room for the batch envelope
+  private static final int MAX_PAYLOAD_BYTES = 7500;
+  private static final long POLL_TIMEOUT_MILLIS = 500;
+  private static final long RECONNECT_DELAY_MILLIS = 1000;
+
+  private static final ObjectMapper mapper = new ObjectMapper();
+  private static final ObjectWriter writer = mapper.writer();
+
+  private final List<Consumer<ChargingProgressMessage>> listeners = new CopyOnWriteArrayList<>();
+  private final BlockingQueue<String> outbound;
+  private final AtomicLong droppedEvents = new AtomicLong();
+  private final ScheduledExecutorService publisher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable);
+    thread.setName("ProgressBusPublisher");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final Thread listenerThread;
+  private volatile boolean running = true;
+
+  private final String url;
+  private final String username;
+  private final String password;
+  private final JdbcTemplate jdbcTemplate;
+  private final String nodeId;
+  private final String envelopePrefix;
+  private final String channel;
+  private final long batchIntervalMillis;
+
+  public PostgresProgressEventBus(DataSourceProperties dataSourceProperties,
+      JdbcTemplate jdbcTemplate,
+      SessionLeases sessionLeases,
+      @Value("${charging.progress-bus.channel:charging_progress}") String channel,
+      @Value("${charging.progress-bus.batch-interval-ms:50}") long batchIntervalMillis,
+      @Value("${charging.progress-bus.max-pending:10000}") int maxPending) {
+    if (!channel.matches("[a-z_][a-z0-9_]*")) {
+      throw new IllegalArgumentException("Invalid progress bus channel name: " + channel);
+    }
+    this.url = dataSourceProperties.determineUrl();
+    this.username = dataSourceProperties.determineUsername();
+    this.password = dataSourceProperties.determinePassword();
+    this.jdbcTemplate = jdbcTemplate;
+    this.nodeId = sessionLeases.getNodeId();
+    this.channel = channel;
+    this.batchIntervalMillis = batchIntervalMillis;
+    this.outbound = new LinkedBlockingQueue<>(maxPending);
+    try {
+      this.envelopePrefix = "{\"node\":" + writer.writeValueAsString(nodeId) + ",\"events\":[";
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+    this.listenerThread = new Thread(this::listen, "ProgressBusListener");
+    this.listenerThread.setDaemon(true);
+  }
+
+  @PostConstruct
+  public void start() {
+    publisher.scheduleWithFixedDelay(this::flushQuietly, batchIntervalMillis, batchIntervalMillis,
+        TimeUnit.MILLISECONDS);
+    listenerThread.start();
+    logger.info("Relaying charging progress between nodes on channel {} as node {}", channel, nodeId);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    running = false;
+    publisher.shutdown();
+    try {
+      publisher.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flushQuietly();
+    listenerThread.interrupt();
+    // The listener notices within one poll, then unlistens and closes its connection
+    try {
+      listenerThread.join(POLL_TIMEOUT_MILLIS * 2);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public void publish(ChargingProgressMessage message) {
+    // Serialize before local delivery, which stamps the message with this node's sequence number
+    try {
+      if (!outbound.offer(writer.writeValueAsString(message))) {
+        droppedEvents.incrementAndGet();
+      }
+    } catch (JsonProcessingException e) {
+      logger.error("Failed to serialize progress of charging session " + message.getSessionId(), e);
+    }
+    InMemoryProgressEventBus.deliver(listeners, message);
+  }
+
+  @Override
+  public void subscribe(Consumer<ChargingProgressMessage> listener) {
+    listeners.add(listener);
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (Exception e) {
+      logger.error("Error relaying charging progress to other nodes", e);
+    }
+  }
+
+  private void flush() {
+    long dropped = droppedEvents.getAndSet(0);
+    if (dropped > 0) {
+      logger.warn("Progress bus backlog full, dropped {} events", dropped);
+    }
+
+    List<String> events = new ArrayList<>();
+    outbound.drainTo(events);
+    if (events.isEmpty()) {
+      return;
+    }
+
+    StringBuilder batch = new StringBuilder(MAX_PAYLOAD_BYTES).append(envelopePrefix);
+    int batchBytes = envelopePrefix.length();
+    int batched = 0;
+    for (String event : events) {
+      int eventBytes = event.getBytes(StandardCharsets.UTF_8).length;
+      if (envelopePrefix.length() + eventBytes + 2 > MAX_PAYLOAD_BYTES) {
+        logger.warn("Progress event of {} bytes is too large to relay, skipping", eventBytes);
+        continue;
+      }
+      if (batched > 0 && batchBytes + eventBytes + 3 > MAX_PAYLOAD_BYTES) {
+        sendBatch(batch.append("]}").toString());
+        batch.setLength(0);
+        batch.append(envelopePrefix);
+        batchBytes = envelopePrefix.length();
+        batched = 0;
+      }
+      if (batched > 0) {
+        batch.append(',');
+        batchBytes++;
+      }
+      batch.append(event);
+      batchBytes += eventBytes;
+      batched++;
+    }
+    if (batched > 0) {
+      sendBatch(batch.append("]}").toString());
+    }
+  }
+
+  private void sendBatch(String payload) {
+    jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, channel, payload);
+  }
+
+  private void listen() {
+    while (running) {
+      // Not from the pool: the listener holds its connection for good, and a pooled one would go back still
+      // listening if the loop ever ended
+      try (Connection connection = DriverManager.getConnection(url, username, password)) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + channel);
+        }
+        try {
+          PGConnection pgConnection = connection.unwrap(PGConnection.class);
+          while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications((int) POLL_TIMEOUT_MILLIS);
+            if (notifications != null) {
+              for (PGNotification notification : notifications) {
+                receiveQuietly(notification.getParameter());
+              }
+            }
+          }
+        } finally {
+          unlisten(connection);
+        }
+      } catch (SQLException e) {
+        if (!running) {
+          return;
+        }
+        logger.warn("Progress bus listener lost its connection, reconnecting", e);
+        try {
+          Thread.sleep(RECONNECT_DELAY_MILLIS);
+        } catch (InterruptedException interrupted) {
+          return;
+        }
+      }
+    }
+  }
+
+  private void unlisten(Connection connection) {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("UNLISTEN " + channel);
+    } catch (SQLException e) {
+      logger.debug("Could not UNLISTEN on a closing progress bus connection", e);
+    }
+  }
+
+  private void receiveQuietly(String payload) {
+    try {
+      receive(payload);
+    } catch (RuntimeException e) {
+      logger.error("Error delivering a progress batch from channel " + channel, e);
+    }
+  }
+
+  private void receive(String payload) {
+    try {
+      JsonNode batch = mapper.readTree(payload);
+      if (nodeId.equals(batch.path("node").asText())) {
+        return;
+      }
+      for (JsonNode event : batch.path("events")) {
+        InMemoryProgressEventBus.deliver(listeners, mapper.treeToValue(event, ChargingProgressMessage.class));
+      }
+    } catch (JsonProcessingException e) {
+      logger.warn("Ignoring malformed progress batch on channel {}", channel, e);
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package edu.uitm.ev_reservation.service;
+
+import java.util.function.Consumer;
+
+import edu.uitm.ev_reservation.dto.ChargingProgressMessage;
+
+/**
+ * Carries charging progress from the node running a session to every node's
+ * subscribers, such as the WebSocket handler. {@code charging.progress-bus.type}
+ * picks the implementation: {@code memory} for a single node, or
+ * {@code postgres} to relay events between nodes through LISTEN/NOTIFY.
+ */
+public interface ProgressEventBus {
+
+  /**
+   * Delivers the event to this node's listeners before returning, and to
+   * other nodes' listeners shortly after.
+   */
+  void publish(ChargingProgressMessage message);
+
+  void subscribe(Consumer<ChargingProgressMessage> listener);
+}
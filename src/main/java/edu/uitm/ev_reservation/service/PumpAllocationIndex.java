@@ -0,0 +1,354 @@
+package edu.uitm.ev_reservation.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import edu.uitm.ev_reservation.entity.ChargingSession;
+import edu.uitm.ev_reservation.entity.EVStation;
+import edu.uitm.ev_reservation.repository.ChargingSessionRepository;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * In-memory index of the reserved and active charging windows on every pump.
+ *
+ * Bookings on one pump never overlap, so each pump keeps its windows in a
+ * {@link TreeMap} keyed by start time and an overlap check only needs the
+ * neighbouring windows: O(log n) and no database query. All pumps of a station
+ * share one lock, which makes check-and-book atomic for concurrent requests on
+ * the same station while other stations proceed in parallel.
+ */
+@Service
+public class PumpAllocationIndex {
+
+  private static final Logger logger = LoggerFactory.getLogger(PumpAllocationIndex.class);
+
+  private final Map<Long, StationPumps> stations = new ConcurrentHashMap<>();
+  private final Map<Long, Booking> bookingsBySession = new ConcurrentHashMap<>();
+
+  private final ChargingSessionRepository chargingSessionRepository;
+  private final ChargingClock chargingClock;
+
+  public PumpAllocationIndex(ChargingSessionRepository chargingSessionRepository, ChargingClock chargingClock) {
+    this.chargingSessionRepository = chargingSessionRepository;
+    this.chargingClock = chargingClock;
+  }
+
+  /**
+   * Seeds the index from the sessions still holding a pump. Running sessions
+   * go first, then reservations by start time, and a window that overlaps one
+   * already placed on its pump (a run that outlasts its slot, or rows booked
+   * before overlaps were rejected) is moved to when the pump frees up, so the
+   * no-overlap invariant {@link StationPumps#isFree} relies on holds.
+   */
+  @PostConstruct
+  public void loadBookings() {
+    List<ChargingSession> sessions = chargingSessionRepository.findUnfinishedBookings();
+    long now = chargingClock.millis();
+
+    List<Booking> running = new ArrayList<>();
+    List<Booking> reserved = new ArrayList<>();
+    for (ChargingSession session : sessions) {
+      if (session.getStation() == null || session.getVehicle() == null) {
+        continue;
+      }
+
+      int batteryCapacity = session.getVehicle().getBatteryCapacity();
+      long start;
+      long end;
+      if (session.isCharging()) {
+        int chargedUnits = session.getChargedUnits() == null ? 0 : session.getChargedUnits();
+        int remainingTicks = ChargingProfile.durationTicks(batteryCapacity)
+            - chargedUnits / ChargingProfile.UNITS_PER_TICK;
+        start = now;
+        end = now + Math.max(1, remainingTicks) * ChargingProfile.TICK_INTERVAL_MILLIS;
+      } else if (session.getStartTime() != null) {
+        start = Math.max(now, session.getStartTime().getTime());
+        end = start + Math.max(ChargingProfile.TICK_INTERVAL_MILLIS,
+            ChargingProfile.durationMillis(batteryCapacity));
+      } else {
+        continue;
+      }
+
+      Booking booking = new Booking(session.getStation().getId(), session.getPumpNumber(), start, end);
+      booking.bind(session.getId());
+      (session.isCharging() ? running : reserved).add(booking);
+    }
+
+    // Charging sessions hold their pump right now, so they are placed first
+    running.sort(Comparator.comparing(Booking::getSessionId));
+    reserved.sort(Comparator.comparingLong(Booking::getStart).thenComparing(Booking::getSessionId));
+    List<Booking> seeds = new ArrayList<>(running);
+    seeds.addAll(reserved);
+
+    int moved = 0;
+    for (Booking seed : seeds) {
+      StationPumps pumps = pumpsOf(seed.stationId);
+      long duration = seed.end - seed.start;
+      long start = pumps.nextFreeStart(seed.pump, seed.start, duration);
+      Booking booking = seed;
+      if (start != seed.start) {
+        logger.warn("Session {} overlaps another booking on pump {} of station {}, moving its window to {}",
+            seed.sessionId, seed.pump, seed.stationId, new Date(start));
+        booking = new Booking(seed.stationId, seed.pump, start, start + duration);
+        booking.bind(seed.sessionId);
+        moved++;
+      }
+      pumps.insert(booking);
+      bookingsBySession.put(booking.sessionId, booking);
+    }
+
+    logger.info("Loaded {} pump bookings across {} stations ({} moved to resolve overlaps)",
+        bookingsBySession.size(), stations.size(), moved);
+  }
+
+  /**
+   * Books {@code pumpNumber} at {@code station} from {@code startTime} for as
+   * long as a vehicle with the given battery capacity takes to charge. On a
+   * conflict nothing is booked and the result suggests another pump that is free
+   * for the same window, if any, and when the requested pump frees up.
+   */
+  public AllocationResult reserve(EVStation station, int pumpNumber, Date startTime, int batteryCapacity) {
+    if (pumpNumber < 1 || station.getNumberOfPumps() == null || pumpNumber > station.getNumberOfPumps()) {
+      return AllocationResult.invalidPump();
+    }
+
+    long start = startTime.getTime();
+    long duration = Math.max(ChargingProfile.TICK_INTERVAL_MILLIS,
+        ChargingProfile.durationMillis(batteryCapacity));
+    Booking booking = new Booking(station.getId(), pumpNumber, start, start + duration);
+    StationPumps pumps = pumpsOf(station.getId());
+
+    pumps.lock.lock();
+    try {
+      if (pumps.isFree(pumpNumber, booking.start, booking.end)) {
+        pumps.insert(booking);
+        return AllocationResult.allocated(booking);
+      }
+
+      Integer suggestedPump = null;
+      for (int pump = 1; pump <= station.getNumberOfPumps(); pump++) {
+        if (pump != pumpNumber && pumps.isFree(pump, booking.start, booking.end)) {
+          suggestedPump = pump;
+          break;
+        }
+      }
+      long nextAvailableAt = pumps.nextFreeStart(pumpNumber, booking.start, duration);
+      return AllocationResult.conflict(suggestedPump, new Date(nextAvailableAt));
+    } finally {
+      pumps.lock.unlock();
+    }
+  }
+
+  /**
+   * Associates a booking made by {@link #reserve} with the session that was
+   * saved for it, so the engine can release it by session id.
+   */
+  public void bind(Booking booking, Long sessionId) {
+    booking.bind(sessionId);
+    bookingsBySession.put(sessionId, booking);
+  }
+
+  public void release(Booking booking) {
+    StationPumps pumps = stations.get(booking.stationId);
+    if (pumps == null) {
+      return;
+    }
+
+    pumps.lock.lock();
+    try {
+      pumps.remove(booking);
+    } finally {
+      pumps.lock.unlock();
+    }
+  }
+
+  /**
+   * Frees the window held by a session once it completes or stops charging.
+   */
+  public void release(Long sessionId) {
+    Booking booking = bookingsBySession.remove(sessionId);
+    if (booking != null) {
+      release(booking);
+    }
+  }
+
+  /**
+   * The earliest window on each pump of a station that has not ended by
+   * {@code now}, keyed by pump number. Pumps without one are left out.
+   */
+  public Map<Integer, Booking> currentBookings(Long stationId, long now) {
+    StationPumps pumps = stations.get(stationId);
+    if (pumps == null) {
+      return Map.of();
+    }
+
+    pumps.lock.lock();
+    try {
+      Map<Integer, Booking> current = new HashMap<>();
+      pumps.windows.forEach((pump, pumpWindows) -> {
+        Map.Entry<Long, Booking> before = pumpWindows.floorEntry(now);
+        Map.Entry<Long, Booking> next = before != null && before.getValue().end > now
+            ? before
+            : pumpWindows.higherEntry(now);
+        if (next != null) {
+          current.put(pump, next.getValue());
+        }
+      });
+      return current;
+    } finally {
+      pumps.lock.unlock();
+    }
+  }
+
+  private StationPumps pumpsOf(Long stationId) {
+    return stations.computeIfAbsent(stationId, id -> new StationPumps());
+  }
+
+  private static class StationPumps {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Integer, TreeMap<Long, Booking>> windows = new HashMap<>();
+
+    boolean isFree(int pump, long start, long end) {
+      TreeMap<Long, Booking> pumpWindows = windows.get(pump);
+      if (pumpWindows == null) {
+        return true;
+      }
+
+      Map.Entry<Long, Booking> before = pumpWindows.floorEntry(start);
+      if (before != null && before.getValue().end > start) {
+        return false;
+      }
+      Map.Entry<Long, Booking> after = pumpWindows.higherEntry(start);
+      return after == null || after.getKey() >= end;
+    }
+
+    long nextFreeStart(int pump, long from, long duration) {
+      TreeMap<Long, Booking> pumpWindows = windows.get(pump);
+      if (pumpWindows == null) {
+        return from;
+      }
+
+      long candidate = from;
+      Map.Entry<Long, Booking> before = pumpWindows.floorEntry(from);
+      if (before != null && before.getValue().end > candidate) {
+        candidate = before.getValue().end;
+      }
+      for (Booking next : pumpWindows.tailMap(candidate, true).values()) {
+        if (next.start >= candidate + duration) {
+          break;
+        }
+        candidate = Math.max(candidate, next.end);
+      }
+      return candidate;
+    }
+
+    void insert(Booking booking) {
+      windows.computeIfAbsent(booking.pump, pump -> new TreeMap<>()).put(booking.start, booking);
+    }
+
+    void remove(Booking booking) {
+      TreeMap<Long, Booking> pumpWindows = windows.get(booking.pump);
+      if (pumpWindows != null) {
+        pumpWindows.remove(booking.start, booking);
+      }
+    }
+  }
+
+  /**
+   * A window held on one pump, from {@code start} (inclusive) to {@code end}
+   * (exclusive), in epoch milliseconds.
+   */
+  public static class Booking {
+    private final Long stationId;
+    private final int pump;
+    private final long start;
+    private final long end;
+    private volatile Long sessionId;
+
+    Booking(Long stationId, int pump, long start, long end) {
+      this.stationId = stationId;
+      this.pump = pump;
+      this.start = start;
+      this.end = end;
+    }
+
+    void bind(Long sessionId) {
+      this.sessionId = sessionId;
+    }
+
+    public Long getSessionId() {
+      return sessionId;
+    }
+
+    public Long getStationId() {
+      return stationId;
+    }
+
+    public int getPump() {
+      return pump;
+    }
+
+    public long getStart() {
+      return start;
+    }
+  }
+
+  public static class AllocationResult {
+    public enum Status {
+      ALLOCATED,
+      INVALID_PUMP,
+      CONFLICT
+    }
+
+    private final Status status;
+    private final Booking booking;
+    private final Integer suggestedPump;
+    private final Date nextAvailableAt;
+
+    private AllocationResult(Status status, Booking booking, Integer suggestedPump, Date nextAvailableAt) {
+      this.status = status;
+      this.booking = booking;
+      this.suggestedPump = suggestedPump;
+      this.nextAvailableAt = nextAvailableAt;
+    }
+
+    static AllocationResult allocated(Booking booking) {
+      return new AllocationResult(Status.ALLOCATED, booking, null, null);
+    }
+
+    static AllocationResult invalidPump() {
+      return new AllocationResult(Status.INVALID_PUMP, null, null, null);
+    }
+
+    static AllocationResult conflict(Integer suggestedPump, Date nextAvailableAt) {
+      return new AllocationResult(Status.CONFLICT, null, suggestedPump, nextAvailableAt);
+    }
+
+    public Status getStatus() {
+      return status;
+    }
+
+    public Booking getBooking() {
+      return booking;
+    }
+
+    public Integer getSuggestedPump() {
+      return suggestedPump;
+    }
+
+    public Date getNextAvailableAt() {
+      return nextAvailableAt;
+    }
+  }
+}
@@ -0,0 +1,191 @@
+package edu.uitm.ev_reservation.service;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import edu.uitm.ev_reservation.entity.ChargingSession;
+import edu.uitm.ev_reservation.entity.ChargingSessionStatus;
+import edu.uitm.ev_reservation.repository.ChargingSessionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Starts reserved charging sessions at their start time. Only pending
+ * reservations are kept, in a min-heap keyed by start time; the dispatcher
+ * thread sleeps until the earliest one is due.
+ *
+ * The heap is seeded from the database for reservations starting within the
+ * lookahead window and refilled every half window, so reservations booked far
+ * ahead are not held in memory until they get close.
+ */
+@Service
+public class ReservationScheduler {
+
+  private static final Logger logger = LoggerFactory.getLogger(ReservationScheduler.class);
+
+  private final DelayQueue<QueuedReservation> pendingReservations = new DelayQueue<>();
+  private final Set<Long> queuedSessionIds = ConcurrentHashMap.newKeySet();
+  private Thread dispatcherThread;
+  private volatile boolean running = true;
+
+  private final ChargingSessionRepository chargingSessionRepository;
+  private final ChargingThreadManager chargingThreadManager;
+  private final ChargingClock chargingClock;
+  private final ChargingMetrics chargingMetrics;
+  private final long lookaheadMillis;
+
+  public ReservationScheduler(ChargingSessionRepository chargingSessionRepository,
+      ChargingThreadManager chargingThreadManager,
+      ChargingClock chargingClock,
+      ChargingMetrics chargingMetrics,
+      @Value("${charging.reservations.lookahead-minutes:60}") long lookaheadMinutes) {
+    this.chargingSessionRepository = chargingSessionRepository;
+    this.chargingThreadManager = chargingThreadManager;
+    this.chargingClock = chargingClock;
+    this.chargingMetrics = chargingMetrics;
+    this.lookaheadMillis = TimeUnit.MINUTES.toMillis(lookaheadMinutes);
+
+    chargingMetrics.gauge("charging.reservations.pending", "Reservations waiting in the scheduler heap",
+        pendingReservations::size);
+  }
+
+  @PostConstruct
+  public void startDispatcher() {
+    logger.info("Starting reservation scheduler with a {} minute lookahead",
+        TimeUnit.MILLISECONDS.toMinutes(lookaheadMillis));
+
+    dispatcherThread = new Thread(this::dispatch);
+    dispatcherThread.setName("ReservationScheduler");
+    dispatcherThread.start();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    logger.info("Shutting down reservation scheduler");
+    running = false;
+
+    if (dispatcherThread != null && dispatcherThread.isAlive()) {
+      dispatcherThread.interrupt();
+      try {
+        dispatcherThread.join(5000);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        logger.warn("Interrupted while waiting for reservation scheduler to finish");
+      }
+    }
+    pendingReservations.clear();
+    queuedSessionIds.clear();
+  }
+
+  /**
+   * Queues a newly created reservation. Sessions that are not reserved, have
+   * no start time or are already queued are ignored.
+   */
+  public void schedule(ChargingSession session) {
+    if (!session.isReserved() || session.getStatus() != ChargingSessionStatus.PENDING
+        || session.getStartTime() == null) {
+      return;
+    }
+    enqueue(new PendingReservation(session.getId(), session.getStartTime()));
+  }
+
+  public int getPendingCount() {
+    return pendingReservations.size();
+  }
+
+  private void enqueue(PendingReservation reservation) {
+    if (queuedSessionIds.add(reservation.getSessionId())) {
+      pendingReservations.put(new QueuedReservation(reservation));
+      logger.debug("Queued reservation for session {} at {}", reservation.getSessionId(),
+          new Date(reservation.getStartTimeMillis()));
+    }
+  }
+
+  private void dispatch() {
+    long nextRefill = 0;
+
+    while (running) {
+      try {
+        long now = chargingClock.millis();
+        if (now >= nextRefill) {
+          refill(now);
+          nextRefill = now + lookaheadMillis / 2;
+        }
+
+        QueuedReservation due = pendingReservations.poll(chargingClock.toRealNanos(nextRefill - now),
+            TimeUnit.NANOSECONDS);
+        if (due != null) {
+          fire(due.reservation);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        logger.info("Reservation scheduler interrupted");
+        break;
+      } catch (Exception e) {
+        logger.error("Error in reservation scheduler", e);
+      }
+    }
+  }
+
+  void refill(long now) {
+    chargingMetrics.reservationRefill().record(() -> {
+      List<PendingReservation> upcoming = chargingSessionRepository
+          .findPendingReservations(new Date(now + lookaheadMillis));
+      for (PendingReservation reservation : upcoming) {
+        enqueue(reservation);
+      }
+    });
+    logger.info("Reservation scheduler holds {} pending reservations", pendingReservations.size());
+  }
+
+  private void fire(PendingReservation reservation) {
+    queuedSessionIds.remove(reservation.getSessionId());
+
+    ChargingSession session = chargingSessionRepository.findWithDetailsById(reservation.getSessionId()).orElse(null);
+    if (session == null) {
+      logger.info("Reserved session {} no longer exists, skipping", reservation.getSessionId());
+      return;
+    }
+
+    long lagMillis = chargingClock.millis() - reservation.getStartTimeMillis();
+    logger.info("Reserved session {} start time reached: {} (lag {} ms)", session.getId(), session.getStartTime(),
+        lagMillis);
+    chargingMetrics.recordReservationStartLag(lagMillis);
+    chargingThreadManager.startReservedChargingSession(session);
+  }
+
+  /**
+   * Heap entry that becomes available once the charging clock reaches the
+   * reservation's start time.
+   */
+  private class QueuedReservation implements Delayed {
+    private final PendingReservation reservation;
+
+    QueuedReservation(PendingReservation reservation) {
+      this.reservation = reservation;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      long remainingMillis = reservation.getStartTimeMillis() - chargingClock.millis();
+      long remainingNanos = remainingMillis <= 0 ? remainingMillis : chargingClock.toRealNanos(remainingMillis);
+      return unit.convert(remainingNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+      return Long.compare(reservation.getStartTimeMillis(),
+          ((QueuedReservation) other).reservation.getStartTimeMillis());
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package edu.uitm.ev_reservation.service;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import edu.uitm.ev_reservation.repository.ChargingSessionRepository;
+
+/**
+ * Per-session leases that let several nodes share one charging_sessions table.
+ * A node only runs a session while it holds an unexpired lease on the row;
+ * leases of a node that stops renewing them can be claimed by the others.
+ *
+ * With {@code charging.cluster.enabled=false} (the default) every claim
+ * succeeds without touching the database.
+ */
+@Service
+public class SessionLeases {
+
+  private static final Logger logger = LoggerFactory.getLogger(SessionLeases.class);
+
+  private final ChargingSessionRepository chargingSessionRepository;
+  private final ChargingClock chargingClock;
+  private final boolean enabled;
+  private final String nodeId;
+  private final long leaseMillis;
+
+  public SessionLeases(ChargingSessionRepository chargingSessionRepository,
+      ChargingClock chargingClock,
+      @Value("${charging.cluster.enabled:false}") boolean enabled,
+      @Value("${charging.cluster.node-id:}") String nodeId,
+      @Value("${charging.cluster.lease-seconds:30}") long leaseSeconds) {
+    this.chargingSessionRepository = chargingSessionRepository;
+    this.chargingClock = chargingClock;
+    this.enabled = enabled;
+    this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+    this.leaseMillis = leaseSeconds * 1000;
+
+    if (enabled) {
+      logger.info("Cluster mode enabled, node id {} with {} second leases", this.nodeId, leaseSeconds);
+    }
+  }
+
+  // Leases are renewed on a wall-clock period, so their length is converted to
+  // charging clock time
+  private Date expiresAt(long now) {
+    return new Date(now + chargingClock.toSimulatedMillis(leaseMillis));
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public String getNodeId() {
+    return nodeId;
+  }
+
+  public long getLeaseMillis() {
+    return leaseMillis;
+  }
+
+  /**
+   * Takes the lease on one session unless another node holds a live lease on
+   * it. Always true outside cluster mode.
+   */
+  public boolean claim(Long sessionId) {
+    if (!enabled) {
+      return true;
+    }
+
+    long now = chargingClock.millis();
+    return chargingSessionRepository.claimSession(sessionId, nodeId, new Date(now),
+        expiresAt(now)) == 1;
+  }
+
+  /**
+   * Leases up to {@code limit} reservations whose start time has passed and
+   * that nobody holds. Rows locked by a concurrent claim on another node are
+   * skipped rather than waited on.
+   */
+  public List<Long> claimDueReservations(int limit) {
+    long now = chargingClock.millis();
+    return chargingSessionRepository.claimDueReservations(nodeId, new Date(now), expiresAt(now),
+        limit);
+  }
+
+  /**
+   * Leases up to {@code limit} sessions that are marked as charging but whose
+   * node let the lease expire.
+   */
+  public List<Long> claimAbandonedChargingSessions(int limit) {
+    long now = chargingClock.millis();
+    return chargingSessionRepository.claimAbandonedChargingSessions(nodeId, new Date(now),
+        expiresAt(now), limit);
+  }
+
+  /**
+   * Extends the leases this node holds on the given sessions and returns the
+   * ids it still owns.
+   */
+  public List<Long> renew(Collection<Long> sessionIds) {
+    if (sessionIds.isEmpty()) {
+      return List.of();
+    }
+    return chargingSessionRepository.renewLeases(sessionIds, nodeId,
+        expiresAt(chargingClock.millis()));
+  }
+}
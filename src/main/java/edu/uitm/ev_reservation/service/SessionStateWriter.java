@@ -0,0 +1,274 @@
+package edu.uitm.ev_reservation.service;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import edu.uitm.ev_reservation.entity.ChargingSession;
+import edu.uitm.ev_reservation.entity.ChargingSessionStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Write-behind stage for charging session state. The charging engine records
+ * transitions here instead of doing a findById and save per change; pending
+ * changes are coalesced per session and written as one JDBC batch, ordered by
+ * id, every flush interval or as soon as the batch size is reached.
+ *
+ * Every row is a conditional update from the status the change expects, so a
+ * transition never overwrites one made elsewhere (another node, a bulk
+ * completion) and a finished session cannot be revived. A change that finds
+ * its row already moved on is lost, and {@link #onLostTransition(Consumer)}
+ * listeners hear about it so whoever made it can stop. Coalescing chains
+ * transitions: PENDING to CHARGING followed by CHARGING to COMPLETED is
+ * written as one update from PENDING to COMPLETED.
+ *
+ * Reads that must not see a stale row, such as the reservation start check,
+ * overlay the pending state with {@link #applyPending(ChargingSession)}.
+ */
+@Service
+public class SessionStateWriter {
+
+  private static final Logger logger = LoggerFactory.getLogger(SessionStateWriter.class);
+
+  private static final String UPDATE_SQL = "UPDATE charging_sessions SET "
+      + "status = ?, "
+      + "charged_units = COALESCE(?, charged_units), "
+      + "version = version + 1 "
+      + "WHERE id = ? AND status = ?";
+
+  private final Map<Long, PendingState> pending = new ConcurrentHashMap<>();
+  private final List<Consumer<Long>> lostTransitionListeners = new CopyOnWriteArrayList<>();
+  private final ReentrantLock flushLock = new ReentrantLock();
+  private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+  private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable);
+    thread.setName("SessionStateWriter");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final JdbcTemplate jdbcTemplate;
+  private final long flushIntervalMillis;
+  private final int batchSize;
+
+  public SessionStateWriter(JdbcTemplate jdbcTemplate,
+      ChargingMetrics chargingMetrics,
+      @Value("${charging.write-behind.flush-interval-ms:200}") long flushIntervalMillis,
+      @Value("${charging.write-behind.batch-size:500}") int batchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.flushIntervalMillis = flushIntervalMillis;
+    this.batchSize = batchSize;
+
+    chargingMetrics.gauge("charging.write-behind.pending", "Sessions with state changes waiting to be flushed",
+        pending::size);
+  }
+
+  @PostConstruct
+  public void startFlusher() {
+    flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis,
+        TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    flusher.shutdown();
+    try {
+      flusher.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flush();
+    logger.info("Session state writer flushed on shutdown");
+  }
+
+  public void markCharging(Long sessionId) {
+    record(sessionId, new PendingState(ChargingSessionStatus.PENDING, ChargingSessionStatus.CHARGING, null));
+  }
+
+  public void markCompleted(Long sessionId, int chargedUnits) {
+    record(sessionId, new PendingState(ChargingSessionStatus.CHARGING, ChargingSessionStatus.COMPLETED,
+        chargedUnits));
+  }
+
+  public void markStopped(Long sessionId) {
+    record(sessionId, new PendingState(ChargingSessionStatus.CHARGING, ChargingSessionStatus.STOPPED, null));
+  }
+
+  public void checkpoint(Long sessionId, int chargedUnits) {
+    record(sessionId, new PendingState(ChargingSessionStatus.CHARGING, ChargingSessionStatus.CHARGING,
+        chargedUnits));
+  }
+
+  /**
+   * Registers a listener for sessions whose change was not written because the
+   * row no longer had the status the change expected. It is called with the
+   * session id on the flushing thread, after the flush.
+   */
+  public void onLostTransition(Consumer<Long> listener) {
+    lostTransitionListeners.add(listener);
+  }
+
+  /**
+   * Applies changes that are recorded but not flushed yet to a session that was
+   * just read from the database.
+   */
+  public void applyPending(ChargingSession session) {
+    PendingState state = pending.get(session.getId());
+    if (state == null) {
+      return;
+    }
+    if (session.getStatus() == state.from) {
+      session.setStatus(state.to);
+    }
+    if (state.chargedUnits != null) {
+      session.setChargedUnits(state.chargedUnits);
+    }
+  }
+
+  public int getPendingCount() {
+    return pending.size();
+  }
+
+  private void record(Long sessionId, PendingState change) {
+    pending.merge(sessionId, change, PendingState::then);
+
+    if (pending.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+      try {
+        flusher.execute(this::flushQuietly);
+      } catch (Exception e) {
+        flushRequested.set(false);
+      }
+    }
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (Exception e) {
+      logger.error("Error flushing charging session state", e);
+    }
+  }
+
+  /**
+   * Writes every pending change. Ids are taken in ascending order so concurrent
+   * flushers on other nodes lock rows in the same order.
+   */
+  public void flush() {
+    List<Long> lost = new ArrayList<>();
+    flushLock.lock();
+    try {
+      flushRequested.set(false);
+      if (pending.isEmpty()) {
+        return;
+      }
+
+      List<Long> ids = new ArrayList<>();
+      List<PendingState> states = new ArrayList<>();
+      for (Long id : new TreeSet<>(pending.keySet())) {
+        PendingState state = pending.remove(id);
+        if (state != null) {
+          ids.add(id);
+          states.add(state);
+        }
+      }
+
+      try {
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement ps, int i) throws SQLException {
+            PendingState state = states.get(i);
+            ps.setString(1, state.to.name());
+            setNullable(ps, 2, state.chargedUnits, Types.INTEGER);
+            ps.setLong(3, ids.get(i));
+            ps.setString(4, state.from.name());
+          }
+
+          @Override
+          public int getBatchSize() {
+            return ids.size();
+          }
+        });
+        for (int i = 0; i < updated.length; i++) {
+          if (updated[i] == 0) {
+            logger.warn("Charging session {} was no longer {}, not moving it to {}", ids.get(i), states.get(i).from,
+                states.get(i).to);
+            lost.add(ids.get(i));
+          }
+        }
+        logger.debug("Flushed state for {} charging sessions", ids.size());
+      } catch (RuntimeException e) {
+        // Put the changes back underneath anything recorded since, so the next
+        // flush retries them
+        for (int i = 0; i < ids.size(); i++) {
+          pending.merge(ids.get(i), states.get(i), (newer, older) -> older.then(newer));
+        }
+        throw e;
+      }
+    } finally {
+      flushLock.unlock();
+    }
+
+    for (Long sessionId : lost) {
+      for (Consumer<Long> listener : lostTransitionListeners) {
+        try {
+          listener.accept(sessionId);
+        } catch (Exception e) {
+          logger.error("Lost transition listener failed for charging session " + sessionId, e);
+        }
+      }
+    }
+  }
+
+  private static void setNullable(PreparedStatement ps, int index, Object value, int sqlType) throws SQLException {
+    if (value == null) {
+      ps.setNull(index, sqlType);
+    } else {
+      ps.setObject(index, value, sqlType);
+    }
+  }
+
+  /**
+   * Coalesced change for one session: moves it from {@code from} to {@code to};
+   * a null {@code chargedUnits} leaves the column as is.
+   */
+  private static class PendingState {
+    private final ChargingSessionStatus from;
+    private final ChargingSessionStatus to;
+    private final Integer chargedUnits;
+
+    PendingState(ChargingSessionStatus from, ChargingSessionStatus to, Integer chargedUnits) {
+      this.from = from;
+      this.to = to;
+      this.chargedUnits = chargedUnits;
+    }
+
+    PendingState then(PendingState newer) {
+      if (newer.from != to) {
+        // Cannot follow this change, e.g. a checkpoint after completion
+        logger.warn("Ignoring charging session transition from {} after one to {}", newer.from, to);
+        return this;
+      }
+      return new PendingState(from, newer.to, newer.chargedUnits != null ? newer.chargedUnits : chargedUnits);
+    }
+  }
+}
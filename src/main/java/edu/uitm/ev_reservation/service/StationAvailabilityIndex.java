@@ -0,0 +1,206 @@
+package edu.uitm.ev_reservation.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import edu.uitm.ev_reservation.dto.ChargingProgressMessage;
+import edu.uitm.ev_reservation.dto.PumpAvailabilityDto;
+import edu.uitm.ev_reservation.dto.StationAvailabilityDto;
+import edu.uitm.ev_reservation.entity.EVStation;
+import edu.uitm.ev_reservation.repository.EVStationRepository;
+import edu.uitm.ev_reservation.service.PumpAllocationIndex.Booking;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * In-memory view of which pumps of every station are free, reserved or
+ * charging right now, so drivers can pick a station without the REST API
+ * paging through sessions.
+ *
+ * The charging pump of each session comes from the progress event bus, so
+ * sessions running on other nodes show up too; a pump is looked up by number
+ * in a hash map. A pump that is not charging counts as reserved when its next
+ * booking in the {@link PumpAllocationIndex} starts within the reserved
+ * horizon. Stations are loaded at startup and kept current by the station API,
+ * so the index is taken as the truth about which stations exist: an unknown id
+ * is answered as missing from memory. Stations created through another node
+ * are picked up by reloading the station table when an unknown id is asked
+ * for, at most once per reload interval however many requests miss.
+ */
+@Service
+public class StationAvailabilityIndex {
+
+  private static final Logger logger = LoggerFactory.getLogger(StationAvailabilityIndex.class);
+
+  public static final String FREE = "free";
+  public static final String RESERVED = "reserved";
+  public static final String CHARGING = "charging";
+
+  private final Map<Long, StationState> stations = new ConcurrentHashMap<>();
+
+  private final EVStationRepository evStationRepository;
+  private final PumpAllocationIndex pumpAllocationIndex;
+  private final ChargingClock chargingClock;
+  private final long reservedHorizonMillis;
+  private final long reloadIntervalNanos;
+  private final AtomicLong nextReloadNanos = new AtomicLong(System.nanoTime());
+
+  public StationAvailabilityIndex(EVStationRepository evStationRepository,
+      PumpAllocationIndex pumpAllocationIndex,
+      ChargingClock chargingClock,
+      ProgressEventBus progressEventBus,
+      @Value("${charging.availability.reserved-horizon-minutes:15}") long reservedHorizonMinutes,
+      @Value("${charging.availability.reload-interval-seconds:30}") long reloadIntervalSeconds) {
+    this.evStationRepository = evStationRepository;
+    this.pumpAllocationIndex = pumpAllocationIndex;
+    this.chargingClock = chargingClock;
+    this.reservedHorizonMillis = TimeUnit.MINUTES.toMillis(reservedHorizonMinutes);
+    this.reloadIntervalNanos = TimeUnit.SECONDS.toNanos(reloadIntervalSeconds);
+
+    progressEventBus.subscribe(this::onProgress);
+  }
+
+  @PostConstruct
+  public void loadStations() {
+    for (EVStation station : evStationRepository.findAll()) {
+      updateStation(station);
+    }
+    nextReloadNanos.set(System.nanoTime() + reloadIntervalNanos);
+    logger.info("Tracking pump availability of {} stations", stations.size());
+  }
+
+  /**
+   * Records a created or updated station.
+   */
+  public void updateStation(EVStation station) {
+    int numberOfPumps = station.getNumberOfPumps() != null ? station.getNumberOfPumps() : 0;
+    stations.computeIfAbsent(station.getId(), id -> new StationState()).numberOfPumps = numberOfPumps;
+  }
+
+  public void removeStation(Long stationId) {
+    stations.remove(stationId);
+  }
+
+  /**
+   * Availability of one station, or null if there is no such station.
+   */
+  public StationAvailabilityDto getAvailability(Long stationId) {
+    StationState state = stations.get(stationId);
+    if (state == null && reloadIfDue()) {
+      state = stations.get(stationId);
+    }
+    return state != null ? toDto(stationId, state, chargingClock.millis()) : null;
+  }
+
+  /**
+   * Availability of the given stations, or of every known station when
+   * {@code stationIds} is null. Unknown ids are left out.
+   */
+  public List<StationAvailabilityDto> getAvailability(Collection<Long> stationIds) {
+    if (stationIds != null && !stations.keySet().containsAll(stationIds)) {
+      reloadIfDue();
+    }
+    long now = chargingClock.millis();
+    List<StationAvailabilityDto> availability = new ArrayList<>();
+    Collection<Long> ids = stationIds != null ? stationIds : new ArrayList<>(stations.keySet());
+    for (Long stationId : ids) {
+      StationState state = stations.get(stationId);
+      if (state != null) {
+        availability.add(toDto(stationId, state, now));
+      }
+    }
+    return availability;
+  }
+
+  /**
+   * Reloads the stations if the reload interval has passed, so one caller per
+   * interval pays for the query. Returns whether it reloaded.
+   */
+  private boolean reloadIfDue() {
+    long now = System.nanoTime();
+    long due = nextReloadNanos.get();
+    if (now - due < 0 || !nextReloadNanos.compareAndSet(due, now + reloadIntervalNanos)) {
+      return false;
+    }
+    for (EVStation station : evStationRepository.findAll()) {
+      updateStation(station);
+    }
+    return true;
+  }
+
+  private void onProgress(ChargingProgressMessage message) {
+    if (message.getStation() == null || message.getStation().getId() == null || message.getPump() == null
+        || message.getSessionId() == null || message.getStatus() == null) {
+      return;
+    }
+
+    // A late tick must not bring back a removed station; one created on another
+    // node comes in with the next reload, and its following ticks fill it in
+    StationState state = stations.get(message.getStation().getId());
+    if (state == null) {
+      return;
+    }
+
+    Integer pump = message.getPump();
+    Long sessionId = message.getSessionId();
+    switch (message.getStatus()) {
+      case "completed", "stopped" -> state.chargingSessions.remove(pump, sessionId);
+      default -> {
+        // Every tick passes through here, so only write when the pump changes hands
+        if (!sessionId.equals(state.chargingSessions.get(pump))) {
+          state.chargingSessions.put(pump, sessionId);
+        }
+      }
+    }
+  }
+
+  private StationAvailabilityDto toDto(Long stationId, StationState state, long now) {
+    Map<Integer, Booking> bookings = pumpAllocationIndex.currentBookings(stationId, now);
+    int numberOfPumps = state.numberOfPumps;
+    List<PumpAvailabilityDto> pumps = new ArrayList<>(numberOfPumps);
+    int free = 0;
+    int reserved = 0;
+    int charging = 0;
+
+    for (int pump = 1; pump <= numberOfPumps; pump++) {
+      Long chargingSession = state.chargingSessions.get(pump);
+      Booking booking = bookings.get(pump);
+      PumpAvailabilityDto.PumpAvailabilityDtoBuilder dto = PumpAvailabilityDto.builder().pump(pump);
+      if (chargingSession != null) {
+        dto.status(CHARGING).sessionId(chargingSession);
+        charging++;
+      } else if (booking != null && booking.getStart() <= now + reservedHorizonMillis) {
+        dto.status(RESERVED).sessionId(booking.getSessionId()).reservedFrom(new Date(booking.getStart()));
+        reserved++;
+      } else {
+        dto.status(FREE);
+        free++;
+      }
+      pumps.add(dto.build());
+    }
+
+    return StationAvailabilityDto.builder()
+        .stationId(stationId)
+        .numberOfPumps(numberOfPumps)
+        .free(free)
+        .reserved(reserved)
+        .charging(charging)
+        .pumps(pumps)
+        .build();
+  }
+
+  private static class StationState {
+    private final Map<Integer, Long> chargingSessions = new ConcurrentHashMap<>();
+    private volatile int numberOfPumps;
+  }
+}
@@ -0,0 +1,178 @@
+package edu.uitm.ev_reservation.sse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import edu.uitm.ev_reservation.dto.ChargingProgressMessage;
+import edu.uitm.ev_reservation.websocket.EncodedProgress;
+import edu.uitm.ev_reservation.websocket.ProgressReplayBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Server-Sent Events streams of charging progress, for clients that cannot
+ * keep a WebSocket open, such as kiosks behind proxies. A stream follows either
+ * one charging session or every session at a station.
+ *
+ * Events come from the {@link ProgressReplayBuffer}, so they carry the same
+ * sequence numbers as on the WebSocket. A new stream starts with the latest
+ * event of each session it covers; a stream opened with {@code Last-Event-ID}
+ * gets the events it missed instead. Idle streams receive a heartbeat comment.
+ */
+@Component
+public class ChargingProgressStreams {
+
+  private static final Logger logger = LoggerFactory.getLogger(ChargingProgressStreams.class);
+
+  private final Map<Long, Set<SseConnection>> sessionStreams = new ConcurrentHashMap<>();
+  private final Map<Long, Set<SseConnection>> stationStreams = new ConcurrentHashMap<>();
+  private final Set<SseConnection> connections = ConcurrentHashMap.newKeySet();
+  private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+      Thread.ofVirtual().name("SseSender-", 0).factory());
+  private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable);
+    thread.setName("SseHeartbeat");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final ProgressReplayBuffer replayBuffer;
+  private final Counter overflows;
+  private final long timeoutMillis;
+  private final int queueCapacity;
+  private final long reconnectMillis;
+
+  public ChargingProgressStreams(ProgressReplayBuffer replayBuffer,
+      MeterRegistry meterRegistry,
+      @Value("${charging.sse.timeout-ms:1800000}") long timeoutMillis,
+      @Value("${charging.sse.heartbeat-seconds:15}") long heartbeatSeconds,
+      @Value("${charging.sse.queue-capacity:64}") int queueCapacity,
+      @Value("${charging.sse.reconnect-ms:3000}") long reconnectMillis) {
+    this.replayBuffer = replayBuffer;
+    this.timeoutMillis = timeoutMillis;
+    this.queueCapacity = queueCapacity;
+    this.reconnectMillis = reconnectMillis;
+    this.overflows = Counter.builder("charging.sse.overflows")
+        .description("SSE streams closed because the client fell behind; the client resumes from its last event id")
+        .register(meterRegistry);
+    Gauge.builder("charging.sse.connections", connections, Set::size)
+        .description("Open SSE progress streams")
+        .register(meterRegistry);
+
+    heartbeat.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    replayBuffer.subscribe(this::broadcast);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    heartbeat.shutdownNow();
+    for (SseConnection connection : connections) {
+      connection.close();
+      connection.getEmitter().complete();
+    }
+    sender.shutdownNow();
+  }
+
+  /**
+   * Opens a stream of one charging session. {@code compact} selects the
+   * compact frame format, preceded by a descriptor event.
+   */
+  public SseEmitter openSessionStream(Long sessionId, String lastEventId, boolean compact) {
+    return open(sessionStreams, sessionId, () -> List.of(sessionId), lastEventId, compact);
+  }
+
+  /**
+   * Opens a stream of every charging session at a station.
+   */
+  public SseEmitter openStationStream(Long stationId, String lastEventId, boolean compact) {
+    return open(stationStreams, stationId, () -> replayBuffer.sessionsAt(stationId), lastEventId, compact);
+  }
+
+  private SseEmitter open(Map<Long, Set<SseConnection>> index, Long key, Supplier<List<Long>> sessionIds,
+      String lastEventId, boolean compact) {
+    Map<Long, Long> cursor = SseConnection.parseCursor(lastEventId);
+    SseEmitter emitter = new SseEmitter(timeoutMillis);
+    SseConnection connection = new SseConnection(emitter, sender, queueCapacity, compact, overflows, cursor);
+
+    Runnable unregister = () -> unregister(index, key, connection);
+    emitter.onCompletion(unregister);
+    emitter.onTimeout(unregister);
+    emitter.onError(e -> unregister.run());
+
+    // Registered before the backlog is read, so an event recorded in between is either in the backlog or
+    // delivered live; the connection drops whichever copy comes second
+    connection.start(() -> {
+      connections.add(connection);
+      index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(connection);
+    }, () -> backlog(sessionIds.get(), cursor), reconnectMillis);
+    logger.debug("Opened SSE progress stream, {} open", connections.size());
+    return emitter;
+  }
+
+  private List<EncodedProgress> backlog(List<Long> sessionIds, Map<Long, Long> cursor) {
+    List<EncodedProgress> backlog = new ArrayList<>();
+    for (Long sessionId : sessionIds) {
+      if (cursor.isEmpty()) {
+        EncodedProgress latest = replayBuffer.latest(sessionId);
+        if (latest != null) {
+          backlog.add(latest);
+        }
+      } else {
+        backlog.addAll(replayBuffer.since(sessionId, cursor.getOrDefault(sessionId, -1L)));
+      }
+    }
+    return backlog;
+  }
+
+  private void unregister(Map<Long, Set<SseConnection>> index, Long key, SseConnection connection) {
+    connection.close();
+    connections.remove(connection);
+    index.computeIfPresent(key, (k, members) -> {
+      members.remove(connection);
+      return members.isEmpty() ? null : members;
+    });
+  }
+
+  private void broadcast(EncodedProgress progress) {
+    ChargingProgressMessage message = progress.getMessage();
+    offer(sessionStreams.get(message.getSessionId()), progress);
+    if (message.getStation() != null) {
+      offer(stationStreams.get(message.getStation().getId()), progress);
+    }
+  }
+
+  private static void offer(Set<SseConnection> members, EncodedProgress progress) {
+    if (members == null) {
+      return;
+    }
+    for (SseConnection connection : members) {
+      connection.offer(progress);
+    }
+  }
+
+  private void sendHeartbeats() {
+    try {
+      for (SseConnection connection : connections) {
+        connection.heartbeat(replayBuffer::contains);
+      }
+    } catch (Exception e) {
+      logger.error("Error sending SSE heartbeats", e);
+    }
+  }
+}
@@ -0,0 +1,277 @@
+package edu.uitm.ev_reservation.sse;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import edu.uitm.ev_reservation.websocket.EncodedProgress;
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * Bounded queue of events waiting to go out on one SSE stream, drained by a
+ * sender task so the charging threads never block on a client.
+ *
+ * The connection remembers the last sequence number it queued per charging
+ * session and stamps every event with all of them as its id, for example
+ * {@code 42:17,43:5}. A client that reconnects sends that back as
+ * {@code Last-Event-ID} and gets exactly what it missed; events at or below a
+ * known position are never queued twice. When the queue is full a newer
+ * progress tick replaces the queued tick of the same session. If there is none
+ * the stream is closed instead of silently losing a state change, and the
+ * client resumes from its last event id.
+ */
+class SseConnection {
+
+  private static final Logger logger = LoggerFactory.getLogger(SseConnection.class);
+
+  private final SseEmitter emitter;
+  private final Executor sender;
+  private final int capacity;
+  private final boolean compact;
+  private final Counter overflows;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final ArrayDeque<Frame> frames = new ArrayDeque<>();
+  private final Map<Long, Long> positions;
+  private final Set<Long> describedSessions = new HashSet<>();
+  private boolean draining;
+  private boolean closed;
+
+  SseConnection(SseEmitter emitter, Executor sender, int capacity, boolean compact, Counter overflows,
+      Map<Long, Long> positions) {
+    this.emitter = emitter;
+    this.sender = sender;
+    this.capacity = Math.max(1, capacity);
+    this.compact = compact;
+    this.overflows = overflows;
+    this.positions = new TreeMap<>(positions);
+  }
+
+  SseEmitter getEmitter() {
+    return emitter;
+  }
+
+  /**
+   * Runs {@code register} and then queues the backlog while holding the lock,
+   * so live events that arrive in the meantime wait and then queue behind it.
+   */
+  void start(Runnable register, Supplier<List<EncodedProgress>> backlog, long reconnectMillis) {
+    lock.lock();
+    try {
+      // The first frame carries the retry interval and commits the response, so proxies see the stream open
+      enqueue(null, SseEmitter.event().reconnectTime(reconnectMillis).comment("connected"));
+      register.run();
+      // The backlog is bounded by the replay buffer and may exceed the queue capacity once
+      for (EncodedProgress progress : backlog.get()) {
+        offerLocked(progress, false);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void offer(EncodedProgress progress) {
+    lock.lock();
+    try {
+      offerLocked(progress, true);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Queues a comment frame if the stream is idle, so proxies and the client
+   * can tell a quiet stream from a dead one, and forgets the positions of
+   * sessions that {@code held} no longer reports.
+   */
+  void heartbeat(Predicate<Long> held) {
+    lock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      positions.keySet().removeIf(sessionId -> !held.test(sessionId));
+      describedSessions.removeIf(sessionId -> !held.test(sessionId));
+      if (frames.isEmpty()) {
+        enqueue(null, SseEmitter.event().comment("heartbeat"));
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void close() {
+    lock.lock();
+    try {
+      closed = true;
+      frames.clear();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void offerLocked(EncodedProgress progress, boolean bounded) {
+    if (closed) {
+      return;
+    }
+    Long sessionId = progress.getMessage().getSessionId();
+    Integer sequence = progress.getMessage().getSequence();
+    if (sessionId == null || sequence == null) {
+      return;
+    }
+    Long position = positions.get(sessionId);
+    if (position != null && sequence <= position) {
+      return;
+    }
+
+    if (compact && !describedSessions.contains(sessionId)) {
+      if (bounded && frames.size() >= capacity) {
+        overflow();
+        return;
+      }
+      describedSessions.add(sessionId);
+      enqueue(null, SseEmitter.event().name("descriptor").data(progress.descriptor().getPayload()));
+    }
+
+    // Only plain ticks may be replaced; state changes are never conflated away
+    Long key = "charging".equals(progress.getMessage().getStatus()) ? sessionId : null;
+    if (bounded && frames.size() >= capacity && !removeQueued(key)) {
+      overflow();
+      return;
+    }
+
+    positions.put(sessionId, sequence.longValue());
+    String payload = compact ? progress.compact().getPayload() : progress.legacy().getPayload();
+    enqueue(key, SseEmitter.event().id(formatCursor(positions)).name("progress").data(payload));
+    if (progress.isTerminal()) {
+      describedSessions.remove(sessionId);
+    }
+  }
+
+  private void enqueue(Long key, SseEventBuilder event) {
+    frames.add(new Frame(key, event));
+    if (!draining) {
+      draining = true;
+      try {
+        sender.execute(this::drain);
+      } catch (RejectedExecutionException e) {
+        // Shutting down; nothing will drain this stream any more
+        closed = true;
+        frames.clear();
+      }
+    }
+  }
+
+  /**
+   * Removes the queued tick of the same session, so the newer one goes to the
+   * back of the queue and event ids keep moving forward.
+   */
+  private boolean removeQueued(Long key) {
+    if (key == null) {
+      return false;
+    }
+    for (Iterator<Frame> it = frames.iterator(); it.hasNext();) {
+      if (key.equals(it.next().key)) {
+        it.remove();
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void overflow() {
+    closed = true;
+    frames.clear();
+    overflows.increment();
+    logger.debug("SSE client fell behind, closing the stream so it resumes from its last event id");
+    try {
+      sender.execute(emitter::complete);
+    } catch (RejectedExecutionException e) {
+      logger.debug("Sender is shut down, not completing SSE stream");
+    }
+  }
+
+  private void drain() {
+    while (true) {
+      Frame frame;
+      lock.lock();
+      try {
+        frame = frames.poll();
+        if (frame == null || closed) {
+          draining = false;
+          return;
+        }
+      } finally {
+        lock.unlock();
+      }
+
+      try {
+        emitter.send(frame.event);
+      } catch (IOException | IllegalStateException e) {
+        // The client went away; the emitter's completion callback unregisters this connection
+        logger.debug("Failed to send to SSE stream", e);
+        close();
+      }
+    }
+  }
+
+  /**
+   * Parses a {@code Last-Event-ID} of the form {@code 42:17,43:5} into the last
+   * sequence number per charging session. Anything malformed yields an empty
+   * cursor, which the caller treats as a fresh start.
+   */
+  static Map<Long, Long> parseCursor(String lastEventId) {
+    Map<Long, Long> cursor = new TreeMap<>();
+    if (lastEventId == null || lastEventId.isBlank()) {
+      return cursor;
+    }
+    try {
+      for (String position : lastEventId.trim().split(",")) {
+        int separator = position.indexOf(':');
+        if (separator < 0) {
+          return new TreeMap<>();
+        }
+        cursor.put(Long.parseLong(position.substring(0, separator)), Long.parseLong(position.substring(separator + 1)));
+      }
+    } catch (NumberFormatException e) {
+      return new TreeMap<>();
+    }
+    return cursor;
+  }
+
+  static String formatCursor(Map<Long, Long> positions) {
+    StringBuilder cursor = new StringBuilder();
+    for (Map.Entry<Long, Long> position : positions.entrySet()) {
+      if (cursor.length() > 0) {
+        cursor.append(',');
+      }
+      cursor.append(position.getKey()).append(':').append(position.getValue());
+    }
+    return cursor.toString();
+  }
+
+  private static class Frame {
+    private final Long key;
+    private final SseEventBuilder event;
+
+    Frame(Long key, SseEventBuilder event) {
+      this.key = key;
+      this.event = event;
+    }
+  }
+}
@@ -1,11 +1,17 @@
 package edu.uitm.ev_reservation.websocket;
 
-import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
@@ -13,57 +19,381 @@ import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import edu.uitm.ev_reservation.dto.ChargingProgressMessage;
-import edu.uitm.ev_reservation.entity.ChargingSession;
+import edu.uitm.ev_reservation.entity.User;
+import edu.uitm.ev_reservation.repository.ChargingSessionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 
+/**
+ * Pushes charging progress to WebSocket clients on {@code /ws/charging}. It
+ * receives progress through the {@link ProgressReplayBuffer}, which relays the
+ * progress event bus, so clients see sessions running on any node.
+ *
+ * Clients pick what they receive by sending commands such as
+ * {@code {"action":"subscribe","topic":"station","id":3}}. Topics are
+ * {@code session} and {@code station}, both with an id, and {@code mine}, which
+ * covers every session of the logged-in user. A topic index maps each key to
+ * its subscribers, so a message only goes to the connections interested in it.
+ * Connections that never subscribe receive every message only while
+ * {@code charging.websocket.legacy-broadcast} is on, which it is not by default.
+ *
+ * {@code /ws/**} is open to anyone, so subscribe and resume commands are
+ * checked against the user copied over from the HTTP session at handshake: a
+ * user may follow their own sessions, and only admins may follow a whole
+ * station, since it carries other drivers' vehicles, or anyone else's session.
+ *
+ * Each connection sends through its own bounded {@link OutboundQueue}, so a
+ * slow client costs the charging threads nothing but a dropped frame. A
+ * subscribe command may also carry a {@code rate} (Hz, {@code "realtime"} or
+ * {@code "changes"}); the connection's {@link ProgressConflator} then only
+ * passes on the latest progress per session at that rate.
+ */
 @Component
 public class ChargingWebSocketHandler extends TextWebSocketHandler {
 
   private static final Logger logger = LoggerFactory.getLogger(ChargingWebSocketHandler.class);
 
-  private static final Set<WebSocketSession> sessions = ConcurrentHashMap.newKeySet();
+  /** HTTP session attribute holding the logged-in user, copied over at handshake. */
+  public static final String USER_ATTRIBUTE = "user";
+
+  private static final String TOPICS_ATTRIBUTE = "charging.topics";
+
+  private static final String CONFLATOR_ATTRIBUTE = "charging.conflator";
+
+  // ObjectMapper is thread-safe once configured, so one instance parses every client command
+  private static final ObjectMapper mapper = new ObjectMapper();
+
+  private final Map<WebSocketSession, OutboundQueue> connections = new ConcurrentHashMap<>();
+  private final Set<OutboundQueue> unsubscribed = ConcurrentHashMap.newKeySet();
+  private final Map<String, Set<OutboundQueue>> subscribers = new ConcurrentHashMap<>();
+  private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+      Thread.ofVirtual().name("WebSocketSender-", 0).factory());
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable);
+    thread.setName("WebSocketScheduler");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final ProgressReplayBuffer replayBuffer;
+  private final ChargingSessionRepository chargingSessionRepository;
+  private final Counter droppedFrames;
+  private final DistributionSummary queueDepth;
+  private final Counter evictions;
+  private final boolean legacyBroadcast;
+  private final SlowConsumerPolicy slowConsumerPolicy;
+  private final WireFormat defaultFormat;
+  private final int queueCapacity;
+  private final int bufferSizeLimit;
+  private final long sendTimeLimitMillis;
+  private final long minFlushIntervalMillis;
+
+  /**
+   * How progress is encoded for a connection: the original message with
+   * station and vehicle details on every tick, a compact JSON frame, or a fixed
+   * layout binary frame. Compact and binary connections receive a descriptor
+   * with the static details once per charging session.
+   */
+  public enum WireFormat {
+    LEGACY,
+    COMPACT,
+    BINARY
+  }
+
+  /**
+   * What happens to a new frame for a client that is not keeping up: drop it,
+   * replace the queued frame for the same charging session with it, or close
+   * the connection.
+   */
+  public enum SlowConsumerPolicy {
+    DROP,
+    CONFLATE,
+    DISCONNECT
+  }
+
+  public ChargingWebSocketHandler(ProgressReplayBuffer replayBuffer,
+      ChargingSessionRepository chargingSessionRepository,
+      MeterRegistry meterRegistry,
+      @Value("${charging.websocket.legacy-broadcast:false}") boolean legacyBroadcast,
+      @Value("${charging.websocket.default-format:legacy}") WireFormat defaultFormat,
+      @Value("${charging.websocket.outbound.slow-consumer-policy:conflate}") SlowConsumerPolicy slowConsumerPolicy,
+      @Value("${charging.websocket.outbound.queue-capacity:256}") int queueCapacity,
+      @Value("${charging.websocket.outbound.buffer-size-limit:524288}") int bufferSizeLimit,
+      @Value("${charging.websocket.outbound.send-time-limit-ms:5000}") long sendTimeLimitMillis,
+      @Value("${charging.websocket.min-flush-interval-ms:250}") long minFlushIntervalMillis) {
+    this.replayBuffer = replayBuffer;
+    this.chargingSessionRepository = chargingSessionRepository;
+    this.legacyBroadcast = legacyBroadcast;
+    this.defaultFormat = defaultFormat;
+    this.slowConsumerPolicy = slowConsumerPolicy;
+    this.queueCapacity = queueCapacity;
+    this.bufferSizeLimit = bufferSizeLimit;
+    this.sendTimeLimitMillis = sendTimeLimitMillis;
+    this.minFlushIntervalMillis = minFlushIntervalMillis;
+    this.droppedFrames = Counter.builder("charging.websocket.frames.dropped")
+        .description("Frames dropped because a client was not keeping up")
+        .tag("policy", slowConsumerPolicy.name().toLowerCase())
+        .register(meterRegistry);
+    this.evictions = Counter.builder("charging.websocket.evictions")
+        .description("Connections closed because the client was not keeping up")
+        .register(meterRegistry);
+    // Sampled per connection each second; a gauge per connection would add a metric series for every client
+    this.queueDepth = DistributionSummary.builder("charging.websocket.queue.depth")
+        .description("Frames waiting to be sent on a connection, sampled every second")
+        .baseUnit("frames")
+        .register(meterRegistry);
+    scheduler.scheduleAtFixedRate(this::sampleQueueDepths, 1, 1, TimeUnit.SECONDS);
+
+    replayBuffer.subscribe(this::broadcastChargingProgress);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    scheduler.shutdownNow();
+    sender.shutdownNow();
+  }
 
   @Override
   public void afterConnectionEstablished(@NonNull WebSocketSession session) {
-    sessions.add(session);
-    logger.info("WebSocket connection established. Total sessions: {}", sessions.size());
+    OutboundQueue queue = new OutboundQueue(session, sender, slowConsumerPolicy, queueCapacity, bufferSizeLimit,
+        sendTimeLimitMillis, droppedFrames, evictions);
+    queue.setFormat(defaultFormat);
+    session.getAttributes().put(TOPICS_ATTRIBUTE, ConcurrentHashMap.<String>newKeySet());
+    session.getAttributes().put(CONFLATOR_ATTRIBUTE,
+        new ProgressConflator(progress -> send(queue, progress), scheduler));
+
+    connections.put(session, queue);
+    unsubscribed.add(queue);
+    logger.info("WebSocket connection established. Total sessions: {}", connections.size());
   }
 
   @Override
   public void afterConnectionClosed(@NonNull WebSocketSession session, @NonNull CloseStatus status) {
-    sessions.remove(session);
-    logger.info("WebSocket connection closed. Total sessions: {}", sessions.size());
+    OutboundQueue queue = connections.remove(session);
+    if (queue != null) {
+      conflatorOf(session).close();
+      queue.close();
+      unsubscribed.remove(queue);
+      for (String topic : topicsOf(session)) {
+        removeSubscriber(topic, queue);
+      }
+    }
+    logger.info("WebSocket connection closed. Total sessions: {}", connections.size());
   }
 
-  public void broadcast(ChargingSession session) {
-    ObjectMapper mapper = new ObjectMapper();
+  private void sampleQueueDepths() {
+    for (OutboundQueue queue : connections.values()) {
+      queueDepth.record(queue.depth());
+    }
+  }
+
+  @Override
+  protected void handleTextMessage(@NonNull WebSocketSession session, @NonNull TextMessage message) {
+    JsonNode command;
     try {
-      String json = mapper.writeValueAsString(session);
-      logger.info("Broadcasting charging session: {}", json);
-      for (WebSocketSession ws : sessions) {
-        if (ws.isOpen()) {
-          ws.sendMessage(new TextMessage(json));
+      command = mapper.readTree(message.getPayload());
+    } catch (JsonProcessingException e) {
+      logger.debug("Ignoring non-command message from WebSocket session {}", session.getId());
+      return;
+    }
+    if (command == null || !command.isObject()) {
+      return;
+    }
+
+    OutboundQueue queue = connections.get(session);
+    if (queue == null) {
+      return;
+    }
+
+    String action = command.path("action").asText();
+    if ("format".equals(action)) {
+      setFormat(queue, command.path("format").asText());
+      return;
+    }
+    if ("resume".equals(action)) {
+      replay(queue, command.path("sessionId"), command.path("after").asLong(-1));
+      return;
+    }
+
+    String topic = topicKey(session, command.path("topic").asText(), command.path("id"));
+    if (topic == null) {
+      logger.debug("Ignoring command with unknown topic from WebSocket session {}: {}", session.getId(), command);
+      return;
+    }
+
+    switch (action) {
+      case "subscribe" -> {
+        if (!mayFollow(session, topic)) {
+          logger.debug("Refusing subscription to {} from WebSocket session {}", topic, session.getId());
+          return;
+        }
+        UpdateRate rate = UpdateRate.parse(command.path("rate"), minFlushIntervalMillis);
+        if (rate != null) {
+          conflatorOf(session).setRate(rate);
+        }
+        unsubscribed.remove(queue);
+        if (topicsOf(session).add(topic)) {
+          subscribers.compute(topic, (key, members) -> {
+            Set<OutboundQueue> set = members != null ? members : ConcurrentHashMap.newKeySet();
+            set.add(queue);
+            return set;
+          });
         }
       }
-    } catch (IOException e) {
-      logger.error("Failed to broadcast charging session", e);
+      case "unsubscribe" -> {
+        if (topicsOf(session).remove(topic)) {
+          removeSubscriber(topic, queue);
+        }
+      }
+      default -> logger.debug("Ignoring unknown action '{}' from WebSocket session {}", action, session.getId());
     }
   }
 
-  public void broadcastChargingProgress(ChargingProgressMessage progressMessage) {
-    ObjectMapper mapper = new ObjectMapper();
+  private void setFormat(OutboundQueue queue, String format) {
     try {
-      String json = mapper.writeValueAsString(progressMessage);
-      logger.info("Broadcasting charging progress: {}", json);
-      for (WebSocketSession ws : sessions) {
-        if (ws.isOpen()) {
-          ws.sendMessage(new TextMessage(json));
-        }
+      queue.setFormat(WireFormat.valueOf(format.toUpperCase()));
+    } catch (IllegalArgumentException e) {
+      logger.debug("Ignoring unknown format '{}' from WebSocket session {}", format, queue.getSession().getId());
+    }
+  }
+
+  /**
+   * Sends a reconnecting client the events of a charging session it missed,
+   * straight from memory. They may interleave with live progress of the same
+   * session; clients order and de-duplicate by sequence number.
+   */
+  private void replay(OutboundQueue queue, JsonNode sessionId, long afterSequence) {
+    if (!sessionId.canConvertToLong()) {
+      logger.debug("Ignoring resume without a session id from WebSocket session {}", queue.getSession().getId());
+      return;
+    }
+    String topic = "session:" + sessionId.asLong();
+    if (!mayFollow(queue.getSession(), topic)) {
+      logger.debug("Refusing resume of {} from WebSocket session {}", topic, queue.getSession().getId());
+      return;
+    }
+    for (EncodedProgress progress : replayBuffer.since(sessionId.asLong(), afterSequence)) {
+      send(queue, progress);
+    }
+  }
+
+  /**
+   * Queues a recorded progress message for the subscribers of the session,
+   * station and user topics it belongs to, plus the legacy connections. Each
+   * wire format is encoded at most once per message and shared by every
+   * recipient using it, and nothing is encoded when nobody is listening.
+   * Nothing here blocks on a client's socket.
+   */
+  void broadcastChargingProgress(EncodedProgress encoded) {
+    ChargingProgressMessage progressMessage = encoded.getMessage();
+    Set<OutboundQueue> recipients = new HashSet<>();
+    addSubscribers(recipients, "session", progressMessage.getSessionId());
+    addSubscribers(recipients, "station",
+        progressMessage.getStation() != null ? progressMessage.getStation().getId() : null);
+    addSubscribers(recipients, "user", progressMessage.getUserId());
+    if (recipients.isEmpty() && (!legacyBroadcast || unsubscribed.isEmpty())) {
+      return;
+    }
+
+    // Subscribed connections are never in the legacy set, so nobody gets the message twice
+    if (legacyBroadcast) {
+      for (OutboundQueue queue : unsubscribed) {
+        conflatorOf(queue.getSession()).accept(encoded);
       }
-    } catch (IOException e) {
-      logger.error("Failed to broadcast charging progress", e);
     }
+    for (OutboundQueue queue : recipients) {
+      conflatorOf(queue.getSession()).accept(encoded);
+    }
+  }
+
+  private void send(OutboundQueue queue, EncodedProgress encoded) {
+    Long sessionId = encoded.getMessage().getSessionId();
+    // Only plain ticks may be conflated; state changes always go out
+    Long key = "charging".equals(encoded.getMessage().getStatus()) ? sessionId : null;
+    WireFormat format = queue.getFormat();
+    if (format == WireFormat.LEGACY) {
+      queue.offer(key, encoded.legacy());
+      return;
+    }
+
+    // The descriptor has no conflation key, so a newer progress frame never replaces it in the queue
+    if (queue.markDescribed(sessionId) && !queue.offer(null, encoded.descriptor())) {
+      queue.forgetDescribed(sessionId);
+    }
+    queue.offer(key, format == WireFormat.BINARY ? encoded.binary() : encoded.compact());
+    if (ProgressFrameCodec.isTerminal(encoded.getMessage())) {
+      queue.forgetDescribed(sessionId);
+    }
+  }
+
+  private void addSubscribers(Set<OutboundQueue> recipients, String type, Long id) {
+    if (id == null) {
+      return;
+    }
+    Set<OutboundQueue> members = subscribers.get(type + ":" + id);
+    if (members != null) {
+      recipients.addAll(members);
+    }
+  }
+
+  private void removeSubscriber(String topic, OutboundQueue queue) {
+    subscribers.computeIfPresent(topic, (key, members) -> {
+      members.remove(queue);
+      return members.isEmpty() ? null : members;
+    });
+  }
+
+  /**
+   * Maps a client topic to its index key, or returns null when the topic is
+   * unknown, has no id, or is {@code mine} on an anonymous connection.
+   */
+  private static String topicKey(WebSocketSession session, String topic, JsonNode id) {
+    switch (topic) {
+      case "session", "station" -> {
+        return id.canConvertToLong() ? topic + ":" + id.asLong() : null;
+      }
+      case "mine" -> {
+        Object user = session.getAttributes().get(USER_ATTRIBUTE);
+        return user instanceof User owner && owner.getId() != null ? "user:" + owner.getId() : null;
+      }
+      default -> {
+        return null;
+      }
+    }
+  }
+
+  /**
+   * Whether the connection's user may receive a topic. {@code user:} keys are
+   * only ever built for the connection's own user.
+   */
+  private boolean mayFollow(WebSocketSession session, String topic) {
+    if (!(session.getAttributes().get(USER_ATTRIBUTE) instanceof User user) || user.getId() == null) {
+      return false;
+    }
+    if (Boolean.TRUE.equals(user.getIsAdmin()) || topic.startsWith("user:")) {
+      return true;
+    }
+    if (topic.startsWith("session:")) {
+      Long sessionId = Long.valueOf(topic.substring("session:".length()));
+      return chargingSessionRepository.findUserIdById(sessionId).filter(user.getId()::equals).isPresent();
+    }
+    return false;
+  }
+
+  private static ProgressConflator conflatorOf(WebSocketSession session) {
+    return (ProgressConflator) session.getAttributes().get(CONFLATOR_ATTRIBUTE);
+  }
+
+  @SuppressWarnings("unchecked")
+  static Set<String> topicsOf(WebSocketSession session) {
+    Object topics = session.getAttributes().get(TOPICS_ATTRIBUTE);
+    return topics != null ? (Set<String>) topics : Set.of();
   }
 }
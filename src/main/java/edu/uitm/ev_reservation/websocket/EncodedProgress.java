@@ -0,0 +1,95 @@
+package edu.uitm.ev_reservation.websocket;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import edu.uitm.ev_reservation.dto.ChargingProgressMessage;
+
+/**
+ * Lazily encoded forms of one progress message, each built at most once and
+ * shared by every connection that asks for it. Conflated connections may
+ * encode a message later on the flush thread, hence the volatile fields.
+ */
+public class EncodedProgress {
+
+  private static final Logger logger = LoggerFactory.getLogger(EncodedProgress.class);
+
+  // ObjectWriter is immutable and thread-safe, so one instance serves every broadcast
+  private static final ObjectWriter writer = new ObjectMapper().writer();
+
+  private final ChargingProgressMessage message;
+  private volatile TextMessage legacy;
+  private volatile TextMessage compact;
+  private volatile TextMessage descriptor;
+  private volatile byte[] binary;
+
+  EncodedProgress(ChargingProgressMessage message) {
+    this.message = message;
+  }
+
+  public ChargingProgressMessage getMessage() {
+    return message;
+  }
+
+  /**
+   * Whether this is the last event of its charging session.
+   */
+  public boolean isTerminal() {
+    return ProgressFrameCodec.isTerminal(message);
+  }
+
+  public TextMessage legacy() {
+    TextMessage encoded = legacy;
+    if (encoded == null) {
+      encoded = encode(message);
+      legacy = encoded;
+    }
+    return encoded;
+  }
+
+  public TextMessage compact() {
+    TextMessage encoded = compact;
+    if (encoded == null) {
+      encoded = encode(ProgressFrameCodec.compact(message));
+      compact = encoded;
+    }
+    return encoded;
+  }
+
+  public TextMessage descriptor() {
+    TextMessage encoded = descriptor;
+    if (encoded == null) {
+      encoded = encode(ProgressFrameCodec.descriptor(message));
+      descriptor = encoded;
+    }
+    return encoded;
+  }
+
+  public BinaryMessage binary() {
+    byte[] encoded = binary;
+    if (encoded == null) {
+      encoded = ProgressFrameCodec.binary(message);
+      binary = encoded;
+    }
+    // Sending consumes the ByteBuffer's position, so each recipient gets its own view of the shared bytes
+    return new BinaryMessage(encoded);
+  }
+
+  private static TextMessage encode(Object payload) {
+    try {
+      String json = writer.writeValueAsString(payload);
+      if (logger.isDebugEnabled()) {
+        logger.debug("Broadcasting charging progress: {}", json);
+      }
+      return new TextMessage(json);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize charging progress", e);
+    }
+  }
+}
@@ -0,0 +1,263 @@
+package edu.uitm.ev_reservation.websocket;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import edu.uitm.ev_reservation.websocket.ChargingWebSocketHandler.SlowConsumerPolicy;
+import edu.uitm.ev_reservation.websocket.ChargingWebSocketHandler.WireFormat;
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * Bounded queue of frames waiting to go out on one WebSocket connection.
+ *
+ * Broadcasts only enqueue; a sender task drains the queue and is the only
+ * caller of {@code sendMessage}, since raw sessions do not allow concurrent
+ * sends. When the client falls behind (the queue or its byte budget is full,
+ * or one send has been blocked longer than the send time limit) the
+ * connection's slow consumer policy decides what happens to the new frame.
+ * Under the conflate policy only progress ticks are replaced or dropped; a
+ * state change still goes out, and a client too far behind to take it is
+ * disconnected. The queue also carries the connection's negotiated wire
+ * format.
+ */
+class OutboundQueue {
+
+  private static final Logger logger = LoggerFactory.getLogger(OutboundQueue.class);
+
+  private final WebSocketSession session;
+  private final Executor sender;
+  private final SlowConsumerPolicy policy;
+  private final int capacity;
+  private final int bufferSizeLimit;
+  private final long sendTimeLimitNanos;
+  private final Counter droppedFrames;
+  private final Counter evictions;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final ArrayDeque<Frame> frames = new ArrayDeque<>();
+  private final Set<Long> describedSessions = ConcurrentHashMap.newKeySet();
+  private volatile WireFormat format = WireFormat.LEGACY;
+  private int bufferedBytes;
+  private boolean draining;
+  private boolean closed;
+  private volatile long sendStartedNanos;
+
+  OutboundQueue(WebSocketSession session, Executor sender, SlowConsumerPolicy policy, int capacity,
+      int bufferSizeLimit, long sendTimeLimitMillis, Counter droppedFrames, Counter evictions) {
+    this.session = session;
+    this.sender = sender;
+    this.policy = policy;
+    this.capacity = capacity;
+    this.bufferSizeLimit = bufferSizeLimit;
+    this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMillis);
+    this.droppedFrames = droppedFrames;
+    this.evictions = evictions;
+  }
+
+  /**
+   * Queues a frame for sending. {@code key} identifies a progress tick, such as
+   * by its charging session id, so the conflate policy can replace an older
+   * queued tick for the same thing. Frames without a key, such as state
+   * changes and descriptors, are never replaced or dropped by that policy.
+   * Returns false if the frame was dropped or the connection was evicted.
+   */
+  boolean offer(Object key, WebSocketMessage<?> message) {
+    boolean startDrain = false;
+    lock.lock();
+    try {
+      if (closed) {
+        return false;
+      }
+
+      if (isOverloaded(message.getPayloadLength())) {
+        switch (policy) {
+          case CONFLATE -> {
+            if (key != null) {
+              if (replace(key, message)) {
+                return true;
+              }
+              drop();
+              return false;
+            }
+            // A lost state change would leave the client showing a session that has ended
+            if (frames.size() >= capacity * 2) {
+              evict();
+              return false;
+            }
+          }
+          case DISCONNECT -> {
+            evict();
+            return false;
+          }
+          default -> {
+            drop();
+            return false;
+          }
+        }
+      }
+
+      frames.add(new Frame(key, message));
+      bufferedBytes += message.getPayloadLength();
+      if (!draining) {
+        draining = true;
+        startDrain = true;
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    if (startDrain) {
+      try {
+        sender.execute(this::drain);
+      } catch (RejectedExecutionException e) {
+        // Shutting down; nothing will drain this queue any more
+        close();
+        return false;
+      }
+    }
+    return true;
+  }
+
+  int depth() {
+    lock.lock();
+    try {
+      return frames.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  WebSocketSession getSession() {
+    return session;
+  }
+
+  WireFormat getFormat() {
+    return format;
+  }
+
+  void setFormat(WireFormat format) {
+    this.format = format;
+  }
+
+  /**
+   * Records that this connection is being sent the descriptor of a charging
+   * session. Returns false if it already was.
+   */
+  boolean markDescribed(Long sessionId) {
+    return describedSessions.add(sessionId);
+  }
+
+  void forgetDescribed(Long sessionId) {
+    describedSessions.remove(sessionId);
+  }
+
+  void close() {
+    lock.lock();
+    try {
+      closed = true;
+      frames.clear();
+      bufferedBytes = 0;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void drain() {
+    while (true) {
+      Frame frame;
+      lock.lock();
+      try {
+        frame = frames.poll();
+        if (frame == null || closed) {
+          draining = false;
+          return;
+        }
+        bufferedBytes -= frame.message.getPayloadLength();
+      } finally {
+        lock.unlock();
+      }
+
+      if (!session.isOpen()) {
+        close();
+        return;
+      }
+
+      sendStartedNanos = System.nanoTime();
+      try {
+        session.sendMessage(frame.message);
+      } catch (IOException | RuntimeException e) {
+        logger.warn("Failed to send to WebSocket session {}", session.getId(), e);
+      } finally {
+        sendStartedNanos = 0;
+      }
+    }
+  }
+
+  private boolean isOverloaded(int length) {
+    if (frames.size() >= capacity || bufferedBytes + length > bufferSizeLimit) {
+      return true;
+    }
+    long started = sendStartedNanos;
+    return started != 0 && System.nanoTime() - started > sendTimeLimitNanos;
+  }
+
+  private boolean replace(Object key, WebSocketMessage<?> message) {
+    for (Iterator<Frame> it = frames.iterator(); it.hasNext();) {
+      Frame queued = it.next();
+      if (key.equals(queued.key)) {
+        bufferedBytes += message.getPayloadLength() - queued.message.getPayloadLength();
+        queued.message = message;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void drop() {
+    droppedFrames.increment();
+  }
+
+  private void evict() {
+    closed = true;
+    frames.clear();
+    bufferedBytes = 0;
+    evictions.increment();
+    logger.warn("Disconnecting slow WebSocket consumer {}", session.getId());
+
+    // Closing can block on the same stalled socket, so it never runs on the broadcasting thread
+    try {
+      sender.execute(() -> {
+        try {
+          session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+          logger.debug("Failed to close WebSocket session {}", session.getId(), e);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      logger.debug("Sender is shut down, not closing WebSocket session {}", session.getId());
+    }
+  }
+
+  private static class Frame {
+    private final Object key;
+    private WebSocketMessage<?> message;
+
+    Frame(Object key, WebSocketMessage<?> message) {
+      this.key = key;
+      this.message = message;
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package edu.uitm.ev_reservation.websocket;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Keeps only the latest progress per charging session for one connection and
+ * hands it on at the connection's {@link UpdateRate}. Nothing older than the
+ * latest value is ever buffered, so a client on a slow link sees fresh data
+ * rather than a backlog. State changes skip the buffer and replace whatever
+ * progress of the same session was still waiting.
+ */
+class ProgressConflator {
+
+  private final Consumer<EncodedProgress> sink;
+  private final ScheduledExecutorService scheduler;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Map<Long, EncodedProgress> latest = new LinkedHashMap<>();
+  private volatile UpdateRate rate = UpdateRate.REALTIME;
+  private ScheduledFuture<?> flushTask;
+
+  ProgressConflator(Consumer<EncodedProgress> sink, ScheduledExecutorService scheduler) {
+    this.sink = sink;
+    this.scheduler = scheduler;
+  }
+
+  void accept(EncodedProgress progress) {
+    // Realtime connections pass everything straight through, without taking the lock
+    if (rate.isRealtime()) {
+      sink.accept(progress);
+      return;
+    }
+
+    Long sessionId = progress.getMessage().getSessionId();
+    lock.lock();
+    try {
+      if (!"charging".equals(progress.getMessage().getStatus())) {
+        latest.remove(sessionId);
+        sink.accept(progress);
+      } else if (!rate.isChangesOnly()) {
+        latest.put(sessionId, progress);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void setRate(UpdateRate newRate) {
+    lock.lock();
+    try {
+      cancel();
+      rate = newRate;
+      flush();
+      if (newRate.getIntervalMillis() > 0) {
+        try {
+          flushTask = scheduler.scheduleAtFixedRate(this::flush, newRate.getIntervalMillis(),
+              newRate.getIntervalMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+          rate = UpdateRate.REALTIME;
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void close() {
+    lock.lock();
+    try {
+      cancel();
+      latest.clear();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void flush() {
+    lock.lock();
+    try {
+      // Handing on under the lock keeps a state change from overtaking the value it replaced
+      for (EncodedProgress progress : latest.values()) {
+        sink.accept(progress);
+      }
+      latest.clear();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void cancel() {
+    if (flushTask != null) {
+      flushTask.cancel(false);
+      flushTask = null;
+    }
+  }
+}
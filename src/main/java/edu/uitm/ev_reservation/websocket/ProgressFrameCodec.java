@@ -0,0 +1,99 @@
+package edu.uitm.ev_reservation.websocket;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+
+import edu.uitm.ev_reservation.dto.ChargingProgressFrame;
+import edu.uitm.ev_reservation.dto.ChargingProgressMessage;
+import edu.uitm.ev_reservation.dto.ChargingSessionDescriptor;
+
+/**
+ * Builds the compact and binary forms of a progress message.
+ *
+ * The binary frame is a fixed 56 byte big-endian layout:
+ *
+ * <pre>
+ * offset  size  field
+ *      0     1  version (1)
+ *      1     1  status code, see {@link #STATUSES}
+ *      2     2  pump
+ *      4     4  charged units
+ *      8     8  sequence
+ *     16     8  charging session id
+ *     24     8  station id
+ *     32     8  vehicle id
+ *     40     8  user id (0 if unknown)
+ *     48     8  timestamp, epoch milliseconds
+ * </pre>
+ */
+final class ProgressFrameCodec {
+
+  static final int BINARY_VERSION = 1;
+  static final int BINARY_LENGTH = 56;
+
+  /** Status codes of the binary frame are indexes into this list; 0 is an unknown status. */
+  static final List<String> STATUSES = List.of("unknown", "started", "resumed", "charging", "completed", "stopped");
+
+  private static final Set<String> TERMINAL_STATUSES = Set.of("completed", "stopped");
+
+  private ProgressFrameCodec() {
+  }
+
+  static ChargingProgressFrame compact(ChargingProgressMessage message) {
+    return ChargingProgressFrame.builder()
+        .seq(valueOf(message.getSequence()))
+        .sessionId(message.getSessionId())
+        .stationId(message.getStation() != null ? message.getStation().getId() : null)
+        .vehicleId(message.getVehicle() != null ? message.getVehicle().getId() : null)
+        .userId(message.getUserId())
+        .pump(message.getPump())
+        .units(message.getChargingRate())
+        .status(message.getStatus())
+        .timestamp(message.getTimestamp())
+        .build();
+  }
+
+  static ChargingSessionDescriptor descriptor(ChargingProgressMessage message) {
+    return ChargingSessionDescriptor.builder()
+        .sessionId(message.getSessionId())
+        .userId(message.getUserId())
+        .pump(message.getPump())
+        .station(message.getStation())
+        .vehicle(message.getVehicle())
+        .build();
+  }
+
+  static byte[] binary(ChargingProgressMessage message) {
+    ChargingProgressFrame frame = compact(message);
+    int status = Math.max(0, STATUSES.indexOf(frame.getStatus()));
+
+    return ByteBuffer.allocate(BINARY_LENGTH)
+        .put((byte) BINARY_VERSION)
+        .put((byte) status)
+        .putShort((short) valueOf(frame.getPump()))
+        .putInt(valueOf(frame.getUnits()))
+        .putLong(frame.getSeq())
+        .putLong(valueOf(frame.getSessionId()))
+        .putLong(valueOf(frame.getStationId()))
+        .putLong(valueOf(frame.getVehicleId()))
+        .putLong(valueOf(frame.getUserId()))
+        .putLong(valueOf(frame.getTimestamp()))
+        .array();
+  }
+
+  /**
+   * Whether no further progress follows this message for its session.
+   */
+  static boolean isTerminal(ChargingProgressMessage message) {
+    return TERMINAL_STATUSES.contains(message.getStatus());
+  }
+
+  private static int valueOf(Integer value) {
+    return value != null ? value : 0;
+  }
+
+  private static long valueOf(Long value) {
+    return value != null ? value : 0L;
+  }
+}
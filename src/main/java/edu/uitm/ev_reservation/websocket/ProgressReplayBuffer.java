@@ -0,0 +1,220 @@
+package edu.uitm.ev_reservation.websocket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import edu.uitm.ev_reservation.dto.ChargingProgressMessage;
+import edu.uitm.ev_reservation.service.ProgressEventBus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Recent progress of every charging session, kept in memory so a client that
+ * reconnects can ask for what it missed instead of polling the REST API.
+ *
+ * It is the single subscriber of the {@link ProgressEventBus} for the push
+ * endpoints: every message is recorded here first and then handed, encoded
+ * lazily and at most once per format, to the WebSocket handler and the SSE
+ * streams, so both see the same sequence numbers.
+ *
+ * Each session has a bounded ring of events and assigns them a monotonic
+ * sequence number: the tick index where it can, but never lower than or equal
+ * to the previous one, so a session resumed from a checkpoint keeps counting
+ * up. Consecutive {@code charging} ticks collapse into the latest one, which
+ * leaves room for the state changes a client must not miss. A session's
+ * history is dropped once it has not changed for the retention period.
+ */
+@Component
+public class ProgressReplayBuffer {
+
+  private static final Logger logger = LoggerFactory.getLogger(ProgressReplayBuffer.class);
+
+  private final Map<Long, SessionHistory> histories = new ConcurrentHashMap<>();
+  private final List<Consumer<EncodedProgress>> listeners = new CopyOnWriteArrayList<>();
+  private final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    Thread thread = new Thread(runnable);
+    thread.setName("ProgressReplayEviction");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final int capacity;
+  private final long retentionNanos;
+
+  public ProgressReplayBuffer(ProgressEventBus progressEventBus,
+      MeterRegistry meterRegistry,
+      @Value("${charging.progress.replay.buffer-size:16}") int capacity,
+      @Value("${charging.progress.replay.retention-seconds:300}") long retentionSeconds) {
+    this.capacity = Math.max(1, capacity);
+    this.retentionNanos = TimeUnit.SECONDS.toNanos(retentionSeconds);
+    Gauge.builder("charging.progress.replay.sessions", this, ProgressReplayBuffer::size)
+        .description("Charging sessions with progress held for replay")
+        .register(meterRegistry);
+
+    long evictionPeriod = Math.max(1, retentionSeconds / 4);
+    evictor.scheduleWithFixedDelay(this::evictIdle, evictionPeriod, evictionPeriod, TimeUnit.SECONDS);
+
+    progressEventBus.subscribe(this::publish);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    evictor.shutdownNow();
+  }
+
+  /**
+   * Registers a listener for every recorded message, called on the publishing
+   * thread.
+   */
+  public void subscribe(Consumer<EncodedProgress> listener) {
+    listeners.add(listener);
+  }
+
+  private void publish(ChargingProgressMessage message) {
+    EncodedProgress encoded = record(message);
+    for (Consumer<EncodedProgress> listener : listeners) {
+      try {
+        listener.accept(encoded);
+      } catch (Exception e) {
+        logger.error("Progress listener failed for charging session " + message.getSessionId(), e);
+      }
+    }
+  }
+
+  /**
+   * Stamps the message with its sequence number and appends it to its
+   * session's history.
+   */
+  EncodedProgress record(ChargingProgressMessage message) {
+    if (message.getSessionId() == null) {
+      return new EncodedProgress(message);
+    }
+    return histories.computeIfAbsent(message.getSessionId(), id -> new SessionHistory(capacity)).append(message);
+  }
+
+  /**
+   * Events of a session with a sequence number above {@code afterSequence},
+   * oldest first. A gap between {@code afterSequence} and the first returned
+   * event means older events have already been overwritten.
+   */
+  public List<EncodedProgress> since(Long sessionId, long afterSequence) {
+    SessionHistory history = histories.get(sessionId);
+    return history != null ? history.since(afterSequence) : List.of();
+  }
+
+  /**
+   * The most recent event of a session, or null if none is held.
+   */
+  public EncodedProgress latest(Long sessionId) {
+    SessionHistory history = histories.get(sessionId);
+    return history != null ? history.latest() : null;
+  }
+
+  /**
+   * Ids of the sessions at a station that have events held.
+   */
+  public List<Long> sessionsAt(Long stationId) {
+    List<Long> sessionIds = new ArrayList<>();
+    histories.forEach((sessionId, history) -> {
+      if (stationId.equals(history.stationId)) {
+        sessionIds.add(sessionId);
+      }
+    });
+    return sessionIds;
+  }
+
+  public boolean contains(Long sessionId) {
+    return histories.containsKey(sessionId);
+  }
+
+  private void evictIdle() {
+    long now = System.nanoTime();
+    histories.values().removeIf(history -> now - history.updatedNanos > retentionNanos);
+  }
+
+  private int size() {
+    return histories.size();
+  }
+
+  private static class SessionHistory {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final EncodedProgress[] ring;
+    private int next;
+    private int count;
+    private int lastSequence = -1;
+    private volatile Long stationId;
+    private volatile long updatedNanos = System.nanoTime();
+
+    SessionHistory(int capacity) {
+      this.ring = new EncodedProgress[capacity];
+    }
+
+    EncodedProgress append(ChargingProgressMessage message) {
+      lock.lock();
+      try {
+        int requested = message.getSequence() != null ? message.getSequence() : 0;
+        lastSequence = Math.max(lastSequence + 1, requested);
+        message.setSequence(lastSequence);
+        if (message.getStation() != null) {
+          stationId = message.getStation().getId();
+        }
+
+        EncodedProgress progress = new EncodedProgress(message);
+        EncodedProgress previous = count > 0 ? ring[(next - 1 + ring.length) % ring.length] : null;
+        if (previous != null && isTick(previous) && isTick(progress)) {
+          ring[(next - 1 + ring.length) % ring.length] = progress;
+        } else {
+          ring[next] = progress;
+          next = (next + 1) % ring.length;
+          count = Math.min(count + 1, ring.length);
+        }
+        updatedNanos = System.nanoTime();
+        return progress;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    List<EncodedProgress> since(long afterSequence) {
+      lock.lock();
+      try {
+        List<EncodedProgress> events = new ArrayList<>(count);
+        for (int i = count; i > 0; i--) {
+          EncodedProgress progress = ring[(next - i + ring.length) % ring.length];
+          if (progress.getMessage().getSequence() > afterSequence) {
+            events.add(progress);
+          }
+        }
+        return events;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    EncodedProgress latest() {
+      lock.lock();
+      try {
+        return count > 0 ? ring[(next - 1 + ring.length) % ring.length] : null;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private static boolean isTick(EncodedProgress progress) {
+      return "charging".equals(progress.getMessage().getStatus());
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package edu.uitm.ev_reservation.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * How often a connection wants charging progress: every tick, the latest value
+ * per session at a fixed interval, or only when a session changes state.
+ * State changes such as {@code completed} are delivered at once in every mode.
+ */
+final class UpdateRate {
+
+  static final UpdateRate REALTIME = new UpdateRate(0);
+  static final UpdateRate CHANGES_ONLY = new UpdateRate(-1);
+
+  private final long intervalMillis;
+
+  private UpdateRate(long intervalMillis) {
+    this.intervalMillis = intervalMillis;
+  }
+
+  /**
+   * Reads the {@code rate} of a subscribe command: a frequency in Hz, or
+   * {@code "realtime"} or {@code "changes"}. Frequencies are capped so no
+   * connection flushes more often than every {@code minIntervalMillis}. Returns
+   * null when the rate is missing or not understood.
+   */
+  static UpdateRate parse(JsonNode rate, long minIntervalMillis) {
+    if (rate.isNumber()) {
+      double hertz = rate.asDouble();
+      if (hertz <= 0) {
+        return null;
+      }
+      return new UpdateRate(Math.max(minIntervalMillis, Math.round(1000 / hertz)));
+    }
+    return switch (rate.asText()) {
+      case "realtime" -> REALTIME;
+      case "changes" -> CHANGES_ONLY;
+      default -> null;
+    };
+  }
+
+  boolean isRealtime() {
+    return intervalMillis == 0;
+  }
+
+  boolean isChangesOnly() {
+    return intervalMillis < 0;
+  }
+
+  long getIntervalMillis() {
+    return intervalMillis;
+  }
+}
@@ -0,0 +1,47 @@
+-- Schema as previously generated by Hibernate. IF NOT EXISTS lets databases
+-- that ddl-auto=update already created adopt it unchanged.
+
+CREATE TABLE IF NOT EXISTS users (
+  id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  email VARCHAR(255) NOT NULL UNIQUE,
+  password VARCHAR(255) NOT NULL,
+  name VARCHAR(255),
+  is_admin BOOLEAN
+);
+
+CREATE TABLE IF NOT EXISTS ev_stations (
+  id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  name VARCHAR(255) NOT NULL,
+  location VARCHAR(255) NOT NULL,
+  number_of_pumps INTEGER NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS vehicles (
+  id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  make VARCHAR(255),
+  model VARCHAR(255),
+  plate_number VARCHAR(255),
+  battery_capacity INTEGER NOT NULL,
+  owner_id BIGINT,
+  CONSTRAINT fk_vehicles_owner FOREIGN KEY (owner_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS charging_sessions (
+  id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  user_id BIGINT,
+  vehicle_id BIGINT,
+  station_id BIGINT,
+  pump_number INTEGER NOT NULL,
+  is_completed BOOLEAN NOT NULL,
+  is_reserved BOOLEAN NOT NULL,
+  is_charging BOOLEAN NOT NULL,
+  start_time TIMESTAMP(6),
+  CONSTRAINT fk_charging_sessions_user FOREIGN KEY (user_id) REFERENCES users (id),
+  CONSTRAINT fk_charging_sessions_vehicle FOREIGN KEY (vehicle_id) REFERENCES vehicles (id),
+  CONSTRAINT fk_charging_sessions_station FOREIGN KEY (station_id) REFERENCES ev_stations (id)
+);
+
+-- Added after the first release, so databases adopted above lack them
+ALTER TABLE charging_sessions ADD COLUMN IF NOT EXISTS charged_units INTEGER;
+ALTER TABLE charging_sessions ADD COLUMN IF NOT EXISTS lease_owner VARCHAR(64);
+ALTER TABLE charging_sessions ADD COLUMN IF NOT EXISTS lease_expires_at TIMESTAMP(6);
@@ -0,0 +1,20 @@
+-- Session listing filters (findSessionDtosWithFilters and the keyset queries)
+CREATE INDEX IF NOT EXISTS idx_charging_sessions_user_status
+  ON charging_sessions (user_id, is_completed, is_charging);
+
+-- Reservations waiting to start, read by the reservation scheduler and
+-- claimDueReservations; only this small set is indexed
+CREATE INDEX IF NOT EXISTS idx_charging_sessions_pending_start
+  ON charging_sessions (start_time)
+  WHERE is_reserved = true AND is_completed = false AND is_charging = false;
+
+CREATE INDEX IF NOT EXISTS idx_vehicles_owner ON vehicles (owner_id);
+
+-- Registration lower-cases emails and login matches them exactly on the
+-- unique email column. Fold rows stored otherwise, keeping the oldest when
+-- several differ only by case; a row whose lower-case form is taken stays
+-- as it is, since it could never log in anyway.
+UPDATE users u SET email = lower(u.email)
+  WHERE u.email <> lower(u.email)
+  AND NOT EXISTS (SELECT 1 FROM users o WHERE o.email = lower(u.email))
+  AND u.id = (SELECT min(d.id) FROM users d WHERE lower(d.email) = lower(u.email) AND d.email <> lower(d.email));
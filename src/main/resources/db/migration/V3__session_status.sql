@@ -0,0 +1,41 @@
+-- Session lifecycle moves from the is_completed/is_charging flags to one
+-- status column, and rows get a version for optimistic locking
+ALTER TABLE charging_sessions ADD COLUMN IF NOT EXISTS status VARCHAR(16);
+ALTER TABLE charging_sessions ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- A stopped session used to fall back to not charging and not completed, the
+-- same flags as one that never started, and it may have stopped before its
+-- first checkpoint wrote charged units. What tells them apart is the start.
+-- A session that was not reserved was started as soon as it was created,
+-- usually without a start time, so it has run. So has a session whose start
+-- time has passed, or that charged anything (or its reservation lapsed).
+-- These are STOPPED; only a reservation still to start is PENDING.
+UPDATE charging_sessions SET status = CASE
+    WHEN is_completed THEN 'COMPLETED'
+    WHEN is_charging THEN 'CHARGING'
+    WHEN NOT is_reserved THEN 'STOPPED'
+    WHEN start_time <= now() OR charged_units > 0 THEN 'STOPPED'
+    ELSE 'PENDING'
+  END
+  WHERE status IS NULL;
+
+ALTER TABLE charging_sessions ALTER COLUMN status SET NOT NULL;
+ALTER TABLE charging_sessions ADD CONSTRAINT ck_charging_sessions_status
+  CHECK (status IN ('PENDING', 'CHARGING', 'COMPLETED', 'STOPPED'));
+
+DROP INDEX IF EXISTS idx_charging_sessions_user_status;
+DROP INDEX IF EXISTS idx_charging_sessions_pending_start;
+ALTER TABLE charging_sessions DROP COLUMN is_completed;
+ALTER TABLE charging_sessions DROP COLUMN is_charging;
+
+-- Session listing filters (findSessionDtosWithFilters and the keyset queries)
+CREATE INDEX idx_charging_sessions_user_status ON charging_sessions (user_id, status);
+
+-- Recovery of running sessions and the lease queries
+CREATE INDEX idx_charging_sessions_status ON charging_sessions (status);
+
+-- Reservations waiting to start, read by the reservation scheduler and
+-- claimDueReservations; only this small set is indexed
+CREATE INDEX idx_charging_sessions_pending_start
+  ON charging_sessions (start_time)
+  WHERE status = 'PENDING' AND is_reserved = true;
@@ -313,13 +313,13 @@ For more information, see https://radix-ui.com/primitives/docs/components/${t.do
 `)}getSetCookie(){return this.get("set-cookie")||[]}get[Symbol.toStringTag](){return"AxiosHeaders"}static from(t){return t instanceof this?t:new this(t)}static concat(t,...n){const r=new this(t);return n.forEach(s=>r.set(s)),r}static accessor(t){const r=(this[KC]=this[KC]={accessors:{}}).accessors,s=this.prototype;function o(c){const u=qu(c);r[u]||(F9(s,c),r[u]=!0)}return ue.isArray(t)?t.forEach(o):o(t),this}};Br.accessor(["Content-Type","Content-Length","Accept","Accept-Encoding","User-Agent","Authorization"]);ue.reduceDescriptors(Br.prototype,({value:e},t)=>{let n=t[0].toUpperCase()+t.slice(1);return{get:()=>e,set(r){this[n]=r}}});ue.freezeMethods(Br);function Gy(e,t){const n=this||rf,r=t||n,s=Br.from(r.headers);let o=r.data;return ue.forEach(e,function(u){o=u.call(n,o,s.normalize(),t?t.status:void 0)}),s.normalize(),o}function ID(e){return!!(e&&e.__CANCEL__)}function kc(e,t,n){dt.call(this,e??"canceled",dt.ERR_CANCELED,t,n),this.name="CanceledError"}ue.inherits(kc,dt,{__CANCEL__:!0});function HD(e,t,n){const r=n.config.validateStatus;!n.status||!r||r(n.status)?e(n):t(new dt("Request failed with status code "+n.status,[dt.ERR_BAD_REQUEST,dt.ERR_BAD_RESPONSE][Math.floor(n.status/100)-4],n.config,n.request,n))}function I9(e){const t=/^([-+\w]{1,25})(:?\/\/|:)/.exec(e);return t&&t[1]||""}function H9(e,t){e=e||10;const n=new Array(e),r=new Array(e);let s=0,o=0,c;return t=t!==void 0?t:1e3,function(f){const h=Date.now(),m=r[o];c||(c=h),n[s]=f,r[s]=h;let p=o,b=0;for(;p!==s;)b+=n[p++],p=p%e;if(s=(s+1)%e,s===o&&(o=(o+1)%e),h-c<t)return;const w=m&&h-m;return w?Math.round(b*1e3/w):void 0}}function $9(e,t){let n=0,r=1e3/t,s,o;const c=(h,m=Date.now())=>{n=m,s=null,o&&(clearTimeout(o),o=null),e.apply(null,h)};return[(...h)=>{const m=Date.now(),p=m-n;p>=r?c(h,m):(s=h,o||(o=setTimeout(()=>{o=null,c(s)},r-p)))},()=>s&&c(s)]}const pm=(e,t,n=3)=>{let r=0;const s=H9(50,250);return $9(o=>{const c=o.loaded,u=o.lengthComputable?o.total:void 0,f=c-r,h=s(f),m=c<=u;r=c;const p={loaded:c,total:u,progress:u?c/u:void 0,bytes:f,rate:h||void 0,estimated:h&&u&&m?(u-c)/h:void 0,event:o,lengthComputable:u!=null,[t?"download":"upload"]:!0};e(p)},n)},ZC=(e,t)=>{const n=e!=null;return[r=>t[0]({lengthComputable:n,total:e,loaded:r}),t[1]]},XC=e=>(...t)=>ue.asap(()=>e(...t)),q9=dr.hasStandardBrowserEnv?((e,t)=>n=>(n=new URL(n,dr.origin),e.protocol===n.protocol&&e.host===n.host&&(t||e.port===n.port)))(new URL(dr.origin),dr.navigator&&/(msie|trident)/i.test(dr.navigator.userAgent)):()=>!0,Y9=dr.hasStandardBrowserEnv?{write(e,t,n,r,s,o){const c=[e+"="+encodeURIComponent(t)];ue.isNumber(n)&&c.push("expires="+new Date(n).toGMTString()),ue.isString(r)&&c.push("path="+r),ue.isString(s)&&c.push("domain="+s),o===!0&&c.push("secure"),document.cookie=c.join("; ")},read(e){const t=document.cookie.match(new RegExp("(^|;\\s*)("+e+")=([^;]*)"));return t?decodeURIComponent(t[3]):null},remove(e){this.write(e,"",Date.now()-864e5)}}:{write(){},read(){return null},remove(){}};function G9(e){return/^([a-z][a-z\d+\-.]*:)?\/\//i.test(e)}function W9(e,t){return t?e.replace(/\/?\/$/,"")+"/"+t.replace(/^\/+/,""):e}function $D(e,t,n){let r=!G9(t);return e&&(r||n==!1)?W9(e,t):t}const QC=e=>e instanceof Br?{...e}:e;function qo(e,t){t=t||{};const n={};function r(h,m,p,b){return ue.isPlainObject(h)&&ue.isPlainObject(m)?ue.merge.call({caseless:b},h,m):ue.isPlainObject(m)?ue.merge({},m):ue.isArray(m)?m.slice():m}function s(h,m,p,b){if(ue.isUndefined(m)){if(!ue.isUndefined(h))return r(void 0,h,p,b)}else return r(h,m,p,b)}function o(h,m){if(!ue.isUndefined(m))return r(void 0,m)}function c(h,m){if(ue.isUndefined(m)){if(!ue.isUndefined(h))return r(void 0,h)}else return r(void 0,m)}function u(h,m,p){if(p in t)return r(h,m);if(p in e)return r(void 0,h)}const f={url:o,method:o,data:o,baseURL:c,transformRequest:c,transformResponse:c,paramsSerializer:c,timeout:c,timeoutMessage:c,withCredentials:c,withXSRFToken:c,adapter:c,responseType:c,xsrfCookieName:c,xsrfHeaderName:c,onUploadProgress:c,onDownloadProgress:c,decompress:c,maxContentLength:c,maxBodyLength:c,beforeRedirect:c,transport:c,httpAgent:c,httpsAgent:c,cancelToken:c,socketPath:c,responseEncoding:c,validateStatus:u,headers:(h,m,p)=>s(QC(h),QC(m),p,!0)};return ue.forEach(Object.keys(Object.assign({},e,t)),function(m){const p=f[m]||s,b=p(e[m],t[m],m);ue.isUndefined(b)&&p!==u||(n[m]=b)}),n}const qD=e=>{const t=qo({},e);let{data:n,withXSRFToken:r,xsrfHeaderName:s,xsrfCookieName:o,headers:c,auth:u}=t;t.headers=c=Br.from(c),t.url=BD($D(t.baseURL,t.url,t.allowAbsoluteUrls),e.params,e.paramsSerializer),u&&c.set("Authorization","Basic "+btoa((u.username||"")+":"+(u.password?unescape(encodeURIComponent(u.password)):"")));let f;if(ue.isFormData(n)){if(dr.hasStandardBrowserEnv||dr.hasStandardBrowserWebWorkerEnv)c.setContentType(void 0);else if((f=c.getContentType())!==!1){const[h,...m]=f?f.split(";").map(p=>p.trim()).filter(Boolean):[];c.setContentType([h||"multipart/form-data",...m].join("; "))}}if(dr.hasStandardBrowserEnv&&(r&&ue.isFunction(r)&&(r=r(t)),r||r!==!1&&q9(t.url))){const h=s&&o&&Y9.read(o);h&&c.set(s,h)}return t},K9=typeof XMLHttpRequest<"u",Z9=K9&&function(e){return new Promise(function(n,r){const s=qD(e);let o=s.data;const c=Br.from(s.headers).normalize();let{responseType:u,onUploadProgress:f,onDownloadProgress:h}=s,m,p,b,w,S;function E(){w&&w(),S&&S(),s.cancelToken&&s.cancelToken.unsubscribe(m),s.signal&&s.signal.removeEventListener("abort",m)}let C=new XMLHttpRequest;C.open(s.method.toUpperCase(),s.url,!0),C.timeout=s.timeout;function T(){if(!C)return;const A=Br.from("getAllResponseHeaders"in C&&C.getAllResponseHeaders()),R={data:!u||u==="text"||u==="json"?C.responseText:C.response,status:C.status,statusText:C.statusText,headers:A,config:e,request:C};HD(function(L){n(L),E()},function(L){r(L),E()},R),C=null}"onloadend"in C?C.onloadend=T:C.onreadystatechange=function(){!C||C.readyState!==4||C.status===0&&!(C.responseURL&&C.responseURL.indexOf("file:")===0)||setTimeout(T)},C.onabort=function(){C&&(r(new dt("Request aborted",dt.ECONNABORTED,e,C)),C=null)},C.onerror=function(){r(new dt("Network Error",dt.ERR_NETWORK,e,C)),C=null},C.ontimeout=function(){let O=s.timeout?"timeout of "+s.timeout+"ms exceeded":"timeout exceeded";const R=s.transitional||UD;s.timeoutErrorMessage&&(O=s.timeoutErrorMessage),r(new dt(O,R.clarifyTimeoutError?dt.ETIMEDOUT:dt.ECONNABORTED,e,C)),C=null},o===void 0&&c.setContentType(null),"setRequestHeader"in C&&ue.forEach(c.toJSON(),function(O,R){C.setRequestHeader(R,O)}),ue.isUndefined(s.withCredentials)||(C.withCredentials=!!s.withCredentials),u&&u!=="json"&&(C.responseType=s.responseType),h&&([b,S]=pm(h,!0),C.addEventListener("progress",b)),f&&C.upload&&([p,w]=pm(f),C.upload.addEventListener("progress",p),C.upload.addEventListener("loadend",w)),(s.cancelToken||s.signal)&&(m=A=>{C&&(r(!A||A.type?new kc(null,e,C):A),C.abort(),C=null)},s.cancelToken&&s.cancelToken.subscribe(m),s.signal&&(s.signal.aborted?m():s.signal.addEventListener("abort",m)));const _=I9(s.url);if(_&&dr.protocols.indexOf(_)===-1){r(new dt("Unsupported protocol "+_+":",dt.ERR_BAD_REQUEST,e));return}C.send(o||null)})},X9=(e,t)=>{const{length:n}=e=e?e.filter(Boolean):[];if(t||n){let r=new AbortController,s;const o=function(h){if(!s){s=!0,u();const m=h instanceof Error?h:this.reason;r.abort(m instanceof dt?m:new kc(m instanceof Error?m.message:m))}};let c=t&&setTimeout(()=>{c=null,o(new dt(`timeout ${t} of ms exceeded`,dt.ETIMEDOUT))},t);const u=()=>{e&&(c&&clearTimeout(c),c=null,e.forEach(h=>{h.unsubscribe?h.unsubscribe(o):h.removeEventListener("abort",o)}),e=null)};e.forEach(h=>h.addEventListener("abort",o));const{signal:f}=r;return f.unsubscribe=()=>ue.asap(u),f}},Q9=function*(e,t){let n=e.byteLength;if(n<t){yield e;return}let r=0,s;for(;r<n;)s=r+t,yield e.slice(r,s),r=s},J9=async function*(e,t){for await(const n of e8(e))yield*Q9(n,t)},e8=async function*(e){if(e[Symbol.asyncIterator]){yield*e;return}const t=e.getReader();try{for(;;){const{done:n,value:r}=await t.read();if(n)break;yield r}}finally{await t.cancel()}},JC=(e,t,n,r)=>{const s=J9(e,t);let o=0,c,u=f=>{c||(c=!0,r&&r(f))};return new ReadableStream({async pull(f){try{const{done:h,value:m}=await s.next();if(h){u(),f.close();return}let p=m.byteLength;if(n){let b=o+=p;n(b)}f.enqueue(new Uint8Array(m))}catch(h){throw u(h),h}},cancel(f){return u(f),s.return()}},{highWaterMark:2})},rp=typeof fetch=="function"&&typeof Request=="function"&&typeof Response=="function",YD=rp&&typeof ReadableStream=="function",t8=rp&&(typeof TextEncoder=="function"?(e=>t=>e.encode(t))(new TextEncoder):async e=>new Uint8Array(await new Response(e).arrayBuffer())),GD=(e,...t)=>{try{return!!e(...t)}catch{return!1}},n8=YD&&GD(()=>{let e=!1;const t=new Request(dr.origin,{body:new ReadableStream,method:"POST",get duplex(){return e=!0,"half"}}).headers.has("Content-Type");return e&&!t}),eT=64*1024,Zv=YD&&GD(()=>ue.isReadableStream(new Response("").body)),gm={stream:Zv&&(e=>e.body)};rp&&(e=>{["text","arrayBuffer","blob","formData","stream"].forEach(t=>{!gm[t]&&(gm[t]=ue.isFunction(e[t])?n=>n[t]():(n,r)=>{throw new dt(`Response type '${t}' is not supported`,dt.ERR_NOT_SUPPORT,r)})})})(new Response);const r8=async e=>{if(e==null)return 0;if(ue.isBlob(e))return e.size;if(ue.isSpecCompliantForm(e))return(await new Request(dr.origin,{method:"POST",body:e}).arrayBuffer()).byteLength;if(ue.isArrayBufferView(e)||ue.isArrayBuffer(e))return e.byteLength;if(ue.isURLSearchParams(e)&&(e=e+""),ue.isString(e))return(await t8(e)).byteLength},a8=async(e,t)=>{const n=ue.toFiniteNumber(e.getContentLength());return n??r8(t)},s8=rp&&(async e=>{let{url:t,method:n,data:r,signal:s,cancelToken:o,timeout:c,onDownloadProgress:u,onUploadProgress:f,responseType:h,headers:m,withCredentials:p="same-origin",fetchOptions:b}=qD(e);h=h?(h+"").toLowerCase():"text";let w=X9([s,o&&o.toAbortSignal()],c),S;const E=w&&w.unsubscribe&&(()=>{w.unsubscribe()});let C;try{if(f&&n8&&n!=="get"&&n!=="head"&&(C=await a8(m,r))!==0){let R=new Request(t,{method:"POST",body:r,duplex:"half"}),D;if(ue.isFormData(r)&&(D=R.headers.get("content-type"))&&m.setContentType(D),R.body){const[L,k]=ZC(C,pm(XC(f)));r=JC(R.body,eT,L,k)}}ue.isString(p)||(p=p?"include":"omit");const T="credentials"in Request.prototype;S=new Request(t,{...b,signal:w,method:n.toUpperCase(),headers:m.normalize().toJSON(),body:r,duplex:"half",credentials:T?p:void 0});let _=await fetch(S);const A=Zv&&(h==="stream"||h==="response");if(Zv&&(u||A&&E)){const R={};["status","statusText","headers"].forEach(H=>{R[H]=_[H]});const D=ue.toFiniteNumber(_.headers.get("content-length")),[L,k]=u&&ZC(D,pm(XC(u),!0))||[];_=new Response(JC(_.body,eT,L,()=>{k&&k(),E&&E()}),R)}h=h||"text";let O=await gm[ue.findKey(gm,h)||"text"](_,e);return!A&&E&&E(),await new Promise((R,D)=>{HD(R,D,{data:O,headers:Br.from(_.headers),status:_.status,statusText:_.statusText,config:e,request:S})})}catch(T){throw E&&E(),T&&T.name==="TypeError"&&/Load failed|fetch/i.test(T.message)?Object.assign(new dt("Network Error",dt.ERR_NETWORK,e,S),{cause:T.cause||T}):dt.from(T,T&&T.code,e,S)}}),Xv={http:x9,xhr:Z9,fetch:s8};ue.forEach(Xv,(e,t)=>{if(e){try{Object.defineProperty(e,"name",{value:t})}catch{}Object.defineProperty(e,"adapterName",{value:t})}});const tT=e=>`- ${e}`,i8=e=>ue.isFunction(e)||e===null||e===!1,WD={getAdapter:e=>{e=ue.isArray(e)?e:[e];const{length:t}=e;let n,r;const s={};for(let o=0;o<t;o++){n=e[o];let c;if(r=n,!i8(n)&&(r=Xv[(c=String(n)).toLowerCase()],r===void 0))throw new dt(`Unknown adapter '${c}'`);if(r)break;s[c||"#"+o]=r}if(!r){const o=Object.entries(s).map(([u,f])=>`adapter ${u} `+(f===!1?"is not supported by the environment":"is not available in the build"));let c=t?o.length>1?`since :
 `+o.map(tT).join(`
 `):" "+tT(o[0]):"as no adapter specified";throw new dt("There is no suitable adapter to dispatch the request "+c,"ERR_NOT_SUPPORT")}return r},adapters:Xv};function Wy(e){if(e.cancelToken&&e.cancelToken.throwIfRequested(),e.signal&&e.signal.aborted)throw new kc(null,e)}function nT(e){return Wy(e),e.headers=Br.from(e.headers),e.data=Gy.call(e,e.transformRequest),["post","put","patch"].indexOf(e.method)!==-1&&e.headers.setContentType("application/x-www-form-urlencoded",!1),WD.getAdapter(e.adapter||rf.adapter)(e).then(function(r){return Wy(e),r.data=Gy.call(e,e.transformResponse,r),r.headers=Br.from(r.headers),r},function(r){return ID(r)||(Wy(e),r&&r.response&&(r.response.data=Gy.call(e,e.transformResponse,r.response),r.response.headers=Br.from(r.response.headers))),Promise.reject(r)})}const KD="1.9.0",ap={};["object","boolean","number","function","string","symbol"].forEach((e,t)=>{ap[e]=function(r){return typeof r===e||"a"+(t<1?"n ":" ")+e}});const rT={};ap.transitional=function(t,n,r){function s(o,c){return"[Axios v"+KD+"] Transitional option '"+o+"'"+c+(r?". "+r:"")}return(o,c,u)=>{if(t===!1)throw new dt(s(c," has been removed"+(n?" in "+n:"")),dt.ERR_DEPRECATED);return n&&!rT[c]&&(rT[c]=!0,console.warn(s(c," has been deprecated since v"+n+" and will be removed in the near future"))),t?t(o,c,u):!0}};ap.spelling=function(t){return(n,r)=>(console.warn(`${r} is likely a misspelling of ${t}`),!0)};function o8(e,t,n){if(typeof e!="object")throw new dt("options must be an object",dt.ERR_BAD_OPTION_VALUE);const r=Object.keys(e);let s=r.length;for(;s-- >0;){const o=r[s],c=t[o];if(c){const u=e[o],f=u===void 0||c(u,o,e);if(f!==!0)throw new dt("option "+o+" must be "+f,dt.ERR_BAD_OPTION_VALUE);continue}if(n!==!0)throw new dt("Unknown option "+o,dt.ERR_BAD_OPTION)}}const Zh={assertOptions:o8,validators:ap},Ya=Zh.validators;let Bo=class{constructor(t){this.defaults=t||{},this.interceptors={request:new WC,response:new WC}}async request(t,n){try{return await this._request(t,n)}catch(r){if(r instanceof Error){let s={};Error.captureStackTrace?Error.captureStackTrace(s):s=new Error;const o=s.stack?s.stack.replace(/^.+\n/,""):"";try{r.stack?o&&!String(r.stack).endsWith(o.replace(/^.+\n.+\n/,""))&&(r.stack+=`
-`+o):r.stack=o}catch{}}throw r}}_request(t,n){typeof t=="string"?(n=n||{},n.url=t):n=t||{},n=qo(this.defaults,n);const{transitional:r,paramsSerializer:s,headers:o}=n;r!==void 0&&Zh.assertOptions(r,{silentJSONParsing:Ya.transitional(Ya.boolean),forcedJSONParsing:Ya.transitional(Ya.boolean),clarifyTimeoutError:Ya.transitional(Ya.boolean)},!1),s!=null&&(ue.isFunction(s)?n.paramsSerializer={serialize:s}:Zh.assertOptions(s,{encode:Ya.function,serialize:Ya.function},!0)),n.allowAbsoluteUrls!==void 0||(this.defaults.allowAbsoluteUrls!==void 0?n.allowAbsoluteUrls=this.defaults.allowAbsoluteUrls:n.allowAbsoluteUrls=!0),Zh.assertOptions(n,{baseUrl:Ya.spelling("baseURL"),withXsrfToken:Ya.spelling("withXSRFToken")},!0),n.method=(n.method||this.defaults.method||"get").toLowerCase();let c=o&&ue.merge(o.common,o[n.method]);o&&ue.forEach(["delete","get","head","post","put","patch","common"],S=>{delete o[S]}),n.headers=Br.concat(c,o);const u=[];let f=!0;this.interceptors.request.forEach(function(E){typeof E.runWhen=="function"&&E.runWhen(n)===!1||(f=f&&E.synchronous,u.unshift(E.fulfilled,E.rejected))});const h=[];this.interceptors.response.forEach(function(E){h.push(E.fulfilled,E.rejected)});let m,p=0,b;if(!f){const S=[nT.bind(this),void 0];for(S.unshift.apply(S,u),S.push.apply(S,h),b=S.length,m=Promise.resolve(n);p<b;)m=m.then(S[p++],S[p++]);return m}b=u.length;let w=n;for(p=0;p<b;){const S=u[p++],E=u[p++];try{w=S(w)}catch(C){E.call(this,C);break}}try{m=nT.call(this,w)}catch(S){return Promise.reject(S)}for(p=0,b=h.length;p<b;)m=m.then(h[p++],h[p++]);return m}getUri(t){t=qo(this.defaults,t);const n=$D(t.baseURL,t.url,t.allowAbsoluteUrls);return BD(n,t.params,t.paramsSerializer)}};ue.forEach(["delete","get","head","options"],function(t){Bo.prototype[t]=function(n,r){return this.request(qo(r||{},{method:t,url:n,data:(r||{}).data}))}});ue.forEach(["post","put","patch"],function(t){function n(r){return function(o,c,u){return this.request(qo(u||{},{method:t,headers:r?{"Content-Type":"multipart/form-data"}:{},url:o,data:c}))}}Bo.prototype[t]=n(),Bo.prototype[t+"Form"]=n(!0)});let l8=class ZD{constructor(t){if(typeof t!="function")throw new TypeError("executor must be a function.");let n;this.promise=new Promise(function(o){n=o});const r=this;this.promise.then(s=>{if(!r._listeners)return;let o=r._listeners.length;for(;o-- >0;)r._listeners[o](s);r._listeners=null}),this.promise.then=s=>{let o;const c=new Promise(u=>{r.subscribe(u),o=u}).then(s);return c.cancel=function(){r.unsubscribe(o)},c},t(function(o,c,u){r.reason||(r.reason=new kc(o,c,u),n(r.reason))})}throwIfRequested(){if(this.reason)throw this.reason}subscribe(t){if(this.reason){t(this.reason);return}this._listeners?this._listeners.push(t):this._listeners=[t]}unsubscribe(t){if(!this._listeners)return;const n=this._listeners.indexOf(t);n!==-1&&this._listeners.splice(n,1)}toAbortSignal(){const t=new AbortController,n=r=>{t.abort(r)};return this.subscribe(n),t.signal.unsubscribe=()=>this.unsubscribe(n),t.signal}static source(){let t;return{token:new ZD(function(s){t=s}),cancel:t}}};function c8(e){return function(n){return e.apply(null,n)}}function u8(e){return ue.isObject(e)&&e.isAxiosError===!0}const Qv={Continue:100,SwitchingProtocols:101,Processing:102,EarlyHints:103,Ok:200,Created:201,Accepted:202,NonAuthoritativeInformation:203,NoContent:204,ResetContent:205,PartialContent:206,MultiStatus:207,AlreadyReported:208,ImUsed:226,MultipleChoices:300,MovedPermanently:301,Found:302,SeeOther:303,NotModified:304,UseProxy:305,Unused:306,TemporaryRedirect:307,PermanentRedirect:308,BadRequest:400,Unauthorized:401,PaymentRequired:402,Forbidden:403,NotFound:404,MethodNotAllowed:405,NotAcceptable:406,ProxyAuthenticationRequired:407,RequestTimeout:408,Conflict:409,Gone:410,LengthRequired:411,PreconditionFailed:412,PayloadTooLarge:413,UriTooLong:414,UnsupportedMediaType:415,RangeNotSatisfiable:416,ExpectationFailed:417,ImATeapot:418,MisdirectedRequest:421,UnprocessableEntity:422,Locked:423,FailedDependency:424,TooEarly:425,UpgradeRequired:426,PreconditionRequired:428,TooManyRequests:429,RequestHeaderFieldsTooLarge:431,UnavailableForLegalReasons:451,InternalServerError:500,NotImplemented:501,BadGateway:502,ServiceUnavailable:503,GatewayTimeout:504,HttpVersionNotSupported:505,VariantAlsoNegotiates:506,InsufficientStorage:507,LoopDetected:508,NotExtended:510,NetworkAuthenticationRequired:511};Object.entries(Qv).forEach(([e,t])=>{Qv[t]=e});function XD(e){const t=new Bo(e),n=_D(Bo.prototype.request,t);return ue.extend(n,Bo.prototype,t,{allOwnKeys:!0}),ue.extend(n,t,null,{allOwnKeys:!0}),n.create=function(s){return XD(qo(e,s))},n}const _n=XD(rf);_n.Axios=Bo;_n.CanceledError=kc;_n.CancelToken=l8;_n.isCancel=ID;_n.VERSION=KD;_n.toFormData=np;_n.AxiosError=dt;_n.Cancel=_n.CanceledError;_n.all=function(t){return Promise.all(t)};_n.spread=c8;_n.isAxiosError=u8;_n.mergeConfig=qo;_n.AxiosHeaders=Br;_n.formToJSON=e=>FD(ue.isHTMLForm(e)?new FormData(e):e);_n.getAdapter=WD.getAdapter;_n.HttpStatusCode=Qv;_n.default=_n;const{Axios:vQ,AxiosError:bQ,CanceledError:xQ,isCancel:wQ,CancelToken:SQ,VERSION:EQ,all:CQ,Cancel:TQ,isAxiosError:MQ,spread:_Q,toFormData:AQ,AxiosHeaders:RQ,HttpStatusCode:DQ,formToJSON:NQ,getAdapter:OQ,mergeConfig:kQ}=_n,d8="https://ev-reservation.pixcel.org",Tn=_n.create({baseURL:`${d8}/api`,withCredentials:!0,headers:{"Content-Type":"application/json"}}),Ws=()=>{const[e,t]=x.useState(null);return x.useEffect(()=>{Tn.get("/users/me",{withCredentials:!0}).then(n=>t(n.data)).catch(()=>t(null))},[]),e};function QD(){const{setTheme:e}=Wb();return g.jsxs(D0,{children:[g.jsx(N0,{asChild:!0,children:g.jsxs(Ut,{variant:"outline",size:"icon",children:[g.jsx(I5,{className:"size-4 rotate-0 scale-100 transition-all dark:-rotate-90 dark:scale-0"}),g.jsx(N5,{className:"absolute size-4 rotate-90 scale-0 transition-all dark:rotate-0 dark:scale-100"})]})}),g.jsxs(O0,{align:"end",children:[g.jsx(Os,{onClick:()=>e("light"),children:"Light"}),g.jsx(Os,{onClick:()=>e("dark"),children:"Dark"})]})]})}const f8=[{title:"Dashboard",url:"dashboard",icon:E5},{title:"Vehicles",url:"vehicles",icon:Ps}];function h8(){const e=Gs(),t=Ys(),{theme:n}=Wb(),r=Ws(),s=u=>t.pathname.includes(u);async function o(){const u=await Tn.post("/auth/logout");u.status===200?(En.success("Logout successful!"),e("/")):(En.error("Logout failed. Please try again."),console.error("Logout error:",u.data))}function c(){if(!r){En.error("You must be logged in to view your profile.");return}e("/profile")}return g.jsxs(_6,{children:[g.jsx(R6,{children:g.jsxs("div",{className:"flex items-center gap-2",children:[g.jsx(ts,{className:"text-primary dark:text-sky-300"}),g.jsx("span",{className:"text-sm text-primary dark:text-sky-300 font-semibold",children:"EV Charging Reservation"})]})}),g.jsx(N6,{children:g.jsx(O6,{children:g.jsx(k6,{children:g.jsxs($C,{children:[f8.map(u=>g.jsx($u,{children:g.jsx(Lh,{asChild:!0,className:be({"bg-sky-200/50 dark:bg-sky-950/50":s(u.url)}),children:g.jsxs(Zr,{to:u.url,children:[g.jsx(u.icon,{className:"size-4"}),g.jsx("span",{children:u.title})]})})},u.title)),(r==null?void 0:r.isAdmin)&&g.jsxs(g.Fragment,{children:[g.jsx($u,{children:g.jsx(Lh,{asChild:!0,className:be({"bg-sky-200/50 dark:bg-sky-950/50":s("ev-stations")}),children:g.jsxs(Zr,{to:"ev-stations",children:[g.jsx(xA,{className:"size-4"}),g.jsx("span",{children:"EV Stations"})]})})}),g.jsx($u,{children:g.jsx(Lh,{asChild:!0,className:be({"bg-sky-200/50 dark:bg-sky-950/50":s("monitoring")}),children:g.jsxs(Zr,{to:"monitoring",children:[g.jsx(R5,{className:"size-4"}),g.jsx("span",{children:"Monitoring"})]})})})]})]})})})}),g.jsx(D6,{children:g.jsxs($C,{children:[g.jsxs($u,{className:"flex items-center gap-2",children:[g.jsx(QD,{}),g.jsx("span",{className:"text-sm",children:n==="dark"?"Dark Mode":"Light Mode"})]}),g.jsx($u,{children:g.jsxs(D0,{children:[g.jsx(N0,{asChild:!0,children:g.jsxs(Lh,{children:[g.jsx($5,{})," ",r==null?void 0:r.name,g.jsx(a5,{className:"ml-auto"})]})}),g.jsxs(O0,{side:"top",className:"w-[--radix-popper-anchor-width]",children:[g.jsx(Os,{onSelect:c,children:g.jsx("span",{children:"Account"})}),g.jsx(Os,{onSelect:o,children:g.jsx("span",{children:"Logout"})})]})]})})]})})]})}function m8(){const e=Ws(),n=Ys().pathname,r=n==="/dashboard",s=n.startsWith("/vehicles"),o=n.startsWith("/ev-stations"),c=n.startsWith("/profile"),u=n.startsWith("/monitoring"),f=n.includes("create"),h=n.includes("update"),m=s?"Vehicles":o?"EV Stations":c?"Profile":u&&(e!=null&&e.isAdmin)?"Monitoring":"",p=f?"Create":h?"Update":"";return g.jsxs(M6,{children:[g.jsx(h8,{}),g.jsxs("div",{className:"flex flex-col p-4 w-full space-y-4",children:[g.jsxs("div",{className:"flex items-center gap-4",children:[g.jsx(A6,{}),g.jsx(kV,{children:g.jsxs(jV,{children:[g.jsx(jy,{children:g.jsx(bC,{asChild:!0,children:g.jsx(Zr,{to:"/dashboard",children:"Dashboard"})})}),!r&&m&&g.jsxs(g.Fragment,{children:[g.jsx(xC,{}),g.jsx(jy,{children:g.jsxs(D0,{children:[g.jsx(N0,{className:"flex items-center text-sm font-medium text-muted-foreground hover:text-primary focus:outline-none",children:m}),g.jsxs(O0,{align:"start",children:[e!=null&&e.isAdmin?g.jsxs(g.Fragment,{children:[g.jsx(Os,{asChild:!0,children:g.jsx(Zr,{to:"/ev-stations",children:"EV Stations"})}),g.jsx(Os,{asChild:!0,children:g.jsx(Zr,{to:"/vehicles",children:"Vehicles"})}),g.jsx(Os,{asChild:!0,children:g.jsx(Zr,{to:"/monitoring",children:"Monitoring"})})]}):g.jsx(Os,{asChild:!0,children:g.jsx(Zr,{to:"/vehicles",children:"Vehicles"})}),g.jsx(Os,{asChild:!0,children:g.jsx(Zr,{to:"/profile",children:"Profile"})})]})]})})]}),p&&g.jsxs(g.Fragment,{children:[g.jsx(xC,{}),g.jsx(jy,{children:g.jsx(bC,{asChild:!0,children:g.jsx(Zr,{to:n,children:p})})})]})]})})]}),g.jsx(cA,{})]})]})}var p8="Label",JD=x.forwardRef((e,t)=>g.jsx(Mt.label,{...e,ref:t,onMouseDown:n=>{var s;n.target.closest("button, input, select, textarea")||((s=e.onMouseDown)==null||s.call(e,n),!n.defaultPrevented&&n.detail>1&&n.preventDefault())}}));JD.displayName=p8;var g8=JD,af=e=>e.type==="checkbox",Ao=e=>e instanceof Date,vr=e=>e==null;const eN=e=>typeof e=="object";var Mn=e=>!vr(e)&&!Array.isArray(e)&&eN(e)&&!Ao(e),tN=e=>Mn(e)&&e.target?af(e.target)?e.target.checked:e.target.value:e,y8=e=>e.substring(0,e.search(/\.\d+(\.|$)/))||e,nN=(e,t)=>e.has(y8(t)),v8=e=>{const t=e.constructor&&e.constructor.prototype;return Mn(t)&&t.hasOwnProperty("isPrototypeOf")},G0=typeof window<"u"&&typeof window.HTMLElement<"u"&&typeof document<"u";function nr(e){let t;const n=Array.isArray(e),r=typeof FileList<"u"?e instanceof FileList:!1;if(e instanceof Date)t=new Date(e);else if(e instanceof Set)t=new Set(e);else if(!(G0&&(e instanceof Blob||r))&&(n||Mn(e)))if(t=n?[]:{},!n&&!v8(e))t=e;else for(const s in e)e.hasOwnProperty(s)&&(t[s]=nr(e[s]));else return e;return t}var sp=e=>Array.isArray(e)?e.filter(Boolean):[],Sn=e=>e===void 0,Re=(e,t,n)=>{if(!t||!Mn(e))return n;const r=sp(t.split(/[,[\].]+?/)).reduce((s,o)=>vr(s)?s:s[o],e);return Sn(r)||r===e?Sn(e[t])?n:e[t]:r},Xr=e=>typeof e=="boolean",W0=e=>/^\w*$/.test(e),rN=e=>sp(e.replace(/["|']|\]/g,"").split(/\.|\[/)),Ft=(e,t,n)=>{let r=-1;const s=W0(t)?[t]:rN(t),o=s.length,c=o-1;for(;++r<o;){const u=s[r];let f=n;if(r!==c){const h=e[u];f=Mn(h)||Array.isArray(h)?h:isNaN(+s[r+1])?{}:[]}if(u==="__proto__"||u==="constructor"||u==="prototype")return;e[u]=f,e=e[u]}};const ym={BLUR:"blur",FOCUS_OUT:"focusout",CHANGE:"change"},Na={onBlur:"onBlur",onChange:"onChange",onSubmit:"onSubmit",onTouched:"onTouched",all:"all"},As={max:"max",min:"min",maxLength:"maxLength",minLength:"minLength",pattern:"pattern",required:"required",validate:"validate"},aN=G.createContext(null),ip=()=>G.useContext(aN),b8=e=>{const{children:t,...n}=e;return G.createElement(aN.Provider,{value:n},t)};var sN=(e,t,n,r=!0)=>{const s={defaultValues:t._defaultValues};for(const o in e)Object.defineProperty(s,o,{get:()=>{const c=o;return t._proxyFormState[c]!==Na.all&&(t._proxyFormState[c]=!r||Na.all),n&&(n[c]=!0),e[c]}});return s};const K0=typeof window<"u"?x.useLayoutEffect:x.useEffect;function iN(e){const t=ip(),{control:n=t.control,disabled:r,name:s,exact:o}=e||{},[c,u]=G.useState(n._formState),f=G.useRef({isDirty:!1,isLoading:!1,dirtyFields:!1,touchedFields:!1,validatingFields:!1,isValidating:!1,isValid:!1,errors:!1});return K0(()=>n._subscribe({name:s,formState:f.current,exact:o,callback:h=>{!r&&u({...n._formState,...h})}}),[s,r,o]),G.useEffect(()=>{f.current.isValid&&n._setValid(!0)},[n]),G.useMemo(()=>sN(c,n,f.current,!1),[c,n])}var Qa=e=>typeof e=="string",oN=(e,t,n,r,s)=>Qa(e)?(r&&t.watch.add(e),Re(n,e,s)):Array.isArray(e)?e.map(o=>(r&&t.watch.add(o),Re(n,o))):(r&&(t.watchAll=!0),n);function x8(e){const t=ip(),{control:n=t.control,name:r,defaultValue:s,disabled:o,exact:c}=e||{},u=G.useRef(s),[f,h]=G.useState(n._getWatch(r,u.current));return K0(()=>n._subscribe({name:r,formState:{values:!0},exact:c,callback:m=>!o&&h(oN(r,n._names,m.values||n._formValues,!1,u.current))}),[r,n,o,c]),G.useEffect(()=>n._removeUnmounted()),f}function w8(e){const t=ip(),{name:n,disabled:r,control:s=t.control,shouldUnregister:o}=e,c=nN(s._names.array,n),u=x8({control:s,name:n,defaultValue:Re(s._formValues,n,Re(s._defaultValues,n,e.defaultValue)),exact:!0}),f=iN({control:s,name:n,exact:!0}),h=G.useRef(e),m=G.useRef(s.register(n,{...e.rules,value:u,...Xr(e.disabled)?{disabled:e.disabled}:{}})),p=G.useMemo(()=>Object.defineProperties({},{invalid:{enumerable:!0,get:()=>!!Re(f.errors,n)},isDirty:{enumerable:!0,get:()=>!!Re(f.dirtyFields,n)},isTouched:{enumerable:!0,get:()=>!!Re(f.touchedFields,n)},isValidating:{enumerable:!0,get:()=>!!Re(f.validatingFields,n)},error:{enumerable:!0,get:()=>Re(f.errors,n)}}),[f,n]),b=G.useCallback(C=>m.current.onChange({target:{value:tN(C),name:n},type:ym.CHANGE}),[n]),w=G.useCallback(()=>m.current.onBlur({target:{value:Re(s._formValues,n),name:n},type:ym.BLUR}),[n,s._formValues]),S=G.useCallback(C=>{const T=Re(s._fields,n);T&&C&&(T._f.ref={focus:()=>C.focus(),select:()=>C.select(),setCustomValidity:_=>C.setCustomValidity(_),reportValidity:()=>C.reportValidity()})},[s._fields,n]),E=G.useMemo(()=>({name:n,value:u,...Xr(r)||f.disabled?{disabled:f.disabled||r}:{},onChange:b,onBlur:w,ref:S}),[n,r,f.disabled,b,w,S,u]);return G.useEffect(()=>{const C=s._options.shouldUnregister||o;s.register(n,{...h.current.rules,...Xr(h.current.disabled)?{disabled:h.current.disabled}:{}});const T=(_,A)=>{const O=Re(s._fields,_);O&&O._f&&(O._f.mount=A)};if(T(n,!0),C){const _=nr(Re(s._options.defaultValues,n));Ft(s._defaultValues,n,_),Sn(Re(s._formValues,n))&&Ft(s._formValues,n,_)}return!c&&s.register(n),()=>{(c?C&&!s._state.action:C)?s.unregister(n):T(n,!1)}},[n,s,c,o]),G.useEffect(()=>{s._setDisabledField({disabled:r,name:n})},[r,n,s]),G.useMemo(()=>({field:E,formState:f,fieldState:p}),[E,f,p])}const S8=e=>e.render(w8(e));var lN=(e,t,n,r,s)=>t?{...n[e],types:{...n[e]&&n[e].types?n[e].types:{},[r]:s||!0}}:{},cd=e=>Array.isArray(e)?e:[e],aT=()=>{let e=[];return{get observers(){return e},next:s=>{for(const o of e)o.next&&o.next(s)},subscribe:s=>(e.push(s),{unsubscribe:()=>{e=e.filter(o=>o!==s)}}),unsubscribe:()=>{e=[]}}},Jv=e=>vr(e)||!eN(e);function Oi(e,t){if(Jv(e)||Jv(t))return e===t;if(Ao(e)&&Ao(t))return e.getTime()===t.getTime();const n=Object.keys(e),r=Object.keys(t);if(n.length!==r.length)return!1;for(const s of n){const o=e[s];if(!r.includes(s))return!1;if(s!=="ref"){const c=t[s];if(Ao(o)&&Ao(c)||Mn(o)&&Mn(c)||Array.isArray(o)&&Array.isArray(c)?!Oi(o,c):o!==c)return!1}}return!0}var yr=e=>Mn(e)&&!Object.keys(e).length,Z0=e=>e.type==="file",Oa=e=>typeof e=="function",vm=e=>{if(!G0)return!1;const t=e?e.ownerDocument:0;return e instanceof(t&&t.defaultView?t.defaultView.HTMLElement:HTMLElement)},cN=e=>e.type==="select-multiple",X0=e=>e.type==="radio",E8=e=>X0(e)||af(e),Ky=e=>vm(e)&&e.isConnected;function C8(e,t){const n=t.slice(0,-1).length;let r=0;for(;r<n;)e=Sn(e)?r++:e[t[r++]];return e}function T8(e){for(const t in e)if(e.hasOwnProperty(t)&&!Sn(e[t]))return!1;return!0}function Hn(e,t){const n=Array.isArray(t)?t:W0(t)?[t]:rN(t),r=n.length===1?e:C8(e,n),s=n.length-1,o=n[s];return r&&delete r[o],s!==0&&(Mn(r)&&yr(r)||Array.isArray(r)&&T8(r))&&Hn(e,n.slice(0,-1)),e}var uN=e=>{for(const t in e)if(Oa(e[t]))return!0;return!1};function bm(e,t={}){const n=Array.isArray(e);if(Mn(e)||n)for(const r in e)Array.isArray(e[r])||Mn(e[r])&&!uN(e[r])?(t[r]=Array.isArray(e[r])?[]:{},bm(e[r],t[r])):vr(e[r])||(t[r]=!0);return t}function dN(e,t,n){const r=Array.isArray(e);if(Mn(e)||r)for(const s in e)Array.isArray(e[s])||Mn(e[s])&&!uN(e[s])?Sn(t)||Jv(n[s])?n[s]=Array.isArray(e[s])?bm(e[s],[]):{...bm(e[s])}:dN(e[s],vr(t)?{}:t[s],n[s]):n[s]=!Oi(e[s],t[s]);return n}var Yu=(e,t)=>dN(e,t,bm(t));const sT={value:!1,isValid:!1},iT={value:!0,isValid:!0};var fN=e=>{if(Array.isArray(e)){if(e.length>1){const t=e.filter(n=>n&&n.checked&&!n.disabled).map(n=>n.value);return{value:t,isValid:!!t.length}}return e[0].checked&&!e[0].disabled?e[0].attributes&&!Sn(e[0].attributes.value)?Sn(e[0].value)||e[0].value===""?iT:{value:e[0].value,isValid:!0}:iT:sT}return sT},hN=(e,{valueAsNumber:t,valueAsDate:n,setValueAs:r})=>Sn(e)?e:t?e===""?NaN:e&&+e:n&&Qa(e)?new Date(e):r?r(e):e;const oT={isValid:!1,value:null};var mN=e=>Array.isArray(e)?e.reduce((t,n)=>n&&n.checked&&!n.disabled?{isValid:!0,value:n.value}:t,oT):oT;function lT(e){const t=e.ref;return Z0(t)?t.files:X0(t)?mN(e.refs).value:cN(t)?[...t.selectedOptions].map(({value:n})=>n):af(t)?fN(e.refs).value:hN(Sn(t.value)?e.ref.value:t.value,e)}var M8=(e,t,n,r)=>{const s={};for(const o of e){const c=Re(t,o);c&&Ft(s,o,c._f)}return{criteriaMode:n,names:[...e],fields:s,shouldUseNativeValidation:r}},xm=e=>e instanceof RegExp,Gu=e=>Sn(e)?e:xm(e)?e.source:Mn(e)?xm(e.value)?e.value.source:e.value:e,cT=e=>({isOnSubmit:!e||e===Na.onSubmit,isOnBlur:e===Na.onBlur,isOnChange:e===Na.onChange,isOnAll:e===Na.all,isOnTouch:e===Na.onTouched});const uT="AsyncFunction";var _8=e=>!!e&&!!e.validate&&!!(Oa(e.validate)&&e.validate.constructor.name===uT||Mn(e.validate)&&Object.values(e.validate).find(t=>t.constructor.name===uT)),A8=e=>e.mount&&(e.required||e.min||e.max||e.maxLength||e.minLength||e.pattern||e.validate),dT=(e,t,n)=>!n&&(t.watchAll||t.watch.has(e)||[...t.watch].some(r=>e.startsWith(r)&&/^\.\w+/.test(e.slice(r.length))));const ud=(e,t,n,r)=>{for(const s of n||Object.keys(e)){const o=Re(e,s);if(o){const{_f:c,...u}=o;if(c){if(c.refs&&c.refs[0]&&t(c.refs[0],s)&&!r)return!0;if(c.ref&&t(c.ref,c.name)&&!r)return!0;if(ud(u,t))break}else if(Mn(u)&&ud(u,t))break}}};function fT(e,t,n){const r=Re(e,n);if(r||W0(n))return{error:r,name:n};const s=n.split(".");for(;s.length;){const o=s.join("."),c=Re(t,o),u=Re(e,o);if(c&&!Array.isArray(c)&&n!==o)return{name:n};if(u&&u.type)return{name:o,error:u};s.pop()}return{name:n}}var R8=(e,t,n,r)=>{n(e);const{name:s,...o}=e;return yr(o)||Object.keys(o).length>=Object.keys(t).length||Object.keys(o).find(c=>t[c]===(!r||Na.all))},D8=(e,t,n)=>!e||!t||e===t||cd(e).some(r=>r&&(n?r===t:r.startsWith(t)||t.startsWith(r))),N8=(e,t,n,r,s)=>s.isOnAll?!1:!n&&s.isOnTouch?!(t||e):(n?r.isOnBlur:s.isOnBlur)?!e:(n?r.isOnChange:s.isOnChange)?e:!0,O8=(e,t)=>!sp(Re(e,t)).length&&Hn(e,t),k8=(e,t,n)=>{const r=cd(Re(e,n));return Ft(r,"root",t[n]),Ft(e,n,r),e},Xh=e=>Qa(e);function hT(e,t,n="validate"){if(Xh(e)||Array.isArray(e)&&e.every(Xh)||Xr(e)&&!e)return{type:n,message:Xh(e)?e:"",ref:t}}var Vl=e=>Mn(e)&&!xm(e)?e:{value:e,message:""},mT=async(e,t,n,r,s,o)=>{const{ref:c,refs:u,required:f,maxLength:h,minLength:m,min:p,max:b,pattern:w,validate:S,name:E,valueAsNumber:C,mount:T}=e._f,_=Re(n,E);if(!T||t.has(E))return{};const A=u?u[0]:c,O=ce=>{s&&A.reportValidity&&(A.setCustomValidity(Xr(ce)?"":ce||""),A.reportValidity())},R={},D=X0(c),L=af(c),k=D||L,H=(C||Z0(c))&&Sn(c.value)&&Sn(_)||vm(c)&&c.value===""||_===""||Array.isArray(_)&&!_.length,X=lN.bind(null,E,r,R),oe=(ce,de,Q,fe=As.maxLength,P=As.minLength)=>{const K=ce?de:Q;R[E]={type:ce?fe:P,message:K,ref:c,...X(ce?fe:P,K)}};if(o?!Array.isArray(_)||!_.length:f&&(!k&&(H||vr(_))||Xr(_)&&!_||L&&!fN(u).isValid||D&&!mN(u).isValid)){const{value:ce,message:de}=Xh(f)?{value:!!f,message:f}:Vl(f);if(ce&&(R[E]={type:As.required,message:de,ref:A,...X(As.required,de)},!r))return O(de),R}if(!H&&(!vr(p)||!vr(b))){let ce,de;const Q=Vl(b),fe=Vl(p);if(!vr(_)&&!isNaN(_)){const P=c.valueAsNumber||_&&+_;vr(Q.value)||(ce=P>Q.value),vr(fe.value)||(de=P<fe.value)}else{const P=c.valueAsDate||new Date(_),K=j=>new Date(new Date().toDateString()+" "+j),I=c.type=="time",J=c.type=="week";Qa(Q.value)&&_&&(ce=I?K(_)>K(Q.value):J?_>Q.value:P>new Date(Q.value)),Qa(fe.value)&&_&&(de=I?K(_)<K(fe.value):J?_<fe.value:P<new Date(fe.value))}if((ce||de)&&(oe(!!ce,Q.message,fe.message,As.max,As.min),!r))return O(R[E].message),R}if((h||m)&&!H&&(Qa(_)||o&&Array.isArray(_))){const ce=Vl(h),de=Vl(m),Q=!vr(ce.value)&&_.length>+ce.value,fe=!vr(de.value)&&_.length<+de.value;if((Q||fe)&&(oe(Q,ce.message,de.message),!r))return O(R[E].message),R}if(w&&!H&&Qa(_)){const{value:ce,message:de}=Vl(w);if(xm(ce)&&!_.match(ce)&&(R[E]={type:As.pattern,message:de,ref:c,...X(As.pattern,de)},!r))return O(de),R}if(S){if(Oa(S)){const ce=await S(_,n),de=hT(ce,A);if(de&&(R[E]={...de,...X(As.validate,de.message)},!r))return O(de.message),R}else if(Mn(S)){let ce={};for(const de in S){if(!yr(ce)&&!r)break;const Q=hT(await S[de](_,n),A,de);Q&&(ce={...Q,...X(de,Q.message)},O(Q.message),r&&(R[E]=ce))}if(!yr(ce)&&(R[E]={ref:A,...ce},!r))return R}}return O(!0),R};const j8={mode:Na.onSubmit,reValidateMode:Na.onChange,shouldFocusError:!0};function P8(e={}){let t={...j8,...e},n={submitCount:0,isDirty:!1,isReady:!1,isLoading:Oa(t.defaultValues),isValidating:!1,isSubmitted:!1,isSubmitting:!1,isSubmitSuccessful:!1,isValid:!1,touchedFields:{},dirtyFields:{},validatingFields:{},errors:t.errors||{},disabled:t.disabled||!1};const r={};let s=Mn(t.defaultValues)||Mn(t.values)?nr(t.defaultValues||t.values)||{}:{},o=t.shouldUnregister?{}:nr(s),c={action:!1,mount:!1,watch:!1},u={mount:new Set,disabled:new Set,unMount:new Set,array:new Set,watch:new Set},f,h=0;const m={isDirty:!1,dirtyFields:!1,validatingFields:!1,touchedFields:!1,isValidating:!1,isValid:!1,errors:!1};let p={...m};const b={array:aT(),state:aT()},w=t.criteriaMode===Na.all,S=z=>ee=>{clearTimeout(h),h=setTimeout(z,ee)},E=async z=>{if(!t.disabled&&(m.isValid||p.isValid||z)){const ee=t.resolver?yr((await L()).errors):await H(r,!0);ee!==n.isValid&&b.state.next({isValid:ee})}},C=(z,ee)=>{!t.disabled&&(m.isValidating||m.validatingFields||p.isValidating||p.validatingFields)&&((z||Array.from(u.mount)).forEach(se=>{se&&(ee?Ft(n.validatingFields,se,ee):Hn(n.validatingFields,se))}),b.state.next({validatingFields:n.validatingFields,isValidating:!yr(n.validatingFields)}))},T=(z,ee=[],se,Ee,Ce=!0,we=!0)=>{if(Ee&&se&&!t.disabled){if(c.action=!0,we&&Array.isArray(Re(r,z))){const Ae=se(Re(r,z),Ee.argA,Ee.argB);Ce&&Ft(r,z,Ae)}if(we&&Array.isArray(Re(n.errors,z))){const Ae=se(Re(n.errors,z),Ee.argA,Ee.argB);Ce&&Ft(n.errors,z,Ae),O8(n.errors,z)}if((m.touchedFields||p.touchedFields)&&we&&Array.isArray(Re(n.touchedFields,z))){const Ae=se(Re(n.touchedFields,z),Ee.argA,Ee.argB);Ce&&Ft(n.touchedFields,z,Ae)}(m.dirtyFields||p.dirtyFields)&&(n.dirtyFields=Yu(s,o)),b.state.next({name:z,isDirty:oe(z,ee),dirtyFields:n.dirtyFields,errors:n.errors,isValid:n.isValid})}else Ft(o,z,ee)},_=(z,ee)=>{Ft(n.errors,z,ee),b.state.next({errors:n.errors})},A=z=>{n.errors=z,b.state.next({errors:n.errors,isValid:!1})},O=(z,ee,se,Ee)=>{const Ce=Re(r,z);if(Ce){const we=Re(o,z,Sn(se)?Re(s,z):se);Sn(we)||Ee&&Ee.defaultChecked||ee?Ft(o,z,ee?we:lT(Ce._f)):Q(z,we),c.mount&&E()}},R=(z,ee,se,Ee,Ce)=>{let we=!1,Ae=!1;const Be={name:z};if(!t.disabled){if(!se||Ee){(m.isDirty||p.isDirty)&&(Ae=n.isDirty,n.isDirty=Be.isDirty=oe(),we=Ae!==Be.isDirty);const lt=Oi(Re(s,z),ee);Ae=!!Re(n.dirtyFields,z),lt?Hn(n.dirtyFields,z):Ft(n.dirtyFields,z,!0),Be.dirtyFields=n.dirtyFields,we=we||(m.dirtyFields||p.dirtyFields)&&Ae!==!lt}if(se){const lt=Re(n.touchedFields,z);lt||(Ft(n.touchedFields,z,se),Be.touchedFields=n.touchedFields,we=we||(m.touchedFields||p.touchedFields)&&lt!==se)}we&&Ce&&b.state.next(Be)}return we?Be:{}},D=(z,ee,se,Ee)=>{const Ce=Re(n.errors,z),we=(m.isValid||p.isValid)&&Xr(ee)&&n.isValid!==ee;if(t.delayError&&se?(f=S(()=>_(z,se)),f(t.delayError)):(clearTimeout(h),f=null,se?Ft(n.errors,z,se):Hn(n.errors,z)),(se?!Oi(Ce,se):Ce)||!yr(Ee)||we){const Ae={...Ee,...we&&Xr(ee)?{isValid:ee}:{},errors:n.errors,name:z};n={...n,...Ae},b.state.next(Ae)}},L=async z=>{C(z,!0);const ee=await t.resolver(o,t.context,M8(z||u.mount,r,t.criteriaMode,t.shouldUseNativeValidation));return C(z),ee},k=async z=>{const{errors:ee}=await L(z);if(z)for(const se of z){const Ee=Re(ee,se);Ee?Ft(n.errors,se,Ee):Hn(n.errors,se)}else n.errors=ee;return ee},H=async(z,ee,se={valid:!0})=>{for(const Ee in z){const Ce=z[Ee];if(Ce){const{_f:we,...Ae}=Ce;if(we){const Be=u.array.has(we.name),lt=Ce._f&&_8(Ce._f);lt&&m.validatingFields&&C([Ee],!0);const pt=await mT(Ce,u.disabled,o,w,t.shouldUseNativeValidation&&!ee,Be);if(lt&&m.validatingFields&&C([Ee]),pt[we.name]&&(se.valid=!1,ee))break;!ee&&(Re(pt,we.name)?Be?k8(n.errors,pt,we.name):Ft(n.errors,we.name,pt[we.name]):Hn(n.errors,we.name))}!yr(Ae)&&await H(Ae,ee,se)}}return se.valid},X=()=>{for(const z of u.unMount){const ee=Re(r,z);ee&&(ee._f.refs?ee._f.refs.every(se=>!Ky(se)):!Ky(ee._f.ref))&&Se(z)}u.unMount=new Set},oe=(z,ee)=>!t.disabled&&(z&&ee&&Ft(o,z,ee),!Oi(j(),s)),ce=(z,ee,se)=>oN(z,u,{...c.mount?o:Sn(ee)?s:Qa(z)?{[z]:ee}:ee},se,ee),de=z=>sp(Re(c.mount?o:s,z,t.shouldUnregister?Re(s,z,[]):[])),Q=(z,ee,se={})=>{const Ee=Re(r,z);let Ce=ee;if(Ee){const we=Ee._f;we&&(!we.disabled&&Ft(o,z,hN(ee,we)),Ce=vm(we.ref)&&vr(ee)?"":ee,cN(we.ref)?[...we.ref.options].forEach(Ae=>Ae.selected=Ce.includes(Ae.value)):we.refs?af(we.ref)?we.refs.forEach(Ae=>{(!Ae.defaultChecked||!Ae.disabled)&&(Array.isArray(Ce)?Ae.checked=!!Ce.find(Be=>Be===Ae.value):Ae.checked=Ce===Ae.value||!!Ce)}):we.refs.forEach(Ae=>Ae.checked=Ae.value===Ce):Z0(we.ref)?we.ref.value="":(we.ref.value=Ce,we.ref.type||b.state.next({name:z,values:nr(o)})))}(se.shouldDirty||se.shouldTouch)&&R(z,Ce,se.shouldTouch,se.shouldDirty,!0),se.shouldValidate&&J(z)},fe=(z,ee,se)=>{for(const Ee in ee){if(!ee.hasOwnProperty(Ee))return;const Ce=ee[Ee],we=`${z}.${Ee}`,Ae=Re(r,we);(u.array.has(z)||Mn(Ce)||Ae&&!Ae._f)&&!Ao(Ce)?fe(we,Ce,se):Q(we,Ce,se)}},P=(z,ee,se={})=>{const Ee=Re(r,z),Ce=u.array.has(z),we=nr(ee);Ft(o,z,we),Ce?(b.array.next({name:z,values:nr(o)}),(m.isDirty||m.dirtyFields||p.isDirty||p.dirtyFields)&&se.shouldDirty&&b.state.next({name:z,dirtyFields:Yu(s,o),isDirty:oe(z,we)})):Ee&&!Ee._f&&!vr(we)?fe(z,we,se):Q(z,we,se),dT(z,u)&&b.state.next({...n}),b.state.next({name:c.mount?z:void 0,values:nr(o)})},K=async z=>{c.mount=!0;const ee=z.target;let se=ee.name,Ee=!0;const Ce=Re(r,se),we=lt=>{Ee=Number.isNaN(lt)||Ao(lt)&&isNaN(lt.getTime())||Oi(lt,Re(o,se,lt))},Ae=cT(t.mode),Be=cT(t.reValidateMode);if(Ce){let lt,pt;const tn=ee.type?lT(Ce._f):tN(z),Gt=z.type===ym.BLUR||z.type===ym.FOCUS_OUT,Bn=!A8(Ce._f)&&!t.resolver&&!Re(n.errors,se)&&!Ce._f.deps||N8(Gt,Re(n.touchedFields,se),n.isSubmitted,Be,Ae),An=dT(se,u,Gt);Ft(o,se,tn),Gt?(Ce._f.onBlur&&Ce._f.onBlur(z),f&&f(0)):Ce._f.onChange&&Ce._f.onChange(z);const Qn=R(se,tn,Gt),Yn=!yr(Qn)||An;if(!Gt&&b.state.next({name:se,type:z.type,values:nr(o)}),Bn)return(m.isValid||p.isValid)&&(t.mode==="onBlur"?Gt&&E():Gt||E()),Yn&&b.state.next({name:se,...An?{}:Qn});if(!Gt&&An&&b.state.next({...n}),t.resolver){const{errors:Gn}=await L([se]);if(we(tn),Ee){const Wn=fT(n.errors,r,se),ar=fT(Gn,r,Wn.name||se);lt=ar.error,se=ar.name,pt=yr(Gn)}}else C([se],!0),lt=(await mT(Ce,u.disabled,o,w,t.shouldUseNativeValidation))[se],C([se]),we(tn),Ee&&(lt?pt=!1:(m.isValid||p.isValid)&&(pt=await H(r,!0)));Ee&&(Ce._f.deps&&J(Ce._f.deps),D(se,pt,lt,Qn))}},I=(z,ee)=>{if(Re(n.errors,ee)&&z.focus)return z.focus(),1},J=async(z,ee={})=>{let se,Ee;const Ce=cd(z);if(t.resolver){const we=await k(Sn(z)?z:Ce);se=yr(we),Ee=z?!Ce.some(Ae=>Re(we,Ae)):se}else z?(Ee=(await Promise.all(Ce.map(async we=>{const Ae=Re(r,we);return await H(Ae&&Ae._f?{[we]:Ae}:Ae)}))).every(Boolean),!(!Ee&&!n.isValid)&&E()):Ee=se=await H(r);return b.state.next({...!Qa(z)||(m.isValid||p.isValid)&&se!==n.isValid?{}:{name:z},...t.resolver||!z?{isValid:se}:{},errors:n.errors}),ee.shouldFocus&&!Ee&&ud(r,I,z?Ce:u.mount),Ee},j=z=>{const ee={...c.mount?o:s};return Sn(z)?ee:Qa(z)?Re(ee,z):z.map(se=>Re(ee,se))},W=(z,ee)=>({invalid:!!Re((ee||n).errors,z),isDirty:!!Re((ee||n).dirtyFields,z),error:Re((ee||n).errors,z),isValidating:!!Re(n.validatingFields,z),isTouched:!!Re((ee||n).touchedFields,z)}),B=z=>{z&&cd(z).forEach(ee=>Hn(n.errors,ee)),b.state.next({errors:z?n.errors:{}})},q=(z,ee,se)=>{const Ee=(Re(r,z,{_f:{}})._f||{}).ref,Ce=Re(n.errors,z)||{},{ref:we,message:Ae,type:Be,...lt}=Ce;Ft(n.errors,z,{...lt,...ee,ref:Ee}),b.state.next({name:z,errors:n.errors,isValid:!1}),se&&se.shouldFocus&&Ee&&Ee.focus&&Ee.focus()},le=(z,ee)=>Oa(z)?b.state.subscribe({next:se=>z(ce(void 0,ee),se)}):ce(z,ee,!0),ge=z=>b.state.subscribe({next:ee=>{D8(z.name,ee.name,z.exact)&&R8(ee,z.formState||m,At,z.reRenderRoot)&&z.callback({values:{...o},...n,...ee})}}).unsubscribe,he=z=>(c.mount=!0,p={...p,...z.formState},ge({...z,formState:p})),Se=(z,ee={})=>{for(const se of z?cd(z):u.mount)u.mount.delete(se),u.array.delete(se),ee.keepValue||(Hn(r,se),Hn(o,se)),!ee.keepError&&Hn(n.errors,se),!ee.keepDirty&&Hn(n.dirtyFields,se),!ee.keepTouched&&Hn(n.touchedFields,se),!ee.keepIsValidating&&Hn(n.validatingFields,se),!t.shouldUnregister&&!ee.keepDefaultValue&&Hn(s,se);b.state.next({values:nr(o)}),b.state.next({...n,...ee.keepDirty?{isDirty:oe()}:{}}),!ee.keepIsValid&&E()},_e=({disabled:z,name:ee})=>{(Xr(z)&&c.mount||z||u.disabled.has(ee))&&(z?u.disabled.add(ee):u.disabled.delete(ee))},ke=(z,ee={})=>{let se=Re(r,z);const Ee=Xr(ee.disabled)||Xr(t.disabled);return Ft(r,z,{...se||{},_f:{...se&&se._f?se._f:{ref:{name:z}},name:z,mount:!0,...ee}}),u.mount.add(z),se?_e({disabled:Xr(ee.disabled)?ee.disabled:t.disabled,name:z}):O(z,!0,ee.value),{...Ee?{disabled:ee.disabled||t.disabled}:{},...t.progressive?{required:!!ee.required,min:Gu(ee.min),max:Gu(ee.max),minLength:Gu(ee.minLength),maxLength:Gu(ee.maxLength),pattern:Gu(ee.pattern)}:{},name:z,onChange:K,onBlur:K,ref:Ce=>{if(Ce){ke(z,ee),se=Re(r,z);const we=Sn(Ce.value)&&Ce.querySelectorAll&&Ce.querySelectorAll("input,select,textarea")[0]||Ce,Ae=E8(we),Be=se._f.refs||[];if(Ae?Be.find(lt=>lt===we):we===se._f.ref)return;Ft(r,z,{_f:{...se._f,...Ae?{refs:[...Be.filter(Ky),we,...Array.isArray(Re(s,z))?[{}]:[]],ref:{type:we.type,name:z}}:{ref:we}}}),O(z,!1,void 0,we)}else se=Re(r,z,{}),se._f&&(se._f.mount=!1),(t.shouldUnregister||ee.shouldUnregister)&&!(nN(u.array,z)&&c.action)&&u.unMount.add(z)}}},Fe=()=>t.shouldFocusError&&ud(r,I,u.mount),nt=z=>{Xr(z)&&(b.state.next({disabled:z}),ud(r,(ee,se)=>{const Ee=Re(r,se);Ee&&(ee.disabled=Ee._f.disabled||z,Array.isArray(Ee._f.refs)&&Ee._f.refs.forEach(Ce=>{Ce.disabled=Ee._f.disabled||z}))},0,!1))},Me=(z,ee)=>async se=>{let Ee;se&&(se.preventDefault&&se.preventDefault(),se.persist&&se.persist());let Ce=nr(o);if(b.state.next({isSubmitting:!0}),t.resolver){const{errors:we,values:Ae}=await L();n.errors=we,Ce=Ae}else await H(r);if(u.disabled.size)for(const we of u.disabled)Ft(Ce,we,void 0);if(Hn(n.errors,"root"),yr(n.errors)){b.state.next({errors:{}});try{await z(Ce,se)}catch(we){Ee=we}}else ee&&await ee({...n.errors},se),Fe(),setTimeout(Fe);if(b.state.next({isSubmitted:!0,isSubmitting:!1,isSubmitSuccessful:yr(n.errors)&&!Ee,submitCount:n.submitCount+1,errors:n.errors}),Ee)throw Ee},ct=(z,ee={})=>{Re(r,z)&&(Sn(ee.defaultValue)?P(z,nr(Re(s,z))):(P(z,ee.defaultValue),Ft(s,z,nr(ee.defaultValue))),ee.keepTouched||Hn(n.touchedFields,z),ee.keepDirty||(Hn(n.dirtyFields,z),n.isDirty=ee.defaultValue?oe(z,nr(Re(s,z))):oe()),ee.keepError||(Hn(n.errors,z),m.isValid&&E()),b.state.next({...n}))},ot=(z,ee={})=>{const se=z?nr(z):s,Ee=nr(se),Ce=yr(z),we=Ce?s:Ee;if(ee.keepDefaultValues||(s=se),!ee.keepValues){if(ee.keepDirtyValues){const Ae=new Set([...u.mount,...Object.keys(Yu(s,o))]);for(const Be of Array.from(Ae))Re(n.dirtyFields,Be)?Ft(we,Be,Re(o,Be)):P(Be,Re(we,Be))}else{if(G0&&Sn(z))for(const Ae of u.mount){const Be=Re(r,Ae);if(Be&&Be._f){const lt=Array.isArray(Be._f.refs)?Be._f.refs[0]:Be._f.ref;if(vm(lt)){const pt=lt.closest("form");if(pt){pt.reset();break}}}}for(const Ae of u.mount)P(Ae,Re(we,Ae))}o=nr(we),b.array.next({values:{...we}}),b.state.next({values:{...we}})}u={mount:ee.keepDirtyValues?u.mount:new Set,unMount:new Set,array:new Set,disabled:new Set,watch:new Set,watchAll:!1,focus:""},c.mount=!m.isValid||!!ee.keepIsValid||!!ee.keepDirtyValues,c.watch=!!t.shouldUnregister,b.state.next({submitCount:ee.keepSubmitCount?n.submitCount:0,isDirty:Ce?!1:ee.keepDirty?n.isDirty:!!(ee.keepDefaultValues&&!Oi(z,s)),isSubmitted:ee.keepIsSubmitted?n.isSubmitted:!1,dirtyFields:Ce?{}:ee.keepDirtyValues?ee.keepDefaultValues&&o?Yu(s,o):n.dirtyFields:ee.keepDefaultValues&&z?Yu(s,z):ee.keepDirty?n.dirtyFields:{},touchedFields:ee.keepTouched?n.touchedFields:{},errors:ee.keepErrors?n.errors:{},isSubmitSuccessful:ee.keepIsSubmitSuccessful?n.isSubmitSuccessful:!1,isSubmitting:!1})},Yt=(z,ee)=>ot(Oa(z)?z(o):z,ee),an=(z,ee={})=>{const se=Re(r,z),Ee=se&&se._f;if(Ee){const Ce=Ee.refs?Ee.refs[0]:Ee.ref;Ce.focus&&(Ce.focus(),ee.shouldSelect&&Oa(Ce.select)&&Ce.select())}},At=z=>{n={...n,...z}},Ot={control:{register:ke,unregister:Se,getFieldState:W,handleSubmit:Me,setError:q,_subscribe:ge,_runSchema:L,_getWatch:ce,_getDirty:oe,_setValid:E,_setFieldArray:T,_setDisabledField:_e,_setErrors:A,_getFieldArray:de,_reset:ot,_resetDefaultValues:()=>Oa(t.defaultValues)&&t.defaultValues().then(z=>{Yt(z,t.resetOptions),b.state.next({isLoading:!1})}),_removeUnmounted:X,_disableForm:nt,_subjects:b,_proxyFormState:m,get _fields(){return r},get _formValues(){return o},get _state(){return c},set _state(z){c=z},get _defaultValues(){return s},get _names(){return u},set _names(z){u=z},get _formState(){return n},get _options(){return t},set _options(z){t={...t,...z}}},subscribe:he,trigger:J,register:ke,handleSubmit:Me,watch:le,setValue:P,getValues:j,reset:Yt,resetField:ct,clearErrors:B,unregister:Se,setError:q,setFocus:an,getFieldState:W};return{...Ot,formControl:Ot}}function jc(e={}){const t=G.useRef(void 0),n=G.useRef(void 0),[r,s]=G.useState({isDirty:!1,isValidating:!1,isLoading:Oa(e.defaultValues),isSubmitted:!1,isSubmitting:!1,isSubmitSuccessful:!1,isValid:!1,submitCount:0,dirtyFields:{},touchedFields:{},validatingFields:{},errors:e.errors||{},disabled:e.disabled||!1,isReady:!1,defaultValues:Oa(e.defaultValues)?void 0:e.defaultValues});t.current||(t.current={...e.formControl?e.formControl:P8(e),formState:r},e.formControl&&e.defaultValues&&!Oa(e.defaultValues)&&e.formControl.reset(e.defaultValues,e.resetOptions));const o=t.current.control;return o._options=e,K0(()=>{const c=o._subscribe({formState:o._proxyFormState,callback:()=>s({...o._formState}),reRenderRoot:!0});return s(u=>({...u,isReady:!0})),o._formState.isReady=!0,c},[o]),G.useEffect(()=>o._disableForm(e.disabled),[o,e.disabled]),G.useEffect(()=>{e.mode&&(o._options.mode=e.mode),e.reValidateMode&&(o._options.reValidateMode=e.reValidateMode),e.errors&&!yr(e.errors)&&o._setErrors(e.errors)},[o,e.errors,e.mode,e.reValidateMode]),G.useEffect(()=>{e.shouldUnregister&&o._subjects.state.next({values:o._getWatch()})},[o,e.shouldUnregister]),G.useEffect(()=>{if(o._proxyFormState.isDirty){const c=o._getDirty();c!==r.isDirty&&o._subjects.state.next({isDirty:c})}},[o,r.isDirty]),G.useEffect(()=>{e.values&&!Oi(e.values,n.current)?(o._reset(e.values,o._options.resetOptions),n.current=e.values,s(c=>({...c}))):o._resetDefaultValues()},[o,e.values]),G.useEffect(()=>{o._state.mount||(o._setValid(),o._state.mount=!0),o._state.watch&&(o._state.watch=!1,o._subjects.state.next({...o._formState})),o._removeUnmounted()}),t.current.formState=sN(r,o),t.current}function eb({className:e,...t}){return g.jsx(g8,{"data-slot":"label",className:be("flex items-center gap-2 text-sm leading-none font-medium select-none group-data-[disabled=true]:pointer-events-none group-data-[disabled=true]:opacity-50 peer-disabled:cursor-not-allowed peer-disabled:opacity-50",e),...t})}const Pc=b8,pN=x.createContext({}),On=({...e})=>g.jsx(pN.Provider,{value:{name:e.name},children:g.jsx(S8,{...e})}),Q0=()=>{const e=x.useContext(pN),t=x.useContext(gN),{getFieldState:n}=ip(),r=iN({name:e.name}),s=n(e.name,r);if(!e)throw new Error("useFormField should be used within <FormField>");const{id:o}=t;return{id:o,name:e.name,formItemId:`${o}-form-item`,formDescriptionId:`${o}-form-item-description`,formMessageId:`${o}-form-item-message`,...s}},gN=x.createContext({});function kn({className:e,...t}){const n=x.useId();return g.jsx(gN.Provider,{value:{id:n},children:g.jsx("div",{"data-slot":"form-item",className:be("grid gap-2",e),...t})})}function jn({className:e,...t}){const{error:n,formItemId:r}=Q0();return g.jsx(eb,{"data-slot":"form-label","data-error":!!n,className:be("data-[error=true]:text-destructive",e),htmlFor:r,...t})}function Pn({...e}){const{error:t,formItemId:n,formDescriptionId:r,formMessageId:s}=Q0();return g.jsx(Cc,{"data-slot":"form-control",id:n,"aria-describedby":t?`${r} ${s}`:`${r}`,"aria-invalid":!!t,...e})}function Ln({className:e,...t}){const{error:n,formMessageId:r}=Q0(),s=n?String((n==null?void 0:n.message)??""):t.children;return s?g.jsx("p",{"data-slot":"form-message",id:r,className:be("text-destructive text-sm",e),...t,children:s}):null}var zt;(function(e){e.assertEqual=s=>{};function t(s){}e.assertIs=t;function n(s){throw new Error}e.assertNever=n,e.arrayToEnum=s=>{const o={};for(const c of s)o[c]=c;return o},e.getValidEnumValues=s=>{const o=e.objectKeys(s).filter(u=>typeof s[s[u]]!="number"),c={};for(const u of o)c[u]=s[u];return e.objectValues(c)},e.objectValues=s=>e.objectKeys(s).map(function(o){return s[o]}),e.objectKeys=typeof Object.keys=="function"?s=>Object.keys(s):s=>{const o=[];for(const c in s)Object.prototype.hasOwnProperty.call(s,c)&&o.push(c);return o},e.find=(s,o)=>{for(const c of s)if(o(c))return c},e.isInteger=typeof Number.isInteger=="function"?s=>Number.isInteger(s):s=>typeof s=="number"&&Number.isFinite(s)&&Math.floor(s)===s;function r(s,o=" | "){return s.map(c=>typeof c=="string"?`'${c}'`:c).join(o)}e.joinValues=r,e.jsonStringifyReplacer=(s,o)=>typeof o=="bigint"?o.toString():o})(zt||(zt={}));var pT;(function(e){e.mergeShapes=(t,n)=>({...t,...n})})(pT||(pT={}));const ze=zt.arrayToEnum(["string","nan","number","integer","float","boolean","date","bigint","symbol","function","undefined","null","array","object","unknown","promise","void","never","map","set"]),Di=e=>{switch(typeof e){case"undefined":return ze.undefined;case"string":return ze.string;case"number":return Number.isNaN(e)?ze.nan:ze.number;case"boolean":return ze.boolean;case"function":return ze.function;case"bigint":return ze.bigint;case"symbol":return ze.symbol;case"object":return Array.isArray(e)?ze.array:e===null?ze.null:e.then&&typeof e.then=="function"&&e.catch&&typeof e.catch=="function"?ze.promise:typeof Map<"u"&&e instanceof Map?ze.map:typeof Set<"u"&&e instanceof Set?ze.set:typeof Date<"u"&&e instanceof Date?ze.date:ze.object;default:return ze.unknown}},Te=zt.arrayToEnum(["invalid_type","invalid_literal","custom","invalid_union","invalid_union_discriminator","invalid_enum_value","unrecognized_keys","invalid_arguments","invalid_return_type","invalid_date","invalid_string","too_small","too_big","invalid_intersection_types","not_multiple_of","not_finite"]);class Is extends Error{get errors(){return this.issues}constructor(t){super(),this.issues=[],this.addIssue=r=>{this.issues=[...this.issues,r]},this.addIssues=(r=[])=>{this.issues=[...this.issues,...r]};const n=new.target.prototype;Object.setPrototypeOf?Object.setPrototypeOf(this,n):this.__proto__=n,this.name="ZodError",this.issues=t}format(t){const n=t||function(o){return o.message},r={_errors:[]},s=o=>{for(const c of o.issues)if(c.code==="invalid_union")c.unionErrors.map(s);else if(c.code==="invalid_return_type")s(c.returnTypeError);else if(c.code==="invalid_arguments")s(c.argumentsError);else if(c.path.length===0)r._errors.push(n(c));else{let u=r,f=0;for(;f<c.path.length;){const h=c.path[f];f===c.path.length-1?(u[h]=u[h]||{_errors:[]},u[h]._errors.push(n(c))):u[h]=u[h]||{_errors:[]},u=u[h],f++}}};return s(this),r}static assert(t){if(!(t instanceof Is))throw new Error(`Not a ZodError: ${t}`)}toString(){return this.message}get message(){return JSON.stringify(this.issues,zt.jsonStringifyReplacer,2)}get isEmpty(){return this.issues.length===0}flatten(t=n=>n.message){const n={},r=[];for(const s of this.issues)s.path.length>0?(n[s.path[0]]=n[s.path[0]]||[],n[s.path[0]].push(t(s))):r.push(t(s));return{formErrors:r,fieldErrors:n}}get formErrors(){return this.flatten()}}Is.create=e=>new Is(e);const tb=(e,t)=>{let n;switch(e.code){case Te.invalid_type:e.received===ze.undefined?n="Required":n=`Expected ${e.expected}, received ${e.received}`;break;case Te.invalid_literal:n=`Invalid literal value, expected ${JSON.stringify(e.expected,zt.jsonStringifyReplacer)}`;break;case Te.unrecognized_keys:n=`Unrecognized key(s) in object: ${zt.joinValues(e.keys,", ")}`;break;case Te.invalid_union:n="Invalid input";break;case Te.invalid_union_discriminator:n=`Invalid discriminator value. Expected ${zt.joinValues(e.options)}`;break;case Te.invalid_enum_value:n=`Invalid enum value. Expected ${zt.joinValues(e.options)}, received '${e.received}'`;break;case Te.invalid_arguments:n="Invalid function arguments";break;case Te.invalid_return_type:n="Invalid function return type";break;case Te.invalid_date:n="Invalid date";break;case Te.invalid_string:typeof e.validation=="object"?"includes"in e.validation?(n=`Invalid input: must include "${e.validation.includes}"`,typeof e.validation.position=="number"&&(n=`${n} at one or more positions greater than or equal to ${e.validation.position}`)):"startsWith"in e.validation?n=`Invalid input: must start with "${e.validation.startsWith}"`:"endsWith"in e.validation?n=`Invalid input: must end with "${e.validation.endsWith}"`:zt.assertNever(e.validation):e.validation!=="regex"?n=`Invalid ${e.validation}`:n="Invalid";break;case Te.too_small:e.type==="array"?n=`Array must contain ${e.exact?"exactly":e.inclusive?"at least":"more than"} ${e.minimum} element(s)`:e.type==="string"?n=`String must contain ${e.exact?"exactly":e.inclusive?"at least":"over"} ${e.minimum} character(s)`:e.type==="number"?n=`Number must be ${e.exact?"exactly equal to ":e.inclusive?"greater than or equal to ":"greater than "}${e.minimum}`:e.type==="date"?n=`Date must be ${e.exact?"exactly equal to ":e.inclusive?"greater than or equal to ":"greater than "}${new Date(Number(e.minimum))}`:n="Invalid input";break;case Te.too_big:e.type==="array"?n=`Array must contain ${e.exact?"exactly":e.inclusive?"at most":"less than"} ${e.maximum} element(s)`:e.type==="string"?n=`String must contain ${e.exact?"exactly":e.inclusive?"at most":"under"} ${e.maximum} character(s)`:e.type==="number"?n=`Number must be ${e.exact?"exactly":e.inclusive?"less than or equal to":"less than"} ${e.maximum}`:e.type==="bigint"?n=`BigInt must be ${e.exact?"exactly":e.inclusive?"less than or equal to":"less than"} ${e.maximum}`:e.type==="date"?n=`Date must be ${e.exact?"exactly":e.inclusive?"smaller than or equal to":"smaller than"} ${new Date(Number(e.maximum))}`:n="Invalid input";break;case Te.custom:n="Invalid input";break;case Te.invalid_intersection_types:n="Intersection results could not be merged";break;case Te.not_multiple_of:n=`Number must be a multiple of ${e.multipleOf}`;break;case Te.not_finite:n="Number must be finite";break;default:n=t.defaultError,zt.assertNever(e)}return{message:n}};let L8=tb;function V8(){return L8}const z8=e=>{const{data:t,path:n,errorMaps:r,issueData:s}=e,o=[...n,...s.path||[]],c={...s,path:o};if(s.message!==void 0)return{...s,path:o,message:s.message};let u="";const f=r.filter(h=>!!h).slice().reverse();for(const h of f)u=h(c,{data:t,defaultError:u}).message;return{...s,path:o,message:u}};function Oe(e,t){const n=V8(),r=z8({issueData:t,data:e.data,path:e.path,errorMaps:[e.common.contextualErrorMap,e.schemaErrorMap,n,n===tb?void 0:tb].filter(s=>!!s)});e.common.issues.push(r)}class na{constructor(){this.value="valid"}dirty(){this.value==="valid"&&(this.value="dirty")}abort(){this.value!=="aborted"&&(this.value="aborted")}static mergeArray(t,n){const r=[];for(const s of n){if(s.status==="aborted")return ft;s.status==="dirty"&&t.dirty(),r.push(s.value)}return{status:t.value,value:r}}static async mergeObjectAsync(t,n){const r=[];for(const s of n){const o=await s.key,c=await s.value;r.push({key:o,value:c})}return na.mergeObjectSync(t,r)}static mergeObjectSync(t,n){const r={};for(const s of n){const{key:o,value:c}=s;if(o.status==="aborted"||c.status==="aborted")return ft;o.status==="dirty"&&t.dirty(),c.status==="dirty"&&t.dirty(),o.value!=="__proto__"&&(typeof c.value<"u"||s.alwaysSet)&&(r[o.value]=c.value)}return{status:t.value,value:r}}}const ft=Object.freeze({status:"aborted"}),nd=e=>({status:"dirty",value:e}),wa=e=>({status:"valid",value:e}),gT=e=>e.status==="aborted",yT=e=>e.status==="dirty",mc=e=>e.status==="valid",wm=e=>typeof Promise<"u"&&e instanceof Promise;var Ue;(function(e){e.errToObj=t=>typeof t=="string"?{message:t}:t||{},e.toString=t=>typeof t=="string"?t:t==null?void 0:t.message})(Ue||(Ue={}));var Sm=function(e,t,n,r){if(n==="a"&&!r)throw new TypeError("Private accessor was defined without a getter");if(typeof t=="function"?e!==t||!r:!t.has(e))throw new TypeError("Cannot read private member from an object whose class did not declare it");return n==="m"?r:n==="a"?r.call(e):r?r.value:t.get(e)},yN=function(e,t,n,r,s){if(r==="m")throw new TypeError("Private method is not writable");if(r==="a"&&!s)throw new TypeError("Private accessor was defined without a setter");if(typeof t=="function"?e!==t||!s:!t.has(e))throw new TypeError("Cannot write private member to an object whose class did not declare it");return r==="a"?s.call(e,n):s?s.value=n:t.set(e,n),n},rd,ad;class Ki{constructor(t,n,r,s){this._cachedPath=[],this.parent=t,this.data=n,this._path=r,this._key=s}get path(){return this._cachedPath.length||(Array.isArray(this._key)?this._cachedPath.push(...this._path,...this._key):this._cachedPath.push(...this._path,this._key)),this._cachedPath}}const vT=(e,t)=>{if(mc(t))return{success:!0,data:t.value};if(!e.common.issues.length)throw new Error("Validation failed but no issues detected.");return{success:!1,get error(){if(this._error)return this._error;const n=new Is(e.common.issues);return this._error=n,this._error}}};function St(e){if(!e)return{};const{errorMap:t,invalid_type_error:n,required_error:r,description:s}=e;if(t&&(n||r))throw new Error(`Can't use "invalid_type_error" or "required_error" in conjunction with custom error map.`);return t?{errorMap:t,description:s}:{errorMap:(c,u)=>{const{message:f}=e;return c.code==="invalid_enum_value"?{message:f??u.defaultError}:typeof u.data>"u"?{message:f??r??u.defaultError}:c.code!=="invalid_type"?{message:u.defaultError}:{message:f??n??u.defaultError}},description:s}}class Pt{get description(){return this._def.description}_getType(t){return Di(t.data)}_getOrReturnCtx(t,n){return n||{common:t.parent.common,data:t.data,parsedType:Di(t.data),schemaErrorMap:this._def.errorMap,path:t.path,parent:t.parent}}_processInputParams(t){return{status:new na,ctx:{common:t.parent.common,data:t.data,parsedType:Di(t.data),schemaErrorMap:this._def.errorMap,path:t.path,parent:t.parent}}}_parseSync(t){const n=this._parse(t);if(wm(n))throw new Error("Synchronous parse encountered promise.");return n}_parseAsync(t){const n=this._parse(t);return Promise.resolve(n)}parse(t,n){const r=this.safeParse(t,n);if(r.success)return r.data;throw r.error}safeParse(t,n){const r={common:{issues:[],async:(n==null?void 0:n.async)??!1,contextualErrorMap:n==null?void 0:n.errorMap},path:(n==null?void 0:n.path)||[],schemaErrorMap:this._def.errorMap,parent:null,data:t,parsedType:Di(t)},s=this._parseSync({data:t,path:r.path,parent:r});return vT(r,s)}"~validate"(t){var r,s;const n={common:{issues:[],async:!!this["~standard"].async},path:[],schemaErrorMap:this._def.errorMap,parent:null,data:t,parsedType:Di(t)};if(!this["~standard"].async)try{const o=this._parseSync({data:t,path:[],parent:n});return mc(o)?{value:o.value}:{issues:n.common.issues}}catch(o){(s=(r=o==null?void 0:o.message)==null?void 0:r.toLowerCase())!=null&&s.includes("encountered")&&(this["~standard"].async=!0),n.common={issues:[],async:!0}}return this._parseAsync({data:t,path:[],parent:n}).then(o=>mc(o)?{value:o.value}:{issues:n.common.issues})}async parseAsync(t,n){const r=await this.safeParseAsync(t,n);if(r.success)return r.data;throw r.error}async safeParseAsync(t,n){const r={common:{issues:[],contextualErrorMap:n==null?void 0:n.errorMap,async:!0},path:(n==null?void 0:n.path)||[],schemaErrorMap:this._def.errorMap,parent:null,data:t,parsedType:Di(t)},s=this._parse({data:t,path:r.path,parent:r}),o=await(wm(s)?s:Promise.resolve(s));return vT(r,o)}refine(t,n){const r=s=>typeof n=="string"||typeof n>"u"?{message:n}:typeof n=="function"?n(s):n;return this._refinement((s,o)=>{const c=t(s),u=()=>o.addIssue({code:Te.custom,...r(s)});return typeof Promise<"u"&&c instanceof Promise?c.then(f=>f?!0:(u(),!1)):c?!0:(u(),!1)})}refinement(t,n){return this._refinement((r,s)=>t(r)?!0:(s.addIssue(typeof n=="function"?n(r,s):n),!1))}_refinement(t){return new yc({schema:this,typeName:ut.ZodEffects,effect:{type:"refinement",refinement:t}})}superRefine(t){return this._refinement(t)}constructor(t){this.spa=this.safeParseAsync,this._def=t,this.parse=this.parse.bind(this),this.safeParse=this.safeParse.bind(this),this.parseAsync=this.parseAsync.bind(this),this.safeParseAsync=this.safeParseAsync.bind(this),this.spa=this.spa.bind(this),this.refine=this.refine.bind(this),this.refinement=this.refinement.bind(this),this.superRefine=this.superRefine.bind(this),this.optional=this.optional.bind(this),this.nullable=this.nullable.bind(this),this.nullish=this.nullish.bind(this),this.array=this.array.bind(this),this.promise=this.promise.bind(this),this.or=this.or.bind(this),this.and=this.and.bind(this),this.transform=this.transform.bind(this),this.brand=this.brand.bind(this),this.default=this.default.bind(this),this.catch=this.catch.bind(this),this.describe=this.describe.bind(this),this.pipe=this.pipe.bind(this),this.readonly=this.readonly.bind(this),this.isNullable=this.isNullable.bind(this),this.isOptional=this.isOptional.bind(this),this["~standard"]={version:1,vendor:"zod",validate:n=>this["~validate"](n)}}optional(){return $i.create(this,this._def)}nullable(){return vc.create(this,this._def)}nullish(){return this.nullable().optional()}array(){return rs.create(this)}promise(){return Mm.create(this,this._def)}or(t){return Cm.create([this,t],this._def)}and(t){return Tm.create(this,t,this._def)}transform(t){return new yc({...St(this._def),schema:this,typeName:ut.ZodEffects,effect:{type:"transform",transform:t}})}default(t){const n=typeof t=="function"?t:()=>t;return new rb({...St(this._def),innerType:this,defaultValue:n,typeName:ut.ZodDefault})}brand(){return new oI({typeName:ut.ZodBranded,type:this,...St(this._def)})}catch(t){const n=typeof t=="function"?t:()=>t;return new ab({...St(this._def),innerType:this,catchValue:n,typeName:ut.ZodCatch})}describe(t){const n=this.constructor;return new n({...this._def,description:t})}pipe(t){return J0.create(this,t)}readonly(){return sb.create(this)}isOptional(){return this.safeParse(void 0).success}isNullable(){return this.safeParse(null).success}}const B8=/^c[^\s-]{8,}$/i,U8=/^[0-9a-z]+$/,F8=/^[0-9A-HJKMNP-TV-Z]{26}$/i,I8=/^[0-9a-fA-F]{8}\b-[0-9a-fA-F]{4}\b-[0-9a-fA-F]{4}\b-[0-9a-fA-F]{4}\b-[0-9a-fA-F]{12}$/i,H8=/^[a-z0-9_-]{21}$/i,$8=/^[A-Za-z0-9-_]+\.[A-Za-z0-9-_]+\.[A-Za-z0-9-_]*$/,q8=/^[-+]?P(?!$)(?:(?:[-+]?\d+Y)|(?:[-+]?\d+[.,]\d+Y$))?(?:(?:[-+]?\d+M)|(?:[-+]?\d+[.,]\d+M$))?(?:(?:[-+]?\d+W)|(?:[-+]?\d+[.,]\d+W$))?(?:(?:[-+]?\d+D)|(?:[-+]?\d+[.,]\d+D$))?(?:T(?=[\d+-])(?:(?:[-+]?\d+H)|(?:[-+]?\d+[.,]\d+H$))?(?:(?:[-+]?\d+M)|(?:[-+]?\d+[.,]\d+M$))?(?:[-+]?\d+(?:[.,]\d+)?S)?)??$/,Y8=/^(?!\.)(?!.*\.\.)([A-Z0-9_'+\-\.]*)[A-Z0-9_+-]@([A-Z0-9][A-Z0-9\-]*\.)+[A-Z]{2,}$/i,G8="^(\\p{Extended_Pictographic}|\\p{Emoji_Component})+$";let Zy;const W8=/^(?:(?:25[0-5]|2[0-4][0-9]|1[0-9][0-9]|[1-9][0-9]|[0-9])\.){3}(?:25[0-5]|2[0-4][0-9]|1[0-9][0-9]|[1-9][0-9]|[0-9])$/,K8=/^(?:(?:25[0-5]|2[0-4][0-9]|1[0-9][0-9]|[1-9][0-9]|[0-9])\.){3}(?:25[0-5]|2[0-4][0-9]|1[0-9][0-9]|[1-9][0-9]|[0-9])\/(3[0-2]|[12]?[0-9])$/,Z8=/^(([0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,7}:|([0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,5}(:[0-9a-fA-F]{1,4}){1,2}|([0-9a-fA-F]{1,4}:){1,4}(:[0-9a-fA-F]{1,4}){1,3}|([0-9a-fA-F]{1,4}:){1,3}(:[0-9a-fA-F]{1,4}){1,4}|([0-9a-fA-F]{1,4}:){1,2}(:[0-9a-fA-F]{1,4}){1,5}|[0-9a-fA-F]{1,4}:((:[0-9a-fA-F]{1,4}){1,6})|:((:[0-9a-fA-F]{1,4}){1,7}|:)|fe80:(:[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}|::(ffff(:0{1,4}){0,1}:){0,1}((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])|([0-9a-fA-F]{1,4}:){1,4}:((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9]))$/,X8=/^(([0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,7}:|([0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,5}(:[0-9a-fA-F]{1,4}){1,2}|([0-9a-fA-F]{1,4}:){1,4}(:[0-9a-fA-F]{1,4}){1,3}|([0-9a-fA-F]{1,4}:){1,3}(:[0-9a-fA-F]{1,4}){1,4}|([0-9a-fA-F]{1,4}:){1,2}(:[0-9a-fA-F]{1,4}){1,5}|[0-9a-fA-F]{1,4}:((:[0-9a-fA-F]{1,4}){1,6})|:((:[0-9a-fA-F]{1,4}){1,7}|:)|fe80:(:[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}|::(ffff(:0{1,4}){0,1}:){0,1}((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])|([0-9a-fA-F]{1,4}:){1,4}:((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9]))\/(12[0-8]|1[01][0-9]|[1-9]?[0-9])$/,Q8=/^([0-9a-zA-Z+/]{4})*(([0-9a-zA-Z+/]{2}==)|([0-9a-zA-Z+/]{3}=))?$/,J8=/^([0-9a-zA-Z-_]{4})*(([0-9a-zA-Z-_]{2}(==)?)|([0-9a-zA-Z-_]{3}(=)?))?$/,vN="((\\d\\d[2468][048]|\\d\\d[13579][26]|\\d\\d0[48]|[02468][048]00|[13579][26]00)-02-29|\\d{4}-((0[13578]|1[02])-(0[1-9]|[12]\\d|3[01])|(0[469]|11)-(0[1-9]|[12]\\d|30)|(02)-(0[1-9]|1\\d|2[0-8])))",eI=new RegExp(`^${vN}$`);function bN(e){let t="[0-5]\\d";e.precision?t=`${t}\\.\\d{${e.precision}}`:e.precision==null&&(t=`${t}(\\.\\d+)?`);const n=e.precision?"+":"?";return`([01]\\d|2[0-3]):[0-5]\\d(:${t})${n}`}function tI(e){return new RegExp(`^${bN(e)}$`)}function nI(e){let t=`${vN}T${bN(e)}`;const n=[];return n.push(e.local?"Z?":"Z"),e.offset&&n.push("([+-]\\d{2}:?\\d{2})"),t=`${t}(${n.join("|")})`,new RegExp(`^${t}$`)}function rI(e,t){return!!((t==="v4"||!t)&&W8.test(e)||(t==="v6"||!t)&&Z8.test(e))}function aI(e,t){if(!$8.test(e))return!1;try{const[n]=e.split("."),r=n.replace(/-/g,"+").replace(/_/g,"/").padEnd(n.length+(4-n.length%4)%4,"="),s=JSON.parse(atob(r));return!(typeof s!="object"||s===null||"typ"in s&&(s==null?void 0:s.typ)!=="JWT"||!s.alg||t&&s.alg!==t)}catch{return!1}}function sI(e,t){return!!((t==="v4"||!t)&&K8.test(e)||(t==="v6"||!t)&&X8.test(e))}class Hi extends Pt{_parse(t){if(this._def.coerce&&(t.data=String(t.data)),this._getType(t)!==ze.string){const o=this._getOrReturnCtx(t);return Oe(o,{code:Te.invalid_type,expected:ze.string,received:o.parsedType}),ft}const r=new na;let s;for(const o of this._def.checks)if(o.kind==="min")t.data.length<o.value&&(s=this._getOrReturnCtx(t,s),Oe(s,{code:Te.too_small,minimum:o.value,type:"string",inclusive:!0,exact:!1,message:o.message}),r.dirty());else if(o.kind==="max")t.data.length>o.value&&(s=this._getOrReturnCtx(t,s),Oe(s,{code:Te.too_big,maximum:o.value,type:"string",inclusive:!0,exact:!1,message:o.message}),r.dirty());else if(o.kind==="length"){const c=t.data.length>o.value,u=t.data.length<o.value;(c||u)&&(s=this._getOrReturnCtx(t,s),c?Oe(s,{code:Te.too_big,maximum:o.value,type:"string",inclusive:!0,exact:!0,message:o.message}):u&&Oe(s,{code:Te.too_small,minimum:o.value,type:"string",inclusive:!0,exact:!0,message:o.message}),r.dirty())}else if(o.kind==="email")Y8.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"email",code:Te.invalid_string,message:o.message}),r.dirty());else if(o.kind==="emoji")Zy||(Zy=new RegExp(G8,"u")),Zy.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"emoji",code:Te.invalid_string,message:o.message}),r.dirty());else if(o.kind==="uuid")I8.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"uuid",code:Te.invalid_string,message:o.message}),r.dirty());else if(o.kind==="nanoid")H8.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"nanoid",code:Te.invalid_string,message:o.message}),r.dirty());else if(o.kind==="cuid")B8.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"cuid",code:Te.invalid_string,message:o.message}),r.dirty());else if(o.kind==="cuid2")U8.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"cuid2",code:Te.invalid_string,message:o.message}),r.dirty());else if(o.kind==="ulid")F8.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"ulid",code:Te.invalid_string,message:o.message}),r.dirty());else if(o.kind==="url")try{new URL(t.data)}catch{s=this._getOrReturnCtx(t,s),Oe(s,{validation:"url",code:Te.invalid_string,message:o.message}),r.dirty()}else o.kind==="regex"?(o.regex.lastIndex=0,o.regex.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"regex",code:Te.invalid_string,message:o.message}),r.dirty())):o.kind==="trim"?t.data=t.data.trim():o.kind==="includes"?t.data.includes(o.value,o.position)||(s=this._getOrReturnCtx(t,s),Oe(s,{code:Te.invalid_string,validation:{includes:o.value,position:o.position},message:o.message}),r.dirty()):o.kind==="toLowerCase"?t.data=t.data.toLowerCase():o.kind==="toUpperCase"?t.data=t.data.toUpperCase():o.kind==="startsWith"?t.data.startsWith(o.value)||(s=this._getOrReturnCtx(t,s),Oe(s,{code:Te.invalid_string,validation:{startsWith:o.value},message:o.message}),r.dirty()):o.kind==="endsWith"?t.data.endsWith(o.value)||(s=this._getOrReturnCtx(t,s),Oe(s,{code:Te.invalid_string,validation:{endsWith:o.value},message:o.message}),r.dirty()):o.kind==="datetime"?nI(o).test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{code:Te.invalid_string,validation:"datetime",message:o.message}),r.dirty()):o.kind==="date"?eI.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{code:Te.invalid_string,validation:"date",message:o.message}),r.dirty()):o.kind==="time"?tI(o).test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{code:Te.invalid_string,validation:"time",message:o.message}),r.dirty()):o.kind==="duration"?q8.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"duration",code:Te.invalid_string,message:o.message}),r.dirty()):o.kind==="ip"?rI(t.data,o.version)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"ip",code:Te.invalid_string,message:o.message}),r.dirty()):o.kind==="jwt"?aI(t.data,o.alg)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"jwt",code:Te.invalid_string,message:o.message}),r.dirty()):o.kind==="cidr"?sI(t.data,o.version)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"cidr",code:Te.invalid_string,message:o.message}),r.dirty()):o.kind==="base64"?Q8.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"base64",code:Te.invalid_string,message:o.message}),r.dirty()):o.kind==="base64url"?J8.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"base64url",code:Te.invalid_string,message:o.message}),r.dirty()):zt.assertNever(o);return{status:r.value,value:t.data}}_regex(t,n,r){return this.refinement(s=>t.test(s),{validation:n,code:Te.invalid_string,...Ue.errToObj(r)})}_addCheck(t){return new Hi({...this._def,checks:[...this._def.checks,t]})}email(t){return this._addCheck({kind:"email",...Ue.errToObj(t)})}url(t){return this._addCheck({kind:"url",...Ue.errToObj(t)})}emoji(t){return this._addCheck({kind:"emoji",...Ue.errToObj(t)})}uuid(t){return this._addCheck({kind:"uuid",...Ue.errToObj(t)})}nanoid(t){return this._addCheck({kind:"nanoid",...Ue.errToObj(t)})}cuid(t){return this._addCheck({kind:"cuid",...Ue.errToObj(t)})}cuid2(t){return this._addCheck({kind:"cuid2",...Ue.errToObj(t)})}ulid(t){return this._addCheck({kind:"ulid",...Ue.errToObj(t)})}base64(t){return this._addCheck({kind:"base64",...Ue.errToObj(t)})}base64url(t){return this._addCheck({kind:"base64url",...Ue.errToObj(t)})}jwt(t){return this._addCheck({kind:"jwt",...Ue.errToObj(t)})}ip(t){return this._addCheck({kind:"ip",...Ue.errToObj(t)})}cidr(t){return this._addCheck({kind:"cidr",...Ue.errToObj(t)})}datetime(t){return typeof t=="string"?this._addCheck({kind:"datetime",precision:null,offset:!1,local:!1,message:t}):this._addCheck({kind:"datetime",precision:typeof(t==null?void 0:t.precision)>"u"?null:t==null?void 0:t.precision,offset:(t==null?void 0:t.offset)??!1,local:(t==null?void 0:t.local)??!1,...Ue.errToObj(t==null?void 0:t.message)})}date(t){return this._addCheck({kind:"date",message:t})}time(t){return typeof t=="string"?this._addCheck({kind:"time",precision:null,message:t}):this._addCheck({kind:"time",precision:typeof(t==null?void 0:t.precision)>"u"?null:t==null?void 0:t.precision,...Ue.errToObj(t==null?void 0:t.message)})}duration(t){return this._addCheck({kind:"duration",...Ue.errToObj(t)})}regex(t,n){return this._addCheck({kind:"regex",regex:t,...Ue.errToObj(n)})}includes(t,n){return this._addCheck({kind:"includes",value:t,position:n==null?void 0:n.position,...Ue.errToObj(n==null?void 0:n.message)})}startsWith(t,n){return this._addCheck({kind:"startsWith",value:t,...Ue.errToObj(n)})}endsWith(t,n){return this._addCheck({kind:"endsWith",value:t,...Ue.errToObj(n)})}min(t,n){return this._addCheck({kind:"min",value:t,...Ue.errToObj(n)})}max(t,n){return this._addCheck({kind:"max",value:t,...Ue.errToObj(n)})}length(t,n){return this._addCheck({kind:"length",value:t,...Ue.errToObj(n)})}nonempty(t){return this.min(1,Ue.errToObj(t))}trim(){return new Hi({...this._def,checks:[...this._def.checks,{kind:"trim"}]})}toLowerCase(){return new Hi({...this._def,checks:[...this._def.checks,{kind:"toLowerCase"}]})}toUpperCase(){return new Hi({...this._def,checks:[...this._def.checks,{kind:"toUpperCase"}]})}get isDatetime(){return!!this._def.checks.find(t=>t.kind==="datetime")}get isDate(){return!!this._def.checks.find(t=>t.kind==="date")}get isTime(){return!!this._def.checks.find(t=>t.kind==="time")}get isDuration(){return!!this._def.checks.find(t=>t.kind==="duration")}get isEmail(){return!!this._def.checks.find(t=>t.kind==="email")}get isURL(){return!!this._def.checks.find(t=>t.kind==="url")}get isEmoji(){return!!this._def.checks.find(t=>t.kind==="emoji")}get isUUID(){return!!this._def.checks.find(t=>t.kind==="uuid")}get isNANOID(){return!!this._def.checks.find(t=>t.kind==="nanoid")}get isCUID(){return!!this._def.checks.find(t=>t.kind==="cuid")}get isCUID2(){return!!this._def.checks.find(t=>t.kind==="cuid2")}get isULID(){return!!this._def.checks.find(t=>t.kind==="ulid")}get isIP(){return!!this._def.checks.find(t=>t.kind==="ip")}get isCIDR(){return!!this._def.checks.find(t=>t.kind==="cidr")}get isBase64(){return!!this._def.checks.find(t=>t.kind==="base64")}get isBase64url(){return!!this._def.checks.find(t=>t.kind==="base64url")}get minLength(){let t=null;for(const n of this._def.checks)n.kind==="min"&&(t===null||n.value>t)&&(t=n.value);return t}get maxLength(){let t=null;for(const n of this._def.checks)n.kind==="max"&&(t===null||n.value<t)&&(t=n.value);return t}}Hi.create=e=>new Hi({checks:[],typeName:ut.ZodString,coerce:(e==null?void 0:e.coerce)??!1,...St(e)});function iI(e,t){const n=(e.toString().split(".")[1]||"").length,r=(t.toString().split(".")[1]||"").length,s=n>r?n:r,o=Number.parseInt(e.toFixed(s).replace(".","")),c=Number.parseInt(t.toFixed(s).replace(".",""));return o%c/10**s}class pc extends Pt{constructor(){super(...arguments),this.min=this.gte,this.max=this.lte,this.step=this.multipleOf}_parse(t){if(this._def.coerce&&(t.data=Number(t.data)),this._getType(t)!==ze.number){const o=this._getOrReturnCtx(t);return Oe(o,{code:Te.invalid_type,expected:ze.number,received:o.parsedType}),ft}let r;const s=new na;for(const o of this._def.checks)o.kind==="int"?zt.isInteger(t.data)||(r=this._getOrReturnCtx(t,r),Oe(r,{code:Te.invalid_type,expected:"integer",received:"float",message:o.message}),s.dirty()):o.kind==="min"?(o.inclusive?t.data<o.value:t.data<=o.value)&&(r=this._getOrReturnCtx(t,r),Oe(r,{code:Te.too_small,minimum:o.value,type:"number",inclusive:o.inclusive,exact:!1,message:o.message}),s.dirty()):o.kind==="max"?(o.inclusive?t.data>o.value:t.data>=o.value)&&(r=this._getOrReturnCtx(t,r),Oe(r,{code:Te.too_big,maximum:o.value,type:"number",inclusive:o.inclusive,exact:!1,message:o.message}),s.dirty()):o.kind==="multipleOf"?iI(t.data,o.value)!==0&&(r=this._getOrReturnCtx(t,r),Oe(r,{code:Te.not_multiple_of,multipleOf:o.value,message:o.message}),s.dirty()):o.kind==="finite"?Number.isFinite(t.data)||(r=this._getOrReturnCtx(t,r),Oe(r,{code:Te.not_finite,message:o.message}),s.dirty()):zt.assertNever(o);return{status:s.value,value:t.data}}gte(t,n){return this.setLimit("min",t,!0,Ue.toString(n))}gt(t,n){return this.setLimit("min",t,!1,Ue.toString(n))}lte(t,n){return this.setLimit("max",t,!0,Ue.toString(n))}lt(t,n){return this.setLimit("max",t,!1,Ue.toString(n))}setLimit(t,n,r,s){return new pc({...this._def,checks:[...this._def.checks,{kind:t,value:n,inclusive:r,message:Ue.toString(s)}]})}_addCheck(t){return new pc({...this._def,checks:[...this._def.checks,t]})}int(t){return this._addCheck({kind:"int",message:Ue.toString(t)})}positive(t){return this._addCheck({kind:"min",value:0,inclusive:!1,message:Ue.toString(t)})}negative(t){return this._addCheck({kind:"max",value:0,inclusive:!1,message:Ue.toString(t)})}nonpositive(t){return this._addCheck({kind:"max",value:0,inclusive:!0,message:Ue.toString(t)})}nonnegative(t){return this._addCheck({kind:"min",value:0,inclusive:!0,message:Ue.toString(t)})}multipleOf(t,n){return this._addCheck({kind:"multipleOf",value:t,message:Ue.toString(n)})}finite(t){return this._addCheck({kind:"finite",message:Ue.toString(t)})}safe(t){return this._addCheck({kind:"min",inclusive:!0,value:Number.MIN_SAFE_INTEGER,message:Ue.toString(t)})._addCheck({kind:"max",inclusive:!0,value:Number.MAX_SAFE_INTEGER,message:Ue.toString(t)})}get minValue(){let t=null;for(const n of this._def.checks)n.kind==="min"&&(t===null||n.value>t)&&(t=n.value);return t}get maxValue(){let t=null;for(const n of this._def.checks)n.kind==="max"&&(t===null||n.value<t)&&(t=n.value);return t}get isInt(){return!!this._def.checks.find(t=>t.kind==="int"||t.kind==="multipleOf"&&zt.isInteger(t.value))}get isFinite(){let t=null,n=null;for(const r of this._def.checks){if(r.kind==="finite"||r.kind==="int"||r.kind==="multipleOf")return!0;r.kind==="min"?(n===null||r.value>n)&&(n=r.value):r.kind==="max"&&(t===null||r.value<t)&&(t=r.value)}return Number.isFinite(n)&&Number.isFinite(t)}}pc.create=e=>new pc({checks:[],typeName:ut.ZodNumber,coerce:(e==null?void 0:e.coerce)||!1,...St(e)});class _d extends Pt{constructor(){super(...arguments),this.min=this.gte,this.max=this.lte}_parse(t){if(this._def.coerce)try{t.data=BigInt(t.data)}catch{return this._getInvalidInput(t)}if(this._getType(t)!==ze.bigint)return this._getInvalidInput(t);let r;const s=new na;for(const o of this._def.checks)o.kind==="min"?(o.inclusive?t.data<o.value:t.data<=o.value)&&(r=this._getOrReturnCtx(t,r),Oe(r,{code:Te.too_small,type:"bigint",minimum:o.value,inclusive:o.inclusive,message:o.message}),s.dirty()):o.kind==="max"?(o.inclusive?t.data>o.value:t.data>=o.value)&&(r=this._getOrReturnCtx(t,r),Oe(r,{code:Te.too_big,type:"bigint",maximum:o.value,inclusive:o.inclusive,message:o.message}),s.dirty()):o.kind==="multipleOf"?t.data%o.value!==BigInt(0)&&(r=this._getOrReturnCtx(t,r),Oe(r,{code:Te.not_multiple_of,multipleOf:o.value,message:o.message}),s.dirty()):zt.assertNever(o);return{status:s.value,value:t.data}}_getInvalidInput(t){const n=this._getOrReturnCtx(t);return Oe(n,{code:Te.invalid_type,expected:ze.bigint,received:n.parsedType}),ft}gte(t,n){return this.setLimit("min",t,!0,Ue.toString(n))}gt(t,n){return this.setLimit("min",t,!1,Ue.toString(n))}lte(t,n){return this.setLimit("max",t,!0,Ue.toString(n))}lt(t,n){return this.setLimit("max",t,!1,Ue.toString(n))}setLimit(t,n,r,s){return new _d({...this._def,checks:[...this._def.checks,{kind:t,value:n,inclusive:r,message:Ue.toString(s)}]})}_addCheck(t){return new _d({...this._def,checks:[...this._def.checks,t]})}positive(t){return this._addCheck({kind:"min",value:BigInt(0),inclusive:!1,message:Ue.toString(t)})}negative(t){return this._addCheck({kind:"max",value:BigInt(0),inclusive:!1,message:Ue.toString(t)})}nonpositive(t){return this._addCheck({kind:"max",value:BigInt(0),inclusive:!0,message:Ue.toString(t)})}nonnegative(t){return this._addCheck({kind:"min",value:BigInt(0),inclusive:!0,message:Ue.toString(t)})}multipleOf(t,n){return this._addCheck({kind:"multipleOf",value:t,message:Ue.toString(n)})}get minValue(){let t=null;for(const n of this._def.checks)n.kind==="min"&&(t===null||n.value>t)&&(t=n.value);return t}get maxValue(){let t=null;for(const n of this._def.checks)n.kind==="max"&&(t===null||n.value<t)&&(t=n.value);return t}}_d.create=e=>new _d({checks:[],typeName:ut.ZodBigInt,coerce:(e==null?void 0:e.coerce)??!1,...St(e)});class bT extends Pt{_parse(t){if(this._def.coerce&&(t.data=!!t.data),this._getType(t)!==ze.boolean){const r=this._getOrReturnCtx(t);return Oe(r,{code:Te.invalid_type,expected:ze.boolean,received:r.parsedType}),ft}return wa(t.data)}}bT.create=e=>new bT({typeName:ut.ZodBoolean,coerce:(e==null?void 0:e.coerce)||!1,...St(e)});class Em extends Pt{_parse(t){if(this._def.coerce&&(t.data=new Date(t.data)),this._getType(t)!==ze.date){const o=this._getOrReturnCtx(t);return Oe(o,{code:Te.invalid_type,expected:ze.date,received:o.parsedType}),ft}if(Number.isNaN(t.data.getTime())){const o=this._getOrReturnCtx(t);return Oe(o,{code:Te.invalid_date}),ft}const r=new na;let s;for(const o of this._def.checks)o.kind==="min"?t.data.getTime()<o.value&&(s=this._getOrReturnCtx(t,s),Oe(s,{code:Te.too_small,message:o.message,inclusive:!0,exact:!1,minimum:o.value,type:"date"}),r.dirty()):o.kind==="max"?t.data.getTime()>o.value&&(s=this._getOrReturnCtx(t,s),Oe(s,{code:Te.too_big,message:o.message,inclusive:!0,exact:!1,maximum:o.value,type:"date"}),r.dirty()):zt.assertNever(o);return{status:r.value,value:new Date(t.data.getTime())}}_addCheck(t){return new Em({...this._def,checks:[...this._def.checks,t]})}min(t,n){return this._addCheck({kind:"min",value:t.getTime(),message:Ue.toString(n)})}max(t,n){return this._addCheck({kind:"max",value:t.getTime(),message:Ue.toString(n)})}get minDate(){let t=null;for(const n of this._def.checks)n.kind==="min"&&(t===null||n.value>t)&&(t=n.value);return t!=null?new Date(t):null}get maxDate(){let t=null;for(const n of this._def.checks)n.kind==="max"&&(t===null||n.value<t)&&(t=n.value);return t!=null?new Date(t):null}}Em.create=e=>new Em({checks:[],coerce:(e==null?void 0:e.coerce)||!1,typeName:ut.ZodDate,...St(e)});class xT extends Pt{_parse(t){if(this._getType(t)!==ze.symbol){const r=this._getOrReturnCtx(t);return Oe(r,{code:Te.invalid_type,expected:ze.symbol,received:r.parsedType}),ft}return wa(t.data)}}xT.create=e=>new xT({typeName:ut.ZodSymbol,...St(e)});class wT extends Pt{_parse(t){if(this._getType(t)!==ze.undefined){const r=this._getOrReturnCtx(t);return Oe(r,{code:Te.invalid_type,expected:ze.undefined,received:r.parsedType}),ft}return wa(t.data)}}wT.create=e=>new wT({typeName:ut.ZodUndefined,...St(e)});class ST extends Pt{_parse(t){if(this._getType(t)!==ze.null){const r=this._getOrReturnCtx(t);return Oe(r,{code:Te.invalid_type,expected:ze.null,received:r.parsedType}),ft}return wa(t.data)}}ST.create=e=>new ST({typeName:ut.ZodNull,...St(e)});class ET extends Pt{constructor(){super(...arguments),this._any=!0}_parse(t){return wa(t.data)}}ET.create=e=>new ET({typeName:ut.ZodAny,...St(e)});class CT extends Pt{constructor(){super(...arguments),this._unknown=!0}_parse(t){return wa(t.data)}}CT.create=e=>new CT({typeName:ut.ZodUnknown,...St(e)});class Zi extends Pt{_parse(t){const n=this._getOrReturnCtx(t);return Oe(n,{code:Te.invalid_type,expected:ze.never,received:n.parsedType}),ft}}Zi.create=e=>new Zi({typeName:ut.ZodNever,...St(e)});class TT extends Pt{_parse(t){if(this._getType(t)!==ze.undefined){const r=this._getOrReturnCtx(t);return Oe(r,{code:Te.invalid_type,expected:ze.void,received:r.parsedType}),ft}return wa(t.data)}}TT.create=e=>new TT({typeName:ut.ZodVoid,...St(e)});class rs extends Pt{_parse(t){const{ctx:n,status:r}=this._processInputParams(t),s=this._def;if(n.parsedType!==ze.array)return Oe(n,{code:Te.invalid_type,expected:ze.array,received:n.parsedType}),ft;if(s.exactLength!==null){const c=n.data.length>s.exactLength.value,u=n.data.length<s.exactLength.value;(c||u)&&(Oe(n,{code:c?Te.too_big:Te.too_small,minimum:u?s.exactLength.value:void 0,maximum:c?s.exactLength.value:void 0,type:"array",inclusive:!0,exact:!0,message:s.exactLength.message}),r.dirty())}if(s.minLength!==null&&n.data.length<s.minLength.value&&(Oe(n,{code:Te.too_small,minimum:s.minLength.value,type:"array",inclusive:!0,exact:!1,message:s.minLength.message}),r.dirty()),s.maxLength!==null&&n.data.length>s.maxLength.value&&(Oe(n,{code:Te.too_big,maximum:s.maxLength.value,type:"array",inclusive:!0,exact:!1,message:s.maxLength.message}),r.dirty()),n.common.async)return Promise.all([...n.data].map((c,u)=>s.type._parseAsync(new Ki(n,c,n.path,u)))).then(c=>na.mergeArray(r,c));const o=[...n.data].map((c,u)=>s.type._parseSync(new Ki(n,c,n.path,u)));return na.mergeArray(r,o)}get element(){return this._def.type}min(t,n){return new rs({...this._def,minLength:{value:t,message:Ue.toString(n)}})}max(t,n){return new rs({...this._def,maxLength:{value:t,message:Ue.toString(n)}})}length(t,n){return new rs({...this._def,exactLength:{value:t,message:Ue.toString(n)}})}nonempty(t){return this.min(1,t)}}rs.create=(e,t)=>new rs({type:e,minLength:null,maxLength:null,exactLength:null,typeName:ut.ZodArray,...St(t)});function Ul(e){if(e instanceof Nn){const t={};for(const n in e.shape){const r=e.shape[n];t[n]=$i.create(Ul(r))}return new Nn({...e._def,shape:()=>t})}else return e instanceof rs?new rs({...e._def,type:Ul(e.element)}):e instanceof $i?$i.create(Ul(e.unwrap())):e instanceof vc?vc.create(Ul(e.unwrap())):e instanceof Yo?Yo.create(e.items.map(t=>Ul(t))):e}class Nn extends Pt{constructor(){super(...arguments),this._cached=null,this.nonstrict=this.passthrough,this.augment=this.extend}_getCached(){if(this._cached!==null)return this._cached;const t=this._def.shape(),n=zt.objectKeys(t);return this._cached={shape:t,keys:n},this._cached}_parse(t){if(this._getType(t)!==ze.object){const h=this._getOrReturnCtx(t);return Oe(h,{code:Te.invalid_type,expected:ze.object,received:h.parsedType}),ft}const{status:r,ctx:s}=this._processInputParams(t),{shape:o,keys:c}=this._getCached(),u=[];if(!(this._def.catchall instanceof Zi&&this._def.unknownKeys==="strip"))for(const h in s.data)c.includes(h)||u.push(h);const f=[];for(const h of c){const m=o[h],p=s.data[h];f.push({key:{status:"valid",value:h},value:m._parse(new Ki(s,p,s.path,h)),alwaysSet:h in s.data})}if(this._def.catchall instanceof Zi){const h=this._def.unknownKeys;if(h==="passthrough")for(const m of u)f.push({key:{status:"valid",value:m},value:{status:"valid",value:s.data[m]}});else if(h==="strict")u.length>0&&(Oe(s,{code:Te.unrecognized_keys,keys:u}),r.dirty());else if(h!=="strip")throw new Error("Internal ZodObject error: invalid unknownKeys value.")}else{const h=this._def.catchall;for(const m of u){const p=s.data[m];f.push({key:{status:"valid",value:m},value:h._parse(new Ki(s,p,s.path,m)),alwaysSet:m in s.data})}}return s.common.async?Promise.resolve().then(async()=>{const h=[];for(const m of f){const p=await m.key,b=await m.value;h.push({key:p,value:b,alwaysSet:m.alwaysSet})}return h}).then(h=>na.mergeObjectSync(r,h)):na.mergeObjectSync(r,f)}get shape(){return this._def.shape()}strict(t){return Ue.errToObj,new Nn({...this._def,unknownKeys:"strict",...t!==void 0?{errorMap:(n,r)=>{var o,c;const s=((c=(o=this._def).errorMap)==null?void 0:c.call(o,n,r).message)??r.defaultError;return n.code==="unrecognized_keys"?{message:Ue.errToObj(t).message??s}:{message:s}}}:{}})}strip(){return new Nn({...this._def,unknownKeys:"strip"})}passthrough(){return new Nn({...this._def,unknownKeys:"passthrough"})}extend(t){return new Nn({...this._def,shape:()=>({...this._def.shape(),...t})})}merge(t){return new Nn({unknownKeys:t._def.unknownKeys,catchall:t._def.catchall,shape:()=>({...this._def.shape(),...t._def.shape()}),typeName:ut.ZodObject})}setKey(t,n){return this.augment({[t]:n})}catchall(t){return new Nn({...this._def,catchall:t})}pick(t){const n={};for(const r of zt.objectKeys(t))t[r]&&this.shape[r]&&(n[r]=this.shape[r]);return new Nn({...this._def,shape:()=>n})}omit(t){const n={};for(const r of zt.objectKeys(this.shape))t[r]||(n[r]=this.shape[r]);return new Nn({...this._def,shape:()=>n})}deepPartial(){return Ul(this)}partial(t){const n={};for(const r of zt.objectKeys(this.shape)){const s=this.shape[r];t&&!t[r]?n[r]=s:n[r]=s.optional()}return new Nn({...this._def,shape:()=>n})}required(t){const n={};for(const r of zt.objectKeys(this.shape))if(t&&!t[r])n[r]=this.shape[r];else{let o=this.shape[r];for(;o instanceof $i;)o=o._def.innerType;n[r]=o}return new Nn({...this._def,shape:()=>n})}keyof(){return xN(zt.objectKeys(this.shape))}}Nn.create=(e,t)=>new Nn({shape:()=>e,unknownKeys:"strip",catchall:Zi.create(),typeName:ut.ZodObject,...St(t)});Nn.strictCreate=(e,t)=>new Nn({shape:()=>e,unknownKeys:"strict",catchall:Zi.create(),typeName:ut.ZodObject,...St(t)});Nn.lazycreate=(e,t)=>new Nn({shape:e,unknownKeys:"strip",catchall:Zi.create(),typeName:ut.ZodObject,...St(t)});class Cm extends Pt{_parse(t){const{ctx:n}=this._processInputParams(t),r=this._def.options;function s(o){for(const u of o)if(u.result.status==="valid")return u.result;for(const u of o)if(u.result.status==="dirty")return n.common.issues.push(...u.ctx.common.issues),u.result;const c=o.map(u=>new Is(u.ctx.common.issues));return Oe(n,{code:Te.invalid_union,unionErrors:c}),ft}if(n.common.async)return Promise.all(r.map(async o=>{const c={...n,common:{...n.common,issues:[]},parent:null};return{result:await o._parseAsync({data:n.data,path:n.path,parent:c}),ctx:c}})).then(s);{let o;const c=[];for(const f of r){const h={...n,common:{...n.common,issues:[]},parent:null},m=f._parseSync({data:n.data,path:n.path,parent:h});if(m.status==="valid")return m;m.status==="dirty"&&!o&&(o={result:m,ctx:h}),h.common.issues.length&&c.push(h.common.issues)}if(o)return n.common.issues.push(...o.ctx.common.issues),o.result;const u=c.map(f=>new Is(f));return Oe(n,{code:Te.invalid_union,unionErrors:u}),ft}}get options(){return this._def.options}}Cm.create=(e,t)=>new Cm({options:e,typeName:ut.ZodUnion,...St(t)});function nb(e,t){const n=Di(e),r=Di(t);if(e===t)return{valid:!0,data:e};if(n===ze.object&&r===ze.object){const s=zt.objectKeys(t),o=zt.objectKeys(e).filter(u=>s.indexOf(u)!==-1),c={...e,...t};for(const u of o){const f=nb(e[u],t[u]);if(!f.valid)return{valid:!1};c[u]=f.data}return{valid:!0,data:c}}else if(n===ze.array&&r===ze.array){if(e.length!==t.length)return{valid:!1};const s=[];for(let o=0;o<e.length;o++){const c=e[o],u=t[o],f=nb(c,u);if(!f.valid)return{valid:!1};s.push(f.data)}return{valid:!0,data:s}}else return n===ze.date&&r===ze.date&&+e==+t?{valid:!0,data:e}:{valid:!1}}class Tm extends Pt{_parse(t){const{status:n,ctx:r}=this._processInputParams(t),s=(o,c)=>{if(gT(o)||gT(c))return ft;const u=nb(o.value,c.value);return u.valid?((yT(o)||yT(c))&&n.dirty(),{status:n.value,value:u.data}):(Oe(r,{code:Te.invalid_intersection_types}),ft)};return r.common.async?Promise.all([this._def.left._parseAsync({data:r.data,path:r.path,parent:r}),this._def.right._parseAsync({data:r.data,path:r.path,parent:r})]).then(([o,c])=>s(o,c)):s(this._def.left._parseSync({data:r.data,path:r.path,parent:r}),this._def.right._parseSync({data:r.data,path:r.path,parent:r}))}}Tm.create=(e,t,n)=>new Tm({left:e,right:t,typeName:ut.ZodIntersection,...St(n)});class Yo extends Pt{_parse(t){const{status:n,ctx:r}=this._processInputParams(t);if(r.parsedType!==ze.array)return Oe(r,{code:Te.invalid_type,expected:ze.array,received:r.parsedType}),ft;if(r.data.length<this._def.items.length)return Oe(r,{code:Te.too_small,minimum:this._def.items.length,inclusive:!0,exact:!1,type:"array"}),ft;!this._def.rest&&r.data.length>this._def.items.length&&(Oe(r,{code:Te.too_big,maximum:this._def.items.length,inclusive:!0,exact:!1,type:"array"}),n.dirty());const o=[...r.data].map((c,u)=>{const f=this._def.items[u]||this._def.rest;return f?f._parse(new Ki(r,c,r.path,u)):null}).filter(c=>!!c);return r.common.async?Promise.all(o).then(c=>na.mergeArray(n,c)):na.mergeArray(n,o)}get items(){return this._def.items}rest(t){return new Yo({...this._def,rest:t})}}Yo.create=(e,t)=>{if(!Array.isArray(e))throw new Error("You must pass an array of schemas to z.tuple([ ... ])");return new Yo({items:e,typeName:ut.ZodTuple,rest:null,...St(t)})};class MT extends Pt{get keySchema(){return this._def.keyType}get valueSchema(){return this._def.valueType}_parse(t){const{status:n,ctx:r}=this._processInputParams(t);if(r.parsedType!==ze.map)return Oe(r,{code:Te.invalid_type,expected:ze.map,received:r.parsedType}),ft;const s=this._def.keyType,o=this._def.valueType,c=[...r.data.entries()].map(([u,f],h)=>({key:s._parse(new Ki(r,u,r.path,[h,"key"])),value:o._parse(new Ki(r,f,r.path,[h,"value"]))}));if(r.common.async){const u=new Map;return Promise.resolve().then(async()=>{for(const f of c){const h=await f.key,m=await f.value;if(h.status==="aborted"||m.status==="aborted")return ft;(h.status==="dirty"||m.status==="dirty")&&n.dirty(),u.set(h.value,m.value)}return{status:n.value,value:u}})}else{const u=new Map;for(const f of c){const h=f.key,m=f.value;if(h.status==="aborted"||m.status==="aborted")return ft;(h.status==="dirty"||m.status==="dirty")&&n.dirty(),u.set(h.value,m.value)}return{status:n.value,value:u}}}}MT.create=(e,t,n)=>new MT({valueType:t,keyType:e,typeName:ut.ZodMap,...St(n)});class Ad extends Pt{_parse(t){const{status:n,ctx:r}=this._processInputParams(t);if(r.parsedType!==ze.set)return Oe(r,{code:Te.invalid_type,expected:ze.set,received:r.parsedType}),ft;const s=this._def;s.minSize!==null&&r.data.size<s.minSize.value&&(Oe(r,{code:Te.too_small,minimum:s.minSize.value,type:"set",inclusive:!0,exact:!1,message:s.minSize.message}),n.dirty()),s.maxSize!==null&&r.data.size>s.maxSize.value&&(Oe(r,{code:Te.too_big,maximum:s.maxSize.value,type:"set",inclusive:!0,exact:!1,message:s.maxSize.message}),n.dirty());const o=this._def.valueType;function c(f){const h=new Set;for(const m of f){if(m.status==="aborted")return ft;m.status==="dirty"&&n.dirty(),h.add(m.value)}return{status:n.value,value:h}}const u=[...r.data.values()].map((f,h)=>o._parse(new Ki(r,f,r.path,h)));return r.common.async?Promise.all(u).then(f=>c(f)):c(u)}min(t,n){return new Ad({...this._def,minSize:{value:t,message:Ue.toString(n)}})}max(t,n){return new Ad({...this._def,maxSize:{value:t,message:Ue.toString(n)}})}size(t,n){return this.min(t,n).max(t,n)}nonempty(t){return this.min(1,t)}}Ad.create=(e,t)=>new Ad({valueType:e,minSize:null,maxSize:null,typeName:ut.ZodSet,...St(t)});class _T extends Pt{get schema(){return this._def.getter()}_parse(t){const{ctx:n}=this._processInputParams(t);return this._def.getter()._parse({data:n.data,path:n.path,parent:n})}}_T.create=(e,t)=>new _T({getter:e,typeName:ut.ZodLazy,...St(t)});class AT extends Pt{_parse(t){if(t.data!==this._def.value){const n=this._getOrReturnCtx(t);return Oe(n,{received:n.data,code:Te.invalid_literal,expected:this._def.value}),ft}return{status:"valid",value:t.data}}get value(){return this._def.value}}AT.create=(e,t)=>new AT({value:e,typeName:ut.ZodLiteral,...St(t)});function xN(e,t){return new gc({values:e,typeName:ut.ZodEnum,...St(t)})}class gc extends Pt{constructor(){super(...arguments),rd.set(this,void 0)}_parse(t){if(typeof t.data!="string"){const n=this._getOrReturnCtx(t),r=this._def.values;return Oe(n,{expected:zt.joinValues(r),received:n.parsedType,code:Te.invalid_type}),ft}if(Sm(this,rd,"f")||yN(this,rd,new Set(this._def.values),"f"),!Sm(this,rd,"f").has(t.data)){const n=this._getOrReturnCtx(t),r=this._def.values;return Oe(n,{received:n.data,code:Te.invalid_enum_value,options:r}),ft}return wa(t.data)}get options(){return this._def.values}get enum(){const t={};for(const n of this._def.values)t[n]=n;return t}get Values(){const t={};for(const n of this._def.values)t[n]=n;return t}get Enum(){const t={};for(const n of this._def.values)t[n]=n;return t}extract(t,n=this._def){return gc.create(t,{...this._def,...n})}exclude(t,n=this._def){return gc.create(this.options.filter(r=>!t.includes(r)),{...this._def,...n})}}rd=new WeakMap;gc.create=xN;class RT extends Pt{constructor(){super(...arguments),ad.set(this,void 0)}_parse(t){const n=zt.getValidEnumValues(this._def.values),r=this._getOrReturnCtx(t);if(r.parsedType!==ze.string&&r.parsedType!==ze.number){const s=zt.objectValues(n);return Oe(r,{expected:zt.joinValues(s),received:r.parsedType,code:Te.invalid_type}),ft}if(Sm(this,ad,"f")||yN(this,ad,new Set(zt.getValidEnumValues(this._def.values)),"f"),!Sm(this,ad,"f").has(t.data)){const s=zt.objectValues(n);return Oe(r,{received:r.data,code:Te.invalid_enum_value,options:s}),ft}return wa(t.data)}get enum(){return this._def.values}}ad=new WeakMap;RT.create=(e,t)=>new RT({values:e,typeName:ut.ZodNativeEnum,...St(t)});class Mm extends Pt{unwrap(){return this._def.type}_parse(t){const{ctx:n}=this._processInputParams(t);if(n.parsedType!==ze.promise&&n.common.async===!1)return Oe(n,{code:Te.invalid_type,expected:ze.promise,received:n.parsedType}),ft;const r=n.parsedType===ze.promise?n.data:Promise.resolve(n.data);return wa(r.then(s=>this._def.type.parseAsync(s,{path:n.path,errorMap:n.common.contextualErrorMap})))}}Mm.create=(e,t)=>new Mm({type:e,typeName:ut.ZodPromise,...St(t)});class yc extends Pt{innerType(){return this._def.schema}sourceType(){return this._def.schema._def.typeName===ut.ZodEffects?this._def.schema.sourceType():this._def.schema}_parse(t){const{status:n,ctx:r}=this._processInputParams(t),s=this._def.effect||null,o={addIssue:c=>{Oe(r,c),c.fatal?n.abort():n.dirty()},get path(){return r.path}};if(o.addIssue=o.addIssue.bind(o),s.type==="preprocess"){const c=s.transform(r.data,o);if(r.common.async)return Promise.resolve(c).then(async u=>{if(n.value==="aborted")return ft;const f=await this._def.schema._parseAsync({data:u,path:r.path,parent:r});return f.status==="aborted"?ft:f.status==="dirty"||n.value==="dirty"?nd(f.value):f});{if(n.value==="aborted")return ft;const u=this._def.schema._parseSync({data:c,path:r.path,parent:r});return u.status==="aborted"?ft:u.status==="dirty"||n.value==="dirty"?nd(u.value):u}}if(s.type==="refinement"){const c=u=>{const f=s.refinement(u,o);if(r.common.async)return Promise.resolve(f);if(f instanceof Promise)throw new Error("Async refinement encountered during synchronous parse operation. Use .parseAsync instead.");return u};if(r.common.async===!1){const u=this._def.schema._parseSync({data:r.data,path:r.path,parent:r});return u.status==="aborted"?ft:(u.status==="dirty"&&n.dirty(),c(u.value),{status:n.value,value:u.value})}else return this._def.schema._parseAsync({data:r.data,path:r.path,parent:r}).then(u=>u.status==="aborted"?ft:(u.status==="dirty"&&n.dirty(),c(u.value).then(()=>({status:n.value,value:u.value}))))}if(s.type==="transform")if(r.common.async===!1){const c=this._def.schema._parseSync({data:r.data,path:r.path,parent:r});if(!mc(c))return c;const u=s.transform(c.value,o);if(u instanceof Promise)throw new Error("Asynchronous transform encountered during synchronous parse operation. Use .parseAsync instead.");return{status:n.value,value:u}}else return this._def.schema._parseAsync({data:r.data,path:r.path,parent:r}).then(c=>mc(c)?Promise.resolve(s.transform(c.value,o)).then(u=>({status:n.value,value:u})):c);zt.assertNever(s)}}yc.create=(e,t,n)=>new yc({schema:e,typeName:ut.ZodEffects,effect:t,...St(n)});yc.createWithPreprocess=(e,t,n)=>new yc({schema:t,effect:{type:"preprocess",transform:e},typeName:ut.ZodEffects,...St(n)});class $i extends Pt{_parse(t){return this._getType(t)===ze.undefined?wa(void 0):this._def.innerType._parse(t)}unwrap(){return this._def.innerType}}$i.create=(e,t)=>new $i({innerType:e,typeName:ut.ZodOptional,...St(t)});class vc extends Pt{_parse(t){return this._getType(t)===ze.null?wa(null):this._def.innerType._parse(t)}unwrap(){return this._def.innerType}}vc.create=(e,t)=>new vc({innerType:e,typeName:ut.ZodNullable,...St(t)});class rb extends Pt{_parse(t){const{ctx:n}=this._processInputParams(t);let r=n.data;return n.parsedType===ze.undefined&&(r=this._def.defaultValue()),this._def.innerType._parse({data:r,path:n.path,parent:n})}removeDefault(){return this._def.innerType}}rb.create=(e,t)=>new rb({innerType:e,typeName:ut.ZodDefault,defaultValue:typeof t.default=="function"?t.default:()=>t.default,...St(t)});class ab extends Pt{_parse(t){const{ctx:n}=this._processInputParams(t),r={...n,common:{...n.common,issues:[]}},s=this._def.innerType._parse({data:r.data,path:r.path,parent:{...r}});return wm(s)?s.then(o=>({status:"valid",value:o.status==="valid"?o.value:this._def.catchValue({get error(){return new Is(r.common.issues)},input:r.data})})):{status:"valid",value:s.status==="valid"?s.value:this._def.catchValue({get error(){return new Is(r.common.issues)},input:r.data})}}removeCatch(){return this._def.innerType}}ab.create=(e,t)=>new ab({innerType:e,typeName:ut.ZodCatch,catchValue:typeof t.catch=="function"?t.catch:()=>t.catch,...St(t)});class DT extends Pt{_parse(t){if(this._getType(t)!==ze.nan){const r=this._getOrReturnCtx(t);return Oe(r,{code:Te.invalid_type,expected:ze.nan,received:r.parsedType}),ft}return{status:"valid",value:t.data}}}DT.create=e=>new DT({typeName:ut.ZodNaN,...St(e)});class oI extends Pt{_parse(t){const{ctx:n}=this._processInputParams(t),r=n.data;return this._def.type._parse({data:r,path:n.path,parent:n})}unwrap(){return this._def.type}}class J0 extends Pt{_parse(t){const{status:n,ctx:r}=this._processInputParams(t);if(r.common.async)return(async()=>{const o=await this._def.in._parseAsync({data:r.data,path:r.path,parent:r});return o.status==="aborted"?ft:o.status==="dirty"?(n.dirty(),nd(o.value)):this._def.out._parseAsync({data:o.value,path:r.path,parent:r})})();{const s=this._def.in._parseSync({data:r.data,path:r.path,parent:r});return s.status==="aborted"?ft:s.status==="dirty"?(n.dirty(),{status:"dirty",value:s.value}):this._def.out._parseSync({data:s.value,path:r.path,parent:r})}}static create(t,n){return new J0({in:t,out:n,typeName:ut.ZodPipeline})}}class sb extends Pt{_parse(t){const n=this._def.innerType._parse(t),r=s=>(mc(s)&&(s.value=Object.freeze(s.value)),s);return wm(n)?n.then(s=>r(s)):r(n)}unwrap(){return this._def.innerType}}sb.create=(e,t)=>new sb({innerType:e,typeName:ut.ZodReadonly,...St(t)});var ut;(function(e){e.ZodString="ZodString",e.ZodNumber="ZodNumber",e.ZodNaN="ZodNaN",e.ZodBigInt="ZodBigInt",e.ZodBoolean="ZodBoolean",e.ZodDate="ZodDate",e.ZodSymbol="ZodSymbol",e.ZodUndefined="ZodUndefined",e.ZodNull="ZodNull",e.ZodAny="ZodAny",e.ZodUnknown="ZodUnknown",e.ZodNever="ZodNever",e.ZodVoid="ZodVoid",e.ZodArray="ZodArray",e.ZodObject="ZodObject",e.ZodUnion="ZodUnion",e.ZodDiscriminatedUnion="ZodDiscriminatedUnion",e.ZodIntersection="ZodIntersection",e.ZodTuple="ZodTuple",e.ZodRecord="ZodRecord",e.ZodMap="ZodMap",e.ZodSet="ZodSet",e.ZodFunction="ZodFunction",e.ZodLazy="ZodLazy",e.ZodLiteral="ZodLiteral",e.ZodEnum="ZodEnum",e.ZodEffects="ZodEffects",e.ZodNativeEnum="ZodNativeEnum",e.ZodOptional="ZodOptional",e.ZodNullable="ZodNullable",e.ZodDefault="ZodDefault",e.ZodCatch="ZodCatch",e.ZodPromise="ZodPromise",e.ZodBranded="ZodBranded",e.ZodPipeline="ZodPipeline",e.ZodReadonly="ZodReadonly"})(ut||(ut={}));const ea=Hi.create,lI=pc.create;Zi.create;rs.create;const op=Nn.create;Cm.create;Tm.create;Yo.create;gc.create;Mm.create;$i.create;vc.create;const cI=op({email:ea().email({message:"Invalid email address"}),password:ea().min(6,{message:"Password must be at least 6 characters long"})}),uI=op({name:ea().min(1,{message:"Name is required"}),email:ea().email({message:"Invalid email address"}),password:ea().min(6,{message:"Password must be at least 6 characters long"}),confirmPassword:ea().min(6,{message:"Confirm password must be at least 6 characters long"})}).refine(e=>e.password===e.confirmPassword,{message:"Passwords do not match",path:["confirmPassword"]}),NT=(e,t,n)=>{if(e&&"reportValidity"in e){const r=Re(n,t);e.setCustomValidity(r&&r.message||""),e.reportValidity()}},wN=(e,t)=>{for(const n in t.fields){const r=t.fields[n];r&&r.ref&&"reportValidity"in r.ref?NT(r.ref,n,e):r&&r.refs&&r.refs.forEach(s=>NT(s,n,e))}},dI=(e,t)=>{t.shouldUseNativeValidation&&wN(e,t);const n={};for(const r in e){const s=Re(t.fields,r),o=Object.assign(e[r]||{},{ref:s&&s.ref});if(fI(t.names||Object.keys(e),r)){const c=Object.assign({},Re(n,r));Ft(c,"root",o),Ft(n,r,c)}else Ft(n,r,o)}return n},fI=(e,t)=>{const n=OT(t);return e.some(r=>OT(r).match(`^${n}\\.\\d+`))};function OT(e){return e.replace(/\]|\[/g,"")}function hI(e,t){for(var n={};e.length;){var r=e[0],s=r.code,o=r.message,c=r.path.join(".");if(!n[c])if("unionErrors"in r){var u=r.unionErrors[0].errors[0];n[c]={message:u.message,type:u.code}}else n[c]={message:o,type:s};if("unionErrors"in r&&r.unionErrors.forEach(function(m){return m.errors.forEach(function(p){return e.push(p)})}),t){var f=n[c].types,h=f&&f[r.code];n[c]=lN(c,t,n,s,h?[].concat(h,r.message):r.message)}e.shift()}return n}function Lc(e,t,n){return n===void 0&&(n={}),function(r,s,o){try{return Promise.resolve(function(c,u){try{var f=Promise.resolve(e[n.mode==="sync"?"parse":"parseAsync"](r,t)).then(function(h){return o.shouldUseNativeValidation&&wN({},o),{errors:{},values:n.raw?Object.assign({},r):h}})}catch(h){return u(h)}return f&&f.then?f.then(void 0,u):f}(0,function(c){if(function(u){return Array.isArray(u==null?void 0:u.errors)}(c))return{values:{},errors:dI(hI(c.errors,!o.shouldUseNativeValidation&&o.criteriaMode==="all"),o)};throw c}))}catch(c){return Promise.reject(c)}}}var Vc=class{constructor(){this.listeners=new Set,this.subscribe=this.subscribe.bind(this)}subscribe(e){return this.listeners.add(e),this.onSubscribe(),()=>{this.listeners.delete(e),this.onUnsubscribe()}}hasListeners(){return this.listeners.size>0}onSubscribe(){}onUnsubscribe(){}},Go=typeof window>"u"||"Deno"in globalThis;function br(){}function mI(e,t){return typeof e=="function"?e(t):e}function ib(e){return typeof e=="number"&&e>=0&&e!==1/0}function SN(e,t){return Math.max(e+(t||0)-Date.now(),0)}function Xl(e,t){return typeof e=="function"?e(t):e}function Da(e,t){return typeof e=="function"?e(t):e}function kT(e,t){const{type:n="all",exact:r,fetchStatus:s,predicate:o,queryKey:c,stale:u}=e;if(c){if(r){if(t.queryHash!==ex(c,t.options))return!1}else if(!Rd(t.queryKey,c))return!1}if(n!=="all"){const f=t.isActive();if(n==="active"&&!f||n==="inactive"&&f)return!1}return!(typeof u=="boolean"&&t.isStale()!==u||s&&s!==t.state.fetchStatus||o&&!o(t))}function jT(e,t){const{exact:n,status:r,predicate:s,mutationKey:o}=e;if(o){if(!t.options.mutationKey)return!1;if(n){if(Wo(t.options.mutationKey)!==Wo(o))return!1}else if(!Rd(t.options.mutationKey,o))return!1}return!(r&&t.state.status!==r||s&&!s(t))}function ex(e,t){return((t==null?void 0:t.queryKeyHashFn)||Wo)(e)}function Wo(e){return JSON.stringify(e,(t,n)=>ob(n)?Object.keys(n).sort().reduce((r,s)=>(r[s]=n[s],r),{}):n)}function Rd(e,t){return e===t?!0:typeof e!=typeof t?!1:e&&t&&typeof e=="object"&&typeof t=="object"?Object.keys(t).every(n=>Rd(e[n],t[n])):!1}function EN(e,t){if(e===t)return e;const n=PT(e)&&PT(t);if(n||ob(e)&&ob(t)){const r=n?e:Object.keys(e),s=r.length,o=n?t:Object.keys(t),c=o.length,u=n?[]:{};let f=0;for(let h=0;h<c;h++){const m=n?h:o[h];(!n&&r.includes(m)||n)&&e[m]===void 0&&t[m]===void 0?(u[m]=void 0,f++):(u[m]=EN(e[m],t[m]),u[m]===e[m]&&e[m]!==void 0&&f++)}return s===c&&f===s?e:u}return t}function _m(e,t){if(!t||Object.keys(e).length!==Object.keys(t).length)return!1;for(const n in e)if(e[n]!==t[n])return!1;return!0}function PT(e){return Array.isArray(e)&&e.length===Object.keys(e).length}function ob(e){if(!LT(e))return!1;const t=e.constructor;if(t===void 0)return!0;const n=t.prototype;return!(!LT(n)||!n.hasOwnProperty("isPrototypeOf")||Object.getPrototypeOf(e)!==Object.prototype)}function LT(e){return Object.prototype.toString.call(e)==="[object Object]"}function pI(e){return new Promise(t=>{setTimeout(t,e)})}function lb(e,t,n){return typeof n.structuralSharing=="function"?n.structuralSharing(e,t):n.structuralSharing!==!1?EN(e,t):t}function gI(e,t,n=0){const r=[...e,t];return n&&r.length>n?r.slice(1):r}function yI(e,t,n=0){const r=[t,...e];return n&&r.length>n?r.slice(0,-1):r}var tx=Symbol();function CN(e,t){return!e.queryFn&&(t!=null&&t.initialPromise)?()=>t.initialPromise:!e.queryFn||e.queryFn===tx?()=>Promise.reject(new Error(`Missing queryFn: '${e.queryHash}'`)):e.queryFn}function TN(e,t){return typeof e=="function"?e(...t):!!e}var No,ki,Jl,A_,vI=(A_=class extends Vc{constructor(){super();Xe(this,No);Xe(this,ki);Xe(this,Jl);je(this,Jl,t=>{if(!Go&&window.addEventListener){const n=()=>t();return window.addEventListener("visibilitychange",n,!1),()=>{window.removeEventListener("visibilitychange",n)}}})}onSubscribe(){F(this,ki)||this.setEventListener(F(this,Jl))}onUnsubscribe(){var t;this.hasListeners()||((t=F(this,ki))==null||t.call(this),je(this,ki,void 0))}setEventListener(t){var n;je(this,Jl,t),(n=F(this,ki))==null||n.call(this),je(this,ki,t(r=>{typeof r=="boolean"?this.setFocused(r):this.onFocus()}))}setFocused(t){F(this,No)!==t&&(je(this,No,t),this.onFocus())}onFocus(){const t=this.isFocused();this.listeners.forEach(n=>{n(t)})}isFocused(){var t;return typeof F(this,No)=="boolean"?F(this,No):((t=globalThis.document)==null?void 0:t.visibilityState)!=="hidden"}},No=new WeakMap,ki=new WeakMap,Jl=new WeakMap,A_),nx=new vI,ec,ji,tc,R_,bI=(R_=class extends Vc{constructor(){super();Xe(this,ec,!0);Xe(this,ji);Xe(this,tc);je(this,tc,t=>{if(!Go&&window.addEventListener){const n=()=>t(!0),r=()=>t(!1);return window.addEventListener("online",n,!1),window.addEventListener("offline",r,!1),()=>{window.removeEventListener("online",n),window.removeEventListener("offline",r)}}})}onSubscribe(){F(this,ji)||this.setEventListener(F(this,tc))}onUnsubscribe(){var t;this.hasListeners()||((t=F(this,ji))==null||t.call(this),je(this,ji,void 0))}setEventListener(t){var n;je(this,tc,t),(n=F(this,ji))==null||n.call(this),je(this,ji,t(this.setOnline.bind(this)))}setOnline(t){F(this,ec)!==t&&(je(this,ec,t),this.listeners.forEach(r=>{r(t)}))}isOnline(){return F(this,ec)}},ec=new WeakMap,ji=new WeakMap,tc=new WeakMap,R_),Am=new bI;function cb(){let e,t;const n=new Promise((s,o)=>{e=s,t=o});n.status="pending",n.catch(()=>{});function r(s){Object.assign(n,s),delete n.resolve,delete n.reject}return n.resolve=s=>{r({status:"fulfilled",value:s}),e(s)},n.reject=s=>{r({status:"rejected",reason:s}),t(s)},n}function xI(e){return Math.min(1e3*2**e,3e4)}function MN(e){return(e??"online")==="online"?Am.isOnline():!0}var _N=class extends Error{constructor(e){super("CancelledError"),this.revert=e==null?void 0:e.revert,this.silent=e==null?void 0:e.silent}};function Xy(e){return e instanceof _N}function AN(e){let t=!1,n=0,r=!1,s;const o=cb(),c=E=>{var C;r||(b(new _N(E)),(C=e.abort)==null||C.call(e))},u=()=>{t=!0},f=()=>{t=!1},h=()=>nx.isFocused()&&(e.networkMode==="always"||Am.isOnline())&&e.canRun(),m=()=>MN(e.networkMode)&&e.canRun(),p=E=>{var C;r||(r=!0,(C=e.onSuccess)==null||C.call(e,E),s==null||s(),o.resolve(E))},b=E=>{var C;r||(r=!0,(C=e.onError)==null||C.call(e,E),s==null||s(),o.reject(E))},w=()=>new Promise(E=>{var C;s=T=>{(r||h())&&E(T)},(C=e.onPause)==null||C.call(e)}).then(()=>{var E;s=void 0,r||(E=e.onContinue)==null||E.call(e)}),S=()=>{if(r)return;let E;const C=n===0?e.initialPromise:void 0;try{E=C??e.fn()}catch(T){E=Promise.reject(T)}Promise.resolve(E).then(p).catch(T=>{var D;if(r)return;const _=e.retry??(Go?0:3),A=e.retryDelay??xI,O=typeof A=="function"?A(n,T):A,R=_===!0||typeof _=="number"&&n<_||typeof _=="function"&&_(n,T);if(t||!R){b(T);return}n++,(D=e.onFail)==null||D.call(e,n,T),pI(O).then(()=>h()?void 0:w()).then(()=>{t?b(T):S()})})};return{promise:o,cancel:c,continue:()=>(s==null||s(),o),cancelRetry:u,continueRetry:f,canStart:m,start:()=>(m()?S():w().then(S),o)}}var wI=e=>setTimeout(e,0);function SI(){let e=[],t=0,n=u=>{u()},r=u=>{u()},s=wI;const o=u=>{t?e.push(u):s(()=>{n(u)})},c=()=>{const u=e;e=[],u.length&&s(()=>{r(()=>{u.forEach(f=>{n(f)})})})};return{batch:u=>{let f;t++;try{f=u()}finally{t--,t||c()}return f},batchCalls:u=>(...f)=>{o(()=>{u(...f)})},schedule:o,setNotifyFunction:u=>{n=u},setBatchNotifyFunction:u=>{r=u},setScheduler:u=>{s=u}}}var $n=SI(),Oo,D_,RN=(D_=class{constructor(){Xe(this,Oo)}destroy(){this.clearGcTimeout()}scheduleGc(){this.clearGcTimeout(),ib(this.gcTime)&&je(this,Oo,setTimeout(()=>{this.optionalRemove()},this.gcTime))}updateGcTime(e){this.gcTime=Math.max(this.gcTime||0,e??(Go?1/0:5*60*1e3))}clearGcTimeout(){F(this,Oo)&&(clearTimeout(F(this,Oo)),je(this,Oo,void 0))}},Oo=new WeakMap,D_),nc,rc,ga,ko,lr,Id,jo,Aa,Rs,N_,EI=(N_=class extends RN{constructor(t){super();Xe(this,Aa);Xe(this,nc);Xe(this,rc);Xe(this,ga);Xe(this,ko);Xe(this,lr);Xe(this,Id);Xe(this,jo);je(this,jo,!1),je(this,Id,t.defaultOptions),this.setOptions(t.options),this.observers=[],je(this,ko,t.client),je(this,ga,F(this,ko).getQueryCache()),this.queryKey=t.queryKey,this.queryHash=t.queryHash,je(this,nc,CI(this.options)),this.state=t.state??F(this,nc),this.scheduleGc()}get meta(){return this.options.meta}get promise(){var t;return(t=F(this,lr))==null?void 0:t.promise}setOptions(t){this.options={...F(this,Id),...t},this.updateGcTime(this.options.gcTime)}optionalRemove(){!this.observers.length&&this.state.fetchStatus==="idle"&&F(this,ga).remove(this)}setData(t,n){const r=lb(this.state.data,t,this.options);return gt(this,Aa,Rs).call(this,{data:r,type:"success",dataUpdatedAt:n==null?void 0:n.updatedAt,manual:n==null?void 0:n.manual}),r}setState(t,n){gt(this,Aa,Rs).call(this,{type:"setState",state:t,setStateOptions:n})}cancel(t){var r,s;const n=(r=F(this,lr))==null?void 0:r.promise;return(s=F(this,lr))==null||s.cancel(t),n?n.then(br).catch(br):Promise.resolve()}destroy(){super.destroy(),this.cancel({silent:!0})}reset(){this.destroy(),this.setState(F(this,nc))}isActive(){return this.observers.some(t=>Da(t.options.enabled,this)!==!1)}isDisabled(){return this.getObserversCount()>0?!this.isActive():this.options.queryFn===tx||this.state.dataUpdateCount+this.state.errorUpdateCount===0}isStale(){return this.state.isInvalidated?!0:this.getObserversCount()>0?this.observers.some(t=>t.getCurrentResult().isStale):this.state.data===void 0}isStaleByTime(t=0){return this.state.isInvalidated||this.state.data===void 0||!SN(this.state.dataUpdatedAt,t)}onFocus(){var n;const t=this.observers.find(r=>r.shouldFetchOnWindowFocus());t==null||t.refetch({cancelRefetch:!1}),(n=F(this,lr))==null||n.continue()}onOnline(){var n;const t=this.observers.find(r=>r.shouldFetchOnReconnect());t==null||t.refetch({cancelRefetch:!1}),(n=F(this,lr))==null||n.continue()}addObserver(t){this.observers.includes(t)||(this.observers.push(t),this.clearGcTimeout(),F(this,ga).notify({type:"observerAdded",query:this,observer:t}))}removeObserver(t){this.observers.includes(t)&&(this.observers=this.observers.filter(n=>n!==t),this.observers.length||(F(this,lr)&&(F(this,jo)?F(this,lr).cancel({revert:!0}):F(this,lr).cancelRetry()),this.scheduleGc()),F(this,ga).notify({type:"observerRemoved",query:this,observer:t}))}getObserversCount(){return this.observers.length}invalidate(){this.state.isInvalidated||gt(this,Aa,Rs).call(this,{type:"invalidate"})}fetch(t,n){var f,h,m;if(this.state.fetchStatus!=="idle"){if(this.state.data!==void 0&&(n!=null&&n.cancelRefetch))this.cancel({silent:!0});else if(F(this,lr))return F(this,lr).continueRetry(),F(this,lr).promise}if(t&&this.setOptions(t),!this.options.queryFn){const p=this.observers.find(b=>b.options.queryFn);p&&this.setOptions(p.options)}const r=new AbortController,s=p=>{Object.defineProperty(p,"signal",{enumerable:!0,get:()=>(je(this,jo,!0),r.signal)})},o=()=>{const p=CN(this.options,n),b={client:F(this,ko),queryKey:this.queryKey,meta:this.meta};return s(b),je(this,jo,!1),this.options.persister?this.options.persister(p,b,this):p(b)},c={fetchOptions:n,options:this.options,queryKey:this.queryKey,client:F(this,ko),state:this.state,fetchFn:o};s(c),(f=this.options.behavior)==null||f.onFetch(c,this),je(this,rc,this.state),(this.state.fetchStatus==="idle"||this.state.fetchMeta!==((h=c.fetchOptions)==null?void 0:h.meta))&&gt(this,Aa,Rs).call(this,{type:"fetch",meta:(m=c.fetchOptions)==null?void 0:m.meta});const u=p=>{var b,w,S,E;Xy(p)&&p.silent||gt(this,Aa,Rs).call(this,{type:"error",error:p}),Xy(p)||((w=(b=F(this,ga).config).onError)==null||w.call(b,p,this),(E=(S=F(this,ga).config).onSettled)==null||E.call(S,this.state.data,p,this)),this.scheduleGc()};return je(this,lr,AN({initialPromise:n==null?void 0:n.initialPromise,fn:c.fetchFn,abort:r.abort.bind(r),onSuccess:p=>{var b,w,S,E;if(p===void 0){u(new Error(`${this.queryHash} data is undefined`));return}try{this.setData(p)}catch(C){u(C);return}(w=(b=F(this,ga).config).onSuccess)==null||w.call(b,p,this),(E=(S=F(this,ga).config).onSettled)==null||E.call(S,p,this.state.error,this),this.scheduleGc()},onError:u,onFail:(p,b)=>{gt(this,Aa,Rs).call(this,{type:"failed",failureCount:p,error:b})},onPause:()=>{gt(this,Aa,Rs).call(this,{type:"pause"})},onContinue:()=>{gt(this,Aa,Rs).call(this,{type:"continue"})},retry:c.options.retry,retryDelay:c.options.retryDelay,networkMode:c.options.networkMode,canRun:()=>!0})),F(this,lr).start()}},nc=new WeakMap,rc=new WeakMap,ga=new WeakMap,ko=new WeakMap,lr=new WeakMap,Id=new WeakMap,jo=new WeakMap,Aa=new WeakSet,Rs=function(t){const n=r=>{switch(t.type){case"failed":return{...r,fetchFailureCount:t.failureCount,fetchFailureReason:t.error};case"pause":return{...r,fetchStatus:"paused"};case"continue":return{...r,fetchStatus:"fetching"};case"fetch":return{...r,...DN(r.data,this.options),fetchMeta:t.meta??null};case"success":return{...r,data:t.data,dataUpdateCount:r.dataUpdateCount+1,dataUpdatedAt:t.dataUpdatedAt??Date.now(),error:null,isInvalidated:!1,status:"success",...!t.manual&&{fetchStatus:"idle",fetchFailureCount:0,fetchFailureReason:null}};case"error":const s=t.error;return Xy(s)&&s.revert&&F(this,rc)?{...F(this,rc),fetchStatus:"idle"}:{...r,error:s,errorUpdateCount:r.errorUpdateCount+1,errorUpdatedAt:Date.now(),fetchFailureCount:r.fetchFailureCount+1,fetchFailureReason:s,fetchStatus:"idle",status:"error"};case"invalidate":return{...r,isInvalidated:!0};case"setState":return{...r,...t.state}}};this.state=n(this.state),$n.batch(()=>{this.observers.forEach(r=>{r.onQueryUpdate()}),F(this,ga).notify({query:this,type:"updated",action:t})})},N_);function DN(e,t){return{fetchFailureCount:0,fetchFailureReason:null,fetchStatus:MN(t.networkMode)?"fetching":"paused",...e===void 0&&{error:null,status:"pending"}}}function CI(e){const t=typeof e.initialData=="function"?e.initialData():e.initialData,n=t!==void 0,r=n?typeof e.initialDataUpdatedAt=="function"?e.initialDataUpdatedAt():e.initialDataUpdatedAt:0;return{data:t,dataUpdateCount:0,dataUpdatedAt:n?r??Date.now():0,error:null,errorUpdateCount:0,errorUpdatedAt:0,fetchFailureCount:0,fetchFailureReason:null,fetchMeta:null,isInvalidated:!1,status:n?"success":"pending",fetchStatus:"idle"}}var Wa,O_,TI=(O_=class extends Vc{constructor(t={}){super();Xe(this,Wa);this.config=t,je(this,Wa,new Map)}build(t,n,r){const s=n.queryKey,o=n.queryHash??ex(s,n);let c=this.get(o);return c||(c=new EI({client:t,queryKey:s,queryHash:o,options:t.defaultQueryOptions(n),state:r,defaultOptions:t.getQueryDefaults(s)}),this.add(c)),c}add(t){F(this,Wa).has(t.queryHash)||(F(this,Wa).set(t.queryHash,t),this.notify({type:"added",query:t}))}remove(t){const n=F(this,Wa).get(t.queryHash);n&&(t.destroy(),n===t&&F(this,Wa).delete(t.queryHash),this.notify({type:"removed",query:t}))}clear(){$n.batch(()=>{this.getAll().forEach(t=>{this.remove(t)})})}get(t){return F(this,Wa).get(t)}getAll(){return[...F(this,Wa).values()]}find(t){const n={exact:!0,...t};return this.getAll().find(r=>kT(n,r))}findAll(t={}){const n=this.getAll();return Object.keys(t).length>0?n.filter(r=>kT(t,r)):n}notify(t){$n.batch(()=>{this.listeners.forEach(n=>{n(t)})})}onFocus(){$n.batch(()=>{this.getAll().forEach(t=>{t.onFocus()})})}onOnline(){$n.batch(()=>{this.getAll().forEach(t=>{t.onOnline()})})}},Wa=new WeakMap,O_),Ka,pr,Po,Za,Ai,k_,MI=(k_=class extends RN{constructor(t){super();Xe(this,Za);Xe(this,Ka);Xe(this,pr);Xe(this,Po);this.mutationId=t.mutationId,je(this,pr,t.mutationCache),je(this,Ka,[]),this.state=t.state||NN(),this.setOptions(t.options),this.scheduleGc()}setOptions(t){this.options=t,this.updateGcTime(this.options.gcTime)}get meta(){return this.options.meta}addObserver(t){F(this,Ka).includes(t)||(F(this,Ka).push(t),this.clearGcTimeout(),F(this,pr).notify({type:"observerAdded",mutation:this,observer:t}))}removeObserver(t){je(this,Ka,F(this,Ka).filter(n=>n!==t)),this.scheduleGc(),F(this,pr).notify({type:"observerRemoved",mutation:this,observer:t})}optionalRemove(){F(this,Ka).length||(this.state.status==="pending"?this.scheduleGc():F(this,pr).remove(this))}continue(){var t;return((t=F(this,Po))==null?void 0:t.continue())??this.execute(this.state.variables)}async execute(t){var o,c,u,f,h,m,p,b,w,S,E,C,T,_,A,O,R,D,L,k;const n=()=>{gt(this,Za,Ai).call(this,{type:"continue"})};je(this,Po,AN({fn:()=>this.options.mutationFn?this.options.mutationFn(t):Promise.reject(new Error("No mutationFn found")),onFail:(H,X)=>{gt(this,Za,Ai).call(this,{type:"failed",failureCount:H,error:X})},onPause:()=>{gt(this,Za,Ai).call(this,{type:"pause"})},onContinue:n,retry:this.options.retry??0,retryDelay:this.options.retryDelay,networkMode:this.options.networkMode,canRun:()=>F(this,pr).canRun(this)}));const r=this.state.status==="pending",s=!F(this,Po).canStart();try{if(r)n();else{gt(this,Za,Ai).call(this,{type:"pending",variables:t,isPaused:s}),await((c=(o=F(this,pr).config).onMutate)==null?void 0:c.call(o,t,this));const X=await((f=(u=this.options).onMutate)==null?void 0:f.call(u,t));X!==this.state.context&&gt(this,Za,Ai).call(this,{type:"pending",context:X,variables:t,isPaused:s})}const H=await F(this,Po).start();return await((m=(h=F(this,pr).config).onSuccess)==null?void 0:m.call(h,H,t,this.state.context,this)),await((b=(p=this.options).onSuccess)==null?void 0:b.call(p,H,t,this.state.context)),await((S=(w=F(this,pr).config).onSettled)==null?void 0:S.call(w,H,null,this.state.variables,this.state.context,this)),await((C=(E=this.options).onSettled)==null?void 0:C.call(E,H,null,t,this.state.context)),gt(this,Za,Ai).call(this,{type:"success",data:H}),H}catch(H){try{throw await((_=(T=F(this,pr).config).onError)==null?void 0:_.call(T,H,t,this.state.context,this)),await((O=(A=this.options).onError)==null?void 0:O.call(A,H,t,this.state.context)),await((D=(R=F(this,pr).config).onSettled)==null?void 0:D.call(R,void 0,H,this.state.variables,this.state.context,this)),await((k=(L=this.options).onSettled)==null?void 0:k.call(L,void 0,H,t,this.state.context)),H}finally{gt(this,Za,Ai).call(this,{type:"error",error:H})}}finally{F(this,pr).runNext(this)}}},Ka=new WeakMap,pr=new WeakMap,Po=new WeakMap,Za=new WeakSet,Ai=function(t){const n=r=>{switch(t.type){case"failed":return{...r,failureCount:t.failureCount,failureReason:t.error};case"pause":return{...r,isPaused:!0};case"continue":return{...r,isPaused:!1};case"pending":return{...r,context:t.context,data:void 0,failureCount:0,failureReason:null,error:null,isPaused:t.isPaused,status:"pending",variables:t.variables,submittedAt:Date.now()};case"success":return{...r,data:t.data,failureCount:0,failureReason:null,error:null,status:"success",isPaused:!1};case"error":return{...r,data:void 0,error:t.error,failureCount:r.failureCount+1,failureReason:t.error,isPaused:!1,status:"error"}}};this.state=n(this.state),$n.batch(()=>{F(this,Ka).forEach(r=>{r.onMutationUpdate(t)}),F(this,pr).notify({mutation:this,type:"updated",action:t})})},k_);function NN(){return{context:void 0,data:void 0,error:null,failureCount:0,failureReason:null,isPaused:!1,status:"idle",variables:void 0,submittedAt:0}}var Ds,Ra,Hd,j_,_I=(j_=class extends Vc{constructor(t={}){super();Xe(this,Ds);Xe(this,Ra);Xe(this,Hd);this.config=t,je(this,Ds,new Set),je(this,Ra,new Map),je(this,Hd,0)}build(t,n,r){const s=new MI({mutationCache:this,mutationId:++Ch(this,Hd)._,options:t.defaultMutationOptions(n),state:r});return this.add(s),s}add(t){F(this,Ds).add(t);const n=Vh(t);if(typeof n=="string"){const r=F(this,Ra).get(n);r?r.push(t):F(this,Ra).set(n,[t])}this.notify({type:"added",mutation:t})}remove(t){if(F(this,Ds).delete(t)){const n=Vh(t);if(typeof n=="string"){const r=F(this,Ra).get(n);if(r)if(r.length>1){const s=r.indexOf(t);s!==-1&&r.splice(s,1)}else r[0]===t&&F(this,Ra).delete(n)}}this.notify({type:"removed",mutation:t})}canRun(t){const n=Vh(t);if(typeof n=="string"){const r=F(this,Ra).get(n),s=r==null?void 0:r.find(o=>o.state.status==="pending");return!s||s===t}else return!0}runNext(t){var r;const n=Vh(t);if(typeof n=="string"){const s=(r=F(this,Ra).get(n))==null?void 0:r.find(o=>o!==t&&o.state.isPaused);return(s==null?void 0:s.continue())??Promise.resolve()}else return Promise.resolve()}clear(){$n.batch(()=>{F(this,Ds).forEach(t=>{this.notify({type:"removed",mutation:t})}),F(this,Ds).clear(),F(this,Ra).clear()})}getAll(){return Array.from(F(this,Ds))}find(t){const n={exact:!0,...t};return this.getAll().find(r=>jT(n,r))}findAll(t={}){return this.getAll().filter(n=>jT(t,n))}notify(t){$n.batch(()=>{this.listeners.forEach(n=>{n(t)})})}resumePausedMutations(){const t=this.getAll().filter(n=>n.state.isPaused);return $n.batch(()=>Promise.all(t.map(n=>n.continue().catch(br))))}},Ds=new WeakMap,Ra=new WeakMap,Hd=new WeakMap,j_);function Vh(e){var t;return(t=e.options.scope)==null?void 0:t.id}function VT(e){return{onFetch:(t,n)=>{var m,p,b,w,S;const r=t.options,s=(b=(p=(m=t.fetchOptions)==null?void 0:m.meta)==null?void 0:p.fetchMore)==null?void 0:b.direction,o=((w=t.state.data)==null?void 0:w.pages)||[],c=((S=t.state.data)==null?void 0:S.pageParams)||[];let u={pages:[],pageParams:[]},f=0;const h=async()=>{let E=!1;const C=A=>{Object.defineProperty(A,"signal",{enumerable:!0,get:()=>(t.signal.aborted?E=!0:t.signal.addEventListener("abort",()=>{E=!0}),t.signal)})},T=CN(t.options,t.fetchOptions),_=async(A,O,R)=>{if(E)return Promise.reject();if(O==null&&A.pages.length)return Promise.resolve(A);const D={client:t.client,queryKey:t.queryKey,pageParam:O,direction:R?"backward":"forward",meta:t.options.meta};C(D);const L=await T(D),{maxPages:k}=t.options,H=R?yI:gI;return{pages:H(A.pages,L,k),pageParams:H(A.pageParams,O,k)}};if(s&&o.length){const A=s==="backward",O=A?AI:zT,R={pages:o,pageParams:c},D=O(r,R);u=await _(R,D,A)}else{const A=e??o.length;do{const O=f===0?c[0]??r.initialPageParam:zT(r,u);if(f>0&&O==null)break;u=await _(u,O),f++}while(f<A)}return u};t.options.persister?t.fetchFn=()=>{var E,C;return(C=(E=t.options).persister)==null?void 0:C.call(E,h,{client:t.client,queryKey:t.queryKey,meta:t.options.meta,signal:t.signal},n)}:t.fetchFn=h}}}function zT(e,{pages:t,pageParams:n}){const r=t.length-1;return t.length>0?e.getNextPageParam(t[r],t,n[r],n):void 0}function AI(e,{pages:t,pageParams:n}){var r;return t.length>0?(r=e.getPreviousPageParam)==null?void 0:r.call(e,t[0],t,n[0],n):void 0}var yn,Pi,Li,ac,sc,Vi,ic,oc,P_,RI=(P_=class{constructor(e={}){Xe(this,yn);Xe(this,Pi);Xe(this,Li);Xe(this,ac);Xe(this,sc);Xe(this,Vi);Xe(this,ic);Xe(this,oc);je(this,yn,e.queryCache||new TI),je(this,Pi,e.mutationCache||new _I),je(this,Li,e.defaultOptions||{}),je(this,ac,new Map),je(this,sc,new Map),je(this,Vi,0)}mount(){Ch(this,Vi)._++,F(this,Vi)===1&&(je(this,ic,nx.subscribe(async e=>{e&&(await this.resumePausedMutations(),F(this,yn).onFocus())})),je(this,oc,Am.subscribe(async e=>{e&&(await this.resumePausedMutations(),F(this,yn).onOnline())})))}unmount(){var e,t;Ch(this,Vi)._--,F(this,Vi)===0&&((e=F(this,ic))==null||e.call(this),je(this,ic,void 0),(t=F(this,oc))==null||t.call(this),je(this,oc,void 0))}isFetching(e){return F(this,yn).findAll({...e,fetchStatus:"fetching"}).length}isMutating(e){return F(this,Pi).findAll({...e,status:"pending"}).length}getQueryData(e){var n;const t=this.defaultQueryOptions({queryKey:e});return(n=F(this,yn).get(t.queryHash))==null?void 0:n.state.data}ensureQueryData(e){const t=this.defaultQueryOptions(e),n=F(this,yn).build(this,t),r=n.state.data;return r===void 0?this.fetchQuery(e):(e.revalidateIfStale&&n.isStaleByTime(Xl(t.staleTime,n))&&this.prefetchQuery(t),Promise.resolve(r))}getQueriesData(e){return F(this,yn).findAll(e).map(({queryKey:t,state:n})=>{const r=n.data;return[t,r]})}setQueryData(e,t,n){const r=this.defaultQueryOptions({queryKey:e}),s=F(this,yn).get(r.queryHash),o=s==null?void 0:s.state.data,c=mI(t,o);if(c!==void 0)return F(this,yn).build(this,r).setData(c,{...n,manual:!0})}setQueriesData(e,t,n){return $n.batch(()=>F(this,yn).findAll(e).map(({queryKey:r})=>[r,this.setQueryData(r,t,n)]))}getQueryState(e){var n;const t=this.defaultQueryOptions({queryKey:e});return(n=F(this,yn).get(t.queryHash))==null?void 0:n.state}removeQueries(e){const t=F(this,yn);$n.batch(()=>{t.findAll(e).forEach(n=>{t.remove(n)})})}resetQueries(e,t){const n=F(this,yn);return $n.batch(()=>(n.findAll(e).forEach(r=>{r.reset()}),this.refetchQueries({type:"active",...e},t)))}cancelQueries(e,t={}){const n={revert:!0,...t},r=$n.batch(()=>F(this,yn).findAll(e).map(s=>s.cancel(n)));return Promise.all(r).then(br).catch(br)}invalidateQueries(e,t={}){return $n.batch(()=>(F(this,yn).findAll(e).forEach(n=>{n.invalidate()}),(e==null?void 0:e.refetchType)==="none"?Promise.resolve():this.refetchQueries({...e,type:(e==null?void 0:e.refetchType)??(e==null?void 0:e.type)??"active"},t)))}refetchQueries(e,t={}){const n={...t,cancelRefetch:t.cancelRefetch??!0},r=$n.batch(()=>F(this,yn).findAll(e).filter(s=>!s.isDisabled()).map(s=>{let o=s.fetch(void 0,n);return n.throwOnError||(o=o.catch(br)),s.state.fetchStatus==="paused"?Promise.resolve():o}));return Promise.all(r).then(br)}fetchQuery(e){const t=this.defaultQueryOptions(e);t.retry===void 0&&(t.retry=!1);const n=F(this,yn).build(this,t);return n.isStaleByTime(Xl(t.staleTime,n))?n.fetch(t):Promise.resolve(n.state.data)}prefetchQuery(e){return this.fetchQuery(e).then(br).catch(br)}fetchInfiniteQuery(e){return e.behavior=VT(e.pages),this.fetchQuery(e)}prefetchInfiniteQuery(e){return this.fetchInfiniteQuery(e).then(br).catch(br)}ensureInfiniteQueryData(e){return e.behavior=VT(e.pages),this.ensureQueryData(e)}resumePausedMutations(){return Am.isOnline()?F(this,Pi).resumePausedMutations():Promise.resolve()}getQueryCache(){return F(this,yn)}getMutationCache(){return F(this,Pi)}getDefaultOptions(){return F(this,Li)}setDefaultOptions(e){je(this,Li,e)}setQueryDefaults(e,t){F(this,ac).set(Wo(e),{queryKey:e,defaultOptions:t})}getQueryDefaults(e){const t=[...F(this,ac).values()],n={};return t.forEach(r=>{Rd(e,r.queryKey)&&Object.assign(n,r.defaultOptions)}),n}setMutationDefaults(e,t){F(this,sc).set(Wo(e),{mutationKey:e,defaultOptions:t})}getMutationDefaults(e){const t=[...F(this,sc).values()],n={};return t.forEach(r=>{Rd(e,r.mutationKey)&&Object.assign(n,r.defaultOptions)}),n}defaultQueryOptions(e){if(e._defaulted)return e;const t={...F(this,Li).queries,...this.getQueryDefaults(e.queryKey),...e,_defaulted:!0};return t.queryHash||(t.queryHash=ex(t.queryKey,t)),t.refetchOnReconnect===void 0&&(t.refetchOnReconnect=t.networkMode!=="always"),t.throwOnError===void 0&&(t.throwOnError=!!t.suspense),!t.networkMode&&t.persister&&(t.networkMode="offlineFirst"),t.queryFn===tx&&(t.enabled=!1),t}defaultMutationOptions(e){return e!=null&&e._defaulted?e:{...F(this,Li).mutations,...(e==null?void 0:e.mutationKey)&&this.getMutationDefaults(e.mutationKey),...e,_defaulted:!0}}clear(){F(this,yn).clear(),F(this,Pi).clear()}},yn=new WeakMap,Pi=new WeakMap,Li=new WeakMap,ac=new WeakMap,sc=new WeakMap,Vi=new WeakMap,ic=new WeakMap,oc=new WeakMap,P_),Rr,Dt,$d,gr,Lo,lc,zi,Bi,qd,cc,uc,Vo,zo,Ui,dc,It,sd,ub,db,fb,hb,mb,pb,gb,ON,L_,DI=(L_=class extends Vc{constructor(t,n){super();Xe(this,It);Xe(this,Rr);Xe(this,Dt);Xe(this,$d);Xe(this,gr);Xe(this,Lo);Xe(this,lc);Xe(this,zi);Xe(this,Bi);Xe(this,qd);Xe(this,cc);Xe(this,uc);Xe(this,Vo);Xe(this,zo);Xe(this,Ui);Xe(this,dc,new Set);this.options=n,je(this,Rr,t),je(this,Bi,null),je(this,zi,cb()),this.options.experimental_prefetchInRender||F(this,zi).reject(new Error("experimental_prefetchInRender feature flag is not enabled")),this.bindMethods(),this.setOptions(n)}bindMethods(){this.refetch=this.refetch.bind(this)}onSubscribe(){this.listeners.size===1&&(F(this,Dt).addObserver(this),BT(F(this,Dt),this.options)?gt(this,It,sd).call(this):this.updateResult(),gt(this,It,hb).call(this))}onUnsubscribe(){this.hasListeners()||this.destroy()}shouldFetchOnReconnect(){return yb(F(this,Dt),this.options,this.options.refetchOnReconnect)}shouldFetchOnWindowFocus(){return yb(F(this,Dt),this.options,this.options.refetchOnWindowFocus)}destroy(){this.listeners=new Set,gt(this,It,mb).call(this),gt(this,It,pb).call(this),F(this,Dt).removeObserver(this)}setOptions(t){const n=this.options,r=F(this,Dt);if(this.options=F(this,Rr).defaultQueryOptions(t),this.options.enabled!==void 0&&typeof this.options.enabled!="boolean"&&typeof this.options.enabled!="function"&&typeof Da(this.options.enabled,F(this,Dt))!="boolean")throw new Error("Expected enabled to be a boolean or a callback that returns a boolean");gt(this,It,gb).call(this),F(this,Dt).setOptions(this.options),n._defaulted&&!_m(this.options,n)&&F(this,Rr).getQueryCache().notify({type:"observerOptionsUpdated",query:F(this,Dt),observer:this});const s=this.hasListeners();s&&UT(F(this,Dt),r,this.options,n)&&gt(this,It,sd).call(this),this.updateResult(),s&&(F(this,Dt)!==r||Da(this.options.enabled,F(this,Dt))!==Da(n.enabled,F(this,Dt))||Xl(this.options.staleTime,F(this,Dt))!==Xl(n.staleTime,F(this,Dt)))&&gt(this,It,ub).call(this);const o=gt(this,It,db).call(this);s&&(F(this,Dt)!==r||Da(this.options.enabled,F(this,Dt))!==Da(n.enabled,F(this,Dt))||o!==F(this,Ui))&&gt(this,It,fb).call(this,o)}getOptimisticResult(t){const n=F(this,Rr).getQueryCache().build(F(this,Rr),t),r=this.createResult(n,t);return OI(this,r)&&(je(this,gr,r),je(this,lc,this.options),je(this,Lo,F(this,Dt).state)),r}getCurrentResult(){return F(this,gr)}trackResult(t,n){return new Proxy(t,{get:(r,s)=>(this.trackProp(s),n==null||n(s),Reflect.get(r,s))})}trackProp(t){F(this,dc).add(t)}getCurrentQuery(){return F(this,Dt)}refetch({...t}={}){return this.fetch({...t})}fetchOptimistic(t){const n=F(this,Rr).defaultQueryOptions(t),r=F(this,Rr).getQueryCache().build(F(this,Rr),n);return r.fetch().then(()=>this.createResult(r,n))}fetch(t){return gt(this,It,sd).call(this,{...t,cancelRefetch:t.cancelRefetch??!0}).then(()=>(this.updateResult(),F(this,gr)))}createResult(t,n){var H;const r=F(this,Dt),s=this.options,o=F(this,gr),c=F(this,Lo),u=F(this,lc),h=t!==r?t.state:F(this,$d),{state:m}=t;let p={...m},b=!1,w;if(n._optimisticResults){const X=this.hasListeners(),oe=!X&&BT(t,n),ce=X&&UT(t,r,n,s);(oe||ce)&&(p={...p,...DN(m.data,t.options)}),n._optimisticResults==="isRestoring"&&(p.fetchStatus="idle")}let{error:S,errorUpdatedAt:E,status:C}=p;w=p.data;let T=!1;if(n.placeholderData!==void 0&&w===void 0&&C==="pending"){let X;o!=null&&o.isPlaceholderData&&n.placeholderData===(u==null?void 0:u.placeholderData)?(X=o.data,T=!0):X=typeof n.placeholderData=="function"?n.placeholderData((H=F(this,uc))==null?void 0:H.state.data,F(this,uc)):n.placeholderData,X!==void 0&&(C="success",w=lb(o==null?void 0:o.data,X,n),b=!0)}if(n.select&&w!==void 0&&!T)if(o&&w===(c==null?void 0:c.data)&&n.select===F(this,qd))w=F(this,cc);else try{je(this,qd,n.select),w=n.select(w),w=lb(o==null?void 0:o.data,w,n),je(this,cc,w),je(this,Bi,null)}catch(X){je(this,Bi,X)}F(this,Bi)&&(S=F(this,Bi),w=F(this,cc),E=Date.now(),C="error");const _=p.fetchStatus==="fetching",A=C==="pending",O=C==="error",R=A&&_,D=w!==void 0,k={status:C,fetchStatus:p.fetchStatus,isPending:A,isSuccess:C==="success",isError:O,isInitialLoading:R,isLoading:R,data:w,dataUpdatedAt:p.dataUpdatedAt,error:S,errorUpdatedAt:E,failureCount:p.fetchFailureCount,failureReason:p.fetchFailureReason,errorUpdateCount:p.errorUpdateCount,isFetched:p.dataUpdateCount>0||p.errorUpdateCount>0,isFetchedAfterMount:p.dataUpdateCount>h.dataUpdateCount||p.errorUpdateCount>h.errorUpdateCount,isFetching:_,isRefetching:_&&!A,isLoadingError:O&&!D,isPaused:p.fetchStatus==="paused",isPlaceholderData:b,isRefetchError:O&&D,isStale:rx(t,n),refetch:this.refetch,promise:F(this,zi)};if(this.options.experimental_prefetchInRender){const X=de=>{k.status==="error"?de.reject(k.error):k.data!==void 0&&de.resolve(k.data)},oe=()=>{const de=je(this,zi,k.promise=cb());X(de)},ce=F(this,zi);switch(ce.status){case"pending":t.queryHash===r.queryHash&&X(ce);break;case"fulfilled":(k.status==="error"||k.data!==ce.value)&&oe();break;case"rejected":(k.status!=="error"||k.error!==ce.reason)&&oe();break}}return k}updateResult(){const t=F(this,gr),n=this.createResult(F(this,Dt),this.options);if(je(this,Lo,F(this,Dt).state),je(this,lc,this.options),F(this,Lo).data!==void 0&&je(this,uc,F(this,Dt)),_m(n,t))return;je(this,gr,n);const r=()=>{if(!t)return!0;const{notifyOnChangeProps:s}=this.options,o=typeof s=="function"?s():s;if(o==="all"||!o&&!F(this,dc).size)return!0;const c=new Set(o??F(this,dc));return this.options.throwOnError&&c.add("error"),Object.keys(F(this,gr)).some(u=>{const f=u;return F(this,gr)[f]!==t[f]&&c.has(f)})};gt(this,It,ON).call(this,{listeners:r()})}onQueryUpdate(){this.updateResult(),this.hasListeners()&&gt(this,It,hb).call(this)}},Rr=new WeakMap,Dt=new WeakMap,$d=new WeakMap,gr=new WeakMap,Lo=new WeakMap,lc=new WeakMap,zi=new WeakMap,Bi=new WeakMap,qd=new WeakMap,cc=new WeakMap,uc=new WeakMap,Vo=new WeakMap,zo=new WeakMap,Ui=new WeakMap,dc=new WeakMap,It=new WeakSet,sd=function(t){gt(this,It,gb).call(this);let n=F(this,Dt).fetch(this.options,t);return t!=null&&t.throwOnError||(n=n.catch(br)),n},ub=function(){gt(this,It,mb).call(this);const t=Xl(this.options.staleTime,F(this,Dt));if(Go||F(this,gr).isStale||!ib(t))return;const r=SN(F(this,gr).dataUpdatedAt,t)+1;je(this,Vo,setTimeout(()=>{F(this,gr).isStale||this.updateResult()},r))},db=function(){return(typeof this.options.refetchInterval=="function"?this.options.refetchInterval(F(this,Dt)):this.options.refetchInterval)??!1},fb=function(t){gt(this,It,pb).call(this),je(this,Ui,t),!(Go||Da(this.options.enabled,F(this,Dt))===!1||!ib(F(this,Ui))||F(this,Ui)===0)&&je(this,zo,setInterval(()=>{(this.options.refetchIntervalInBackground||nx.isFocused())&&gt(this,It,sd).call(this)},F(this,Ui)))},hb=function(){gt(this,It,ub).call(this),gt(this,It,fb).call(this,gt(this,It,db).call(this))},mb=function(){F(this,Vo)&&(clearTimeout(F(this,Vo)),je(this,Vo,void 0))},pb=function(){F(this,zo)&&(clearInterval(F(this,zo)),je(this,zo,void 0))},gb=function(){const t=F(this,Rr).getQueryCache().build(F(this,Rr),this.options);if(t===F(this,Dt))return;const n=F(this,Dt);je(this,Dt,t),je(this,$d,t.state),this.hasListeners()&&(n==null||n.removeObserver(this),t.addObserver(this))},ON=function(t){$n.batch(()=>{t.listeners&&this.listeners.forEach(n=>{n(F(this,gr))}),F(this,Rr).getQueryCache().notify({query:F(this,Dt),type:"observerResultsUpdated"})})},L_);function NI(e,t){return Da(t.enabled,e)!==!1&&e.state.data===void 0&&!(e.state.status==="error"&&t.retryOnMount===!1)}function BT(e,t){return NI(e,t)||e.state.data!==void 0&&yb(e,t,t.refetchOnMount)}function yb(e,t,n){if(Da(t.enabled,e)!==!1){const r=typeof n=="function"?n(e):n;return r==="always"||r!==!1&&rx(e,t)}return!1}function UT(e,t,n,r){return(e!==t||Da(r.enabled,e)===!1)&&(!n.suspense||e.state.status!=="error")&&rx(e,n)}function rx(e,t){return Da(t.enabled,e)!==!1&&e.isStaleByTime(Xl(t.staleTime,e))}function OI(e,t){return!_m(e.getCurrentResult(),t)}var Fi,Ii,Dr,Ns,Vs,Qh,vb,V_,kI=(V_=class extends Vc{constructor(n,r){super();Xe(this,Vs);Xe(this,Fi);Xe(this,Ii);Xe(this,Dr);Xe(this,Ns);je(this,Fi,n),this.setOptions(r),this.bindMethods(),gt(this,Vs,Qh).call(this)}bindMethods(){this.mutate=this.mutate.bind(this),this.reset=this.reset.bind(this)}setOptions(n){var s;const r=this.options;this.options=F(this,Fi).defaultMutationOptions(n),_m(this.options,r)||F(this,Fi).getMutationCache().notify({type:"observerOptionsUpdated",mutation:F(this,Dr),observer:this}),r!=null&&r.mutationKey&&this.options.mutationKey&&Wo(r.mutationKey)!==Wo(this.options.mutationKey)?this.reset():((s=F(this,Dr))==null?void 0:s.state.status)==="pending"&&F(this,Dr).setOptions(this.options)}onUnsubscribe(){var n;this.hasListeners()||(n=F(this,Dr))==null||n.removeObserver(this)}onMutationUpdate(n){gt(this,Vs,Qh).call(this),gt(this,Vs,vb).call(this,n)}getCurrentResult(){return F(this,Ii)}reset(){var n;(n=F(this,Dr))==null||n.removeObserver(this),je(this,Dr,void 0),gt(this,Vs,Qh).call(this),gt(this,Vs,vb).call(this)}mutate(n,r){var s;return je(this,Ns,r),(s=F(this,Dr))==null||s.removeObserver(this),je(this,Dr,F(this,Fi).getMutationCache().build(F(this,Fi),this.options)),F(this,Dr).addObserver(this),F(this,Dr).execute(n)}},Fi=new WeakMap,Ii=new WeakMap,Dr=new WeakMap,Ns=new WeakMap,Vs=new WeakSet,Qh=function(){var r;const n=((r=F(this,Dr))==null?void 0:r.state)??NN();je(this,Ii,{...n,isPending:n.status==="pending",isSuccess:n.status==="success",isError:n.status==="error",isIdle:n.status==="idle",mutate:this.mutate,reset:this.reset})},vb=function(n){$n.batch(()=>{var r,s,o,c,u,f,h,m;if(F(this,Ns)&&this.hasListeners()){const p=F(this,Ii).variables,b=F(this,Ii).context;(n==null?void 0:n.type)==="success"?((s=(r=F(this,Ns)).onSuccess)==null||s.call(r,n.data,p,b),(c=(o=F(this,Ns)).onSettled)==null||c.call(o,n.data,null,p,b)):(n==null?void 0:n.type)==="error"&&((f=(u=F(this,Ns)).onError)==null||f.call(u,n.error,p,b),(m=(h=F(this,Ns)).onSettled)==null||m.call(h,void 0,n.error,p,b))}this.listeners.forEach(p=>{p(F(this,Ii))})})},V_),kN=x.createContext(void 0),zc=e=>{const t=x.useContext(kN);if(!t)throw new Error("No QueryClient set, use QueryClientProvider to set one");return t},jI=({client:e,children:t})=>(x.useEffect(()=>(e.mount(),()=>{e.unmount()}),[e]),g.jsx(kN.Provider,{value:e,children:t})),jN=x.createContext(!1),PI=()=>x.useContext(jN);jN.Provider;function LI(){let e=!1;return{clearReset:()=>{e=!1},reset:()=>{e=!0},isReset:()=>e}}var VI=x.createContext(LI()),zI=()=>x.useContext(VI),BI=(e,t)=>{(e.suspense||e.throwOnError||e.experimental_prefetchInRender)&&(t.isReset()||(e.retryOnMount=!1))},UI=e=>{x.useEffect(()=>{e.clearReset()},[e])},FI=({result:e,errorResetBoundary:t,throwOnError:n,query:r,suspense:s})=>e.isError&&!t.isReset()&&!e.isFetching&&r&&(s&&e.data===void 0||TN(n,[e.error,r])),II=e=>{const t=e.staleTime;e.suspense&&(e.staleTime=typeof t=="function"?(...n)=>Math.max(t(...n),1e3):Math.max(t??1e3,1e3),typeof e.gcTime=="number"&&(e.gcTime=Math.max(e.gcTime,1e3)))},HI=(e,t)=>e.isLoading&&e.isFetching&&!t,$I=(e,t)=>(e==null?void 0:e.suspense)&&t.isPending,FT=(e,t,n)=>t.fetchOptimistic(e).catch(()=>{n.clearReset()});function qI(e,t,n){var p,b,w,S,E;const r=zc(),s=PI(),o=zI(),c=r.defaultQueryOptions(e);(b=(p=r.getDefaultOptions().queries)==null?void 0:p._experimental_beforeQuery)==null||b.call(p,c),c._optimisticResults=s?"isRestoring":"optimistic",II(c),BI(c,o),UI(o);const u=!r.getQueryCache().get(c.queryHash),[f]=x.useState(()=>new t(r,c)),h=f.getOptimisticResult(c),m=!s&&e.subscribed!==!1;if(x.useSyncExternalStore(x.useCallback(C=>{const T=m?f.subscribe($n.batchCalls(C)):br;return f.updateResult(),T},[f,m]),()=>f.getCurrentResult(),()=>f.getCurrentResult()),x.useEffect(()=>{f.setOptions(c)},[c,f]),$I(c,h))throw FT(c,f,o);if(FI({result:h,errorResetBoundary:o,throwOnError:c.throwOnError,query:r.getQueryCache().get(c.queryHash),suspense:c.suspense}))throw h.error;if((S=(w=r.getDefaultOptions().queries)==null?void 0:w._experimental_afterQuery)==null||S.call(w,c,h),c.experimental_prefetchInRender&&!Go&&HI(h,s)){const C=u?FT(c,f,o):(E=r.getQueryCache().get(c.queryHash))==null?void 0:E.promise;C==null||C.catch(br).finally(()=>{f.updateResult()})}return c.notifyOnChangeProps?h:f.trackResult(h)}function Ks(e,t){return qI(e,DI)}function Hs(e,t){const n=zc(),[r]=x.useState(()=>new kI(n,e));x.useEffect(()=>{r.setOptions(e)},[r,e]);const s=x.useSyncExternalStore(x.useCallback(c=>r.subscribe($n.batchCalls(c)),[r]),()=>r.getCurrentResult(),()=>r.getCurrentResult()),o=x.useCallback((c,u)=>{r.mutate(c,u).catch(br)},[r]);if(s.error&&TN(r.options.throwOnError,[s.error]))throw s.error;return{...s,mutate:o,mutateAsync:s.mutate}}function YI(){const e=Gs(),t=jc({resolver:Lc(cI)}),n=Hs({mutationFn:async s=>{await Tn.post("/auth/login",s)},onSuccess:()=>{e("/dashboard"),En.success("Login successful!")},onError:s=>{var o;En.error(`${(o=s.response)==null?void 0:o.data.error}`)}});function r(s){n.mutate(s)}return g.jsx(Pc,{...t,children:g.jsxs("form",{className:"space-y-4",onSubmit:t.handleSubmit(r),children:[g.jsx(On,{control:t.control,name:"email",render:({field:s})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Email"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter your email",...s})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:t.control,name:"password",render:({field:s})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Password"}),g.jsx(Pn,{children:g.jsx(Cn,{type:"password",placeholder:"Enter your password",...s})}),g.jsx(Ln,{})]})}),g.jsx("div",{className:"flex justify-end",children:g.jsx(Ut,{type:"submit",children:"Login"})})]})})}const PN=x.createContext({});function GI(e){const t=x.useRef(null);return t.current===null&&(t.current=e()),t.current}const ax=typeof window<"u",WI=ax?x.useLayoutEffect:x.useEffect,sx=x.createContext(null),LN=x.createContext({transformPagePoint:e=>e,isStatic:!1,reducedMotion:"never"});function VN(e){return typeof e=="object"&&e!==null}function zN(e){return VN(e)&&"offsetHeight"in e}function KI(e=!0){const t=x.useContext(sx);if(t===null)return[!0,null];const{isPresent:n,onExitComplete:r,register:s}=t,o=x.useId();x.useEffect(()=>{if(e)return s(o)},[e]);const c=x.useCallback(()=>e&&r&&r(o),[o,r,e]);return!n&&r?[!1,c]:[!0]}const zh=["setup","read","resolveKeyframes","preUpdate","update","preRender","render","postRender"],IT={value:null};function ZI(e,t){let n=new Set,r=new Set,s=!1,o=!1;const c=new WeakSet;let u={delta:0,timestamp:0,isProcessing:!1},f=0;function h(p){c.has(p)&&(m.schedule(p),e()),f++,p(u)}const m={schedule:(p,b=!1,w=!1)=>{const E=w&&s?n:r;return b&&c.add(p),E.has(p)||E.add(p),p},cancel:p=>{r.delete(p),c.delete(p)},process:p=>{if(u=p,s){o=!0;return}s=!0,[n,r]=[r,n],n.forEach(h),t&&IT.value&&IT.value.frameloop[t].push(f),f=0,n.clear(),s=!1,o&&(o=!1,m.process(p))}};return m}const $s={},XI=40;function BN(e,t){let n=!1,r=!0;const s={delta:0,timestamp:0,isProcessing:!1},o=()=>n=!0,c=zh.reduce((A,O)=>(A[O]=ZI(o,t?O:void 0),A),{}),{setup:u,read:f,resolveKeyframes:h,preUpdate:m,update:p,preRender:b,render:w,postRender:S}=c,E=()=>{const A=$s.useManualTiming?s.timestamp:performance.now();n=!1,$s.useManualTiming||(s.delta=r?1e3/60:Math.max(Math.min(A-s.timestamp,XI),1)),s.timestamp=A,s.isProcessing=!0,u.process(s),f.process(s),h.process(s),m.process(s),p.process(s),b.process(s),w.process(s),S.process(s),s.isProcessing=!1,n&&t&&(r=!1,e(E))},C=()=>{n=!0,r=!0,s.isProcessing||e(E)};return{schedule:zh.reduce((A,O)=>{const R=c[O];return A[O]=(D,L=!1,k=!1)=>(n||C(),R.schedule(D,L,k)),A},{}),cancel:A=>{for(let O=0;O<zh.length;O++)c[zh[O]].cancel(A)},state:s,steps:c}}const ba=e=>e,{schedule:dn,cancel:Xi,state:rr,steps:Qy}=BN(typeof requestAnimationFrame<"u"?requestAnimationFrame:ba,!0),UN=x.createContext({strict:!1}),HT={animation:["animate","variants","whileHover","whileTap","exit","whileInView","whileFocus","whileDrag"],exit:["exit"],drag:["drag","dragControls"],focus:["whileFocus"],hover:["whileHover","onHoverStart","onHoverEnd"],tap:["whileTap","onTap","onTapStart","onTapCancel"],pan:["onPan","onPanStart","onPanSessionStart","onPanEnd"],inView:["whileInView","onViewportEnter","onViewportLeave"],layout:["layout","layoutId"]},bc={};for(const e in HT)bc[e]={isEnabled:t=>HT[e].some(n=>!!t[n])};function QI(e){for(const t in e)bc[t]={...bc[t],...e[t]}}const JI=new Set(["animate","exit","variants","initial","style","values","variants","transition","transformTemplate","custom","inherit","onBeforeLayoutMeasure","onAnimationStart","onAnimationComplete","onUpdate","onDragStart","onDrag","onDragEnd","onMeasureDragConstraints","onDirectionLock","onDragTransitionEnd","_dragX","_dragY","onHoverStart","onHoverEnd","onViewportEnter","onViewportLeave","globalTapTarget","ignoreStrict","viewport"]);function Rm(e){return e.startsWith("while")||e.startsWith("drag")&&e!=="draggable"||e.startsWith("layout")||e.startsWith("onTap")||e.startsWith("onPan")||e.startsWith("onLayout")||JI.has(e)}let FN=e=>!Rm(e);function eH(e){e&&(FN=t=>t.startsWith("on")?!Rm(t):e(t))}try{eH(require("@emotion/is-prop-valid").default)}catch{}function tH(e,t,n){const r={};for(const s in e)s==="values"&&typeof e.values=="object"||(FN(s)||n===!0&&Rm(s)||!t&&!Rm(s)||e.draggable&&s.startsWith("onDrag"))&&(r[s]=e[s]);return r}function nH(e){if(typeof Proxy>"u")return e;const t=new Map,n=(...r)=>e(...r);return new Proxy(n,{get:(r,s)=>s==="create"?e:(t.has(s)||t.set(s,e(s)),t.get(s))})}const lp=x.createContext({});function cp(e){return e!==null&&typeof e=="object"&&typeof e.start=="function"}function Dd(e){return typeof e=="string"||Array.isArray(e)}const ix=["animate","whileInView","whileFocus","whileHover","whileTap","whileDrag","exit"],ox=["initial",...ix];function up(e){return cp(e.animate)||ox.some(t=>Dd(e[t]))}function IN(e){return!!(up(e)||e.variants)}function rH(e,t){if(up(e)){const{initial:n,animate:r}=e;return{initial:n===!1||Dd(n)?n:void 0,animate:Dd(r)?r:void 0}}return e.inherit!==!1?t:{}}function aH(e){const{initial:t,animate:n}=rH(e,x.useContext(lp));return x.useMemo(()=>({initial:t,animate:n}),[$T(t),$T(n)])}function $T(e){return Array.isArray(e)?e.join(" "):e}const sH=Symbol.for("motionComponentSymbol");function Hl(e){return e&&typeof e=="object"&&Object.prototype.hasOwnProperty.call(e,"current")}function iH(e,t,n){return x.useCallback(r=>{r&&e.onMount&&e.onMount(r),t&&(r?t.mount(r):t.unmount()),n&&(typeof n=="function"?n(r):Hl(n)&&(n.current=r))},[t])}const lx=e=>e.replace(/([a-z])([A-Z])/gu,"$1-$2").toLowerCase(),oH="framerAppearId",HN="data-"+lx(oH),$N=x.createContext({}),{schedule:cx}=BN(queueMicrotask,!1);function lH(e,t,n,r,s){var E,C;const{visualElement:o}=x.useContext(lp),c=x.useContext(UN),u=x.useContext(sx),f=x.useContext(LN).reducedMotion,h=x.useRef(null);r=r||c.renderer,!h.current&&r&&(h.current=r(e,{visualState:t,parent:o,props:n,presenceContext:u,blockInitialAnimation:u?u.initial===!1:!1,reducedMotionConfig:f}));const m=h.current,p=x.useContext($N);m&&!m.projection&&s&&(m.type==="html"||m.type==="svg")&&cH(h.current,n,s,p);const b=x.useRef(!1);x.useInsertionEffect(()=>{m&&b.current&&m.update(n,u)});const w=n[HN],S=x.useRef(!!w&&!((E=window.MotionHandoffIsComplete)!=null&&E.call(window,w))&&((C=window.MotionHasOptimisedAnimation)==null?void 0:C.call(window,w)));return WI(()=>{m&&(b.current=!0,window.MotionIsMounted=!0,m.updateFeatures(),cx.render(m.render),S.current&&m.animationState&&m.animationState.animateChanges())}),x.useEffect(()=>{m&&(!S.current&&m.animationState&&m.animationState.animateChanges(),S.current&&(queueMicrotask(()=>{var T;(T=window.MotionHandoffMarkAsComplete)==null||T.call(window,w)}),S.current=!1))}),m}function cH(e,t,n,r){const{layoutId:s,layout:o,drag:c,dragConstraints:u,layoutScroll:f,layoutRoot:h,layoutCrossfade:m}=t;e.projection=new n(e.latestValues,t["data-framer-portal-id"]?void 0:qN(e.parent)),e.projection.setOptions({layoutId:s,layout:o,alwaysMeasureLayout:!!c||u&&Hl(u),visualElement:e,animationType:typeof o=="string"?o:"both",initialPromotionConfig:r,crossfade:m,layoutScroll:f,layoutRoot:h})}function qN(e){if(e)return e.options.allowProjection!==!1?e.projection:qN(e.parent)}let ux=()=>{};function uH({preloadedFeatures:e,createVisualElement:t,useRender:n,useVisualState:r,Component:s}){e&&QI(e);function o(u,f){let h;const m={...x.useContext(LN),...u,layoutId:dH(u)},{isStatic:p}=m,b=aH(u),w=r(u,p);if(!p&&ax){fH();const S=hH(m);h=S.MeasureLayout,b.visualElement=lH(s,w,m,t,S.ProjectionNode)}return g.jsxs(lp.Provider,{value:b,children:[h&&b.visualElement?g.jsx(h,{visualElement:b.visualElement,...m}):null,n(s,u,iH(w,b.visualElement,f),w,p,b.visualElement)]})}o.displayName=`motion.${typeof s=="string"?s:`create(${s.displayName??s.name??""})`}`;const c=x.forwardRef(o);return c[sH]=s,c}function dH({layoutId:e}){const t=x.useContext(PN).id;return t&&e!==void 0?t+"-"+e:e}function fH(e,t){x.useContext(UN).strict}function hH(e){const{drag:t,layout:n}=bc;if(!t&&!n)return{};const r={...t,...n};return{MeasureLayout:t!=null&&t.isEnabled(e)||n!=null&&n.isEnabled(e)?r.MeasureLayout:void 0,ProjectionNode:r.ProjectionNode}}const YN=e=>t=>typeof t=="string"&&t.startsWith(e),dx=YN("--"),mH=YN("var(--"),fx=e=>mH(e)?pH.test(e.split("/*")[0].trim()):!1,pH=/var\(--(?:[\w-]+\s*|[\w-]+\s*,(?:\s*[^)(\s]|\s*\((?:[^)(]|\([^)(]*\))*\))+\s*)\)$/iu,Nd={};function gH(e){for(const t in e)Nd[t]=e[t],dx(t)&&(Nd[t].isCSSVariable=!0)}const Bc=["transformPerspective","x","y","z","translateX","translateY","translateZ","scale","scaleX","scaleY","rotate","rotateX","rotateY","rotateZ","skew","skewX","skewY"],Uc=new Set(Bc);function GN(e,{layout:t,layoutId:n}){return Uc.has(e)||e.startsWith("origin")||(t||n!==void 0)&&(!!Nd[e]||e==="opacity")}const WN=(e,t)=>t&&typeof e=="number"?t.transform(e):e,qs=(e,t,n)=>n>t?t:n<e?e:n,Fc={test:e=>typeof e=="number",parse:parseFloat,transform:e=>e},Od={...Fc,transform:e=>qs(0,1,e)},Bh={...Fc,default:1},qT={...Fc,transform:Math.round},sf=e=>({test:t=>typeof t=="string"&&t.endsWith(e)&&t.split(" ").length===1,parse:parseFloat,transform:t=>`${t}${e}`}),Ri=sf("deg"),as=sf("%"),at=sf("px"),yH=sf("vh"),vH=sf("vw"),YT={...as,parse:e=>as.parse(e)/100,transform:e=>as.transform(e*100)},bH={rotate:Ri,rotateX:Ri,rotateY:Ri,rotateZ:Ri,scale:Bh,scaleX:Bh,scaleY:Bh,scaleZ:Bh,skew:Ri,skewX:Ri,skewY:Ri,distance:at,translateX:at,translateY:at,translateZ:at,x:at,y:at,z:at,perspective:at,transformPerspective:at,opacity:Od,originX:YT,originY:YT,originZ:at},hx={borderWidth:at,borderTopWidth:at,borderRightWidth:at,borderBottomWidth:at,borderLeftWidth:at,borderRadius:at,radius:at,borderTopLeftRadius:at,borderTopRightRadius:at,borderBottomRightRadius:at,borderBottomLeftRadius:at,width:at,maxWidth:at,height:at,maxHeight:at,top:at,right:at,bottom:at,left:at,padding:at,paddingTop:at,paddingRight:at,paddingBottom:at,paddingLeft:at,margin:at,marginTop:at,marginRight:at,marginBottom:at,marginLeft:at,backgroundPositionX:at,backgroundPositionY:at,...bH,zIndex:qT,fillOpacity:Od,strokeOpacity:Od,numOctaves:qT},xH={x:"translateX",y:"translateY",z:"translateZ",transformPerspective:"perspective"},wH=Bc.length;function SH(e,t,n){let r="",s=!0;for(let o=0;o<wH;o++){const c=Bc[o],u=e[c];if(u===void 0)continue;let f=!0;if(typeof u=="number"?f=u===(c.startsWith("scale")?1:0):f=parseFloat(u)===0,!f||n){const h=WN(u,hx[c]);if(!f){s=!1;const m=xH[c]||c;r+=`${m}(${h}) `}n&&(t[c]=h)}}return r=r.trim(),n?r=n(t,s?"":r):s&&(r="none"),r}function mx(e,t,n){const{style:r,vars:s,transformOrigin:o}=e;let c=!1,u=!1;for(const f in t){const h=t[f];if(Uc.has(f)){c=!0;continue}else if(dx(f)){s[f]=h;continue}else{const m=WN(h,hx[f]);f.startsWith("origin")?(u=!0,o[f]=m):r[f]=m}}if(t.transform||(c||n?r.transform=SH(t,e.transform,n):r.transform&&(r.transform="none")),u){const{originX:f="50%",originY:h="50%",originZ:m=0}=o;r.transformOrigin=`${f} ${h} ${m}`}}const px=()=>({style:{},transform:{},transformOrigin:{},vars:{}}),fr=e=>!!(e&&e.getVelocity);function KN(e,t,n){for(const r in t)!fr(t[r])&&!GN(r,n)&&(e[r]=t[r])}function EH({transformTemplate:e},t){return x.useMemo(()=>{const n=px();return mx(n,t,e),Object.assign({},n.vars,n.style)},[t])}function CH(e,t){const n=e.style||{},r={};return KN(r,n,e),Object.assign(r,EH(e,t)),r}function TH(e,t){const n={},r=CH(e,t);return e.drag&&e.dragListener!==!1&&(n.draggable=!1,r.userSelect=r.WebkitUserSelect=r.WebkitTouchCallout="none",r.touchAction=e.drag===!0?"none":`pan-${e.drag==="x"?"y":"x"}`),e.tabIndex===void 0&&(e.onTap||e.onTapStart||e.whileTap)&&(n.tabIndex=0),n.style=r,n}const MH={offset:"stroke-dashoffset",array:"stroke-dasharray"},_H={offset:"strokeDashoffset",array:"strokeDasharray"};function AH(e,t,n=1,r=0,s=!0){e.pathLength=1;const o=s?MH:_H;e[o.offset]=at.transform(-r);const c=at.transform(t),u=at.transform(n);e[o.array]=`${c} ${u}`}function ZN(e,{attrX:t,attrY:n,attrScale:r,pathLength:s,pathSpacing:o=1,pathOffset:c=0,...u},f,h,m){if(mx(e,u,h),f){e.style.viewBox&&(e.attrs.viewBox=e.style.viewBox);return}e.attrs=e.style,e.style={};const{attrs:p,style:b}=e;p.transform&&(b.transform=p.transform,delete p.transform),(b.transform||p.transformOrigin)&&(b.transformOrigin=p.transformOrigin??"50% 50%",delete p.transformOrigin),b.transform&&(b.transformBox=(m==null?void 0:m.transformBox)??"fill-box",delete p.transformBox),t!==void 0&&(p.x=t),n!==void 0&&(p.y=n),r!==void 0&&(p.scale=r),s!==void 0&&AH(p,s,o,c,!1)}const XN=()=>({...px(),attrs:{}}),QN=e=>typeof e=="string"&&e.toLowerCase()==="svg";function RH(e,t,n,r){const s=x.useMemo(()=>{const o=XN();return ZN(o,t,QN(r),e.transformTemplate,e.style),{...o.attrs,style:{...o.style}}},[t]);if(e.style){const o={};KN(o,e.style,e),s.style={...o,...s.style}}return s}const DH=["animate","circle","defs","desc","ellipse","g","image","line","filter","marker","mask","metadata","path","pattern","polygon","polyline","rect","stop","switch","symbol","svg","text","tspan","use","view"];function gx(e){return typeof e!="string"||e.includes("-")?!1:!!(DH.indexOf(e)>-1||/[A-Z]/u.test(e))}function NH(e=!1){return(n,r,s,{latestValues:o},c)=>{const f=(gx(n)?RH:TH)(r,o,c,n),h=tH(r,typeof n=="string",e),m=n!==x.Fragment?{...h,...f,ref:s}:{},{children:p}=r,b=x.useMemo(()=>fr(p)?p.get():p,[p]);return x.createElement(n,{...m,children:b})}}function GT(e){const t=[{},{}];return e==null||e.values.forEach((n,r)=>{t[0][r]=n.get(),t[1][r]=n.getVelocity()}),t}function yx(e,t,n,r){if(typeof t=="function"){const[s,o]=GT(r);t=t(n!==void 0?n:e.custom,s,o)}if(typeof t=="string"&&(t=e.variants&&e.variants[t]),typeof t=="function"){const[s,o]=GT(r);t=t(n!==void 0?n:e.custom,s,o)}return t}function Jh(e){return fr(e)?e.get():e}function OH({scrapeMotionValuesFromProps:e,createRenderState:t},n,r,s){return{latestValues:kH(n,r,s,e),renderState:t()}}const JN=e=>(t,n)=>{const r=x.useContext(lp),s=x.useContext(sx),o=()=>OH(e,t,r,s);return n?o():GI(o)};function kH(e,t,n,r){const s={},o=r(e,{});for(const b in o)s[b]=Jh(o[b]);let{initial:c,animate:u}=e;const f=up(e),h=IN(e);t&&h&&!f&&e.inherit!==!1&&(c===void 0&&(c=t.initial),u===void 0&&(u=t.animate));let m=n?n.initial===!1:!1;m=m||c===!1;const p=m?u:c;if(p&&typeof p!="boolean"&&!cp(p)){const b=Array.isArray(p)?p:[p];for(let w=0;w<b.length;w++){const S=yx(e,b[w]);if(S){const{transitionEnd:E,transition:C,...T}=S;for(const _ in T){let A=T[_];if(Array.isArray(A)){const O=m?A.length-1:0;A=A[O]}A!==null&&(s[_]=A)}for(const _ in E)s[_]=E[_]}}}return s}function vx(e,t,n){var o;const{style:r}=e,s={};for(const c in r)(fr(r[c])||t.style&&fr(t.style[c])||GN(c,e)||((o=n==null?void 0:n.getValue(c))==null?void 0:o.liveStyle)!==void 0)&&(s[c]=r[c]);return s}const jH={useVisualState:JN({scrapeMotionValuesFromProps:vx,createRenderState:px})};function eO(e,t,n){const r=vx(e,t,n);for(const s in e)if(fr(e[s])||fr(t[s])){const o=Bc.indexOf(s)!==-1?"attr"+s.charAt(0).toUpperCase()+s.substring(1):s;r[o]=e[s]}return r}const PH={useVisualState:JN({scrapeMotionValuesFromProps:eO,createRenderState:XN})};function LH(e,t){return function(r,{forwardMotionProps:s}={forwardMotionProps:!1}){const c={...gx(r)?PH:jH,preloadedFeatures:e,useRender:NH(s),createVisualElement:t,Component:r};return uH(c)}}function kd(e,t,n){const r=e.getProps();return yx(r,t,n!==void 0?n:r.custom,e)}const bb=e=>Array.isArray(e);let em;function VH(){em=void 0}const Vr={now:()=>(em===void 0&&Vr.set(rr.isProcessing||$s.useManualTiming?rr.timestamp:performance.now()),em),set:e=>{em=e,queueMicrotask(VH)}};function bx(e,t){e.indexOf(t)===-1&&e.push(t)}function xx(e,t){const n=e.indexOf(t);n>-1&&e.splice(n,1)}class wx{constructor(){this.subscriptions=[]}add(t){return bx(this.subscriptions,t),()=>xx(this.subscriptions,t)}notify(t,n,r){const s=this.subscriptions.length;if(s)if(s===1)this.subscriptions[0](t,n,r);else for(let o=0;o<s;o++){const c=this.subscriptions[o];c&&c(t,n,r)}}getSize(){return this.subscriptions.length}clear(){this.subscriptions.length=0}}function tO(e,t){return t?e*(1e3/t):0}const WT=30,zH=e=>!isNaN(parseFloat(e));class BH{constructor(t,n={}){this.canTrackVelocity=null,this.events={},this.updateAndNotify=(r,s=!0)=>{var c,u;const o=Vr.now();if(this.updatedAt!==o&&this.setPrevFrameValue(),this.prev=this.current,this.setCurrent(r),this.current!==this.prev&&((c=this.events.change)==null||c.notify(this.current),this.dependents))for(const f of this.dependents)f.dirty();s&&((u=this.events.renderRequest)==null||u.notify(this.current))},this.hasAnimated=!1,this.setCurrent(t),this.owner=n.owner}setCurrent(t){this.current=t,this.updatedAt=Vr.now(),this.canTrackVelocity===null&&t!==void 0&&(this.canTrackVelocity=zH(this.current))}setPrevFrameValue(t=this.current){this.prevFrameValue=t,this.prevUpdatedAt=this.updatedAt}onChange(t){return this.on("change",t)}on(t,n){this.events[t]||(this.events[t]=new wx);const r=this.events[t].add(n);return t==="change"?()=>{r(),dn.read(()=>{this.events.change.getSize()||this.stop()})}:r}clearListeners(){for(const t in this.events)this.events[t].clear()}attach(t,n){this.passiveEffect=t,this.stopPassiveEffect=n}set(t,n=!0){!n||!this.passiveEffect?this.updateAndNotify(t,n):this.passiveEffect(t,this.updateAndNotify)}setWithVelocity(t,n,r){this.set(n),this.prev=void 0,this.prevFrameValue=t,this.prevUpdatedAt=this.updatedAt-r}jump(t,n=!0){this.updateAndNotify(t),this.prev=t,this.prevUpdatedAt=this.prevFrameValue=void 0,n&&this.stop(),this.stopPassiveEffect&&this.stopPassiveEffect()}dirty(){var t;(t=this.events.change)==null||t.notify(this.current)}addDependent(t){this.dependents||(this.dependents=new Set),this.dependents.add(t)}removeDependent(t){this.dependents&&this.dependents.delete(t)}get(){return this.current}getPrevious(){return this.prev}getVelocity(){const t=Vr.now();if(!this.canTrackVelocity||this.prevFrameValue===void 0||t-this.updatedAt>WT)return 0;const n=Math.min(this.updatedAt-this.prevUpdatedAt,WT);return tO(parseFloat(this.current)-parseFloat(this.prevFrameValue),n)}start(t){return this.stop(),new Promise(n=>{this.hasAnimated=!0,this.animation=t(n),this.events.animationStart&&this.events.animationStart.notify()}).then(()=>{this.events.animationComplete&&this.events.animationComplete.notify(),this.clearAnimation()})}stop(){this.animation&&(this.animation.stop(),this.events.animationCancel&&this.events.animationCancel.notify()),this.clearAnimation()}isAnimating(){return!!this.animation}clearAnimation(){delete this.animation}destroy(){var t,n;(t=this.dependents)==null||t.clear(),(n=this.events.destroy)==null||n.notify(),this.clearListeners(),this.stop(),this.stopPassiveEffect&&this.stopPassiveEffect()}}function xc(e,t){return new BH(e,t)}function UH(e,t,n){e.hasValue(t)?e.getValue(t).set(n):e.addValue(t,xc(n))}function FH(e){return bb(e)?e[e.length-1]||0:e}function IH(e,t){const n=kd(e,t);let{transitionEnd:r={},transition:s={},...o}=n||{};o={...o,...r};for(const c in o){const u=FH(o[c]);UH(e,c,u)}}function HH(e){return!!(fr(e)&&e.add)}function xb(e,t){const n=e.getValue("willChange");if(HH(n))return n.add(t);if(!n&&$s.WillChange){const r=new $s.WillChange("auto");e.addValue("willChange",r),r.add(t)}}function nO(e){return e.props[HN]}const $H=e=>e!==null;function qH(e,{repeat:t,repeatType:n="loop"},r){const s=e.filter($H),o=t&&n!=="loop"&&t%2===1?0:s.length-1;return s[o]}const YH={type:"spring",stiffness:500,damping:25,restSpeed:10},GH=e=>({type:"spring",stiffness:550,damping:e===0?2*Math.sqrt(550):30,restSpeed:10}),WH={type:"keyframes",duration:.8},KH={type:"keyframes",ease:[.25,.1,.35,1],duration:.3},ZH=(e,{keyframes:t})=>t.length>2?WH:Uc.has(e)?e.startsWith("scale")?GH(t[1]):YH:KH;function XH({when:e,delay:t,delayChildren:n,staggerChildren:r,staggerDirection:s,repeat:o,repeatType:c,repeatDelay:u,from:f,elapsed:h,...m}){return!!Object.keys(m).length}function Sx(e,t){return(e==null?void 0:e[t])??(e==null?void 0:e.default)??e}const ss=e=>e*1e3,is=e=>e/1e3,dd=e=>Math.round(e*1e5)/1e5,Ex=/-?(?:\d+(?:\.\d+)?|\.\d+)/gu;function QH(e){return e==null}const JH=/^(?:#[\da-f]{3,8}|(?:rgb|hsl)a?\((?:-?[\d.]+%?[,\s]+){2}-?[\d.]+%?\s*(?:[,/]\s*)?(?:\b\d+(?:\.\d+)?|\.\d+)?%?\))$/iu,Cx=(e,t)=>n=>!!(typeof n=="string"&&JH.test(n)&&n.startsWith(e)||t&&!QH(n)&&Object.prototype.hasOwnProperty.call(n,t)),rO=(e,t,n)=>r=>{if(typeof r!="string")return r;const[s,o,c,u]=r.match(Ex);return{[e]:parseFloat(s),[t]:parseFloat(o),[n]:parseFloat(c),alpha:u!==void 0?parseFloat(u):1}},e7=e=>qs(0,255,e),Jy={...Fc,transform:e=>Math.round(e7(e))},Ro={test:Cx("rgb","red"),parse:rO("red","green","blue"),transform:({red:e,green:t,blue:n,alpha:r=1})=>"rgba("+Jy.transform(e)+", "+Jy.transform(t)+", "+Jy.transform(n)+", "+dd(Od.transform(r))+")"};function t7(e){let t="",n="",r="",s="";return e.length>5?(t=e.substring(1,3),n=e.substring(3,5),r=e.substring(5,7),s=e.substring(7,9)):(t=e.substring(1,2),n=e.substring(2,3),r=e.substring(3,4),s=e.substring(4,5),t+=t,n+=n,r+=r,s+=s),{red:parseInt(t,16),green:parseInt(n,16),blue:parseInt(r,16),alpha:s?parseInt(s,16)/255:1}}const wb={test:Cx("#"),parse:t7,transform:Ro.transform},$l={test:Cx("hsl","hue"),parse:rO("hue","saturation","lightness"),transform:({hue:e,saturation:t,lightness:n,alpha:r=1})=>"hsla("+Math.round(e)+", "+as.transform(dd(t))+", "+as.transform(dd(n))+", "+dd(Od.transform(r))+")"},cr={test:e=>Ro.test(e)||wb.test(e)||$l.test(e),parse:e=>Ro.test(e)?Ro.parse(e):$l.test(e)?$l.parse(e):wb.parse(e),transform:e=>typeof e=="string"?e:e.hasOwnProperty("red")?Ro.transform(e):$l.transform(e)},n7=/(?:#[\da-f]{3,8}|(?:rgb|hsl)a?\((?:-?[\d.]+%?[,\s]+){2}-?[\d.]+%?\s*(?:[,/]\s*)?(?:\b\d+(?:\.\d+)?|\.\d+)?%?\))/giu;function r7(e){var t,n;return isNaN(e)&&typeof e=="string"&&(((t=e.match(Ex))==null?void 0:t.length)||0)+(((n=e.match(n7))==null?void 0:n.length)||0)>0}const aO="number",sO="color",a7="var",s7="var(",KT="${}",i7=/var\s*\(\s*--(?:[\w-]+\s*|[\w-]+\s*,(?:\s*[^)(\s]|\s*\((?:[^)(]|\([^)(]*\))*\))+\s*)\)|#[\da-f]{3,8}|(?:rgb|hsl)a?\((?:-?[\d.]+%?[,\s]+){2}-?[\d.]+%?\s*(?:[,/]\s*)?(?:\b\d+(?:\.\d+)?|\.\d+)?%?\)|-?(?:\d+(?:\.\d+)?|\.\d+)/giu;function jd(e){const t=e.toString(),n=[],r={color:[],number:[],var:[]},s=[];let o=0;const u=t.replace(i7,f=>(cr.test(f)?(r.color.push(o),s.push(sO),n.push(cr.parse(f))):f.startsWith(s7)?(r.var.push(o),s.push(a7),n.push(f)):(r.number.push(o),s.push(aO),n.push(parseFloat(f))),++o,KT)).split(KT);return{values:n,split:u,indexes:r,types:s}}function iO(e){return jd(e).values}function oO(e){const{split:t,types:n}=jd(e),r=t.length;return s=>{let o="";for(let c=0;c<r;c++)if(o+=t[c],s[c]!==void 0){const u=n[c];u===aO?o+=dd(s[c]):u===sO?o+=cr.transform(s[c]):o+=s[c]}return o}}const o7=e=>typeof e=="number"?0:e;function l7(e){const t=iO(e);return oO(e)(t.map(o7))}const Qi={test:r7,parse:iO,createTransformer:oO,getAnimatableNone:l7};function ev(e,t,n){return n<0&&(n+=1),n>1&&(n-=1),n<1/6?e+(t-e)*6*n:n<1/2?t:n<2/3?e+(t-e)*(2/3-n)*6:e}function c7({hue:e,saturation:t,lightness:n,alpha:r}){e/=360,t/=100,n/=100;let s=0,o=0,c=0;if(!t)s=o=c=n;else{const u=n<.5?n*(1+t):n+t-n*t,f=2*n-u;s=ev(f,u,e+1/3),o=ev(f,u,e),c=ev(f,u,e-1/3)}return{red:Math.round(s*255),green:Math.round(o*255),blue:Math.round(c*255),alpha:r}}function Dm(e,t){return n=>n>0?t:e}const cn=(e,t,n)=>e+(t-e)*n,tv=(e,t,n)=>{const r=e*e,s=n*(t*t-r)+r;return s<0?0:Math.sqrt(s)},u7=[wb,Ro,$l],d7=e=>u7.find(t=>t.test(e));function ZT(e){const t=d7(e);if(!t)return!1;let n=t.parse(e);return t===$l&&(n=c7(n)),n}const XT=(e,t)=>{const n=ZT(e),r=ZT(t);if(!n||!r)return Dm(e,t);const s={...n};return o=>(s.red=tv(n.red,r.red,o),s.green=tv(n.green,r.green,o),s.blue=tv(n.blue,r.blue,o),s.alpha=cn(n.alpha,r.alpha,o),Ro.transform(s))},Sb=new Set(["none","hidden"]);function f7(e,t){return Sb.has(e)?n=>n<=0?e:t:n=>n>=1?t:e}const h7=(e,t)=>n=>t(e(n)),of=(...e)=>e.reduce(h7);function m7(e,t){return n=>cn(e,t,n)}function Tx(e){return typeof e=="number"?m7:typeof e=="string"?fx(e)?Dm:cr.test(e)?XT:y7:Array.isArray(e)?lO:typeof e=="object"?cr.test(e)?XT:p7:Dm}function lO(e,t){const n=[...e],r=n.length,s=e.map((o,c)=>Tx(o)(o,t[c]));return o=>{for(let c=0;c<r;c++)n[c]=s[c](o);return n}}function p7(e,t){const n={...e,...t},r={};for(const s in n)e[s]!==void 0&&t[s]!==void 0&&(r[s]=Tx(e[s])(e[s],t[s]));return s=>{for(const o in r)n[o]=r[o](s);return n}}function g7(e,t){const n=[],r={color:0,var:0,number:0};for(let s=0;s<t.values.length;s++){const o=t.types[s],c=e.indexes[o][r[o]],u=e.values[c]??0;n[s]=u,r[o]++}return n}const y7=(e,t)=>{const n=Qi.createTransformer(t),r=jd(e),s=jd(t);return r.indexes.var.length===s.indexes.var.length&&r.indexes.color.length===s.indexes.color.length&&r.indexes.number.length>=s.indexes.number.length?Sb.has(e)&&!s.values.length||Sb.has(t)&&!r.values.length?f7(e,t):of(lO(g7(r,s),s.values),n):Dm(e,t)};function cO(e,t,n){return typeof e=="number"&&typeof t=="number"&&typeof n=="number"?cn(e,t,n):Tx(e)(e,t)}const v7=e=>{const t=({timestamp:n})=>e(n);return{start:(n=!0)=>dn.update(t,n),stop:()=>Xi(t),now:()=>rr.isProcessing?rr.timestamp:Vr.now()}},uO=(e,t,n=10)=>{let r="";const s=Math.max(Math.round(t/n),2);for(let o=0;o<s;o++)r+=e(o/(s-1))+", ";return`linear(${r.substring(0,r.length-2)})`},Nm=2e4;function Mx(e){let t=0;const n=50;let r=e.next(t);for(;!r.done&&t<Nm;)t+=n,r=e.next(t);return t>=Nm?1/0:t}function b7(e,t=100,n){const r=n({...e,keyframes:[0,t]}),s=Math.min(Mx(r),Nm);return{type:"keyframes",ease:o=>r.next(s*o).value/t,duration:is(s)}}const x7=5;function dO(e,t,n){const r=Math.max(t-x7,0);return tO(n-e(r),t-r)}const vn={stiffness:100,damping:10,mass:1,velocity:0,duration:800,bounce:.3,visualDuration:.3,restSpeed:{granular:.01,default:2},restDelta:{granular:.005,default:.5},minDuration:.01,maxDuration:10,minDamping:.05,maxDamping:1},QT=.001;function w7({duration:e=vn.duration,bounce:t=vn.bounce,velocity:n=vn.velocity,mass:r=vn.mass}){let s,o,c=1-t;c=qs(vn.minDamping,vn.maxDamping,c),e=qs(vn.minDuration,vn.maxDuration,is(e)),c<1?(s=h=>{const m=h*c,p=m*e,b=m-n,w=Eb(h,c),S=Math.exp(-p);return QT-b/w*S},o=h=>{const p=h*c*e,b=p*n+n,w=Math.pow(c,2)*Math.pow(h,2)*e,S=Math.exp(-p),E=Eb(Math.pow(h,2),c);return(-s(h)+QT>0?-1:1)*((b-w)*S)/E}):(s=h=>{const m=Math.exp(-h*e),p=(h-n)*e+1;return-.001+m*p},o=h=>{const m=Math.exp(-h*e),p=(n-h)*(e*e);return m*p});const u=5/e,f=E7(s,o,u);if(e=ss(e),isNaN(f))return{stiffness:vn.stiffness,damping:vn.damping,duration:e};{const h=Math.pow(f,2)*r;return{stiffness:h,damping:c*2*Math.sqrt(r*h),duration:e}}}const S7=12;function E7(e,t,n){let r=n;for(let s=1;s<S7;s++)r=r-e(r)/t(r);return r}function Eb(e,t){return e*Math.sqrt(1-t*t)}const C7=["duration","bounce"],T7=["stiffness","damping","mass"];function JT(e,t){return t.some(n=>e[n]!==void 0)}function M7(e){let t={velocity:vn.velocity,stiffness:vn.stiffness,damping:vn.damping,mass:vn.mass,isResolvedFromDuration:!1,...e};if(!JT(e,T7)&&JT(e,C7))if(e.visualDuration){const n=e.visualDuration,r=2*Math.PI/(n*1.2),s=r*r,o=2*qs(.05,1,1-(e.bounce||0))*Math.sqrt(s);t={...t,mass:vn.mass,stiffness:s,damping:o}}else{const n=w7(e);t={...t,...n,mass:vn.mass},t.isResolvedFromDuration=!0}return t}function Om(e=vn.visualDuration,t=vn.bounce){const n=typeof e!="object"?{visualDuration:e,keyframes:[0,1],bounce:t}:e;let{restSpeed:r,restDelta:s}=n;const o=n.keyframes[0],c=n.keyframes[n.keyframes.length-1],u={done:!1,value:o},{stiffness:f,damping:h,mass:m,duration:p,velocity:b,isResolvedFromDuration:w}=M7({...n,velocity:-is(n.velocity||0)}),S=b||0,E=h/(2*Math.sqrt(f*m)),C=c-o,T=is(Math.sqrt(f/m)),_=Math.abs(C)<5;r||(r=_?vn.restSpeed.granular:vn.restSpeed.default),s||(s=_?vn.restDelta.granular:vn.restDelta.default);let A;if(E<1){const R=Eb(T,E);A=D=>{const L=Math.exp(-E*T*D);return c-L*((S+E*T*C)/R*Math.sin(R*D)+C*Math.cos(R*D))}}else if(E===1)A=R=>c-Math.exp(-T*R)*(C+(S+T*C)*R);else{const R=T*Math.sqrt(E*E-1);A=D=>{const L=Math.exp(-E*T*D),k=Math.min(R*D,300);return c-L*((S+E*T*C)*Math.sinh(k)+R*C*Math.cosh(k))/R}}const O={calculatedDuration:w&&p||null,next:R=>{const D=A(R);if(w)u.done=R>=p;else{let L=R===0?S:0;E<1&&(L=R===0?ss(S):dO(A,R,D));const k=Math.abs(L)<=r,H=Math.abs(c-D)<=s;u.done=k&&H}return u.value=u.done?c:D,u},toString:()=>{const R=Math.min(Mx(O),Nm),D=uO(L=>O.next(R*L).value,R,30);return R+"ms "+D},toTransition:()=>{}};return O}Om.applyToOptions=e=>{const t=b7(e,100,Om);return e.ease=t.ease,e.duration=ss(t.duration),e.type="keyframes",e};function Cb({keyframes:e,velocity:t=0,power:n=.8,timeConstant:r=325,bounceDamping:s=10,bounceStiffness:o=500,modifyTarget:c,min:u,max:f,restDelta:h=.5,restSpeed:m}){const p=e[0],b={done:!1,value:p},w=k=>u!==void 0&&k<u||f!==void 0&&k>f,S=k=>u===void 0?f:f===void 0||Math.abs(u-k)<Math.abs(f-k)?u:f;let E=n*t;const C=p+E,T=c===void 0?C:c(C);T!==C&&(E=T-p);const _=k=>-E*Math.exp(-k/r),A=k=>T+_(k),O=k=>{const H=_(k),X=A(k);b.done=Math.abs(H)<=h,b.value=b.done?T:X};let R,D;const L=k=>{w(b.value)&&(R=k,D=Om({keyframes:[b.value,S(b.value)],velocity:dO(A,k,b.value),damping:s,stiffness:o,restDelta:h,restSpeed:m}))};return L(0),{calculatedDuration:null,next:k=>{let H=!1;return!D&&R===void 0&&(H=!0,O(k),L(k)),R!==void 0&&k>=R?D.next(k-R):(!H&&O(k),b)}}}const Pd=(e,t,n)=>{const r=t-e;return r===0?1:(n-e)/r};function _7(e,t,n){const r=[],s=n||$s.mix||cO,o=e.length-1;for(let c=0;c<o;c++){let u=s(e[c],e[c+1]);if(t){const f=Array.isArray(t)?t[c]||ba:t;u=of(f,u)}r.push(u)}return r}function A7(e,t,{clamp:n=!0,ease:r,mixer:s}={}){const o=e.length;if(ux(o===t.length),o===1)return()=>t[0];if(o===2&&t[0]===t[1])return()=>t[1];const c=e[0]===e[1];e[0]>e[o-1]&&(e=[...e].reverse(),t=[...t].reverse());const u=_7(t,r,s),f=u.length,h=m=>{if(c&&m<e[0])return t[0];let p=0;if(f>1)for(;p<e.length-2&&!(m<e[p+1]);p++);const b=Pd(e[p],e[p+1],m);return u[p](b)};return n?m=>h(qs(e[0],e[o-1],m)):h}function R7(e,t){const n=e[e.length-1];for(let r=1;r<=t;r++){const s=Pd(0,t,r);e.push(cn(n,1,s))}}function D7(e){const t=[0];return R7(t,e.length-1),t}function N7(e,t){return e.map(n=>n*t)}const fO=(e,t,n)=>(((1-3*n+3*t)*e+(3*n-6*t))*e+3*t)*e,O7=1e-7,k7=12;function j7(e,t,n,r,s){let o,c,u=0;do c=t+(n-t)/2,o=fO(c,r,s)-e,o>0?n=c:t=c;while(Math.abs(o)>O7&&++u<k7);return c}function lf(e,t,n,r){if(e===t&&n===r)return ba;const s=o=>j7(o,0,1,e,n);return o=>o===0||o===1?o:fO(s(o),t,r)}const P7=lf(.42,0,1,1),L7=lf(0,0,.58,1),hO=lf(.42,0,.58,1),V7=e=>Array.isArray(e)&&typeof e[0]!="number",mO=e=>t=>t<=.5?e(2*t)/2:(2-e(2*(1-t)))/2,pO=e=>t=>1-e(1-t),gO=lf(.33,1.53,.69,.99),_x=pO(gO),yO=mO(_x),vO=e=>(e*=2)<1?.5*_x(e):.5*(2-Math.pow(2,-10*(e-1))),Ax=e=>1-Math.sin(Math.acos(e)),bO=pO(Ax),xO=mO(Ax),wO=e=>Array.isArray(e)&&typeof e[0]=="number",z7={linear:ba,easeIn:P7,easeInOut:hO,easeOut:L7,circIn:Ax,circInOut:xO,circOut:bO,backIn:_x,backInOut:yO,backOut:gO,anticipate:vO},B7=e=>typeof e=="string",eM=e=>{if(wO(e)){ux(e.length===4);const[t,n,r,s]=e;return lf(t,n,r,s)}else if(B7(e))return z7[e];return e};function U7(e,t){return e.map(()=>t||hO).splice(0,e.length-1)}function fd({duration:e=300,keyframes:t,times:n,ease:r="easeInOut"}){const s=V7(r)?r.map(eM):eM(r),o={done:!1,value:t[0]},c=N7(n&&n.length===t.length?n:D7(t),e),u=A7(c,t,{ease:Array.isArray(s)?s:U7(t,s)});return{calculatedDuration:e,next:f=>(o.value=u(f),o.done=f>=e,o)}}const F7=e=>e!==null;function Rx(e,{repeat:t,repeatType:n="loop"},r,s=1){const o=e.filter(F7),u=s<0||t&&n!=="loop"&&t%2===1?0:o.length-1;return!u||r===void 0?o[u]:r}const I7={decay:Cb,inertia:Cb,tween:fd,keyframes:fd,spring:Om};function SO(e){typeof e.type=="string"&&(e.type=I7[e.type])}class Dx{constructor(){this.updateFinished()}get finished(){return this._finished}updateFinished(){this._finished=new Promise(t=>{this.resolve=t})}notifyFinished(){this.resolve()}then(t,n){return this.finished.then(t,n)}}const H7=e=>e/100;class Nx extends Dx{constructor(t){super(),this.state="idle",this.startTime=null,this.isStopped=!1,this.currentTime=0,this.holdTime=null,this.playbackSpeed=1,this.stop=()=>{var r,s;const{motionValue:n}=this.options;n&&n.updatedAt!==Vr.now()&&this.tick(Vr.now()),this.isStopped=!0,this.state!=="idle"&&(this.teardown(),(s=(r=this.options).onStop)==null||s.call(r))},this.options=t,this.initAnimation(),this.play(),t.autoplay===!1&&this.pause()}initAnimation(){const{options:t}=this;SO(t);const{type:n=fd,repeat:r=0,repeatDelay:s=0,repeatType:o,velocity:c=0}=t;let{keyframes:u}=t;const f=n||fd;f!==fd&&typeof u[0]!="number"&&(this.mixKeyframes=of(H7,cO(u[0],u[1])),u=[0,100]);const h=f({...t,keyframes:u});o==="mirror"&&(this.mirroredGenerator=f({...t,keyframes:[...u].reverse(),velocity:-c})),h.calculatedDuration===null&&(h.calculatedDuration=Mx(h));const{calculatedDuration:m}=h;this.calculatedDuration=m,this.resolvedDuration=m+s,this.totalDuration=this.resolvedDuration*(r+1)-s,this.generator=h}updateTime(t){const n=Math.round(t-this.startTime)*this.playbackSpeed;this.holdTime!==null?this.currentTime=this.holdTime:this.currentTime=n}tick(t,n=!1){const{generator:r,totalDuration:s,mixKeyframes:o,mirroredGenerator:c,resolvedDuration:u,calculatedDuration:f}=this;if(this.startTime===null)return r.next(0);const{delay:h=0,keyframes:m,repeat:p,repeatType:b,repeatDelay:w,type:S,onUpdate:E,finalKeyframe:C}=this.options;this.speed>0?this.startTime=Math.min(this.startTime,t):this.speed<0&&(this.startTime=Math.min(t-s/this.speed,this.startTime)),n?this.currentTime=t:this.updateTime(t);const T=this.currentTime-h*(this.playbackSpeed>=0?1:-1),_=this.playbackSpeed>=0?T<0:T>s;this.currentTime=Math.max(T,0),this.state==="finished"&&this.holdTime===null&&(this.currentTime=s);let A=this.currentTime,O=r;if(p){const k=Math.min(this.currentTime,s)/u;let H=Math.floor(k),X=k%1;!X&&k>=1&&(X=1),X===1&&H--,H=Math.min(H,p+1),!!(H%2)&&(b==="reverse"?(X=1-X,w&&(X-=w/u)):b==="mirror"&&(O=c)),A=qs(0,1,X)*u}const R=_?{done:!1,value:m[0]}:O.next(A);o&&(R.value=o(R.value));let{done:D}=R;!_&&f!==null&&(D=this.playbackSpeed>=0?this.currentTime>=s:this.currentTime<=0);const L=this.holdTime===null&&(this.state==="finished"||this.state==="running"&&D);return L&&S!==Cb&&(R.value=Rx(m,this.options,C,this.speed)),E&&E(R.value),L&&this.finish(),R}then(t,n){return this.finished.then(t,n)}get duration(){return is(this.calculatedDuration)}get time(){return is(this.currentTime)}set time(t){var n;t=ss(t),this.currentTime=t,this.startTime===null||this.holdTime!==null||this.playbackSpeed===0?this.holdTime=t:this.driver&&(this.startTime=this.driver.now()-t/this.playbackSpeed),(n=this.driver)==null||n.start(!1)}get speed(){return this.playbackSpeed}set speed(t){this.updateTime(Vr.now());const n=this.playbackSpeed!==t;this.playbackSpeed=t,n&&(this.time=is(this.currentTime))}play(){var s,o;if(this.isStopped)return;const{driver:t=v7,startTime:n}=this.options;this.driver||(this.driver=t(c=>this.tick(c))),(o=(s=this.options).onPlay)==null||o.call(s);const r=this.driver.now();this.state==="finished"?(this.updateFinished(),this.startTime=r):this.holdTime!==null?this.startTime=r-this.holdTime:this.startTime||(this.startTime=n??r),this.state==="finished"&&this.speed<0&&(this.startTime+=this.calculatedDuration),this.holdTime=null,this.state="running",this.driver.start()}pause(){this.state="paused",this.updateTime(Vr.now()),this.holdTime=this.currentTime}complete(){this.state!=="running"&&this.play(),this.state="finished",this.holdTime=null}finish(){var t,n;this.notifyFinished(),this.teardown(),this.state="finished",(n=(t=this.options).onComplete)==null||n.call(t)}cancel(){var t,n;this.holdTime=null,this.startTime=0,this.tick(0),this.teardown(),(n=(t=this.options).onCancel)==null||n.call(t)}teardown(){this.state="idle",this.stopDriver(),this.startTime=this.holdTime=null}stopDriver(){this.driver&&(this.driver.stop(),this.driver=void 0)}sample(t){return this.startTime=0,this.tick(t,!0)}attachTimeline(t){var n;return this.options.allowFlatten&&(this.options.type="keyframes",this.options.ease="linear",this.initAnimation()),(n=this.driver)==null||n.stop(),t.observe(this)}}function $7(e){for(let t=1;t<e.length;t++)e[t]??(e[t]=e[t-1])}const Do=e=>e*180/Math.PI,Tb=e=>{const t=Do(Math.atan2(e[1],e[0]));return Mb(t)},q7={x:4,y:5,translateX:4,translateY:5,scaleX:0,scaleY:3,scale:e=>(Math.abs(e[0])+Math.abs(e[3]))/2,rotate:Tb,rotateZ:Tb,skewX:e=>Do(Math.atan(e[1])),skewY:e=>Do(Math.atan(e[2])),skew:e=>(Math.abs(e[1])+Math.abs(e[2]))/2},Mb=e=>(e=e%360,e<0&&(e+=360),e),tM=Tb,nM=e=>Math.sqrt(e[0]*e[0]+e[1]*e[1]),rM=e=>Math.sqrt(e[4]*e[4]+e[5]*e[5]),Y7={x:12,y:13,z:14,translateX:12,translateY:13,translateZ:14,scaleX:nM,scaleY:rM,scale:e=>(nM(e)+rM(e))/2,rotateX:e=>Mb(Do(Math.atan2(e[6],e[5]))),rotateY:e=>Mb(Do(Math.atan2(-e[2],e[0]))),rotateZ:tM,rotate:tM,skewX:e=>Do(Math.atan(e[4])),skewY:e=>Do(Math.atan(e[1])),skew:e=>(Math.abs(e[1])+Math.abs(e[4]))/2};function _b(e){return e.includes("scale")?1:0}function Ab(e,t){if(!e||e==="none")return _b(t);const n=e.match(/^matrix3d\(([-\d.e\s,]+)\)$/u);let r,s;if(n)r=Y7,s=n;else{const u=e.match(/^matrix\(([-\d.e\s,]+)\)$/u);r=q7,s=u}if(!s)return _b(t);const o=r[t],c=s[1].split(",").map(W7);return typeof o=="function"?o(c):c[o]}const G7=(e,t)=>{const{transform:n="none"}=getComputedStyle(e);return Ab(n,t)};function W7(e){return parseFloat(e.trim())}const aM=e=>e===Fc||e===at,K7=new Set(["x","y","z"]),Z7=Bc.filter(e=>!K7.has(e));function X7(e){const t=[];return Z7.forEach(n=>{const r=e.getValue(n);r!==void 0&&(t.push([n,r.get()]),r.set(n.startsWith("scale")?1:0))}),t}const Uo={width:({x:e},{paddingLeft:t="0",paddingRight:n="0"})=>e.max-e.min-parseFloat(t)-parseFloat(n),height:({y:e},{paddingTop:t="0",paddingBottom:n="0"})=>e.max-e.min-parseFloat(t)-parseFloat(n),top:(e,{top:t})=>parseFloat(t),left:(e,{left:t})=>parseFloat(t),bottom:({y:e},{top:t})=>parseFloat(t)+(e.max-e.min),right:({x:e},{left:t})=>parseFloat(t)+(e.max-e.min),x:(e,{transform:t})=>Ab(t,"x"),y:(e,{transform:t})=>Ab(t,"y")};Uo.translateX=Uo.x;Uo.translateY=Uo.y;const Fo=new Set;let Rb=!1,Db=!1,Nb=!1;function EO(){if(Db){const e=Array.from(Fo).filter(r=>r.needsMeasurement),t=new Set(e.map(r=>r.element)),n=new Map;t.forEach(r=>{const s=X7(r);s.length&&(n.set(r,s),r.render())}),e.forEach(r=>r.measureInitialState()),t.forEach(r=>{r.render();const s=n.get(r);s&&s.forEach(([o,c])=>{var u;(u=r.getValue(o))==null||u.set(c)})}),e.forEach(r=>r.measureEndState()),e.forEach(r=>{r.suspendedScrollY!==void 0&&window.scrollTo(0,r.suspendedScrollY)})}Db=!1,Rb=!1,Fo.forEach(e=>e.complete(Nb)),Fo.clear()}function CO(){Fo.forEach(e=>{e.readKeyframes(),e.needsMeasurement&&(Db=!0)})}function Q7(){Nb=!0,CO(),EO(),Nb=!1}class Ox{constructor(t,n,r,s,o,c=!1){this.state="pending",this.isAsync=!1,this.needsMeasurement=!1,this.unresolvedKeyframes=[...t],this.onComplete=n,this.name=r,this.motionValue=s,this.element=o,this.isAsync=c}scheduleResolve(){this.state="scheduled",this.isAsync?(Fo.add(this),Rb||(Rb=!0,dn.read(CO),dn.resolveKeyframes(EO))):(this.readKeyframes(),this.complete())}readKeyframes(){const{unresolvedKeyframes:t,name:n,element:r,motionValue:s}=this;if(t[0]===null){const o=s==null?void 0:s.get(),c=t[t.length-1];if(o!==void 0)t[0]=o;else if(r&&n){const u=r.readValue(n,c);u!=null&&(t[0]=u)}t[0]===void 0&&(t[0]=c),s&&o===void 0&&s.set(t[0])}$7(t)}setFinalKeyframe(){}measureInitialState(){}renderEndStyles(){}measureEndState(){}complete(t=!1){this.state="complete",this.onComplete(this.unresolvedKeyframes,this.finalKeyframe,t),Fo.delete(this)}cancel(){this.state==="scheduled"&&(Fo.delete(this),this.state="pending")}resume(){this.state==="pending"&&this.scheduleResolve()}}const J7=e=>e.startsWith("--");function e$(e,t,n){J7(t)?e.style.setProperty(t,n):e.style[t]=n}function kx(e){let t;return()=>(t===void 0&&(t=e()),t)}const t$=kx(()=>window.ScrollTimeline!==void 0),n$={};function r$(e,t){const n=kx(e);return()=>n$[t]??n()}const TO=r$(()=>{try{document.createElement("div").animate({opacity:0},{easing:"linear(0, 1)"})}catch{return!1}return!0},"linearEasing"),id=([e,t,n,r])=>`cubic-bezier(${e}, ${t}, ${n}, ${r})`,sM={linear:"linear",ease:"ease",easeIn:"ease-in",easeOut:"ease-out",easeInOut:"ease-in-out",circIn:id([0,.65,.55,1]),circOut:id([.55,0,1,.45]),backIn:id([.31,.01,.66,-.59]),backOut:id([.33,1.53,.69,.99])};function MO(e,t){if(e)return typeof e=="function"?TO()?uO(e,t):"ease-out":wO(e)?id(e):Array.isArray(e)?e.map(n=>MO(n,t)||sM.easeOut):sM[e]}function a$(e,t,n,{delay:r=0,duration:s=300,repeat:o=0,repeatType:c="loop",ease:u="easeOut",times:f}={},h=void 0){const m={[t]:n};f&&(m.offset=f);const p=MO(u,s);Array.isArray(p)&&(m.easing=p);const b={delay:r,duration:s,easing:Array.isArray(p)?"linear":p,fill:"both",iterations:o+1,direction:c==="reverse"?"alternate":"normal"};return h&&(b.pseudoElement=h),e.animate(m,b)}function _O(e){return typeof e=="function"&&"applyToOptions"in e}function s$({type:e,...t}){return _O(e)&&TO()?e.applyToOptions(t):(t.duration??(t.duration=300),t.ease??(t.ease="easeOut"),t)}class i$ extends Dx{constructor(t){if(super(),this.finishedTime=null,this.isStopped=!1,!t)return;const{element:n,name:r,keyframes:s,pseudoElement:o,allowFlatten:c=!1,finalKeyframe:u,onComplete:f}=t;this.isPseudoElement=!!o,this.allowFlatten=c,this.options=t,ux(typeof t.type!="string");const h=s$(t);this.animation=a$(n,r,s,h,o),h.autoplay===!1&&this.animation.pause(),this.animation.onfinish=()=>{if(this.finishedTime=this.time,!o){const m=Rx(s,this.options,u,this.speed);this.updateMotionValue?this.updateMotionValue(m):e$(n,r,m),this.animation.cancel()}f==null||f(),this.notifyFinished()}}play(){this.isStopped||(this.animation.play(),this.state==="finished"&&this.updateFinished())}pause(){this.animation.pause()}complete(){var t,n;(n=(t=this.animation).finish)==null||n.call(t)}cancel(){try{this.animation.cancel()}catch{}}stop(){if(this.isStopped)return;this.isStopped=!0;const{state:t}=this;t==="idle"||t==="finished"||(this.updateMotionValue?this.updateMotionValue():this.commitStyles(),this.isPseudoElement||this.cancel())}commitStyles(){var t,n;this.isPseudoElement||(n=(t=this.animation).commitStyles)==null||n.call(t)}get duration(){var n,r;const t=((r=(n=this.animation.effect)==null?void 0:n.getComputedTiming)==null?void 0:r.call(n).duration)||0;return is(Number(t))}get time(){return is(Number(this.animation.currentTime)||0)}set time(t){this.finishedTime=null,this.animation.currentTime=ss(t)}get speed(){return this.animation.playbackRate}set speed(t){t<0&&(this.finishedTime=null),this.animation.playbackRate=t}get state(){return this.finishedTime!==null?"finished":this.animation.playState}get startTime(){return Number(this.animation.startTime)}set startTime(t){this.animation.startTime=t}attachTimeline({timeline:t,observe:n}){var r;return this.allowFlatten&&((r=this.animation.effect)==null||r.updateTiming({easing:"linear"})),this.animation.onfinish=null,t&&t$()?(this.animation.timeline=t,ba):n(this)}}const AO={anticipate:vO,backInOut:yO,circInOut:xO};function o$(e){return e in AO}function l$(e){typeof e.ease=="string"&&o$(e.ease)&&(e.ease=AO[e.ease])}const iM=10;class c$ extends i${constructor(t){l$(t),SO(t),super(t),t.startTime&&(this.startTime=t.startTime),this.options=t}updateMotionValue(t){const{motionValue:n,onUpdate:r,onComplete:s,element:o,...c}=this.options;if(!n)return;if(t!==void 0){n.set(t);return}const u=new Nx({...c,autoplay:!1}),f=ss(this.finishedTime??this.time);n.setWithVelocity(u.sample(f-iM).value,u.sample(f).value,iM),u.stop()}}const oM=(e,t)=>t==="zIndex"?!1:!!(typeof e=="number"||Array.isArray(e)||typeof e=="string"&&(Qi.test(e)||e==="0")&&!e.startsWith("url("));function u$(e){const t=e[0];if(e.length===1)return!0;for(let n=0;n<e.length;n++)if(e[n]!==t)return!0}function d$(e,t,n,r){const s=e[0];if(s===null)return!1;if(t==="display"||t==="visibility")return!0;const o=e[e.length-1],c=oM(s,t),u=oM(o,t);return!c||!u?!1:u$(e)||(n==="spring"||_O(n))&&r}const f$=new Set(["opacity","clipPath","filter","transform"]),h$=kx(()=>Object.hasOwnProperty.call(Element.prototype,"animate"));function m$(e){var h;const{motionValue:t,name:n,repeatDelay:r,repeatType:s,damping:o,type:c}=e;if(!zN((h=t==null?void 0:t.owner)==null?void 0:h.current))return!1;const{onUpdate:u,transformTemplate:f}=t.owner.getProps();return h$()&&n&&f$.has(n)&&(n!=="transform"||!f)&&!u&&!r&&s!=="mirror"&&o!==0&&c!=="inertia"}const p$=40;class g$ extends Dx{constructor({autoplay:t=!0,delay:n=0,type:r="keyframes",repeat:s=0,repeatDelay:o=0,repeatType:c="loop",keyframes:u,name:f,motionValue:h,element:m,...p}){var S;super(),this.stop=()=>{var E,C;this._animation&&(this._animation.stop(),(E=this.stopTimeline)==null||E.call(this)),(C=this.keyframeResolver)==null||C.cancel()},this.createdAt=Vr.now();const b={autoplay:t,delay:n,type:r,repeat:s,repeatDelay:o,repeatType:c,name:f,motionValue:h,element:m,...p},w=(m==null?void 0:m.KeyframeResolver)||Ox;this.keyframeResolver=new w(u,(E,C,T)=>this.onKeyframesResolved(E,C,b,!T),f,h,m),(S=this.keyframeResolver)==null||S.scheduleResolve()}onKeyframesResolved(t,n,r,s){this.keyframeResolver=void 0;const{name:o,type:c,velocity:u,delay:f,isHandoff:h,onUpdate:m}=r;this.resolvedAt=Vr.now(),d$(t,o,c,u)||(($s.instantAnimations||!f)&&(m==null||m(Rx(t,r,n))),t[0]=t[t.length-1],r.duration=0,r.repeat=0);const b={startTime:s?this.resolvedAt?this.resolvedAt-this.createdAt>p$?this.resolvedAt:this.createdAt:this.createdAt:void 0,finalKeyframe:n,...r,keyframes:t},w=!h&&m$(b)?new c$({...b,element:b.motionValue.owner.current}):new Nx(b);w.finished.then(()=>this.notifyFinished()).catch(ba),this.pendingTimeline&&(this.stopTimeline=w.attachTimeline(this.pendingTimeline),this.pendingTimeline=void 0),this._animation=w}get finished(){return this._animation?this.animation.finished:this._finished}then(t,n){return this.finished.finally(t).then(()=>{})}get animation(){var t;return this._animation||((t=this.keyframeResolver)==null||t.resume(),Q7()),this._animation}get duration(){return this.animation.duration}get time(){return this.animation.time}set time(t){this.animation.time=t}get speed(){return this.animation.speed}get state(){return this.animation.state}set speed(t){this.animation.speed=t}get startTime(){return this.animation.startTime}attachTimeline(t){return this._animation?this.stopTimeline=this.animation.attachTimeline(t):this.pendingTimeline=t,()=>this.stop()}play(){this.animation.play()}pause(){this.animation.pause()}complete(){this.animation.complete()}cancel(){var t;this._animation&&this.animation.cancel(),(t=this.keyframeResolver)==null||t.cancel()}}const jx=(e,t,n,r={},s,o)=>c=>{const u=Sx(r,e)||{},f=u.delay||r.delay||0;let{elapsed:h=0}=r;h=h-ss(f);const m={keyframes:Array.isArray(n)?n:[null,n],ease:"easeOut",velocity:t.getVelocity(),...u,delay:-h,onUpdate:b=>{t.set(b),u.onUpdate&&u.onUpdate(b)},onComplete:()=>{c(),u.onComplete&&u.onComplete()},name:e,motionValue:t,element:o?void 0:s};XH(u)||Object.assign(m,ZH(e,m)),m.duration&&(m.duration=ss(m.duration)),m.repeatDelay&&(m.repeatDelay=ss(m.repeatDelay)),m.from!==void 0&&(m.keyframes[0]=m.from);let p=!1;if((m.type===!1||m.duration===0&&!m.repeatDelay)&&(m.duration=0,m.delay===0&&(p=!0)),($s.instantAnimations||$s.skipAnimations)&&(p=!0,m.duration=0,m.delay=0),m.allowFlatten=!u.type&&!u.ease,p&&!o&&t.get()!==void 0){const b=qH(m.keyframes,u);if(b!==void 0){dn.update(()=>{m.onUpdate(b),m.onComplete()});return}}return u.isSync?new Nx(m):new g$(m)},RO=new Set(["width","height","top","left","right","bottom",...Bc]);function y$({protectedKeys:e,needsAnimating:t},n){const r=e.hasOwnProperty(n)&&t[n]!==!0;return t[n]=!1,r}function DO(e,t,{delay:n=0,transitionOverride:r,type:s}={}){let{transition:o=e.getDefaultTransition(),transitionEnd:c,...u}=t;r&&(o=r);const f=[],h=s&&e.animationState&&e.animationState.getState()[s];for(const m in u){const p=e.getValue(m,e.latestValues[m]??null),b=u[m];if(b===void 0||h&&y$(h,m))continue;const w={delay:n,...Sx(o||{},m)},S=p.get();if(S!==void 0&&!p.isAnimating&&!Array.isArray(b)&&b===S&&!w.velocity)continue;let E=!1;if(window.MotionHandoffAnimation){const T=nO(e);if(T){const _=window.MotionHandoffAnimation(T,m,dn);_!==null&&(w.startTime=_,E=!0)}}xb(e,m),p.start(jx(m,p,b,e.shouldReduceMotion&&RO.has(m)?{type:!1}:w,e,E));const C=p.animation;C&&f.push(C)}return c&&Promise.all(f).then(()=>{dn.update(()=>{c&&IH(e,c)})}),f}function Ob(e,t,n={}){var f;const r=kd(e,t,n.type==="exit"?(f=e.presenceContext)==null?void 0:f.custom:void 0);let{transition:s=e.getDefaultTransition()||{}}=r||{};n.transitionOverride&&(s=n.transitionOverride);const o=r?()=>Promise.all(DO(e,r,n)):()=>Promise.resolve(),c=e.variantChildren&&e.variantChildren.size?(h=0)=>{const{delayChildren:m=0,staggerChildren:p,staggerDirection:b}=s;return v$(e,t,m+h,p,b,n)}:()=>Promise.resolve(),{when:u}=s;if(u){const[h,m]=u==="beforeChildren"?[o,c]:[c,o];return h().then(()=>m())}else return Promise.all([o(),c(n.delay)])}function v$(e,t,n=0,r=0,s=1,o){const c=[],u=(e.variantChildren.size-1)*r,f=s===1?(h=0)=>h*r:(h=0)=>u-h*r;return Array.from(e.variantChildren).sort(b$).forEach((h,m)=>{h.notify("AnimationStart",t),c.push(Ob(h,t,{...o,delay:n+f(m)}).then(()=>h.notify("AnimationComplete",t)))}),Promise.all(c)}function b$(e,t){return e.sortNodePosition(t)}function x$(e,t,n={}){e.notify("AnimationStart",t);let r;if(Array.isArray(t)){const s=t.map(o=>Ob(e,o,n));r=Promise.all(s)}else if(typeof t=="string")r=Ob(e,t,n);else{const s=typeof t=="function"?kd(e,t,n.custom):t;r=Promise.all(DO(e,s,n))}return r.then(()=>{e.notify("AnimationComplete",t)})}function NO(e,t){if(!Array.isArray(t))return!1;const n=t.length;if(n!==e.length)return!1;for(let r=0;r<n;r++)if(t[r]!==e[r])return!1;return!0}const w$=ox.length;function OO(e){if(!e)return;if(!e.isControllingVariants){const n=e.parent?OO(e.parent)||{}:{};return e.props.initial!==void 0&&(n.initial=e.props.initial),n}const t={};for(let n=0;n<w$;n++){const r=ox[n],s=e.props[r];(Dd(s)||s===!1)&&(t[r]=s)}return t}const S$=[...ix].reverse(),E$=ix.length;function C$(e){return t=>Promise.all(t.map(({animation:n,options:r})=>x$(e,n,r)))}function T$(e){let t=C$(e),n=lM(),r=!0;const s=f=>(h,m)=>{var b;const p=kd(e,m,f==="exit"?(b=e.presenceContext)==null?void 0:b.custom:void 0);if(p){const{transition:w,transitionEnd:S,...E}=p;h={...h,...E,...S}}return h};function o(f){t=f(e)}function c(f){const{props:h}=e,m=OO(e.parent)||{},p=[],b=new Set;let w={},S=1/0;for(let C=0;C<E$;C++){const T=S$[C],_=n[T],A=h[T]!==void 0?h[T]:m[T],O=Dd(A),R=T===f?_.isActive:null;R===!1&&(S=C);let D=A===m[T]&&A!==h[T]&&O;if(D&&r&&e.manuallyAnimateOnMount&&(D=!1),_.protectedKeys={...w},!_.isActive&&R===null||!A&&!_.prevProp||cp(A)||typeof A=="boolean")continue;const L=M$(_.prevProp,A);let k=L||T===f&&_.isActive&&!D&&O||C>S&&O,H=!1;const X=Array.isArray(A)?A:[A];let oe=X.reduce(s(T),{});R===!1&&(oe={});const{prevResolvedValues:ce={}}=_,de={...ce,...oe},Q=K=>{k=!0,b.has(K)&&(H=!0,b.delete(K)),_.needsAnimating[K]=!0;const I=e.getValue(K);I&&(I.liveStyle=!1)};for(const K in de){const I=oe[K],J=ce[K];if(w.hasOwnProperty(K))continue;let j=!1;bb(I)&&bb(J)?j=!NO(I,J):j=I!==J,j?I!=null?Q(K):b.add(K):I!==void 0&&b.has(K)?Q(K):_.protectedKeys[K]=!0}_.prevProp=A,_.prevResolvedValues=oe,_.isActive&&(w={...w,...oe}),r&&e.blockInitialAnimation&&(k=!1),k&&(!(D&&L)||H)&&p.push(...X.map(K=>({animation:K,options:{type:T}})))}if(b.size){const C={};if(typeof h.initial!="boolean"){const T=kd(e,Array.isArray(h.initial)?h.initial[0]:h.initial);T&&T.transition&&(C.transition=T.transition)}b.forEach(T=>{const _=e.getBaseTarget(T),A=e.getValue(T);A&&(A.liveStyle=!0),C[T]=_??null}),p.push({animation:C})}let E=!!p.length;return r&&(h.initial===!1||h.initial===h.animate)&&!e.manuallyAnimateOnMount&&(E=!1),r=!1,E?t(p):Promise.resolve()}function u(f,h){var p;if(n[f].isActive===h)return Promise.resolve();(p=e.variantChildren)==null||p.forEach(b=>{var w;return(w=b.animationState)==null?void 0:w.setActive(f,h)}),n[f].isActive=h;const m=c(f);for(const b in n)n[b].protectedKeys={};return m}return{animateChanges:c,setActive:u,setAnimateFunction:o,getState:()=>n,reset:()=>{n=lM(),r=!0}}}function M$(e,t){return typeof t=="string"?t!==e:Array.isArray(t)?!NO(t,e):!1}function So(e=!1){return{isActive:e,protectedKeys:{},needsAnimating:{},prevResolvedValues:{}}}function lM(){return{animate:So(!0),whileInView:So(),whileHover:So(),whileTap:So(),whileDrag:So(),whileFocus:So(),exit:So()}}class to{constructor(t){this.isMounted=!1,this.node=t}update(){}}class _$ extends to{constructor(t){super(t),t.animationState||(t.animationState=T$(t))}updateAnimationControlsSubscription(){const{animate:t}=this.node.getProps();cp(t)&&(this.unmountControls=t.subscribe(this.node))}mount(){this.updateAnimationControlsSubscription()}update(){const{animate:t}=this.node.getProps(),{animate:n}=this.node.prevProps||{};t!==n&&this.updateAnimationControlsSubscription()}unmount(){var t;this.node.animationState.reset(),(t=this.unmountControls)==null||t.call(this)}}let A$=0;class R$ extends to{constructor(){super(...arguments),this.id=A$++}update(){if(!this.node.presenceContext)return;const{isPresent:t,onExitComplete:n}=this.node.presenceContext,{isPresent:r}=this.node.prevPresenceContext||{};if(!this.node.animationState||t===r)return;const s=this.node.animationState.setActive("exit",!t);n&&!t&&s.then(()=>{n(this.id)})}mount(){const{register:t,onExitComplete:n}=this.node.presenceContext||{};n&&n(this.id),t&&(this.unmount=t(this.id))}unmount(){}}const D$={animation:{Feature:_$},exit:{Feature:R$}};function Ld(e,t,n,r={passive:!0}){return e.addEventListener(t,n,r),()=>e.removeEventListener(t,n)}const Px=e=>e.pointerType==="mouse"?typeof e.button!="number"||e.button<=0:e.isPrimary!==!1;function cf(e){return{point:{x:e.pageX,y:e.pageY}}}const N$=e=>t=>Px(t)&&e(t,cf(t));function hd(e,t,n,r){return Ld(e,t,N$(n),r)}function kO({top:e,left:t,right:n,bottom:r}){return{x:{min:t,max:n},y:{min:e,max:r}}}function O$({x:e,y:t}){return{top:t.min,right:e.max,bottom:t.max,left:e.min}}function k$(e,t){if(!t)return e;const n=t({x:e.left,y:e.top}),r=t({x:e.right,y:e.bottom});return{top:n.y,left:n.x,bottom:r.y,right:r.x}}const jO=1e-4,j$=1-jO,P$=1+jO,PO=.01,L$=0-PO,V$=0+PO;function xr(e){return e.max-e.min}function z$(e,t,n){return Math.abs(e-t)<=n}function cM(e,t,n,r=.5){e.origin=r,e.originPoint=cn(t.min,t.max,e.origin),e.scale=xr(n)/xr(t),e.translate=cn(n.min,n.max,e.origin)-e.originPoint,(e.scale>=j$&&e.scale<=P$||isNaN(e.scale))&&(e.scale=1),(e.translate>=L$&&e.translate<=V$||isNaN(e.translate))&&(e.translate=0)}function md(e,t,n,r){cM(e.x,t.x,n.x,r?r.originX:void 0),cM(e.y,t.y,n.y,r?r.originY:void 0)}function uM(e,t,n){e.min=n.min+t.min,e.max=e.min+xr(t)}function B$(e,t,n){uM(e.x,t.x,n.x),uM(e.y,t.y,n.y)}function dM(e,t,n){e.min=t.min-n.min,e.max=e.min+xr(t)}function pd(e,t,n){dM(e.x,t.x,n.x),dM(e.y,t.y,n.y)}const fM=()=>({translate:0,scale:1,origin:0,originPoint:0}),ql=()=>({x:fM(),y:fM()}),hM=()=>({min:0,max:0}),wn=()=>({x:hM(),y:hM()});function pa(e){return[e("x"),e("y")]}function nv(e){return e===void 0||e===1}function kb({scale:e,scaleX:t,scaleY:n}){return!nv(e)||!nv(t)||!nv(n)}function Eo(e){return kb(e)||LO(e)||e.z||e.rotate||e.rotateX||e.rotateY||e.skewX||e.skewY}function LO(e){return mM(e.x)||mM(e.y)}function mM(e){return e&&e!=="0%"}function km(e,t,n){const r=e-n,s=t*r;return n+s}function pM(e,t,n,r,s){return s!==void 0&&(e=km(e,s,r)),km(e,n,r)+t}function jb(e,t=0,n=1,r,s){e.min=pM(e.min,t,n,r,s),e.max=pM(e.max,t,n,r,s)}function VO(e,{x:t,y:n}){jb(e.x,t.translate,t.scale,t.originPoint),jb(e.y,n.translate,n.scale,n.originPoint)}const gM=.999999999999,yM=1.0000000000001;function U$(e,t,n,r=!1){const s=n.length;if(!s)return;t.x=t.y=1;let o,c;for(let u=0;u<s;u++){o=n[u],c=o.projectionDelta;const{visualElement:f}=o.options;f&&f.props.style&&f.props.style.display==="contents"||(r&&o.options.layoutScroll&&o.scroll&&o!==o.root&&Gl(e,{x:-o.scroll.offset.x,y:-o.scroll.offset.y}),c&&(t.x*=c.x.scale,t.y*=c.y.scale,VO(e,c)),r&&Eo(o.latestValues)&&Gl(e,o.latestValues))}t.x<yM&&t.x>gM&&(t.x=1),t.y<yM&&t.y>gM&&(t.y=1)}function Yl(e,t){e.min=e.min+t,e.max=e.max+t}function vM(e,t,n,r,s=.5){const o=cn(e.min,e.max,s);jb(e,t,n,o,r)}function Gl(e,t){vM(e.x,t.x,t.scaleX,t.scale,t.originX),vM(e.y,t.y,t.scaleY,t.scale,t.originY)}function zO(e,t){return kO(k$(e.getBoundingClientRect(),t))}function F$(e,t,n){const r=zO(e,n),{scroll:s}=t;return s&&(Yl(r.x,s.offset.x),Yl(r.y,s.offset.y)),r}const BO=({current:e})=>e?e.ownerDocument.defaultView:null,bM=(e,t)=>Math.abs(e-t);function I$(e,t){const n=bM(e.x,t.x),r=bM(e.y,t.y);return Math.sqrt(n**2+r**2)}class UO{constructor(t,n,{transformPagePoint:r,contextWindow:s,dragSnapToOrigin:o=!1}={}){if(this.startEvent=null,this.lastMoveEvent=null,this.lastMoveEventInfo=null,this.handlers={},this.contextWindow=window,this.updatePoint=()=>{if(!(this.lastMoveEvent&&this.lastMoveEventInfo))return;const p=av(this.lastMoveEventInfo,this.history),b=this.startEvent!==null,w=I$(p.offset,{x:0,y:0})>=3;if(!b&&!w)return;const{point:S}=p,{timestamp:E}=rr;this.history.push({...S,timestamp:E});const{onStart:C,onMove:T}=this.handlers;b||(C&&C(this.lastMoveEvent,p),this.startEvent=this.lastMoveEvent),T&&T(this.lastMoveEvent,p)},this.handlePointerMove=(p,b)=>{this.lastMoveEvent=p,this.lastMoveEventInfo=rv(b,this.transformPagePoint),dn.update(this.updatePoint,!0)},this.handlePointerUp=(p,b)=>{this.end();const{onEnd:w,onSessionEnd:S,resumeAnimation:E}=this.handlers;if(this.dragSnapToOrigin&&E&&E(),!(this.lastMoveEvent&&this.lastMoveEventInfo))return;const C=av(p.type==="pointercancel"?this.lastMoveEventInfo:rv(b,this.transformPagePoint),this.history);this.startEvent&&w&&w(p,C),S&&S(p,C)},!Px(t))return;this.dragSnapToOrigin=o,this.handlers=n,this.transformPagePoint=r,this.contextWindow=s||window;const c=cf(t),u=rv(c,this.transformPagePoint),{point:f}=u,{timestamp:h}=rr;this.history=[{...f,timestamp:h}];const{onSessionStart:m}=n;m&&m(t,av(u,this.history)),this.removeListeners=of(hd(this.contextWindow,"pointermove",this.handlePointerMove),hd(this.contextWindow,"pointerup",this.handlePointerUp),hd(this.contextWindow,"pointercancel",this.handlePointerUp))}updateHandlers(t){this.handlers=t}end(){this.removeListeners&&this.removeListeners(),Xi(this.updatePoint)}}function rv(e,t){return t?{point:t(e.point)}:e}function xM(e,t){return{x:e.x-t.x,y:e.y-t.y}}function av({point:e},t){return{point:e,delta:xM(e,FO(t)),offset:xM(e,H$(t)),velocity:$$(t,.1)}}function H$(e){return e[0]}function FO(e){return e[e.length-1]}function $$(e,t){if(e.length<2)return{x:0,y:0};let n=e.length-1,r=null;const s=FO(e);for(;n>=0&&(r=e[n],!(s.timestamp-r.timestamp>ss(t)));)n--;if(!r)return{x:0,y:0};const o=is(s.timestamp-r.timestamp);if(o===0)return{x:0,y:0};const c={x:(s.x-r.x)/o,y:(s.y-r.y)/o};return c.x===1/0&&(c.x=0),c.y===1/0&&(c.y=0),c}function q$(e,{min:t,max:n},r){return t!==void 0&&e<t?e=r?cn(t,e,r.min):Math.max(e,t):n!==void 0&&e>n&&(e=r?cn(n,e,r.max):Math.min(e,n)),e}function wM(e,t,n){return{min:t!==void 0?e.min+t:void 0,max:n!==void 0?e.max+n-(e.max-e.min):void 0}}function Y$(e,{top:t,left:n,bottom:r,right:s}){return{x:wM(e.x,n,s),y:wM(e.y,t,r)}}function SM(e,t){let n=t.min-e.min,r=t.max-e.max;return t.max-t.min<e.max-e.min&&([n,r]=[r,n]),{min:n,max:r}}function G$(e,t){return{x:SM(e.x,t.x),y:SM(e.y,t.y)}}function W$(e,t){let n=.5;const r=xr(e),s=xr(t);return s>r?n=Pd(t.min,t.max-r,e.min):r>s&&(n=Pd(e.min,e.max-s,t.min)),qs(0,1,n)}function K$(e,t){const n={};return t.min!==void 0&&(n.min=t.min-e.min),t.max!==void 0&&(n.max=t.max-e.min),n}const Pb=.35;function Z$(e=Pb){return e===!1?e=0:e===!0&&(e=Pb),{x:EM(e,"left","right"),y:EM(e,"top","bottom")}}function EM(e,t,n){return{min:CM(e,t),max:CM(e,n)}}function CM(e,t){return typeof e=="number"?e:e[t]||0}const _a={x:!1,y:!1};function IO(){return _a.x||_a.y}function X$(e){return e==="x"||e==="y"?_a[e]?null:(_a[e]=!0,()=>{_a[e]=!1}):_a.x||_a.y?null:(_a.x=_a.y=!0,()=>{_a.x=_a.y=!1})}const Q$=new WeakMap;class J${constructor(t){this.openDragLock=null,this.isDragging=!1,this.currentDirection=null,this.originPoint={x:0,y:0},this.constraints=!1,this.hasMutatedConstraints=!1,this.elastic=wn(),this.visualElement=t}start(t,{snapToCursor:n=!1}={}){const{presenceContext:r}=this.visualElement;if(r&&r.isPresent===!1)return;const s=m=>{const{dragSnapToOrigin:p}=this.getProps();p?this.pauseAnimation():this.stopAnimation(),n&&this.snapToCursor(cf(m).point)},o=(m,p)=>{const{drag:b,dragPropagation:w,onDragStart:S}=this.getProps();if(b&&!w&&(this.openDragLock&&this.openDragLock(),this.openDragLock=X$(b),!this.openDragLock))return;this.isDragging=!0,this.currentDirection=null,this.resolveConstraints(),this.visualElement.projection&&(this.visualElement.projection.isAnimationBlocked=!0,this.visualElement.projection.target=void 0),pa(C=>{let T=this.getAxisMotionValue(C).get()||0;if(as.test(T)){const{projection:_}=this.visualElement;if(_&&_.layout){const A=_.layout.layoutBox[C];A&&(T=xr(A)*(parseFloat(T)/100))}}this.originPoint[C]=T}),S&&dn.postRender(()=>S(m,p)),xb(this.visualElement,"transform");const{animationState:E}=this.visualElement;E&&E.setActive("whileDrag",!0)},c=(m,p)=>{const{dragPropagation:b,dragDirectionLock:w,onDirectionLock:S,onDrag:E}=this.getProps();if(!b&&!this.openDragLock)return;const{offset:C}=p;if(w&&this.currentDirection===null){this.currentDirection=eq(C),this.currentDirection!==null&&S&&S(this.currentDirection);return}this.updateAxis("x",p.point,C),this.updateAxis("y",p.point,C),this.visualElement.render(),E&&E(m,p)},u=(m,p)=>this.stop(m,p),f=()=>pa(m=>{var p;return this.getAnimationState(m)==="paused"&&((p=this.getAxisMotionValue(m).animation)==null?void 0:p.play())}),{dragSnapToOrigin:h}=this.getProps();this.panSession=new UO(t,{onSessionStart:s,onStart:o,onMove:c,onSessionEnd:u,resumeAnimation:f},{transformPagePoint:this.visualElement.getTransformPagePoint(),dragSnapToOrigin:h,contextWindow:BO(this.visualElement)})}stop(t,n){const r=this.isDragging;if(this.cancel(),!r)return;const{velocity:s}=n;this.startAnimation(s);const{onDragEnd:o}=this.getProps();o&&dn.postRender(()=>o(t,n))}cancel(){this.isDragging=!1;const{projection:t,animationState:n}=this.visualElement;t&&(t.isAnimationBlocked=!1),this.panSession&&this.panSession.end(),this.panSession=void 0;const{dragPropagation:r}=this.getProps();!r&&this.openDragLock&&(this.openDragLock(),this.openDragLock=null),n&&n.setActive("whileDrag",!1)}updateAxis(t,n,r){const{drag:s}=this.getProps();if(!r||!Uh(t,s,this.currentDirection))return;const o=this.getAxisMotionValue(t);let c=this.originPoint[t]+r[t];this.constraints&&this.constraints[t]&&(c=q$(c,this.constraints[t],this.elastic[t])),o.set(c)}resolveConstraints(){var o;const{dragConstraints:t,dragElastic:n}=this.getProps(),r=this.visualElement.projection&&!this.visualElement.projection.layout?this.visualElement.projection.measure(!1):(o=this.visualElement.projection)==null?void 0:o.layout,s=this.constraints;t&&Hl(t)?this.constraints||(this.constraints=this.resolveRefConstraints()):t&&r?this.constraints=Y$(r.layoutBox,t):this.constraints=!1,this.elastic=Z$(n),s!==this.constraints&&r&&this.constraints&&!this.hasMutatedConstraints&&pa(c=>{this.constraints!==!1&&this.getAxisMotionValue(c)&&(this.constraints[c]=K$(r.layoutBox[c],this.constraints[c]))})}resolveRefConstraints(){const{dragConstraints:t,onMeasureDragConstraints:n}=this.getProps();if(!t||!Hl(t))return!1;const r=t.current,{projection:s}=this.visualElement;if(!s||!s.layout)return!1;const o=F$(r,s.root,this.visualElement.getTransformPagePoint());let c=G$(s.layout.layoutBox,o);if(n){const u=n(O$(c));this.hasMutatedConstraints=!!u,u&&(c=kO(u))}return c}startAnimation(t){const{drag:n,dragMomentum:r,dragElastic:s,dragTransition:o,dragSnapToOrigin:c,onDragTransitionEnd:u}=this.getProps(),f=this.constraints||{},h=pa(m=>{if(!Uh(m,n,this.currentDirection))return;let p=f&&f[m]||{};c&&(p={min:0,max:0});const b=s?200:1e6,w=s?40:1e7,S={type:"inertia",velocity:r?t[m]:0,bounceStiffness:b,bounceDamping:w,timeConstant:750,restDelta:1,restSpeed:10,...o,...p};return this.startAxisValueAnimation(m,S)});return Promise.all(h).then(u)}startAxisValueAnimation(t,n){const r=this.getAxisMotionValue(t);return xb(this.visualElement,t),r.start(jx(t,r,0,n,this.visualElement,!1))}stopAnimation(){pa(t=>this.getAxisMotionValue(t).stop())}pauseAnimation(){pa(t=>{var n;return(n=this.getAxisMotionValue(t).animation)==null?void 0:n.pause()})}getAnimationState(t){var n;return(n=this.getAxisMotionValue(t).animation)==null?void 0:n.state}getAxisMotionValue(t){const n=`_drag${t.toUpperCase()}`,r=this.visualElement.getProps(),s=r[n];return s||this.visualElement.getValue(t,(r.initial?r.initial[t]:void 0)||0)}snapToCursor(t){pa(n=>{const{drag:r}=this.getProps();if(!Uh(n,r,this.currentDirection))return;const{projection:s}=this.visualElement,o=this.getAxisMotionValue(n);if(s&&s.layout){const{min:c,max:u}=s.layout.layoutBox[n];o.set(t[n]-cn(c,u,.5))}})}scalePositionWithinConstraints(){if(!this.visualElement.current)return;const{drag:t,dragConstraints:n}=this.getProps(),{projection:r}=this.visualElement;if(!Hl(n)||!r||!this.constraints)return;this.stopAnimation();const s={x:0,y:0};pa(c=>{const u=this.getAxisMotionValue(c);if(u&&this.constraints!==!1){const f=u.get();s[c]=W$({min:f,max:f},this.constraints[c])}});const{transformTemplate:o}=this.visualElement.getProps();this.visualElement.current.style.transform=o?o({},""):"none",r.root&&r.root.updateScroll(),r.updateLayout(),this.resolveConstraints(),pa(c=>{if(!Uh(c,t,null))return;const u=this.getAxisMotionValue(c),{min:f,max:h}=this.constraints[c];u.set(cn(f,h,s[c]))})}addListeners(){if(!this.visualElement.current)return;Q$.set(this.visualElement,this);const t=this.visualElement.current,n=hd(t,"pointerdown",f=>{const{drag:h,dragListener:m=!0}=this.getProps();h&&m&&this.start(f)}),r=()=>{const{dragConstraints:f}=this.getProps();Hl(f)&&f.current&&(this.constraints=this.resolveRefConstraints())},{projection:s}=this.visualElement,o=s.addEventListener("measure",r);s&&!s.layout&&(s.root&&s.root.updateScroll(),s.updateLayout()),dn.read(r);const c=Ld(window,"resize",()=>this.scalePositionWithinConstraints()),u=s.addEventListener("didUpdate",({delta:f,hasLayoutChanged:h})=>{this.isDragging&&h&&(pa(m=>{const p=this.getAxisMotionValue(m);p&&(this.originPoint[m]+=f[m].translate,p.set(p.get()+f[m].translate))}),this.visualElement.render())});return()=>{c(),n(),o(),u&&u()}}getProps(){const t=this.visualElement.getProps(),{drag:n=!1,dragDirectionLock:r=!1,dragPropagation:s=!1,dragConstraints:o=!1,dragElastic:c=Pb,dragMomentum:u=!0}=t;return{...t,drag:n,dragDirectionLock:r,dragPropagation:s,dragConstraints:o,dragElastic:c,dragMomentum:u}}}function Uh(e,t,n){return(t===!0||t===e)&&(n===null||n===e)}function eq(e,t=10){let n=null;return Math.abs(e.y)>t?n="y":Math.abs(e.x)>t&&(n="x"),n}class tq extends to{constructor(t){super(t),this.removeGroupControls=ba,this.removeListeners=ba,this.controls=new J$(t)}mount(){const{dragControls:t}=this.node.getProps();t&&(this.removeGroupControls=t.subscribe(this.controls)),this.removeListeners=this.controls.addListeners()||ba}unmount(){this.removeGroupControls(),this.removeListeners()}}const TM=e=>(t,n)=>{e&&dn.postRender(()=>e(t,n))};class nq extends to{constructor(){super(...arguments),this.removePointerDownListener=ba}onPointerDown(t){this.session=new UO(t,this.createPanHandlers(),{transformPagePoint:this.node.getTransformPagePoint(),contextWindow:BO(this.node)})}createPanHandlers(){const{onPanSessionStart:t,onPanStart:n,onPan:r,onPanEnd:s}=this.node.getProps();return{onSessionStart:TM(t),onStart:TM(n),onMove:r,onEnd:(o,c)=>{delete this.session,s&&dn.postRender(()=>s(o,c))}}}mount(){this.removePointerDownListener=hd(this.node.current,"pointerdown",t=>this.onPointerDown(t))}update(){this.session&&this.session.updateHandlers(this.createPanHandlers())}unmount(){this.removePointerDownListener(),this.session&&this.session.end()}}const tm={hasAnimatedSinceResize:!0,hasEverUpdated:!1};function MM(e,t){return t.max===t.min?0:e/(t.max-t.min)*100}const Wu={correct:(e,t)=>{if(!t.target)return e;if(typeof e=="string")if(at.test(e))e=parseFloat(e);else return e;const n=MM(e,t.target.x),r=MM(e,t.target.y);return`${n}% ${r}%`}},rq={correct:(e,{treeScale:t,projectionDelta:n})=>{const r=e,s=Qi.parse(e);if(s.length>5)return r;const o=Qi.createTransformer(e),c=typeof s[0]!="number"?1:0,u=n.x.scale*t.x,f=n.y.scale*t.y;s[0+c]/=u,s[1+c]/=f;const h=cn(u,f,.5);return typeof s[2+c]=="number"&&(s[2+c]/=h),typeof s[3+c]=="number"&&(s[3+c]/=h),o(s)}};class aq extends x.Component{componentDidMount(){const{visualElement:t,layoutGroup:n,switchLayoutGroup:r,layoutId:s}=this.props,{projection:o}=t;gH(sq),o&&(n.group&&n.group.add(o),r&&r.register&&s&&r.register(o),o.root.didUpdate(),o.addEventListener("animationComplete",()=>{this.safeToRemove()}),o.setOptions({...o.options,onExitComplete:()=>this.safeToRemove()})),tm.hasEverUpdated=!0}getSnapshotBeforeUpdate(t){const{layoutDependency:n,visualElement:r,drag:s,isPresent:o}=this.props,{projection:c}=r;return c&&(c.isPresent=o,s||t.layoutDependency!==n||n===void 0||t.isPresent!==o?c.willUpdate():this.safeToRemove(),t.isPresent!==o&&(o?c.promote():c.relegate()||dn.postRender(()=>{const u=c.getStack();(!u||!u.members.length)&&this.safeToRemove()}))),null}componentDidUpdate(){const{projection:t}=this.props.visualElement;t&&(t.root.didUpdate(),cx.postRender(()=>{!t.currentAnimation&&t.isLead()&&this.safeToRemove()}))}componentWillUnmount(){const{visualElement:t,layoutGroup:n,switchLayoutGroup:r}=this.props,{projection:s}=t;s&&(s.scheduleCheckAfterUnmount(),n&&n.group&&n.group.remove(s),r&&r.deregister&&r.deregister(s))}safeToRemove(){const{safeToRemove:t}=this.props;t&&t()}render(){return null}}function HO(e){const[t,n]=KI(),r=x.useContext(PN);return g.jsx(aq,{...e,layoutGroup:r,switchLayoutGroup:x.useContext($N),isPresent:t,safeToRemove:n})}const sq={borderRadius:{...Wu,applyTo:["borderTopLeftRadius","borderTopRightRadius","borderBottomLeftRadius","borderBottomRightRadius"]},borderTopLeftRadius:Wu,borderTopRightRadius:Wu,borderBottomLeftRadius:Wu,borderBottomRightRadius:Wu,boxShadow:rq};function iq(e,t,n){const r=fr(e)?e:xc(e);return r.start(jx("",r,t,n)),r.animation}const oq=(e,t)=>e.depth-t.depth;class lq{constructor(){this.children=[],this.isDirty=!1}add(t){bx(this.children,t),this.isDirty=!0}remove(t){xx(this.children,t),this.isDirty=!0}forEach(t){this.isDirty&&this.children.sort(oq),this.isDirty=!1,this.children.forEach(t)}}function cq(e,t){const n=Vr.now(),r=({timestamp:s})=>{const o=s-n;o>=t&&(Xi(r),e(o-t))};return dn.setup(r,!0),()=>Xi(r)}const $O=["TopLeft","TopRight","BottomLeft","BottomRight"],uq=$O.length,_M=e=>typeof e=="string"?parseFloat(e):e,AM=e=>typeof e=="number"||at.test(e);function dq(e,t,n,r,s,o){s?(e.opacity=cn(0,n.opacity??1,fq(r)),e.opacityExit=cn(t.opacity??1,0,hq(r))):o&&(e.opacity=cn(t.opacity??1,n.opacity??1,r));for(let c=0;c<uq;c++){const u=`border${$O[c]}Radius`;let f=RM(t,u),h=RM(n,u);if(f===void 0&&h===void 0)continue;f||(f=0),h||(h=0),f===0||h===0||AM(f)===AM(h)?(e[u]=Math.max(cn(_M(f),_M(h),r),0),(as.test(h)||as.test(f))&&(e[u]+="%")):e[u]=h}(t.rotate||n.rotate)&&(e.rotate=cn(t.rotate||0,n.rotate||0,r))}function RM(e,t){return e[t]!==void 0?e[t]:e.borderRadius}const fq=qO(0,.5,bO),hq=qO(.5,.95,ba);function qO(e,t,n){return r=>r<e?0:r>t?1:n(Pd(e,t,r))}function DM(e,t){e.min=t.min,e.max=t.max}function ma(e,t){DM(e.x,t.x),DM(e.y,t.y)}function NM(e,t){e.translate=t.translate,e.scale=t.scale,e.originPoint=t.originPoint,e.origin=t.origin}function OM(e,t,n,r,s){return e-=t,e=km(e,1/n,r),s!==void 0&&(e=km(e,1/s,r)),e}function mq(e,t=0,n=1,r=.5,s,o=e,c=e){if(as.test(t)&&(t=parseFloat(t),t=cn(c.min,c.max,t/100)-c.min),typeof t!="number")return;let u=cn(o.min,o.max,r);e===o&&(u-=t),e.min=OM(e.min,t,n,u,s),e.max=OM(e.max,t,n,u,s)}function kM(e,t,[n,r,s],o,c){mq(e,t[n],t[r],t[s],t.scale,o,c)}const pq=["x","scaleX","originX"],gq=["y","scaleY","originY"];function jM(e,t,n,r){kM(e.x,t,pq,n?n.x:void 0,r?r.x:void 0),kM(e.y,t,gq,n?n.y:void 0,r?r.y:void 0)}function PM(e){return e.translate===0&&e.scale===1}function YO(e){return PM(e.x)&&PM(e.y)}function LM(e,t){return e.min===t.min&&e.max===t.max}function yq(e,t){return LM(e.x,t.x)&&LM(e.y,t.y)}function VM(e,t){return Math.round(e.min)===Math.round(t.min)&&Math.round(e.max)===Math.round(t.max)}function GO(e,t){return VM(e.x,t.x)&&VM(e.y,t.y)}function zM(e){return xr(e.x)/xr(e.y)}function BM(e,t){return e.translate===t.translate&&e.scale===t.scale&&e.originPoint===t.originPoint}class vq{constructor(){this.members=[]}add(t){bx(this.members,t),t.scheduleRender()}remove(t){if(xx(this.members,t),t===this.prevLead&&(this.prevLead=void 0),t===this.lead){const n=this.members[this.members.length-1];n&&this.promote(n)}}relegate(t){const n=this.members.findIndex(s=>t===s);if(n===0)return!1;let r;for(let s=n;s>=0;s--){const o=this.members[s];if(o.isPresent!==!1){r=o;break}}return r?(this.promote(r),!0):!1}promote(t,n){const r=this.lead;if(t!==r&&(this.prevLead=r,this.lead=t,t.show(),r)){r.instance&&r.scheduleRender(),t.scheduleRender(),t.resumeFrom=r,n&&(t.resumeFrom.preserveOpacity=!0),r.snapshot&&(t.snapshot=r.snapshot,t.snapshot.latestValues=r.animationValues||r.latestValues),t.root&&t.root.isUpdating&&(t.isLayoutDirty=!0);const{crossfade:s}=t.options;s===!1&&r.hide()}}exitAnimationComplete(){this.members.forEach(t=>{const{options:n,resumingFrom:r}=t;n.onExitComplete&&n.onExitComplete(),r&&r.options.onExitComplete&&r.options.onExitComplete()})}scheduleRender(){this.members.forEach(t=>{t.instance&&t.scheduleRender(!1)})}removeLeadSnapshot(){this.lead&&this.lead.snapshot&&(this.lead.snapshot=void 0)}}function bq(e,t,n){let r="";const s=e.x.translate/t.x,o=e.y.translate/t.y,c=(n==null?void 0:n.z)||0;if((s||o||c)&&(r=`translate3d(${s}px, ${o}px, ${c}px) `),(t.x!==1||t.y!==1)&&(r+=`scale(${1/t.x}, ${1/t.y}) `),n){const{transformPerspective:h,rotate:m,rotateX:p,rotateY:b,skewX:w,skewY:S}=n;h&&(r=`perspective(${h}px) ${r}`),m&&(r+=`rotate(${m}deg) `),p&&(r+=`rotateX(${p}deg) `),b&&(r+=`rotateY(${b}deg) `),w&&(r+=`skewX(${w}deg) `),S&&(r+=`skewY(${S}deg) `)}const u=e.x.scale*t.x,f=e.y.scale*t.y;return(u!==1||f!==1)&&(r+=`scale(${u}, ${f})`),r||"none"}function WO(e){return VN(e)&&"ownerSVGElement"in e}function xq(e){return WO(e)&&e.tagName==="svg"}const sv=["","X","Y","Z"],wq={visibility:"hidden"},Sq=1e3;let Eq=0;function iv(e,t,n,r){const{latestValues:s}=t;s[e]&&(n[e]=s[e],t.setStaticValue(e,0),r&&(r[e]=0))}function KO(e){if(e.hasCheckedOptimisedAppear=!0,e.root===e)return;const{visualElement:t}=e.options;if(!t)return;const n=nO(t);if(window.MotionHasOptimisedAnimation(n,"transform")){const{layout:s,layoutId:o}=e.options;window.MotionCancelOptimisedAnimation(n,"transform",dn,!(s||o))}const{parent:r}=e;r&&!r.hasCheckedOptimisedAppear&&KO(r)}function ZO({attachResizeListener:e,defaultParent:t,measureScroll:n,checkIsScrollRoot:r,resetTransform:s}){return class{constructor(c={},u=t==null?void 0:t()){this.id=Eq++,this.animationId=0,this.children=new Set,this.options={},this.isTreeAnimating=!1,this.isAnimationBlocked=!1,this.isLayoutDirty=!1,this.isProjectionDirty=!1,this.isSharedProjectionDirty=!1,this.isTransformDirty=!1,this.updateManuallyBlocked=!1,this.updateBlockedByResize=!1,this.isUpdating=!1,this.isSVG=!1,this.needsReset=!1,this.shouldResetTransform=!1,this.hasCheckedOptimisedAppear=!1,this.treeScale={x:1,y:1},this.eventHandlers=new Map,this.hasTreeAnimated=!1,this.updateScheduled=!1,this.scheduleUpdate=()=>this.update(),this.projectionUpdateScheduled=!1,this.checkUpdateFailed=()=>{this.isUpdating&&(this.isUpdating=!1,this.clearAllSnapshots())},this.updateProjection=()=>{this.projectionUpdateScheduled=!1,this.nodes.forEach(Mq),this.nodes.forEach(Nq),this.nodes.forEach(Oq),this.nodes.forEach(_q)},this.resolvedRelativeTargetAt=0,this.hasProjected=!1,this.isVisible=!0,this.animationProgress=0,this.sharedNodes=new Map,this.latestValues=c,this.root=u?u.root||u:this,this.path=u?[...u.path,u]:[],this.parent=u,this.depth=u?u.depth+1:0;for(let f=0;f<this.path.length;f++)this.path[f].shouldResetTransform=!0;this.root===this&&(this.nodes=new lq)}addEventListener(c,u){return this.eventHandlers.has(c)||this.eventHandlers.set(c,new wx),this.eventHandlers.get(c).add(u)}notifyListeners(c,...u){const f=this.eventHandlers.get(c);f&&f.notify(...u)}hasListeners(c){return this.eventHandlers.has(c)}mount(c){if(this.instance)return;this.isSVG=WO(c)&&!xq(c),this.instance=c;const{layoutId:u,layout:f,visualElement:h}=this.options;if(h&&!h.current&&h.mount(c),this.root.nodes.add(this),this.parent&&this.parent.children.add(this),this.root.hasTreeAnimated&&(f||u)&&(this.isLayoutDirty=!0),e){let m;const p=()=>this.root.updateBlockedByResize=!1;e(c,()=>{this.root.updateBlockedByResize=!0,m&&m(),m=cq(p,250),tm.hasAnimatedSinceResize&&(tm.hasAnimatedSinceResize=!1,this.nodes.forEach(FM))})}u&&this.root.registerSharedNode(u,this),this.options.animate!==!1&&h&&(u||f)&&this.addEventListener("didUpdate",({delta:m,hasLayoutChanged:p,hasRelativeLayoutChanged:b,layout:w})=>{if(this.isTreeAnimationBlocked()){this.target=void 0,this.relativeTarget=void 0;return}const S=this.options.transition||h.getDefaultTransition()||Vq,{onLayoutAnimationStart:E,onLayoutAnimationComplete:C}=h.getProps(),T=!this.targetLayout||!GO(this.targetLayout,w),_=!p&&b;if(this.options.layoutRoot||this.resumeFrom||_||p&&(T||!this.currentAnimation)){this.resumeFrom&&(this.resumingFrom=this.resumeFrom,this.resumingFrom.resumingFrom=void 0);const A={...Sx(S,"layout"),onPlay:E,onComplete:C};(h.shouldReduceMotion||this.options.layoutRoot)&&(A.delay=0,A.type=!1),this.startAnimation(A),this.setAnimationOrigin(m,_)}else p||FM(this),this.isLead()&&this.options.onExitComplete&&this.options.onExitComplete();this.targetLayout=w})}unmount(){this.options.layoutId&&this.willUpdate(),this.root.nodes.remove(this);const c=this.getStack();c&&c.remove(this),this.parent&&this.parent.children.delete(this),this.instance=void 0,this.eventHandlers.clear(),Xi(this.updateProjection)}blockUpdate(){this.updateManuallyBlocked=!0}unblockUpdate(){this.updateManuallyBlocked=!1}isUpdateBlocked(){return this.updateManuallyBlocked||this.updateBlockedByResize}isTreeAnimationBlocked(){return this.isAnimationBlocked||this.parent&&this.parent.isTreeAnimationBlocked()||!1}startUpdate(){this.isUpdateBlocked()||(this.isUpdating=!0,this.nodes&&this.nodes.forEach(kq),this.animationId++)}getTransformTemplate(){const{visualElement:c}=this.options;return c&&c.getProps().transformTemplate}willUpdate(c=!0){if(this.root.hasTreeAnimated=!0,this.root.isUpdateBlocked()){this.options.onExitComplete&&this.options.onExitComplete();return}if(window.MotionCancelOptimisedAnimation&&!this.hasCheckedOptimisedAppear&&KO(this),!this.root.isUpdating&&this.root.startUpdate(),this.isLayoutDirty)return;this.isLayoutDirty=!0;for(let m=0;m<this.path.length;m++){const p=this.path[m];p.shouldResetTransform=!0,p.updateScroll("snapshot"),p.options.layoutRoot&&p.willUpdate(!1)}const{layoutId:u,layout:f}=this.options;if(u===void 0&&!f)return;const h=this.getTransformTemplate();this.prevTransformTemplateValue=h?h(this.latestValues,""):void 0,this.updateSnapshot(),c&&this.notifyListeners("willUpdate")}update(){if(this.updateScheduled=!1,this.isUpdateBlocked()){this.unblockUpdate(),this.clearAllSnapshots(),this.nodes.forEach(UM);return}this.isUpdating||this.nodes.forEach(Rq),this.isUpdating=!1,this.nodes.forEach(Dq),this.nodes.forEach(Cq),this.nodes.forEach(Tq),this.clearAllSnapshots();const u=Vr.now();rr.delta=qs(0,1e3/60,u-rr.timestamp),rr.timestamp=u,rr.isProcessing=!0,Qy.update.process(rr),Qy.preRender.process(rr),Qy.render.process(rr),rr.isProcessing=!1}didUpdate(){this.updateScheduled||(this.updateScheduled=!0,cx.read(this.scheduleUpdate))}clearAllSnapshots(){this.nodes.forEach(Aq),this.sharedNodes.forEach(jq)}scheduleUpdateProjection(){this.projectionUpdateScheduled||(this.projectionUpdateScheduled=!0,dn.preRender(this.updateProjection,!1,!0))}scheduleCheckAfterUnmount(){dn.postRender(()=>{this.isLayoutDirty?this.root.didUpdate():this.root.checkUpdateFailed()})}updateSnapshot(){this.snapshot||!this.instance||(this.snapshot=this.measure(),this.snapshot&&!xr(this.snapshot.measuredBox.x)&&!xr(this.snapshot.measuredBox.y)&&(this.snapshot=void 0))}updateLayout(){if(!this.instance||(this.updateScroll(),!(this.options.alwaysMeasureLayout&&this.isLead())&&!this.isLayoutDirty))return;if(this.resumeFrom&&!this.resumeFrom.instance)for(let f=0;f<this.path.length;f++)this.path[f].updateScroll();const c=this.layout;this.layout=this.measure(!1),this.layoutCorrected=wn(),this.isLayoutDirty=!1,this.projectionDelta=void 0,this.notifyListeners("measure",this.layout.layoutBox);const{visualElement:u}=this.options;u&&u.notify("LayoutMeasure",this.layout.layoutBox,c?c.layoutBox:void 0)}updateScroll(c="measure"){let u=!!(this.options.layoutScroll&&this.instance);if(this.scroll&&this.scroll.animationId===this.root.animationId&&this.scroll.phase===c&&(u=!1),u&&this.instance){const f=r(this.instance);this.scroll={animationId:this.root.animationId,phase:c,isRoot:f,offset:n(this.instance),wasRoot:this.scroll?this.scroll.isRoot:f}}}resetTransform(){if(!s)return;const c=this.isLayoutDirty||this.shouldResetTransform||this.options.alwaysMeasureLayout,u=this.projectionDelta&&!YO(this.projectionDelta),f=this.getTransformTemplate(),h=f?f(this.latestValues,""):void 0,m=h!==this.prevTransformTemplateValue;c&&this.instance&&(u||Eo(this.latestValues)||m)&&(s(this.instance,h),this.shouldResetTransform=!1,this.scheduleRender())}measure(c=!0){const u=this.measurePageBox();let f=this.removeElementScroll(u);return c&&(f=this.removeTransform(f)),zq(f),{animationId:this.root.animationId,measuredBox:u,layoutBox:f,latestValues:{},source:this.id}}measurePageBox(){var h;const{visualElement:c}=this.options;if(!c)return wn();const u=c.measureViewportBox();if(!(((h=this.scroll)==null?void 0:h.wasRoot)||this.path.some(Bq))){const{scroll:m}=this.root;m&&(Yl(u.x,m.offset.x),Yl(u.y,m.offset.y))}return u}removeElementScroll(c){var f;const u=wn();if(ma(u,c),(f=this.scroll)!=null&&f.wasRoot)return u;for(let h=0;h<this.path.length;h++){const m=this.path[h],{scroll:p,options:b}=m;m!==this.root&&p&&b.layoutScroll&&(p.wasRoot&&ma(u,c),Yl(u.x,p.offset.x),Yl(u.y,p.offset.y))}return u}applyTransform(c,u=!1){const f=wn();ma(f,c);for(let h=0;h<this.path.length;h++){const m=this.path[h];!u&&m.options.layoutScroll&&m.scroll&&m!==m.root&&Gl(f,{x:-m.scroll.offset.x,y:-m.scroll.offset.y}),Eo(m.latestValues)&&Gl(f,m.latestValues)}return Eo(this.latestValues)&&Gl(f,this.latestValues),f}removeTransform(c){const u=wn();ma(u,c);for(let f=0;f<this.path.length;f++){const h=this.path[f];if(!h.instance||!Eo(h.latestValues))continue;kb(h.latestValues)&&h.updateSnapshot();const m=wn(),p=h.measurePageBox();ma(m,p),jM(u,h.latestValues,h.snapshot?h.snapshot.layoutBox:void 0,m)}return Eo(this.latestValues)&&jM(u,this.latestValues),u}setTargetDelta(c){this.targetDelta=c,this.root.scheduleUpdateProjection(),this.isProjectionDirty=!0}setOptions(c){this.options={...this.options,...c,crossfade:c.crossfade!==void 0?c.crossfade:!0}}clearMeasurements(){this.scroll=void 0,this.layout=void 0,this.snapshot=void 0,this.prevTransformTemplateValue=void 0,this.targetDelta=void 0,this.target=void 0,this.isLayoutDirty=!1}forceRelativeParentToResolveTarget(){this.relativeParent&&this.relativeParent.resolvedRelativeTargetAt!==rr.timestamp&&this.relativeParent.resolveTargetDelta(!0)}resolveTargetDelta(c=!1){var b;const u=this.getLead();this.isProjectionDirty||(this.isProjectionDirty=u.isProjectionDirty),this.isTransformDirty||(this.isTransformDirty=u.isTransformDirty),this.isSharedProjectionDirty||(this.isSharedProjectionDirty=u.isSharedProjectionDirty);const f=!!this.resumingFrom||this!==u;if(!(c||f&&this.isSharedProjectionDirty||this.isProjectionDirty||(b=this.parent)!=null&&b.isProjectionDirty||this.attemptToResolveRelativeTarget||this.root.updateBlockedByResize))return;const{layout:m,layoutId:p}=this.options;if(!(!this.layout||!(m||p))){if(this.resolvedRelativeTargetAt=rr.timestamp,!this.targetDelta&&!this.relativeTarget){const w=this.getClosestProjectingParent();w&&w.layout&&this.animationProgress!==1?(this.relativeParent=w,this.forceRelativeParentToResolveTarget(),this.relativeTarget=wn(),this.relativeTargetOrigin=wn(),pd(this.relativeTargetOrigin,this.layout.layoutBox,w.layout.layoutBox),ma(this.relativeTarget,this.relativeTargetOrigin)):this.relativeParent=this.relativeTarget=void 0}if(!(!this.relativeTarget&&!this.targetDelta)&&(this.target||(this.target=wn(),this.targetWithTransforms=wn()),this.relativeTarget&&this.relativeTargetOrigin&&this.relativeParent&&this.relativeParent.target?(this.forceRelativeParentToResolveTarget(),B$(this.target,this.relativeTarget,this.relativeParent.target)):this.targetDelta?(this.resumingFrom?this.target=this.applyTransform(this.layout.layoutBox):ma(this.target,this.layout.layoutBox),VO(this.target,this.targetDelta)):ma(this.target,this.layout.layoutBox),this.attemptToResolveRelativeTarget)){this.attemptToResolveRelativeTarget=!1;const w=this.getClosestProjectingParent();w&&!!w.resumingFrom==!!this.resumingFrom&&!w.options.layoutScroll&&w.target&&this.animationProgress!==1?(this.relativeParent=w,this.forceRelativeParentToResolveTarget(),this.relativeTarget=wn(),this.relativeTargetOrigin=wn(),pd(this.relativeTargetOrigin,this.target,w.target),ma(this.relativeTarget,this.relativeTargetOrigin)):this.relativeParent=this.relativeTarget=void 0}}}getClosestProjectingParent(){if(!(!this.parent||kb(this.parent.latestValues)||LO(this.parent.latestValues)))return this.parent.isProjecting()?this.parent:this.parent.getClosestProjectingParent()}isProjecting(){return!!((this.relativeTarget||this.targetDelta||this.options.layoutRoot)&&this.layout)}calcProjection(){var S;const c=this.getLead(),u=!!this.resumingFrom||this!==c;let f=!0;if((this.isProjectionDirty||(S=this.parent)!=null&&S.isProjectionDirty)&&(f=!1),u&&(this.isSharedProjectionDirty||this.isTransformDirty)&&(f=!1),this.resolvedRelativeTargetAt===rr.timestamp&&(f=!1),f)return;const{layout:h,layoutId:m}=this.options;if(this.isTreeAnimating=!!(this.parent&&this.parent.isTreeAnimating||this.currentAnimation||this.pendingAnimation),this.isTreeAnimating||(this.targetDelta=this.relativeTarget=void 0),!this.layout||!(h||m))return;ma(this.layoutCorrected,this.layout.layoutBox);const p=this.treeScale.x,b=this.treeScale.y;U$(this.layoutCorrected,this.treeScale,this.path,u),c.layout&&!c.target&&(this.treeScale.x!==1||this.treeScale.y!==1)&&(c.target=c.layout.layoutBox,c.targetWithTransforms=wn());const{target:w}=c;if(!w){this.prevProjectionDelta&&(this.createProjectionDeltas(),this.scheduleRender());return}!this.projectionDelta||!this.prevProjectionDelta?this.createProjectionDeltas():(NM(this.prevProjectionDelta.x,this.projectionDelta.x),NM(this.prevProjectionDelta.y,this.projectionDelta.y)),md(this.projectionDelta,this.layoutCorrected,w,this.latestValues),(this.treeScale.x!==p||this.treeScale.y!==b||!BM(this.projectionDelta.x,this.prevProjectionDelta.x)||!BM(this.projectionDelta.y,this.prevProjectionDelta.y))&&(this.hasProjected=!0,this.scheduleRender(),this.notifyListeners("projectionUpdate",w))}hide(){this.isVisible=!1}show(){this.isVisible=!0}scheduleRender(c=!0){var u;if((u=this.options.visualElement)==null||u.scheduleRender(),c){const f=this.getStack();f&&f.scheduleRender()}this.resumingFrom&&!this.resumingFrom.instance&&(this.resumingFrom=void 0)}createProjectionDeltas(){this.prevProjectionDelta=ql(),this.projectionDelta=ql(),this.projectionDeltaWithTransform=ql()}setAnimationOrigin(c,u=!1){const f=this.snapshot,h=f?f.latestValues:{},m={...this.latestValues},p=ql();(!this.relativeParent||!this.relativeParent.options.layoutRoot)&&(this.relativeTarget=this.relativeTargetOrigin=void 0),this.attemptToResolveRelativeTarget=!u;const b=wn(),w=f?f.source:void 0,S=this.layout?this.layout.source:void 0,E=w!==S,C=this.getStack(),T=!C||C.members.length<=1,_=!!(E&&!T&&this.options.crossfade===!0&&!this.path.some(Lq));this.animationProgress=0;let A;this.mixTargetDelta=O=>{const R=O/1e3;IM(p.x,c.x,R),IM(p.y,c.y,R),this.setTargetDelta(p),this.relativeTarget&&this.relativeTargetOrigin&&this.layout&&this.relativeParent&&this.relativeParent.layout&&(pd(b,this.layout.layoutBox,this.relativeParent.layout.layoutBox),Pq(this.relativeTarget,this.relativeTargetOrigin,b,R),A&&yq(this.relativeTarget,A)&&(this.isProjectionDirty=!1),A||(A=wn()),ma(A,this.relativeTarget)),E&&(this.animationValues=m,dq(m,h,this.latestValues,R,_,T)),this.root.scheduleUpdateProjection(),this.scheduleRender(),this.animationProgress=R},this.mixTargetDelta(this.options.layoutRoot?1e3:0)}startAnimation(c){var u,f,h;this.notifyListeners("animationStart"),(u=this.currentAnimation)==null||u.stop(),(h=(f=this.resumingFrom)==null?void 0:f.currentAnimation)==null||h.stop(),this.pendingAnimation&&(Xi(this.pendingAnimation),this.pendingAnimation=void 0),this.pendingAnimation=dn.update(()=>{tm.hasAnimatedSinceResize=!0,this.motionValue||(this.motionValue=xc(0)),this.currentAnimation=iq(this.motionValue,[0,1e3],{...c,velocity:0,isSync:!0,onUpdate:m=>{this.mixTargetDelta(m),c.onUpdate&&c.onUpdate(m)},onStop:()=>{},onComplete:()=>{c.onComplete&&c.onComplete(),this.completeAnimation()}}),this.resumingFrom&&(this.resumingFrom.currentAnimation=this.currentAnimation),this.pendingAnimation=void 0})}completeAnimation(){this.resumingFrom&&(this.resumingFrom.currentAnimation=void 0,this.resumingFrom.preserveOpacity=void 0);const c=this.getStack();c&&c.exitAnimationComplete(),this.resumingFrom=this.currentAnimation=this.animationValues=void 0,this.notifyListeners("animationComplete")}finishAnimation(){this.currentAnimation&&(this.mixTargetDelta&&this.mixTargetDelta(Sq),this.currentAnimation.stop()),this.completeAnimation()}applyTransformsToTarget(){const c=this.getLead();let{targetWithTransforms:u,target:f,layout:h,latestValues:m}=c;if(!(!u||!f||!h)){if(this!==c&&this.layout&&h&&XO(this.options.animationType,this.layout.layoutBox,h.layoutBox)){f=this.target||wn();const p=xr(this.layout.layoutBox.x);f.x.min=c.target.x.min,f.x.max=f.x.min+p;const b=xr(this.layout.layoutBox.y);f.y.min=c.target.y.min,f.y.max=f.y.min+b}ma(u,f),Gl(u,m),md(this.projectionDeltaWithTransform,this.layoutCorrected,u,m)}}registerSharedNode(c,u){this.sharedNodes.has(c)||this.sharedNodes.set(c,new vq),this.sharedNodes.get(c).add(u);const h=u.options.initialPromotionConfig;u.promote({transition:h?h.transition:void 0,preserveFollowOpacity:h&&h.shouldPreserveFollowOpacity?h.shouldPreserveFollowOpacity(u):void 0})}isLead(){const c=this.getStack();return c?c.lead===this:!0}getLead(){var u;const{layoutId:c}=this.options;return c?((u=this.getStack())==null?void 0:u.lead)||this:this}getPrevLead(){var u;const{layoutId:c}=this.options;return c?(u=this.getStack())==null?void 0:u.prevLead:void 0}getStack(){const{layoutId:c}=this.options;if(c)return this.root.sharedNodes.get(c)}promote({needsReset:c,transition:u,preserveFollowOpacity:f}={}){const h=this.getStack();h&&h.promote(this,f),c&&(this.projectionDelta=void 0,this.needsReset=!0),u&&this.setOptions({transition:u})}relegate(){const c=this.getStack();return c?c.relegate(this):!1}resetSkewAndRotation(){const{visualElement:c}=this.options;if(!c)return;let u=!1;const{latestValues:f}=c;if((f.z||f.rotate||f.rotateX||f.rotateY||f.rotateZ||f.skewX||f.skewY)&&(u=!0),!u)return;const h={};f.z&&iv("z",c,h,this.animationValues);for(let m=0;m<sv.length;m++)iv(`rotate${sv[m]}`,c,h,this.animationValues),iv(`skew${sv[m]}`,c,h,this.animationValues);c.render();for(const m in h)c.setStaticValue(m,h[m]),this.animationValues&&(this.animationValues[m]=h[m]);c.scheduleRender()}getProjectionStyles(c){if(!this.instance||this.isSVG)return;if(!this.isVisible)return wq;const u={visibility:""},f=this.getTransformTemplate();if(this.needsReset)return this.needsReset=!1,u.opacity="",u.pointerEvents=Jh(c==null?void 0:c.pointerEvents)||"",u.transform=f?f(this.latestValues,""):"none",u;const h=this.getLead();if(!this.projectionDelta||!this.layout||!h.target){const w={};return this.options.layoutId&&(w.opacity=this.latestValues.opacity!==void 0?this.latestValues.opacity:1,w.pointerEvents=Jh(c==null?void 0:c.pointerEvents)||""),this.hasProjected&&!Eo(this.latestValues)&&(w.transform=f?f({},""):"none",this.hasProjected=!1),w}const m=h.animationValues||h.latestValues;this.applyTransformsToTarget(),u.transform=bq(this.projectionDeltaWithTransform,this.treeScale,m),f&&(u.transform=f(m,u.transform));const{x:p,y:b}=this.projectionDelta;u.transformOrigin=`${p.origin*100}% ${b.origin*100}% 0`,h.animationValues?u.opacity=h===this?m.opacity??this.latestValues.opacity??1:this.preserveOpacity?this.latestValues.opacity:m.opacityExit:u.opacity=h===this?m.opacity!==void 0?m.opacity:"":m.opacityExit!==void 0?m.opacityExit:0;for(const w in Nd){if(m[w]===void 0)continue;const{correct:S,applyTo:E,isCSSVariable:C}=Nd[w],T=u.transform==="none"?m[w]:S(m[w],h);if(E){const _=E.length;for(let A=0;A<_;A++)u[E[A]]=T}else C?this.options.visualElement.renderState.vars[w]=T:u[w]=T}return this.options.layoutId&&(u.pointerEvents=h===this?Jh(c==null?void 0:c.pointerEvents)||"":"none"),u}clearSnapshot(){this.resumeFrom=this.snapshot=void 0}resetTree(){this.root.nodes.forEach(c=>{var u;return(u=c.currentAnimation)==null?void 0:u.stop()}),this.root.nodes.forEach(UM),this.root.sharedNodes.clear()}}}function Cq(e){e.updateLayout()}function Tq(e){var n;const t=((n=e.resumeFrom)==null?void 0:n.snapshot)||e.snapshot;if(e.isLead()&&e.layout&&t&&e.hasListeners("didUpdate")){const{layoutBox:r,measuredBox:s}=e.layout,{animationType:o}=e.options,c=t.source!==e.layout.source;o==="size"?pa(p=>{const b=c?t.measuredBox[p]:t.layoutBox[p],w=xr(b);b.min=r[p].min,b.max=b.min+w}):XO(o,t.layoutBox,r)&&pa(p=>{const b=c?t.measuredBox[p]:t.layoutBox[p],w=xr(r[p]);b.max=b.min+w,e.relativeTarget&&!e.currentAnimation&&(e.isProjectionDirty=!0,e.relativeTarget[p].max=e.relativeTarget[p].min+w)});const u=ql();md(u,r,t.layoutBox);const f=ql();c?md(f,e.applyTransform(s,!0),t.measuredBox):md(f,r,t.layoutBox);const h=!YO(u);let m=!1;if(!e.resumeFrom){const p=e.getClosestProjectingParent();if(p&&!p.resumeFrom){const{snapshot:b,layout:w}=p;if(b&&w){const S=wn();pd(S,t.layoutBox,b.layoutBox);const E=wn();pd(E,r,w.layoutBox),GO(S,E)||(m=!0),p.options.layoutRoot&&(e.relativeTarget=E,e.relativeTargetOrigin=S,e.relativeParent=p)}}}e.notifyListeners("didUpdate",{layout:r,snapshot:t,delta:f,layoutDelta:u,hasLayoutChanged:h,hasRelativeLayoutChanged:m})}else if(e.isLead()){const{onExitComplete:r}=e.options;r&&r()}e.options.transition=void 0}function Mq(e){e.parent&&(e.isProjecting()||(e.isProjectionDirty=e.parent.isProjectionDirty),e.isSharedProjectionDirty||(e.isSharedProjectionDirty=!!(e.isProjectionDirty||e.parent.isProjectionDirty||e.parent.isSharedProjectionDirty)),e.isTransformDirty||(e.isTransformDirty=e.parent.isTransformDirty))}function _q(e){e.isProjectionDirty=e.isSharedProjectionDirty=e.isTransformDirty=!1}function Aq(e){e.clearSnapshot()}function UM(e){e.clearMeasurements()}function Rq(e){e.isLayoutDirty=!1}function Dq(e){const{visualElement:t}=e.options;t&&t.getProps().onBeforeLayoutMeasure&&t.notify("BeforeLayoutMeasure"),e.resetTransform()}function FM(e){e.finishAnimation(),e.targetDelta=e.relativeTarget=e.target=void 0,e.isProjectionDirty=!0}function Nq(e){e.resolveTargetDelta()}function Oq(e){e.calcProjection()}function kq(e){e.resetSkewAndRotation()}function jq(e){e.removeLeadSnapshot()}function IM(e,t,n){e.translate=cn(t.translate,0,n),e.scale=cn(t.scale,1,n),e.origin=t.origin,e.originPoint=t.originPoint}function HM(e,t,n,r){e.min=cn(t.min,n.min,r),e.max=cn(t.max,n.max,r)}function Pq(e,t,n,r){HM(e.x,t.x,n.x,r),HM(e.y,t.y,n.y,r)}function Lq(e){return e.animationValues&&e.animationValues.opacityExit!==void 0}const Vq={duration:.45,ease:[.4,0,.1,1]},$M=e=>typeof navigator<"u"&&navigator.userAgent&&navigator.userAgent.toLowerCase().includes(e),qM=$M("applewebkit/")&&!$M("chrome/")?Math.round:ba;function YM(e){e.min=qM(e.min),e.max=qM(e.max)}function zq(e){YM(e.x),YM(e.y)}function XO(e,t,n){return e==="position"||e==="preserve-aspect"&&!z$(zM(t),zM(n),.2)}function Bq(e){var t;return e!==e.root&&((t=e.scroll)==null?void 0:t.wasRoot)}const Uq=ZO({attachResizeListener:(e,t)=>Ld(e,"resize",t),measureScroll:()=>({x:document.documentElement.scrollLeft||document.body.scrollLeft,y:document.documentElement.scrollTop||document.body.scrollTop}),checkIsScrollRoot:()=>!0}),ov={current:void 0},QO=ZO({measureScroll:e=>({x:e.scrollLeft,y:e.scrollTop}),defaultParent:()=>{if(!ov.current){const e=new Uq({});e.mount(window),e.setOptions({layoutScroll:!0}),ov.current=e}return ov.current},resetTransform:(e,t)=>{e.style.transform=t!==void 0?t:"none"},checkIsScrollRoot:e=>window.getComputedStyle(e).position==="fixed"}),Fq={pan:{Feature:nq},drag:{Feature:tq,ProjectionNode:QO,MeasureLayout:HO}};function Iq(e,t,n){if(e instanceof EventTarget)return[e];if(typeof e=="string"){let r=document;const s=(n==null?void 0:n[e])??r.querySelectorAll(e);return s?Array.from(s):[]}return Array.from(e)}function JO(e,t){const n=Iq(e),r=new AbortController,s={passive:!0,...t,signal:r.signal};return[n,s,()=>r.abort()]}function GM(e){return!(e.pointerType==="touch"||IO())}function Hq(e,t,n={}){const[r,s,o]=JO(e,n),c=u=>{if(!GM(u))return;const{target:f}=u,h=t(f,u);if(typeof h!="function"||!f)return;const m=p=>{GM(p)&&(h(p),f.removeEventListener("pointerleave",m))};f.addEventListener("pointerleave",m,s)};return r.forEach(u=>{u.addEventListener("pointerenter",c,s)}),o}function WM(e,t,n){const{props:r}=e;e.animationState&&r.whileHover&&e.animationState.setActive("whileHover",n==="Start");const s="onHover"+n,o=r[s];o&&dn.postRender(()=>o(t,cf(t)))}class $q extends to{mount(){const{current:t}=this.node;t&&(this.unmount=Hq(t,(n,r)=>(WM(this.node,r,"Start"),s=>WM(this.node,s,"End"))))}unmount(){}}class qq extends to{constructor(){super(...arguments),this.isActive=!1}onFocus(){let t=!1;try{t=this.node.current.matches(":focus-visible")}catch{t=!0}!t||!this.node.animationState||(this.node.animationState.setActive("whileFocus",!0),this.isActive=!0)}onBlur(){!this.isActive||!this.node.animationState||(this.node.animationState.setActive("whileFocus",!1),this.isActive=!1)}mount(){this.unmount=of(Ld(this.node.current,"focus",()=>this.onFocus()),Ld(this.node.current,"blur",()=>this.onBlur()))}unmount(){}}const ek=(e,t)=>t?e===t?!0:ek(e,t.parentElement):!1,Yq=new Set(["BUTTON","INPUT","SELECT","TEXTAREA","A"]);function Gq(e){return Yq.has(e.tagName)||e.tabIndex!==-1}const nm=new WeakSet;function KM(e){return t=>{t.key==="Enter"&&e(t)}}function lv(e,t){e.dispatchEvent(new PointerEvent("pointer"+t,{isPrimary:!0,bubbles:!0}))}const Wq=(e,t)=>{const n=e.currentTarget;if(!n)return;const r=KM(()=>{if(nm.has(n))return;lv(n,"down");const s=KM(()=>{lv(n,"up")}),o=()=>lv(n,"cancel");n.addEventListener("keyup",s,t),n.addEventListener("blur",o,t)});n.addEventListener("keydown",r,t),n.addEventListener("blur",()=>n.removeEventListener("keydown",r),t)};function ZM(e){return Px(e)&&!IO()}function Kq(e,t,n={}){const[r,s,o]=JO(e,n),c=u=>{const f=u.currentTarget;if(!ZM(u))return;nm.add(f);const h=t(f,u),m=(w,S)=>{window.removeEventListener("pointerup",p),window.removeEventListener("pointercancel",b),nm.has(f)&&nm.delete(f),ZM(w)&&typeof h=="function"&&h(w,{success:S})},p=w=>{m(w,f===window||f===document||n.useGlobalTarget||ek(f,w.target))},b=w=>{m(w,!1)};window.addEventListener("pointerup",p,s),window.addEventListener("pointercancel",b,s)};return r.forEach(u=>{(n.useGlobalTarget?window:u).addEventListener("pointerdown",c,s),zN(u)&&(u.addEventListener("focus",h=>Wq(h,s)),!Gq(u)&&!u.hasAttribute("tabindex")&&(u.tabIndex=0))}),o}function XM(e,t,n){const{props:r}=e;if(e.current instanceof HTMLButtonElement&&e.current.disabled)return;e.animationState&&r.whileTap&&e.animationState.setActive("whileTap",n==="Start");const s="onTap"+(n==="End"?"":n),o=r[s];o&&dn.postRender(()=>o(t,cf(t)))}class Zq extends to{mount(){const{current:t}=this.node;t&&(this.unmount=Kq(t,(n,r)=>(XM(this.node,r,"Start"),(s,{success:o})=>XM(this.node,s,o?"End":"Cancel")),{useGlobalTarget:this.node.props.globalTapTarget}))}unmount(){}}const Lb=new WeakMap,cv=new WeakMap,Xq=e=>{const t=Lb.get(e.target);t&&t(e)},Qq=e=>{e.forEach(Xq)};function Jq({root:e,...t}){const n=e||document;cv.has(n)||cv.set(n,{});const r=cv.get(n),s=JSON.stringify(t);return r[s]||(r[s]=new IntersectionObserver(Qq,{root:e,...t})),r[s]}function eY(e,t,n){const r=Jq(t);return Lb.set(e,n),r.observe(e),()=>{Lb.delete(e),r.unobserve(e)}}const tY={some:0,all:1};class nY extends to{constructor(){super(...arguments),this.hasEnteredView=!1,this.isInView=!1}startObserver(){this.unmount();const{viewport:t={}}=this.node.getProps(),{root:n,margin:r,amount:s="some",once:o}=t,c={root:n?n.current:void 0,rootMargin:r,threshold:typeof s=="number"?s:tY[s]},u=f=>{const{isIntersecting:h}=f;if(this.isInView===h||(this.isInView=h,o&&!h&&this.hasEnteredView))return;h&&(this.hasEnteredView=!0),this.node.animationState&&this.node.animationState.setActive("whileInView",h);const{onViewportEnter:m,onViewportLeave:p}=this.node.getProps(),b=h?m:p;b&&b(f)};return eY(this.node.current,c,u)}mount(){this.startObserver()}update(){if(typeof IntersectionObserver>"u")return;const{props:t,prevProps:n}=this.node;["amount","margin","root"].some(rY(t,n))&&this.startObserver()}unmount(){}}function rY({viewport:e={}},{viewport:t={}}={}){return n=>e[n]!==t[n]}const aY={inView:{Feature:nY},tap:{Feature:Zq},focus:{Feature:qq},hover:{Feature:$q}},sY={layout:{ProjectionNode:QO,MeasureLayout:HO}},Vb={current:null},tk={current:!1};function iY(){if(tk.current=!0,!!ax)if(window.matchMedia){const e=window.matchMedia("(prefers-reduced-motion)"),t=()=>Vb.current=e.matches;e.addListener(t),t()}else Vb.current=!1}const oY=new WeakMap;function lY(e,t,n){for(const r in t){const s=t[r],o=n[r];if(fr(s))e.addValue(r,s);else if(fr(o))e.addValue(r,xc(s,{owner:e}));else if(o!==s)if(e.hasValue(r)){const c=e.getValue(r);c.liveStyle===!0?c.jump(s):c.hasAnimated||c.set(s)}else{const c=e.getStaticValue(r);e.addValue(r,xc(c!==void 0?c:s,{owner:e}))}}for(const r in n)t[r]===void 0&&e.removeValue(r);return t}const nk=e=>/^-?(?:\d+(?:\.\d+)?|\.\d+)$/u.test(e),rk=e=>/^0[^.\s]+$/u.test(e),cY={test:e=>e==="auto",parse:e=>e},ak=e=>t=>t.test(e),sk=[Fc,at,as,Ri,vH,yH,cY],QM=e=>sk.find(ak(e)),uY=[...sk,cr,Qi],dY=e=>uY.find(ak(e)),fY=new Set(["brightness","contrast","saturate","opacity"]);function hY(e){const[t,n]=e.slice(0,-1).split("(");if(t==="drop-shadow")return e;const[r]=n.match(Ex)||[];if(!r)return e;const s=n.replace(r,"");let o=fY.has(t)?1:0;return r!==n&&(o*=100),t+"("+o+s+")"}const mY=/\b([a-z-]*)\(.*?\)/gu,zb={...Qi,getAnimatableNone:e=>{const t=e.match(mY);return t?t.map(hY).join(" "):e}},pY={...hx,color:cr,backgroundColor:cr,outlineColor:cr,fill:cr,stroke:cr,borderColor:cr,borderTopColor:cr,borderRightColor:cr,borderBottomColor:cr,borderLeftColor:cr,filter:zb,WebkitFilter:zb},ik=e=>pY[e];function ok(e,t){let n=ik(e);return n!==zb&&(n=Qi),n.getAnimatableNone?n.getAnimatableNone(t):void 0}const JM=["AnimationStart","AnimationComplete","Update","BeforeLayoutMeasure","LayoutMeasure","LayoutAnimationStart","LayoutAnimationComplete"];class gY{scrapeMotionValuesFromProps(t,n,r){return{}}constructor({parent:t,props:n,presenceContext:r,reducedMotionConfig:s,blockInitialAnimation:o,visualState:c},u={}){this.current=null,this.children=new Set,this.isVariantNode=!1,this.isControllingVariants=!1,this.shouldReduceMotion=null,this.values=new Map,this.KeyframeResolver=Ox,this.features={},this.valueSubscriptions=new Map,this.prevMotionValues={},this.events={},this.propEventSubscriptions={},this.notifyUpdate=()=>this.notify("Update",this.latestValues),this.render=()=>{this.current&&(this.triggerBuild(),this.renderInstance(this.current,this.renderState,this.props.style,this.projection))},this.renderScheduledAt=0,this.scheduleRender=()=>{const b=Vr.now();this.renderScheduledAt<b&&(this.renderScheduledAt=b,dn.render(this.render,!1,!0))};const{latestValues:f,renderState:h}=c;this.latestValues=f,this.baseTarget={...f},this.initialValues=n.initial?{...f}:{},this.renderState=h,this.parent=t,this.props=n,this.presenceContext=r,this.depth=t?t.depth+1:0,this.reducedMotionConfig=s,this.options=u,this.blockInitialAnimation=!!o,this.isControllingVariants=up(n),this.isVariantNode=IN(n),this.isVariantNode&&(this.variantChildren=new Set),this.manuallyAnimateOnMount=!!(t&&t.current);const{willChange:m,...p}=this.scrapeMotionValuesFromProps(n,{},this);for(const b in p){const w=p[b];f[b]!==void 0&&fr(w)&&w.set(f[b],!1)}}mount(t){this.current=t,oY.set(t,this),this.projection&&!this.projection.instance&&this.projection.mount(t),this.parent&&this.isVariantNode&&!this.isControllingVariants&&(this.removeFromVariantTree=this.parent.addVariantChild(this)),this.values.forEach((n,r)=>this.bindToMotionValue(r,n)),tk.current||iY(),this.shouldReduceMotion=this.reducedMotionConfig==="never"?!1:this.reducedMotionConfig==="always"?!0:Vb.current,this.parent&&this.parent.children.add(this),this.update(this.props,this.presenceContext)}unmount(){this.projection&&this.projection.unmount(),Xi(this.notifyUpdate),Xi(this.render),this.valueSubscriptions.forEach(t=>t()),this.valueSubscriptions.clear(),this.removeFromVariantTree&&this.removeFromVariantTree(),this.parent&&this.parent.children.delete(this);for(const t in this.events)this.events[t].clear();for(const t in this.features){const n=this.features[t];n&&(n.unmount(),n.isMounted=!1)}this.current=null}bindToMotionValue(t,n){this.valueSubscriptions.has(t)&&this.valueSubscriptions.get(t)();const r=Uc.has(t);r&&this.onBindTransform&&this.onBindTransform();const s=n.on("change",u=>{this.latestValues[t]=u,this.props.onUpdate&&dn.preRender(this.notifyUpdate),r&&this.projection&&(this.projection.isTransformDirty=!0)}),o=n.on("renderRequest",this.scheduleRender);let c;window.MotionCheckAppearSync&&(c=window.MotionCheckAppearSync(this,t,n)),this.valueSubscriptions.set(t,()=>{s(),o(),c&&c(),n.owner&&n.stop()})}sortNodePosition(t){return!this.current||!this.sortInstanceNodePosition||this.type!==t.type?0:this.sortInstanceNodePosition(this.current,t.current)}updateFeatures(){let t="animation";for(t in bc){const n=bc[t];if(!n)continue;const{isEnabled:r,Feature:s}=n;if(!this.features[t]&&s&&r(this.props)&&(this.features[t]=new s(this)),this.features[t]){const o=this.features[t];o.isMounted?o.update():(o.mount(),o.isMounted=!0)}}}triggerBuild(){this.build(this.renderState,this.latestValues,this.props)}measureViewportBox(){return this.current?this.measureInstanceViewportBox(this.current,this.props):wn()}getStaticValue(t){return this.latestValues[t]}setStaticValue(t,n){this.latestValues[t]=n}update(t,n){(t.transformTemplate||this.props.transformTemplate)&&this.scheduleRender(),this.prevProps=this.props,this.props=t,this.prevPresenceContext=this.presenceContext,this.presenceContext=n;for(let r=0;r<JM.length;r++){const s=JM[r];this.propEventSubscriptions[s]&&(this.propEventSubscriptions[s](),delete this.propEventSubscriptions[s]);const o="on"+s,c=t[o];c&&(this.propEventSubscriptions[s]=this.on(s,c))}this.prevMotionValues=lY(this,this.scrapeMotionValuesFromProps(t,this.prevProps,this),this.prevMotionValues),this.handleChildMotionValue&&this.handleChildMotionValue()}getProps(){return this.props}getVariant(t){return this.props.variants?this.props.variants[t]:void 0}getDefaultTransition(){return this.props.transition}getTransformPagePoint(){return this.props.transformPagePoint}getClosestVariantNode(){return this.isVariantNode?this:this.parent?this.parent.getClosestVariantNode():void 0}addVariantChild(t){const n=this.getClosestVariantNode();if(n)return n.variantChildren&&n.variantChildren.add(t),()=>n.variantChildren.delete(t)}addValue(t,n){const r=this.values.get(t);n!==r&&(r&&this.removeValue(t),this.bindToMotionValue(t,n),this.values.set(t,n),this.latestValues[t]=n.get())}removeValue(t){this.values.delete(t);const n=this.valueSubscriptions.get(t);n&&(n(),this.valueSubscriptions.delete(t)),delete this.latestValues[t],this.removeValueFromRenderState(t,this.renderState)}hasValue(t){return this.values.has(t)}getValue(t,n){if(this.props.values&&this.props.values[t])return this.props.values[t];let r=this.values.get(t);return r===void 0&&n!==void 0&&(r=xc(n===null?void 0:n,{owner:this}),this.addValue(t,r)),r}readValue(t,n){let r=this.latestValues[t]!==void 0||!this.current?this.latestValues[t]:this.getBaseTargetFromProps(this.props,t)??this.readValueFromInstance(this.current,t,this.options);return r!=null&&(typeof r=="string"&&(nk(r)||rk(r))?r=parseFloat(r):!dY(r)&&Qi.test(n)&&(r=ok(t,n)),this.setBaseTarget(t,fr(r)?r.get():r)),fr(r)?r.get():r}setBaseTarget(t,n){this.baseTarget[t]=n}getBaseTarget(t){var o;const{initial:n}=this.props;let r;if(typeof n=="string"||typeof n=="object"){const c=yx(this.props,n,(o=this.presenceContext)==null?void 0:o.custom);c&&(r=c[t])}if(n&&r!==void 0)return r;const s=this.getBaseTargetFromProps(this.props,t);return s!==void 0&&!fr(s)?s:this.initialValues[t]!==void 0&&r===void 0?void 0:this.baseTarget[t]}on(t,n){return this.events[t]||(this.events[t]=new wx),this.events[t].add(n)}notify(t,...n){this.events[t]&&this.events[t].notify(...n)}}const yY=/^var\(--(?:([\w-]+)|([\w-]+), ?([a-zA-Z\d ()%#.,-]+))\)/u;function vY(e){const t=yY.exec(e);if(!t)return[,];const[,n,r,s]=t;return[`--${n??r}`,s]}function lk(e,t,n=1){const[r,s]=vY(e);if(!r)return;const o=window.getComputedStyle(t).getPropertyValue(r);if(o){const c=o.trim();return nk(c)?parseFloat(c):c}return fx(s)?lk(s,t,n+1):s}function bY(e){return typeof e=="number"?e===0:e!==null?e==="none"||e==="0"||rk(e):!0}const xY=new Set(["auto","none","0"]);function wY(e,t,n){let r=0,s;for(;r<e.length&&!s;){const o=e[r];typeof o=="string"&&!xY.has(o)&&jd(o).values.length&&(s=e[r]),r++}if(s&&n)for(const o of t)e[o]=ok(n,s)}class SY extends Ox{constructor(t,n,r,s,o){super(t,n,r,s,o,!0)}readKeyframes(){const{unresolvedKeyframes:t,element:n,name:r}=this;if(!n||!n.current)return;super.readKeyframes();for(let f=0;f<t.length;f++){let h=t[f];if(typeof h=="string"&&(h=h.trim(),fx(h))){const m=lk(h,n.current);m!==void 0&&(t[f]=m),f===t.length-1&&(this.finalKeyframe=h)}}if(this.resolveNoneKeyframes(),!RO.has(r)||t.length!==2)return;const[s,o]=t,c=QM(s),u=QM(o);if(c!==u)if(aM(c)&&aM(u))for(let f=0;f<t.length;f++){const h=t[f];typeof h=="string"&&(t[f]=parseFloat(h))}else Uo[r]&&(this.needsMeasurement=!0)}resolveNoneKeyframes(){const{unresolvedKeyframes:t,name:n}=this,r=[];for(let s=0;s<t.length;s++)(t[s]===null||bY(t[s]))&&r.push(s);r.length&&wY(t,r,n)}measureInitialState(){const{element:t,unresolvedKeyframes:n,name:r}=this;if(!t||!t.current)return;r==="height"&&(this.suspendedScrollY=window.pageYOffset),this.measuredOrigin=Uo[r](t.measureViewportBox(),window.getComputedStyle(t.current)),n[0]=this.measuredOrigin;const s=n[n.length-1];s!==void 0&&t.getValue(r,s).jump(s,!1)}measureEndState(){var u;const{element:t,name:n,unresolvedKeyframes:r}=this;if(!t||!t.current)return;const s=t.getValue(n);s&&s.jump(this.measuredOrigin,!1);const o=r.length-1,c=r[o];r[o]=Uo[n](t.measureViewportBox(),window.getComputedStyle(t.current)),c!==null&&this.finalKeyframe===void 0&&(this.finalKeyframe=c),(u=this.removedTransforms)!=null&&u.length&&this.removedTransforms.forEach(([f,h])=>{t.getValue(f).set(h)}),this.resolveNoneKeyframes()}}class ck extends gY{constructor(){super(...arguments),this.KeyframeResolver=SY}sortInstanceNodePosition(t,n){return t.compareDocumentPosition(n)&2?1:-1}getBaseTargetFromProps(t,n){return t.style?t.style[n]:void 0}removeValueFromRenderState(t,{vars:n,style:r}){delete n[t],delete r[t]}handleChildMotionValue(){this.childSubscription&&(this.childSubscription(),delete this.childSubscription);const{children:t}=this.props;fr(t)&&(this.childSubscription=t.on("change",n=>{this.current&&(this.current.textContent=`${n}`)}))}}function uk(e,{style:t,vars:n},r,s){Object.assign(e.style,t,s&&s.getProjectionStyles(r));for(const o in n)e.style.setProperty(o,n[o])}function EY(e){return window.getComputedStyle(e)}class CY extends ck{constructor(){super(...arguments),this.type="html",this.renderInstance=uk}readValueFromInstance(t,n){var r;if(Uc.has(n))return(r=this.projection)!=null&&r.isProjecting?_b(n):G7(t,n);{const s=EY(t),o=(dx(n)?s.getPropertyValue(n):s[n])||0;return typeof o=="string"?o.trim():o}}measureInstanceViewportBox(t,{transformPagePoint:n}){return zO(t,n)}build(t,n,r){mx(t,n,r.transformTemplate)}scrapeMotionValuesFromProps(t,n,r){return vx(t,n,r)}}const dk=new Set(["baseFrequency","diffuseConstant","kernelMatrix","kernelUnitLength","keySplines","keyTimes","limitingConeAngle","markerHeight","markerWidth","numOctaves","targetX","targetY","surfaceScale","specularConstant","specularExponent","stdDeviation","tableValues","viewBox","gradientTransform","pathLength","startOffset","textLength","lengthAdjust"]);function TY(e,t,n,r){uk(e,t,void 0,r);for(const s in t.attrs)e.setAttribute(dk.has(s)?s:lx(s),t.attrs[s])}class MY extends ck{constructor(){super(...arguments),this.type="svg",this.isSVGTag=!1,this.measureInstanceViewportBox=wn}getBaseTargetFromProps(t,n){return t[n]}readValueFromInstance(t,n){if(Uc.has(n)){const r=ik(n);return r&&r.default||0}return n=dk.has(n)?n:lx(n),t.getAttribute(n)}scrapeMotionValuesFromProps(t,n,r){return eO(t,n,r)}build(t,n,r){ZN(t,n,this.isSVGTag,r.transformTemplate,r.style)}renderInstance(t,n,r,s){TY(t,n,r,s)}mount(t){this.isSVGTag=QN(t.tagName),super.mount(t)}}const _Y=(e,t)=>gx(e)?new MY(t):new CY(t,{allowProjection:e!==x.Fragment}),AY=LH({...D$,...aY,...Fq,...sY},_Y),RY=nH(AY),DY=({className:e,size:t=50,delay:n=0,duration:r=6,colorFrom:s="#ffaa40",colorTo:o="#9c40ff",transition:c,style:u,reverse:f=!1,initialOffset:h=0})=>g.jsx("div",{className:"pointer-events-none absolute inset-0 rounded-[inherit] border border-transparent [mask-clip:padding-box,border-box] [mask-composite:intersect] [mask-image:linear-gradient(transparent,transparent),linear-gradient(#000,#000)]",children:g.jsx(RY.div,{className:be("absolute aspect-square","bg-gradient-to-l from-[var(--color-from)] via-[var(--color-to)] to-transparent",e),style:{width:t,offsetPath:`rect(0 auto auto 0 round ${t}px)`,"--color-from":s,"--color-to":o,...u},initial:{offsetDistance:`${h}%`},animate:{offsetDistance:f?[`${100-h}%`,`${-h}%`]:[`${h}%`,`${100+h}%`]},transition:{repeat:1/0,ease:"linear",duration:r,delay:-n,...c}})});function NY(){const e=Gs(),t=jc({resolver:Lc(uI)}),n=Hs({mutationFn:async s=>{await Tn.post("/auth/register",{email:s.email,password:s.password,name:s.name})},onSuccess:async(s,o)=>{await Tn.post("/auth/login",{email:o.email,password:o.password}),e("/dashboard"),En.success("Registration successful! You are now logged in.")}});function r(s){n.mutate(s)}return g.jsx(Pc,{...t,children:g.jsxs("form",{className:"space-y-4",onSubmit:t.handleSubmit(r),children:[g.jsx(On,{control:t.control,name:"name",render:({field:s})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Name"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter your name",...s})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:t.control,name:"email",render:({field:s})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Email"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter your email",...s})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:t.control,name:"password",render:({field:s})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Password"}),g.jsx(Pn,{children:g.jsx(Cn,{type:"password",placeholder:"Enter your password",...s})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:t.control,name:"confirmPassword",render:({field:s})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Confirm Password"}),g.jsx(Pn,{children:g.jsx(Cn,{type:"password",placeholder:"Confirm your password",...s})}),g.jsx(Ln,{})]})}),g.jsx("div",{className:"flex justify-end",children:g.jsx(Ut,{type:"submit",children:"Register"})})]})})}function Pr({className:e,...t}){return g.jsx("div",{"data-slot":"card",className:be("bg-card text-card-foreground flex flex-col gap-6 rounded-xl border py-6 shadow-sm",e),...t})}function Lx({className:e,...t}){return g.jsx("div",{"data-slot":"card-header",className:be("@container/card-header grid auto-rows-min grid-rows-[auto_auto] items-start gap-1.5 px-6 has-data-[slot=card-action]:grid-cols-[1fr_auto] [.border-b]:pb-6",e),...t})}function Vx({className:e,...t}){return g.jsx("div",{"data-slot":"card-title",className:be("leading-none font-semibold",e),...t})}function Lr({className:e,...t}){return g.jsx("div",{"data-slot":"card-content",className:be("px-6",e),...t})}var dp="Tabs",[OY,LQ]=cs(dp,[Im]),fk=Im(),[kY,zx]=OY(dp),hk=x.forwardRef((e,t)=>{const{__scopeTabs:n,value:r,onValueChange:s,defaultValue:o,orientation:c="horizontal",dir:u,activationMode:f="automatic",...h}=e,m=l0(u),[p,b]=Ac({prop:r,onChange:s,defaultProp:o??"",caller:dp});return g.jsx(kY,{scope:n,baseId:wr(),value:p,onValueChange:b,orientation:c,dir:m,activationMode:f,children:g.jsx(Mt.div,{dir:m,"data-orientation":c,...h,ref:t})})});hk.displayName=dp;var mk="TabsList",pk=x.forwardRef((e,t)=>{const{__scopeTabs:n,loop:r=!0,...s}=e,o=zx(mk,n),c=fk(n);return g.jsx(cR,{asChild:!0,...c,orientation:o.orientation,dir:o.dir,loop:r,children:g.jsx(Mt.div,{role:"tablist","aria-orientation":o.orientation,...s,ref:t})})});pk.displayName=mk;var gk="TabsTrigger",yk=x.forwardRef((e,t)=>{const{__scopeTabs:n,value:r,disabled:s=!1,...o}=e,c=zx(gk,n),u=fk(n),f=xk(c.baseId,r),h=wk(c.baseId,r),m=r===c.value;return g.jsx(uR,{asChild:!0,...u,focusable:!s,active:m,children:g.jsx(Mt.button,{type:"button",role:"tab","aria-selected":m,"aria-controls":h,"data-state":m?"active":"inactive","data-disabled":s?"":void 0,disabled:s,id:f,...o,ref:t,onMouseDown:Ze(e.onMouseDown,p=>{!s&&p.button===0&&p.ctrlKey===!1?c.onValueChange(r):p.preventDefault()}),onKeyDown:Ze(e.onKeyDown,p=>{[" ","Enter"].includes(p.key)&&c.onValueChange(r)}),onFocus:Ze(e.onFocus,()=>{const p=c.activationMode!=="manual";!m&&!s&&p&&c.onValueChange(r)})})})});yk.displayName=gk;var vk="TabsContent",bk=x.forwardRef((e,t)=>{const{__scopeTabs:n,value:r,forceMount:s,children:o,...c}=e,u=zx(vk,n),f=xk(u.baseId,r),h=wk(u.baseId,r),m=r===u.value,p=x.useRef(m);return x.useEffect(()=>{const b=requestAnimationFrame(()=>p.current=!1);return()=>cancelAnimationFrame(b)},[]),g.jsx(ra,{present:s||m,children:({present:b})=>g.jsx(Mt.div,{"data-state":m?"active":"inactive","data-orientation":u.orientation,role:"tabpanel","aria-labelledby":f,hidden:!b,id:h,tabIndex:0,...c,ref:t,style:{...e.style,animationDuration:p.current?"0s":void 0},children:b&&o})})});bk.displayName=vk;function xk(e,t){return`${e}-trigger-${t}`}function wk(e,t){return`${e}-content-${t}`}var jY=hk,PY=pk,LY=yk,VY=bk;function zY({className:e,...t}){return g.jsx(jY,{"data-slot":"tabs",className:be("flex flex-col gap-2",e),...t})}function BY({className:e,...t}){return g.jsx(PY,{"data-slot":"tabs-list",className:be("bg-muted text-muted-foreground inline-flex h-9 w-fit items-center justify-center rounded-lg p-[3px]",e),...t})}function e_({className:e,...t}){return g.jsx(LY,{"data-slot":"tabs-trigger",className:be("data-[state=active]:bg-background dark:data-[state=active]:text-foreground focus-visible:border-ring focus-visible:ring-ring/50 focus-visible:outline-ring dark:data-[state=active]:border-input dark:data-[state=active]:bg-input/30 text-foreground dark:text-muted-foreground inline-flex h-[calc(100%-1px)] flex-1 items-center justify-center gap-1.5 rounded-md border border-transparent px-2 py-1 text-sm font-medium whitespace-nowrap transition-[color,box-shadow] focus-visible:ring-[3px] focus-visible:outline-1 disabled:pointer-events-none disabled:opacity-50 data-[state=active]:shadow-sm [&_svg]:pointer-events-none [&_svg]:shrink-0 [&_svg:not([class*='size-'])]:size-4",e),...t})}function t_({className:e,...t}){return g.jsx(VY,{"data-slot":"tabs-content",className:be("flex-1 outline-none",e),...t})}function UY(){return g.jsxs(Pr,{className:"relative min-w-md overflow-hidden",children:[g.jsx(Lx,{children:g.jsx(Vx,{children:g.jsxs(Zr,{className:"flex items-center gap-2",to:"/",children:[g.jsx(Ps,{}),g.jsx("span",{children:"EV Charging Reservation System"})]})})}),g.jsx(Lr,{children:g.jsxs(zY,{defaultValue:"login",className:"w-full",children:[g.jsxs(BY,{className:"w-full",children:[g.jsx(e_,{value:"login",children:"Login"}),g.jsx(e_,{value:"register",children:"Register"})]}),g.jsx(t_,{value:"login",children:g.jsx(YI,{})}),g.jsx(t_,{value:"register",children:g.jsx(NY,{})})]})}),g.jsx(DY,{duration:8,size:100})]})}var fp="Popover",[Sk,VQ]=cs(fp,[Nc]),uf=Nc(),[FY,no]=Sk(fp),Ek=e=>{const{__scopePopover:t,children:n,open:r,defaultOpen:s,onOpenChange:o,modal:c=!1}=e,u=uf(t),f=x.useRef(null),[h,m]=x.useState(!1),[p,b]=Ac({prop:r,defaultProp:s??!1,onChange:o,caller:fp});return g.jsx(b0,{...u,children:g.jsx(FY,{scope:t,contentId:wr(),triggerRef:f,open:p,onOpenChange:b,onOpenToggle:x.useCallback(()=>b(w=>!w),[b]),hasCustomAnchor:h,onCustomAnchorAdd:x.useCallback(()=>m(!0),[]),onCustomAnchorRemove:x.useCallback(()=>m(!1),[]),modal:c,children:n})})};Ek.displayName=fp;var Ck="PopoverAnchor",IY=x.forwardRef((e,t)=>{const{__scopePopover:n,...r}=e,s=no(Ck,n),o=uf(n),{onCustomAnchorAdd:c,onCustomAnchorRemove:u}=s;return x.useEffect(()=>(c(),()=>u()),[c,u]),g.jsx(Fm,{...o,...r,ref:t})});IY.displayName=Ck;var Tk="PopoverTrigger",Mk=x.forwardRef((e,t)=>{const{__scopePopover:n,...r}=e,s=no(Tk,n),o=uf(n),c=fn(t,s.triggerRef),u=g.jsx(Mt.button,{type:"button","aria-haspopup":"dialog","aria-expanded":s.open,"aria-controls":s.contentId,"data-state":Nk(s.open),...r,ref:c,onClick:Ze(e.onClick,s.onOpenToggle)});return s.hasCustomAnchor?u:g.jsx(Fm,{asChild:!0,...o,children:u})});Mk.displayName=Tk;var Bx="PopoverPortal",[HY,$Y]=Sk(Bx,{forceMount:void 0}),_k=e=>{const{__scopePopover:t,forceMount:n,children:r,container:s}=e,o=no(Bx,t);return g.jsx(HY,{scope:t,forceMount:n,children:g.jsx(ra,{present:n||o.open,children:g.jsx(Xd,{asChild:!0,container:s,children:r})})})};_k.displayName=Bx;var wc="PopoverContent",Ak=x.forwardRef((e,t)=>{const n=$Y(wc,e.__scopePopover),{forceMount:r=n.forceMount,...s}=e,o=no(wc,e.__scopePopover);return g.jsx(ra,{present:r||o.open,children:o.modal?g.jsx(YY,{...s,ref:t}):g.jsx(GY,{...s,ref:t})})});Ak.displayName=wc;var qY=Io("PopoverContent.RemoveScroll"),YY=x.forwardRef((e,t)=>{const n=no(wc,e.__scopePopover),r=x.useRef(null),s=fn(t,r),o=x.useRef(!1);return x.useEffect(()=>{const c=r.current;if(c)return S0(c)},[]),g.jsx($m,{as:qY,allowPinchZoom:!0,children:g.jsx(Rk,{...e,ref:s,trapFocus:n.open,disableOutsidePointerEvents:!0,onCloseAutoFocus:Ze(e.onCloseAutoFocus,c=>{var u;c.preventDefault(),o.current||(u=n.triggerRef.current)==null||u.focus()}),onPointerDownOutside:Ze(e.onPointerDownOutside,c=>{const u=c.detail.originalEvent,f=u.button===0&&u.ctrlKey===!0,h=u.button===2||f;o.current=h},{checkForDefaultPrevented:!1}),onFocusOutside:Ze(e.onFocusOutside,c=>c.preventDefault(),{checkForDefaultPrevented:!1})})})}),GY=x.forwardRef((e,t)=>{const n=no(wc,e.__scopePopover),r=x.useRef(!1),s=x.useRef(!1);return g.jsx(Rk,{...e,ref:t,trapFocus:!1,disableOutsidePointerEvents:!1,onCloseAutoFocus:o=>{var c,u;(c=e.onCloseAutoFocus)==null||c.call(e,o),o.defaultPrevented||(r.current||(u=n.triggerRef.current)==null||u.focus(),o.preventDefault()),r.current=!1,s.current=!1},onInteractOutside:o=>{var f,h;(f=e.onInteractOutside)==null||f.call(e,o),o.defaultPrevented||(r.current=!0,o.detail.originalEvent.type==="pointerdown"&&(s.current=!0));const c=o.target;((h=n.triggerRef.current)==null?void 0:h.contains(c))&&o.preventDefault(),o.detail.originalEvent.type==="focusin"&&s.current&&o.preventDefault()}})}),Rk=x.forwardRef((e,t)=>{const{__scopePopover:n,trapFocus:r,onOpenAutoFocus:s,onCloseAutoFocus:o,disableOutsidePointerEvents:c,onEscapeKeyDown:u,onPointerDownOutside:f,onFocusOutside:h,onInteractOutside:m,...p}=e,b=no(wc,n),w=uf(n);return c0(),g.jsx(Vm,{asChild:!0,loop:!0,trapped:r,onMountAutoFocus:s,onUnmountAutoFocus:o,children:g.jsx(Kd,{asChild:!0,disableOutsidePointerEvents:c,onInteractOutside:m,onEscapeKeyDown:u,onPointerDownOutside:f,onFocusOutside:h,onDismiss:()=>b.onOpenChange(!1),children:g.jsx(x0,{"data-state":Nk(b.open),role:"dialog",id:b.contentId,...w,...p,ref:t,style:{...p.style,"--radix-popover-content-transform-origin":"var(--radix-popper-transform-origin)","--radix-popover-content-available-width":"var(--radix-popper-available-width)","--radix-popover-content-available-height":"var(--radix-popper-available-height)","--radix-popover-trigger-width":"var(--radix-popper-anchor-width)","--radix-popover-trigger-height":"var(--radix-popper-anchor-height)"}})})})}),Dk="PopoverClose",WY=x.forwardRef((e,t)=>{const{__scopePopover:n,...r}=e,s=no(Dk,n);return g.jsx(Mt.button,{type:"button",...r,ref:t,onClick:Ze(e.onClick,()=>s.onOpenChange(!1))})});WY.displayName=Dk;var KY="PopoverArrow",ZY=x.forwardRef((e,t)=>{const{__scopePopover:n,...r}=e,s=uf(n);return g.jsx(w0,{...s,...r,ref:t})});ZY.displayName=KY;function Nk(e){return e?"open":"closed"}var XY=Ek,QY=Mk,JY=_k,eG=Ak;function Bb({...e}){return g.jsx(XY,{"data-slot":"popover",...e})}function Ub({...e}){return g.jsx(QY,{"data-slot":"popover-trigger",...e})}function Fb({className:e,align:t="center",sideOffset:n=4,...r}){return g.jsx(JY,{children:g.jsx(eG,{"data-slot":"popover-content",align:t,sideOffset:n,className:be("bg-popover text-popover-foreground data-[state=open]:animate-in data-[state=closed]:animate-out data-[state=closed]:fade-out-0 data-[state=open]:fade-in-0 data-[state=closed]:zoom-out-95 data-[state=open]:zoom-in-95 data-[side=bottom]:slide-in-from-top-2 data-[side=left]:slide-in-from-right-2 data-[side=right]:slide-in-from-left-2 data-[side=top]:slide-in-from-bottom-2 z-50 w-72 origin-(--radix-popover-content-transform-origin) rounded-md border p-4 shadow-md outline-hidden",e),...r})})}var n_=1,tG=.9,nG=.8,rG=.17,uv=.1,dv=.999,aG=.9999,sG=.99,iG=/[\\\/_+.#"@\[\(\{&]/,oG=/[\\\/_+.#"@\[\(\{&]/g,lG=/[\s-]/,Ok=/[\s-]/g;function Ib(e,t,n,r,s,o,c){if(o===t.length)return s===e.length?n_:sG;var u=`${s},${o}`;if(c[u]!==void 0)return c[u];for(var f=r.charAt(o),h=n.indexOf(f,s),m=0,p,b,w,S;h>=0;)p=Ib(e,t,n,r,h+1,o+1,c),p>m&&(h===s?p*=n_:iG.test(e.charAt(h-1))?(p*=nG,w=e.slice(s,h-1).match(oG),w&&s>0&&(p*=Math.pow(dv,w.length))):lG.test(e.charAt(h-1))?(p*=tG,S=e.slice(s,h-1).match(Ok),S&&s>0&&(p*=Math.pow(dv,S.length))):(p*=rG,s>0&&(p*=Math.pow(dv,h-s))),e.charAt(h)!==t.charAt(o)&&(p*=aG)),(p<uv&&n.charAt(h-1)===r.charAt(o+1)||r.charAt(o+1)===r.charAt(o)&&n.charAt(h-1)!==r.charAt(o))&&(b=Ib(e,t,n,r,h+1,o+2,c),b*uv>p&&(p=b*uv)),p>m&&(m=p),h=n.indexOf(f,h+1);return c[u]=m,m}function r_(e){return e.toLowerCase().replace(Ok," ")}function cG(e,t,n){return e=n&&n.length>0?`${e+" "+n.join(" ")}`:e,Ib(e,t,r_(e),r_(t),0,0,{})}var Ku='[cmdk-group=""]',fv='[cmdk-group-items=""]',uG='[cmdk-group-heading=""]',kk='[cmdk-item=""]',a_=`${kk}:not([aria-disabled="true"])`,Hb="cmdk-item-select",Fl="data-value",dG=(e,t,n)=>cG(e,t,n),jk=x.createContext(void 0),df=()=>x.useContext(jk),Pk=x.createContext(void 0),Ux=()=>x.useContext(Pk),Lk=x.createContext(void 0),Vk=x.forwardRef((e,t)=>{let n=Il(()=>{var B,q;return{search:"",value:(q=(B=e.value)!=null?B:e.defaultValue)!=null?q:"",selectedItemId:void 0,filtered:{count:0,items:new Map,groups:new Set}}}),r=Il(()=>new Set),s=Il(()=>new Map),o=Il(()=>new Map),c=Il(()=>new Set),u=zk(e),{label:f,children:h,value:m,onValueChange:p,filter:b,shouldFilter:w,loop:S,disablePointerSelection:E=!1,vimBindings:C=!0,...T}=e,_=wr(),A=wr(),O=wr(),R=x.useRef(null),D=SG();Ko(()=>{if(m!==void 0){let B=m.trim();n.current.value=B,L.emit()}},[m]),Ko(()=>{D(6,de)},[]);let L=x.useMemo(()=>({subscribe:B=>(c.current.add(B),()=>c.current.delete(B)),snapshot:()=>n.current,setState:(B,q,le)=>{var ge,he,Se,_e;if(!Object.is(n.current[B],q)){if(n.current[B]=q,B==="search")ce(),X(),D(1,oe);else if(B==="value"){if(document.activeElement.hasAttribute("cmdk-input")||document.activeElement.hasAttribute("cmdk-root")){let ke=document.getElementById(O);ke?ke.focus():(ge=document.getElementById(_))==null||ge.focus()}if(D(7,()=>{var ke;n.current.selectedItemId=(ke=Q())==null?void 0:ke.id,L.emit()}),le||D(5,de),((he=u.current)==null?void 0:he.value)!==void 0){let ke=q??"";(_e=(Se=u.current).onValueChange)==null||_e.call(Se,ke);return}}L.emit()}},emit:()=>{c.current.forEach(B=>B())}}),[]),k=x.useMemo(()=>({value:(B,q,le)=>{var ge;q!==((ge=o.current.get(B))==null?void 0:ge.value)&&(o.current.set(B,{value:q,keywords:le}),n.current.filtered.items.set(B,H(q,le)),D(2,()=>{X(),L.emit()}))},item:(B,q)=>(r.current.add(B),q&&(s.current.has(q)?s.current.get(q).add(B):s.current.set(q,new Set([B]))),D(3,()=>{ce(),X(),n.current.value||oe(),L.emit()}),()=>{o.current.delete(B),r.current.delete(B),n.current.filtered.items.delete(B);let le=Q();D(4,()=>{ce(),(le==null?void 0:le.getAttribute("id"))===B&&oe(),L.emit()})}),group:B=>(s.current.has(B)||s.current.set(B,new Set),()=>{o.current.delete(B),s.current.delete(B)}),filter:()=>u.current.shouldFilter,label:f||e["aria-label"],getDisablePointerSelection:()=>u.current.disablePointerSelection,listId:_,inputId:O,labelId:A,listInnerRef:R}),[]);function H(B,q){var le,ge;let he=(ge=(le=u.current)==null?void 0:le.filter)!=null?ge:dG;return B?he(B,n.current.search,q):0}function X(){if(!n.current.search||u.current.shouldFilter===!1)return;let B=n.current.filtered.items,q=[];n.current.filtered.groups.forEach(ge=>{let he=s.current.get(ge),Se=0;he.forEach(_e=>{let ke=B.get(_e);Se=Math.max(ke,Se)}),q.push([ge,Se])});let le=R.current;fe().sort((ge,he)=>{var Se,_e;let ke=ge.getAttribute("id"),Fe=he.getAttribute("id");return((Se=B.get(Fe))!=null?Se:0)-((_e=B.get(ke))!=null?_e:0)}).forEach(ge=>{let he=ge.closest(fv);he?he.appendChild(ge.parentElement===he?ge:ge.closest(`${fv} > *`)):le.appendChild(ge.parentElement===le?ge:ge.closest(`${fv} > *`))}),q.sort((ge,he)=>he[1]-ge[1]).forEach(ge=>{var he;let Se=(he=R.current)==null?void 0:he.querySelector(`${Ku}[${Fl}="${encodeURIComponent(ge[0])}"]`);Se==null||Se.parentElement.appendChild(Se)})}function oe(){let B=fe().find(le=>le.getAttribute("aria-disabled")!=="true"),q=B==null?void 0:B.getAttribute(Fl);L.setState("value",q||void 0)}function ce(){var B,q,le,ge;if(!n.current.search||u.current.shouldFilter===!1){n.current.filtered.count=r.current.size;return}n.current.filtered.groups=new Set;let he=0;for(let Se of r.current){let _e=(q=(B=o.current.get(Se))==null?void 0:B.value)!=null?q:"",ke=(ge=(le=o.current.get(Se))==null?void 0:le.keywords)!=null?ge:[],Fe=H(_e,ke);n.current.filtered.items.set(Se,Fe),Fe>0&&he++}for(let[Se,_e]of s.current)for(let ke of _e)if(n.current.filtered.items.get(ke)>0){n.current.filtered.groups.add(Se);break}n.current.filtered.count=he}function de(){var B,q,le;let ge=Q();ge&&(((B=ge.parentElement)==null?void 0:B.firstChild)===ge&&((le=(q=ge.closest(Ku))==null?void 0:q.querySelector(uG))==null||le.scrollIntoView({block:"nearest"})),ge.scrollIntoView({block:"nearest"}))}function Q(){var B;return(B=R.current)==null?void 0:B.querySelector(`${kk}[aria-selected="true"]`)}function fe(){var B;return Array.from(((B=R.current)==null?void 0:B.querySelectorAll(a_))||[])}function P(B){let q=fe()[B];q&&L.setState("value",q.getAttribute(Fl))}function K(B){var q;let le=Q(),ge=fe(),he=ge.findIndex(_e=>_e===le),Se=ge[he+B];(q=u.current)!=null&&q.loop&&(Se=he+B<0?ge[ge.length-1]:he+B===ge.length?ge[0]:ge[he+B]),Se&&L.setState("value",Se.getAttribute(Fl))}function I(B){let q=Q(),le=q==null?void 0:q.closest(Ku),ge;for(;le&&!ge;)le=B>0?xG(le,Ku):wG(le,Ku),ge=le==null?void 0:le.querySelector(a_);ge?L.setState("value",ge.getAttribute(Fl)):K(B)}let J=()=>P(fe().length-1),j=B=>{B.preventDefault(),B.metaKey?J():B.altKey?I(1):K(1)},W=B=>{B.preventDefault(),B.metaKey?P(0):B.altKey?I(-1):K(-1)};return x.createElement(Mt.div,{ref:t,tabIndex:-1,...T,"cmdk-root":"",onKeyDown:B=>{var q;(q=T.onKeyDown)==null||q.call(T,B);let le=B.nativeEvent.isComposing||B.keyCode===229;if(!(B.defaultPrevented||le))switch(B.key){case"n":case"j":{C&&B.ctrlKey&&j(B);break}case"ArrowDown":{j(B);break}case"p":case"k":{C&&B.ctrlKey&&W(B);break}case"ArrowUp":{W(B);break}case"Home":{B.preventDefault(),P(0);break}case"End":{B.preventDefault(),J();break}case"Enter":{B.preventDefault();let ge=Q();if(ge){let he=new Event(Hb);ge.dispatchEvent(he)}}}}},x.createElement("label",{"cmdk-label":"",htmlFor:k.inputId,id:k.labelId,style:CG},f),hp(e,B=>x.createElement(Pk.Provider,{value:L},x.createElement(jk.Provider,{value:k},B))))}),fG=x.forwardRef((e,t)=>{var n,r;let s=wr(),o=x.useRef(null),c=x.useContext(Lk),u=df(),f=zk(e),h=(r=(n=f.current)==null?void 0:n.forceMount)!=null?r:c==null?void 0:c.forceMount;Ko(()=>{if(!h)return u.item(s,c==null?void 0:c.id)},[h]);let m=Bk(s,o,[e.value,e.children,o],e.keywords),p=Ux(),b=Ji(D=>D.value&&D.value===m.current),w=Ji(D=>h||u.filter()===!1?!0:D.search?D.filtered.items.get(s)>0:!0);x.useEffect(()=>{let D=o.current;if(!(!D||e.disabled))return D.addEventListener(Hb,S),()=>D.removeEventListener(Hb,S)},[w,e.onSelect,e.disabled]);function S(){var D,L;E(),(L=(D=f.current).onSelect)==null||L.call(D,m.current)}function E(){p.setState("value",m.current,!0)}if(!w)return null;let{disabled:C,value:T,onSelect:_,forceMount:A,keywords:O,...R}=e;return x.createElement(Mt.div,{ref:zs(o,t),...R,id:s,"cmdk-item":"",role:"option","aria-disabled":!!C,"aria-selected":!!b,"data-disabled":!!C,"data-selected":!!b,onPointerMove:C||u.getDisablePointerSelection()?void 0:E,onClick:C?void 0:S},e.children)}),hG=x.forwardRef((e,t)=>{let{heading:n,children:r,forceMount:s,...o}=e,c=wr(),u=x.useRef(null),f=x.useRef(null),h=wr(),m=df(),p=Ji(w=>s||m.filter()===!1?!0:w.search?w.filtered.groups.has(c):!0);Ko(()=>m.group(c),[]),Bk(c,u,[e.value,e.heading,f]);let b=x.useMemo(()=>({id:c,forceMount:s}),[s]);return x.createElement(Mt.div,{ref:zs(u,t),...o,"cmdk-group":"",role:"presentation",hidden:p?void 0:!0},n&&x.createElement("div",{ref:f,"cmdk-group-heading":"","aria-hidden":!0,id:h},n),hp(e,w=>x.createElement("div",{"cmdk-group-items":"",role:"group","aria-labelledby":n?h:void 0},x.createElement(Lk.Provider,{value:b},w))))}),mG=x.forwardRef((e,t)=>{let{alwaysRender:n,...r}=e,s=x.useRef(null),o=Ji(c=>!c.search);return!n&&!o?null:x.createElement(Mt.div,{ref:zs(s,t),...r,"cmdk-separator":"",role:"separator"})}),pG=x.forwardRef((e,t)=>{let{onValueChange:n,...r}=e,s=e.value!=null,o=Ux(),c=Ji(h=>h.search),u=Ji(h=>h.selectedItemId),f=df();return x.useEffect(()=>{e.value!=null&&o.setState("search",e.value)},[e.value]),x.createElement(Mt.input,{ref:t,...r,"cmdk-input":"",autoComplete:"off",autoCorrect:"off",spellCheck:!1,"aria-autocomplete":"list",role:"combobox","aria-expanded":!0,"aria-controls":f.listId,"aria-labelledby":f.labelId,"aria-activedescendant":u,id:f.inputId,type:"text",value:s?e.value:c,onChange:h=>{s||o.setState("search",h.target.value),n==null||n(h.target.value)}})}),gG=x.forwardRef((e,t)=>{let{children:n,label:r="Suggestions",...s}=e,o=x.useRef(null),c=x.useRef(null),u=Ji(h=>h.selectedItemId),f=df();return x.useEffect(()=>{if(c.current&&o.current){let h=c.current,m=o.current,p,b=new ResizeObserver(()=>{p=requestAnimationFrame(()=>{let w=h.offsetHeight;m.style.setProperty("--cmdk-list-height",w.toFixed(1)+"px")})});return b.observe(h),()=>{cancelAnimationFrame(p),b.unobserve(h)}}},[]),x.createElement(Mt.div,{ref:zs(o,t),...s,"cmdk-list":"",role:"listbox",tabIndex:-1,"aria-activedescendant":u,"aria-label":r,id:f.listId},hp(e,h=>x.createElement("div",{ref:zs(c,f.listInnerRef),"cmdk-list-sizer":""},h)))}),yG=x.forwardRef((e,t)=>{let{open:n,onOpenChange:r,overlayClassName:s,contentClassName:o,container:c,...u}=e;return x.createElement(L0,{open:n,onOpenChange:r},x.createElement(V0,{container:c},x.createElement(z0,{"cmdk-overlay":"",className:s}),x.createElement(B0,{"aria-label":e.label,"cmdk-dialog":"",className:o},x.createElement(Vk,{ref:t,...u}))))}),vG=x.forwardRef((e,t)=>Ji(n=>n.filtered.count===0)?x.createElement(Mt.div,{ref:t,...e,"cmdk-empty":"",role:"presentation"}):null),bG=x.forwardRef((e,t)=>{let{progress:n,children:r,label:s="Loading...",...o}=e;return x.createElement(Mt.div,{ref:t,...o,"cmdk-loading":"",role:"progressbar","aria-valuenow":n,"aria-valuemin":0,"aria-valuemax":100,"aria-label":s},hp(e,c=>x.createElement("div",{"aria-hidden":!0},c)))}),Ic=Object.assign(Vk,{List:gG,Item:fG,Input:pG,Group:hG,Separator:mG,Dialog:yG,Empty:vG,Loading:bG});function xG(e,t){let n=e.nextElementSibling;for(;n;){if(n.matches(t))return n;n=n.nextElementSibling}}function wG(e,t){let n=e.previousElementSibling;for(;n;){if(n.matches(t))return n;n=n.previousElementSibling}}function zk(e){let t=x.useRef(e);return Ko(()=>{t.current=e}),t}var Ko=typeof window>"u"?x.useEffect:x.useLayoutEffect;function Il(e){let t=x.useRef();return t.current===void 0&&(t.current=e()),t}function Ji(e){let t=Ux(),n=()=>e(t.snapshot());return x.useSyncExternalStore(t.subscribe,n,n)}function Bk(e,t,n,r=[]){let s=x.useRef(),o=df();return Ko(()=>{var c;let u=(()=>{var h;for(let m of n){if(typeof m=="string")return m.trim();if(typeof m=="object"&&"current"in m)return m.current?(h=m.current.textContent)==null?void 0:h.trim():s.current}})(),f=r.map(h=>h.trim());o.value(e,u,f),(c=t.current)==null||c.setAttribute(Fl,u),s.current=u}),s}var SG=()=>{let[e,t]=x.useState(),n=Il(()=>new Map);return Ko(()=>{n.current.forEach(r=>r()),n.current=new Map},[e]),(r,s)=>{n.current.set(r,s),t({})}};function EG(e){let t=e.type;return typeof t=="function"?t(e.props):"render"in t?t.render(e.props):e}function hp({asChild:e,children:t},n){return e&&x.isValidElement(t)?x.cloneElement(EG(t),{ref:t.ref},n(t.props.children)):n(t)}var CG={position:"absolute",width:"1px",height:"1px",padding:"0",margin:"-1px",overflow:"hidden",clip:"rect(0, 0, 0, 0)",whiteSpace:"nowrap",borderWidth:"0"};function TG({className:e,...t}){return g.jsx(Ic,{"data-slot":"command",className:be("bg-popover text-popover-foreground flex h-full w-full flex-col overflow-hidden rounded-md",e),...t})}function MG({className:e,...t}){return g.jsxs("div",{"data-slot":"command-input-wrapper",className:"flex h-9 items-center gap-2 border-b px-3",children:[g.jsx(L5,{className:"size-4 shrink-0 opacity-50"}),g.jsx(Ic.Input,{"data-slot":"command-input",className:be("placeholder:text-muted-foreground flex h-10 w-full rounded-md bg-transparent py-3 text-sm outline-hidden disabled:cursor-not-allowed disabled:opacity-50",e),...t})]})}function _G({className:e,...t}){return g.jsx(Ic.List,{"data-slot":"command-list",className:be("max-h-[300px] scroll-py-1 overflow-x-hidden overflow-y-auto",e),...t})}function AG({...e}){return g.jsx(Ic.Empty,{"data-slot":"command-empty",className:"py-6 text-center text-sm",...e})}function RG({className:e,...t}){return g.jsx(Ic.Group,{"data-slot":"command-group",className:be("text-foreground [&_[cmdk-group-heading]]:text-muted-foreground overflow-hidden p-1 [&_[cmdk-group-heading]]:px-2 [&_[cmdk-group-heading]]:py-1.5 [&_[cmdk-group-heading]]:text-xs [&_[cmdk-group-heading]]:font-medium",e),...t})}function DG({className:e,...t}){return g.jsx(Ic.Item,{"data-slot":"command-item",className:be("data-[selected=true]:bg-accent data-[selected=true]:text-accent-foreground [&_svg:not([class*='text-'])]:text-muted-foreground relative flex cursor-default items-center gap-2 rounded-sm px-2 py-1.5 text-sm outline-hidden select-none data-[disabled=true]:pointer-events-none data-[disabled=true]:opacity-50 [&_svg]:pointer-events-none [&_svg]:shrink-0 [&_svg:not([class*='size-'])]:size-4",e),...t})}const s_=e=>{let t;const n=new Set,r=(h,m)=>{const p=typeof h=="function"?h(t):h;if(!Object.is(p,t)){const b=t;t=m??(typeof p!="object"||p===null)?p:Object.assign({},t,p),n.forEach(w=>w(t,b))}},s=()=>t,u={setState:r,getState:s,getInitialState:()=>f,subscribe:h=>(n.add(h),()=>n.delete(h))},f=t=e(r,s,u);return u},NG=e=>e?s_(e):s_,OG=e=>e;function kG(e,t=OG){const n=G.useSyncExternalStore(e.subscribe,()=>t(e.getState()),()=>t(e.getInitialState()));return G.useDebugValue(n),n}const i_=e=>{const t=NG(e),n=r=>kG(t,r);return Object.assign(n,t),n},jG=e=>e?i_(e):i_,Jr=jG(e=>({stationId:null,setStationId:t=>e({stationId:t,pumpNumber:null,vehicleId:null}),pumpNumber:null,setPumpNumber:t=>e({pumpNumber:t,vehicleId:null}),vehicleId:null,setVehicleId:t=>e({vehicleId:t}),isReserving:!1,setIsReserving:t=>e({isReserving:t}),resetValues:()=>e({stationId:null,pumpNumber:null,vehicleId:null})}));function PG(){var h;const[e,t]=x.useState(!1),[n,r]=x.useState(""),[s,o]=x.useState([]),c=Jr(m=>m.stationId),u=Jr(m=>m.setStationId),{data:f}=Ks({queryKey:["ev-stations"],queryFn:async()=>(await Tn.get("/stations")).data});return x.useEffect(()=>{if(f){const m=f.map(p=>({id:p.id.toString(),name:p.name,location:p.location,label:g.jsxs("div",{className:"flex items-center space-x-2",children:[g.jsx(kv,{className:"inline"}),g.jsxs("span",{children:[g.jsx("span",{className:"font-semibold",children:p.name})," -"," ",p.location," (",p.numberOfPumps," pumps)"]})]})}));o(m)}},[f]),g.jsxs(Bb,{open:e,onOpenChange:t,children:[g.jsx(Ub,{asChild:!0,children:g.jsxs(Ut,{variant:"outline",role:"combobox",size:"lg","aria-expanded":e,className:"w-full justify-between bg-sky-500 hover:bg-sky-800 dark:bg-sky-700 dark:hover:bg-sky-950 hover:text-white text-white font-semibold",children:[c?(h=s.find(m=>m.id===c))==null?void 0:h.label:g.jsxs(g.Fragment,{children:[g.jsx(kv,{}),"Select EV station..."]}),g.jsx(i5,{className:"opacity-50"})]})}),g.jsx(Fb,{className:"p-0",children:g.jsxs(TG,{children:[g.jsx(MG,{placeholder:"Search station...",className:"h-9",onValueChange:r}),g.jsxs(_G,{children:[g.jsx(AG,{children:"No station found."}),g.jsx(RG,{children:s.filter(m=>(m.name+" "+m.location).toLowerCase().includes(n.toLowerCase())).map(m=>g.jsxs(DG,{value:m.name+" "+m.location,onSelect:()=>{u(m.id),t(!1)},children:[m.label,g.jsx(J3,{className:be("ml-auto",c===m.id?"opacity-100":"opacity-0")})]},m.id))})]})]})})]})}function LG(){const e=Jr(c=>c.stationId),t=Jr(c=>c.pumpNumber),n=Jr(c=>c.setPumpNumber),{data:r}=Ks({queryKey:["ev-stations"],queryFn:async()=>(await Tn.get("/stations")).data}),[s,o]=x.useState(0);return x.useEffect(()=>{if(r&&e){const c=r.find(u=>u.id.toString()===e);o((c==null?void 0:c.numberOfPumps)||0)}},[r,e]),e?g.jsxs("div",{className:"flex flex-col items-center space-y-4",children:[g.jsx("div",{className:"text-sky-700 dark:text-sky-400 font-semibold",children:t?`Selected Pump: ${t}`:"Select pump"}),g.jsx("div",{className:"flex gap-4 flex-wrap justify-center",children:Array.from({length:s},(c,u)=>u+1).map(c=>g.jsx(Ut,{type:"button",onClick:()=>n(c),className:be("w-12 h-12 rounded-full flex items-center justify-center text-lg font-bold border-2 transition-colors",t===c?"bg-sky-500 text-white border-sky-500 shadow-lg dark:shadow-sky-800 dark:bg-sky-400":"bg-white dark:bg-gray-800 text-sky-500 border-sky-300 hover:bg-sky-100 dark:hover:bg-sky-900"),children:c},c))})]}):null}function VG(){const e=Ws(),t=Jr(f=>f.vehicleId),n=Jr(f=>f.setVehicleId),r=Jr(f=>f.pumpNumber),{data:s,isPending:o,error:c,isError:u}=Ks({queryKey:["vehicles",e==null?void 0:e.id],queryFn:async()=>(await Tn.get("/vehicles",{params:{ownerId:e!=null&&e.isAdmin||e==null?void 0:e.id}})).data});return r?o?g.jsx("div",{className:"flex items-center justify-center h-full space-x-2",children:g.jsx(Tc,{className:"animate-spin"})}):u?g.jsxs("div",{className:"text-red-500",children:["Error loading vehicles:"," ",c instanceof Error?c.message:"Unknown error"]}):g.jsx("div",{className:"w-full flex flex-col items-center space-y-4 mt-4",children:g.jsx("div",{className:"w-full flex flex-wrap gap-4 justify-center",children:s.map(f=>g.jsxs("div",{className:be("flex flex-col items-center justify-center p-4 rounded-lg border-2 shadow transition-colors cursor-pointer min-w-[140px] min-h-[120px] bg-white dark:bg-gray-800",t===f.id?"border-sky-500 ring-1 ring-sky-300 dark:ring-sky-600 bg-sky-50 dark:bg-sky-900 ":"border-gray-200 dark:border-gray-700 hover:border-sky-400"),onClick:()=>n(f.id),children:[g.jsx(Ps,{className:"w-8 h-8 mb-2 text-sky-500"}),g.jsxs("div",{className:"font-semibold text-gray-800 dark:text-white text-center",children:[f.make," - ",f.model]}),g.jsx("div",{className:"text-xs text-gray-500 dark:text-gray-300 text-center",children:f.plateNumber})]},f.id))})}):null}const hv={},od={};function gd(e,t){try{const r=(hv[e]||(hv[e]=new Intl.DateTimeFormat("en-GB",{timeZone:e,hour:"numeric",timeZoneName:"longOffset"}).format))(t).split("GMT")[1]||"";return r in od?od[r]:o_(r,r.split(":"))}catch{if(e in od)return od[e];const n=e==null?void 0:e.match(zG);return n?o_(e,n.slice(1)):NaN}}const zG=/([+-]\d\d):?(\d\d)?/;function o_(e,t){const n=+t[0],r=+(t[1]||0);return od[e]=n>0?n*60+r:n*60-r}class Ja extends Date{constructor(...t){super(),t.length>1&&typeof t[t.length-1]=="string"&&(this.timeZone=t.pop()),this.internal=new Date,isNaN(gd(this.timeZone,this))?this.setTime(NaN):t.length?typeof t[0]=="number"&&(t.length===1||t.length===2&&typeof t[1]!="number")?this.setTime(t[0]):typeof t[0]=="string"?this.setTime(+new Date(t[0])):t[0]instanceof Date?this.setTime(+t[0]):(this.setTime(+new Date(...t)),Uk(this),$b(this)):this.setTime(Date.now())}static tz(t,...n){return n.length?new Ja(...n,t):new Ja(Date.now(),t)}withTimeZone(t){return new Ja(+this,t)}getTimezoneOffset(){return-gd(this.timeZone,this)}setTime(t){return Date.prototype.setTime.apply(this,arguments),$b(this),+this}[Symbol.for("constructDateFrom")](t){return new Ja(+new Date(t),this.timeZone)}}const l_=/^(get|set)(?!UTC)/;Object.getOwnPropertyNames(Date.prototype).forEach(e=>{if(!l_.test(e))return;const t=e.replace(l_,"$1UTC");Ja.prototype[t]&&(e.startsWith("get")?Ja.prototype[e]=function(){return this.internal[t]()}:(Ja.prototype[e]=function(){return Date.prototype[t].apply(this.internal,arguments),BG(this),+this},Ja.prototype[t]=function(){return Date.prototype[t].apply(this,arguments),$b(this),+this}))});function $b(e){e.internal.setTime(+e),e.internal.setUTCMinutes(e.internal.getUTCMinutes()-e.getTimezoneOffset())}function BG(e){Date.prototype.setFullYear.call(e,e.internal.getUTCFullYear(),e.internal.getUTCMonth(),e.internal.getUTCDate()),Date.prototype.setHours.call(e,e.internal.getUTCHours(),e.internal.getUTCMinutes(),e.internal.getUTCSeconds(),e.internal.getUTCMilliseconds()),Uk(e)}function Uk(e){const t=gd(e.timeZone,e),n=new Date(+e);n.setUTCHours(n.getUTCHours()-1);const r=-new Date(+e).getTimezoneOffset(),s=-new Date(+n).getTimezoneOffset(),o=r-s,c=Date.prototype.getHours.apply(e)!==e.internal.getUTCHours();o&&c&&e.internal.setUTCMinutes(e.internal.getUTCMinutes()+o);const u=r-t;u&&Date.prototype.setUTCMinutes.call(e,Date.prototype.getUTCMinutes.call(e)+u);const f=gd(e.timeZone,e),m=-new Date(+e).getTimezoneOffset()-f,p=f!==t,b=m-u;if(p&&b){Date.prototype.setUTCMinutes.call(e,Date.prototype.getUTCMinutes.call(e)+b);const w=gd(e.timeZone,e),S=f-w;S&&(e.internal.setUTCMinutes(e.internal.getUTCMinutes()+S),Date.prototype.setUTCMinutes.call(e,Date.prototype.getUTCMinutes.call(e)+S))}}class ur extends Ja{static tz(t,...n){return n.length?new ur(...n,t):new ur(Date.now(),t)}toISOString(){const[t,n,r]=this.tzComponents(),s=`${t}${n}:${r}`;return this.internal.toISOString().slice(0,-1)+s}toString(){return`${this.toDateString()} ${this.toTimeString()}`}toDateString(){const[t,n,r,s]=this.internal.toUTCString().split(" ");return`${t==null?void 0:t.slice(0,-1)} ${r} ${n} ${s}`}toTimeString(){const t=this.internal.toUTCString().split(" ")[4],[n,r,s]=this.tzComponents();return`${t} GMT${n}${r}${s} (${UG(this.timeZone,this)})`}toLocaleString(t,n){return Date.prototype.toLocaleString.call(this,t,{...n,timeZone:(n==null?void 0:n.timeZone)||this.timeZone})}toLocaleDateString(t,n){return Date.prototype.toLocaleDateString.call(this,t,{...n,timeZone:(n==null?void 0:n.timeZone)||this.timeZone})}toLocaleTimeString(t,n){return Date.prototype.toLocaleTimeString.call(this,t,{...n,timeZone:(n==null?void 0:n.timeZone)||this.timeZone})}tzComponents(){const t=this.getTimezoneOffset(),n=t>0?"-":"+",r=String(Math.floor(Math.abs(t)/60)).padStart(2,"0"),s=String(Math.abs(t)%60).padStart(2,"0");return[n,r,s]}withTimeZone(t){return new ur(+this,t)}[Symbol.for("constructDateFrom")](t){return new ur(+new Date(t),this.timeZone)}}function UG(e,t){return new Intl.DateTimeFormat("en-GB",{timeZone:e,timeZoneName:"long"}).format(t).slice(12)}var Ye;(function(e){e.Root="root",e.Chevron="chevron",e.Day="day",e.DayButton="day_button",e.CaptionLabel="caption_label",e.Dropdowns="dropdowns",e.Dropdown="dropdown",e.DropdownRoot="dropdown_root",e.Footer="footer",e.MonthGrid="month_grid",e.MonthCaption="month_caption",e.MonthsDropdown="months_dropdown",e.Month="month",e.Months="months",e.Nav="nav",e.NextMonthButton="button_next",e.PreviousMonthButton="button_previous",e.Week="week",e.Weeks="weeks",e.Weekday="weekday",e.Weekdays="weekdays",e.WeekNumber="week_number",e.WeekNumberHeader="week_number_header",e.YearsDropdown="years_dropdown"})(Ye||(Ye={}));var ln;(function(e){e.disabled="disabled",e.hidden="hidden",e.outside="outside",e.focused="focused",e.today="today"})(ln||(ln={}));var ka;(function(e){e.range_end="range_end",e.range_middle="range_middle",e.range_start="range_start",e.selected="selected"})(ka||(ka={}));var Gr;(function(e){e.weeks_before_enter="weeks_before_enter",e.weeks_before_exit="weeks_before_exit",e.weeks_after_enter="weeks_after_enter",e.weeks_after_exit="weeks_after_exit",e.caption_after_enter="caption_after_enter",e.caption_after_exit="caption_after_exit",e.caption_before_enter="caption_before_enter",e.caption_before_exit="caption_before_exit"})(Gr||(Gr={}));const Fk=6048e5,FG=864e5,c_=Symbol.for("constructDateFrom");function qn(e,t){return typeof e=="function"?e(t):e&&typeof e=="object"&&c_ in e?e[c_](t):e instanceof Date?new e.constructor(t):new Date(t)}function Xt(e,t){return qn(t||e,e)}function Ik(e,t,n){const r=Xt(e,n==null?void 0:n.in);return isNaN(t)?qn(e,NaN):(t&&r.setDate(r.getDate()+t),r)}function Hk(e,t,n){const r=Xt(e,n==null?void 0:n.in);if(isNaN(t))return qn(e,NaN);if(!t)return r;const s=r.getDate(),o=qn(e,r.getTime());o.setMonth(r.getMonth()+t+1,0);const c=o.getDate();return s>=c?o:(r.setFullYear(o.getFullYear(),o.getMonth(),s),r)}let IG={};function ff(){return IG}function Sc(e,t){var u,f,h,m;const n=ff(),r=(t==null?void 0:t.weekStartsOn)??((f=(u=t==null?void 0:t.locale)==null?void 0:u.options)==null?void 0:f.weekStartsOn)??n.weekStartsOn??((m=(h=n.locale)==null?void 0:h.options)==null?void 0:m.weekStartsOn)??0,s=Xt(e,t==null?void 0:t.in),o=s.getDay(),c=(o<r?7:0)+o-r;return s.setDate(s.getDate()-c),s.setHours(0,0,0,0),s}function Vd(e,t){return Sc(e,{...t,weekStartsOn:1})}function $k(e,t){const n=Xt(e,t==null?void 0:t.in),r=n.getFullYear(),s=qn(n,0);s.setFullYear(r+1,0,4),s.setHours(0,0,0,0);const o=Vd(s),c=qn(n,0);c.setFullYear(r,0,4),c.setHours(0,0,0,0);const u=Vd(c);return n.getTime()>=o.getTime()?r+1:n.getTime()>=u.getTime()?r:r-1}function u_(e){const t=Xt(e),n=new Date(Date.UTC(t.getFullYear(),t.getMonth(),t.getDate(),t.getHours(),t.getMinutes(),t.getSeconds(),t.getMilliseconds()));return n.setUTCFullYear(t.getFullYear()),+e-+n}function Hc(e,...t){const n=qn.bind(null,t.find(r=>typeof r=="object"));return t.map(n)}function zd(e,t){const n=Xt(e,t==null?void 0:t.in);return n.setHours(0,0,0,0),n}function qk(e,t,n){const[r,s]=Hc(n==null?void 0:n.in,e,t),o=zd(r),c=zd(s),u=+o-u_(o),f=+c-u_(c);return Math.round((u-f)/FG)}function HG(e,t){const n=$k(e,t),r=qn(e,0);return r.setFullYear(n,0,4),r.setHours(0,0,0,0),Vd(r)}function $G(e,t,n){return Ik(e,t*7,n)}function qG(e,t,n){return Hk(e,t*12,n)}function YG(e,t){let n,r=t==null?void 0:t.in;return e.forEach(s=>{!r&&typeof s=="object"&&(r=qn.bind(null,s));const o=Xt(s,r);(!n||n<o||isNaN(+o))&&(n=o)}),qn(r,n||NaN)}function GG(e,t){let n,r=t==null?void 0:t.in;return e.forEach(s=>{!r&&typeof s=="object"&&(r=qn.bind(null,s));const o=Xt(s,r);(!n||n>o||isNaN(+o))&&(n=o)}),qn(r,n||NaN)}function WG(e,t,n){const[r,s]=Hc(n==null?void 0:n.in,e,t);return+zd(r)==+zd(s)}function Yk(e){return e instanceof Date||typeof e=="object"&&Object.prototype.toString.call(e)==="[object Date]"}function KG(e){return!(!Yk(e)&&typeof e!="number"||isNaN(+Xt(e)))}function ZG(e,t,n){const[r,s]=Hc(n==null?void 0:n.in,e,t),o=r.getFullYear()-s.getFullYear(),c=r.getMonth()-s.getMonth();return o*12+c}function XG(e,t){const n=Xt(e,t==null?void 0:t.in),r=n.getMonth();return n.setFullYear(n.getFullYear(),r+1,0),n.setHours(23,59,59,999),n}function QG(e,t){const[n,r]=Hc(e,t.start,t.end);return{start:n,end:r}}function JG(e,t){const{start:n,end:r}=QG(t==null?void 0:t.in,e);let s=+n>+r;const o=s?+n:+r,c=s?r:n;c.setHours(0,0,0,0),c.setDate(1);let u=1;const f=[];for(;+c<=o;)f.push(qn(n,c)),c.setMonth(c.getMonth()+u);return s?f.reverse():f}function eW(e,t){const n=Xt(e,t==null?void 0:t.in);return n.setDate(1),n.setHours(0,0,0,0),n}function tW(e,t){const n=Xt(e,t==null?void 0:t.in),r=n.getFullYear();return n.setFullYear(r+1,0,0),n.setHours(23,59,59,999),n}function Gk(e,t){const n=Xt(e,t==null?void 0:t.in);return n.setFullYear(n.getFullYear(),0,1),n.setHours(0,0,0,0),n}function Wk(e,t){var u,f,h,m;const n=ff(),r=(t==null?void 0:t.weekStartsOn)??((f=(u=t==null?void 0:t.locale)==null?void 0:u.options)==null?void 0:f.weekStartsOn)??n.weekStartsOn??((m=(h=n.locale)==null?void 0:h.options)==null?void 0:m.weekStartsOn)??0,s=Xt(e,t==null?void 0:t.in),o=s.getDay(),c=(o<r?-7:0)+6-(o-r);return s.setDate(s.getDate()+c),s.setHours(23,59,59,999),s}function nW(e,t){return Wk(e,{...t,weekStartsOn:1})}const rW={lessThanXSeconds:{one:"less than a second",other:"less than {{count}} seconds"},xSeconds:{one:"1 second",other:"{{count}} seconds"},halfAMinute:"half a minute",lessThanXMinutes:{one:"less than a minute",other:"less than {{count}} minutes"},xMinutes:{one:"1 minute",other:"{{count}} minutes"},aboutXHours:{one:"about 1 hour",other:"about {{count}} hours"},xHours:{one:"1 hour",other:"{{count}} hours"},xDays:{one:"1 day",other:"{{count}} days"},aboutXWeeks:{one:"about 1 week",other:"about {{count}} weeks"},xWeeks:{one:"1 week",other:"{{count}} weeks"},aboutXMonths:{one:"about 1 month",other:"about {{count}} months"},xMonths:{one:"1 month",other:"{{count}} months"},aboutXYears:{one:"about 1 year",other:"about {{count}} years"},xYears:{one:"1 year",other:"{{count}} years"},overXYears:{one:"over 1 year",other:"over {{count}} years"},almostXYears:{one:"almost 1 year",other:"almost {{count}} years"}},aW=(e,t,n)=>{let r;const s=rW[e];return typeof s=="string"?r=s:t===1?r=s.one:r=s.other.replace("{{count}}",t.toString()),n!=null&&n.addSuffix?n.comparison&&n.comparison>0?"in "+r:r+" ago":r};function mv(e){return(t={})=>{const n=t.width?String(t.width):e.defaultWidth;return e.formats[n]||e.formats[e.defaultWidth]}}const sW={full:"EEEE, MMMM do, y",long:"MMMM do, y",medium:"MMM d, y",short:"MM/dd/yyyy"},iW={full:"h:mm:ss a zzzz",long:"h:mm:ss a z",medium:"h:mm:ss a",short:"h:mm a"},oW={full:"{{date}} 'at' {{time}}",long:"{{date}} 'at' {{time}}",medium:"{{date}}, {{time}}",short:"{{date}}, {{time}}"},lW={date:mv({formats:sW,defaultWidth:"full"}),time:mv({formats:iW,defaultWidth:"full"}),dateTime:mv({formats:oW,defaultWidth:"full"})},cW={lastWeek:"'last' eeee 'at' p",yesterday:"'yesterday at' p",today:"'today at' p",tomorrow:"'tomorrow at' p",nextWeek:"eeee 'at' p",other:"P"},uW=(e,t,n,r)=>cW[e];function Zu(e){return(t,n)=>{const r=n!=null&&n.context?String(n.context):"standalone";let s;if(r==="formatting"&&e.formattingValues){const c=e.defaultFormattingWidth||e.defaultWidth,u=n!=null&&n.width?String(n.width):c;s=e.formattingValues[u]||e.formattingValues[c]}else{const c=e.defaultWidth,u=n!=null&&n.width?String(n.width):e.defaultWidth;s=e.values[u]||e.values[c]}const o=e.argumentCallback?e.argumentCallback(t):t;return s[o]}}const dW={narrow:["B","A"],abbreviated:["BC","AD"],wide:["Before Christ","Anno Domini"]},fW={narrow:["1","2","3","4"],abbreviated:["Q1","Q2","Q3","Q4"],wide:["1st quarter","2nd quarter","3rd quarter","4th quarter"]},hW={narrow:["J","F","M","A","M","J","J","A","S","O","N","D"],abbreviated:["Jan","Feb","Mar","Apr","May","Jun","Jul","Aug","Sep","Oct","Nov","Dec"],wide:["January","February","March","April","May","June","July","August","September","October","November","December"]},mW={narrow:["S","M","T","W","T","F","S"],short:["Su","Mo","Tu","We","Th","Fr","Sa"],abbreviated:["Sun","Mon","Tue","Wed","Thu","Fri","Sat"],wide:["Sunday","Monday","Tuesday","Wednesday","Thursday","Friday","Saturday"]},pW={narrow:{am:"a",pm:"p",midnight:"mi",noon:"n",morning:"morning",afternoon:"afternoon",evening:"evening",night:"night"},abbreviated:{am:"AM",pm:"PM",midnight:"midnight",noon:"noon",morning:"morning",afternoon:"afternoon",evening:"evening",night:"night"},wide:{am:"a.m.",pm:"p.m.",midnight:"midnight",noon:"noon",morning:"morning",afternoon:"afternoon",evening:"evening",night:"night"}},gW={narrow:{am:"a",pm:"p",midnight:"mi",noon:"n",morning:"in the morning",afternoon:"in the afternoon",evening:"in the evening",night:"at night"},abbreviated:{am:"AM",pm:"PM",midnight:"midnight",noon:"noon",morning:"in the morning",afternoon:"in the afternoon",evening:"in the evening",night:"at night"},wide:{am:"a.m.",pm:"p.m.",midnight:"midnight",noon:"noon",morning:"in the morning",afternoon:"in the afternoon",evening:"in the evening",night:"at night"}},yW=(e,t)=>{const n=Number(e),r=n%100;if(r>20||r<10)switch(r%10){case 1:return n+"st";case 2:return n+"nd";case 3:return n+"rd"}return n+"th"},vW={ordinalNumber:yW,era:Zu({values:dW,defaultWidth:"wide"}),quarter:Zu({values:fW,defaultWidth:"wide",argumentCallback:e=>e-1}),month:Zu({values:hW,defaultWidth:"wide"}),day:Zu({values:mW,defaultWidth:"wide"}),dayPeriod:Zu({values:pW,defaultWidth:"wide",formattingValues:gW,defaultFormattingWidth:"wide"})};function Xu(e){return(t,n={})=>{const r=n.width,s=r&&e.matchPatterns[r]||e.matchPatterns[e.defaultMatchWidth],o=t.match(s);if(!o)return null;const c=o[0],u=r&&e.parsePatterns[r]||e.parsePatterns[e.defaultParseWidth],f=Array.isArray(u)?xW(u,p=>p.test(c)):bW(u,p=>p.test(c));let h;h=e.valueCallback?e.valueCallback(f):f,h=n.valueCallback?n.valueCallback(h):h;const m=t.slice(c.length);return{value:h,rest:m}}}function bW(e,t){for(const n in e)if(Object.prototype.hasOwnProperty.call(e,n)&&t(e[n]))return n}function xW(e,t){for(let n=0;n<e.length;n++)if(t(e[n]))return n}function wW(e){return(t,n={})=>{const r=t.match(e.matchPattern);if(!r)return null;const s=r[0],o=t.match(e.parsePattern);if(!o)return null;let c=e.valueCallback?e.valueCallback(o[0]):o[0];c=n.valueCallback?n.valueCallback(c):c;const u=t.slice(s.length);return{value:c,rest:u}}}const SW=/^(\d+)(th|st|nd|rd)?/i,EW=/\d+/i,CW={narrow:/^(b|a)/i,abbreviated:/^(b\.?\s?c\.?|b\.?\s?c\.?\s?e\.?|a\.?\s?d\.?|c\.?\s?e\.?)/i,wide:/^(before christ|before common era|anno domini|common era)/i},TW={any:[/^b/i,/^(a|c)/i]},MW={narrow:/^[1234]/i,abbreviated:/^q[1234]/i,wide:/^[1234](th|st|nd|rd)? quarter/i},_W={any:[/1/i,/2/i,/3/i,/4/i]},AW={narrow:/^[jfmasond]/i,abbreviated:/^(jan|feb|mar|apr|may|jun|jul|aug|sep|oct|nov|dec)/i,wide:/^(january|february|march|april|may|june|july|august|september|october|november|december)/i},RW={narrow:[/^j/i,/^f/i,/^m/i,/^a/i,/^m/i,/^j/i,/^j/i,/^a/i,/^s/i,/^o/i,/^n/i,/^d/i],any:[/^ja/i,/^f/i,/^mar/i,/^ap/i,/^may/i,/^jun/i,/^jul/i,/^au/i,/^s/i,/^o/i,/^n/i,/^d/i]},DW={narrow:/^[smtwf]/i,short:/^(su|mo|tu|we|th|fr|sa)/i,abbreviated:/^(sun|mon|tue|wed|thu|fri|sat)/i,wide:/^(sunday|monday|tuesday|wednesday|thursday|friday|saturday)/i},NW={narrow:[/^s/i,/^m/i,/^t/i,/^w/i,/^t/i,/^f/i,/^s/i],any:[/^su/i,/^m/i,/^tu/i,/^w/i,/^th/i,/^f/i,/^sa/i]},OW={narrow:/^(a|p|mi|n|(in the|at) (morning|afternoon|evening|night))/i,any:/^([ap]\.?\s?m\.?|midnight|noon|(in the|at) (morning|afternoon|evening|night))/i},kW={any:{am:/^a/i,pm:/^p/i,midnight:/^mi/i,noon:/^no/i,morning:/morning/i,afternoon:/afternoon/i,evening:/evening/i,night:/night/i}},jW={ordinalNumber:wW({matchPattern:SW,parsePattern:EW,valueCallback:e=>parseInt(e,10)}),era:Xu({matchPatterns:CW,defaultMatchWidth:"wide",parsePatterns:TW,defaultParseWidth:"any"}),quarter:Xu({matchPatterns:MW,defaultMatchWidth:"wide",parsePatterns:_W,defaultParseWidth:"any",valueCallback:e=>e+1}),month:Xu({matchPatterns:AW,defaultMatchWidth:"wide",parsePatterns:RW,defaultParseWidth:"any"}),day:Xu({matchPatterns:DW,defaultMatchWidth:"wide",parsePatterns:NW,defaultParseWidth:"any"}),dayPeriod:Xu({matchPatterns:OW,defaultMatchWidth:"any",parsePatterns:kW,defaultParseWidth:"any"})},Fx={code:"en-US",formatDistance:aW,formatLong:lW,formatRelative:uW,localize:vW,match:jW,options:{weekStartsOn:0,firstWeekContainsDate:1}};function PW(e,t){const n=Xt(e,t==null?void 0:t.in);return qk(n,Gk(n))+1}function Kk(e,t){const n=Xt(e,t==null?void 0:t.in),r=+Vd(n)-+HG(n);return Math.round(r/Fk)+1}function Zk(e,t){var m,p,b,w;const n=Xt(e,t==null?void 0:t.in),r=n.getFullYear(),s=ff(),o=(t==null?void 0:t.firstWeekContainsDate)??((p=(m=t==null?void 0:t.locale)==null?void 0:m.options)==null?void 0:p.firstWeekContainsDate)??s.firstWeekContainsDate??((w=(b=s.locale)==null?void 0:b.options)==null?void 0:w.firstWeekContainsDate)??1,c=qn((t==null?void 0:t.in)||e,0);c.setFullYear(r+1,0,o),c.setHours(0,0,0,0);const u=Sc(c,t),f=qn((t==null?void 0:t.in)||e,0);f.setFullYear(r,0,o),f.setHours(0,0,0,0);const h=Sc(f,t);return+n>=+u?r+1:+n>=+h?r:r-1}function LW(e,t){var u,f,h,m;const n=ff(),r=(t==null?void 0:t.firstWeekContainsDate)??((f=(u=t==null?void 0:t.locale)==null?void 0:u.options)==null?void 0:f.firstWeekContainsDate)??n.firstWeekContainsDate??((m=(h=n.locale)==null?void 0:h.options)==null?void 0:m.firstWeekContainsDate)??1,s=Zk(e,t),o=qn((t==null?void 0:t.in)||e,0);return o.setFullYear(s,0,r),o.setHours(0,0,0,0),Sc(o,t)}function Xk(e,t){const n=Xt(e,t==null?void 0:t.in),r=+Sc(n,t)-+LW(n,t);return Math.round(r/Fk)+1}function qt(e,t){const n=e<0?"-":"",r=Math.abs(e).toString().padStart(t,"0");return n+r}const Ti={y(e,t){const n=e.getFullYear(),r=n>0?n:1-n;return qt(t==="yy"?r%100:r,t.length)},M(e,t){const n=e.getMonth();return t==="M"?String(n+1):qt(n+1,2)},d(e,t){return qt(e.getDate(),t.length)},a(e,t){const n=e.getHours()/12>=1?"pm":"am";switch(t){case"a":case"aa":return n.toUpperCase();case"aaa":return n;case"aaaaa":return n[0];case"aaaa":default:return n==="am"?"a.m.":"p.m."}},h(e,t){return qt(e.getHours()%12||12,t.length)},H(e,t){return qt(e.getHours(),t.length)},m(e,t){return qt(e.getMinutes(),t.length)},s(e,t){return qt(e.getSeconds(),t.length)},S(e,t){const n=t.length,r=e.getMilliseconds(),s=Math.trunc(r*Math.pow(10,n-3));return qt(s,t.length)}},zl={midnight:"midnight",noon:"noon",morning:"morning",afternoon:"afternoon",evening:"evening",night:"night"},d_={G:function(e,t,n){const r=e.getFullYear()>0?1:0;switch(t){case"G":case"GG":case"GGG":return n.era(r,{width:"abbreviated"});case"GGGGG":return n.era(r,{width:"narrow"});case"GGGG":default:return n.era(r,{width:"wide"})}},y:function(e,t,n){if(t==="yo"){const r=e.getFullYear(),s=r>0?r:1-r;return n.ordinalNumber(s,{unit:"year"})}return Ti.y(e,t)},Y:function(e,t,n,r){const s=Zk(e,r),o=s>0?s:1-s;if(t==="YY"){const c=o%100;return qt(c,2)}return t==="Yo"?n.ordinalNumber(o,{unit:"year"}):qt(o,t.length)},R:function(e,t){const n=$k(e);return qt(n,t.length)},u:function(e,t){const n=e.getFullYear();return qt(n,t.length)},Q:function(e,t,n){const r=Math.ceil((e.getMonth()+1)/3);switch(t){case"Q":return String(r);case"QQ":return qt(r,2);case"Qo":return n.ordinalNumber(r,{unit:"quarter"});case"QQQ":return n.quarter(r,{width:"abbreviated",context:"formatting"});case"QQQQQ":return n.quarter(r,{width:"narrow",context:"formatting"});case"QQQQ":default:return n.quarter(r,{width:"wide",context:"formatting"})}},q:function(e,t,n){const r=Math.ceil((e.getMonth()+1)/3);switch(t){case"q":return String(r);case"qq":return qt(r,2);case"qo":return n.ordinalNumber(r,{unit:"quarter"});case"qqq":return n.quarter(r,{width:"abbreviated",context:"standalone"});case"qqqqq":return n.quarter(r,{width:"narrow",context:"standalone"});case"qqqq":default:return n.quarter(r,{width:"wide",context:"standalone"})}},M:function(e,t,n){const r=e.getMonth();switch(t){case"M":case"MM":return Ti.M(e,t);case"Mo":return n.ordinalNumber(r+1,{unit:"month"});case"MMM":return n.month(r,{width:"abbreviated",context:"formatting"});case"MMMMM":return n.month(r,{width:"narrow",context:"formatting"});case"MMMM":default:return n.month(r,{width:"wide",context:"formatting"})}},L:function(e,t,n){const r=e.getMonth();switch(t){case"L":return String(r+1);case"LL":return qt(r+1,2);case"Lo":return n.ordinalNumber(r+1,{unit:"month"});case"LLL":return n.month(r,{width:"abbreviated",context:"standalone"});case"LLLLL":return n.month(r,{width:"narrow",context:"standalone"});case"LLLL":default:return n.month(r,{width:"wide",context:"standalone"})}},w:function(e,t,n,r){const s=Xk(e,r);return t==="wo"?n.ordinalNumber(s,{unit:"week"}):qt(s,t.length)},I:function(e,t,n){const r=Kk(e);return t==="Io"?n.ordinalNumber(r,{unit:"week"}):qt(r,t.length)},d:function(e,t,n){return t==="do"?n.ordinalNumber(e.getDate(),{unit:"date"}):Ti.d(e,t)},D:function(e,t,n){const r=PW(e);return t==="Do"?n.ordinalNumber(r,{unit:"dayOfYear"}):qt(r,t.length)},E:function(e,t,n){const r=e.getDay();switch(t){case"E":case"EE":case"EEE":return n.day(r,{width:"abbreviated",context:"formatting"});case"EEEEE":return n.day(r,{width:"narrow",context:"formatting"});case"EEEEEE":return n.day(r,{width:"short",context:"formatting"});case"EEEE":default:return n.day(r,{width:"wide",context:"formatting"})}},e:function(e,t,n,r){const s=e.getDay(),o=(s-r.weekStartsOn+8)%7||7;switch(t){case"e":return String(o);case"ee":return qt(o,2);case"eo":return n.ordinalNumber(o,{unit:"day"});case"eee":return n.day(s,{width:"abbreviated",context:"formatting"});case"eeeee":return n.day(s,{width:"narrow",context:"formatting"});case"eeeeee":return n.day(s,{width:"short",context:"formatting"});case"eeee":default:return n.day(s,{width:"wide",context:"formatting"})}},c:function(e,t,n,r){const s=e.getDay(),o=(s-r.weekStartsOn+8)%7||7;switch(t){case"c":return String(o);case"cc":return qt(o,t.length);case"co":return n.ordinalNumber(o,{unit:"day"});case"ccc":return n.day(s,{width:"abbreviated",context:"standalone"});case"ccccc":return n.day(s,{width:"narrow",context:"standalone"});case"cccccc":return n.day(s,{width:"short",context:"standalone"});case"cccc":default:return n.day(s,{width:"wide",context:"standalone"})}},i:function(e,t,n){const r=e.getDay(),s=r===0?7:r;switch(t){case"i":return String(s);case"ii":return qt(s,t.length);case"io":return n.ordinalNumber(s,{unit:"day"});case"iii":return n.day(r,{width:"abbreviated",context:"formatting"});case"iiiii":return n.day(r,{width:"narrow",context:"formatting"});case"iiiiii":return n.day(r,{width:"short",context:"formatting"});case"iiii":default:return n.day(r,{width:"wide",context:"formatting"})}},a:function(e,t,n){const s=e.getHours()/12>=1?"pm":"am";switch(t){case"a":case"aa":return n.dayPeriod(s,{width:"abbreviated",context:"formatting"});case"aaa":return n.dayPeriod(s,{width:"abbreviated",context:"formatting"}).toLowerCase();case"aaaaa":return n.dayPeriod(s,{width:"narrow",context:"formatting"});case"aaaa":default:return n.dayPeriod(s,{width:"wide",context:"formatting"})}},b:function(e,t,n){const r=e.getHours();let s;switch(r===12?s=zl.noon:r===0?s=zl.midnight:s=r/12>=1?"pm":"am",t){case"b":case"bb":return n.dayPeriod(s,{width:"abbreviated",context:"formatting"});case"bbb":return n.dayPeriod(s,{width:"abbreviated",context:"formatting"}).toLowerCase();case"bbbbb":return n.dayPeriod(s,{width:"narrow",context:"formatting"});case"bbbb":default:return n.dayPeriod(s,{width:"wide",context:"formatting"})}},B:function(e,t,n){const r=e.getHours();let s;switch(r>=17?s=zl.evening:r>=12?s=zl.afternoon:r>=4?s=zl.morning:s=zl.night,t){case"B":case"BB":case"BBB":return n.dayPeriod(s,{width:"abbreviated",context:"formatting"});case"BBBBB":return n.dayPeriod(s,{width:"narrow",context:"formatting"});case"BBBB":default:return n.dayPeriod(s,{width:"wide",context:"formatting"})}},h:function(e,t,n){if(t==="ho"){let r=e.getHours()%12;return r===0&&(r=12),n.ordinalNumber(r,{unit:"hour"})}return Ti.h(e,t)},H:function(e,t,n){return t==="Ho"?n.ordinalNumber(e.getHours(),{unit:"hour"}):Ti.H(e,t)},K:function(e,t,n){const r=e.getHours()%12;return t==="Ko"?n.ordinalNumber(r,{unit:"hour"}):qt(r,t.length)},k:function(e,t,n){let r=e.getHours();return r===0&&(r=24),t==="ko"?n.ordinalNumber(r,{unit:"hour"}):qt(r,t.length)},m:function(e,t,n){return t==="mo"?n.ordinalNumber(e.getMinutes(),{unit:"minute"}):Ti.m(e,t)},s:function(e,t,n){return t==="so"?n.ordinalNumber(e.getSeconds(),{unit:"second"}):Ti.s(e,t)},S:function(e,t){return Ti.S(e,t)},X:function(e,t,n){const r=e.getTimezoneOffset();if(r===0)return"Z";switch(t){case"X":return h_(r);case"XXXX":case"XX":return Co(r);case"XXXXX":case"XXX":default:return Co(r,":")}},x:function(e,t,n){const r=e.getTimezoneOffset();switch(t){case"x":return h_(r);case"xxxx":case"xx":return Co(r);case"xxxxx":case"xxx":default:return Co(r,":")}},O:function(e,t,n){const r=e.getTimezoneOffset();switch(t){case"O":case"OO":case"OOO":return"GMT"+f_(r,":");case"OOOO":default:return"GMT"+Co(r,":")}},z:function(e,t,n){const r=e.getTimezoneOffset();switch(t){case"z":case"zz":case"zzz":return"GMT"+f_(r,":");case"zzzz":default:return"GMT"+Co(r,":")}},t:function(e,t,n){const r=Math.trunc(+e/1e3);return qt(r,t.length)},T:function(e,t,n){return qt(+e,t.length)}};function f_(e,t=""){const n=e>0?"-":"+",r=Math.abs(e),s=Math.trunc(r/60),o=r%60;return o===0?n+String(s):n+String(s)+t+qt(o,2)}function h_(e,t){return e%60===0?(e>0?"-":"+")+qt(Math.abs(e)/60,2):Co(e,t)}function Co(e,t=""){const n=e>0?"-":"+",r=Math.abs(e),s=qt(Math.trunc(r/60),2),o=qt(r%60,2);return n+s+t+o}const m_=(e,t)=>{switch(e){case"P":return t.date({width:"short"});case"PP":return t.date({width:"medium"});case"PPP":return t.date({width:"long"});case"PPPP":default:return t.date({width:"full"})}},Qk=(e,t)=>{switch(e){case"p":return t.time({width:"short"});case"pp":return t.time({width:"medium"});case"ppp":return t.time({width:"long"});case"pppp":default:return t.time({width:"full"})}},VW=(e,t)=>{const n=e.match(/(P+)(p+)?/)||[],r=n[1],s=n[2];if(!s)return m_(e,t);let o;switch(r){case"P":o=t.dateTime({width:"short"});break;case"PP":o=t.dateTime({width:"medium"});break;case"PPP":o=t.dateTime({width:"long"});break;case"PPPP":default:o=t.dateTime({width:"full"});break}return o.replace("{{date}}",m_(r,t)).replace("{{time}}",Qk(s,t))},zW={p:Qk,P:VW},BW=/^D+$/,UW=/^Y+$/,FW=["D","DD","YY","YYYY"];function IW(e){return BW.test(e)}function HW(e){return UW.test(e)}function $W(e,t,n){const r=qW(e,t,n);if(console.warn(r),FW.includes(e))throw new RangeError(r)}function qW(e,t,n){const r=e[0]==="Y"?"years":"days of the month";return`Use \`${e.toLowerCase()}\` instead of \`${e}\` (in \`${t}\`) for formatting ${r} to the input \`${n}\`; see: https://github.com/date-fns/date-fns/blob/master/docs/unicodeTokens.md`}const YW=/[yYQqMLwIdDecihHKkms]o|(\w)\1*|''|'(''|[^'])+('|$)|./g,GW=/P+p+|P+|p+|''|'(''|[^'])+('|$)|./g,WW=/^'([^]*?)'?$/,KW=/''/g,ZW=/[a-zA-Z]/;function Jk(e,t,n){var m,p,b,w,S,E,C,T;const r=ff(),s=(n==null?void 0:n.locale)??r.locale??Fx,o=(n==null?void 0:n.firstWeekContainsDate)??((p=(m=n==null?void 0:n.locale)==null?void 0:m.options)==null?void 0:p.firstWeekContainsDate)??r.firstWeekContainsDate??((w=(b=r.locale)==null?void 0:b.options)==null?void 0:w.firstWeekContainsDate)??1,c=(n==null?void 0:n.weekStartsOn)??((E=(S=n==null?void 0:n.locale)==null?void 0:S.options)==null?void 0:E.weekStartsOn)??r.weekStartsOn??((T=(C=r.locale)==null?void 0:C.options)==null?void 0:T.weekStartsOn)??0,u=Xt(e,n==null?void 0:n.in);if(!KG(u))throw new RangeError("Invalid time value");let f=t.match(GW).map(_=>{const A=_[0];if(A==="p"||A==="P"){const O=zW[A];return O(_,s.formatLong)}return _}).join("").match(YW).map(_=>{if(_==="''")return{isToken:!1,value:"'"};const A=_[0];if(A==="'")return{isToken:!1,value:XW(_)};if(d_[A])return{isToken:!0,value:_};if(A.match(ZW))throw new RangeError("Format string contains an unescaped latin alphabet character `"+A+"`");return{isToken:!1,value:_}});s.localize.preprocessor&&(f=s.localize.preprocessor(u,f));const h={firstWeekContainsDate:o,weekStartsOn:c,locale:s};return f.map(_=>{if(!_.isToken)return _.value;const A=_.value;(!(n!=null&&n.useAdditionalWeekYearTokens)&&HW(A)||!(n!=null&&n.useAdditionalDayOfYearTokens)&&IW(A))&&$W(A,t,String(e));const O=d_[A[0]];return O(u,A,s.localize,h)}).join("")}function XW(e){const t=e.match(WW);return t?t[1].replace(KW,"'"):e}function QW(e,t){const n=Xt(e,t==null?void 0:t.in),r=n.getFullYear(),s=n.getMonth(),o=qn(n,0);return o.setFullYear(r,s+1,0),o.setHours(0,0,0,0),o.getDate()}function JW(e,t){return Xt(e,t==null?void 0:t.in).getMonth()}function eK(e,t){return Xt(e,t==null?void 0:t.in).getFullYear()}function tK(e,t){return+Xt(e)>+Xt(t)}function nK(e,t){return+Xt(e)<+Xt(t)}function rK(e,t,n){const[r,s]=Hc(n==null?void 0:n.in,e,t);return r.getFullYear()===s.getFullYear()&&r.getMonth()===s.getMonth()}function aK(e,t,n){const[r,s]=Hc(n==null?void 0:n.in,e,t);return r.getFullYear()===s.getFullYear()}function sK(e,t,n){const r=Xt(e,n==null?void 0:n.in),s=r.getFullYear(),o=r.getDate(),c=qn(e,0);c.setFullYear(s,t,15),c.setHours(0,0,0,0);const u=QW(c);return r.setMonth(t,Math.min(o,u)),r}function iK(e,t,n){const r=Xt(e,n==null?void 0:n.in);return isNaN(+r)?qn(e,NaN):(r.setFullYear(t),r)}const p_=5,oK=4;function lK(e,t){const n=t.startOfMonth(e),r=n.getDay()>0?n.getDay():7,s=t.addDays(e,-r+1),o=t.addDays(s,p_*7-1);return t.getMonth(e)===t.getMonth(o)?p_:oK}function ej(e,t){const n=t.startOfMonth(e),r=n.getDay();return r===1?n:r===0?t.addDays(n,-1*6):t.addDays(n,-1*(r-1))}function cK(e,t){const n=ej(e,t),r=lK(e,t);return t.addDays(n,r*7-1)}class Zs{constructor(t,n){this.Date=Date,this.today=()=>{var r;return(r=this.overrides)!=null&&r.today?this.overrides.today():this.options.timeZone?ur.tz(this.options.timeZone):new this.Date},this.newDate=(r,s,o)=>{var c;return(c=this.overrides)!=null&&c.newDate?this.overrides.newDate(r,s,o):this.options.timeZone?new ur(r,s,o,this.options.timeZone):new Date(r,s,o)},this.addDays=(r,s)=>{var o;return(o=this.overrides)!=null&&o.addDays?this.overrides.addDays(r,s):Ik(r,s)},this.addMonths=(r,s)=>{var o;return(o=this.overrides)!=null&&o.addMonths?this.overrides.addMonths(r,s):Hk(r,s)},this.addWeeks=(r,s)=>{var o;return(o=this.overrides)!=null&&o.addWeeks?this.overrides.addWeeks(r,s):$G(r,s)},this.addYears=(r,s)=>{var o;return(o=this.overrides)!=null&&o.addYears?this.overrides.addYears(r,s):qG(r,s)},this.differenceInCalendarDays=(r,s)=>{var o;return(o=this.overrides)!=null&&o.differenceInCalendarDays?this.overrides.differenceInCalendarDays(r,s):qk(r,s)},this.differenceInCalendarMonths=(r,s)=>{var o;return(o=this.overrides)!=null&&o.differenceInCalendarMonths?this.overrides.differenceInCalendarMonths(r,s):ZG(r,s)},this.eachMonthOfInterval=r=>{var s;return(s=this.overrides)!=null&&s.eachMonthOfInterval?this.overrides.eachMonthOfInterval(r):JG(r)},this.endOfBroadcastWeek=r=>{var s;return(s=this.overrides)!=null&&s.endOfBroadcastWeek?this.overrides.endOfBroadcastWeek(r):cK(r,this)},this.endOfISOWeek=r=>{var s;return(s=this.overrides)!=null&&s.endOfISOWeek?this.overrides.endOfISOWeek(r):nW(r)},this.endOfMonth=r=>{var s;return(s=this.overrides)!=null&&s.endOfMonth?this.overrides.endOfMonth(r):XG(r)},this.endOfWeek=(r,s)=>{var o;return(o=this.overrides)!=null&&o.endOfWeek?this.overrides.endOfWeek(r,s):Wk(r,this.options)},this.endOfYear=r=>{var s;return(s=this.overrides)!=null&&s.endOfYear?this.overrides.endOfYear(r):tW(r)},this.format=(r,s,o)=>{var u;const c=(u=this.overrides)!=null&&u.format?this.overrides.format(r,s,this.options):Jk(r,s,this.options);return this.options.numerals&&this.options.numerals!=="latn"?this.replaceDigits(c):c},this.getISOWeek=r=>{var s;return(s=this.overrides)!=null&&s.getISOWeek?this.overrides.getISOWeek(r):Kk(r)},this.getMonth=(r,s)=>{var o;return(o=this.overrides)!=null&&o.getMonth?this.overrides.getMonth(r,this.options):JW(r,this.options)},this.getYear=(r,s)=>{var o;return(o=this.overrides)!=null&&o.getYear?this.overrides.getYear(r,this.options):eK(r,this.options)},this.getWeek=(r,s)=>{var o;return(o=this.overrides)!=null&&o.getWeek?this.overrides.getWeek(r,this.options):Xk(r,this.options)},this.isAfter=(r,s)=>{var o;return(o=this.overrides)!=null&&o.isAfter?this.overrides.isAfter(r,s):tK(r,s)},this.isBefore=(r,s)=>{var o;return(o=this.overrides)!=null&&o.isBefore?this.overrides.isBefore(r,s):nK(r,s)},this.isDate=r=>{var s;return(s=this.overrides)!=null&&s.isDate?this.overrides.isDate(r):Yk(r)},this.isSameDay=(r,s)=>{var o;return(o=this.overrides)!=null&&o.isSameDay?this.overrides.isSameDay(r,s):WG(r,s)},this.isSameMonth=(r,s)=>{var o;return(o=this.overrides)!=null&&o.isSameMonth?this.overrides.isSameMonth(r,s):rK(r,s)},this.isSameYear=(r,s)=>{var o;return(o=this.overrides)!=null&&o.isSameYear?this.overrides.isSameYear(r,s):aK(r,s)},this.max=r=>{var s;return(s=this.overrides)!=null&&s.max?this.overrides.max(r):YG(r)},this.min=r=>{var s;return(s=this.overrides)!=null&&s.min?this.overrides.min(r):GG(r)},this.setMonth=(r,s)=>{var o;return(o=this.overrides)!=null&&o.setMonth?this.overrides.setMonth(r,s):sK(r,s)},this.setYear=(r,s)=>{var o;return(o=this.overrides)!=null&&o.setYear?this.overrides.setYear(r,s):iK(r,s)},this.startOfBroadcastWeek=(r,s)=>{var o;return(o=this.overrides)!=null&&o.startOfBroadcastWeek?this.overrides.startOfBroadcastWeek(r,this):ej(r,this)},this.startOfDay=r=>{var s;return(s=this.overrides)!=null&&s.startOfDay?this.overrides.startOfDay(r):zd(r)},this.startOfISOWeek=r=>{var s;return(s=this.overrides)!=null&&s.startOfISOWeek?this.overrides.startOfISOWeek(r):Vd(r)},this.startOfMonth=r=>{var s;return(s=this.overrides)!=null&&s.startOfMonth?this.overrides.startOfMonth(r):eW(r)},this.startOfWeek=(r,s)=>{var o;return(o=this.overrides)!=null&&o.startOfWeek?this.overrides.startOfWeek(r,this.options):Sc(r,this.options)},this.startOfYear=r=>{var s;return(s=this.overrides)!=null&&s.startOfYear?this.overrides.startOfYear(r):Gk(r)},this.options={locale:Fx,...t},this.overrides=n}getDigitMap(){const{numerals:t="latn"}=this.options,n=new Intl.NumberFormat("en-US",{numberingSystem:t}),r={};for(let s=0;s<10;s++)r[s.toString()]=n.format(s);return r}replaceDigits(t){const n=this.getDigitMap();return t.replace(/\d/g,r=>n[r]||r)}formatNumber(t){return this.replaceDigits(t.toString())}}const ds=new Zs;class tj{constructor(t,n,r=ds){this.date=t,this.displayMonth=n,this.outside=!!(n&&!r.isSameMonth(t,n)),this.dateLib=r}isEqualTo(t){return this.dateLib.isSameDay(t.date,this.date)&&this.dateLib.isSameMonth(t.displayMonth,this.displayMonth)}}class uK{constructor(t,n){this.date=t,this.weeks=n}}class dK{constructor(t,n){this.days=n,this.weekNumber=t}}function ks(e,t,n=!1,r=ds){let{from:s,to:o}=e;const{differenceInCalendarDays:c,isSameDay:u}=r;return s&&o?(c(o,s)<0&&([s,o]=[o,s]),c(t,s)>=(n?1:0)&&c(o,t)>=(n?1:0)):!n&&o?u(o,t):!n&&s?u(s,t):!1}function nj(e){return!!(e&&typeof e=="object"&&"before"in e&&"after"in e)}function Ix(e){return!!(e&&typeof e=="object"&&"from"in e)}function rj(e){return!!(e&&typeof e=="object"&&"after"in e)}function aj(e){return!!(e&&typeof e=="object"&&"before"in e)}function sj(e){return!!(e&&typeof e=="object"&&"dayOfWeek"in e)}function ij(e,t){return Array.isArray(e)&&e.every(t.isDate)}function js(e,t,n=ds){const r=Array.isArray(t)?t:[t],{isSameDay:s,differenceInCalendarDays:o,isAfter:c}=n;return r.some(u=>{if(typeof u=="boolean")return u;if(n.isDate(u))return s(e,u);if(ij(u,n))return u.includes(e);if(Ix(u))return ks(u,e,!1,n);if(sj(u))return Array.isArray(u.dayOfWeek)?u.dayOfWeek.includes(e.getDay()):u.dayOfWeek===e.getDay();if(nj(u)){const f=o(u.before,e),h=o(u.after,e),m=f>0,p=h<0;return c(u.before,u.after)?p&&m:m||p}return rj(u)?o(e,u.after)>0:aj(u)?o(u.before,e)>0:typeof u=="function"?u(e):!1})}function fK(e,t,n){const{disabled:r,hidden:s,modifiers:o,showOutsideDays:c,broadcastCalendar:u,today:f}=t,{isSameDay:h,isSameMonth:m,startOfMonth:p,isBefore:b,endOfMonth:w,isAfter:S}=n,E=t.startMonth&&p(t.startMonth),C=t.endMonth&&w(t.endMonth),T={[ln.focused]:[],[ln.outside]:[],[ln.disabled]:[],[ln.hidden]:[],[ln.today]:[]},_={};for(const A of e){const{date:O,displayMonth:R}=A,D=!!(R&&!m(O,R)),L=!!(E&&b(O,E)),k=!!(C&&S(O,C)),H=!!(r&&js(O,r,n)),X=!!(s&&js(O,s,n))||L||k||!u&&!c&&D||u&&c===!1&&D,oe=h(O,f??n.today());D&&T.outside.push(A),H&&T.disabled.push(A),X&&T.hidden.push(A),oe&&T.today.push(A),o&&Object.keys(o).forEach(ce=>{const de=o==null?void 0:o[ce];de&&js(O,de,n)&&(_[ce]?_[ce].push(A):_[ce]=[A])})}return A=>{const O={[ln.focused]:!1,[ln.disabled]:!1,[ln.hidden]:!1,[ln.outside]:!1,[ln.today]:!1},R={};for(const D in T){const L=T[D];O[D]=L.some(k=>k===A)}for(const D in _)R[D]=_[D].some(L=>L===A);return{...O,...R}}}function hK(e,t,n={}){return Object.entries(e).filter(([,s])=>s===!0).reduce((s,[o])=>(n[o]?s.push(n[o]):t[ln[o]]?s.push(t[ln[o]]):t[ka[o]]&&s.push(t[ka[o]]),s),[t[Ye.Day]])}function mK(e){return G.createElement("button",{...e})}function pK(e){return G.createElement("span",{...e})}function gK(e){const{size:t=24,orientation:n="left",className:r}=e;return G.createElement("svg",{className:r,width:t,height:t,viewBox:"0 0 24 24"},n==="up"&&G.createElement("polygon",{points:"6.77 17 12.5 11.43 18.24 17 20 15.28 12.5 8 5 15.28"}),n==="down"&&G.createElement("polygon",{points:"6.77 8 12.5 13.57 18.24 8 20 9.72 12.5 17 5 9.72"}),n==="left"&&G.createElement("polygon",{points:"16 18.112 9.81111111 12 16 5.87733333 14.0888889 4 6 12 14.0888889 20"}),n==="right"&&G.createElement("polygon",{points:"8 18.112 14.18888889 12 8 5.87733333 9.91111111 4 18 12 9.91111111 20"}))}function yK(e){const{day:t,modifiers:n,...r}=e;return G.createElement("td",{...r})}function vK(e){const{day:t,modifiers:n,...r}=e,s=G.useRef(null);return G.useEffect(()=>{var o;n.focused&&((o=s.current)==null||o.focus())},[n.focused]),G.createElement("button",{ref:s,...r})}function bK(e){const{options:t,className:n,components:r,classNames:s,...o}=e,c=[s[Ye.Dropdown],n].join(" "),u=t==null?void 0:t.find(({value:f})=>f===o.value);return G.createElement("span",{"data-disabled":o.disabled,className:s[Ye.DropdownRoot]},G.createElement(r.Select,{className:c,...o},t==null?void 0:t.map(({value:f,label:h,disabled:m})=>G.createElement(r.Option,{key:f,value:f,disabled:m},h))),G.createElement("span",{className:s[Ye.CaptionLabel],"aria-hidden":!0},u==null?void 0:u.label,G.createElement(r.Chevron,{orientation:"down",size:18,className:s[Ye.Chevron]})))}function xK(e){return G.createElement("div",{...e})}function wK(e){return G.createElement("div",{...e})}function SK(e){const{calendarMonth:t,displayIndex:n,...r}=e;return G.createElement("div",{...r},e.children)}function EK(e){const{calendarMonth:t,displayIndex:n,...r}=e;return G.createElement("div",{...r})}function CK(e){return G.createElement("table",{...e})}function TK(e){return G.createElement("div",{...e})}const oj=x.createContext(void 0);function hf(){const e=x.useContext(oj);if(e===void 0)throw new Error("useDayPicker() must be used within a custom component.");return e}function MK(e){const{components:t}=hf();return G.createElement(t.Dropdown,{...e})}function _K(e){const{onPreviousClick:t,onNextClick:n,previousMonth:r,nextMonth:s,...o}=e,{components:c,classNames:u,labels:{labelPrevious:f,labelNext:h}}=hf(),m=x.useCallback(b=>{s&&(n==null||n(b))},[s,n]),p=x.useCallback(b=>{r&&(t==null||t(b))},[r,t]);return G.createElement("nav",{...o},G.createElement(c.PreviousMonthButton,{type:"button",className:u[Ye.PreviousMonthButton],tabIndex:r?void 0:-1,"aria-disabled":r?void 0:!0,"aria-label":f(r),onClick:p},G.createElement(c.Chevron,{disabled:r?void 0:!0,className:u[Ye.Chevron],orientation:"left"})),G.createElement(c.NextMonthButton,{type:"button",className:u[Ye.NextMonthButton],tabIndex:s?void 0:-1,"aria-disabled":s?void 0:!0,"aria-label":h(s),onClick:m},G.createElement(c.Chevron,{disabled:s?void 0:!0,orientation:"right",className:u[Ye.Chevron]})))}function AK(e){const{components:t}=hf();return G.createElement(t.Button,{...e})}function RK(e){return G.createElement("option",{...e})}function DK(e){const{components:t}=hf();return G.createElement(t.Button,{...e})}function NK(e){const{rootRef:t,...n}=e;return G.createElement("div",{...n,ref:t})}function OK(e){return G.createElement("select",{...e})}function kK(e){const{week:t,...n}=e;return G.createElement("tr",{...n})}function jK(e){return G.createElement("th",{...e})}function PK(e){return G.createElement("thead",{"aria-hidden":!0},G.createElement("tr",{...e}))}function LK(e){const{week:t,...n}=e;return G.createElement("th",{...n})}function VK(e){return G.createElement("th",{...e})}function zK(e){return G.createElement("tbody",{...e})}function BK(e){const{components:t}=hf();return G.createElement(t.Dropdown,{...e})}const UK=Object.freeze(Object.defineProperty({__proto__:null,Button:mK,CaptionLabel:pK,Chevron:gK,Day:yK,DayButton:vK,Dropdown:bK,DropdownNav:xK,Footer:wK,Month:SK,MonthCaption:EK,MonthGrid:CK,Months:TK,MonthsDropdown:MK,Nav:_K,NextMonthButton:AK,Option:RK,PreviousMonthButton:DK,Root:NK,Select:OK,Week:kK,WeekNumber:LK,WeekNumberHeader:VK,Weekday:jK,Weekdays:PK,Weeks:zK,YearsDropdown:BK},Symbol.toStringTag,{value:"Module"}));function FK(e){return{...UK,...e}}function IK(e){const t={"data-mode":e.mode??void 0,"data-required":"required"in e?e.required:void 0,"data-multiple-months":e.numberOfMonths&&e.numberOfMonths>1||void 0,"data-week-numbers":e.showWeekNumber||void 0,"data-broadcast-calendar":e.broadcastCalendar||void 0,"data-nav-layout":e.navLayout||void 0};return Object.entries(e).forEach(([n,r])=>{n.startsWith("data-")&&(t[n]=r)}),t}function Hx(){const e={};for(const t in Ye)e[Ye[t]]=`rdp-${Ye[t]}`;for(const t in ln)e[ln[t]]=`rdp-${ln[t]}`;for(const t in ka)e[ka[t]]=`rdp-${ka[t]}`;for(const t in Gr)e[Gr[t]]=`rdp-${Gr[t]}`;return e}function lj(e,t,n){return(n??new Zs(t)).format(e,"LLLL y")}const HK=lj;function $K(e,t,n){return(n??new Zs(t)).format(e,"d")}function qK(e,t=ds){return t.format(e,"LLLL")}function YK(e,t=ds){return e<10?t.formatNumber(`0${e.toLocaleString()}`):t.formatNumber(`${e.toLocaleString()}`)}function GK(){return""}function WK(e,t,n){return(n??new Zs(t)).format(e,"cccccc")}function cj(e,t=ds){return t.format(e,"yyyy")}const KK=cj,ZK=Object.freeze(Object.defineProperty({__proto__:null,formatCaption:lj,formatDay:$K,formatMonthCaption:HK,formatMonthDropdown:qK,formatWeekNumber:YK,formatWeekNumberHeader:GK,formatWeekdayName:WK,formatYearCaption:KK,formatYearDropdown:cj},Symbol.toStringTag,{value:"Module"}));function XK(e){return e!=null&&e.formatMonthCaption&&!e.formatCaption&&(e.formatCaption=e.formatMonthCaption),e!=null&&e.formatYearCaption&&!e.formatYearDropdown&&(e.formatYearDropdown=e.formatYearCaption),{...ZK,...e}}function QK(e,t,n,r,s){const{startOfMonth:o,startOfYear:c,endOfYear:u,eachMonthOfInterval:f,getMonth:h}=s;return f({start:c(e),end:u(e)}).map(b=>{const w=r.formatMonthDropdown(b,s),S=h(b),E=t&&b<o(t)||n&&b>o(n)||!1;return{value:S,label:w,disabled:E}})}function JK(e,t={},n={}){let r={...t==null?void 0:t[Ye.Day]};return Object.entries(e).filter(([,s])=>s===!0).forEach(([s])=>{r={...r,...n==null?void 0:n[s]}}),r}function eZ(e,t,n){const r=e.today(),s=t?e.startOfISOWeek(r):e.startOfWeek(r),o=[];for(let c=0;c<7;c++){const u=e.addDays(s,c);o.push(u)}return o}function tZ(e,t,n,r){if(!e||!t)return;const{startOfYear:s,endOfYear:o,addYears:c,getYear:u,isBefore:f,isSameYear:h}=r,m=s(e),p=o(t),b=[];let w=m;for(;f(w,p)||h(w,p);)b.push(w),w=c(w,1);return b.map(S=>{const E=n.formatYearDropdown(S,r);return{value:u(S),label:E,disabled:!1}})}function uj(e,t,n){return(n??new Zs(t)).format(e,"LLLL y")}const nZ=uj;function rZ(e,t,n,r){let s=(r??new Zs(n)).format(e,"PPPP");return t!=null&&t.today&&(s=`Today, ${s}`),s}function dj(e,t,n,r){let s=(r??new Zs(n)).format(e,"PPPP");return t.today&&(s=`Today, ${s}`),t.selected&&(s=`${s}, selected`),s}const aZ=dj;function sZ(){return""}function iZ(e){return"Choose the Month"}function oZ(e){return"Go to the Next Month"}function lZ(e){return"Go to the Previous Month"}function cZ(e,t,n){return(n??new Zs(t)).format(e,"cccc")}function uZ(e,t){return`Week ${e}`}function dZ(e){return"Week Number"}function fZ(e){return"Choose the Year"}const hZ=Object.freeze(Object.defineProperty({__proto__:null,labelCaption:nZ,labelDay:aZ,labelDayButton:dj,labelGrid:uj,labelGridcell:rZ,labelMonthDropdown:iZ,labelNav:sZ,labelNext:oZ,labelPrevious:lZ,labelWeekNumber:uZ,labelWeekNumberHeader:dZ,labelWeekday:cZ,labelYearDropdown:fZ},Symbol.toStringTag,{value:"Module"})),mf=e=>e instanceof HTMLElement?e:null,pv=e=>[...e.querySelectorAll("[data-animated-month]")??[]],mZ=e=>mf(e.querySelector("[data-animated-month]")),gv=e=>mf(e.querySelector("[data-animated-caption]")),yv=e=>mf(e.querySelector("[data-animated-weeks]")),pZ=e=>mf(e.querySelector("[data-animated-nav]")),gZ=e=>mf(e.querySelector("[data-animated-weekdays]"));function yZ(e,t,{classNames:n,months:r,focused:s,dateLib:o}){const c=x.useRef(null),u=x.useRef(r),f=x.useRef(!1);x.useLayoutEffect(()=>{const h=u.current;if(u.current=r,!t||!e.current||!(e.current instanceof HTMLElement)||r.length===0||h.length===0||r.length!==h.length)return;const m=o.isSameMonth(r[0].date,h[0].date),p=o.isAfter(r[0].date,h[0].date),b=p?n[Gr.caption_after_enter]:n[Gr.caption_before_enter],w=p?n[Gr.weeks_after_enter]:n[Gr.weeks_before_enter],S=c.current,E=e.current.cloneNode(!0);if(E instanceof HTMLElement?(pv(E).forEach(A=>{if(!(A instanceof HTMLElement))return;const O=mZ(A);O&&A.contains(O)&&A.removeChild(O);const R=gv(A);R&&R.classList.remove(b);const D=yv(A);D&&D.classList.remove(w)}),c.current=E):c.current=null,f.current||m||s)return;const C=S instanceof HTMLElement?pv(S):[],T=pv(e.current);if(T&&T.every(_=>_ instanceof HTMLElement)&&C&&C.every(_=>_ instanceof HTMLElement)){f.current=!0,e.current.style.isolation="isolate";const _=pZ(e.current);_&&(_.style.zIndex="1"),T.forEach((A,O)=>{const R=C[O];if(!R)return;A.style.position="relative",A.style.overflow="hidden";const D=gv(A);D&&D.classList.add(b);const L=yv(A);L&&L.classList.add(w);const k=()=>{f.current=!1,e.current&&(e.current.style.isolation=""),_&&(_.style.zIndex=""),D&&D.classList.remove(b),L&&L.classList.remove(w),A.style.position="",A.style.overflow="",A.contains(R)&&A.removeChild(R)};R.style.pointerEvents="none",R.style.position="absolute",R.style.overflow="hidden",R.setAttribute("aria-hidden","true");const H=gZ(R);H&&(H.style.opacity="0");const X=gv(R);X&&(X.classList.add(p?n[Gr.caption_before_exit]:n[Gr.caption_after_exit]),X.addEventListener("animationend",k));const oe=yv(R);oe&&oe.classList.add(p?n[Gr.weeks_before_exit]:n[Gr.weeks_after_exit]),A.insertBefore(R,A.firstChild)})}})}function vZ(e,t,n,r){const s=e[0],o=e[e.length-1],{ISOWeek:c,fixedWeeks:u,broadcastCalendar:f}=n??{},{addDays:h,differenceInCalendarDays:m,differenceInCalendarMonths:p,endOfBroadcastWeek:b,endOfISOWeek:w,endOfMonth:S,endOfWeek:E,isAfter:C,startOfBroadcastWeek:T,startOfISOWeek:_,startOfWeek:A}=r,O=f?T(s,r):c?_(s):A(s),R=f?b(o):c?w(S(o)):E(S(o)),D=m(R,O),L=p(o,s)+1,k=[];for(let oe=0;oe<=D;oe++){const ce=h(O,oe);if(t&&C(ce,t))break;k.push(ce)}const X=(f?35:42)*L;if(u&&k.length<X){const oe=X-k.length;for(let ce=0;ce<oe;ce++){const de=h(k[k.length-1],1);k.push(de)}}return k}function bZ(e){const t=[];return e.reduce((n,r)=>{const s=r.weeks.reduce((o,c)=>[...o,...c.days],t);return[...n,...s]},t)}function xZ(e,t,n,r){const{numberOfMonths:s=1}=n,o=[];for(let c=0;c<s;c++){const u=r.addMonths(e,c);if(t&&u>t)break;o.push(u)}return o}function g_(e,t){const{month:n,defaultMonth:r,today:s=t.today(),numberOfMonths:o=1,endMonth:c,startMonth:u}=e;let f=n||r||s;const{differenceInCalendarMonths:h,addMonths:m,startOfMonth:p}=t;if(c&&h(c,f)<0){const b=-1*(o-1);f=m(c,b)}return u&&h(f,u)<0&&(f=u),p(f)}function wZ(e,t,n,r){const{addDays:s,endOfBroadcastWeek:o,endOfISOWeek:c,endOfMonth:u,endOfWeek:f,getISOWeek:h,getWeek:m,startOfBroadcastWeek:p,startOfISOWeek:b,startOfWeek:w}=r,S=e.reduce((E,C)=>{const T=n.broadcastCalendar?p(C,r):n.ISOWeek?b(C):w(C),_=n.broadcastCalendar?o(C):n.ISOWeek?c(u(C)):f(u(C)),A=t.filter(L=>L>=T&&L<=_),O=n.broadcastCalendar?35:42;if(n.fixedWeeks&&A.length<O){const L=t.filter(k=>{const H=O-A.length;return k>_&&k<=s(_,H)});A.push(...L)}const R=A.reduce((L,k)=>{const H=n.ISOWeek?h(k):m(k),X=L.find(ce=>ce.weekNumber===H),oe=new tj(k,C,r);return X?X.days.push(oe):L.push(new dK(H,[oe])),L},[]),D=new uK(C,R);return E.push(D),E},[]);return n.reverseMonths?S.reverse():S}function SZ(e,t){let{startMonth:n,endMonth:r}=e;const{startOfYear:s,startOfDay:o,startOfMonth:c,endOfMonth:u,addYears:f,endOfYear:h,newDate:m,today:p}=t,{fromYear:b,toYear:w,fromMonth:S,toMonth:E}=e;!n&&S&&(n=S),!n&&b&&(n=t.newDate(b,0,1)),!r&&E&&(r=E),!r&&w&&(r=m(w,11,31));const C=e.captionLayout==="dropdown"||e.captionLayout==="dropdown-years";return n?n=c(n):b?n=m(b,0,1):!n&&C&&(n=s(f(e.today??p(),-100))),r?r=u(r):w?r=m(w,11,31):!r&&C&&(r=h(e.today??p())),[n&&o(n),r&&o(r)]}function EZ(e,t,n,r){if(n.disableNavigation)return;const{pagedNavigation:s,numberOfMonths:o=1}=n,{startOfMonth:c,addMonths:u,differenceInCalendarMonths:f}=r,h=s?o:1,m=c(e);if(!t)return u(m,h);if(!(f(t,e)<o))return u(m,h)}function CZ(e,t,n,r){if(n.disableNavigation)return;const{pagedNavigation:s,numberOfMonths:o}=n,{startOfMonth:c,addMonths:u,differenceInCalendarMonths:f}=r,h=s?o??1:1,m=c(e);if(!t)return u(m,-h);if(!(f(m,t)<=0))return u(m,-h)}function TZ(e){const t=[];return e.reduce((n,r)=>[...n,...r.weeks],t)}function mp(e,t){const[n,r]=x.useState(e);return[t===void 0?n:t,r]}function MZ(e,t){const[n,r]=SZ(e,t),{startOfMonth:s,endOfMonth:o}=t,c=g_(e,t),[u,f]=mp(c,e.month?c:void 0);x.useEffect(()=>{const D=g_(e,t);f(D)},[e.timeZone]);const h=xZ(u,r,e,t),m=vZ(h,e.endMonth?o(e.endMonth):void 0,e,t),p=wZ(h,m,e,t),b=TZ(p),w=bZ(p),S=CZ(u,n,e,t),E=EZ(u,r,e,t),{disableNavigation:C,onMonthChange:T}=e,_=D=>b.some(L=>L.days.some(k=>k.isEqualTo(D))),A=D=>{if(C)return;let L=s(D);n&&L<s(n)&&(L=s(n)),r&&L>s(r)&&(L=s(r)),f(L),T==null||T(L)};return{months:p,weeks:b,days:w,navStart:n,navEnd:r,previousMonth:S,nextMonth:E,goToMonth:A,goToDay:D=>{_(D)||A(D.date)}}}var Ga;(function(e){e[e.Today=0]="Today",e[e.Selected=1]="Selected",e[e.LastFocused=2]="LastFocused",e[e.FocusedModifier=3]="FocusedModifier"})(Ga||(Ga={}));function y_(e){return!e[ln.disabled]&&!e[ln.hidden]&&!e[ln.outside]}function _Z(e,t,n,r){let s,o=-1;for(const c of e){const u=t(c);y_(u)&&(u[ln.focused]&&o<Ga.FocusedModifier?(s=c,o=Ga.FocusedModifier):r!=null&&r.isEqualTo(c)&&o<Ga.LastFocused?(s=c,o=Ga.LastFocused):n(c.date)&&o<Ga.Selected?(s=c,o=Ga.Selected):u[ln.today]&&o<Ga.Today&&(s=c,o=Ga.Today))}return s||(s=e.find(c=>y_(t(c)))),s}function AZ(e,t,n,r,s,o,c){const{ISOWeek:u,broadcastCalendar:f}=o,{addDays:h,addMonths:m,addWeeks:p,addYears:b,endOfBroadcastWeek:w,endOfISOWeek:S,endOfWeek:E,max:C,min:T,startOfBroadcastWeek:_,startOfISOWeek:A,startOfWeek:O}=c;let D={day:h,week:p,month:m,year:b,startOfWeek:L=>f?_(L,c):u?A(L):O(L),endOfWeek:L=>f?w(L):u?S(L):E(L)}[e](n,t==="after"?1:-1);return t==="before"&&r?D=C([r,D]):t==="after"&&s&&(D=T([s,D])),D}function fj(e,t,n,r,s,o,c,u=0){if(u>365)return;const f=AZ(e,t,n.date,r,s,o,c),h=!!(o.disabled&&js(f,o.disabled,c)),m=!!(o.hidden&&js(f,o.hidden,c)),p=f,b=new tj(f,p,c);return!h&&!m?b:fj(e,t,b,r,s,o,c,u+1)}function RZ(e,t,n,r,s){const{autoFocus:o}=e,[c,u]=x.useState(),f=_Z(t.days,n,r||(()=>!1),c),[h,m]=x.useState(o?f:void 0);return{isFocusTarget:E=>!!(f!=null&&f.isEqualTo(E)),setFocused:m,focused:h,blur:()=>{u(h),m(void 0)},moveFocus:(E,C)=>{if(!h)return;const T=fj(E,C,h,t.navStart,t.navEnd,e,s);T&&(t.goToDay(T),m(T))}}}function DZ(e,t){const{selected:n,required:r,onSelect:s}=e,[o,c]=mp(n,s?n:void 0),u=s?n:o,{isSameDay:f}=t,h=w=>(u==null?void 0:u.some(S=>f(S,w)))??!1,{min:m,max:p}=e;return{selected:u,select:(w,S,E)=>{let C=[...u??[]];if(h(w)){if((u==null?void 0:u.length)===m||r&&(u==null?void 0:u.length)===1)return;C=u==null?void 0:u.filter(T=>!f(T,w))}else(u==null?void 0:u.length)===p?C=[w]:C=[...C,w];return s||c(C),s==null||s(C,w,S,E),C},isSelected:h}}function NZ(e,t,n=0,r=0,s=!1,o=ds){const{from:c,to:u}=t||{},{isSameDay:f,isAfter:h,isBefore:m}=o;let p;if(!c&&!u)p={from:e,to:n>0?void 0:e};else if(c&&!u)f(c,e)?s?p={from:c,to:void 0}:p=void 0:m(e,c)?p={from:e,to:c}:p={from:c,to:e};else if(c&&u)if(f(c,e)&&f(u,e))s?p={from:c,to:u}:p=void 0;else if(f(c,e))p={from:c,to:n>0?void 0:e};else if(f(u,e))p={from:e,to:n>0?void 0:e};else if(m(e,c))p={from:e,to:u};else if(h(e,c))p={from:c,to:e};else if(h(e,u))p={from:c,to:e};else throw new Error("Invalid range");if(p!=null&&p.from&&(p!=null&&p.to)){const b=o.differenceInCalendarDays(p.to,p.from);r>0&&b>r?p={from:e,to:void 0}:n>1&&b<n&&(p={from:e,to:void 0})}return p}function OZ(e,t,n=ds){const r=Array.isArray(t)?t:[t];let s=e.from;const o=n.differenceInCalendarDays(e.to,e.from),c=Math.min(o,6);for(let u=0;u<=c;u++){if(r.includes(s.getDay()))return!0;s=n.addDays(s,1)}return!1}function v_(e,t,n=ds){return ks(e,t.from,!1,n)||ks(e,t.to,!1,n)||ks(t,e.from,!1,n)||ks(t,e.to,!1,n)}function kZ(e,t,n=ds){const r=Array.isArray(t)?t:[t];if(r.filter(u=>typeof u!="function").some(u=>typeof u=="boolean"?u:n.isDate(u)?ks(e,u,!1,n):ij(u,n)?u.some(f=>ks(e,f,!1,n)):Ix(u)?u.from&&u.to?v_(e,{from:u.from,to:u.to},n):!1:sj(u)?OZ(e,u.dayOfWeek,n):nj(u)?n.isAfter(u.before,u.after)?v_(e,{from:n.addDays(u.after,1),to:n.addDays(u.before,-1)},n):js(e.from,u,n)||js(e.to,u,n):rj(u)||aj(u)?js(e.from,u,n)||js(e.to,u,n):!1))return!0;const c=r.filter(u=>typeof u=="function");if(c.length){let u=e.from;const f=n.differenceInCalendarDays(e.to,e.from);for(let h=0;h<=f;h++){if(c.some(m=>m(u)))return!0;u=n.addDays(u,1)}}return!1}function jZ(e,t){const{disabled:n,excludeDisabled:r,selected:s,required:o,onSelect:c}=e,[u,f]=mp(s,c?s:void 0),h=c?s:u;return{selected:h,select:(b,w,S)=>{const{min:E,max:C}=e,T=b?NZ(b,h,E,C,o,t):void 0;return r&&n&&(T!=null&&T.from)&&T.to&&kZ({from:T.from,to:T.to},n,t)&&(T.from=b,T.to=void 0),c||f(T),c==null||c(T,b,w,S),T},isSelected:b=>h&&ks(h,b,!1,t)}}function PZ(e,t){const{selected:n,required:r,onSelect:s}=e,[o,c]=mp(n,s?n:void 0),u=s?n:o,{isSameDay:f}=t;return{selected:u,select:(p,b,w)=>{let S=p;return!r&&u&&u&&f(p,u)&&(S=void 0),s||c(S),s==null||s(S,p,b,w),S},isSelected:p=>u?f(u,p):!1}}function LZ(e,t){const n=PZ(e,t),r=DZ(e,t),s=jZ(e,t);switch(e.mode){case"single":return n;case"multiple":return r;case"range":return s;default:return}}function VZ(e){var ar;let t=e;t.timeZone&&(t={...e},t.today&&(t.today=new ur(t.today,t.timeZone)),t.month&&(t.month=new ur(t.month,t.timeZone)),t.defaultMonth&&(t.defaultMonth=new ur(t.defaultMonth,t.timeZone)),t.startMonth&&(t.startMonth=new ur(t.startMonth,t.timeZone)),t.endMonth&&(t.endMonth=new ur(t.endMonth,t.timeZone)),t.mode==="single"&&t.selected?t.selected=new ur(t.selected,t.timeZone):t.mode==="multiple"&&t.selected?t.selected=(ar=t.selected)==null?void 0:ar.map($e=>new ur($e,t.timeZone)):t.mode==="range"&&t.selected&&(t.selected={from:t.selected.from?new ur(t.selected.from,t.timeZone):void 0,to:t.selected.to?new ur(t.selected.to,t.timeZone):void 0}));const{components:n,formatters:r,labels:s,dateLib:o,locale:c,classNames:u}=x.useMemo(()=>{const $e={...Fx,...t.locale};return{dateLib:new Zs({locale:$e,weekStartsOn:t.broadcastCalendar?1:t.weekStartsOn,firstWeekContainsDate:t.firstWeekContainsDate,useAdditionalWeekYearTokens:t.useAdditionalWeekYearTokens,useAdditionalDayOfYearTokens:t.useAdditionalDayOfYearTokens,timeZone:t.timeZone,numerals:t.numerals},t.dateLib),components:FK(t.components),formatters:XK(t.formatters),labels:{...hZ,...t.labels},locale:$e,classNames:{...Hx(),...t.classNames}}},[t.locale,t.broadcastCalendar,t.weekStartsOn,t.firstWeekContainsDate,t.useAdditionalWeekYearTokens,t.useAdditionalDayOfYearTokens,t.timeZone,t.numerals,t.dateLib,t.components,t.formatters,t.labels,t.classNames]),{captionLayout:f,mode:h,navLayout:m,numberOfMonths:p=1,onDayBlur:b,onDayClick:w,onDayFocus:S,onDayKeyDown:E,onDayMouseEnter:C,onDayMouseLeave:T,onNextClick:_,onPrevClick:A,showWeekNumber:O,styles:R}=t,{formatCaption:D,formatDay:L,formatMonthDropdown:k,formatWeekNumber:H,formatWeekNumberHeader:X,formatWeekdayName:oe,formatYearDropdown:ce}=r,de=MZ(t,o),{days:Q,months:fe,navStart:P,navEnd:K,previousMonth:I,nextMonth:J,goToMonth:j}=de,W=fK(Q,t,o),{isSelected:B,select:q,selected:le}=LZ(t,o)??{},{blur:ge,focused:he,isFocusTarget:Se,moveFocus:_e,setFocused:ke}=RZ(t,de,W,B??(()=>!1),o),{labelDayButton:Fe,labelGridcell:nt,labelGrid:Me,labelMonthDropdown:ct,labelNav:ot,labelPrevious:Yt,labelNext:an,labelWeekday:At,labelWeekNumber:zn,labelWeekNumberHeader:Ot,labelYearDropdown:z}=s,ee=x.useMemo(()=>eZ(o,t.ISOWeek),[o,t.ISOWeek]),se=h!==void 0||w!==void 0,Ee=x.useCallback(()=>{I&&(j(I),A==null||A(I))},[I,j,A]),Ce=x.useCallback(()=>{J&&(j(J),_==null||_(J))},[j,J,_]),we=x.useCallback(($e,kt)=>bt=>{bt.preventDefault(),bt.stopPropagation(),ke($e),q==null||q($e.date,kt,bt),w==null||w($e.date,kt,bt)},[q,w,ke]),Ae=x.useCallback(($e,kt)=>bt=>{ke($e),S==null||S($e.date,kt,bt)},[S,ke]),Be=x.useCallback(($e,kt)=>bt=>{ge(),b==null||b($e.date,kt,bt)},[ge,b]),lt=x.useCallback(($e,kt)=>bt=>{const hn={ArrowLeft:["day",t.dir==="rtl"?"after":"before"],ArrowRight:["day",t.dir==="rtl"?"before":"after"],ArrowDown:["week","after"],ArrowUp:["week","before"],PageUp:[bt.shiftKey?"year":"month","before"],PageDown:[bt.shiftKey?"year":"month","after"],Home:["startOfWeek","before"],End:["endOfWeek","after"]};if(hn[bt.key]){bt.preventDefault(),bt.stopPropagation();const[mn,Ge]=hn[bt.key];_e(mn,Ge)}E==null||E($e.date,kt,bt)},[_e,E,t.dir]),pt=x.useCallback(($e,kt)=>bt=>{C==null||C($e.date,kt,bt)},[C]),tn=x.useCallback(($e,kt)=>bt=>{T==null||T($e.date,kt,bt)},[T]),Gt=x.useCallback($e=>kt=>{const bt=Number(kt.target.value),hn=o.setMonth(o.startOfMonth($e),bt);j(hn)},[o,j]),Bn=x.useCallback($e=>kt=>{const bt=Number(kt.target.value),hn=o.setYear(o.startOfMonth($e),bt);j(hn)},[o,j]),{className:An,style:Qn}=x.useMemo(()=>({className:[u[Ye.Root],t.className].filter(Boolean).join(" "),style:{...R==null?void 0:R[Ye.Root],...t.style}}),[u,t.className,t.style,R]),Yn=IK(t),Gn=x.useRef(null);yZ(Gn,!!t.animate,{classNames:u,months:fe,focused:he,dateLib:o});const Wn={dayPickerProps:t,selected:le,select:q,isSelected:B,months:fe,nextMonth:J,previousMonth:I,goToMonth:j,getModifiers:W,components:n,classNames:u,styles:R,labels:s,formatters:r};return G.createElement(oj.Provider,{value:Wn},G.createElement(n.Root,{rootRef:t.animate?Gn:void 0,className:An,style:Qn,dir:t.dir,id:t.id,lang:t.lang,nonce:t.nonce,title:t.title,role:t.role,"aria-label":t["aria-label"],...Yn},G.createElement(n.Months,{className:u[Ye.Months],style:R==null?void 0:R[Ye.Months]},!t.hideNavigation&&!m&&G.createElement(n.Nav,{"data-animated-nav":t.animate?"true":void 0,className:u[Ye.Nav],style:R==null?void 0:R[Ye.Nav],"aria-label":ot(),onPreviousClick:Ee,onNextClick:Ce,previousMonth:I,nextMonth:J}),fe.map(($e,kt)=>{const bt=QK($e.date,P,K,r,o),hn=tZ(P,K,r,o);return G.createElement(n.Month,{"data-animated-month":t.animate?"true":void 0,className:u[Ye.Month],style:R==null?void 0:R[Ye.Month],key:kt,displayIndex:kt,calendarMonth:$e},m==="around"&&!t.hideNavigation&&kt===0&&G.createElement(n.PreviousMonthButton,{type:"button",className:u[Ye.PreviousMonthButton],tabIndex:I?void 0:-1,"aria-disabled":I?void 0:!0,"aria-label":Yt(I),onClick:Ee,"data-animated-button":t.animate?"true":void 0},G.createElement(n.Chevron,{disabled:I?void 0:!0,className:u[Ye.Chevron],orientation:t.dir==="rtl"?"right":"left"})),G.createElement(n.MonthCaption,{"data-animated-caption":t.animate?"true":void 0,className:u[Ye.MonthCaption],style:R==null?void 0:R[Ye.MonthCaption],calendarMonth:$e,displayIndex:kt},f!=null&&f.startsWith("dropdown")?G.createElement(n.DropdownNav,{className:u[Ye.Dropdowns],style:R==null?void 0:R[Ye.Dropdowns]},f==="dropdown"||f==="dropdown-months"?G.createElement(n.MonthsDropdown,{className:u[Ye.MonthsDropdown],"aria-label":ct(),classNames:u,components:n,disabled:!!t.disableNavigation,onChange:Gt($e.date),options:bt,style:R==null?void 0:R[Ye.Dropdown],value:o.getMonth($e.date)}):G.createElement("span",null,k($e.date,o)),f==="dropdown"||f==="dropdown-years"?G.createElement(n.YearsDropdown,{className:u[Ye.YearsDropdown],"aria-label":z(o.options),classNames:u,components:n,disabled:!!t.disableNavigation,onChange:Bn($e.date),options:hn,style:R==null?void 0:R[Ye.Dropdown],value:o.getYear($e.date)}):G.createElement("span",null,ce($e.date,o)),G.createElement("span",{role:"status","aria-live":"polite",style:{border:0,clip:"rect(0 0 0 0)",height:"1px",margin:"-1px",overflow:"hidden",padding:0,position:"absolute",width:"1px",whiteSpace:"nowrap",wordWrap:"normal"}},D($e.date,o.options,o))):G.createElement(n.CaptionLabel,{className:u[Ye.CaptionLabel],role:"status","aria-live":"polite"},D($e.date,o.options,o))),m==="around"&&!t.hideNavigation&&kt===p-1&&G.createElement(n.NextMonthButton,{type:"button",className:u[Ye.NextMonthButton],tabIndex:J?void 0:-1,"aria-disabled":J?void 0:!0,"aria-label":an(J),onClick:Ce,"data-animated-button":t.animate?"true":void 0},G.createElement(n.Chevron,{disabled:J?void 0:!0,className:u[Ye.Chevron],orientation:t.dir==="rtl"?"left":"right"})),kt===p-1&&m==="after"&&!t.hideNavigation&&G.createElement(n.Nav,{"data-animated-nav":t.animate?"true":void 0,className:u[Ye.Nav],style:R==null?void 0:R[Ye.Nav],"aria-label":ot(),onPreviousClick:Ee,onNextClick:Ce,previousMonth:I,nextMonth:J}),G.createElement(n.MonthGrid,{role:"grid","aria-multiselectable":h==="multiple"||h==="range","aria-label":Me($e.date,o.options,o)||void 0,className:u[Ye.MonthGrid],style:R==null?void 0:R[Ye.MonthGrid]},!t.hideWeekdays&&G.createElement(n.Weekdays,{"data-animated-weekdays":t.animate?"true":void 0,className:u[Ye.Weekdays],style:R==null?void 0:R[Ye.Weekdays]},O&&G.createElement(n.WeekNumberHeader,{"aria-label":Ot(o.options),className:u[Ye.WeekNumberHeader],style:R==null?void 0:R[Ye.WeekNumberHeader],scope:"col"},X()),ee.map((mn,Ge)=>G.createElement(n.Weekday,{"aria-label":At(mn,o.options,o),className:u[Ye.Weekday],key:Ge,style:R==null?void 0:R[Ye.Weekday],scope:"col"},oe(mn,o.options,o)))),G.createElement(n.Weeks,{"data-animated-weeks":t.animate?"true":void 0,className:u[Ye.Weeks],style:R==null?void 0:R[Ye.Weeks]},$e.weeks.map((mn,Ge)=>G.createElement(n.Week,{className:u[Ye.Week],key:mn.weekNumber,style:R==null?void 0:R[Ye.Week],week:mn},O&&G.createElement(n.WeekNumber,{week:mn,style:R==null?void 0:R[Ye.WeekNumber],"aria-label":zn(mn.weekNumber,{locale:c}),className:u[Ye.WeekNumber],scope:"row",role:"rowheader"},H(mn.weekNumber,o)),mn.days.map(it=>{const{date:_t}=it,Qe=W(it);if(Qe[ln.focused]=!Qe.hidden&&!!(he!=null&&he.isEqualTo(it)),Qe[ka.selected]=(B==null?void 0:B(_t))||Qe.selected,Ix(le)){const{from:pe,to:xe}=le;Qe[ka.range_start]=!!(pe&&xe&&o.isSameDay(_t,pe)),Qe[ka.range_end]=!!(pe&&xe&&o.isSameDay(_t,xe)),Qe[ka.range_middle]=ks(le,_t,!0,o)}const U=JK(Qe,R,t.modifiersStyles),Y=hK(Qe,u,t.modifiersClassNames),ne=!se&&!Qe.hidden?nt(_t,Qe,o.options,o):void 0;return G.createElement(n.Day,{key:`${o.format(_t,"yyyy-MM-dd")}_${o.format(it.displayMonth,"yyyy-MM")}`,day:it,modifiers:Qe,className:Y.join(" "),style:U,role:"gridcell","aria-selected":Qe.selected||void 0,"aria-label":ne,"data-day":o.format(_t,"yyyy-MM-dd"),"data-month":it.outside?o.format(_t,"yyyy-MM"):void 0,"data-selected":Qe.selected||void 0,"data-disabled":Qe.disabled||void 0,"data-hidden":Qe.hidden||void 0,"data-outside":it.outside||void 0,"data-focused":Qe.focused||void 0,"data-today":Qe.today||void 0},!Qe.hidden&&se?G.createElement(n.DayButton,{className:u[Ye.DayButton],style:R==null?void 0:R[Ye.DayButton],type:"button",day:it,modifiers:Qe,disabled:Qe.disabled||void 0,tabIndex:Se(it)?0:-1,"aria-label":Fe(_t,Qe,o.options,o),onClick:we(it,Qe),onBlur:Be(it,Qe),onFocus:Ae(it,Qe),onKeyDown:lt(it,Qe),onMouseEnter:pt(it,Qe),onMouseLeave:tn(it,Qe)},L(_t,o.options,o)):!Qe.hidden&&L(it.date,o.options,o))}))))))})),t.footer&&G.createElement(n.Footer,{className:u[Ye.Footer],style:R==null?void 0:R[Ye.Footer],role:"status","aria-live":"polite"},t.footer)))}function zZ({className:e,classNames:t,showOutsideDays:n=!0,captionLayout:r="label",buttonVariant:s="ghost",formatters:o,components:c,...u}){const f=Hx();return g.jsx(VZ,{showOutsideDays:n,className:be("bg-background group/calendar p-3 [--cell-size:--spacing(8)] [[data-slot=card-content]_&]:bg-transparent [[data-slot=popover-content]_&]:bg-transparent",String.raw`rtl:**:[.rdp-button\_next>svg]:rotate-180`,String.raw`rtl:**:[.rdp-button\_previous>svg]:rotate-180`,e),captionLayout:r,formatters:{formatMonthDropdown:h=>h.toLocaleString("default",{month:"short"}),...o},classNames:{root:be("w-fit",f.root),months:be("flex gap-4 flex-col md:flex-row relative",f.months),month:be("flex flex-col w-full gap-4",f.month),nav:be("flex items-center gap-1 w-full absolute top-0 inset-x-0 justify-between",f.nav),button_previous:be(Cd({variant:s}),"size-(--cell-size) aria-disabled:opacity-50 p-0 select-none",f.button_previous),button_next:be(Cd({variant:s}),"size-(--cell-size) aria-disabled:opacity-50 p-0 select-none",f.button_next),month_caption:be("flex items-center justify-center h-(--cell-size) w-full px-(--cell-size)",f.month_caption),dropdowns:be("w-full flex items-center text-sm font-medium justify-center h-(--cell-size) gap-1.5",f.dropdowns),dropdown_root:be("relative has-focus:border-ring border border-input shadow-xs has-focus:ring-ring/50 has-focus:ring-[3px] rounded-md",f.dropdown_root),dropdown:be("absolute inset-0 opacity-0",f.dropdown),caption_label:be("select-none font-medium",r==="label"?"text-sm":"rounded-md pl-2 pr-1 flex items-center gap-1 text-sm h-8 [&>svg]:text-muted-foreground [&>svg]:size-3.5",f.caption_label),table:"w-full border-collapse",weekdays:be("flex",f.weekdays),weekday:be("text-muted-foreground rounded-md flex-1 font-normal text-[0.8rem] select-none",f.weekday),week:be("flex w-full mt-2",f.week),week_number_header:be("select-none w-(--cell-size)",f.week_number_header),week_number:be("text-[0.8rem] select-none text-muted-foreground",f.week_number),day:be("relative w-full h-full p-0 text-center [&:first-child[data-selected=true]_button]:rounded-l-md [&:last-child[data-selected=true]_button]:rounded-r-md group/day aspect-square select-none",f.day),range_start:be("rounded-l-md bg-accent",f.range_start),range_middle:be("rounded-none",f.range_middle),range_end:be("rounded-r-md bg-accent",f.range_end),today:be("bg-accent text-accent-foreground rounded-md data-[selected=true]:rounded-none",f.today),outside:be("text-muted-foreground aria-selected:text-muted-foreground",f.outside),disabled:be("text-muted-foreground opacity-50",f.disabled),hidden:be("invisible",f.hidden),...t},components:{Root:({className:h,rootRef:m,...p})=>g.jsx("div",{"data-slot":"calendar",ref:m,className:be(h),...p}),Chevron:({className:h,orientation:m,...p})=>m==="left"?g.jsx(bA,{className:be("size-4",h),...p}):m==="right"?g.jsx(i0,{className:be("size-4",h),...p}):g.jsx(vA,{className:be("size-4",h),...p}),DayButton:BZ,WeekNumber:({children:h,...m})=>g.jsx("td",{...m,children:g.jsx("div",{className:"flex size-(--cell-size) items-center justify-center text-center",children:h})}),...c},...u})}function BZ({className:e,day:t,modifiers:n,...r}){const s=Hx(),o=x.useRef(null);return x.useEffect(()=>{var c;n.focused&&((c=o.current)==null||c.focus())},[n.focused]),g.jsx(Ut,{ref:o,variant:"ghost",size:"icon","data-day":t.date.toLocaleDateString(),"data-selected-single":n.selected&&!n.range_start&&!n.range_end&&!n.range_middle,"data-range-start":n.range_start,"data-range-end":n.range_end,"data-range-middle":n.range_middle,className:be("data-[selected-single=true]:bg-primary data-[selected-single=true]:text-primary-foreground data-[range-middle=true]:bg-accent data-[range-middle=true]:text-accent-foreground data-[range-start=true]:bg-primary data-[range-start=true]:text-primary-foreground data-[range-end=true]:bg-primary data-[range-end=true]:text-primary-foreground group-data-[focused=true]/day:border-ring group-data-[focused=true]/day:ring-ring/50 dark:hover:text-accent-foreground flex aspect-square size-auto w-full min-w-(--cell-size) flex-col gap-1 leading-none font-normal group-data-[focused=true]/day:relative group-data-[focused=true]/day:z-10 group-data-[focused=true]/day:ring-[3px] data-[range-end=true]:rounded-md data-[range-end=true]:rounded-r-md data-[range-middle=true]:rounded-none data-[range-start=true]:rounded-md data-[range-start=true]:rounded-l-md [&>span]:text-xs [&>span]:opacity-70",s.day,e),...r})}function UZ(){const[e,t]=x.useState(!1),[n,r]=x.useState(!1),[s,o]=x.useState(void 0),c=Ws(),u=Jr(E=>E.vehicleId),f=Jr(E=>E.stationId),h=Jr(E=>E.pumpNumber),m=Jr(E=>E.setIsReserving),p=Jr(E=>E.resetValues),b=Hs({mutationFn:async E=>(await Tn.post("/charging-sessions",{userId:c==null?void 0:c.id,vehicleId:u,stationId:f,pumpNumber:h,isReserved:E,startTime:s?s.toISOString():new Date().toISOString()}),E),onSuccess:E=>{En.success(`Charging session ${E?"reserved":"started"} successfully!`),E||m(!0),p()},onError:E=>{En.error(`Failed to reserve charging session: ${E.message}`)}});function w(){b.mutate(!1)}function S(){b.mutate(!0),t(!1)}return g.jsx(Pr,{children:g.jsxs(Lr,{className:"flex justify-center items-center flex-col space-y-4",children:[g.jsx("span",{className:"text-gray-600 dark:text-white font-semibold",children:"Choose EV Station you would like to reserve"}),g.jsx(PG,{}),g.jsx(LG,{}),g.jsx(VG,{}),g.jsxs("div",{className:"flex items-center space-x-2",children:[g.jsxs(Bb,{open:e,onOpenChange:t,children:[g.jsx(Ub,{asChild:!0,children:g.jsx(Ut,{variant:"outline",disabled:!u||!h,children:"Reserve"})}),g.jsx(Fb,{children:g.jsxs("div",{className:"flex flex-col gap-4",children:[g.jsxs("div",{className:"flex items-center gap-4",children:[g.jsxs("div",{className:"flex flex-col gap-3",children:[g.jsx(eb,{htmlFor:"date",className:"px-1",children:"Date"}),g.jsxs(Bb,{open:n,onOpenChange:r,children:[g.jsx(Ub,{asChild:!0,children:g.jsxs(Ut,{variant:"outline",id:"date",className:"w-32 justify-between font-normal",children:[s?Jk(s,"dd/MM/yyyy"):"Select date",g.jsx(vA,{})]})}),g.jsx(Fb,{className:"w-auto overflow-hidden p-0",align:"start",children:g.jsx(zZ,{mode:"single",selected:s,captionLayout:"dropdown",onSelect:E=>{o(E),r(!1)}})})]})]}),g.jsxs("div",{className:"flex flex-col gap-3",children:[g.jsx(eb,{htmlFor:"time",className:"px-1",children:"Time"}),g.jsx(Cn,{type:"time",id:"time",step:"1",defaultValue:"10:30:00",className:"bg-background appearance-none [&::-webkit-calendar-picker-indicator]:hidden [&::-webkit-calendar-picker-indicator]:appearance-none"})]})]}),g.jsx(Ut,{onClick:S,children:"Confirm Reserve"})]})})]}),g.jsx(Ut,{disabled:!u||!h,onClick:w,children:"Start"})]})]})})}const FZ=Wm("inline-flex items-center justify-center rounded-md border text-xs font-medium w-fit whitespace-nowrap shrink-0 [&>svg]:size-3 [&>svg]:pointer-events-none focus-visible:border-ring focus-visible:ring-ring/50 focus-visible:ring-[3px] aria-invalid:ring-destructive/20 dark:aria-invalid:ring-destructive/40 aria-invalid:border-destructive transition-[color,box-shadow] overflow-hidden",{variants:{variant:{default:"border-transparent bg-primary text-primary-foreground [a&]:hover:bg-primary/90",secondary:"border-transparent bg-secondary text-secondary-foreground [a&]:hover:bg-secondary/90",destructive:"border-transparent bg-destructive text-white [a&]:hover:bg-destructive/90 focus-visible:ring-destructive/20 dark:focus-visible:ring-destructive/40 dark:bg-destructive/60",outline:"text-foreground [a&]:hover:bg-accent [a&]:hover:text-accent-foreground",success:"border-transparent bg-green-100 text-green-800 dark:bg-green-900 dark:text-green-100",warning:"border-transparent bg-yellow-100 text-yellow-800 dark:bg-yellow-900 dark:text-yellow-100",primary:"border-transparent bg-blue-100 text-blue-800 dark:bg-blue-900 dark:text-blue-100"},size:{default:"py-0.5  px-2 gap-1",lg:"py-1 px-3 gap-4"}},defaultVariants:{variant:"default",size:"default"}});function Or({className:e,variant:t,asChild:n=!1,...r}){const s=n?Cc:"span";return g.jsx(s,{"data-slot":"badge",className:be(FZ({variant:t}),e),...r})}function IZ(e){return Object.prototype.toString.call(e)==="[object Object]"}function b_(e){return IZ(e)||Array.isArray(e)}function HZ(){return!!(typeof window<"u"&&window.document&&window.document.createElement)}function $x(e,t){const n=Object.keys(e),r=Object.keys(t);if(n.length!==r.length)return!1;const s=JSON.stringify(Object.keys(e.breakpoints||{})),o=JSON.stringify(Object.keys(t.breakpoints||{}));return s!==o?!1:n.every(c=>{const u=e[c],f=t[c];return typeof u=="function"?`${u}`==`${f}`:!b_(u)||!b_(f)?u===f:$x(u,f)})}function x_(e){return e.concat().sort((t,n)=>t.name>n.name?1:-1).map(t=>t.options)}function $Z(e,t){if(e.length!==t.length)return!1;const n=x_(e),r=x_(t);return n.every((s,o)=>{const c=r[o];return $x(s,c)})}function qx(e){return typeof e=="number"}function qb(e){return typeof e=="string"}function pp(e){return typeof e=="boolean"}function w_(e){return Object.prototype.toString.call(e)==="[object Object]"}function un(e){return Math.abs(e)}function Yx(e){return Math.sign(e)}function yd(e,t){return un(e-t)}function qZ(e,t){if(e===0||t===0||un(e)<=un(t))return 0;const n=yd(un(e),un(t));return un(n/e)}function YZ(e){return Math.round(e*100)/100}function Bd(e){return Ud(e).map(Number)}function ja(e){return e[pf(e)]}function pf(e){return Math.max(0,e.length-1)}function Gx(e,t){return t===pf(e)}function S_(e,t=0){return Array.from(Array(e),(n,r)=>t+r)}function Ud(e){return Object.keys(e)}function hj(e,t){return[e,t].reduce((n,r)=>(Ud(r).forEach(s=>{const o=n[s],c=r[s],u=w_(o)&&w_(c);n[s]=u?hj(o,c):c}),n),{})}function Yb(e,t){return typeof t.MouseEvent<"u"&&e instanceof t.MouseEvent}function GZ(e,t){const n={start:r,center:s,end:o};function r(){return 0}function s(f){return o(f)/2}function o(f){return t-f}function c(f,h){return qb(e)?n[e](f):e(t,f,h)}return{measure:c}}function Fd(){let e=[];function t(s,o,c,u={passive:!0}){let f;if("addEventListener"in s)s.addEventListener(o,c,u),f=()=>s.removeEventListener(o,c,u);else{const h=s;h.addListener(c),f=()=>h.removeListener(c)}return e.push(f),r}function n(){e=e.filter(s=>s())}const r={add:t,clear:n};return r}function WZ(e,t,n,r){const s=Fd(),o=1e3/60;let c=null,u=0,f=0;function h(){s.add(e,"visibilitychange",()=>{e.hidden&&S()})}function m(){w(),s.clear()}function p(C){if(!f)return;c||(c=C,n(),n());const T=C-c;for(c=C,u+=T;u>=o;)n(),u-=o;const _=u/o;r(_),f&&(f=t.requestAnimationFrame(p))}function b(){f||(f=t.requestAnimationFrame(p))}function w(){t.cancelAnimationFrame(f),c=null,u=0,f=0}function S(){c=null,u=0}return{init:h,destroy:m,start:b,stop:w,update:n,render:r}}function KZ(e,t){const n=t==="rtl",r=e==="y",s=r?"y":"x",o=r?"x":"y",c=!r&&n?-1:1,u=m(),f=p();function h(S){const{height:E,width:C}=S;return r?E:C}function m(){return r?"top":n?"right":"left"}function p(){return r?"bottom":n?"left":"right"}function b(S){return S*c}return{scroll:s,cross:o,startEdge:u,endEdge:f,measureSize:h,direction:b}}function Zo(e=0,t=0){const n=un(e-t);function r(h){return h<e}function s(h){return h>t}function o(h){return r(h)||s(h)}function c(h){return o(h)?r(h)?e:t:h}function u(h){return n?h-n*Math.ceil((h-t)/n):h}return{length:n,max:t,min:e,constrain:c,reachedAny:o,reachedMax:s,reachedMin:r,removeOffset:u}}function mj(e,t,n){const{constrain:r}=Zo(0,e),s=e+1;let o=c(t);function c(b){return n?un((s+b)%s):r(b)}function u(){return o}function f(b){return o=c(b),p}function h(b){return m().set(u()+b)}function m(){return mj(e,u(),n)}const p={get:u,set:f,add:h,clone:m};return p}function ZZ(e,t,n,r,s,o,c,u,f,h,m,p,b,w,S,E,C,T,_){const{cross:A,direction:O}=e,R=["INPUT","SELECT","TEXTAREA"],D={passive:!1},L=Fd(),k=Fd(),H=Zo(50,225).constrain(w.measure(20)),X={mouse:300,touch:400},oe={mouse:500,touch:600},ce=S?43:25;let de=!1,Q=0,fe=0,P=!1,K=!1,I=!1,J=!1;function j(Me){if(!_)return;function ct(Yt){(pp(_)||_(Me,Yt))&&he(Yt)}const ot=t;L.add(ot,"dragstart",Yt=>Yt.preventDefault(),D).add(ot,"touchmove",()=>{},D).add(ot,"touchend",()=>{}).add(ot,"touchstart",ct).add(ot,"mousedown",ct).add(ot,"touchcancel",_e).add(ot,"contextmenu",_e).add(ot,"click",ke,!0)}function W(){L.clear(),k.clear()}function B(){const Me=J?n:t;k.add(Me,"touchmove",Se,D).add(Me,"touchend",_e).add(Me,"mousemove",Se,D).add(Me,"mouseup",_e)}function q(Me){const ct=Me.nodeName||"";return R.includes(ct)}function le(){return(S?oe:X)[J?"mouse":"touch"]}function ge(Me,ct){const ot=p.add(Yx(Me)*-1),Yt=m.byDistance(Me,!S).distance;return S||un(Me)<H?Yt:C&&ct?Yt*.5:m.byIndex(ot.get(),0).distance}function he(Me){const ct=Yb(Me,r);J=ct,I=S&&ct&&!Me.buttons&&de,de=yd(s.get(),c.get())>=2,!(ct&&Me.button!==0)&&(q(Me.target)||(P=!0,o.pointerDown(Me),h.useFriction(0).useDuration(0),s.set(c),B(),Q=o.readPoint(Me),fe=o.readPoint(Me,A),b.emit("pointerDown")))}function Se(Me){if(!Yb(Me,r)&&Me.touches.length>=2)return _e(Me);const ot=o.readPoint(Me),Yt=o.readPoint(Me,A),an=yd(ot,Q),At=yd(Yt,fe);if(!K&&!J&&(!Me.cancelable||(K=an>At,!K)))return _e(Me);const zn=o.pointerMove(Me);an>E&&(I=!0),h.useFriction(.3).useDuration(.75),u.start(),s.add(O(zn)),Me.preventDefault()}function _e(Me){const ot=m.byDistance(0,!1).index!==p.get(),Yt=o.pointerUp(Me)*le(),an=ge(O(Yt),ot),At=qZ(Yt,an),zn=ce-10*At,Ot=T+At/50;K=!1,P=!1,k.clear(),h.useDuration(zn).useFriction(Ot),f.distance(an,!S),J=!1,b.emit("pointerUp")}function ke(Me){I&&(Me.stopPropagation(),Me.preventDefault(),I=!1)}function Fe(){return P}return{init:j,destroy:W,pointerDown:Fe}}function XZ(e,t){let r,s;function o(p){return p.timeStamp}function c(p,b){const S=`client${(b||e.scroll)==="x"?"X":"Y"}`;return(Yb(p,t)?p:p.touches[0])[S]}function u(p){return r=p,s=p,c(p)}function f(p){const b=c(p)-c(s),w=o(p)-o(r)>170;return s=p,w&&(r=p),b}function h(p){if(!r||!s)return 0;const b=c(s)-c(r),w=o(p)-o(r),S=o(p)-o(s)>170,E=b/w;return w&&!S&&un(E)>.1?E:0}return{pointerDown:u,pointerMove:f,pointerUp:h,readPoint:c}}function QZ(){function e(n){const{offsetTop:r,offsetLeft:s,offsetWidth:o,offsetHeight:c}=n;return{top:r,right:s+o,bottom:r+c,left:s,width:o,height:c}}return{measure:e}}function JZ(e){function t(r){return e*(r/100)}return{measure:t}}function eX(e,t,n,r,s,o,c){const u=[e].concat(r);let f,h,m=[],p=!1;function b(C){return s.measureSize(c.measure(C))}function w(C){if(!o)return;h=b(e),m=r.map(b);function T(_){for(const A of _){if(p)return;const O=A.target===e,R=r.indexOf(A.target),D=O?h:m[R],L=b(O?e:r[R]);if(un(L-D)>=.5){C.reInit(),t.emit("resize");break}}}f=new ResizeObserver(_=>{(pp(o)||o(C,_))&&T(_)}),n.requestAnimationFrame(()=>{u.forEach(_=>f.observe(_))})}function S(){p=!0,f&&f.disconnect()}return{init:w,destroy:S}}function tX(e,t,n,r,s,o){let c=0,u=0,f=s,h=o,m=e.get(),p=0;function b(){const D=r.get()-e.get(),L=!f;let k=0;return L?(c=0,n.set(r),e.set(r),k=D):(n.set(e),c+=D/f,c*=h,m+=c,e.add(c),k=m-p),u=Yx(k),p=m,R}function w(){const D=r.get()-t.get();return un(D)<.001}function S(){return f}function E(){return u}function C(){return c}function T(){return A(s)}function _(){return O(o)}function A(D){return f=D,R}function O(D){return h=D,R}const R={direction:E,duration:S,velocity:C,seek:b,settled:w,useBaseFriction:_,useBaseDuration:T,useFriction:O,useDuration:A};return R}function nX(e,t,n,r,s){const o=s.measure(10),c=s.measure(50),u=Zo(.1,.99);let f=!1;function h(){return!(f||!e.reachedAny(n.get())||!e.reachedAny(t.get()))}function m(w){if(!h())return;const S=e.reachedMin(t.get())?"min":"max",E=un(e[S]-t.get()),C=n.get()-t.get(),T=u.constrain(E/c);n.subtract(C*T),!w&&un(C)<o&&(n.set(e.constrain(n.get())),r.useDuration(25).useBaseFriction())}function p(w){f=!w}return{shouldConstrain:h,constrain:m,toggleActive:p}}function rX(e,t,n,r,s){const o=Zo(-t+e,0),c=p(),u=m(),f=b();function h(S,E){return yd(S,E)<=1}function m(){const S=c[0],E=ja(c),C=c.lastIndexOf(S),T=c.indexOf(E)+1;return Zo(C,T)}function p(){return n.map((S,E)=>{const{min:C,max:T}=o,_=o.constrain(S),A=!E,O=Gx(n,E);return A?T:O||h(C,_)?C:h(T,_)?T:_}).map(S=>parseFloat(S.toFixed(3)))}function b(){if(t<=e+s)return[o.max];if(r==="keepSnaps")return c;const{min:S,max:E}=u;return c.slice(S,E)}return{snapsContained:f,scrollContainLimit:u}}function aX(e,t,n){const r=t[0],s=n?r-e:ja(t);return{limit:Zo(s,r)}}function sX(e,t,n,r){const o=t.min+.1,c=t.max+.1,{reachedMin:u,reachedMax:f}=Zo(o,c);function h(b){return b===1?f(n.get()):b===-1?u(n.get()):!1}function m(b){if(!h(b))return;const w=e*(b*-1);r.forEach(S=>S.add(w))}return{loop:m}}function iX(e){const{max:t,length:n}=e;function r(o){const c=o-t;return n?c/-n:0}return{get:r}}function oX(e,t,n,r,s){const{startEdge:o,endEdge:c}=e,{groupSlides:u}=s,f=p().map(t.measure),h=b(),m=w();function p(){return u(r).map(E=>ja(E)[c]-E[0][o]).map(un)}function b(){return r.map(E=>n[o]-E[o]).map(E=>-un(E))}function w(){return u(h).map(E=>E[0]).map((E,C)=>E+f[C])}return{snaps:h,snapsAligned:m}}function lX(e,t,n,r,s,o){const{groupSlides:c}=s,{min:u,max:f}=r,h=m();function m(){const b=c(o),w=!e||t==="keepSnaps";return n.length===1?[o]:w?b:b.slice(u,f).map((S,E,C)=>{const T=!E,_=Gx(C,E);if(T){const A=ja(C[0])+1;return S_(A)}if(_){const A=pf(o)-ja(C)[0]+1;return S_(A,ja(C)[0])}return S})}return{slideRegistry:h}}function cX(e,t,n,r,s){const{reachedAny:o,removeOffset:c,constrain:u}=r;function f(S){return S.concat().sort((E,C)=>un(E)-un(C))[0]}function h(S){const E=e?c(S):u(S),C=t.map((_,A)=>({diff:m(_-E,0),index:A})).sort((_,A)=>un(_.diff)-un(A.diff)),{index:T}=C[0];return{index:T,distance:E}}function m(S,E){const C=[S,S+n,S-n];if(!e)return S;if(!E)return f(C);const T=C.filter(_=>Yx(_)===E);return T.length?f(T):ja(C)-n}function p(S,E){const C=t[S]-s.get(),T=m(C,E);return{index:S,distance:T}}function b(S,E){const C=s.get()+S,{index:T,distance:_}=h(C),A=!e&&o(C);if(!E||A)return{index:T,distance:S};const O=t[T]-_,R=S+m(O,0);return{index:T,distance:R}}return{byDistance:b,byIndex:p,shortcut:m}}function uX(e,t,n,r,s,o,c){function u(p){const b=p.distance,w=p.index!==t.get();o.add(b),b&&(r.duration()?e.start():(e.update(),e.render(1),e.update())),w&&(n.set(t.get()),t.set(p.index),c.emit("select"))}function f(p,b){const w=s.byDistance(p,b);u(w)}function h(p,b){const w=t.clone().set(p),S=s.byIndex(w.get(),b);u(S)}return{distance:f,index:h}}function dX(e,t,n,r,s,o,c,u){const f={passive:!0,capture:!0};let h=0;function m(w){if(!u)return;function S(E){if(new Date().getTime()-h>10)return;c.emit("slideFocusStart"),e.scrollLeft=0;const _=n.findIndex(A=>A.includes(E));qx(_)&&(s.useDuration(0),r.index(_,0),c.emit("slideFocus"))}o.add(document,"keydown",p,!1),t.forEach((E,C)=>{o.add(E,"focus",T=>{(pp(u)||u(w,T))&&S(C)},f)})}function p(w){w.code==="Tab"&&(h=new Date().getTime())}return{init:m}}function ld(e){let t=e;function n(){return t}function r(f){t=c(f)}function s(f){t+=c(f)}function o(f){t-=c(f)}function c(f){return qx(f)?f:f.get()}return{get:n,set:r,add:s,subtract:o}}function pj(e,t){const n=e.scroll==="x"?c:u,r=t.style;let s=null,o=!1;function c(b){return`translate3d(${b}px,0px,0px)`}function u(b){return`translate3d(0px,${b}px,0px)`}function f(b){if(o)return;const w=YZ(e.direction(b));w!==s&&(r.transform=n(w),s=w)}function h(b){o=!b}function m(){o||(r.transform="",t.getAttribute("style")||t.removeAttribute("style"))}return{clear:m,to:f,toggleActive:h}}function fX(e,t,n,r,s,o,c,u,f){const m=Bd(s),p=Bd(s).reverse(),b=T().concat(_());function w(L,k){return L.reduce((H,X)=>H-s[X],k)}function S(L,k){return L.reduce((H,X)=>w(H,k)>0?H.concat([X]):H,[])}function E(L){return o.map((k,H)=>({start:k-r[H]+.5+L,end:k+t-.5+L}))}function C(L,k,H){const X=E(k);return L.map(oe=>{const ce=H?0:-n,de=H?n:0,Q=H?"end":"start",fe=X[oe][Q];return{index:oe,loopPoint:fe,slideLocation:ld(-1),translate:pj(e,f[oe]),target:()=>u.get()>fe?ce:de}})}function T(){const L=c[0],k=S(p,L);return C(k,n,!1)}function _(){const L=t-c[0]-1,k=S(m,L);return C(k,-n,!0)}function A(){return b.every(({index:L})=>{const k=m.filter(H=>H!==L);return w(k,t)<=.1})}function O(){b.forEach(L=>{const{target:k,translate:H,slideLocation:X}=L,oe=k();oe!==X.get()&&(H.to(oe),X.set(oe))})}function R(){b.forEach(L=>L.translate.clear())}return{canLoop:A,clear:R,loop:O,loopPoints:b}}function hX(e,t,n){let r,s=!1;function o(f){if(!n)return;function h(m){for(const p of m)if(p.type==="childList"){f.reInit(),t.emit("slidesChanged");break}}r=new MutationObserver(m=>{s||(pp(n)||n(f,m))&&h(m)}),r.observe(e,{childList:!0})}function c(){r&&r.disconnect(),s=!0}return{init:o,destroy:c}}function mX(e,t,n,r){const s={};let o=null,c=null,u,f=!1;function h(){u=new IntersectionObserver(S=>{f||(S.forEach(E=>{const C=t.indexOf(E.target);s[C]=E}),o=null,c=null,n.emit("slidesInView"))},{root:e.parentElement,threshold:r}),t.forEach(S=>u.observe(S))}function m(){u&&u.disconnect(),f=!0}function p(S){return Ud(s).reduce((E,C)=>{const T=parseInt(C),{isIntersecting:_}=s[T];return(S&&_||!S&&!_)&&E.push(T),E},[])}function b(S=!0){if(S&&o)return o;if(!S&&c)return c;const E=p(S);return S&&(o=E),S||(c=E),E}return{init:h,destroy:m,get:b}}function pX(e,t,n,r,s,o){const{measureSize:c,startEdge:u,endEdge:f}=e,h=n[0]&&s,m=S(),p=E(),b=n.map(c),w=C();function S(){if(!h)return 0;const _=n[0];return un(t[u]-_[u])}function E(){if(!h)return 0;const _=o.getComputedStyle(ja(r));return parseFloat(_.getPropertyValue(`margin-${f}`))}function C(){return n.map((_,A,O)=>{const R=!A,D=Gx(O,A);return R?b[A]+m:D?b[A]+p:O[A+1][u]-_[u]}).map(un)}return{slideSizes:b,slideSizesWithGaps:w,startGap:m,endGap:p}}function gX(e,t,n,r,s,o,c,u,f){const{startEdge:h,endEdge:m,direction:p}=e,b=qx(n);function w(T,_){return Bd(T).filter(A=>A%_===0).map(A=>T.slice(A,A+_))}function S(T){return T.length?Bd(T).reduce((_,A,O)=>{const R=ja(_)||0,D=R===0,L=A===pf(T),k=s[h]-o[R][h],H=s[h]-o[A][m],X=!r&&D?p(c):0,oe=!r&&L?p(u):0,ce=un(H-oe-(k+X));return O&&ce>t+f&&_.push(A),L&&_.push(T.length),_},[]).map((_,A,O)=>{const R=Math.max(O[A-1]||0);return T.slice(R,_)}):[]}function E(T){return b?w(T,n):S(T)}return{groupSlides:E}}function yX(e,t,n,r,s,o,c){const{align:u,axis:f,direction:h,startIndex:m,loop:p,duration:b,dragFree:w,dragThreshold:S,inViewThreshold:E,slidesToScroll:C,skipSnaps:T,containScroll:_,watchResize:A,watchSlides:O,watchDrag:R,watchFocus:D}=o,L=2,k=QZ(),H=k.measure(t),X=n.map(k.measure),oe=KZ(f,h),ce=oe.measureSize(H),de=JZ(ce),Q=GZ(u,ce),fe=!p&&!!_,P=p||!!_,{slideSizes:K,slideSizesWithGaps:I,startGap:J,endGap:j}=pX(oe,H,X,n,P,s),W=gX(oe,ce,C,p,H,X,J,j,L),{snaps:B,snapsAligned:q}=oX(oe,Q,H,X,W),le=-ja(B)+ja(I),{snapsContained:ge,scrollContainLimit:he}=rX(ce,le,q,_,L),Se=fe?ge:q,{limit:_e}=aX(le,Se,p),ke=mj(pf(Se),m,p),Fe=ke.clone(),nt=Bd(n),Me=({dragHandler:tn,scrollBody:Gt,scrollBounds:Bn,options:{loop:An}})=>{An||Bn.constrain(tn.pointerDown()),Gt.seek()},ct=({scrollBody:tn,translate:Gt,location:Bn,offsetLocation:An,previousLocation:Qn,scrollLooper:Yn,slideLooper:Gn,dragHandler:Wn,animation:ar,eventHandler:$e,scrollBounds:kt,options:{loop:bt}},hn)=>{const mn=tn.settled(),Ge=!kt.shouldConstrain(),it=bt?mn:mn&&Ge,_t=it&&!Wn.pointerDown();_t&&ar.stop();const Qe=Bn.get()*hn+Qn.get()*(1-hn);An.set(Qe),bt&&(Yn.loop(tn.direction()),Gn.loop()),Gt.to(An.get()),_t&&$e.emit("settle"),it||$e.emit("scroll")},ot=WZ(r,s,()=>Me(pt),tn=>ct(pt,tn)),Yt=.68,an=Se[ke.get()],At=ld(an),zn=ld(an),Ot=ld(an),z=ld(an),ee=tX(At,Ot,zn,z,b,Yt),se=cX(p,Se,le,_e,z),Ee=uX(ot,ke,Fe,ee,se,z,c),Ce=iX(_e),we=Fd(),Ae=mX(t,n,c,E),{slideRegistry:Be}=lX(fe,_,Se,he,W,nt),lt=dX(e,n,Be,Ee,ee,we,c,D),pt={ownerDocument:r,ownerWindow:s,eventHandler:c,containerRect:H,slideRects:X,animation:ot,axis:oe,dragHandler:ZZ(oe,e,r,s,z,XZ(oe,s),At,ot,Ee,ee,se,ke,c,de,w,S,T,Yt,R),eventStore:we,percentOfView:de,index:ke,indexPrevious:Fe,limit:_e,location:At,offsetLocation:Ot,previousLocation:zn,options:o,resizeHandler:eX(t,c,s,n,oe,A,k),scrollBody:ee,scrollBounds:nX(_e,Ot,z,ee,de),scrollLooper:sX(le,_e,Ot,[At,Ot,zn,z]),scrollProgress:Ce,scrollSnapList:Se.map(Ce.get),scrollSnaps:Se,scrollTarget:se,scrollTo:Ee,slideLooper:fX(oe,ce,le,K,I,B,Se,Ot,n),slideFocus:lt,slidesHandler:hX(t,c,O),slidesInView:Ae,slideIndexes:nt,slideRegistry:Be,slidesToScroll:W,target:z,translate:pj(oe,t)};return pt}function vX(){let e={},t;function n(h){t=h}function r(h){return e[h]||[]}function s(h){return r(h).forEach(m=>m(t,h)),f}function o(h,m){return e[h]=r(h).concat([m]),f}function c(h,m){return e[h]=r(h).filter(p=>p!==m),f}function u(){e={}}const f={init:n,emit:s,off:c,on:o,clear:u};return f}const bX={align:"center",axis:"x",container:null,slides:null,containScroll:"trimSnaps",direction:"ltr",slidesToScroll:1,inViewThreshold:0,breakpoints:{},dragFree:!1,dragThreshold:10,loop:!1,skipSnaps:!1,duration:25,startIndex:0,active:!0,watchDrag:!0,watchResize:!0,watchSlides:!0,watchFocus:!0};function xX(e){function t(o,c){return hj(o,c||{})}function n(o){const c=o.breakpoints||{},u=Ud(c).filter(f=>e.matchMedia(f).matches).map(f=>c[f]).reduce((f,h)=>t(f,h),{});return t(o,u)}function r(o){return o.map(c=>Ud(c.breakpoints||{})).reduce((c,u)=>c.concat(u),[]).map(e.matchMedia)}return{mergeOptions:t,optionsAtMedia:n,optionsMediaQueries:r}}function wX(e){let t=[];function n(o,c){return t=c.filter(({options:u})=>e.optionsAtMedia(u).active!==!1),t.forEach(u=>u.init(o,e)),c.reduce((u,f)=>Object.assign(u,{[f.name]:f}),{})}function r(){t=t.filter(o=>o.destroy())}return{init:n,destroy:r}}function jm(e,t,n){const r=e.ownerDocument,s=r.defaultView,o=xX(s),c=wX(o),u=Fd(),f=vX(),{mergeOptions:h,optionsAtMedia:m,optionsMediaQueries:p}=o,{on:b,off:w,emit:S}=f,E=oe;let C=!1,T,_=h(bX,jm.globalOptions),A=h(_),O=[],R,D,L;function k(){const{container:nt,slides:Me}=A;D=(qb(nt)?e.querySelector(nt):nt)||e.children[0];const ot=qb(Me)?D.querySelectorAll(Me):Me;L=[].slice.call(ot||D.children)}function H(nt){const Me=yX(e,D,L,r,s,nt,f);if(nt.loop&&!Me.slideLooper.canLoop()){const ct=Object.assign({},nt,{loop:!1});return H(ct)}return Me}function X(nt,Me){C||(_=h(_,nt),A=m(_),O=Me||O,k(),T=H(A),p([_,...O.map(({options:ct})=>ct)]).forEach(ct=>u.add(ct,"change",oe)),A.active&&(T.translate.to(T.location.get()),T.animation.init(),T.slidesInView.init(),T.slideFocus.init(Fe),T.eventHandler.init(Fe),T.resizeHandler.init(Fe),T.slidesHandler.init(Fe),T.options.loop&&T.slideLooper.loop(),D.offsetParent&&L.length&&T.dragHandler.init(Fe),R=c.init(Fe,O)))}function oe(nt,Me){const ct=W();ce(),X(h({startIndex:ct},nt),Me),f.emit("reInit")}function ce(){T.dragHandler.destroy(),T.eventStore.clear(),T.translate.clear(),T.slideLooper.clear(),T.resizeHandler.destroy(),T.slidesHandler.destroy(),T.slidesInView.destroy(),T.animation.destroy(),c.destroy(),u.clear()}function de(){C||(C=!0,u.clear(),ce(),f.emit("destroy"),f.clear())}function Q(nt,Me,ct){!A.active||C||(T.scrollBody.useBaseFriction().useDuration(Me===!0?0:A.duration),T.scrollTo.index(nt,ct||0))}function fe(nt){const Me=T.index.add(1).get();Q(Me,nt,-1)}function P(nt){const Me=T.index.add(-1).get();Q(Me,nt,1)}function K(){return T.index.add(1).get()!==W()}function I(){return T.index.add(-1).get()!==W()}function J(){return T.scrollSnapList}function j(){return T.scrollProgress.get(T.offsetLocation.get())}function W(){return T.index.get()}function B(){return T.indexPrevious.get()}function q(){return T.slidesInView.get()}function le(){return T.slidesInView.get(!1)}function ge(){return R}function he(){return T}function Se(){return e}function _e(){return D}function ke(){return L}const Fe={canScrollNext:K,canScrollPrev:I,containerNode:_e,internalEngine:he,destroy:de,off:w,on:b,emit:S,plugins:ge,previousScrollSnap:B,reInit:E,rootNode:Se,scrollNext:fe,scrollPrev:P,scrollProgress:j,scrollSnapList:J,scrollTo:Q,selectedScrollSnap:W,slideNodes:ke,slidesInView:q,slidesNotInView:le};return X(t,n),setTimeout(()=>f.emit("init"),0),Fe}jm.globalOptions=void 0;function Wx(e={},t=[]){const n=x.useRef(e),r=x.useRef(t),[s,o]=x.useState(),[c,u]=x.useState(),f=x.useCallback(()=>{s&&s.reInit(n.current,r.current)},[s]);return x.useEffect(()=>{$x(n.current,e)||(n.current=e,f())},[e,f]),x.useEffect(()=>{$Z(r.current,t)||(r.current=t,f())},[t,f]),x.useEffect(()=>{if(HZ()&&c){jm.globalOptions=Wx.globalOptions;const h=jm(c,n.current,r.current);return o(h),()=>h.destroy()}else o(void 0)},[c,o]),[u,s]}Wx.globalOptions=void 0;const gj=x.createContext(null);function gp(){const e=x.useContext(gj);if(!e)throw new Error("useCarousel must be used within a <Carousel />");return e}function vv({orientation:e="horizontal",opts:t,setApi:n,plugins:r,className:s,children:o,...c}){const[u,f]=Wx({...t,axis:e==="horizontal"?"x":"y"},r),[h,m]=x.useState(!1),[p,b]=x.useState(!1),w=x.useCallback(T=>{T&&(m(T.canScrollPrev()),b(T.canScrollNext()))},[]),S=x.useCallback(()=>{f==null||f.scrollPrev()},[f]),E=x.useCallback(()=>{f==null||f.scrollNext()},[f]),C=x.useCallback(T=>{T.key==="ArrowLeft"?(T.preventDefault(),S()):T.key==="ArrowRight"&&(T.preventDefault(),E())},[S,E]);return x.useEffect(()=>{!f||!n||n(f)},[f,n]),x.useEffect(()=>{if(f)return w(f),f.on("reInit",w),f.on("select",w),()=>{f==null||f.off("select",w)}},[f,w]),g.jsx(gj.Provider,{value:{carouselRef:u,api:f,opts:t,orientation:e||((t==null?void 0:t.axis)==="y"?"vertical":"horizontal"),scrollPrev:S,scrollNext:E,canScrollPrev:h,canScrollNext:p},children:g.jsx("div",{onKeyDownCapture:C,className:be("relative",s),role:"region","aria-roledescription":"carousel","data-slot":"carousel",...c,children:o})})}function bv({className:e,...t}){const{carouselRef:n,orientation:r}=gp();return g.jsx("div",{ref:n,className:"overflow-hidden","data-slot":"carousel-content",children:g.jsx("div",{className:be("flex",r==="horizontal"?"-ml-4":"-mt-4 flex-col",e),...t})})}function xv({className:e,...t}){const{orientation:n}=gp();return g.jsx("div",{role:"group","aria-roledescription":"slide","data-slot":"carousel-item",className:be("min-w-0 shrink-0 grow-0 basis-full",n==="horizontal"?"pl-4":"pt-4",e),...t})}function wv({className:e,variant:t="outline",size:n="icon",...r}){const{orientation:s,scrollPrev:o,canScrollPrev:c}=gp();return g.jsxs(Ut,{"data-slot":"carousel-previous",variant:t,size:n,className:be("absolute size-8 rounded-full",s==="horizontal"?"top-1/2 -left-12 -translate-y-1/2":"-top-12 left-1/2 -translate-x-1/2 rotate-90",e),disabled:!c,onClick:o,...r,children:[g.jsx(q3,{}),g.jsx("span",{className:"sr-only",children:"Previous slide"})]})}function Sv({className:e,variant:t="outline",size:n="icon",...r}){const{orientation:s,scrollNext:o,canScrollNext:c}=gp();return g.jsxs(Ut,{"data-slot":"carousel-next",variant:t,size:n,className:be("absolute size-8 rounded-full",s==="horizontal"?"top-1/2 -right-12 -translate-y-1/2":"-bottom-12 left-1/2 -translate-x-1/2 rotate-90",e),disabled:!c,onClick:o,...r,children:[g.jsx($h,{}),g.jsx("span",{className:"sr-only",children:"Next slide"})]})}function Ev({session:e,isCompleted:t,isCharging:n=!1}){const r=s=>new Date(s).toLocaleString("en-MY",{year:"numeric",month:"long",day:"numeric",hour:"2-digit",minute:"2-digit"});return g.jsxs(Pr,{className:"h-full max-w-sm",children:[g.jsx(Lx,{children:g.jsxs("div",{className:"flex items-center justify-between",children:[g.jsx(Vx,{className:"text-base font-semibold",children:e.station.name}),g.jsxs(Or,{variant:n?"success":t?"primary":"warning",className:"text-xs",children:[n&&g.jsxs(g.Fragment,{children:[g.jsx(ts,{className:"size-4 text-green-500 dark:text-green-400"}),"Charging"]}),!n&&(t?"Completed":"Reserved")]})]})}),g.jsxs(Lr,{className:"space-y-1",children:[g.jsxs("div",{className:"flex items-center gap-2 text-xs text-muted-foreground",children:[g.jsx(Ps,{className:"size-4"}),g.jsxs("span",{children:[e.vehicle.make," ",e.vehicle.model]})]}),g.jsxs("div",{className:"flex items-center gap-2 text-xs text-muted-foreground",children:[g.jsx(kv,{className:"size-4"}),g.jsxs("span",{children:["Pump #",e.pumpNumber]})]}),g.jsxs("div",{className:"flex items-center gap-2 text-xs text-muted-foreground",children:[g.jsx(Ov,{className:"size-4"}),g.jsx("span",{children:r(e.startTime)})]})]})]})}function SX(){const e=Ws(),t=zc(),[n,r]=x.useState(!1),[s,o]=x.useState(!1),[c,u]=x.useState(!1),[f,h]=x.useState(null),[m,p]=x.useState(new Map),{data:b,isPending:w,error:S,isError:E}=Ks({queryKey:["reserving-user",e==null?void 0:e.id],queryFn:async()=>(await Tn.get("/charging-sessions",{params:{userId:e==null?void 0:e.id,size:100}})).data});function C(k){En.success(`🔋 ${k.vehicle.make} ${k.vehicle.model} is fully charged!`,{description:`Plate: ${k.vehicle.plateNumber} - Station: ${k.station.name}`,duration:5e3}),t.invalidateQueries({queryKey:["reserving-user",e==null?void 0:e.id]})}const T=()=>{if(f&&f.readyState===WebSocket.OPEN)return;const k=new WebSocket("wss://ev-reservation.pixcel.org/ws/charging");k.onopen=()=>{k.send("Hello from client!")},k.onmessage=H=>{var ce;let X;try{X=JSON.parse(H.data)}catch{console.error("Bad JSON from server:",H.data);return}if(((ce=X.vehicle.owner)==null?void 0:ce.id)!==(e==null?void 0:e.id))return;const oe=`${X.station.id}-${X.vehicle.id}-${X.pump}`;p(de=>{const Q=new Map(de);return X.status==="completed"?(Q.delete(oe),C(X)):Q.set(oe,X),Q})},k.onerror=()=>{console.error("WebSocket error")},k.onclose=()=>{console.log("WebSocket closed")},h(k)},_=()=>{f&&(f.close(),h(null))};if(x.useEffect(()=>(T(),()=>{_()}),[e==null?void 0:e.id]),w)return g.jsx("div",{className:"flex items-center justify-center h-full space-x-2",children:g.jsx(Tc,{className:"animate-spin"})});if(E)return g.jsxs("div",{className:"text-red-500",children:["Error loading vehicles:"," ",S instanceof Error?S.message:"Unknown error"]});const A=b.content.filter(k=>k.isCompleted),O=b.content.filter(k=>k.isReserved),R=(k,H=5)=>{const X=[];for(let oe=0;oe<k.length;oe+=H)X.push(k.slice(oe,oe+H));return X},D=(k,H=5)=>{const X=[];for(let oe=0;oe<k.length;oe+=H)X.push(k.slice(oe,oe+H));return X},L=k=>({id:k.sessionId,user:e,vehicle:k.vehicle,station:k.station,pumpNumber:k.pump,isCompleted:!1,isReserved:!1,isCharging:!0,startTime:new Date().toISOString()});return g.jsxs("div",{className:"space-y-8 p-4",children:[g.jsxs("div",{children:[g.jsxs("div",{className:"flex items-center gap-4 mb-4",children:[g.jsx(ts,{className:"size-4 text-yellow-600"}),g.jsx("h2",{className:"text-xl font-semibold",children:"Current Sessions"}),g.jsx(Or,{variant:"secondary",children:m.size}),g.jsxs(Ut,{size:"small",variant:"ghost",onClick:()=>u(!c),className:"ml-auto",children:[c?g.jsx(Dy,{}):g.jsx(Ny,{}),c?"Hide":"Show"]})]}),c&&g.jsx("div",{className:"px-8",children:m.size>0?g.jsxs(vv,{opts:{align:"start",loop:!0},className:"w-full",children:[g.jsx(bv,{children:D([...m.values()]).map((k,H)=>g.jsx(xv,{children:g.jsx("div",{className:"grid grid-cols-1 md:grid-cols-2 lg:grid-cols-3 xl:grid-cols-5 gap-4",children:k.map(X=>{const oe=`${X.station.id}-${X.vehicle.id}-${X.pump}`;return g.jsx(Ev,{session:L(X),isCompleted:!1,isCharging:!0},oe)})})},H))}),D([...m.values()]).length>1&&g.jsxs(g.Fragment,{children:[g.jsx(wv,{}),g.jsx(Sv,{})]})]}):g.jsx(Pr,{className:"text-center py-8",children:g.jsxs(Lr,{children:[g.jsx(ts,{className:"h-12 w-12 mx-auto text-muted-foreground mb-4"}),g.jsx("p",{className:"text-muted-foreground",children:"No current charging sessions"})]})})})]}),g.jsxs("div",{className:"flex justify-between",children:[g.jsxs("div",{className:"flex items-center gap-4",children:[g.jsx(om,{className:"size-4 text-green-600"}),g.jsx("h2",{className:"text-xl font-semibold",children:"Completed Sessions"}),g.jsx(Or,{variant:"secondary",children:A.length})]}),g.jsxs(Ut,{size:"small",variant:"ghost",onClick:()=>r(!n),children:[n?g.jsx(Dy,{}):g.jsx(Ny,{}),n?"Hide":"Show"]})]}),n&&g.jsx("div",{className:"px-8",children:A.length>0?g.jsxs(vv,{opts:{align:"start",loop:!0},className:"w-full",children:[g.jsx(bv,{children:R(A).map((k,H)=>g.jsx(xv,{children:g.jsx("div",{className:"grid grid-cols-1 md:grid-cols-2 lg:grid-cols-3 xl:grid-cols-5 gap-4",children:k.map(X=>g.jsx(Ev,{session:X,isCompleted:!0},X.id))})},H))}),R(A).length>1&&g.jsxs(g.Fragment,{children:[g.jsx(wv,{}),g.jsx(Sv,{})]})]}):g.jsx(Pr,{className:"text-center py-8",children:g.jsxs(Lr,{children:[g.jsx(om,{className:"h-12 w-12 mx-auto text-muted-foreground mb-4"}),g.jsx("p",{className:"text-muted-foreground",children:"No completed sessions yet"})]})})}),g.jsxs("div",{children:[g.jsxs("div",{className:"flex items-center gap-4 mb-4",children:[g.jsx(Ov,{className:"size-4 text-blue-600"}),g.jsx("h2",{className:"text-xl font-semibold",children:"Reserved Sessions"}),g.jsx(Or,{variant:"secondary",children:O.length}),g.jsxs(Ut,{size:"small",variant:"ghost",onClick:()=>o(!s),className:"ml-auto",children:[s?g.jsx(Dy,{}):g.jsx(Ny,{}),s?"Hide":"Show"]})]}),s&&g.jsx("div",{className:"px-8",children:O.length>0?g.jsxs(vv,{opts:{align:"start",loop:!0},className:"w-full",children:[g.jsx(bv,{children:R(O).map((k,H)=>g.jsx(xv,{children:g.jsx("div",{className:"grid grid-cols-1 md:grid-cols-2 lg:grid-cols-3 xl:grid-cols-5 gap-4",children:k.map(X=>g.jsx(Ev,{session:X,isCompleted:!1},X.id))})},H))}),R(O).length>1&&g.jsxs(g.Fragment,{children:[g.jsx(wv,{}),g.jsx(Sv,{})]})]}):g.jsx(Pr,{className:"text-center py-8",children:g.jsxs(Lr,{children:[g.jsx(Ov,{className:"h-12 w-12 mx-auto text-muted-foreground mb-4"}),g.jsx("p",{className:"text-muted-foreground",children:"No reserved sessions"})]})})})]})]})}function E_(){return g.jsx("div",{className:"flex flex-1 flex-col",children:g.jsxs("div",{className:"container flex flex-col flex-1 mx-auto space-y-6",children:[g.jsx("div",{className:"flex flex-1 flex-col space-y-4 justify-center items-center",children:g.jsx(UZ,{})}),g.jsx(SX,{})]})})}function Kx({className:e,...t}){return g.jsx("div",{"data-slot":"table-container",className:"relative w-full overflow-x-auto",children:g.jsx("table",{"data-slot":"table",className:be("w-full caption-bottom text-sm",e),...t})})}function Zx({className:e,...t}){return g.jsx("thead",{"data-slot":"table-header",className:be("[&_tr]:border-b",e),...t})}function Xx({className:e,...t}){return g.jsx("tbody",{"data-slot":"table-body",className:be("[&_tr:last-child]:border-0",e),...t})}function Ec({className:e,...t}){return g.jsx("tr",{"data-slot":"table-row",className:be("hover:bg-muted/50 data-[state=selected]:bg-muted border-b transition-colors",e),...t})}function kr({className:e,...t}){return g.jsx("th",{"data-slot":"table-head",className:be("text-foreground h-10 px-2 text-left align-middle font-medium whitespace-nowrap [&:has([role=checkbox])]:pr-0 [&>[role=checkbox]]:translate-y-[2px]",e),...t})}function jr({className:e,...t}){return g.jsx("td",{"data-slot":"table-cell",className:be("p-2 align-middle whitespace-nowrap [&:has([role=checkbox])]:pr-0 [&>[role=checkbox]]:translate-y-[2px]",e),...t})}function EX(){const e=Gs(),{data:t,isPending:n,isError:r,error:s}=Ks({queryKey:["ev-stations"],queryFn:async()=>(await Tn.get("/stations")).data});function o(){e("/ev-stations/create")}function c(u){e(`/ev-stations/update/${u}`)}return n?g.jsx("div",{className:"flex items-center justify-center h-full space-x-2",children:g.jsx(Tc,{className:"animate-spin"})}):r?g.jsxs("div",{className:"text-red-500",children:["Error loading EV stations: ",s.message]}):g.jsx("div",{className:"flex flex-col space-y-4",children:g.jsxs("div",{className:"container mx-auto p-6 space-y-6",children:[g.jsxs("div",{className:"flex items-center justify-between",children:[g.jsx("h1",{className:"font-semibold text-lg",children:"Registered stations"}),g.jsxs(Ut,{onClick:o,variant:"outline",children:[g.jsx(xA,{}),"Register Station"]})]}),g.jsxs(Kx,{children:[g.jsx(Zx,{children:g.jsxs(Ec,{children:[g.jsx(kr,{children:"Name"}),g.jsx(kr,{children:"Location"}),g.jsx(kr,{children:"Number Of Pump"})]})}),g.jsx(Xx,{children:t.map(u=>g.jsxs(Ec,{onClick:()=>c(u.id),className:"cursor-pointer hover:bg-sky-100 dark:hover:bg-sky-950",children:[g.jsx(jr,{children:u.name}),g.jsx(jr,{children:u.location}),g.jsx(jr,{children:u.numberOfPumps})]},u.id))})]})]})})}const yj=op({name:ea().min(1,"Name is required"),location:ea().min(1,"Location is required"),numberOfPumps:ea().refine(e=>!Number.isNaN(parseInt(e,10)),{message:"Expected number, received a string"})}),CX=yj.extend({id:lI().int().positive("ID must be a positive integer")});function TX(){const e=jc({resolver:Lc(yj)}),t=Hs({mutationFn:async r=>{await Tn.post("/stations",{...r})},onSuccess:()=>En.success("EV Station created successfully!"),onError:r=>En.error(`Error creating EV Station: ${r}`)});function n(r){t.mutate(r)}return g.jsx("div",{className:"container mx-auto p-6 space-y-6",children:g.jsx(Pc,{...e,children:g.jsxs("form",{className:"space-y-4",onSubmit:e.handleSubmit(n),children:[g.jsx(On,{control:e.control,name:"name",render:({field:r})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Name"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter station name",...r})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:e.control,name:"location",render:({field:r})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Location"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter station location",...r})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:e.control,name:"numberOfPumps",render:({field:r})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Number of Pumps"}),g.jsx(Pn,{children:g.jsx(Cn,{type:"number",placeholder:"Enter number of pumps",...r})}),g.jsx(Ln,{})]})}),g.jsx("div",{className:"flex justify-end",children:g.jsx(Ut,{type:"submit",children:"Register"})})]})})})}var vj="AlertDialog",[MX,zQ]=cs(vj,[XR]),Xs=XR(),bj=e=>{const{__scopeAlertDialog:t,...n}=e,r=Xs(t);return g.jsx(L0,{...r,...n,modal:!0})};bj.displayName=vj;var _X="AlertDialogTrigger",xj=x.forwardRef((e,t)=>{const{__scopeAlertDialog:n,...r}=e,s=Xs(n);return g.jsx(BF,{...s,...r,ref:t})});xj.displayName=_X;var AX="AlertDialogPortal",wj=e=>{const{__scopeAlertDialog:t,...n}=e,r=Xs(t);return g.jsx(V0,{...r,...n})};wj.displayName=AX;var RX="AlertDialogOverlay",Sj=x.forwardRef((e,t)=>{const{__scopeAlertDialog:n,...r}=e,s=Xs(n);return g.jsx(z0,{...s,...r,ref:t})});Sj.displayName=RX;var Ql="AlertDialogContent",[DX,NX]=MX(Ql),OX=gA("AlertDialogContent"),Ej=x.forwardRef((e,t)=>{const{__scopeAlertDialog:n,children:r,...s}=e,o=Xs(n),c=x.useRef(null),u=fn(t,c),f=x.useRef(null);return g.jsx(PF,{contentName:Ql,titleName:Cj,docsSlug:"alert-dialog",children:g.jsx(DX,{scope:n,cancelRef:f,children:g.jsxs(B0,{role:"alertdialog",...o,...s,ref:u,onOpenAutoFocus:Ze(s.onOpenAutoFocus,h=>{var m;h.preventDefault(),(m=f.current)==null||m.focus({preventScroll:!0})}),onPointerDownOutside:h=>h.preventDefault(),onInteractOutside:h=>h.preventDefault(),children:[g.jsx(OX,{children:r}),g.jsx(jX,{contentRef:c})]})})})});Ej.displayName=Ql;var Cj="AlertDialogTitle",Tj=x.forwardRef((e,t)=>{const{__scopeAlertDialog:n,...r}=e,s=Xs(n);return g.jsx(hD,{...s,...r,ref:t})});Tj.displayName=Cj;var Mj="AlertDialogDescription",_j=x.forwardRef((e,t)=>{const{__scopeAlertDialog:n,...r}=e,s=Xs(n);return g.jsx(mD,{...s,...r,ref:t})});_j.displayName=Mj;var kX="AlertDialogAction",Aj=x.forwardRef((e,t)=>{const{__scopeAlertDialog:n,...r}=e,s=Xs(n);return g.jsx(U0,{...s,...r,ref:t})});Aj.displayName=kX;var Rj="AlertDialogCancel",Dj=x.forwardRef((e,t)=>{const{__scopeAlertDialog:n,...r}=e,{cancelRef:s}=NX(Rj,n),o=Xs(n),c=fn(t,s);return g.jsx(U0,{...o,...r,ref:c})});Dj.displayName=Rj;var jX=({contentRef:e})=>{const t=`\`${Ql}\` requires a description for the component to be accessible for screen reader users.
+`+o):r.stack=o}catch{}}throw r}}_request(t,n){typeof t=="string"?(n=n||{},n.url=t):n=t||{},n=qo(this.defaults,n);const{transitional:r,paramsSerializer:s,headers:o}=n;r!==void 0&&Zh.assertOptions(r,{silentJSONParsing:Ya.transitional(Ya.boolean),forcedJSONParsing:Ya.transitional(Ya.boolean),clarifyTimeoutError:Ya.transitional(Ya.boolean)},!1),s!=null&&(ue.isFunction(s)?n.paramsSerializer={serialize:s}:Zh.assertOptions(s,{encode:Ya.function,serialize:Ya.function},!0)),n.allowAbsoluteUrls!==void 0||(this.defaults.allowAbsoluteUrls!==void 0?n.allowAbsoluteUrls=this.defaults.allowAbsoluteUrls:n.allowAbsoluteUrls=!0),Zh.assertOptions(n,{baseUrl:Ya.spelling("baseURL"),withXsrfToken:Ya.spelling("withXSRFToken")},!0),n.method=(n.method||this.defaults.method||"get").toLowerCase();let c=o&&ue.merge(o.common,o[n.method]);o&&ue.forEach(["delete","get","head","post","put","patch","common"],S=>{delete o[S]}),n.headers=Br.concat(c,o);const u=[];let f=!0;this.interceptors.request.forEach(function(E){typeof E.runWhen=="function"&&E.runWhen(n)===!1||(f=f&&E.synchronous,u.unshift(E.fulfilled,E.rejected))});const h=[];this.interceptors.response.forEach(function(E){h.push(E.fulfilled,E.rejected)});let m,p=0,b;if(!f){const S=[nT.bind(this),void 0];for(S.unshift.apply(S,u),S.push.apply(S,h),b=S.length,m=Promise.resolve(n);p<b;)m=m.then(S[p++],S[p++]);return m}b=u.length;let w=n;for(p=0;p<b;){const S=u[p++],E=u[p++];try{w=S(w)}catch(C){E.call(this,C);break}}try{m=nT.call(this,w)}catch(S){return Promise.reject(S)}for(p=0,b=h.length;p<b;)m=m.then(h[p++],h[p++]);return m}getUri(t){t=qo(this.defaults,t);const n=$D(t.baseURL,t.url,t.allowAbsoluteUrls);return BD(n,t.params,t.paramsSerializer)}};ue.forEach(["delete","get","head","options"],function(t){Bo.prototype[t]=function(n,r){return this.request(qo(r||{},{method:t,url:n,data:(r||{}).data}))}});ue.forEach(["post","put","patch"],function(t){function n(r){return function(o,c,u){return this.request(qo(u||{},{method:t,headers:r?{"Content-Type":"multipart/form-data"}:{},url:o,data:c}))}}Bo.prototype[t]=n(),Bo.prototype[t+"Form"]=n(!0)});let l8=class ZD{constructor(t){if(typeof t!="function")throw new TypeError("executor must be a function.");let n;this.promise=new Promise(function(o){n=o});const r=this;this.promise.then(s=>{if(!r._listeners)return;let o=r._listeners.length;for(;o-- >0;)r._listeners[o](s);r._listeners=null}),this.promise.then=s=>{let o;const c=new Promise(u=>{r.subscribe(u),o=u}).then(s);return c.cancel=function(){r.unsubscribe(o)},c},t(function(o,c,u){r.reason||(r.reason=new kc(o,c,u),n(r.reason))})}throwIfRequested(){if(this.reason)throw this.reason}subscribe(t){if(this.reason){t(this.reason);return}this._listeners?this._listeners.push(t):this._listeners=[t]}unsubscribe(t){if(!this._listeners)return;const n=this._listeners.indexOf(t);n!==-1&&this._listeners.splice(n,1)}toAbortSignal(){const t=new AbortController,n=r=>{t.abort(r)};return this.subscribe(n),t.signal.unsubscribe=()=>this.unsubscribe(n),t.signal}static source(){let t;return{token:new ZD(function(s){t=s}),cancel:t}}};function c8(e){return function(n){return e.apply(null,n)}}function u8(e){return ue.isObject(e)&&e.isAxiosError===!0}const Qv={Continue:100,SwitchingProtocols:101,Processing:102,EarlyHints:103,Ok:200,Created:201,Accepted:202,NonAuthoritativeInformation:203,NoContent:204,ResetContent:205,PartialContent:206,MultiStatus:207,AlreadyReported:208,ImUsed:226,MultipleChoices:300,MovedPermanently:301,Found:302,SeeOther:303,NotModified:304,UseProxy:305,Unused:306,TemporaryRedirect:307,PermanentRedirect:308,BadRequest:400,Unauthorized:401,PaymentRequired:402,Forbidden:403,NotFound:404,MethodNotAllowed:405,NotAcceptable:406,ProxyAuthenticationRequired:407,RequestTimeout:408,Conflict:409,Gone:410,LengthRequired:411,PreconditionFailed:412,PayloadTooLarge:413,UriTooLong:414,UnsupportedMediaType:415,RangeNotSatisfiable:416,ExpectationFailed:417,ImATeapot:418,MisdirectedRequest:421,UnprocessableEntity:422,Locked:423,FailedDependency:424,TooEarly:425,UpgradeRequired:426,PreconditionRequired:428,TooManyRequests:429,RequestHeaderFieldsTooLarge:431,UnavailableForLegalReasons:451,InternalServerError:500,NotImplemented:501,BadGateway:502,ServiceUnavailable:503,GatewayTimeout:504,HttpVersionNotSupported:505,VariantAlsoNegotiates:506,InsufficientStorage:507,LoopDetected:508,NotExtended:510,NetworkAuthenticationRequired:511};Object.entries(Qv).forEach(([e,t])=>{Qv[t]=e});function XD(e){const t=new Bo(e),n=_D(Bo.prototype.request,t);return ue.extend(n,Bo.prototype,t,{allOwnKeys:!0}),ue.extend(n,t,null,{allOwnKeys:!0}),n.create=function(s){return XD(qo(e,s))},n}const _n=XD(rf);_n.Axios=Bo;_n.CanceledError=kc;_n.CancelToken=l8;_n.isCancel=ID;_n.VERSION=KD;_n.toFormData=np;_n.AxiosError=dt;_n.Cancel=_n.CanceledError;_n.all=function(t){return Promise.all(t)};_n.spread=c8;_n.isAxiosError=u8;_n.mergeConfig=qo;_n.AxiosHeaders=Br;_n.formToJSON=e=>FD(ue.isHTMLForm(e)?new FormData(e):e);_n.getAdapter=WD.getAdapter;_n.HttpStatusCode=Qv;_n.default=_n;const{Axios:vQ,AxiosError:bQ,CanceledError:xQ,isCancel:wQ,CancelToken:SQ,VERSION:EQ,all:CQ,Cancel:TQ,isAxiosError:MQ,spread:_Q,toFormData:AQ,AxiosHeaders:RQ,HttpStatusCode:DQ,formToJSON:NQ,getAdapter:OQ,mergeConfig:kQ}=_n,d8="https://ev-reservation.pixcel.org",Tn=_n.create({baseURL:`${d8}/api`,withCredentials:!0,headers:{"Content-Type":"application/json"}}),Ws=()=>{const[e,t]=x.useState(null);return x.useEffect(()=>{Tn.get("/users/me",{withCredentials:!0}).then(n=>t(n.data)).catch(()=>t(null))},[]),e};function QD(){const{setTheme:e}=Wb();return g.jsxs(D0,{children:[g.jsx(N0,{asChild:!0,children:g.jsxs(Ut,{variant:"outline",size:"icon",children:[g.jsx(I5,{className:"size-4 rotate-0 scale-100 transition-all dark:-rotate-90 dark:scale-0"}),g.jsx(N5,{className:"absolute size-4 rotate-90 scale-0 transition-all dark:rotate-0 dark:scale-100"})]})}),g.jsxs(O0,{align:"end",children:[g.jsx(Os,{onClick:()=>e("light"),children:"Light"}),g.jsx(Os,{onClick:()=>e("dark"),children:"Dark"})]})]})}const f8=[{title:"Dashboard",url:"dashboard",icon:E5},{title:"Vehicles",url:"vehicles",icon:Ps}];function h8(){const e=Gs(),t=Ys(),{theme:n}=Wb(),r=Ws(),s=u=>t.pathname.includes(u);async function o(){const u=await Tn.post("/auth/logout");u.status===200?(En.success("Logout successful!"),e("/")):(En.error("Logout failed. Please try again."),console.error("Logout error:",u.data))}function c(){if(!r){En.error("You must be logged in to view your profile.");return}e("/profile")}return g.jsxs(_6,{children:[g.jsx(R6,{children:g.jsxs("div",{className:"flex items-center gap-2",children:[g.jsx(ts,{className:"text-primary dark:text-sky-300"}),g.jsx("span",{className:"text-sm text-primary dark:text-sky-300 font-semibold",children:"EV Charging Reservation"})]})}),g.jsx(N6,{children:g.jsx(O6,{children:g.jsx(k6,{children:g.jsxs($C,{children:[f8.map(u=>g.jsx($u,{children:g.jsx(Lh,{asChild:!0,className:be({"bg-sky-200/50 dark:bg-sky-950/50":s(u.url)}),children:g.jsxs(Zr,{to:u.url,children:[g.jsx(u.icon,{className:"size-4"}),g.jsx("span",{children:u.title})]})})},u.title)),(r==null?void 0:r.isAdmin)&&g.jsxs(g.Fragment,{children:[g.jsx($u,{children:g.jsx(Lh,{asChild:!0,className:be({"bg-sky-200/50 dark:bg-sky-950/50":s("ev-stations")}),children:g.jsxs(Zr,{to:"ev-stations",children:[g.jsx(xA,{className:"size-4"}),g.jsx("span",{children:"EV Stations"})]})})}),g.jsx($u,{children:g.jsx(Lh,{asChild:!0,className:be({"bg-sky-200/50 dark:bg-sky-950/50":s("monitoring")}),children:g.jsxs(Zr,{to:"monitoring",children:[g.jsx(R5,{className:"size-4"}),g.jsx("span",{children:"Monitoring"})]})})})]})]})})})}),g.jsx(D6,{children:g.jsxs($C,{children:[g.jsxs($u,{className:"flex items-center gap-2",children:[g.jsx(QD,{}),g.jsx("span",{className:"text-sm",children:n==="dark"?"Dark Mode":"Light Mode"})]}),g.jsx($u,{children:g.jsxs(D0,{children:[g.jsx(N0,{asChild:!0,children:g.jsxs(Lh,{children:[g.jsx($5,{})," ",r==null?void 0:r.name,g.jsx(a5,{className:"ml-auto"})]})}),g.jsxs(O0,{side:"top",className:"w-[--radix-popper-anchor-width]",children:[g.jsx(Os,{onSelect:c,children:g.jsx("span",{children:"Account"})}),g.jsx(Os,{onSelect:o,children:g.jsx("span",{children:"Logout"})})]})]})})]})})]})}function m8(){const e=Ws(),n=Ys().pathname,r=n==="/dashboard",s=n.startsWith("/vehicles"),o=n.startsWith("/ev-stations"),c=n.startsWith("/profile"),u=n.startsWith("/monitoring"),f=n.includes("create"),h=n.includes("update"),m=s?"Vehicles":o?"EV Stations":c?"Profile":u&&(e!=null&&e.isAdmin)?"Monitoring":"",p=f?"Create":h?"Update":"";return g.jsxs(M6,{children:[g.jsx(h8,{}),g.jsxs("div",{className:"flex flex-col p-4 w-full space-y-4",children:[g.jsxs("div",{className:"flex items-center gap-4",children:[g.jsx(A6,{}),g.jsx(kV,{children:g.jsxs(jV,{children:[g.jsx(jy,{children:g.jsx(bC,{asChild:!0,children:g.jsx(Zr,{to:"/dashboard",children:"Dashboard"})})}),!r&&m&&g.jsxs(g.Fragment,{children:[g.jsx(xC,{}),g.jsx(jy,{children:g.jsxs(D0,{children:[g.jsx(N0,{className:"flex items-center text-sm font-medium text-muted-foreground hover:text-primary focus:outline-none",children:m}),g.jsxs(O0,{align:"start",children:[e!=null&&e.isAdmin?g.jsxs(g.Fragment,{children:[g.jsx(Os,{asChild:!0,children:g.jsx(Zr,{to:"/ev-stations",children:"EV Stations"})}),g.jsx(Os,{asChild:!0,children:g.jsx(Zr,{to:"/vehicles",children:"Vehicles"})}),g.jsx(Os,{asChild:!0,children:g.jsx(Zr,{to:"/monitoring",children:"Monitoring"})})]}):g.jsx(Os,{asChild:!0,children:g.jsx(Zr,{to:"/vehicles",children:"Vehicles"})}),g.jsx(Os,{asChild:!0,children:g.jsx(Zr,{to:"/profile",children:"Profile"})})]})]})})]}),p&&g.jsxs(g.Fragment,{children:[g.jsx(xC,{}),g.jsx(jy,{children:g.jsx(bC,{asChild:!0,children:g.jsx(Zr,{to:n,children:p})})})]})]})})]}),g.jsx(cA,{})]})]})}var p8="Label",JD=x.forwardRef((e,t)=>g.jsx(Mt.label,{...e,ref:t,onMouseDown:n=>{var s;n.target.closest("button, input, select, textarea")||((s=e.onMouseDown)==null||s.call(e,n),!n.defaultPrevented&&n.detail>1&&n.preventDefault())}}));JD.displayName=p8;var g8=JD,af=e=>e.type==="checkbox",Ao=e=>e instanceof Date,vr=e=>e==null;const eN=e=>typeof e=="object";var Mn=e=>!vr(e)&&!Array.isArray(e)&&eN(e)&&!Ao(e),tN=e=>Mn(e)&&e.target?af(e.target)?e.target.checked:e.target.value:e,y8=e=>e.substring(0,e.search(/\.\d+(\.|$)/))||e,nN=(e,t)=>e.has(y8(t)),v8=e=>{const t=e.constructor&&e.constructor.prototype;return Mn(t)&&t.hasOwnProperty("isPrototypeOf")},G0=typeof window<"u"&&typeof window.HTMLElement<"u"&&typeof document<"u";function nr(e){let t;const n=Array.isArray(e),r=typeof FileList<"u"?e instanceof FileList:!1;if(e instanceof Date)t=new Date(e);else if(e instanceof Set)t=new Set(e);else if(!(G0&&(e instanceof Blob||r))&&(n||Mn(e)))if(t=n?[]:{},!n&&!v8(e))t=e;else for(const s in e)e.hasOwnProperty(s)&&(t[s]=nr(e[s]));else return e;return t}var sp=e=>Array.isArray(e)?e.filter(Boolean):[],Sn=e=>e===void 0,Re=(e,t,n)=>{if(!t||!Mn(e))return n;const r=sp(t.split(/[,[\].]+?/)).reduce((s,o)=>vr(s)?s:s[o],e);return Sn(r)||r===e?Sn(e[t])?n:e[t]:r},Xr=e=>typeof e=="boolean",W0=e=>/^\w*$/.test(e),rN=e=>sp(e.replace(/["|']|\]/g,"").split(/\.|\[/)),Ft=(e,t,n)=>{let r=-1;const s=W0(t)?[t]:rN(t),o=s.length,c=o-1;for(;++r<o;){const u=s[r];let f=n;if(r!==c){const h=e[u];f=Mn(h)||Array.isArray(h)?h:isNaN(+s[r+1])?{}:[]}if(u==="__proto__"||u==="constructor"||u==="prototype")return;e[u]=f,e=e[u]}};const ym={BLUR:"blur",FOCUS_OUT:"focusout",CHANGE:"change"},Na={onBlur:"onBlur",onChange:"onChange",onSubmit:"onSubmit",onTouched:"onTouched",all:"all"},As={max:"max",min:"min",maxLength:"maxLength",minLength:"minLength",pattern:"pattern",required:"required",validate:"validate"},aN=G.createContext(null),ip=()=>G.useContext(aN),b8=e=>{const{children:t,...n}=e;return G.createElement(aN.Provider,{value:n},t)};var sN=(e,t,n,r=!0)=>{const s={defaultValues:t._defaultValues};for(const o in e)Object.defineProperty(s,o,{get:()=>{const c=o;return t._proxyFormState[c]!==Na.all&&(t._proxyFormState[c]=!r||Na.all),n&&(n[c]=!0),e[c]}});return s};const K0=typeof window<"u"?x.useLayoutEffect:x.useEffect;function iN(e){const t=ip(),{control:n=t.control,disabled:r,name:s,exact:o}=e||{},[c,u]=G.useState(n._formState),f=G.useRef({isDirty:!1,isLoading:!1,dirtyFields:!1,touchedFields:!1,validatingFields:!1,isValidating:!1,isValid:!1,errors:!1});return K0(()=>n._subscribe({name:s,formState:f.current,exact:o,callback:h=>{!r&&u({...n._formState,...h})}}),[s,r,o]),G.useEffect(()=>{f.current.isValid&&n._setValid(!0)},[n]),G.useMemo(()=>sN(c,n,f.current,!1),[c,n])}var Qa=e=>typeof e=="string",oN=(e,t,n,r,s)=>Qa(e)?(r&&t.watch.add(e),Re(n,e,s)):Array.isArray(e)?e.map(o=>(r&&t.watch.add(o),Re(n,o))):(r&&(t.watchAll=!0),n);function x8(e){const t=ip(),{control:n=t.control,name:r,defaultValue:s,disabled:o,exact:c}=e||{},u=G.useRef(s),[f,h]=G.useState(n._getWatch(r,u.current));return K0(()=>n._subscribe({name:r,formState:{values:!0},exact:c,callback:m=>!o&&h(oN(r,n._names,m.values||n._formValues,!1,u.current))}),[r,n,o,c]),G.useEffect(()=>n._removeUnmounted()),f}function w8(e){const t=ip(),{name:n,disabled:r,control:s=t.control,shouldUnregister:o}=e,c=nN(s._names.array,n),u=x8({control:s,name:n,defaultValue:Re(s._formValues,n,Re(s._defaultValues,n,e.defaultValue)),exact:!0}),f=iN({control:s,name:n,exact:!0}),h=G.useRef(e),m=G.useRef(s.register(n,{...e.rules,value:u,...Xr(e.disabled)?{disabled:e.disabled}:{}})),p=G.useMemo(()=>Object.defineProperties({},{invalid:{enumerable:!0,get:()=>!!Re(f.errors,n)},isDirty:{enumerable:!0,get:()=>!!Re(f.dirtyFields,n)},isTouched:{enumerable:!0,get:()=>!!Re(f.touchedFields,n)},isValidating:{enumerable:!0,get:()=>!!Re(f.validatingFields,n)},error:{enumerable:!0,get:()=>Re(f.errors,n)}}),[f,n]),b=G.useCallback(C=>m.current.onChange({target:{value:tN(C),name:n},type:ym.CHANGE}),[n]),w=G.useCallback(()=>m.current.onBlur({target:{value:Re(s._formValues,n),name:n},type:ym.BLUR}),[n,s._formValues]),S=G.useCallback(C=>{const T=Re(s._fields,n);T&&C&&(T._f.ref={focus:()=>C.focus(),select:()=>C.select(),setCustomValidity:_=>C.setCustomValidity(_),reportValidity:()=>C.reportValidity()})},[s._fields,n]),E=G.useMemo(()=>({name:n,value:u,...Xr(r)||f.disabled?{disabled:f.disabled||r}:{},onChange:b,onBlur:w,ref:S}),[n,r,f.disabled,b,w,S,u]);return G.useEffect(()=>{const C=s._options.shouldUnregister||o;s.register(n,{...h.current.rules,...Xr(h.current.disabled)?{disabled:h.current.disabled}:{}});const T=(_,A)=>{const O=Re(s._fields,_);O&&O._f&&(O._f.mount=A)};if(T(n,!0),C){const _=nr(Re(s._options.defaultValues,n));Ft(s._defaultValues,n,_),Sn(Re(s._formValues,n))&&Ft(s._formValues,n,_)}return!c&&s.register(n),()=>{(c?C&&!s._state.action:C)?s.unregister(n):T(n,!1)}},[n,s,c,o]),G.useEffect(()=>{s._setDisabledField({disabled:r,name:n})},[r,n,s]),G.useMemo(()=>({field:E,formState:f,fieldState:p}),[E,f,p])}const S8=e=>e.render(w8(e));var lN=(e,t,n,r,s)=>t?{...n[e],types:{...n[e]&&n[e].types?n[e].types:{},[r]:s||!0}}:{},cd=e=>Array.isArray(e)?e:[e],aT=()=>{let e=[];return{get observers(){return e},next:s=>{for(const o of e)o.next&&o.next(s)},subscribe:s=>(e.push(s),{unsubscribe:()=>{e=e.filter(o=>o!==s)}}),unsubscribe:()=>{e=[]}}},Jv=e=>vr(e)||!eN(e);function Oi(e,t){if(Jv(e)||Jv(t))return e===t;if(Ao(e)&&Ao(t))return e.getTime()===t.getTime();const n=Object.keys(e),r=Object.keys(t);if(n.length!==r.length)return!1;for(const s of n){const o=e[s];if(!r.includes(s))return!1;if(s!=="ref"){const c=t[s];if(Ao(o)&&Ao(c)||Mn(o)&&Mn(c)||Array.isArray(o)&&Array.isArray(c)?!Oi(o,c):o!==c)return!1}}return!0}var yr=e=>Mn(e)&&!Object.keys(e).length,Z0=e=>e.type==="file",Oa=e=>typeof e=="function",vm=e=>{if(!G0)return!1;const t=e?e.ownerDocument:0;return e instanceof(t&&t.defaultView?t.defaultView.HTMLElement:HTMLElement)},cN=e=>e.type==="select-multiple",X0=e=>e.type==="radio",E8=e=>X0(e)||af(e),Ky=e=>vm(e)&&e.isConnected;function C8(e,t){const n=t.slice(0,-1).length;let r=0;for(;r<n;)e=Sn(e)?r++:e[t[r++]];return e}function T8(e){for(const t in e)if(e.hasOwnProperty(t)&&!Sn(e[t]))return!1;return!0}function Hn(e,t){const n=Array.isArray(t)?t:W0(t)?[t]:rN(t),r=n.length===1?e:C8(e,n),s=n.length-1,o=n[s];return r&&delete r[o],s!==0&&(Mn(r)&&yr(r)||Array.isArray(r)&&T8(r))&&Hn(e,n.slice(0,-1)),e}var uN=e=>{for(const t in e)if(Oa(e[t]))return!0;return!1};function bm(e,t={}){const n=Array.isArray(e);if(Mn(e)||n)for(const r in e)Array.isArray(e[r])||Mn(e[r])&&!uN(e[r])?(t[r]=Array.isArray(e[r])?[]:{},bm(e[r],t[r])):vr(e[r])||(t[r]=!0);return t}function dN(e,t,n){const r=Array.isArray(e);if(Mn(e)||r)for(const s in e)Array.isArray(e[s])||Mn(e[s])&&!uN(e[s])?Sn(t)||Jv(n[s])?n[s]=Array.isArray(e[s])?bm(e[s],[]):{...bm(e[s])}:dN(e[s],vr(t)?{}:t[s],n[s]):n[s]=!Oi(e[s],t[s]);return n}var Yu=(e,t)=>dN(e,t,bm(t));const sT={value:!1,isValid:!1},iT={value:!0,isValid:!0};var fN=e=>{if(Array.isArray(e)){if(e.length>1){const t=e.filter(n=>n&&n.checked&&!n.disabled).map(n=>n.value);return{value:t,isValid:!!t.length}}return e[0].checked&&!e[0].disabled?e[0].attributes&&!Sn(e[0].attributes.value)?Sn(e[0].value)||e[0].value===""?iT:{value:e[0].value,isValid:!0}:iT:sT}return sT},hN=(e,{valueAsNumber:t,valueAsDate:n,setValueAs:r})=>Sn(e)?e:t?e===""?NaN:e&&+e:n&&Qa(e)?new Date(e):r?r(e):e;const oT={isValid:!1,value:null};var mN=e=>Array.isArray(e)?e.reduce((t,n)=>n&&n.checked&&!n.disabled?{isValid:!0,value:n.value}:t,oT):oT;function lT(e){const t=e.ref;return Z0(t)?t.files:X0(t)?mN(e.refs).value:cN(t)?[...t.selectedOptions].map(({value:n})=>n):af(t)?fN(e.refs).value:hN(Sn(t.value)?e.ref.value:t.value,e)}var M8=(e,t,n,r)=>{const s={};for(const o of e){const c=Re(t,o);c&&Ft(s,o,c._f)}return{criteriaMode:n,names:[...e],fields:s,shouldUseNativeValidation:r}},xm=e=>e instanceof RegExp,Gu=e=>Sn(e)?e:xm(e)?e.source:Mn(e)?xm(e.value)?e.value.source:e.value:e,cT=e=>({isOnSubmit:!e||e===Na.onSubmit,isOnBlur:e===Na.onBlur,isOnChange:e===Na.onChange,isOnAll:e===Na.all,isOnTouch:e===Na.onTouched});const uT="AsyncFunction";var _8=e=>!!e&&!!e.validate&&!!(Oa(e.validate)&&e.validate.constructor.name===uT||Mn(e.validate)&&Object.values(e.validate).find(t=>t.constructor.name===uT)),A8=e=>e.mount&&(e.required||e.min||e.max||e.maxLength||e.minLength||e.pattern||e.validate),dT=(e,t,n)=>!n&&(t.watchAll||t.watch.has(e)||[...t.watch].some(r=>e.startsWith(r)&&/^\.\w+/.test(e.slice(r.length))));const ud=(e,t,n,r)=>{for(const s of n||Object.keys(e)){const o=Re(e,s);if(o){const{_f:c,...u}=o;if(c){if(c.refs&&c.refs[0]&&t(c.refs[0],s)&&!r)return!0;if(c.ref&&t(c.ref,c.name)&&!r)return!0;if(ud(u,t))break}else if(Mn(u)&&ud(u,t))break}}};function fT(e,t,n){const r=Re(e,n);if(r||W0(n))return{error:r,name:n};const s=n.split(".");for(;s.length;){const o=s.join("."),c=Re(t,o),u=Re(e,o);if(c&&!Array.isArray(c)&&n!==o)return{name:n};if(u&&u.type)return{name:o,error:u};s.pop()}return{name:n}}var R8=(e,t,n,r)=>{n(e);const{name:s,...o}=e;return yr(o)||Object.keys(o).length>=Object.keys(t).length||Object.keys(o).find(c=>t[c]===(!r||Na.all))},D8=(e,t,n)=>!e||!t||e===t||cd(e).some(r=>r&&(n?r===t:r.startsWith(t)||t.startsWith(r))),N8=(e,t,n,r,s)=>s.isOnAll?!1:!n&&s.isOnTouch?!(t||e):(n?r.isOnBlur:s.isOnBlur)?!e:(n?r.isOnChange:s.isOnChange)?e:!0,O8=(e,t)=>!sp(Re(e,t)).length&&Hn(e,t),k8=(e,t,n)=>{const r=cd(Re(e,n));return Ft(r,"root",t[n]),Ft(e,n,r),e},Xh=e=>Qa(e);function hT(e,t,n="validate"){if(Xh(e)||Array.isArray(e)&&e.every(Xh)||Xr(e)&&!e)return{type:n,message:Xh(e)?e:"",ref:t}}var Vl=e=>Mn(e)&&!xm(e)?e:{value:e,message:""},mT=async(e,t,n,r,s,o)=>{const{ref:c,refs:u,required:f,maxLength:h,minLength:m,min:p,max:b,pattern:w,validate:S,name:E,valueAsNumber:C,mount:T}=e._f,_=Re(n,E);if(!T||t.has(E))return{};const A=u?u[0]:c,O=ce=>{s&&A.reportValidity&&(A.setCustomValidity(Xr(ce)?"":ce||""),A.reportValidity())},R={},D=X0(c),L=af(c),k=D||L,H=(C||Z0(c))&&Sn(c.value)&&Sn(_)||vm(c)&&c.value===""||_===""||Array.isArray(_)&&!_.length,X=lN.bind(null,E,r,R),oe=(ce,de,Q,fe=As.maxLength,P=As.minLength)=>{const K=ce?de:Q;R[E]={type:ce?fe:P,message:K,ref:c,...X(ce?fe:P,K)}};if(o?!Array.isArray(_)||!_.length:f&&(!k&&(H||vr(_))||Xr(_)&&!_||L&&!fN(u).isValid||D&&!mN(u).isValid)){const{value:ce,message:de}=Xh(f)?{value:!!f,message:f}:Vl(f);if(ce&&(R[E]={type:As.required,message:de,ref:A,...X(As.required,de)},!r))return O(de),R}if(!H&&(!vr(p)||!vr(b))){let ce,de;const Q=Vl(b),fe=Vl(p);if(!vr(_)&&!isNaN(_)){const P=c.valueAsNumber||_&&+_;vr(Q.value)||(ce=P>Q.value),vr(fe.value)||(de=P<fe.value)}else{const P=c.valueAsDate||new Date(_),K=j=>new Date(new Date().toDateString()+" "+j),I=c.type=="time",J=c.type=="week";Qa(Q.value)&&_&&(ce=I?K(_)>K(Q.value):J?_>Q.value:P>new Date(Q.value)),Qa(fe.value)&&_&&(de=I?K(_)<K(fe.value):J?_<fe.value:P<new Date(fe.value))}if((ce||de)&&(oe(!!ce,Q.message,fe.message,As.max,As.min),!r))return O(R[E].message),R}if((h||m)&&!H&&(Qa(_)||o&&Array.isArray(_))){const ce=Vl(h),de=Vl(m),Q=!vr(ce.value)&&_.length>+ce.value,fe=!vr(de.value)&&_.length<+de.value;if((Q||fe)&&(oe(Q,ce.message,de.message),!r))return O(R[E].message),R}if(w&&!H&&Qa(_)){const{value:ce,message:de}=Vl(w);if(xm(ce)&&!_.match(ce)&&(R[E]={type:As.pattern,message:de,ref:c,...X(As.pattern,de)},!r))return O(de),R}if(S){if(Oa(S)){const ce=await S(_,n),de=hT(ce,A);if(de&&(R[E]={...de,...X(As.validate,de.message)},!r))return O(de.message),R}else if(Mn(S)){let ce={};for(const de in S){if(!yr(ce)&&!r)break;const Q=hT(await S[de](_,n),A,de);Q&&(ce={...Q,...X(de,Q.message)},O(Q.message),r&&(R[E]=ce))}if(!yr(ce)&&(R[E]={ref:A,...ce},!r))return R}}return O(!0),R};const j8={mode:Na.onSubmit,reValidateMode:Na.onChange,shouldFocusError:!0};function P8(e={}){let t={...j8,...e},n={submitCount:0,isDirty:!1,isReady:!1,isLoading:Oa(t.defaultValues),isValidating:!1,isSubmitted:!1,isSubmitting:!1,isSubmitSuccessful:!1,isValid:!1,touchedFields:{},dirtyFields:{},validatingFields:{},errors:t.errors||{},disabled:t.disabled||!1};const r={};let s=Mn(t.defaultValues)||Mn(t.values)?nr(t.defaultValues||t.values)||{}:{},o=t.shouldUnregister?{}:nr(s),c={action:!1,mount:!1,watch:!1},u={mount:new Set,disabled:new Set,unMount:new Set,array:new Set,watch:new Set},f,h=0;const m={isDirty:!1,dirtyFields:!1,validatingFields:!1,touchedFields:!1,isValidating:!1,isValid:!1,errors:!1};let p={...m};const b={array:aT(),state:aT()},w=t.criteriaMode===Na.all,S=z=>ee=>{clearTimeout(h),h=setTimeout(z,ee)},E=async z=>{if(!t.disabled&&(m.isValid||p.isValid||z)){const ee=t.resolver?yr((await L()).errors):await H(r,!0);ee!==n.isValid&&b.state.next({isValid:ee})}},C=(z,ee)=>{!t.disabled&&(m.isValidating||m.validatingFields||p.isValidating||p.validatingFields)&&((z||Array.from(u.mount)).forEach(se=>{se&&(ee?Ft(n.validatingFields,se,ee):Hn(n.validatingFields,se))}),b.state.next({validatingFields:n.validatingFields,isValidating:!yr(n.validatingFields)}))},T=(z,ee=[],se,Ee,Ce=!0,we=!0)=>{if(Ee&&se&&!t.disabled){if(c.action=!0,we&&Array.isArray(Re(r,z))){const Ae=se(Re(r,z),Ee.argA,Ee.argB);Ce&&Ft(r,z,Ae)}if(we&&Array.isArray(Re(n.errors,z))){const Ae=se(Re(n.errors,z),Ee.argA,Ee.argB);Ce&&Ft(n.errors,z,Ae),O8(n.errors,z)}if((m.touchedFields||p.touchedFields)&&we&&Array.isArray(Re(n.touchedFields,z))){const Ae=se(Re(n.touchedFields,z),Ee.argA,Ee.argB);Ce&&Ft(n.touchedFields,z,Ae)}(m.dirtyFields||p.dirtyFields)&&(n.dirtyFields=Yu(s,o)),b.state.next({name:z,isDirty:oe(z,ee),dirtyFields:n.dirtyFields,errors:n.errors,isValid:n.isValid})}else Ft(o,z,ee)},_=(z,ee)=>{Ft(n.errors,z,ee),b.state.next({errors:n.errors})},A=z=>{n.errors=z,b.state.next({errors:n.errors,isValid:!1})},O=(z,ee,se,Ee)=>{const Ce=Re(r,z);if(Ce){const we=Re(o,z,Sn(se)?Re(s,z):se);Sn(we)||Ee&&Ee.defaultChecked||ee?Ft(o,z,ee?we:lT(Ce._f)):Q(z,we),c.mount&&E()}},R=(z,ee,se,Ee,Ce)=>{let we=!1,Ae=!1;const Be={name:z};if(!t.disabled){if(!se||Ee){(m.isDirty||p.isDirty)&&(Ae=n.isDirty,n.isDirty=Be.isDirty=oe(),we=Ae!==Be.isDirty);const lt=Oi(Re(s,z),ee);Ae=!!Re(n.dirtyFields,z),lt?Hn(n.dirtyFields,z):Ft(n.dirtyFields,z,!0),Be.dirtyFields=n.dirtyFields,we=we||(m.dirtyFields||p.dirtyFields)&&Ae!==!lt}if(se){const lt=Re(n.touchedFields,z);lt||(Ft(n.touchedFields,z,se),Be.touchedFields=n.touchedFields,we=we||(m.touchedFields||p.touchedFields)&&lt!==se)}we&&Ce&&b.state.next(Be)}return we?Be:{}},D=(z,ee,se,Ee)=>{const Ce=Re(n.errors,z),we=(m.isValid||p.isValid)&&Xr(ee)&&n.isValid!==ee;if(t.delayError&&se?(f=S(()=>_(z,se)),f(t.delayError)):(clearTimeout(h),f=null,se?Ft(n.errors,z,se):Hn(n.errors,z)),(se?!Oi(Ce,se):Ce)||!yr(Ee)||we){const Ae={...Ee,...we&&Xr(ee)?{isValid:ee}:{},errors:n.errors,name:z};n={...n,...Ae},b.state.next(Ae)}},L=async z=>{C(z,!0);const ee=await t.resolver(o,t.context,M8(z||u.mount,r,t.criteriaMode,t.shouldUseNativeValidation));return C(z),ee},k=async z=>{const{errors:ee}=await L(z);if(z)for(const se of z){const Ee=Re(ee,se);Ee?Ft(n.errors,se,Ee):Hn(n.errors,se)}else n.errors=ee;return ee},H=async(z,ee,se={valid:!0})=>{for(const Ee in z){const Ce=z[Ee];if(Ce){const{_f:we,...Ae}=Ce;if(we){const Be=u.array.has(we.name),lt=Ce._f&&_8(Ce._f);lt&&m.validatingFields&&C([Ee],!0);const pt=await mT(Ce,u.disabled,o,w,t.shouldUseNativeValidation&&!ee,Be);if(lt&&m.validatingFields&&C([Ee]),pt[we.name]&&(se.valid=!1,ee))break;!ee&&(Re(pt,we.name)?Be?k8(n.errors,pt,we.name):Ft(n.errors,we.name,pt[we.name]):Hn(n.errors,we.name))}!yr(Ae)&&await H(Ae,ee,se)}}return se.valid},X=()=>{for(const z of u.unMount){const ee=Re(r,z);ee&&(ee._f.refs?ee._f.refs.every(se=>!Ky(se)):!Ky(ee._f.ref))&&Se(z)}u.unMount=new Set},oe=(z,ee)=>!t.disabled&&(z&&ee&&Ft(o,z,ee),!Oi(j(),s)),ce=(z,ee,se)=>oN(z,u,{...c.mount?o:Sn(ee)?s:Qa(z)?{[z]:ee}:ee},se,ee),de=z=>sp(Re(c.mount?o:s,z,t.shouldUnregister?Re(s,z,[]):[])),Q=(z,ee,se={})=>{const Ee=Re(r,z);let Ce=ee;if(Ee){const we=Ee._f;we&&(!we.disabled&&Ft(o,z,hN(ee,we)),Ce=vm(we.ref)&&vr(ee)?"":ee,cN(we.ref)?[...we.ref.options].forEach(Ae=>Ae.selected=Ce.includes(Ae.value)):we.refs?af(we.ref)?we.refs.forEach(Ae=>{(!Ae.defaultChecked||!Ae.disabled)&&(Array.isArray(Ce)?Ae.checked=!!Ce.find(Be=>Be===Ae.value):Ae.checked=Ce===Ae.value||!!Ce)}):we.refs.forEach(Ae=>Ae.checked=Ae.value===Ce):Z0(we.ref)?we.ref.value="":(we.ref.value=Ce,we.ref.type||b.state.next({name:z,values:nr(o)})))}(se.shouldDirty||se.shouldTouch)&&R(z,Ce,se.shouldTouch,se.shouldDirty,!0),se.shouldValidate&&J(z)},fe=(z,ee,se)=>{for(const Ee in ee){if(!ee.hasOwnProperty(Ee))return;const Ce=ee[Ee],we=`${z}.${Ee}`,Ae=Re(r,we);(u.array.has(z)||Mn(Ce)||Ae&&!Ae._f)&&!Ao(Ce)?fe(we,Ce,se):Q(we,Ce,se)}},P=(z,ee,se={})=>{const Ee=Re(r,z),Ce=u.array.has(z),we=nr(ee);Ft(o,z,we),Ce?(b.array.next({name:z,values:nr(o)}),(m.isDirty||m.dirtyFields||p.isDirty||p.dirtyFields)&&se.shouldDirty&&b.state.next({name:z,dirtyFields:Yu(s,o),isDirty:oe(z,we)})):Ee&&!Ee._f&&!vr(we)?fe(z,we,se):Q(z,we,se),dT(z,u)&&b.state.next({...n}),b.state.next({name:c.mount?z:void 0,values:nr(o)})},K=async z=>{c.mount=!0;const ee=z.target;let se=ee.name,Ee=!0;const Ce=Re(r,se),we=lt=>{Ee=Number.isNaN(lt)||Ao(lt)&&isNaN(lt.getTime())||Oi(lt,Re(o,se,lt))},Ae=cT(t.mode),Be=cT(t.reValidateMode);if(Ce){let lt,pt;const tn=ee.type?lT(Ce._f):tN(z),Gt=z.type===ym.BLUR||z.type===ym.FOCUS_OUT,Bn=!A8(Ce._f)&&!t.resolver&&!Re(n.errors,se)&&!Ce._f.deps||N8(Gt,Re(n.touchedFields,se),n.isSubmitted,Be,Ae),An=dT(se,u,Gt);Ft(o,se,tn),Gt?(Ce._f.onBlur&&Ce._f.onBlur(z),f&&f(0)):Ce._f.onChange&&Ce._f.onChange(z);const Qn=R(se,tn,Gt),Yn=!yr(Qn)||An;if(!Gt&&b.state.next({name:se,type:z.type,values:nr(o)}),Bn)return(m.isValid||p.isValid)&&(t.mode==="onBlur"?Gt&&E():Gt||E()),Yn&&b.state.next({name:se,...An?{}:Qn});if(!Gt&&An&&b.state.next({...n}),t.resolver){const{errors:Gn}=await L([se]);if(we(tn),Ee){const Wn=fT(n.errors,r,se),ar=fT(Gn,r,Wn.name||se);lt=ar.error,se=ar.name,pt=yr(Gn)}}else C([se],!0),lt=(await mT(Ce,u.disabled,o,w,t.shouldUseNativeValidation))[se],C([se]),we(tn),Ee&&(lt?pt=!1:(m.isValid||p.isValid)&&(pt=await H(r,!0)));Ee&&(Ce._f.deps&&J(Ce._f.deps),D(se,pt,lt,Qn))}},I=(z,ee)=>{if(Re(n.errors,ee)&&z.focus)return z.focus(),1},J=async(z,ee={})=>{let se,Ee;const Ce=cd(z);if(t.resolver){const we=await k(Sn(z)?z:Ce);se=yr(we),Ee=z?!Ce.some(Ae=>Re(we,Ae)):se}else z?(Ee=(await Promise.all(Ce.map(async we=>{const Ae=Re(r,we);return await H(Ae&&Ae._f?{[we]:Ae}:Ae)}))).every(Boolean),!(!Ee&&!n.isValid)&&E()):Ee=se=await H(r);return b.state.next({...!Qa(z)||(m.isValid||p.isValid)&&se!==n.isValid?{}:{name:z},...t.resolver||!z?{isValid:se}:{},errors:n.errors}),ee.shouldFocus&&!Ee&&ud(r,I,z?Ce:u.mount),Ee},j=z=>{const ee={...c.mount?o:s};return Sn(z)?ee:Qa(z)?Re(ee,z):z.map(se=>Re(ee,se))},W=(z,ee)=>({invalid:!!Re((ee||n).errors,z),isDirty:!!Re((ee||n).dirtyFields,z),error:Re((ee||n).errors,z),isValidating:!!Re(n.validatingFields,z),isTouched:!!Re((ee||n).touchedFields,z)}),B=z=>{z&&cd(z).forEach(ee=>Hn(n.errors,ee)),b.state.next({errors:z?n.errors:{}})},q=(z,ee,se)=>{const Ee=(Re(r,z,{_f:{}})._f||{}).ref,Ce=Re(n.errors,z)||{},{ref:we,message:Ae,type:Be,...lt}=Ce;Ft(n.errors,z,{...lt,...ee,ref:Ee}),b.state.next({name:z,errors:n.errors,isValid:!1}),se&&se.shouldFocus&&Ee&&Ee.focus&&Ee.focus()},le=(z,ee)=>Oa(z)?b.state.subscribe({next:se=>z(ce(void 0,ee),se)}):ce(z,ee,!0),ge=z=>b.state.subscribe({next:ee=>{D8(z.name,ee.name,z.exact)&&R8(ee,z.formState||m,At,z.reRenderRoot)&&z.callback({values:{...o},...n,...ee})}}).unsubscribe,he=z=>(c.mount=!0,p={...p,...z.formState},ge({...z,formState:p})),Se=(z,ee={})=>{for(const se of z?cd(z):u.mount)u.mount.delete(se),u.array.delete(se),ee.keepValue||(Hn(r,se),Hn(o,se)),!ee.keepError&&Hn(n.errors,se),!ee.keepDirty&&Hn(n.dirtyFields,se),!ee.keepTouched&&Hn(n.touchedFields,se),!ee.keepIsValidating&&Hn(n.validatingFields,se),!t.shouldUnregister&&!ee.keepDefaultValue&&Hn(s,se);b.state.next({values:nr(o)}),b.state.next({...n,...ee.keepDirty?{isDirty:oe()}:{}}),!ee.keepIsValid&&E()},_e=({disabled:z,name:ee})=>{(Xr(z)&&c.mount||z||u.disabled.has(ee))&&(z?u.disabled.add(ee):u.disabled.delete(ee))},ke=(z,ee={})=>{let se=Re(r,z);const Ee=Xr(ee.disabled)||Xr(t.disabled);return Ft(r,z,{...se||{},_f:{...se&&se._f?se._f:{ref:{name:z}},name:z,mount:!0,...ee}}),u.mount.add(z),se?_e({disabled:Xr(ee.disabled)?ee.disabled:t.disabled,name:z}):O(z,!0,ee.value),{...Ee?{disabled:ee.disabled||t.disabled}:{},...t.progressive?{required:!!ee.required,min:Gu(ee.min),max:Gu(ee.max),minLength:Gu(ee.minLength),maxLength:Gu(ee.maxLength),pattern:Gu(ee.pattern)}:{},name:z,onChange:K,onBlur:K,ref:Ce=>{if(Ce){ke(z,ee),se=Re(r,z);const we=Sn(Ce.value)&&Ce.querySelectorAll&&Ce.querySelectorAll("input,select,textarea")[0]||Ce,Ae=E8(we),Be=se._f.refs||[];if(Ae?Be.find(lt=>lt===we):we===se._f.ref)return;Ft(r,z,{_f:{...se._f,...Ae?{refs:[...Be.filter(Ky),we,...Array.isArray(Re(s,z))?[{}]:[]],ref:{type:we.type,name:z}}:{ref:we}}}),O(z,!1,void 0,we)}else se=Re(r,z,{}),se._f&&(se._f.mount=!1),(t.shouldUnregister||ee.shouldUnregister)&&!(nN(u.array,z)&&c.action)&&u.unMount.add(z)}}},Fe=()=>t.shouldFocusError&&ud(r,I,u.mount),nt=z=>{Xr(z)&&(b.state.next({disabled:z}),ud(r,(ee,se)=>{const Ee=Re(r,se);Ee&&(ee.disabled=Ee._f.disabled||z,Array.isArray(Ee._f.refs)&&Ee._f.refs.forEach(Ce=>{Ce.disabled=Ee._f.disabled||z}))},0,!1))},Me=(z,ee)=>async se=>{let Ee;se&&(se.preventDefault&&se.preventDefault(),se.persist&&se.persist());let Ce=nr(o);if(b.state.next({isSubmitting:!0}),t.resolver){const{errors:we,values:Ae}=await L();n.errors=we,Ce=Ae}else await H(r);if(u.disabled.size)for(const we of u.disabled)Ft(Ce,we,void 0);if(Hn(n.errors,"root"),yr(n.errors)){b.state.next({errors:{}});try{await z(Ce,se)}catch(we){Ee=we}}else ee&&await ee({...n.errors},se),Fe(),setTimeout(Fe);if(b.state.next({isSubmitted:!0,isSubmitting:!1,isSubmitSuccessful:yr(n.errors)&&!Ee,submitCount:n.submitCount+1,errors:n.errors}),Ee)throw Ee},ct=(z,ee={})=>{Re(r,z)&&(Sn(ee.defaultValue)?P(z,nr(Re(s,z))):(P(z,ee.defaultValue),Ft(s,z,nr(ee.defaultValue))),ee.keepTouched||Hn(n.touchedFields,z),ee.keepDirty||(Hn(n.dirtyFields,z),n.isDirty=ee.defaultValue?oe(z,nr(Re(s,z))):oe()),ee.keepError||(Hn(n.errors,z),m.isValid&&E()),b.state.next({...n}))},ot=(z,ee={})=>{const se=z?nr(z):s,Ee=nr(se),Ce=yr(z),we=Ce?s:Ee;if(ee.keepDefaultValues||(s=se),!ee.keepValues){if(ee.keepDirtyValues){const Ae=new Set([...u.mount,...Object.keys(Yu(s,o))]);for(const Be of Array.from(Ae))Re(n.dirtyFields,Be)?Ft(we,Be,Re(o,Be)):P(Be,Re(we,Be))}else{if(G0&&Sn(z))for(const Ae of u.mount){const Be=Re(r,Ae);if(Be&&Be._f){const lt=Array.isArray(Be._f.refs)?Be._f.refs[0]:Be._f.ref;if(vm(lt)){const pt=lt.closest("form");if(pt){pt.reset();break}}}}for(const Ae of u.mount)P(Ae,Re(we,Ae))}o=nr(we),b.array.next({values:{...we}}),b.state.next({values:{...we}})}u={mount:ee.keepDirtyValues?u.mount:new Set,unMount:new Set,array:new Set,disabled:new Set,watch:new Set,watchAll:!1,focus:""},c.mount=!m.isValid||!!ee.keepIsValid||!!ee.keepDirtyValues,c.watch=!!t.shouldUnregister,b.state.next({submitCount:ee.keepSubmitCount?n.submitCount:0,isDirty:Ce?!1:ee.keepDirty?n.isDirty:!!(ee.keepDefaultValues&&!Oi(z,s)),isSubmitted:ee.keepIsSubmitted?n.isSubmitted:!1,dirtyFields:Ce?{}:ee.keepDirtyValues?ee.keepDefaultValues&&o?Yu(s,o):n.dirtyFields:ee.keepDefaultValues&&z?Yu(s,z):ee.keepDirty?n.dirtyFields:{},touchedFields:ee.keepTouched?n.touchedFields:{},errors:ee.keepErrors?n.errors:{},isSubmitSuccessful:ee.keepIsSubmitSuccessful?n.isSubmitSuccessful:!1,isSubmitting:!1})},Yt=(z,ee)=>ot(Oa(z)?z(o):z,ee),an=(z,ee={})=>{const se=Re(r,z),Ee=se&&se._f;if(Ee){const Ce=Ee.refs?Ee.refs[0]:Ee.ref;Ce.focus&&(Ce.focus(),ee.shouldSelect&&Oa(Ce.select)&&Ce.select())}},At=z=>{n={...n,...z}},Ot={control:{register:ke,unregister:Se,getFieldState:W,handleSubmit:Me,setError:q,_subscribe:ge,_runSchema:L,_getWatch:ce,_getDirty:oe,_setValid:E,_setFieldArray:T,_setDisabledField:_e,_setErrors:A,_getFieldArray:de,_reset:ot,_resetDefaultValues:()=>Oa(t.defaultValues)&&t.defaultValues().then(z=>{Yt(z,t.resetOptions),b.state.next({isLoading:!1})}),_removeUnmounted:X,_disableForm:nt,_subjects:b,_proxyFormState:m,get _fields(){return r},get _formValues(){return o},get _state(){return c},set _state(z){c=z},get _defaultValues(){return s},get _names(){return u},set _names(z){u=z},get _formState(){return n},get _options(){return t},set _options(z){t={...t,...z}}},subscribe:he,trigger:J,register:ke,handleSubmit:Me,watch:le,setValue:P,getValues:j,reset:Yt,resetField:ct,clearErrors:B,unregister:Se,setError:q,setFocus:an,getFieldState:W};return{...Ot,formControl:Ot}}function jc(e={}){const t=G.useRef(void 0),n=G.useRef(void 0),[r,s]=G.useState({isDirty:!1,isValidating:!1,isLoading:Oa(e.defaultValues),isSubmitted:!1,isSubmitting:!1,isSubmitSuccessful:!1,isValid:!1,submitCount:0,dirtyFields:{},touchedFields:{},validatingFields:{},errors:e.errors||{},disabled:e.disabled||!1,isReady:!1,defaultValues:Oa(e.defaultValues)?void 0:e.defaultValues});t.current||(t.current={...e.formControl?e.formControl:P8(e),formState:r},e.formControl&&e.defaultValues&&!Oa(e.defaultValues)&&e.formControl.reset(e.defaultValues,e.resetOptions));const o=t.current.control;return o._options=e,K0(()=>{const c=o._subscribe({formState:o._proxyFormState,callback:()=>s({...o._formState}),reRenderRoot:!0});return s(u=>({...u,isReady:!0})),o._formState.isReady=!0,c},[o]),G.useEffect(()=>o._disableForm(e.disabled),[o,e.disabled]),G.useEffect(()=>{e.mode&&(o._options.mode=e.mode),e.reValidateMode&&(o._options.reValidateMode=e.reValidateMode),e.errors&&!yr(e.errors)&&o._setErrors(e.errors)},[o,e.errors,e.mode,e.reValidateMode]),G.useEffect(()=>{e.shouldUnregister&&o._subjects.state.next({values:o._getWatch()})},[o,e.shouldUnregister]),G.useEffect(()=>{if(o._proxyFormState.isDirty){const c=o._getDirty();c!==r.isDirty&&o._subjects.state.next({isDirty:c})}},[o,r.isDirty]),G.useEffect(()=>{e.values&&!Oi(e.values,n.current)?(o._reset(e.values,o._options.resetOptions),n.current=e.values,s(c=>({...c}))):o._resetDefaultValues()},[o,e.values]),G.useEffect(()=>{o._state.mount||(o._setValid(),o._state.mount=!0),o._state.watch&&(o._state.watch=!1,o._subjects.state.next({...o._formState})),o._removeUnmounted()}),t.current.formState=sN(r,o),t.current}function eb({className:e,...t}){return g.jsx(g8,{"data-slot":"label",className:be("flex items-center gap-2 text-sm leading-none font-medium select-none group-data-[disabled=true]:pointer-events-none group-data-[disabled=true]:opacity-50 peer-disabled:cursor-not-allowed peer-disabled:opacity-50",e),...t})}const Pc=b8,pN=x.createContext({}),On=({...e})=>g.jsx(pN.Provider,{value:{name:e.name},children:g.jsx(S8,{...e})}),Q0=()=>{const e=x.useContext(pN),t=x.useContext(gN),{getFieldState:n}=ip(),r=iN({name:e.name}),s=n(e.name,r);if(!e)throw new Error("useFormField should be used within <FormField>");const{id:o}=t;return{id:o,name:e.name,formItemId:`${o}-form-item`,formDescriptionId:`${o}-form-item-description`,formMessageId:`${o}-form-item-message`,...s}},gN=x.createContext({});function kn({className:e,...t}){const n=x.useId();return g.jsx(gN.Provider,{value:{id:n},children:g.jsx("div",{"data-slot":"form-item",className:be("grid gap-2",e),...t})})}function jn({className:e,...t}){const{error:n,formItemId:r}=Q0();return g.jsx(eb,{"data-slot":"form-label","data-error":!!n,className:be("data-[error=true]:text-destructive",e),htmlFor:r,...t})}function Pn({...e}){const{error:t,formItemId:n,formDescriptionId:r,formMessageId:s}=Q0();return g.jsx(Cc,{"data-slot":"form-control",id:n,"aria-describedby":t?`${r} ${s}`:`${r}`,"aria-invalid":!!t,...e})}function Ln({className:e,...t}){const{error:n,formMessageId:r}=Q0(),s=n?String((n==null?void 0:n.message)??""):t.children;return s?g.jsx("p",{"data-slot":"form-message",id:r,className:be("text-destructive text-sm",e),...t,children:s}):null}var zt;(function(e){e.assertEqual=s=>{};function t(s){}e.assertIs=t;function n(s){throw new Error}e.assertNever=n,e.arrayToEnum=s=>{const o={};for(const c of s)o[c]=c;return o},e.getValidEnumValues=s=>{const o=e.objectKeys(s).filter(u=>typeof s[s[u]]!="number"),c={};for(const u of o)c[u]=s[u];return e.objectValues(c)},e.objectValues=s=>e.objectKeys(s).map(function(o){return s[o]}),e.objectKeys=typeof Object.keys=="function"?s=>Object.keys(s):s=>{const o=[];for(const c in s)Object.prototype.hasOwnProperty.call(s,c)&&o.push(c);return o},e.find=(s,o)=>{for(const c of s)if(o(c))return c},e.isInteger=typeof Number.isInteger=="function"?s=>Number.isInteger(s):s=>typeof s=="number"&&Number.isFinite(s)&&Math.floor(s)===s;function r(s,o=" | "){return s.map(c=>typeof c=="string"?`'${c}'`:c).join(o)}e.joinValues=r,e.jsonStringifyReplacer=(s,o)=>typeof o=="bigint"?o.toString():o})(zt||(zt={}));var pT;(function(e){e.mergeShapes=(t,n)=>({...t,...n})})(pT||(pT={}));const ze=zt.arrayToEnum(["string","nan","number","integer","float","boolean","date","bigint","symbol","function","undefined","null","array","object","unknown","promise","void","never","map","set"]),Di=e=>{switch(typeof e){case"undefined":return ze.undefined;case"string":return ze.string;case"number":return Number.isNaN(e)?ze.nan:ze.number;case"boolean":return ze.boolean;case"function":return ze.function;case"bigint":return ze.bigint;case"symbol":return ze.symbol;case"object":return Array.isArray(e)?ze.array:e===null?ze.null:e.then&&typeof e.then=="function"&&e.catch&&typeof e.catch=="function"?ze.promise:typeof Map<"u"&&e instanceof Map?ze.map:typeof Set<"u"&&e instanceof Set?ze.set:typeof Date<"u"&&e instanceof Date?ze.date:ze.object;default:return ze.unknown}},Te=zt.arrayToEnum(["invalid_type","invalid_literal","custom","invalid_union","invalid_union_discriminator","invalid_enum_value","unrecognized_keys","invalid_arguments","invalid_return_type","invalid_date","invalid_string","too_small","too_big","invalid_intersection_types","not_multiple_of","not_finite"]);class Is extends Error{get errors(){return this.issues}constructor(t){super(),this.issues=[],this.addIssue=r=>{this.issues=[...this.issues,r]},this.addIssues=(r=[])=>{this.issues=[...this.issues,...r]};const n=new.target.prototype;Object.setPrototypeOf?Object.setPrototypeOf(this,n):this.__proto__=n,this.name="ZodError",this.issues=t}format(t){const n=t||function(o){return o.message},r={_errors:[]},s=o=>{for(const c of o.issues)if(c.code==="invalid_union")c.unionErrors.map(s);else if(c.code==="invalid_return_type")s(c.returnTypeError);else if(c.code==="invalid_arguments")s(c.argumentsError);else if(c.path.length===0)r._errors.push(n(c));else{let u=r,f=0;for(;f<c.path.length;){const h=c.path[f];f===c.path.length-1?(u[h]=u[h]||{_errors:[]},u[h]._errors.push(n(c))):u[h]=u[h]||{_errors:[]},u=u[h],f++}}};return s(this),r}static assert(t){if(!(t instanceof Is))throw new Error(`Not a ZodError: ${t}`)}toString(){return this.message}get message(){return JSON.stringify(this.issues,zt.jsonStringifyReplacer,2)}get isEmpty(){return this.issues.length===0}flatten(t=n=>n.message){const n={},r=[];for(const s of this.issues)s.path.length>0?(n[s.path[0]]=n[s.path[0]]||[],n[s.path[0]].push(t(s))):r.push(t(s));return{formErrors:r,fieldErrors:n}}get formErrors(){return this.flatten()}}Is.create=e=>new Is(e);const tb=(e,t)=>{let n;switch(e.code){case Te.invalid_type:e.received===ze.undefined?n="Required":n=`Expected ${e.expected}, received ${e.received}`;break;case Te.invalid_literal:n=`Invalid literal value, expected ${JSON.stringify(e.expected,zt.jsonStringifyReplacer)}`;break;case Te.unrecognized_keys:n=`Unrecognized key(s) in object: ${zt.joinValues(e.keys,", ")}`;break;case Te.invalid_union:n="Invalid input";break;case Te.invalid_union_discriminator:n=`Invalid discriminator value. Expected ${zt.joinValues(e.options)}`;break;case Te.invalid_enum_value:n=`Invalid enum value. Expected ${zt.joinValues(e.options)}, received '${e.received}'`;break;case Te.invalid_arguments:n="Invalid function arguments";break;case Te.invalid_return_type:n="Invalid function return type";break;case Te.invalid_date:n="Invalid date";break;case Te.invalid_string:typeof e.validation=="object"?"includes"in e.validation?(n=`Invalid input: must include "${e.validation.includes}"`,typeof e.validation.position=="number"&&(n=`${n} at one or more positions greater than or equal to ${e.validation.position}`)):"startsWith"in e.validation?n=`Invalid input: must start with "${e.validation.startsWith}"`:"endsWith"in e.validation?n=`Invalid input: must end with "${e.validation.endsWith}"`:zt.assertNever(e.validation):e.validation!=="regex"?n=`Invalid ${e.validation}`:n="Invalid";break;case Te.too_small:e.type==="array"?n=`Array must contain ${e.exact?"exactly":e.inclusive?"at least":"more than"} ${e.minimum} element(s)`:e.type==="string"?n=`String must contain ${e.exact?"exactly":e.inclusive?"at least":"over"} ${e.minimum} character(s)`:e.type==="number"?n=`Number must be ${e.exact?"exactly equal to ":e.inclusive?"greater than or equal to ":"greater than "}${e.minimum}`:e.type==="date"?n=`Date must be ${e.exact?"exactly equal to ":e.inclusive?"greater than or equal to ":"greater than "}${new Date(Number(e.minimum))}`:n="Invalid input";break;case Te.too_big:e.type==="array"?n=`Array must contain ${e.exact?"exactly":e.inclusive?"at most":"less than"} ${e.maximum} element(s)`:e.type==="string"?n=`String must contain ${e.exact?"exactly":e.inclusive?"at most":"under"} ${e.maximum} character(s)`:e.type==="number"?n=`Number must be ${e.exact?"exactly":e.inclusive?"less than or equal to":"less than"} ${e.maximum}`:e.type==="bigint"?n=`BigInt must be ${e.exact?"exactly":e.inclusive?"less than or equal to":"less than"} ${e.maximum}`:e.type==="date"?n=`Date must be ${e.exact?"exactly":e.inclusive?"smaller than or equal to":"smaller than"} ${new Date(Number(e.maximum))}`:n="Invalid input";break;case Te.custom:n="Invalid input";break;case Te.invalid_intersection_types:n="Intersection results could not be merged";break;case Te.not_multiple_of:n=`Number must be a multiple of ${e.multipleOf}`;break;case Te.not_finite:n="Number must be finite";break;default:n=t.defaultError,zt.assertNever(e)}return{message:n}};let L8=tb;function V8(){return L8}const z8=e=>{const{data:t,path:n,errorMaps:r,issueData:s}=e,o=[...n,...s.path||[]],c={...s,path:o};if(s.message!==void 0)return{...s,path:o,message:s.message};let u="";const f=r.filter(h=>!!h).slice().reverse();for(const h of f)u=h(c,{data:t,defaultError:u}).message;return{...s,path:o,message:u}};function Oe(e,t){const n=V8(),r=z8({issueData:t,data:e.data,path:e.path,errorMaps:[e.common.contextualErrorMap,e.schemaErrorMap,n,n===tb?void 0:tb].filter(s=>!!s)});e.common.issues.push(r)}class na{constructor(){this.value="valid"}dirty(){this.value==="valid"&&(this.value="dirty")}abort(){this.value!=="aborted"&&(this.value="aborted")}static mergeArray(t,n){const r=[];for(const s of n){if(s.status==="aborted")return ft;s.status==="dirty"&&t.dirty(),r.push(s.value)}return{status:t.value,value:r}}static async mergeObjectAsync(t,n){const r=[];for(const s of n){const o=await s.key,c=await s.value;r.push({key:o,value:c})}return na.mergeObjectSync(t,r)}static mergeObjectSync(t,n){const r={};for(const s of n){const{key:o,value:c}=s;if(o.status==="aborted"||c.status==="aborted")return ft;o.status==="dirty"&&t.dirty(),c.status==="dirty"&&t.dirty(),o.value!=="__proto__"&&(typeof c.value<"u"||s.alwaysSet)&&(r[o.value]=c.value)}return{status:t.value,value:r}}}const ft=Object.freeze({status:"aborted"}),nd=e=>({status:"dirty",value:e}),wa=e=>({status:"valid",value:e}),gT=e=>e.status==="aborted",yT=e=>e.status==="dirty",mc=e=>e.status==="valid",wm=e=>typeof Promise<"u"&&e instanceof Promise;var Ue;(function(e){e.errToObj=t=>typeof t=="string"?{message:t}:t||{},e.toString=t=>typeof t=="string"?t:t==null?void 0:t.message})(Ue||(Ue={}));var Sm=function(e,t,n,r){if(n==="a"&&!r)throw new TypeError("Private accessor was defined without a getter");if(typeof t=="function"?e!==t||!r:!t.has(e))throw new TypeError("Cannot read private member from an object whose class did not declare it");return n==="m"?r:n==="a"?r.call(e):r?r.value:t.get(e)},yN=function(e,t,n,r,s){if(r==="m")throw new TypeError("Private method is not writable");if(r==="a"&&!s)throw new TypeError("Private accessor was defined without a setter");if(typeof t=="function"?e!==t||!s:!t.has(e))throw new TypeError("Cannot write private member to an object whose class did not declare it");return r==="a"?s.call(e,n):s?s.value=n:t.set(e,n),n},rd,ad;class Ki{constructor(t,n,r,s){this._cachedPath=[],this.parent=t,this.data=n,this._path=r,this._key=s}get path(){return this._cachedPath.length||(Array.isArray(this._key)?this._cachedPath.push(...this._path,...this._key):this._cachedPath.push(...this._path,this._key)),this._cachedPath}}const vT=(e,t)=>{if(mc(t))return{success:!0,data:t.value};if(!e.common.issues.length)throw new Error("Validation failed but no issues detected.");return{success:!1,get error(){if(this._error)return this._error;const n=new Is(e.common.issues);return this._error=n,this._error}}};function St(e){if(!e)return{};const{errorMap:t,invalid_type_error:n,required_error:r,description:s}=e;if(t&&(n||r))throw new Error(`Can't use "invalid_type_error" or "required_error" in conjunction with custom error map.`);return t?{errorMap:t,description:s}:{errorMap:(c,u)=>{const{message:f}=e;return c.code==="invalid_enum_value"?{message:f??u.defaultError}:typeof u.data>"u"?{message:f??r??u.defaultError}:c.code!=="invalid_type"?{message:u.defaultError}:{message:f??n??u.defaultError}},description:s}}class Pt{get description(){return this._def.description}_getType(t){return Di(t.data)}_getOrReturnCtx(t,n){return n||{common:t.parent.common,data:t.data,parsedType:Di(t.data),schemaErrorMap:this._def.errorMap,path:t.path,parent:t.parent}}_processInputParams(t){return{status:new na,ctx:{common:t.parent.common,data:t.data,parsedType:Di(t.data),schemaErrorMap:this._def.errorMap,path:t.path,parent:t.parent}}}_parseSync(t){const n=this._parse(t);if(wm(n))throw new Error("Synchronous parse encountered promise.");return n}_parseAsync(t){const n=this._parse(t);return Promise.resolve(n)}parse(t,n){const r=this.safeParse(t,n);if(r.success)return r.data;throw r.error}safeParse(t,n){const r={common:{issues:[],async:(n==null?void 0:n.async)??!1,contextualErrorMap:n==null?void 0:n.errorMap},path:(n==null?void 0:n.path)||[],schemaErrorMap:this._def.errorMap,parent:null,data:t,parsedType:Di(t)},s=this._parseSync({data:t,path:r.path,parent:r});return vT(r,s)}"~validate"(t){var r,s;const n={common:{issues:[],async:!!this["~standard"].async},path:[],schemaErrorMap:this._def.errorMap,parent:null,data:t,parsedType:Di(t)};if(!this["~standard"].async)try{const o=this._parseSync({data:t,path:[],parent:n});return mc(o)?{value:o.value}:{issues:n.common.issues}}catch(o){(s=(r=o==null?void 0:o.message)==null?void 0:r.toLowerCase())!=null&&s.includes("encountered")&&(this["~standard"].async=!0),n.common={issues:[],async:!0}}return this._parseAsync({data:t,path:[],parent:n}).then(o=>mc(o)?{value:o.value}:{issues:n.common.issues})}async parseAsync(t,n){const r=await this.safeParseAsync(t,n);if(r.success)return r.data;throw r.error}async safeParseAsync(t,n){const r={common:{issues:[],contextualErrorMap:n==null?void 0:n.errorMap,async:!0},path:(n==null?void 0:n.path)||[],schemaErrorMap:this._def.errorMap,parent:null,data:t,parsedType:Di(t)},s=this._parse({data:t,path:r.path,parent:r}),o=await(wm(s)?s:Promise.resolve(s));return vT(r,o)}refine(t,n){const r=s=>typeof n=="string"||typeof n>"u"?{message:n}:typeof n=="function"?n(s):n;return this._refinement((s,o)=>{const c=t(s),u=()=>o.addIssue({code:Te.custom,...r(s)});return typeof Promise<"u"&&c instanceof Promise?c.then(f=>f?!0:(u(),!1)):c?!0:(u(),!1)})}refinement(t,n){return this._refinement((r,s)=>t(r)?!0:(s.addIssue(typeof n=="function"?n(r,s):n),!1))}_refinement(t){return new yc({schema:this,typeName:ut.ZodEffects,effect:{type:"refinement",refinement:t}})}superRefine(t){return this._refinement(t)}constructor(t){this.spa=this.safeParseAsync,this._def=t,this.parse=this.parse.bind(this),this.safeParse=this.safeParse.bind(this),this.parseAsync=this.parseAsync.bind(this),this.safeParseAsync=this.safeParseAsync.bind(this),this.spa=this.spa.bind(this),this.refine=this.refine.bind(this),this.refinement=this.refinement.bind(this),this.superRefine=this.superRefine.bind(this),this.optional=this.optional.bind(this),this.nullable=this.nullable.bind(this),this.nullish=this.nullish.bind(this),this.array=this.array.bind(this),this.promise=this.promise.bind(this),this.or=this.or.bind(this),this.and=this.and.bind(this),this.transform=this.transform.bind(this),this.brand=this.brand.bind(this),this.default=this.default.bind(this),this.catch=this.catch.bind(this),this.describe=this.describe.bind(this),this.pipe=this.pipe.bind(this),this.readonly=this.readonly.bind(this),this.isNullable=this.isNullable.bind(this),this.isOptional=this.isOptional.bind(this),this["~standard"]={version:1,vendor:"zod",validate:n=>this["~validate"](n)}}optional(){return $i.create(this,this._def)}nullable(){return vc.create(this,this._def)}nullish(){return this.nullable().optional()}array(){return rs.create(this)}promise(){return Mm.create(this,this._def)}or(t){return Cm.create([this,t],this._def)}and(t){return Tm.create(this,t,this._def)}transform(t){return new yc({...St(this._def),schema:this,typeName:ut.ZodEffects,effect:{type:"transform",transform:t}})}default(t){const n=typeof t=="function"?t:()=>t;return new rb({...St(this._def),innerType:this,defaultValue:n,typeName:ut.ZodDefault})}brand(){return new oI({typeName:ut.ZodBranded,type:this,...St(this._def)})}catch(t){const n=typeof t=="function"?t:()=>t;return new ab({...St(this._def),innerType:this,catchValue:n,typeName:ut.ZodCatch})}describe(t){const n=this.constructor;return new n({...this._def,description:t})}pipe(t){return J0.create(this,t)}readonly(){return sb.create(this)}isOptional(){return this.safeParse(void 0).success}isNullable(){return this.safeParse(null).success}}const B8=/^c[^\s-]{8,}$/i,U8=/^[0-9a-z]+$/,F8=/^[0-9A-HJKMNP-TV-Z]{26}$/i,I8=/^[0-9a-fA-F]{8}\b-[0-9a-fA-F]{4}\b-[0-9a-fA-F]{4}\b-[0-9a-fA-F]{4}\b-[0-9a-fA-F]{12}$/i,H8=/^[a-z0-9_-]{21}$/i,$8=/^[A-Za-z0-9-_]+\.[A-Za-z0-9-_]+\.[A-Za-z0-9-_]*$/,q8=/^[-+]?P(?!$)(?:(?:[-+]?\d+Y)|(?:[-+]?\d+[.,]\d+Y$))?(?:(?:[-+]?\d+M)|(?:[-+]?\d+[.,]\d+M$))?(?:(?:[-+]?\d+W)|(?:[-+]?\d+[.,]\d+W$))?(?:(?:[-+]?\d+D)|(?:[-+]?\d+[.,]\d+D$))?(?:T(?=[\d+-])(?:(?:[-+]?\d+H)|(?:[-+]?\d+[.,]\d+H$))?(?:(?:[-+]?\d+M)|(?:[-+]?\d+[.,]\d+M$))?(?:[-+]?\d+(?:[.,]\d+)?S)?)??$/,Y8=/^(?!\.)(?!.*\.\.)([A-Z0-9_'+\-\.]*)[A-Z0-9_+-]@([A-Z0-9][A-Z0-9\-]*\.)+[A-Z]{2,}$/i,G8="^(\\p{Extended_Pictographic}|\\p{Emoji_Component})+$";let Zy;const W8=/^(?:(?:25[0-5]|2[0-4][0-9]|1[0-9][0-9]|[1-9][0-9]|[0-9])\.){3}(?:25[0-5]|2[0-4][0-9]|1[0-9][0-9]|[1-9][0-9]|[0-9])$/,K8=/^(?:(?:25[0-5]|2[0-4][0-9]|1[0-9][0-9]|[1-9][0-9]|[0-9])\.){3}(?:25[0-5]|2[0-4][0-9]|1[0-9][0-9]|[1-9][0-9]|[0-9])\/(3[0-2]|[12]?[0-9])$/,Z8=/^(([0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,7}:|([0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,5}(:[0-9a-fA-F]{1,4}){1,2}|([0-9a-fA-F]{1,4}:){1,4}(:[0-9a-fA-F]{1,4}){1,3}|([0-9a-fA-F]{1,4}:){1,3}(:[0-9a-fA-F]{1,4}){1,4}|([0-9a-fA-F]{1,4}:){1,2}(:[0-9a-fA-F]{1,4}){1,5}|[0-9a-fA-F]{1,4}:((:[0-9a-fA-F]{1,4}){1,6})|:((:[0-9a-fA-F]{1,4}){1,7}|:)|fe80:(:[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}|::(ffff(:0{1,4}){0,1}:){0,1}((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])|([0-9a-fA-F]{1,4}:){1,4}:((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9]))$/,X8=/^(([0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,7}:|([0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,5}(:[0-9a-fA-F]{1,4}){1,2}|([0-9a-fA-F]{1,4}:){1,4}(:[0-9a-fA-F]{1,4}){1,3}|([0-9a-fA-F]{1,4}:){1,3}(:[0-9a-fA-F]{1,4}){1,4}|([0-9a-fA-F]{1,4}:){1,2}(:[0-9a-fA-F]{1,4}){1,5}|[0-9a-fA-F]{1,4}:((:[0-9a-fA-F]{1,4}){1,6})|:((:[0-9a-fA-F]{1,4}){1,7}|:)|fe80:(:[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}|::(ffff(:0{1,4}){0,1}:){0,1}((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])|([0-9a-fA-F]{1,4}:){1,4}:((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9]))\/(12[0-8]|1[01][0-9]|[1-9]?[0-9])$/,Q8=/^([0-9a-zA-Z+/]{4})*(([0-9a-zA-Z+/]{2}==)|([0-9a-zA-Z+/]{3}=))?$/,J8=/^([0-9a-zA-Z-_]{4})*(([0-9a-zA-Z-_]{2}(==)?)|([0-9a-zA-Z-_]{3}(=)?))?$/,vN="((\\d\\d[2468][048]|\\d\\d[13579][26]|\\d\\d0[48]|[02468][048]00|[13579][26]00)-02-29|\\d{4}-((0[13578]|1[02])-(0[1-9]|[12]\\d|3[01])|(0[469]|11)-(0[1-9]|[12]\\d|30)|(02)-(0[1-9]|1\\d|2[0-8])))",eI=new RegExp(`^${vN}$`);function bN(e){let t="[0-5]\\d";e.precision?t=`${t}\\.\\d{${e.precision}}`:e.precision==null&&(t=`${t}(\\.\\d+)?`);const n=e.precision?"+":"?";return`([01]\\d|2[0-3]):[0-5]\\d(:${t})${n}`}function tI(e){return new RegExp(`^${bN(e)}$`)}function nI(e){let t=`${vN}T${bN(e)}`;const n=[];return n.push(e.local?"Z?":"Z"),e.offset&&n.push("([+-]\\d{2}:?\\d{2})"),t=`${t}(${n.join("|")})`,new RegExp(`^${t}$`)}function rI(e,t){return!!((t==="v4"||!t)&&W8.test(e)||(t==="v6"||!t)&&Z8.test(e))}function aI(e,t){if(!$8.test(e))return!1;try{const[n]=e.split("."),r=n.replace(/-/g,"+").replace(/_/g,"/").padEnd(n.length+(4-n.length%4)%4,"="),s=JSON.parse(atob(r));return!(typeof s!="object"||s===null||"typ"in s&&(s==null?void 0:s.typ)!=="JWT"||!s.alg||t&&s.alg!==t)}catch{return!1}}function sI(e,t){return!!((t==="v4"||!t)&&K8.test(e)||(t==="v6"||!t)&&X8.test(e))}class Hi extends Pt{_parse(t){if(this._def.coerce&&(t.data=String(t.data)),this._getType(t)!==ze.string){const o=this._getOrReturnCtx(t);return Oe(o,{code:Te.invalid_type,expected:ze.string,received:o.parsedType}),ft}const r=new na;let s;for(const o of this._def.checks)if(o.kind==="min")t.data.length<o.value&&(s=this._getOrReturnCtx(t,s),Oe(s,{code:Te.too_small,minimum:o.value,type:"string",inclusive:!0,exact:!1,message:o.message}),r.dirty());else if(o.kind==="max")t.data.length>o.value&&(s=this._getOrReturnCtx(t,s),Oe(s,{code:Te.too_big,maximum:o.value,type:"string",inclusive:!0,exact:!1,message:o.message}),r.dirty());else if(o.kind==="length"){const c=t.data.length>o.value,u=t.data.length<o.value;(c||u)&&(s=this._getOrReturnCtx(t,s),c?Oe(s,{code:Te.too_big,maximum:o.value,type:"string",inclusive:!0,exact:!0,message:o.message}):u&&Oe(s,{code:Te.too_small,minimum:o.value,type:"string",inclusive:!0,exact:!0,message:o.message}),r.dirty())}else if(o.kind==="email")Y8.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"email",code:Te.invalid_string,message:o.message}),r.dirty());else if(o.kind==="emoji")Zy||(Zy=new RegExp(G8,"u")),Zy.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"emoji",code:Te.invalid_string,message:o.message}),r.dirty());else if(o.kind==="uuid")I8.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"uuid",code:Te.invalid_string,message:o.message}),r.dirty());else if(o.kind==="nanoid")H8.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"nanoid",code:Te.invalid_string,message:o.message}),r.dirty());else if(o.kind==="cuid")B8.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"cuid",code:Te.invalid_string,message:o.message}),r.dirty());else if(o.kind==="cuid2")U8.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"cuid2",code:Te.invalid_string,message:o.message}),r.dirty());else if(o.kind==="ulid")F8.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"ulid",code:Te.invalid_string,message:o.message}),r.dirty());else if(o.kind==="url")try{new URL(t.data)}catch{s=this._getOrReturnCtx(t,s),Oe(s,{validation:"url",code:Te.invalid_string,message:o.message}),r.dirty()}else o.kind==="regex"?(o.regex.lastIndex=0,o.regex.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"regex",code:Te.invalid_string,message:o.message}),r.dirty())):o.kind==="trim"?t.data=t.data.trim():o.kind==="includes"?t.data.includes(o.value,o.position)||(s=this._getOrReturnCtx(t,s),Oe(s,{code:Te.invalid_string,validation:{includes:o.value,position:o.position},message:o.message}),r.dirty()):o.kind==="toLowerCase"?t.data=t.data.toLowerCase():o.kind==="toUpperCase"?t.data=t.data.toUpperCase():o.kind==="startsWith"?t.data.startsWith(o.value)||(s=this._getOrReturnCtx(t,s),Oe(s,{code:Te.invalid_string,validation:{startsWith:o.value},message:o.message}),r.dirty()):o.kind==="endsWith"?t.data.endsWith(o.value)||(s=this._getOrReturnCtx(t,s),Oe(s,{code:Te.invalid_string,validation:{endsWith:o.value},message:o.message}),r.dirty()):o.kind==="datetime"?nI(o).test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{code:Te.invalid_string,validation:"datetime",message:o.message}),r.dirty()):o.kind==="date"?eI.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{code:Te.invalid_string,validation:"date",message:o.message}),r.dirty()):o.kind==="time"?tI(o).test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{code:Te.invalid_string,validation:"time",message:o.message}),r.dirty()):o.kind==="duration"?q8.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"duration",code:Te.invalid_string,message:o.message}),r.dirty()):o.kind==="ip"?rI(t.data,o.version)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"ip",code:Te.invalid_string,message:o.message}),r.dirty()):o.kind==="jwt"?aI(t.data,o.alg)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"jwt",code:Te.invalid_string,message:o.message}),r.dirty()):o.kind==="cidr"?sI(t.data,o.version)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"cidr",code:Te.invalid_string,message:o.message}),r.dirty()):o.kind==="base64"?Q8.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"base64",code:Te.invalid_string,message:o.message}),r.dirty()):o.kind==="base64url"?J8.test(t.data)||(s=this._getOrReturnCtx(t,s),Oe(s,{validation:"base64url",code:Te.invalid_string,message:o.message}),r.dirty()):zt.assertNever(o);return{status:r.value,value:t.data}}_regex(t,n,r){return this.refinement(s=>t.test(s),{validation:n,code:Te.invalid_string,...Ue.errToObj(r)})}_addCheck(t){return new Hi({...this._def,checks:[...this._def.checks,t]})}email(t){return this._addCheck({kind:"email",...Ue.errToObj(t)})}url(t){return this._addCheck({kind:"url",...Ue.errToObj(t)})}emoji(t){return this._addCheck({kind:"emoji",...Ue.errToObj(t)})}uuid(t){return this._addCheck({kind:"uuid",...Ue.errToObj(t)})}nanoid(t){return this._addCheck({kind:"nanoid",...Ue.errToObj(t)})}cuid(t){return this._addCheck({kind:"cuid",...Ue.errToObj(t)})}cuid2(t){return this._addCheck({kind:"cuid2",...Ue.errToObj(t)})}ulid(t){return this._addCheck({kind:"ulid",...Ue.errToObj(t)})}base64(t){return this._addCheck({kind:"base64",...Ue.errToObj(t)})}base64url(t){return this._addCheck({kind:"base64url",...Ue.errToObj(t)})}jwt(t){return this._addCheck({kind:"jwt",...Ue.errToObj(t)})}ip(t){return this._addCheck({kind:"ip",...Ue.errToObj(t)})}cidr(t){return this._addCheck({kind:"cidr",...Ue.errToObj(t)})}datetime(t){return typeof t=="string"?this._addCheck({kind:"datetime",precision:null,offset:!1,local:!1,message:t}):this._addCheck({kind:"datetime",precision:typeof(t==null?void 0:t.precision)>"u"?null:t==null?void 0:t.precision,offset:(t==null?void 0:t.offset)??!1,local:(t==null?void 0:t.local)??!1,...Ue.errToObj(t==null?void 0:t.message)})}date(t){return this._addCheck({kind:"date",message:t})}time(t){return typeof t=="string"?this._addCheck({kind:"time",precision:null,message:t}):this._addCheck({kind:"time",precision:typeof(t==null?void 0:t.precision)>"u"?null:t==null?void 0:t.precision,...Ue.errToObj(t==null?void 0:t.message)})}duration(t){return this._addCheck({kind:"duration",...Ue.errToObj(t)})}regex(t,n){return this._addCheck({kind:"regex",regex:t,...Ue.errToObj(n)})}includes(t,n){return this._addCheck({kind:"includes",value:t,position:n==null?void 0:n.position,...Ue.errToObj(n==null?void 0:n.message)})}startsWith(t,n){return this._addCheck({kind:"startsWith",value:t,...Ue.errToObj(n)})}endsWith(t,n){return this._addCheck({kind:"endsWith",value:t,...Ue.errToObj(n)})}min(t,n){return this._addCheck({kind:"min",value:t,...Ue.errToObj(n)})}max(t,n){return this._addCheck({kind:"max",value:t,...Ue.errToObj(n)})}length(t,n){return this._addCheck({kind:"length",value:t,...Ue.errToObj(n)})}nonempty(t){return this.min(1,Ue.errToObj(t))}trim(){return new Hi({...this._def,checks:[...this._def.checks,{kind:"trim"}]})}toLowerCase(){return new Hi({...this._def,checks:[...this._def.checks,{kind:"toLowerCase"}]})}toUpperCase(){return new Hi({...this._def,checks:[...this._def.checks,{kind:"toUpperCase"}]})}get isDatetime(){return!!this._def.checks.find(t=>t.kind==="datetime")}get isDate(){return!!this._def.checks.find(t=>t.kind==="date")}get isTime(){return!!this._def.checks.find(t=>t.kind==="time")}get isDuration(){return!!this._def.checks.find(t=>t.kind==="duration")}get isEmail(){return!!this._def.checks.find(t=>t.kind==="email")}get isURL(){return!!this._def.checks.find(t=>t.kind==="url")}get isEmoji(){return!!this._def.checks.find(t=>t.kind==="emoji")}get isUUID(){return!!this._def.checks.find(t=>t.kind==="uuid")}get isNANOID(){return!!this._def.checks.find(t=>t.kind==="nanoid")}get isCUID(){return!!this._def.checks.find(t=>t.kind==="cuid")}get isCUID2(){return!!this._def.checks.find(t=>t.kind==="cuid2")}get isULID(){return!!this._def.checks.find(t=>t.kind==="ulid")}get isIP(){return!!this._def.checks.find(t=>t.kind==="ip")}get isCIDR(){return!!this._def.checks.find(t=>t.kind==="cidr")}get isBase64(){return!!this._def.checks.find(t=>t.kind==="base64")}get isBase64url(){return!!this._def.checks.find(t=>t.kind==="base64url")}get minLength(){let t=null;for(const n of this._def.checks)n.kind==="min"&&(t===null||n.value>t)&&(t=n.value);return t}get maxLength(){let t=null;for(const n of this._def.checks)n.kind==="max"&&(t===null||n.value<t)&&(t=n.value);return t}}Hi.create=e=>new Hi({checks:[],typeName:ut.ZodString,coerce:(e==null?void 0:e.coerce)??!1,...St(e)});function iI(e,t){const n=(e.toString().split(".")[1]||"").length,r=(t.toString().split(".")[1]||"").length,s=n>r?n:r,o=Number.parseInt(e.toFixed(s).replace(".","")),c=Number.parseInt(t.toFixed(s).replace(".",""));return o%c/10**s}class pc extends Pt{constructor(){super(...arguments),this.min=this.gte,this.max=this.lte,this.step=this.multipleOf}_parse(t){if(this._def.coerce&&(t.data=Number(t.data)),this._getType(t)!==ze.number){const o=this._getOrReturnCtx(t);return Oe(o,{code:Te.invalid_type,expected:ze.number,received:o.parsedType}),ft}let r;const s=new na;for(const o of this._def.checks)o.kind==="int"?zt.isInteger(t.data)||(r=this._getOrReturnCtx(t,r),Oe(r,{code:Te.invalid_type,expected:"integer",received:"float",message:o.message}),s.dirty()):o.kind==="min"?(o.inclusive?t.data<o.value:t.data<=o.value)&&(r=this._getOrReturnCtx(t,r),Oe(r,{code:Te.too_small,minimum:o.value,type:"number",inclusive:o.inclusive,exact:!1,message:o.message}),s.dirty()):o.kind==="max"?(o.inclusive?t.data>o.value:t.data>=o.value)&&(r=this._getOrReturnCtx(t,r),Oe(r,{code:Te.too_big,maximum:o.value,type:"number",inclusive:o.inclusive,exact:!1,message:o.message}),s.dirty()):o.kind==="multipleOf"?iI(t.data,o.value)!==0&&(r=this._getOrReturnCtx(t,r),Oe(r,{code:Te.not_multiple_of,multipleOf:o.value,message:o.message}),s.dirty()):o.kind==="finite"?Number.isFinite(t.data)||(r=this._getOrReturnCtx(t,r),Oe(r,{code:Te.not_finite,message:o.message}),s.dirty()):zt.assertNever(o);return{status:s.value,value:t.data}}gte(t,n){return this.setLimit("min",t,!0,Ue.toString(n))}gt(t,n){return this.setLimit("min",t,!1,Ue.toString(n))}lte(t,n){return this.setLimit("max",t,!0,Ue.toString(n))}lt(t,n){return this.setLimit("max",t,!1,Ue.toString(n))}setLimit(t,n,r,s){return new pc({...this._def,checks:[...this._def.checks,{kind:t,value:n,inclusive:r,message:Ue.toString(s)}]})}_addCheck(t){return new pc({...this._def,checks:[...this._def.checks,t]})}int(t){return this._addCheck({kind:"int",message:Ue.toString(t)})}positive(t){return this._addCheck({kind:"min",value:0,inclusive:!1,message:Ue.toString(t)})}negative(t){return this._addCheck({kind:"max",value:0,inclusive:!1,message:Ue.toString(t)})}nonpositive(t){return this._addCheck({kind:"max",value:0,inclusive:!0,message:Ue.toString(t)})}nonnegative(t){return this._addCheck({kind:"min",value:0,inclusive:!0,message:Ue.toString(t)})}multipleOf(t,n){return this._addCheck({kind:"multipleOf",value:t,message:Ue.toString(n)})}finite(t){return this._addCheck({kind:"finite",message:Ue.toString(t)})}safe(t){return this._addCheck({kind:"min",inclusive:!0,value:Number.MIN_SAFE_INTEGER,message:Ue.toString(t)})._addCheck({kind:"max",inclusive:!0,value:Number.MAX_SAFE_INTEGER,message:Ue.toString(t)})}get minValue(){let t=null;for(const n of this._def.checks)n.kind==="min"&&(t===null||n.value>t)&&(t=n.value);return t}get maxValue(){let t=null;for(const n of this._def.checks)n.kind==="max"&&(t===null||n.value<t)&&(t=n.value);return t}get isInt(){return!!this._def.checks.find(t=>t.kind==="int"||t.kind==="multipleOf"&&zt.isInteger(t.value))}get isFinite(){let t=null,n=null;for(const r of this._def.checks){if(r.kind==="finite"||r.kind==="int"||r.kind==="multipleOf")return!0;r.kind==="min"?(n===null||r.value>n)&&(n=r.value):r.kind==="max"&&(t===null||r.value<t)&&(t=r.value)}return Number.isFinite(n)&&Number.isFinite(t)}}pc.create=e=>new pc({checks:[],typeName:ut.ZodNumber,coerce:(e==null?void 0:e.coerce)||!1,...St(e)});class _d extends Pt{constructor(){super(...arguments),this.min=this.gte,this.max=this.lte}_parse(t){if(this._def.coerce)try{t.data=BigInt(t.data)}catch{return this._getInvalidInput(t)}if(this._getType(t)!==ze.bigint)return this._getInvalidInput(t);let r;const s=new na;for(const o of this._def.checks)o.kind==="min"?(o.inclusive?t.data<o.value:t.data<=o.value)&&(r=this._getOrReturnCtx(t,r),Oe(r,{code:Te.too_small,type:"bigint",minimum:o.value,inclusive:o.inclusive,message:o.message}),s.dirty()):o.kind==="max"?(o.inclusive?t.data>o.value:t.data>=o.value)&&(r=this._getOrReturnCtx(t,r),Oe(r,{code:Te.too_big,type:"bigint",maximum:o.value,inclusive:o.inclusive,message:o.message}),s.dirty()):o.kind==="multipleOf"?t.data%o.value!==BigInt(0)&&(r=this._getOrReturnCtx(t,r),Oe(r,{code:Te.not_multiple_of,multipleOf:o.value,message:o.message}),s.dirty()):zt.assertNever(o);return{status:s.value,value:t.data}}_getInvalidInput(t){const n=this._getOrReturnCtx(t);return Oe(n,{code:Te.invalid_type,expected:ze.bigint,received:n.parsedType}),ft}gte(t,n){return this.setLimit("min",t,!0,Ue.toString(n))}gt(t,n){return this.setLimit("min",t,!1,Ue.toString(n))}lte(t,n){return this.setLimit("max",t,!0,Ue.toString(n))}lt(t,n){return this.setLimit("max",t,!1,Ue.toString(n))}setLimit(t,n,r,s){return new _d({...this._def,checks:[...this._def.checks,{kind:t,value:n,inclusive:r,message:Ue.toString(s)}]})}_addCheck(t){return new _d({...this._def,checks:[...this._def.checks,t]})}positive(t){return this._addCheck({kind:"min",value:BigInt(0),inclusive:!1,message:Ue.toString(t)})}negative(t){return this._addCheck({kind:"max",value:BigInt(0),inclusive:!1,message:Ue.toString(t)})}nonpositive(t){return this._addCheck({kind:"max",value:BigInt(0),inclusive:!0,message:Ue.toString(t)})}nonnegative(t){return this._addCheck({kind:"min",value:BigInt(0),inclusive:!0,message:Ue.toString(t)})}multipleOf(t,n){return this._addCheck({kind:"multipleOf",value:t,message:Ue.toString(n)})}get minValue(){let t=null;for(const n of this._def.checks)n.kind==="min"&&(t===null||n.value>t)&&(t=n.value);return t}get maxValue(){let t=null;for(const n of this._def.checks)n.kind==="max"&&(t===null||n.value<t)&&(t=n.value);return t}}_d.create=e=>new _d({checks:[],typeName:ut.ZodBigInt,coerce:(e==null?void 0:e.coerce)??!1,...St(e)});class bT extends Pt{_parse(t){if(this._def.coerce&&(t.data=!!t.data),this._getType(t)!==ze.boolean){const r=this._getOrReturnCtx(t);return Oe(r,{code:Te.invalid_type,expected:ze.boolean,received:r.parsedType}),ft}return wa(t.data)}}bT.create=e=>new bT({typeName:ut.ZodBoolean,coerce:(e==null?void 0:e.coerce)||!1,...St(e)});class Em extends Pt{_parse(t){if(this._def.coerce&&(t.data=new Date(t.data)),this._getType(t)!==ze.date){const o=this._getOrReturnCtx(t);return Oe(o,{code:Te.invalid_type,expected:ze.date,received:o.parsedType}),ft}if(Number.isNaN(t.data.getTime())){const o=this._getOrReturnCtx(t);return Oe(o,{code:Te.invalid_date}),ft}const r=new na;let s;for(const o of this._def.checks)o.kind==="min"?t.data.getTime()<o.value&&(s=this._getOrReturnCtx(t,s),Oe(s,{code:Te.too_small,message:o.message,inclusive:!0,exact:!1,minimum:o.value,type:"date"}),r.dirty()):o.kind==="max"?t.data.getTime()>o.value&&(s=this._getOrReturnCtx(t,s),Oe(s,{code:Te.too_big,message:o.message,inclusive:!0,exact:!1,maximum:o.value,type:"date"}),r.dirty()):zt.assertNever(o);return{status:r.value,value:new Date(t.data.getTime())}}_addCheck(t){return new Em({...this._def,checks:[...this._def.checks,t]})}min(t,n){return this._addCheck({kind:"min",value:t.getTime(),message:Ue.toString(n)})}max(t,n){return this._addCheck({kind:"max",value:t.getTime(),message:Ue.toString(n)})}get minDate(){let t=null;for(const n of this._def.checks)n.kind==="min"&&(t===null||n.value>t)&&(t=n.value);return t!=null?new Date(t):null}get maxDate(){let t=null;for(const n of this._def.checks)n.kind==="max"&&(t===null||n.value<t)&&(t=n.value);return t!=null?new Date(t):null}}Em.create=e=>new Em({checks:[],coerce:(e==null?void 0:e.coerce)||!1,typeName:ut.ZodDate,...St(e)});class xT extends Pt{_parse(t){if(this._getType(t)!==ze.symbol){const r=this._getOrReturnCtx(t);return Oe(r,{code:Te.invalid_type,expected:ze.symbol,received:r.parsedType}),ft}return wa(t.data)}}xT.create=e=>new xT({typeName:ut.ZodSymbol,...St(e)});class wT extends Pt{_parse(t){if(this._getType(t)!==ze.undefined){const r=this._getOrReturnCtx(t);return Oe(r,{code:Te.invalid_type,expected:ze.undefined,received:r.parsedType}),ft}return wa(t.data)}}wT.create=e=>new wT({typeName:ut.ZodUndefined,...St(e)});class ST extends Pt{_parse(t){if(this._getType(t)!==ze.null){const r=this._getOrReturnCtx(t);return Oe(r,{code:Te.invalid_type,expected:ze.null,received:r.parsedType}),ft}return wa(t.data)}}ST.create=e=>new ST({typeName:ut.ZodNull,...St(e)});class ET extends Pt{constructor(){super(...arguments),this._any=!0}_parse(t){return wa(t.data)}}ET.create=e=>new ET({typeName:ut.ZodAny,...St(e)});class CT extends Pt{constructor(){super(...arguments),this._unknown=!0}_parse(t){return wa(t.data)}}CT.create=e=>new CT({typeName:ut.ZodUnknown,...St(e)});class Zi extends Pt{_parse(t){const n=this._getOrReturnCtx(t);return Oe(n,{code:Te.invalid_type,expected:ze.never,received:n.parsedType}),ft}}Zi.create=e=>new Zi({typeName:ut.ZodNever,...St(e)});class TT extends Pt{_parse(t){if(this._getType(t)!==ze.undefined){const r=this._getOrReturnCtx(t);return Oe(r,{code:Te.invalid_type,expected:ze.void,received:r.parsedType}),ft}return wa(t.data)}}TT.create=e=>new TT({typeName:ut.ZodVoid,...St(e)});class rs extends Pt{_parse(t){const{ctx:n,status:r}=this._processInputParams(t),s=this._def;if(n.parsedType!==ze.array)return Oe(n,{code:Te.invalid_type,expected:ze.array,received:n.parsedType}),ft;if(s.exactLength!==null){const c=n.data.length>s.exactLength.value,u=n.data.length<s.exactLength.value;(c||u)&&(Oe(n,{code:c?Te.too_big:Te.too_small,minimum:u?s.exactLength.value:void 0,maximum:c?s.exactLength.value:void 0,type:"array",inclusive:!0,exact:!0,message:s.exactLength.message}),r.dirty())}if(s.minLength!==null&&n.data.length<s.minLength.value&&(Oe(n,{code:Te.too_small,minimum:s.minLength.value,type:"array",inclusive:!0,exact:!1,message:s.minLength.message}),r.dirty()),s.maxLength!==null&&n.data.length>s.maxLength.value&&(Oe(n,{code:Te.too_big,maximum:s.maxLength.value,type:"array",inclusive:!0,exact:!1,message:s.maxLength.message}),r.dirty()),n.common.async)return Promise.all([...n.data].map((c,u)=>s.type._parseAsync(new Ki(n,c,n.path,u)))).then(c=>na.mergeArray(r,c));const o=[...n.data].map((c,u)=>s.type._parseSync(new Ki(n,c,n.path,u)));return na.mergeArray(r,o)}get element(){return this._def.type}min(t,n){return new rs({...this._def,minLength:{value:t,message:Ue.toString(n)}})}max(t,n){return new rs({...this._def,maxLength:{value:t,message:Ue.toString(n)}})}length(t,n){return new rs({...this._def,exactLength:{value:t,message:Ue.toString(n)}})}nonempty(t){return this.min(1,t)}}rs.create=(e,t)=>new rs({type:e,minLength:null,maxLength:null,exactLength:null,typeName:ut.ZodArray,...St(t)});function Ul(e){if(e instanceof Nn){const t={};for(const n in e.shape){const r=e.shape[n];t[n]=$i.create(Ul(r))}return new Nn({...e._def,shape:()=>t})}else return e instanceof rs?new rs({...e._def,type:Ul(e.element)}):e instanceof $i?$i.create(Ul(e.unwrap())):e instanceof vc?vc.create(Ul(e.unwrap())):e instanceof Yo?Yo.create(e.items.map(t=>Ul(t))):e}class Nn extends Pt{constructor(){super(...arguments),this._cached=null,this.nonstrict=this.passthrough,this.augment=this.extend}_getCached(){if(this._cached!==null)return this._cached;const t=this._def.shape(),n=zt.objectKeys(t);return this._cached={shape:t,keys:n},this._cached}_parse(t){if(this._getType(t)!==ze.object){const h=this._getOrReturnCtx(t);return Oe(h,{code:Te.invalid_type,expected:ze.object,received:h.parsedType}),ft}const{status:r,ctx:s}=this._processInputParams(t),{shape:o,keys:c}=this._getCached(),u=[];if(!(this._def.catchall instanceof Zi&&this._def.unknownKeys==="strip"))for(const h in s.data)c.includes(h)||u.push(h);const f=[];for(const h of c){const m=o[h],p=s.data[h];f.push({key:{status:"valid",value:h},value:m._parse(new Ki(s,p,s.path,h)),alwaysSet:h in s.data})}if(this._def.catchall instanceof Zi){const h=this._def.unknownKeys;if(h==="passthrough")for(const m of u)f.push({key:{status:"valid",value:m},value:{status:"valid",value:s.data[m]}});else if(h==="strict")u.length>0&&(Oe(s,{code:Te.unrecognized_keys,keys:u}),r.dirty());else if(h!=="strip")throw new Error("Internal ZodObject error: invalid unknownKeys value.")}else{const h=this._def.catchall;for(const m of u){const p=s.data[m];f.push({key:{status:"valid",value:m},value:h._parse(new Ki(s,p,s.path,m)),alwaysSet:m in s.data})}}return s.common.async?Promise.resolve().then(async()=>{const h=[];for(const m of f){const p=await m.key,b=await m.value;h.push({key:p,value:b,alwaysSet:m.alwaysSet})}return h}).then(h=>na.mergeObjectSync(r,h)):na.mergeObjectSync(r,f)}get shape(){return this._def.shape()}strict(t){return Ue.errToObj,new Nn({...this._def,unknownKeys:"strict",...t!==void 0?{errorMap:(n,r)=>{var o,c;const s=((c=(o=this._def).errorMap)==null?void 0:c.call(o,n,r).message)??r.defaultError;return n.code==="unrecognized_keys"?{message:Ue.errToObj(t).message??s}:{message:s}}}:{}})}strip(){return new Nn({...this._def,unknownKeys:"strip"})}passthrough(){return new Nn({...this._def,unknownKeys:"passthrough"})}extend(t){return new Nn({...this._def,shape:()=>({...this._def.shape(),...t})})}merge(t){return new Nn({unknownKeys:t._def.unknownKeys,catchall:t._def.catchall,shape:()=>({...this._def.shape(),...t._def.shape()}),typeName:ut.ZodObject})}setKey(t,n){return this.augment({[t]:n})}catchall(t){return new Nn({...this._def,catchall:t})}pick(t){const n={};for(const r of zt.objectKeys(t))t[r]&&this.shape[r]&&(n[r]=this.shape[r]);return new Nn({...this._def,shape:()=>n})}omit(t){const n={};for(const r of zt.objectKeys(this.shape))t[r]||(n[r]=this.shape[r]);return new Nn({...this._def,shape:()=>n})}deepPartial(){return Ul(this)}partial(t){const n={};for(const r of zt.objectKeys(this.shape)){const s=this.shape[r];t&&!t[r]?n[r]=s:n[r]=s.optional()}return new Nn({...this._def,shape:()=>n})}required(t){const n={};for(const r of zt.objectKeys(this.shape))if(t&&!t[r])n[r]=this.shape[r];else{let o=this.shape[r];for(;o instanceof $i;)o=o._def.innerType;n[r]=o}return new Nn({...this._def,shape:()=>n})}keyof(){return xN(zt.objectKeys(this.shape))}}Nn.create=(e,t)=>new Nn({shape:()=>e,unknownKeys:"strip",catchall:Zi.create(),typeName:ut.ZodObject,...St(t)});Nn.strictCreate=(e,t)=>new Nn({shape:()=>e,unknownKeys:"strict",catchall:Zi.create(),typeName:ut.ZodObject,...St(t)});Nn.lazycreate=(e,t)=>new Nn({shape:e,unknownKeys:"strip",catchall:Zi.create(),typeName:ut.ZodObject,...St(t)});class Cm extends Pt{_parse(t){const{ctx:n}=this._processInputParams(t),r=this._def.options;function s(o){for(const u of o)if(u.result.status==="valid")return u.result;for(const u of o)if(u.result.status==="dirty")return n.common.issues.push(...u.ctx.common.issues),u.result;const c=o.map(u=>new Is(u.ctx.common.issues));return Oe(n,{code:Te.invalid_union,unionErrors:c}),ft}if(n.common.async)return Promise.all(r.map(async o=>{const c={...n,common:{...n.common,issues:[]},parent:null};return{result:await o._parseAsync({data:n.data,path:n.path,parent:c}),ctx:c}})).then(s);{let o;const c=[];for(const f of r){const h={...n,common:{...n.common,issues:[]},parent:null},m=f._parseSync({data:n.data,path:n.path,parent:h});if(m.status==="valid")return m;m.status==="dirty"&&!o&&(o={result:m,ctx:h}),h.common.issues.length&&c.push(h.common.issues)}if(o)return n.common.issues.push(...o.ctx.common.issues),o.result;const u=c.map(f=>new Is(f));return Oe(n,{code:Te.invalid_union,unionErrors:u}),ft}}get options(){return this._def.options}}Cm.create=(e,t)=>new Cm({options:e,typeName:ut.ZodUnion,...St(t)});function nb(e,t){const n=Di(e),r=Di(t);if(e===t)return{valid:!0,data:e};if(n===ze.object&&r===ze.object){const s=zt.objectKeys(t),o=zt.objectKeys(e).filter(u=>s.indexOf(u)!==-1),c={...e,...t};for(const u of o){const f=nb(e[u],t[u]);if(!f.valid)return{valid:!1};c[u]=f.data}return{valid:!0,data:c}}else if(n===ze.array&&r===ze.array){if(e.length!==t.length)return{valid:!1};const s=[];for(let o=0;o<e.length;o++){const c=e[o],u=t[o],f=nb(c,u);if(!f.valid)return{valid:!1};s.push(f.data)}return{valid:!0,data:s}}else return n===ze.date&&r===ze.date&&+e==+t?{valid:!0,data:e}:{valid:!1}}class Tm extends Pt{_parse(t){const{status:n,ctx:r}=this._processInputParams(t),s=(o,c)=>{if(gT(o)||gT(c))return ft;const u=nb(o.value,c.value);return u.valid?((yT(o)||yT(c))&&n.dirty(),{status:n.value,value:u.data}):(Oe(r,{code:Te.invalid_intersection_types}),ft)};return r.common.async?Promise.all([this._def.left._parseAsync({data:r.data,path:r.path,parent:r}),this._def.right._parseAsync({data:r.data,path:r.path,parent:r})]).then(([o,c])=>s(o,c)):s(this._def.left._parseSync({data:r.data,path:r.path,parent:r}),this._def.right._parseSync({data:r.data,path:r.path,parent:r}))}}Tm.create=(e,t,n)=>new Tm({left:e,right:t,typeName:ut.ZodIntersection,...St(n)});class Yo extends Pt{_parse(t){const{status:n,ctx:r}=this._processInputParams(t);if(r.parsedType!==ze.array)return Oe(r,{code:Te.invalid_type,expected:ze.array,received:r.parsedType}),ft;if(r.data.length<this._def.items.length)return Oe(r,{code:Te.too_small,minimum:this._def.items.length,inclusive:!0,exact:!1,type:"array"}),ft;!this._def.rest&&r.data.length>this._def.items.length&&(Oe(r,{code:Te.too_big,maximum:this._def.items.length,inclusive:!0,exact:!1,type:"array"}),n.dirty());const o=[...r.data].map((c,u)=>{const f=this._def.items[u]||this._def.rest;return f?f._parse(new Ki(r,c,r.path,u)):null}).filter(c=>!!c);return r.common.async?Promise.all(o).then(c=>na.mergeArray(n,c)):na.mergeArray(n,o)}get items(){return this._def.items}rest(t){return new Yo({...this._def,rest:t})}}Yo.create=(e,t)=>{if(!Array.isArray(e))throw new Error("You must pass an array of schemas to z.tuple([ ... ])");return new Yo({items:e,typeName:ut.ZodTuple,rest:null,...St(t)})};class MT extends Pt{get keySchema(){return this._def.keyType}get valueSchema(){return this._def.valueType}_parse(t){const{status:n,ctx:r}=this._processInputParams(t);if(r.parsedType!==ze.map)return Oe(r,{code:Te.invalid_type,expected:ze.map,received:r.parsedType}),ft;const s=this._def.keyType,o=this._def.valueType,c=[...r.data.entries()].map(([u,f],h)=>({key:s._parse(new Ki(r,u,r.path,[h,"key"])),value:o._parse(new Ki(r,f,r.path,[h,"value"]))}));if(r.common.async){const u=new Map;return Promise.resolve().then(async()=>{for(const f of c){const h=await f.key,m=await f.value;if(h.status==="aborted"||m.status==="aborted")return ft;(h.status==="dirty"||m.status==="dirty")&&n.dirty(),u.set(h.value,m.value)}return{status:n.value,value:u}})}else{const u=new Map;for(const f of c){const h=f.key,m=f.value;if(h.status==="aborted"||m.status==="aborted")return ft;(h.status==="dirty"||m.status==="dirty")&&n.dirty(),u.set(h.value,m.value)}return{status:n.value,value:u}}}}MT.create=(e,t,n)=>new MT({valueType:t,keyType:e,typeName:ut.ZodMap,...St(n)});class Ad extends Pt{_parse(t){const{status:n,ctx:r}=this._processInputParams(t);if(r.parsedType!==ze.set)return Oe(r,{code:Te.invalid_type,expected:ze.set,received:r.parsedType}),ft;const s=this._def;s.minSize!==null&&r.data.size<s.minSize.value&&(Oe(r,{code:Te.too_small,minimum:s.minSize.value,type:"set",inclusive:!0,exact:!1,message:s.minSize.message}),n.dirty()),s.maxSize!==null&&r.data.size>s.maxSize.value&&(Oe(r,{code:Te.too_big,maximum:s.maxSize.value,type:"set",inclusive:!0,exact:!1,message:s.maxSize.message}),n.dirty());const o=this._def.valueType;function c(f){const h=new Set;for(const m of f){if(m.status==="aborted")return ft;m.status==="dirty"&&n.dirty(),h.add(m.value)}return{status:n.value,value:h}}const u=[...r.data.values()].map((f,h)=>o._parse(new Ki(r,f,r.path,h)));return r.common.async?Promise.all(u).then(f=>c(f)):c(u)}min(t,n){return new Ad({...this._def,minSize:{value:t,message:Ue.toString(n)}})}max(t,n){return new Ad({...this._def,maxSize:{value:t,message:Ue.toString(n)}})}size(t,n){return this.min(t,n).max(t,n)}nonempty(t){return this.min(1,t)}}Ad.create=(e,t)=>new Ad({valueType:e,minSize:null,maxSize:null,typeName:ut.ZodSet,...St(t)});class _T extends Pt{get schema(){return this._def.getter()}_parse(t){const{ctx:n}=this._processInputParams(t);return this._def.getter()._parse({data:n.data,path:n.path,parent:n})}}_T.create=(e,t)=>new _T({getter:e,typeName:ut.ZodLazy,...St(t)});class AT extends Pt{_parse(t){if(t.data!==this._def.value){const n=this._getOrReturnCtx(t);return Oe(n,{received:n.data,code:Te.invalid_literal,expected:this._def.value}),ft}return{status:"valid",value:t.data}}get value(){return this._def.value}}AT.create=(e,t)=>new AT({value:e,typeName:ut.ZodLiteral,...St(t)});function xN(e,t){return new gc({values:e,typeName:ut.ZodEnum,...St(t)})}class gc extends Pt{constructor(){super(...arguments),rd.set(this,void 0)}_parse(t){if(typeof t.data!="string"){const n=this._getOrReturnCtx(t),r=this._def.values;return Oe(n,{expected:zt.joinValues(r),received:n.parsedType,code:Te.invalid_type}),ft}if(Sm(this,rd,"f")||yN(this,rd,new Set(this._def.values),"f"),!Sm(this,rd,"f").has(t.data)){const n=this._getOrReturnCtx(t),r=this._def.values;return Oe(n,{received:n.data,code:Te.invalid_enum_value,options:r}),ft}return wa(t.data)}get options(){return this._def.values}get enum(){const t={};for(const n of this._def.values)t[n]=n;return t}get Values(){const t={};for(const n of this._def.values)t[n]=n;return t}get Enum(){const t={};for(const n of this._def.values)t[n]=n;return t}extract(t,n=this._def){return gc.create(t,{...this._def,...n})}exclude(t,n=this._def){return gc.create(this.options.filter(r=>!t.includes(r)),{...this._def,...n})}}rd=new WeakMap;gc.create=xN;class RT extends Pt{constructor(){super(...arguments),ad.set(this,void 0)}_parse(t){const n=zt.getValidEnumValues(this._def.values),r=this._getOrReturnCtx(t);if(r.parsedType!==ze.string&&r.parsedType!==ze.number){const s=zt.objectValues(n);return Oe(r,{expected:zt.joinValues(s),received:r.parsedType,code:Te.invalid_type}),ft}if(Sm(this,ad,"f")||yN(this,ad,new Set(zt.getValidEnumValues(this._def.values)),"f"),!Sm(this,ad,"f").has(t.data)){const s=zt.objectValues(n);return Oe(r,{received:r.data,code:Te.invalid_enum_value,options:s}),ft}return wa(t.data)}get enum(){return this._def.values}}ad=new WeakMap;RT.create=(e,t)=>new RT({values:e,typeName:ut.ZodNativeEnum,...St(t)});class Mm extends Pt{unwrap(){return this._def.type}_parse(t){const{ctx:n}=this._processInputParams(t);if(n.parsedType!==ze.promise&&n.common.async===!1)return Oe(n,{code:Te.invalid_type,expected:ze.promise,received:n.parsedType}),ft;const r=n.parsedType===ze.promise?n.data:Promise.resolve(n.data);return wa(r.then(s=>this._def.type.parseAsync(s,{path:n.path,errorMap:n.common.contextualErrorMap})))}}Mm.create=(e,t)=>new Mm({type:e,typeName:ut.ZodPromise,...St(t)});class yc extends Pt{innerType(){return this._def.schema}sourceType(){return this._def.schema._def.typeName===ut.ZodEffects?this._def.schema.sourceType():this._def.schema}_parse(t){const{status:n,ctx:r}=this._processInputParams(t),s=this._def.effect||null,o={addIssue:c=>{Oe(r,c),c.fatal?n.abort():n.dirty()},get path(){return r.path}};if(o.addIssue=o.addIssue.bind(o),s.type==="preprocess"){const c=s.transform(r.data,o);if(r.common.async)return Promise.resolve(c).then(async u=>{if(n.value==="aborted")return ft;const f=await this._def.schema._parseAsync({data:u,path:r.path,parent:r});return f.status==="aborted"?ft:f.status==="dirty"||n.value==="dirty"?nd(f.value):f});{if(n.value==="aborted")return ft;const u=this._def.schema._parseSync({data:c,path:r.path,parent:r});return u.status==="aborted"?ft:u.status==="dirty"||n.value==="dirty"?nd(u.value):u}}if(s.type==="refinement"){const c=u=>{const f=s.refinement(u,o);if(r.common.async)return Promise.resolve(f);if(f instanceof Promise)throw new Error("Async refinement encountered during synchronous parse operation. Use .parseAsync instead.");return u};if(r.common.async===!1){const u=this._def.schema._parseSync({data:r.data,path:r.path,parent:r});return u.status==="aborted"?ft:(u.status==="dirty"&&n.dirty(),c(u.value),{status:n.value,value:u.value})}else return this._def.schema._parseAsync({data:r.data,path:r.path,parent:r}).then(u=>u.status==="aborted"?ft:(u.status==="dirty"&&n.dirty(),c(u.value).then(()=>({status:n.value,value:u.value}))))}if(s.type==="transform")if(r.common.async===!1){const c=this._def.schema._parseSync({data:r.data,path:r.path,parent:r});if(!mc(c))return c;const u=s.transform(c.value,o);if(u instanceof Promise)throw new Error("Asynchronous transform encountered during synchronous parse operation. Use .parseAsync instead.");return{status:n.value,value:u}}else return this._def.schema._parseAsync({data:r.data,path:r.path,parent:r}).then(c=>mc(c)?Promise.resolve(s.transform(c.value,o)).then(u=>({status:n.value,value:u})):c);zt.assertNever(s)}}yc.create=(e,t,n)=>new yc({schema:e,typeName:ut.ZodEffects,effect:t,...St(n)});yc.createWithPreprocess=(e,t,n)=>new yc({schema:t,effect:{type:"preprocess",transform:e},typeName:ut.ZodEffects,...St(n)});class $i extends Pt{_parse(t){return this._getType(t)===ze.undefined?wa(void 0):this._def.innerType._parse(t)}unwrap(){return this._def.innerType}}$i.create=(e,t)=>new $i({innerType:e,typeName:ut.ZodOptional,...St(t)});class vc extends Pt{_parse(t){return this._getType(t)===ze.null?wa(null):this._def.innerType._parse(t)}unwrap(){return this._def.innerType}}vc.create=(e,t)=>new vc({innerType:e,typeName:ut.ZodNullable,...St(t)});class rb extends Pt{_parse(t){const{ctx:n}=this._processInputParams(t);let r=n.data;return n.parsedType===ze.undefined&&(r=this._def.defaultValue()),this._def.innerType._parse({data:r,path:n.path,parent:n})}removeDefault(){return this._def.innerType}}rb.create=(e,t)=>new rb({innerType:e,typeName:ut.ZodDefault,defaultValue:typeof t.default=="function"?t.default:()=>t.default,...St(t)});class ab extends Pt{_parse(t){const{ctx:n}=this._processInputParams(t),r={...n,common:{...n.common,issues:[]}},s=this._def.innerType._parse({data:r.data,path:r.path,parent:{...r}});return wm(s)?s.then(o=>({status:"valid",value:o.status==="valid"?o.value:this._def.catchValue({get error(){return new Is(r.common.issues)},input:r.data})})):{status:"valid",value:s.status==="valid"?s.value:this._def.catchValue({get error(){return new Is(r.common.issues)},input:r.data})}}removeCatch(){return this._def.innerType}}ab.create=(e,t)=>new ab({innerType:e,typeName:ut.ZodCatch,catchValue:typeof t.catch=="function"?t.catch:()=>t.catch,...St(t)});class DT extends Pt{_parse(t){if(this._getType(t)!==ze.nan){const r=this._getOrReturnCtx(t);return Oe(r,{code:Te.invalid_type,expected:ze.nan,received:r.parsedType}),ft}return{status:"valid",value:t.data}}}DT.create=e=>new DT({typeName:ut.ZodNaN,...St(e)});class oI extends Pt{_parse(t){const{ctx:n}=this._processInputParams(t),r=n.data;return this._def.type._parse({data:r,path:n.path,parent:n})}unwrap(){return this._def.type}}class J0 extends Pt{_parse(t){const{status:n,ctx:r}=this._processInputParams(t);if(r.common.async)return(async()=>{const o=await this._def.in._parseAsync({data:r.data,path:r.path,parent:r});return o.status==="aborted"?ft:o.status==="dirty"?(n.dirty(),nd(o.value)):this._def.out._parseAsync({data:o.value,path:r.path,parent:r})})();{const s=this._def.in._parseSync({data:r.data,path:r.path,parent:r});return s.status==="aborted"?ft:s.status==="dirty"?(n.dirty(),{status:"dirty",value:s.value}):this._def.out._parseSync({data:s.value,path:r.path,parent:r})}}static create(t,n){return new J0({in:t,out:n,typeName:ut.ZodPipeline})}}class sb extends Pt{_parse(t){const n=this._def.innerType._parse(t),r=s=>(mc(s)&&(s.value=Object.freeze(s.value)),s);return wm(n)?n.then(s=>r(s)):r(n)}unwrap(){return this._def.innerType}}sb.create=(e,t)=>new sb({innerType:e,typeName:ut.ZodReadonly,...St(t)});var ut;(function(e){e.ZodString="ZodString",e.ZodNumber="ZodNumber",e.ZodNaN="ZodNaN",e.ZodBigInt="ZodBigInt",e.ZodBoolean="ZodBoolean",e.ZodDate="ZodDate",e.ZodSymbol="ZodSymbol",e.ZodUndefined="ZodUndefined",e.ZodNull="ZodNull",e.ZodAny="ZodAny",e.ZodUnknown="ZodUnknown",e.ZodNever="ZodNever",e.ZodVoid="ZodVoid",e.ZodArray="ZodArray",e.ZodObject="ZodObject",e.ZodUnion="ZodUnion",e.ZodDiscriminatedUnion="ZodDiscriminatedUnion",e.ZodIntersection="ZodIntersection",e.ZodTuple="ZodTuple",e.ZodRecord="ZodRecord",e.ZodMap="ZodMap",e.ZodSet="ZodSet",e.ZodFunction="ZodFunction",e.ZodLazy="ZodLazy",e.ZodLiteral="ZodLiteral",e.ZodEnum="ZodEnum",e.ZodEffects="ZodEffects",e.ZodNativeEnum="ZodNativeEnum",e.ZodOptional="ZodOptional",e.ZodNullable="ZodNullable",e.ZodDefault="ZodDefault",e.ZodCatch="ZodCatch",e.ZodPromise="ZodPromise",e.ZodBranded="ZodBranded",e.ZodPipeline="ZodPipeline",e.ZodReadonly="ZodReadonly"})(ut||(ut={}));const ea=Hi.create,lI=pc.create;Zi.create;rs.create;const op=Nn.create;Cm.create;Tm.create;Yo.create;gc.create;Mm.create;$i.create;vc.create;const cI=op({email:ea().email({message:"Invalid email address"}),password:ea().min(6,{message:"Password must be at least 6 characters long"})}),uI=op({name:ea().min(1,{message:"Name is required"}),email:ea().email({message:"Invalid email address"}),password:ea().min(6,{message:"Password must be at least 6 characters long"}),confirmPassword:ea().min(6,{message:"Confirm password must be at least 6 characters long"})}).refine(e=>e.password===e.confirmPassword,{message:"Passwords do not match",path:["confirmPassword"]}),NT=(e,t,n)=>{if(e&&"reportValidity"in e){const r=Re(n,t);e.setCustomValidity(r&&r.message||""),e.reportValidity()}},wN=(e,t)=>{for(const n in t.fields){const r=t.fields[n];r&&r.ref&&"reportValidity"in r.ref?NT(r.ref,n,e):r&&r.refs&&r.refs.forEach(s=>NT(s,n,e))}},dI=(e,t)=>{t.shouldUseNativeValidation&&wN(e,t);const n={};for(const r in e){const s=Re(t.fields,r),o=Object.assign(e[r]||{},{ref:s&&s.ref});if(fI(t.names||Object.keys(e),r)){const c=Object.assign({},Re(n,r));Ft(c,"root",o),Ft(n,r,c)}else Ft(n,r,o)}return n},fI=(e,t)=>{const n=OT(t);return e.some(r=>OT(r).match(`^${n}\\.\\d+`))};function OT(e){return e.replace(/\]|\[/g,"")}function hI(e,t){for(var n={};e.length;){var r=e[0],s=r.code,o=r.message,c=r.path.join(".");if(!n[c])if("unionErrors"in r){var u=r.unionErrors[0].errors[0];n[c]={message:u.message,type:u.code}}else n[c]={message:o,type:s};if("unionErrors"in r&&r.unionErrors.forEach(function(m){return m.errors.forEach(function(p){return e.push(p)})}),t){var f=n[c].types,h=f&&f[r.code];n[c]=lN(c,t,n,s,h?[].concat(h,r.message):r.message)}e.shift()}return n}function Lc(e,t,n){return n===void 0&&(n={}),function(r,s,o){try{return Promise.resolve(function(c,u){try{var f=Promise.resolve(e[n.mode==="sync"?"parse":"parseAsync"](r,t)).then(function(h){return o.shouldUseNativeValidation&&wN({},o),{errors:{},values:n.raw?Object.assign({},r):h}})}catch(h){return u(h)}return f&&f.then?f.then(void 0,u):f}(0,function(c){if(function(u){return Array.isArray(u==null?void 0:u.errors)}(c))return{values:{},errors:dI(hI(c.errors,!o.shouldUseNativeValidation&&o.criteriaMode==="all"),o)};throw c}))}catch(c){return Promise.reject(c)}}}var Vc=class{constructor(){this.listeners=new Set,this.subscribe=this.subscribe.bind(this)}subscribe(e){return this.listeners.add(e),this.onSubscribe(),()=>{this.listeners.delete(e),this.onUnsubscribe()}}hasListeners(){return this.listeners.size>0}onSubscribe(){}onUnsubscribe(){}},Go=typeof window>"u"||"Deno"in globalThis;function br(){}function mI(e,t){return typeof e=="function"?e(t):e}function ib(e){return typeof e=="number"&&e>=0&&e!==1/0}function SN(e,t){return Math.max(e+(t||0)-Date.now(),0)}function Xl(e,t){return typeof e=="function"?e(t):e}function Da(e,t){return typeof e=="function"?e(t):e}function kT(e,t){const{type:n="all",exact:r,fetchStatus:s,predicate:o,queryKey:c,stale:u}=e;if(c){if(r){if(t.queryHash!==ex(c,t.options))return!1}else if(!Rd(t.queryKey,c))return!1}if(n!=="all"){const f=t.isActive();if(n==="active"&&!f||n==="inactive"&&f)return!1}return!(typeof u=="boolean"&&t.isStale()!==u||s&&s!==t.state.fetchStatus||o&&!o(t))}function jT(e,t){const{exact:n,status:r,predicate:s,mutationKey:o}=e;if(o){if(!t.options.mutationKey)return!1;if(n){if(Wo(t.options.mutationKey)!==Wo(o))return!1}else if(!Rd(t.options.mutationKey,o))return!1}return!(r&&t.state.status!==r||s&&!s(t))}function ex(e,t){return((t==null?void 0:t.queryKeyHashFn)||Wo)(e)}function Wo(e){return JSON.stringify(e,(t,n)=>ob(n)?Object.keys(n).sort().reduce((r,s)=>(r[s]=n[s],r),{}):n)}function Rd(e,t){return e===t?!0:typeof e!=typeof t?!1:e&&t&&typeof e=="object"&&typeof t=="object"?Object.keys(t).every(n=>Rd(e[n],t[n])):!1}function EN(e,t){if(e===t)return e;const n=PT(e)&&PT(t);if(n||ob(e)&&ob(t)){const r=n?e:Object.keys(e),s=r.length,o=n?t:Object.keys(t),c=o.length,u=n?[]:{};let f=0;for(let h=0;h<c;h++){const m=n?h:o[h];(!n&&r.includes(m)||n)&&e[m]===void 0&&t[m]===void 0?(u[m]=void 0,f++):(u[m]=EN(e[m],t[m]),u[m]===e[m]&&e[m]!==void 0&&f++)}return s===c&&f===s?e:u}return t}function _m(e,t){if(!t||Object.keys(e).length!==Object.keys(t).length)return!1;for(const n in e)if(e[n]!==t[n])return!1;return!0}function PT(e){return Array.isArray(e)&&e.length===Object.keys(e).length}function ob(e){if(!LT(e))return!1;const t=e.constructor;if(t===void 0)return!0;const n=t.prototype;return!(!LT(n)||!n.hasOwnProperty("isPrototypeOf")||Object.getPrototypeOf(e)!==Object.prototype)}function LT(e){return Object.prototype.toString.call(e)==="[object Object]"}function pI(e){return new Promise(t=>{setTimeout(t,e)})}function lb(e,t,n){return typeof n.structuralSharing=="function"?n.structuralSharing(e,t):n.structuralSharing!==!1?EN(e,t):t}function gI(e,t,n=0){const r=[...e,t];return n&&r.length>n?r.slice(1):r}function yI(e,t,n=0){const r=[t,...e];return n&&r.length>n?r.slice(0,-1):r}var tx=Symbol();function CN(e,t){return!e.queryFn&&(t!=null&&t.initialPromise)?()=>t.initialPromise:!e.queryFn||e.queryFn===tx?()=>Promise.reject(new Error(`Missing queryFn: '${e.queryHash}'`)):e.queryFn}function TN(e,t){return typeof e=="function"?e(...t):!!e}var No,ki,Jl,A_,vI=(A_=class extends Vc{constructor(){super();Xe(this,No);Xe(this,ki);Xe(this,Jl);je(this,Jl,t=>{if(!Go&&window.addEventListener){const n=()=>t();return window.addEventListener("visibilitychange",n,!1),()=>{window.removeEventListener("visibilitychange",n)}}})}onSubscribe(){F(this,ki)||this.setEventListener(F(this,Jl))}onUnsubscribe(){var t;this.hasListeners()||((t=F(this,ki))==null||t.call(this),je(this,ki,void 0))}setEventListener(t){var n;je(this,Jl,t),(n=F(this,ki))==null||n.call(this),je(this,ki,t(r=>{typeof r=="boolean"?this.setFocused(r):this.onFocus()}))}setFocused(t){F(this,No)!==t&&(je(this,No,t),this.onFocus())}onFocus(){const t=this.isFocused();this.listeners.forEach(n=>{n(t)})}isFocused(){var t;return typeof F(this,No)=="boolean"?F(this,No):((t=globalThis.document)==null?void 0:t.visibilityState)!=="hidden"}},No=new WeakMap,ki=new WeakMap,Jl=new WeakMap,A_),nx=new vI,ec,ji,tc,R_,bI=(R_=class extends Vc{constructor(){super();Xe(this,ec,!0);Xe(this,ji);Xe(this,tc);je(this,tc,t=>{if(!Go&&window.addEventListener){const n=()=>t(!0),r=()=>t(!1);return window.addEventListener("online",n,!1),window.addEventListener("offline",r,!1),()=>{window.removeEventListener("online",n),window.removeEventListener("offline",r)}}})}onSubscribe(){F(this,ji)||this.setEventListener(F(this,tc))}onUnsubscribe(){var t;this.hasListeners()||((t=F(this,ji))==null||t.call(this),je(this,ji,void 0))}setEventListener(t){var n;je(this,tc,t),(n=F(this,ji))==null||n.call(this),je(this,ji,t(this.setOnline.bind(this)))}setOnline(t){F(this,ec)!==t&&(je(this,ec,t),this.listeners.forEach(r=>{r(t)}))}isOnline(){return F(this,ec)}},ec=new WeakMap,ji=new WeakMap,tc=new WeakMap,R_),Am=new bI;function cb(){let e,t;const n=new Promise((s,o)=>{e=s,t=o});n.status="pending",n.catch(()=>{});function r(s){Object.assign(n,s),delete n.resolve,delete n.reject}return n.resolve=s=>{r({status:"fulfilled",value:s}),e(s)},n.reject=s=>{r({status:"rejected",reason:s}),t(s)},n}function xI(e){return Math.min(1e3*2**e,3e4)}function MN(e){return(e??"online")==="online"?Am.isOnline():!0}var _N=class extends Error{constructor(e){super("CancelledError"),this.revert=e==null?void 0:e.revert,this.silent=e==null?void 0:e.silent}};function Xy(e){return e instanceof _N}function AN(e){let t=!1,n=0,r=!1,s;const o=cb(),c=E=>{var C;r||(b(new _N(E)),(C=e.abort)==null||C.call(e))},u=()=>{t=!0},f=()=>{t=!1},h=()=>nx.isFocused()&&(e.networkMode==="always"||Am.isOnline())&&e.canRun(),m=()=>MN(e.networkMode)&&e.canRun(),p=E=>{var C;r||(r=!0,(C=e.onSuccess)==null||C.call(e,E),s==null||s(),o.resolve(E))},b=E=>{var C;r||(r=!0,(C=e.onError)==null||C.call(e,E),s==null||s(),o.reject(E))},w=()=>new Promise(E=>{var C;s=T=>{(r||h())&&E(T)},(C=e.onPause)==null||C.call(e)}).then(()=>{var E;s=void 0,r||(E=e.onContinue)==null||E.call(e)}),S=()=>{if(r)return;let E;const C=n===0?e.initialPromise:void 0;try{E=C??e.fn()}catch(T){E=Promise.reject(T)}Promise.resolve(E).then(p).catch(T=>{var D;if(r)return;const _=e.retry??(Go?0:3),A=e.retryDelay??xI,O=typeof A=="function"?A(n,T):A,R=_===!0||typeof _=="number"&&n<_||typeof _=="function"&&_(n,T);if(t||!R){b(T);return}n++,(D=e.onFail)==null||D.call(e,n,T),pI(O).then(()=>h()?void 0:w()).then(()=>{t?b(T):S()})})};return{promise:o,cancel:c,continue:()=>(s==null||s(),o),cancelRetry:u,continueRetry:f,canStart:m,start:()=>(m()?S():w().then(S),o)}}var wI=e=>setTimeout(e,0);function SI(){let e=[],t=0,n=u=>{u()},r=u=>{u()},s=wI;const o=u=>{t?e.push(u):s(()=>{n(u)})},c=()=>{const u=e;e=[],u.length&&s(()=>{r(()=>{u.forEach(f=>{n(f)})})})};return{batch:u=>{let f;t++;try{f=u()}finally{t--,t||c()}return f},batchCalls:u=>(...f)=>{o(()=>{u(...f)})},schedule:o,setNotifyFunction:u=>{n=u},setBatchNotifyFunction:u=>{r=u},setScheduler:u=>{s=u}}}var $n=SI(),Oo,D_,RN=(D_=class{constructor(){Xe(this,Oo)}destroy(){this.clearGcTimeout()}scheduleGc(){this.clearGcTimeout(),ib(this.gcTime)&&je(this,Oo,setTimeout(()=>{this.optionalRemove()},this.gcTime))}updateGcTime(e){this.gcTime=Math.max(this.gcTime||0,e??(Go?1/0:5*60*1e3))}clearGcTimeout(){F(this,Oo)&&(clearTimeout(F(this,Oo)),je(this,Oo,void 0))}},Oo=new WeakMap,D_),nc,rc,ga,ko,lr,Id,jo,Aa,Rs,N_,EI=(N_=class extends RN{constructor(t){super();Xe(this,Aa);Xe(this,nc);Xe(this,rc);Xe(this,ga);Xe(this,ko);Xe(this,lr);Xe(this,Id);Xe(this,jo);je(this,jo,!1),je(this,Id,t.defaultOptions),this.setOptions(t.options),this.observers=[],je(this,ko,t.client),je(this,ga,F(this,ko).getQueryCache()),this.queryKey=t.queryKey,this.queryHash=t.queryHash,je(this,nc,CI(this.options)),this.state=t.state??F(this,nc),this.scheduleGc()}get meta(){return this.options.meta}get promise(){var t;return(t=F(this,lr))==null?void 0:t.promise}setOptions(t){this.options={...F(this,Id),...t},this.updateGcTime(this.options.gcTime)}optionalRemove(){!this.observers.length&&this.state.fetchStatus==="idle"&&F(this,ga).remove(this)}setData(t,n){const r=lb(this.state.data,t,this.options);return gt(this,Aa,Rs).call(this,{data:r,type:"success",dataUpdatedAt:n==null?void 0:n.updatedAt,manual:n==null?void 0:n.manual}),r}setState(t,n){gt(this,Aa,Rs).call(this,{type:"setState",state:t,setStateOptions:n})}cancel(t){var r,s;const n=(r=F(this,lr))==null?void 0:r.promise;return(s=F(this,lr))==null||s.cancel(t),n?n.then(br).catch(br):Promise.resolve()}destroy(){super.destroy(),this.cancel({silent:!0})}reset(){this.destroy(),this.setState(F(this,nc))}isActive(){return this.observers.some(t=>Da(t.options.enabled,this)!==!1)}isDisabled(){return this.getObserversCount()>0?!this.isActive():this.options.queryFn===tx||this.state.dataUpdateCount+this.state.errorUpdateCount===0}isStale(){return this.state.isInvalidated?!0:this.getObserversCount()>0?this.observers.some(t=>t.getCurrentResult().isStale):this.state.data===void 0}isStaleByTime(t=0){return this.state.isInvalidated||this.state.data===void 0||!SN(this.state.dataUpdatedAt,t)}onFocus(){var n;const t=this.observers.find(r=>r.shouldFetchOnWindowFocus());t==null||t.refetch({cancelRefetch:!1}),(n=F(this,lr))==null||n.continue()}onOnline(){var n;const t=this.observers.find(r=>r.shouldFetchOnReconnect());t==null||t.refetch({cancelRefetch:!1}),(n=F(this,lr))==null||n.continue()}addObserver(t){this.observers.includes(t)||(this.observers.push(t),this.clearGcTimeout(),F(this,ga).notify({type:"observerAdded",query:this,observer:t}))}removeObserver(t){this.observers.includes(t)&&(this.observers=this.observers.filter(n=>n!==t),this.observers.length||(F(this,lr)&&(F(this,jo)?F(this,lr).cancel({revert:!0}):F(this,lr).cancelRetry()),this.scheduleGc()),F(this,ga).notify({type:"observerRemoved",query:this,observer:t}))}getObserversCount(){return this.observers.length}invalidate(){this.state.isInvalidated||gt(this,Aa,Rs).call(this,{type:"invalidate"})}fetch(t,n){var f,h,m;if(this.state.fetchStatus!=="idle"){if(this.state.data!==void 0&&(n!=null&&n.cancelRefetch))this.cancel({silent:!0});else if(F(this,lr))return F(this,lr).continueRetry(),F(this,lr).promise}if(t&&this.setOptions(t),!this.options.queryFn){const p=this.observers.find(b=>b.options.queryFn);p&&this.setOptions(p.options)}const r=new AbortController,s=p=>{Object.defineProperty(p,"signal",{enumerable:!0,get:()=>(je(this,jo,!0),r.signal)})},o=()=>{const p=CN(this.options,n),b={client:F(this,ko),queryKey:this.queryKey,meta:this.meta};return s(b),je(this,jo,!1),this.options.persister?this.options.persister(p,b,this):p(b)},c={fetchOptions:n,options:this.options,queryKey:this.queryKey,client:F(this,ko),state:this.state,fetchFn:o};s(c),(f=this.options.behavior)==null||f.onFetch(c,this),je(this,rc,this.state),(this.state.fetchStatus==="idle"||this.state.fetchMeta!==((h=c.fetchOptions)==null?void 0:h.meta))&&gt(this,Aa,Rs).call(this,{type:"fetch",meta:(m=c.fetchOptions)==null?void 0:m.meta});const u=p=>{var b,w,S,E;Xy(p)&&p.silent||gt(this,Aa,Rs).call(this,{type:"error",error:p}),Xy(p)||((w=(b=F(this,ga).config).onError)==null||w.call(b,p,this),(E=(S=F(this,ga).config).onSettled)==null||E.call(S,this.state.data,p,this)),this.scheduleGc()};return je(this,lr,AN({initialPromise:n==null?void 0:n.initialPromise,fn:c.fetchFn,abort:r.abort.bind(r),onSuccess:p=>{var b,w,S,E;if(p===void 0){u(new Error(`${this.queryHash} data is undefined`));return}try{this.setData(p)}catch(C){u(C);return}(w=(b=F(this,ga).config).onSuccess)==null||w.call(b,p,this),(E=(S=F(this,ga).config).onSettled)==null||E.call(S,p,this.state.error,this),this.scheduleGc()},onError:u,onFail:(p,b)=>{gt(this,Aa,Rs).call(this,{type:"failed",failureCount:p,error:b})},onPause:()=>{gt(this,Aa,Rs).call(this,{type:"pause"})},onContinue:()=>{gt(this,Aa,Rs).call(this,{type:"continue"})},retry:c.options.retry,retryDelay:c.options.retryDelay,networkMode:c.options.networkMode,canRun:()=>!0})),F(this,lr).start()}},nc=new WeakMap,rc=new WeakMap,ga=new WeakMap,ko=new WeakMap,lr=new WeakMap,Id=new WeakMap,jo=new WeakMap,Aa=new WeakSet,Rs=function(t){const n=r=>{switch(t.type){case"failed":return{...r,fetchFailureCount:t.failureCount,fetchFailureReason:t.error};case"pause":return{...r,fetchStatus:"paused"};case"continue":return{...r,fetchStatus:"fetching"};case"fetch":return{...r,...DN(r.data,this.options),fetchMeta:t.meta??null};case"success":return{...r,data:t.data,dataUpdateCount:r.dataUpdateCount+1,dataUpdatedAt:t.dataUpdatedAt??Date.now(),error:null,isInvalidated:!1,status:"success",...!t.manual&&{fetchStatus:"idle",fetchFailureCount:0,fetchFailureReason:null}};case"error":const s=t.error;return Xy(s)&&s.revert&&F(this,rc)?{...F(this,rc),fetchStatus:"idle"}:{...r,error:s,errorUpdateCount:r.errorUpdateCount+1,errorUpdatedAt:Date.now(),fetchFailureCount:r.fetchFailureCount+1,fetchFailureReason:s,fetchStatus:"idle",status:"error"};case"invalidate":return{...r,isInvalidated:!0};case"setState":return{...r,...t.state}}};this.state=n(this.state),$n.batch(()=>{this.observers.forEach(r=>{r.onQueryUpdate()}),F(this,ga).notify({query:this,type:"updated",action:t})})},N_);function DN(e,t){return{fetchFailureCount:0,fetchFailureReason:null,fetchStatus:MN(t.networkMode)?"fetching":"paused",...e===void 0&&{error:null,status:"pending"}}}function CI(e){const t=typeof e.initialData=="function"?e.initialData():e.initialData,n=t!==void 0,r=n?typeof e.initialDataUpdatedAt=="function"?e.initialDataUpdatedAt():e.initialDataUpdatedAt:0;return{data:t,dataUpdateCount:0,dataUpdatedAt:n?r??Date.now():0,error:null,errorUpdateCount:0,errorUpdatedAt:0,fetchFailureCount:0,fetchFailureReason:null,fetchMeta:null,isInvalidated:!1,status:n?"success":"pending",fetchStatus:"idle"}}var Wa,O_,TI=(O_=class extends Vc{constructor(t={}){super();Xe(this,Wa);this.config=t,je(this,Wa,new Map)}build(t,n,r){const s=n.queryKey,o=n.queryHash??ex(s,n);let c=this.get(o);return c||(c=new EI({client:t,queryKey:s,queryHash:o,options:t.defaultQueryOptions(n),state:r,defaultOptions:t.getQueryDefaults(s)}),this.add(c)),c}add(t){F(this,Wa).has(t.queryHash)||(F(this,Wa).set(t.queryHash,t),this.notify({type:"added",query:t}))}remove(t){const n=F(this,Wa).get(t.queryHash);n&&(t.destroy(),n===t&&F(this,Wa).delete(t.queryHash),this.notify({type:"removed",query:t}))}clear(){$n.batch(()=>{this.getAll().forEach(t=>{this.remove(t)})})}get(t){return F(this,Wa).get(t)}getAll(){return[...F(this,Wa).values()]}find(t){const n={exact:!0,...t};return this.getAll().find(r=>kT(n,r))}findAll(t={}){const n=this.getAll();return Object.keys(t).length>0?n.filter(r=>kT(t,r)):n}notify(t){$n.batch(()=>{this.listeners.forEach(n=>{n(t)})})}onFocus(){$n.batch(()=>{this.getAll().forEach(t=>{t.onFocus()})})}onOnline(){$n.batch(()=>{this.getAll().forEach(t=>{t.onOnline()})})}},Wa=new WeakMap,O_),Ka,pr,Po,Za,Ai,k_,MI=(k_=class extends RN{constructor(t){super();Xe(this,Za);Xe(this,Ka);Xe(this,pr);Xe(this,Po);this.mutationId=t.mutationId,je(this,pr,t.mutationCache),je(this,Ka,[]),this.state=t.state||NN(),this.setOptions(t.options),this.scheduleGc()}setOptions(t){this.options=t,this.updateGcTime(this.options.gcTime)}get meta(){return this.options.meta}addObserver(t){F(this,Ka).includes(t)||(F(this,Ka).push(t),this.clearGcTimeout(),F(this,pr).notify({type:"observerAdded",mutation:this,observer:t}))}removeObserver(t){je(this,Ka,F(this,Ka).filter(n=>n!==t)),this.scheduleGc(),F(this,pr).notify({type:"observerRemoved",mutation:this,observer:t})}optionalRemove(){F(this,Ka).length||(this.state.status==="pending"?this.scheduleGc():F(this,pr).remove(this))}continue(){var t;return((t=F(this,Po))==null?void 0:t.continue())??this.execute(this.state.variables)}async execute(t){var o,c,u,f,h,m,p,b,w,S,E,C,T,_,A,O,R,D,L,k;const n=()=>{gt(this,Za,Ai).call(this,{type:"continue"})};je(this,Po,AN({fn:()=>this.options.mutationFn?this.options.mutationFn(t):Promise.reject(new Error("No mutationFn found")),onFail:(H,X)=>{gt(this,Za,Ai).call(this,{type:"failed",failureCount:H,error:X})},onPause:()=>{gt(this,Za,Ai).call(this,{type:"pause"})},onContinue:n,retry:this.options.retry??0,retryDelay:this.options.retryDelay,networkMode:this.options.networkMode,canRun:()=>F(this,pr).canRun(this)}));const r=this.state.status==="pending",s=!F(this,Po).canStart();try{if(r)n();else{gt(this,Za,Ai).call(this,{type:"pending",variables:t,isPaused:s}),await((c=(o=F(this,pr).config).onMutate)==null?void 0:c.call(o,t,this));const X=await((f=(u=this.options).onMutate)==null?void 0:f.call(u,t));X!==this.state.context&&gt(this,Za,Ai).call(this,{type:"pending",context:X,variables:t,isPaused:s})}const H=await F(this,Po).start();return await((m=(h=F(this,pr).config).onSuccess)==null?void 0:m.call(h,H,t,this.state.context,this)),await((b=(p=this.options).onSuccess)==null?void 0:b.call(p,H,t,this.state.context)),await((S=(w=F(this,pr).config).onSettled)==null?void 0:S.call(w,H,null,this.state.variables,this.state.context,this)),await((C=(E=this.options).onSettled)==null?void 0:C.call(E,H,null,t,this.state.context)),gt(this,Za,Ai).call(this,{type:"success",data:H}),H}catch(H){try{throw await((_=(T=F(this,pr).config).onError)==null?void 0:_.call(T,H,t,this.state.context,this)),await((O=(A=this.options).onError)==null?void 0:O.call(A,H,t,this.state.context)),await((D=(R=F(this,pr).config).onSettled)==null?void 0:D.call(R,void 0,H,this.state.variables,this.state.context,this)),await((k=(L=this.options).onSettled)==null?void 0:k.call(L,void 0,H,t,this.state.context)),H}finally{gt(this,Za,Ai).call(this,{type:"error",error:H})}}finally{F(this,pr).runNext(this)}}},Ka=new WeakMap,pr=new WeakMap,Po=new WeakMap,Za=new WeakSet,Ai=function(t){const n=r=>{switch(t.type){case"failed":return{...r,failureCount:t.failureCount,failureReason:t.error};case"pause":return{...r,isPaused:!0};case"continue":return{...r,isPaused:!1};case"pending":return{...r,context:t.context,data:void 0,failureCount:0,failureReason:null,error:null,isPaused:t.isPaused,status:"pending",variables:t.variables,submittedAt:Date.now()};case"success":return{...r,data:t.data,failureCount:0,failureReason:null,error:null,status:"success",isPaused:!1};case"error":return{...r,data:void 0,error:t.error,failureCount:r.failureCount+1,failureReason:t.error,isPaused:!1,status:"error"}}};this.state=n(this.state),$n.batch(()=>{F(this,Ka).forEach(r=>{r.onMutationUpdate(t)}),F(this,pr).notify({mutation:this,type:"updated",action:t})})},k_);function NN(){return{context:void 0,data:void 0,error:null,failureCount:0,failureReason:null,isPaused:!1,status:"idle",variables:void 0,submittedAt:0}}var Ds,Ra,Hd,j_,_I=(j_=class extends Vc{constructor(t={}){super();Xe(this,Ds);Xe(this,Ra);Xe(this,Hd);this.config=t,je(this,Ds,new Set),je(this,Ra,new Map),je(this,Hd,0)}build(t,n,r){const s=new MI({mutationCache:this,mutationId:++Ch(this,Hd)._,options:t.defaultMutationOptions(n),state:r});return this.add(s),s}add(t){F(this,Ds).add(t);const n=Vh(t);if(typeof n=="string"){const r=F(this,Ra).get(n);r?r.push(t):F(this,Ra).set(n,[t])}this.notify({type:"added",mutation:t})}remove(t){if(F(this,Ds).delete(t)){const n=Vh(t);if(typeof n=="string"){const r=F(this,Ra).get(n);if(r)if(r.length>1){const s=r.indexOf(t);s!==-1&&r.splice(s,1)}else r[0]===t&&F(this,Ra).delete(n)}}this.notify({type:"removed",mutation:t})}canRun(t){const n=Vh(t);if(typeof n=="string"){const r=F(this,Ra).get(n),s=r==null?void 0:r.find(o=>o.state.status==="pending");return!s||s===t}else return!0}runNext(t){var r;const n=Vh(t);if(typeof n=="string"){const s=(r=F(this,Ra).get(n))==null?void 0:r.find(o=>o!==t&&o.state.isPaused);return(s==null?void 0:s.continue())??Promise.resolve()}else return Promise.resolve()}clear(){$n.batch(()=>{F(this,Ds).forEach(t=>{this.notify({type:"removed",mutation:t})}),F(this,Ds).clear(),F(this,Ra).clear()})}getAll(){return Array.from(F(this,Ds))}find(t){const n={exact:!0,...t};return this.getAll().find(r=>jT(n,r))}findAll(t={}){return this.getAll().filter(n=>jT(t,n))}notify(t){$n.batch(()=>{this.listeners.forEach(n=>{n(t)})})}resumePausedMutations(){const t=this.getAll().filter(n=>n.state.isPaused);return $n.batch(()=>Promise.all(t.map(n=>n.continue().catch(br))))}},Ds=new WeakMap,Ra=new WeakMap,Hd=new WeakMap,j_);function Vh(e){var t;return(t=e.options.scope)==null?void 0:t.id}function VT(e){return{onFetch:(t,n)=>{var m,p,b,w,S;const r=t.options,s=(b=(p=(m=t.fetchOptions)==null?void 0:m.meta)==null?void 0:p.fetchMore)==null?void 0:b.direction,o=((w=t.state.data)==null?void 0:w.pages)||[],c=((S=t.state.data)==null?void 0:S.pageParams)||[];let u={pages:[],pageParams:[]},f=0;const h=async()=>{let E=!1;const C=A=>{Object.defineProperty(A,"signal",{enumerable:!0,get:()=>(t.signal.aborted?E=!0:t.signal.addEventListener("abort",()=>{E=!0}),t.signal)})},T=CN(t.options,t.fetchOptions),_=async(A,O,R)=>{if(E)return Promise.reject();if(O==null&&A.pages.length)return Promise.resolve(A);const D={client:t.client,queryKey:t.queryKey,pageParam:O,direction:R?"backward":"forward",meta:t.options.meta};C(D);const L=await T(D),{maxPages:k}=t.options,H=R?yI:gI;return{pages:H(A.pages,L,k),pageParams:H(A.pageParams,O,k)}};if(s&&o.length){const A=s==="backward",O=A?AI:zT,R={pages:o,pageParams:c},D=O(r,R);u=await _(R,D,A)}else{const A=e??o.length;do{const O=f===0?c[0]??r.initialPageParam:zT(r,u);if(f>0&&O==null)break;u=await _(u,O),f++}while(f<A)}return u};t.options.persister?t.fetchFn=()=>{var E,C;return(C=(E=t.options).persister)==null?void 0:C.call(E,h,{client:t.client,queryKey:t.queryKey,meta:t.options.meta,signal:t.signal},n)}:t.fetchFn=h}}}function zT(e,{pages:t,pageParams:n}){const r=t.length-1;return t.length>0?e.getNextPageParam(t[r],t,n[r],n):void 0}function AI(e,{pages:t,pageParams:n}){var r;return t.length>0?(r=e.getPreviousPageParam)==null?void 0:r.call(e,t[0],t,n[0],n):void 0}var yn,Pi,Li,ac,sc,Vi,ic,oc,P_,RI=(P_=class{constructor(e={}){Xe(this,yn);Xe(this,Pi);Xe(this,Li);Xe(this,ac);Xe(this,sc);Xe(this,Vi);Xe(this,ic);Xe(this,oc);je(this,yn,e.queryCache||new TI),je(this,Pi,e.mutationCache||new _I),je(this,Li,e.defaultOptions||{}),je(this,ac,new Map),je(this,sc,new Map),je(this,Vi,0)}mount(){Ch(this,Vi)._++,F(this,Vi)===1&&(je(this,ic,nx.subscribe(async e=>{e&&(await this.resumePausedMutations(),F(this,yn).onFocus())})),je(this,oc,Am.subscribe(async e=>{e&&(await this.resumePausedMutations(),F(this,yn).onOnline())})))}unmount(){var e,t;Ch(this,Vi)._--,F(this,Vi)===0&&((e=F(this,ic))==null||e.call(this),je(this,ic,void 0),(t=F(this,oc))==null||t.call(this),je(this,oc,void 0))}isFetching(e){return F(this,yn).findAll({...e,fetchStatus:"fetching"}).length}isMutating(e){return F(this,Pi).findAll({...e,status:"pending"}).length}getQueryData(e){var n;const t=this.defaultQueryOptions({queryKey:e});return(n=F(this,yn).get(t.queryHash))==null?void 0:n.state.data}ensureQueryData(e){const t=this.defaultQueryOptions(e),n=F(this,yn).build(this,t),r=n.state.data;return r===void 0?this.fetchQuery(e):(e.revalidateIfStale&&n.isStaleByTime(Xl(t.staleTime,n))&&this.prefetchQuery(t),Promise.resolve(r))}getQueriesData(e){return F(this,yn).findAll(e).map(({queryKey:t,state:n})=>{const r=n.data;return[t,r]})}setQueryData(e,t,n){const r=this.defaultQueryOptions({queryKey:e}),s=F(this,yn).get(r.queryHash),o=s==null?void 0:s.state.data,c=mI(t,o);if(c!==void 0)return F(this,yn).build(this,r).setData(c,{...n,manual:!0})}setQueriesData(e,t,n){return $n.batch(()=>F(this,yn).findAll(e).map(({queryKey:r})=>[r,this.setQueryData(r,t,n)]))}getQueryState(e){var n;const t=this.defaultQueryOptions({queryKey:e});return(n=F(this,yn).get(t.queryHash))==null?void 0:n.state}removeQueries(e){const t=F(this,yn);$n.batch(()=>{t.findAll(e).forEach(n=>{t.remove(n)})})}resetQueries(e,t){const n=F(this,yn);return $n.batch(()=>(n.findAll(e).forEach(r=>{r.reset()}),this.refetchQueries({type:"active",...e},t)))}cancelQueries(e,t={}){const n={revert:!0,...t},r=$n.batch(()=>F(this,yn).findAll(e).map(s=>s.cancel(n)));return Promise.all(r).then(br).catch(br)}invalidateQueries(e,t={}){return $n.batch(()=>(F(this,yn).findAll(e).forEach(n=>{n.invalidate()}),(e==null?void 0:e.refetchType)==="none"?Promise.resolve():this.refetchQueries({...e,type:(e==null?void 0:e.refetchType)??(e==null?void 0:e.type)??"active"},t)))}refetchQueries(e,t={}){const n={...t,cancelRefetch:t.cancelRefetch??!0},r=$n.batch(()=>F(this,yn).findAll(e).filter(s=>!s.isDisabled()).map(s=>{let o=s.fetch(void 0,n);return n.throwOnError||(o=o.catch(br)),s.state.fetchStatus==="paused"?Promise.resolve():o}));return Promise.all(r).then(br)}fetchQuery(e){const t=this.defaultQueryOptions(e);t.retry===void 0&&(t.retry=!1);const n=F(this,yn).build(this,t);return n.isStaleByTime(Xl(t.staleTime,n))?n.fetch(t):Promise.resolve(n.state.data)}prefetchQuery(e){return this.fetchQuery(e).then(br).catch(br)}fetchInfiniteQuery(e){return e.behavior=VT(e.pages),this.fetchQuery(e)}prefetchInfiniteQuery(e){return this.fetchInfiniteQuery(e).then(br).catch(br)}ensureInfiniteQueryData(e){return e.behavior=VT(e.pages),this.ensureQueryData(e)}resumePausedMutations(){return Am.isOnline()?F(this,Pi).resumePausedMutations():Promise.resolve()}getQueryCache(){return F(this,yn)}getMutationCache(){return F(this,Pi)}getDefaultOptions(){return F(this,Li)}setDefaultOptions(e){je(this,Li,e)}setQueryDefaults(e,t){F(this,ac).set(Wo(e),{queryKey:e,defaultOptions:t})}getQueryDefaults(e){const t=[...F(this,ac).values()],n={};return t.forEach(r=>{Rd(e,r.queryKey)&&Object.assign(n,r.defaultOptions)}),n}setMutationDefaults(e,t){F(this,sc).set(Wo(e),{mutationKey:e,defaultOptions:t})}getMutationDefaults(e){const t=[...F(this,sc).values()],n={};return t.forEach(r=>{Rd(e,r.mutationKey)&&Object.assign(n,r.defaultOptions)}),n}defaultQueryOptions(e){if(e._defaulted)return e;const t={...F(this,Li).queries,...this.getQueryDefaults(e.queryKey),...e,_defaulted:!0};return t.queryHash||(t.queryHash=ex(t.queryKey,t)),t.refetchOnReconnect===void 0&&(t.refetchOnReconnect=t.networkMode!=="always"),t.throwOnError===void 0&&(t.throwOnError=!!t.suspense),!t.networkMode&&t.persister&&(t.networkMode="offlineFirst"),t.queryFn===tx&&(t.enabled=!1),t}defaultMutationOptions(e){return e!=null&&e._defaulted?e:{...F(this,Li).mutations,...(e==null?void 0:e.mutationKey)&&this.getMutationDefaults(e.mutationKey),...e,_defaulted:!0}}clear(){F(this,yn).clear(),F(this,Pi).clear()}},yn=new WeakMap,Pi=new WeakMap,Li=new WeakMap,ac=new WeakMap,sc=new WeakMap,Vi=new WeakMap,ic=new WeakMap,oc=new WeakMap,P_),Rr,Dt,$d,gr,Lo,lc,zi,Bi,qd,cc,uc,Vo,zo,Ui,dc,It,sd,ub,db,fb,hb,mb,pb,gb,ON,L_,DI=(L_=class extends Vc{constructor(t,n){super();Xe(this,It);Xe(this,Rr);Xe(this,Dt);Xe(this,$d);Xe(this,gr);Xe(this,Lo);Xe(this,lc);Xe(this,zi);Xe(this,Bi);Xe(this,qd);Xe(this,cc);Xe(this,uc);Xe(this,Vo);Xe(this,zo);Xe(this,Ui);Xe(this,dc,new Set);this.options=n,je(this,Rr,t),je(this,Bi,null),je(this,zi,cb()),this.options.experimental_prefetchInRender||F(this,zi).reject(new Error("experimental_prefetchInRender feature flag is not enabled")),this.bindMethods(),this.setOptions(n)}bindMethods(){this.refetch=this.refetch.bind(this)}onSubscribe(){this.listeners.size===1&&(F(this,Dt).addObserver(this),BT(F(this,Dt),this.options)?gt(this,It,sd).call(this):this.updateResult(),gt(this,It,hb).call(this))}onUnsubscribe(){this.hasListeners()||this.destroy()}shouldFetchOnReconnect(){return yb(F(this,Dt),this.options,this.options.refetchOnReconnect)}shouldFetchOnWindowFocus(){return yb(F(this,Dt),this.options,this.options.refetchOnWindowFocus)}destroy(){this.listeners=new Set,gt(this,It,mb).call(this),gt(this,It,pb).call(this),F(this,Dt).removeObserver(this)}setOptions(t){const n=this.options,r=F(this,Dt);if(this.options=F(this,Rr).defaultQueryOptions(t),this.options.enabled!==void 0&&typeof this.options.enabled!="boolean"&&typeof this.options.enabled!="function"&&typeof Da(this.options.enabled,F(this,Dt))!="boolean")throw new Error("Expected enabled to be a boolean or a callback that returns a boolean");gt(this,It,gb).call(this),F(this,Dt).setOptions(this.options),n._defaulted&&!_m(this.options,n)&&F(this,Rr).getQueryCache().notify({type:"observerOptionsUpdated",query:F(this,Dt),observer:this});const s=this.hasListeners();s&&UT(F(this,Dt),r,this.options,n)&&gt(this,It,sd).call(this),this.updateResult(),s&&(F(this,Dt)!==r||Da(this.options.enabled,F(this,Dt))!==Da(n.enabled,F(this,Dt))||Xl(this.options.staleTime,F(this,Dt))!==Xl(n.staleTime,F(this,Dt)))&&gt(this,It,ub).call(this);const o=gt(this,It,db).call(this);s&&(F(this,Dt)!==r||Da(this.options.enabled,F(this,Dt))!==Da(n.enabled,F(this,Dt))||o!==F(this,Ui))&&gt(this,It,fb).call(this,o)}getOptimisticResult(t){const n=F(this,Rr).getQueryCache().build(F(this,Rr),t),r=this.createResult(n,t);return OI(this,r)&&(je(this,gr,r),je(this,lc,this.options),je(this,Lo,F(this,Dt).state)),r}getCurrentResult(){return F(this,gr)}trackResult(t,n){return new Proxy(t,{get:(r,s)=>(this.trackProp(s),n==null||n(s),Reflect.get(r,s))})}trackProp(t){F(this,dc).add(t)}getCurrentQuery(){return F(this,Dt)}refetch({...t}={}){return this.fetch({...t})}fetchOptimistic(t){const n=F(this,Rr).defaultQueryOptions(t),r=F(this,Rr).getQueryCache().build(F(this,Rr),n);return r.fetch().then(()=>this.createResult(r,n))}fetch(t){return gt(this,It,sd).call(this,{...t,cancelRefetch:t.cancelRefetch??!0}).then(()=>(this.updateResult(),F(this,gr)))}createResult(t,n){var H;const r=F(this,Dt),s=this.options,o=F(this,gr),c=F(this,Lo),u=F(this,lc),h=t!==r?t.state:F(this,$d),{state:m}=t;let p={...m},b=!1,w;if(n._optimisticResults){const X=this.hasListeners(),oe=!X&&BT(t,n),ce=X&&UT(t,r,n,s);(oe||ce)&&(p={...p,...DN(m.data,t.options)}),n._optimisticResults==="isRestoring"&&(p.fetchStatus="idle")}let{error:S,errorUpdatedAt:E,status:C}=p;w=p.data;let T=!1;if(n.placeholderData!==void 0&&w===void 0&&C==="pending"){let X;o!=null&&o.isPlaceholderData&&n.placeholderData===(u==null?void 0:u.placeholderData)?(X=o.data,T=!0):X=typeof n.placeholderData=="function"?n.placeholderData((H=F(this,uc))==null?void 0:H.state.data,F(this,uc)):n.placeholderData,X!==void 0&&(C="success",w=lb(o==null?void 0:o.data,X,n),b=!0)}if(n.select&&w!==void 0&&!T)if(o&&w===(c==null?void 0:c.data)&&n.select===F(this,qd))w=F(this,cc);else try{je(this,qd,n.select),w=n.select(w),w=lb(o==null?void 0:o.data,w,n),je(this,cc,w),je(this,Bi,null)}catch(X){je(this,Bi,X)}F(this,Bi)&&(S=F(this,Bi),w=F(this,cc),E=Date.now(),C="error");const _=p.fetchStatus==="fetching",A=C==="pending",O=C==="error",R=A&&_,D=w!==void 0,k={status:C,fetchStatus:p.fetchStatus,isPending:A,isSuccess:C==="success",isError:O,isInitialLoading:R,isLoading:R,data:w,dataUpdatedAt:p.dataUpdatedAt,error:S,errorUpdatedAt:E,failureCount:p.fetchFailureCount,failureReason:p.fetchFailureReason,errorUpdateCount:p.errorUpdateCount,isFetched:p.dataUpdateCount>0||p.errorUpdateCount>0,isFetchedAfterMount:p.dataUpdateCount>h.dataUpdateCount||p.errorUpdateCount>h.errorUpdateCount,isFetching:_,isRefetching:_&&!A,isLoadingError:O&&!D,isPaused:p.fetchStatus==="paused",isPlaceholderData:b,isRefetchError:O&&D,isStale:rx(t,n),refetch:this.refetch,promise:F(this,zi)};if(this.options.experimental_prefetchInRender){const X=de=>{k.status==="error"?de.reject(k.error):k.data!==void 0&&de.resolve(k.data)},oe=()=>{const de=je(this,zi,k.promise=cb());X(de)},ce=F(this,zi);switch(ce.status){case"pending":t.queryHash===r.queryHash&&X(ce);break;case"fulfilled":(k.status==="error"||k.data!==ce.value)&&oe();break;case"rejected":(k.status!=="error"||k.error!==ce.reason)&&oe();break}}return k}updateResult(){const t=F(this,gr),n=this.createResult(F(this,Dt),this.options);if(je(this,Lo,F(this,Dt).state),je(this,lc,this.options),F(this,Lo).data!==void 0&&je(this,uc,F(this,Dt)),_m(n,t))return;je(this,gr,n);const r=()=>{if(!t)return!0;const{notifyOnChangeProps:s}=this.options,o=typeof s=="function"?s():s;if(o==="all"||!o&&!F(this,dc).size)return!0;const c=new Set(o??F(this,dc));return this.options.throwOnError&&c.add("error"),Object.keys(F(this,gr)).some(u=>{const f=u;return F(this,gr)[f]!==t[f]&&c.has(f)})};gt(this,It,ON).call(this,{listeners:r()})}onQueryUpdate(){this.updateResult(),this.hasListeners()&&gt(this,It,hb).call(this)}},Rr=new WeakMap,Dt=new WeakMap,$d=new WeakMap,gr=new WeakMap,Lo=new WeakMap,lc=new WeakMap,zi=new WeakMap,Bi=new WeakMap,qd=new WeakMap,cc=new WeakMap,uc=new WeakMap,Vo=new WeakMap,zo=new WeakMap,Ui=new WeakMap,dc=new WeakMap,It=new WeakSet,sd=function(t){gt(this,It,gb).call(this);let n=F(this,Dt).fetch(this.options,t);return t!=null&&t.throwOnError||(n=n.catch(br)),n},ub=function(){gt(this,It,mb).call(this);const t=Xl(this.options.staleTime,F(this,Dt));if(Go||F(this,gr).isStale||!ib(t))return;const r=SN(F(this,gr).dataUpdatedAt,t)+1;je(this,Vo,setTimeout(()=>{F(this,gr).isStale||this.updateResult()},r))},db=function(){return(typeof this.options.refetchInterval=="function"?this.options.refetchInterval(F(this,Dt)):this.options.refetchInterval)??!1},fb=function(t){gt(this,It,pb).call(this),je(this,Ui,t),!(Go||Da(this.options.enabled,F(this,Dt))===!1||!ib(F(this,Ui))||F(this,Ui)===0)&&je(this,zo,setInterval(()=>{(this.options.refetchIntervalInBackground||nx.isFocused())&&gt(this,It,sd).call(this)},F(this,Ui)))},hb=function(){gt(this,It,ub).call(this),gt(this,It,fb).call(this,gt(this,It,db).call(this))},mb=function(){F(this,Vo)&&(clearTimeout(F(this,Vo)),je(this,Vo,void 0))},pb=function(){F(this,zo)&&(clearInterval(F(this,zo)),je(this,zo,void 0))},gb=function(){const t=F(this,Rr).getQueryCache().build(F(this,Rr),this.options);if(t===F(this,Dt))return;const n=F(this,Dt);je(this,Dt,t),je(this,$d,t.state),this.hasListeners()&&(n==null||n.removeObserver(this),t.addObserver(this))},ON=function(t){$n.batch(()=>{t.listeners&&this.listeners.forEach(n=>{n(F(this,gr))}),F(this,Rr).getQueryCache().notify({query:F(this,Dt),type:"observerResultsUpdated"})})},L_);function NI(e,t){return Da(t.enabled,e)!==!1&&e.state.data===void 0&&!(e.state.status==="error"&&t.retryOnMount===!1)}function BT(e,t){return NI(e,t)||e.state.data!==void 0&&yb(e,t,t.refetchOnMount)}function yb(e,t,n){if(Da(t.enabled,e)!==!1){const r=typeof n=="function"?n(e):n;return r==="always"||r!==!1&&rx(e,t)}return!1}function UT(e,t,n,r){return(e!==t||Da(r.enabled,e)===!1)&&(!n.suspense||e.state.status!=="error")&&rx(e,n)}function rx(e,t){return Da(t.enabled,e)!==!1&&e.isStaleByTime(Xl(t.staleTime,e))}function OI(e,t){return!_m(e.getCurrentResult(),t)}var Fi,Ii,Dr,Ns,Vs,Qh,vb,V_,kI=(V_=class extends Vc{constructor(n,r){super();Xe(this,Vs);Xe(this,Fi);Xe(this,Ii);Xe(this,Dr);Xe(this,Ns);je(this,Fi,n),this.setOptions(r),this.bindMethods(),gt(this,Vs,Qh).call(this)}bindMethods(){this.mutate=this.mutate.bind(this),this.reset=this.reset.bind(this)}setOptions(n){var s;const r=this.options;this.options=F(this,Fi).defaultMutationOptions(n),_m(this.options,r)||F(this,Fi).getMutationCache().notify({type:"observerOptionsUpdated",mutation:F(this,Dr),observer:this}),r!=null&&r.mutationKey&&this.options.mutationKey&&Wo(r.mutationKey)!==Wo(this.options.mutationKey)?this.reset():((s=F(this,Dr))==null?void 0:s.state.status)==="pending"&&F(this,Dr).setOptions(this.options)}onUnsubscribe(){var n;this.hasListeners()||(n=F(this,Dr))==null||n.removeObserver(this)}onMutationUpdate(n){gt(this,Vs,Qh).call(this),gt(this,Vs,vb).call(this,n)}getCurrentResult(){return F(this,Ii)}reset(){var n;(n=F(this,Dr))==null||n.removeObserver(this),je(this,Dr,void 0),gt(this,Vs,Qh).call(this),gt(this,Vs,vb).call(this)}mutate(n,r){var s;return je(this,Ns,r),(s=F(this,Dr))==null||s.removeObserver(this),je(this,Dr,F(this,Fi).getMutationCache().build(F(this,Fi),this.options)),F(this,Dr).addObserver(this),F(this,Dr).execute(n)}},Fi=new WeakMap,Ii=new WeakMap,Dr=new WeakMap,Ns=new WeakMap,Vs=new WeakSet,Qh=function(){var r;const n=((r=F(this,Dr))==null?void 0:r.state)??NN();je(this,Ii,{...n,isPending:n.status==="pending",isSuccess:n.status==="success",isError:n.status==="error",isIdle:n.status==="idle",mutate:this.mutate,reset:this.reset})},vb=function(n){$n.batch(()=>{var r,s,o,c,u,f,h,m;if(F(this,Ns)&&this.hasListeners()){const p=F(this,Ii).variables,b=F(this,Ii).context;(n==null?void 0:n.type)==="success"?((s=(r=F(this,Ns)).onSuccess)==null||s.call(r,n.data,p,b),(c=(o=F(this,Ns)).onSettled)==null||c.call(o,n.data,null,p,b)):(n==null?void 0:n.type)==="error"&&((f=(u=F(this,Ns)).onError)==null||f.call(u,n.error,p,b),(m=(h=F(this,Ns)).onSettled)==null||m.call(h,void 0,n.error,p,b))}this.listeners.forEach(p=>{p(F(this,Ii))})})},V_),kN=x.createContext(void 0),zc=e=>{const t=x.useContext(kN);if(!t)throw new Error("No QueryClient set, use QueryClientProvider to set one");return t},jI=({client:e,children:t})=>(x.useEffect(()=>(e.mount(),()=>{e.unmount()}),[e]),g.jsx(kN.Provider,{value:e,children:t})),jN=x.createContext(!1),PI=()=>x.useContext(jN);jN.Provider;function LI(){let e=!1;return{clearReset:()=>{e=!1},reset:()=>{e=!0},isReset:()=>e}}var VI=x.createContext(LI()),zI=()=>x.useContext(VI),BI=(e,t)=>{(e.suspense||e.throwOnError||e.experimental_prefetchInRender)&&(t.isReset()||(e.retryOnMount=!1))},UI=e=>{x.useEffect(()=>{e.clearReset()},[e])},FI=({result:e,errorResetBoundary:t,throwOnError:n,query:r,suspense:s})=>e.isError&&!t.isReset()&&!e.isFetching&&r&&(s&&e.data===void 0||TN(n,[e.error,r])),II=e=>{const t=e.staleTime;e.suspense&&(e.staleTime=typeof t=="function"?(...n)=>Math.max(t(...n),1e3):Math.max(t??1e3,1e3),typeof e.gcTime=="number"&&(e.gcTime=Math.max(e.gcTime,1e3)))},HI=(e,t)=>e.isLoading&&e.isFetching&&!t,$I=(e,t)=>(e==null?void 0:e.suspense)&&t.isPending,FT=(e,t,n)=>t.fetchOptimistic(e).catch(()=>{n.clearReset()});function qI(e,t,n){var p,b,w,S,E;const r=zc(),s=PI(),o=zI(),c=r.defaultQueryOptions(e);(b=(p=r.getDefaultOptions().queries)==null?void 0:p._experimental_beforeQuery)==null||b.call(p,c),c._optimisticResults=s?"isRestoring":"optimistic",II(c),BI(c,o),UI(o);const u=!r.getQueryCache().get(c.queryHash),[f]=x.useState(()=>new t(r,c)),h=f.getOptimisticResult(c),m=!s&&e.subscribed!==!1;if(x.useSyncExternalStore(x.useCallback(C=>{const T=m?f.subscribe($n.batchCalls(C)):br;return f.updateResult(),T},[f,m]),()=>f.getCurrentResult(),()=>f.getCurrentResult()),x.useEffect(()=>{f.setOptions(c)},[c,f]),$I(c,h))throw FT(c,f,o);if(FI({result:h,errorResetBoundary:o,throwOnError:c.throwOnError,query:r.getQueryCache().get(c.queryHash),suspense:c.suspense}))throw h.error;if((S=(w=r.getDefaultOptions().queries)==null?void 0:w._experimental_afterQuery)==null||S.call(w,c,h),c.experimental_prefetchInRender&&!Go&&HI(h,s)){const C=u?FT(c,f,o):(E=r.getQueryCache().get(c.queryHash))==null?void 0:E.promise;C==null||C.catch(br).finally(()=>{f.updateResult()})}return c.notifyOnChangeProps?h:f.trackResult(h)}function Ks(e,t){return qI(e,DI)}function Hs(e,t){const n=zc(),[r]=x.useState(()=>new kI(n,e));x.useEffect(()=>{r.setOptions(e)},[r,e]);const s=x.useSyncExternalStore(x.useCallback(c=>r.subscribe($n.batchCalls(c)),[r]),()=>r.getCurrentResult(),()=>r.getCurrentResult()),o=x.useCallback((c,u)=>{r.mutate(c,u).catch(br)},[r]);if(s.error&&TN(r.options.throwOnError,[s.error]))throw s.error;return{...s,mutate:o,mutateAsync:s.mutate}}function YI(){const e=Gs(),t=jc({resolver:Lc(cI)}),n=Hs({mutationFn:async s=>{await Tn.post("/auth/login",s)},onSuccess:()=>{e("/dashboard"),En.success("Login successful!")},onError:s=>{var o;En.error(`${(o=s.response)==null?void 0:o.data.error}`)}});function r(s){n.mutate(s)}return g.jsx(Pc,{...t,children:g.jsxs("form",{className:"space-y-4",onSubmit:t.handleSubmit(r),children:[g.jsx(On,{control:t.control,name:"email",render:({field:s})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Email"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter your email",...s})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:t.control,name:"password",render:({field:s})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Password"}),g.jsx(Pn,{children:g.jsx(Cn,{type:"password",placeholder:"Enter your password",...s})}),g.jsx(Ln,{})]})}),g.jsx("div",{className:"flex justify-end",children:g.jsx(Ut,{type:"submit",children:"Login"})})]})})}const PN=x.createContext({});function GI(e){const t=x.useRef(null);return t.current===null&&(t.current=e()),t.current}const ax=typeof window<"u",WI=ax?x.useLayoutEffect:x.useEffect,sx=x.createContext(null),LN=x.createContext({transformPagePoint:e=>e,isStatic:!1,reducedMotion:"never"});function VN(e){return typeof e=="object"&&e!==null}function zN(e){return VN(e)&&"offsetHeight"in e}function KI(e=!0){const t=x.useContext(sx);if(t===null)return[!0,null];const{isPresent:n,onExitComplete:r,register:s}=t,o=x.useId();x.useEffect(()=>{if(e)return s(o)},[e]);const c=x.useCallback(()=>e&&r&&r(o),[o,r,e]);return!n&&r?[!1,c]:[!0]}const zh=["setup","read","resolveKeyframes","preUpdate","update","preRender","render","postRender"],IT={value:null};function ZI(e,t){let n=new Set,r=new Set,s=!1,o=!1;const c=new WeakSet;let u={delta:0,timestamp:0,isProcessing:!1},f=0;function h(p){c.has(p)&&(m.schedule(p),e()),f++,p(u)}const m={schedule:(p,b=!1,w=!1)=>{const E=w&&s?n:r;return b&&c.add(p),E.has(p)||E.add(p),p},cancel:p=>{r.delete(p),c.delete(p)},process:p=>{if(u=p,s){o=!0;return}s=!0,[n,r]=[r,n],n.forEach(h),t&&IT.value&&IT.value.frameloop[t].push(f),f=0,n.clear(),s=!1,o&&(o=!1,m.process(p))}};return m}const $s={},XI=40;function BN(e,t){let n=!1,r=!0;const s={delta:0,timestamp:0,isProcessing:!1},o=()=>n=!0,c=zh.reduce((A,O)=>(A[O]=ZI(o,t?O:void 0),A),{}),{setup:u,read:f,resolveKeyframes:h,preUpdate:m,update:p,preRender:b,render:w,postRender:S}=c,E=()=>{const A=$s.useManualTiming?s.timestamp:performance.now();n=!1,$s.useManualTiming||(s.delta=r?1e3/60:Math.max(Math.min(A-s.timestamp,XI),1)),s.timestamp=A,s.isProcessing=!0,u.process(s),f.process(s),h.process(s),m.process(s),p.process(s),b.process(s),w.process(s),S.process(s),s.isProcessing=!1,n&&t&&(r=!1,e(E))},C=()=>{n=!0,r=!0,s.isProcessing||e(E)};return{schedule:zh.reduce((A,O)=>{const R=c[O];return A[O]=(D,L=!1,k=!1)=>(n||C(),R.schedule(D,L,k)),A},{}),cancel:A=>{for(let O=0;O<zh.length;O++)c[zh[O]].cancel(A)},state:s,steps:c}}const ba=e=>e,{schedule:dn,cancel:Xi,state:rr,steps:Qy}=BN(typeof requestAnimationFrame<"u"?requestAnimationFrame:ba,!0),UN=x.createContext({strict:!1}),HT={animation:["animate","variants","whileHover","whileTap","exit","whileInView","whileFocus","whileDrag"],exit:["exit"],drag:["drag","dragControls"],focus:["whileFocus"],hover:["whileHover","onHoverStart","onHoverEnd"],tap:["whileTap","onTap","onTapStart","onTapCancel"],pan:["onPan","onPanStart","onPanSessionStart","onPanEnd"],inView:["whileInView","onViewportEnter","onViewportLeave"],layout:["layout","layoutId"]},bc={};for(const e in HT)bc[e]={isEnabled:t=>HT[e].some(n=>!!t[n])};function QI(e){for(const t in e)bc[t]={...bc[t],...e[t]}}const JI=new Set(["animate","exit","variants","initial","style","values","variants","transition","transformTemplate","custom","inherit","onBeforeLayoutMeasure","onAnimationStart","onAnimationComplete","onUpdate","onDragStart","onDrag","onDragEnd","onMeasureDragConstraints","onDirectionLock","onDragTransitionEnd","_dragX","_dragY","onHoverStart","onHoverEnd","onViewportEnter","onViewportLeave","globalTapTarget","ignoreStrict","viewport"]);function Rm(e){return e.startsWith("while")||e.startsWith("drag")&&e!=="draggable"||e.startsWith("layout")||e.startsWith("onTap")||e.startsWith("onPan")||e.startsWith("onLayout")||JI.has(e)}let FN=e=>!Rm(e);function eH(e){e&&(FN=t=>t.startsWith("on")?!Rm(t):e(t))}try{eH(require("@emotion/is-prop-valid").default)}catch{}function tH(e,t,n){const r={};for(const s in e)s==="values"&&typeof e.values=="object"||(FN(s)||n===!0&&Rm(s)||!t&&!Rm(s)||e.draggable&&s.startsWith("onDrag"))&&(r[s]=e[s]);return r}function nH(e){if(typeof Proxy>"u")return e;const t=new Map,n=(...r)=>e(...r);return new Proxy(n,{get:(r,s)=>s==="create"?e:(t.has(s)||t.set(s,e(s)),t.get(s))})}const lp=x.createContext({});function cp(e){return e!==null&&typeof e=="object"&&typeof e.start=="function"}function Dd(e){return typeof e=="string"||Array.isArray(e)}const ix=["animate","whileInView","whileFocus","whileHover","whileTap","whileDrag","exit"],ox=["initial",...ix];function up(e){return cp(e.animate)||ox.some(t=>Dd(e[t]))}function IN(e){return!!(up(e)||e.variants)}function rH(e,t){if(up(e)){const{initial:n,animate:r}=e;return{initial:n===!1||Dd(n)?n:void 0,animate:Dd(r)?r:void 0}}return e.inherit!==!1?t:{}}function aH(e){const{initial:t,animate:n}=rH(e,x.useContext(lp));return x.useMemo(()=>({initial:t,animate:n}),[$T(t),$T(n)])}function $T(e){return Array.isArray(e)?e.join(" "):e}const sH=Symbol.for("motionComponentSymbol");function Hl(e){return e&&typeof e=="object"&&Object.prototype.hasOwnProperty.call(e,"current")}function iH(e,t,n){return x.useCallback(r=>{r&&e.onMount&&e.onMount(r),t&&(r?t.mount(r):t.unmount()),n&&(typeof n=="function"?n(r):Hl(n)&&(n.current=r))},[t])}const lx=e=>e.replace(/([a-z])([A-Z])/gu,"$1-$2").toLowerCase(),oH="framerAppearId",HN="data-"+lx(oH),$N=x.createContext({}),{schedule:cx}=BN(queueMicrotask,!1);function lH(e,t,n,r,s){var E,C;const{visualElement:o}=x.useContext(lp),c=x.useContext(UN),u=x.useContext(sx),f=x.useContext(LN).reducedMotion,h=x.useRef(null);r=r||c.renderer,!h.current&&r&&(h.current=r(e,{visualState:t,parent:o,props:n,presenceContext:u,blockInitialAnimation:u?u.initial===!1:!1,reducedMotionConfig:f}));const m=h.current,p=x.useContext($N);m&&!m.projection&&s&&(m.type==="html"||m.type==="svg")&&cH(h.current,n,s,p);const b=x.useRef(!1);x.useInsertionEffect(()=>{m&&b.current&&m.update(n,u)});const w=n[HN],S=x.useRef(!!w&&!((E=window.MotionHandoffIsComplete)!=null&&E.call(window,w))&&((C=window.MotionHasOptimisedAnimation)==null?void 0:C.call(window,w)));return WI(()=>{m&&(b.current=!0,window.MotionIsMounted=!0,m.updateFeatures(),cx.render(m.render),S.current&&m.animationState&&m.animationState.animateChanges())}),x.useEffect(()=>{m&&(!S.current&&m.animationState&&m.animationState.animateChanges(),S.current&&(queueMicrotask(()=>{var T;(T=window.MotionHandoffMarkAsComplete)==null||T.call(window,w)}),S.current=!1))}),m}function cH(e,t,n,r){const{layoutId:s,layout:o,drag:c,dragConstraints:u,layoutScroll:f,layoutRoot:h,layoutCrossfade:m}=t;e.projection=new n(e.latestValues,t["data-framer-portal-id"]?void 0:qN(e.parent)),e.projection.setOptions({layoutId:s,layout:o,alwaysMeasureLayout:!!c||u&&Hl(u),visualElement:e,animationType:typeof o=="string"?o:"both",initialPromotionConfig:r,crossfade:m,layoutScroll:f,layoutRoot:h})}function qN(e){if(e)return e.options.allowProjection!==!1?e.projection:qN(e.parent)}let ux=()=>{};function uH({preloadedFeatures:e,createVisualElement:t,useRender:n,useVisualState:r,Component:s}){e&&QI(e);function o(u,f){let h;const m={...x.useContext(LN),...u,layoutId:dH(u)},{isStatic:p}=m,b=aH(u),w=r(u,p);if(!p&&ax){fH();const S=hH(m);h=S.MeasureLayout,b.visualElement=lH(s,w,m,t,S.ProjectionNode)}return g.jsxs(lp.Provider,{value:b,children:[h&&b.visualElement?g.jsx(h,{visualElement:b.visualElement,...m}):null,n(s,u,iH(w,b.visualElement,f),w,p,b.visualElement)]})}o.displayName=`motion.${typeof s=="string"?s:`create(${s.displayName??s.name??""})`}`;const c=x.forwardRef(o);return c[sH]=s,c}function dH({layoutId:e}){const t=x.useContext(PN).id;return t&&e!==void 0?t+"-"+e:e}function fH(e,t){x.useContext(UN).strict}function hH(e){const{drag:t,layout:n}=bc;if(!t&&!n)return{};const r={...t,...n};return{MeasureLayout:t!=null&&t.isEnabled(e)||n!=null&&n.isEnabled(e)?r.MeasureLayout:void 0,ProjectionNode:r.ProjectionNode}}const YN=e=>t=>typeof t=="string"&&t.startsWith(e),dx=YN("--"),mH=YN("var(--"),fx=e=>mH(e)?pH.test(e.split("/*")[0].trim()):!1,pH=/var\(--(?:[\w-]+\s*|[\w-]+\s*,(?:\s*[^)(\s]|\s*\((?:[^)(]|\([^)(]*\))*\))+\s*)\)$/iu,Nd={};function gH(e){for(const t in e)Nd[t]=e[t],dx(t)&&(Nd[t].isCSSVariable=!0)}const Bc=["transformPerspective","x","y","z","translateX","translateY","translateZ","scale","scaleX","scaleY","rotate","rotateX","rotateY","rotateZ","skew","skewX","skewY"],Uc=new Set(Bc);function GN(e,{layout:t,layoutId:n}){return Uc.has(e)||e.startsWith("origin")||(t||n!==void 0)&&(!!Nd[e]||e==="opacity")}const WN=(e,t)=>t&&typeof e=="number"?t.transform(e):e,qs=(e,t,n)=>n>t?t:n<e?e:n,Fc={test:e=>typeof e=="number",parse:parseFloat,transform:e=>e},Od={...Fc,transform:e=>qs(0,1,e)},Bh={...Fc,default:1},qT={...Fc,transform:Math.round},sf=e=>({test:t=>typeof t=="string"&&t.endsWith(e)&&t.split(" ").length===1,parse:parseFloat,transform:t=>`${t}${e}`}),Ri=sf("deg"),as=sf("%"),at=sf("px"),yH=sf("vh"),vH=sf("vw"),YT={...as,parse:e=>as.parse(e)/100,transform:e=>as.transform(e*100)},bH={rotate:Ri,rotateX:Ri,rotateY:Ri,rotateZ:Ri,scale:Bh,scaleX:Bh,scaleY:Bh,scaleZ:Bh,skew:Ri,skewX:Ri,skewY:Ri,distance:at,translateX:at,translateY:at,translateZ:at,x:at,y:at,z:at,perspective:at,transformPerspective:at,opacity:Od,originX:YT,originY:YT,originZ:at},hx={borderWidth:at,borderTopWidth:at,borderRightWidth:at,borderBottomWidth:at,borderLeftWidth:at,borderRadius:at,radius:at,borderTopLeftRadius:at,borderTopRightRadius:at,borderBottomRightRadius:at,borderBottomLeftRadius:at,width:at,maxWidth:at,height:at,maxHeight:at,top:at,right:at,bottom:at,left:at,padding:at,paddingTop:at,paddingRight:at,paddingBottom:at,paddingLeft:at,margin:at,marginTop:at,marginRight:at,marginBottom:at,marginLeft:at,backgroundPositionX:at,backgroundPositionY:at,...bH,zIndex:qT,fillOpacity:Od,strokeOpacity:Od,numOctaves:qT},xH={x:"translateX",y:"translateY",z:"translateZ",transformPerspective:"perspective"},wH=Bc.length;function SH(e,t,n){let r="",s=!0;for(let o=0;o<wH;o++){const c=Bc[o],u=e[c];if(u===void 0)continue;let f=!0;if(typeof u=="number"?f=u===(c.startsWith("scale")?1:0):f=parseFloat(u)===0,!f||n){const h=WN(u,hx[c]);if(!f){s=!1;const m=xH[c]||c;r+=`${m}(${h}) `}n&&(t[c]=h)}}return r=r.trim(),n?r=n(t,s?"":r):s&&(r="none"),r}function mx(e,t,n){const{style:r,vars:s,transformOrigin:o}=e;let c=!1,u=!1;for(const f in t){const h=t[f];if(Uc.has(f)){c=!0;continue}else if(dx(f)){s[f]=h;continue}else{const m=WN(h,hx[f]);f.startsWith("origin")?(u=!0,o[f]=m):r[f]=m}}if(t.transform||(c||n?r.transform=SH(t,e.transform,n):r.transform&&(r.transform="none")),u){const{originX:f="50%",originY:h="50%",originZ:m=0}=o;r.transformOrigin=`${f} ${h} ${m}`}}const px=()=>({style:{},transform:{},transformOrigin:{},vars:{}}),fr=e=>!!(e&&e.getVelocity);function KN(e,t,n){for(const r in t)!fr(t[r])&&!GN(r,n)&&(e[r]=t[r])}function EH({transformTemplate:e},t){return x.useMemo(()=>{const n=px();return mx(n,t,e),Object.assign({},n.vars,n.style)},[t])}function CH(e,t){const n=e.style||{},r={};return KN(r,n,e),Object.assign(r,EH(e,t)),r}function TH(e,t){const n={},r=CH(e,t);return e.drag&&e.dragListener!==!1&&(n.draggable=!1,r.userSelect=r.WebkitUserSelect=r.WebkitTouchCallout="none",r.touchAction=e.drag===!0?"none":`pan-${e.drag==="x"?"y":"x"}`),e.tabIndex===void 0&&(e.onTap||e.onTapStart||e.whileTap)&&(n.tabIndex=0),n.style=r,n}const MH={offset:"stroke-dashoffset",array:"stroke-dasharray"},_H={offset:"strokeDashoffset",array:"strokeDasharray"};function AH(e,t,n=1,r=0,s=!0){e.pathLength=1;const o=s?MH:_H;e[o.offset]=at.transform(-r);const c=at.transform(t),u=at.transform(n);e[o.array]=`${c} ${u}`}function ZN(e,{attrX:t,attrY:n,attrScale:r,pathLength:s,pathSpacing:o=1,pathOffset:c=0,...u},f,h,m){if(mx(e,u,h),f){e.style.viewBox&&(e.attrs.viewBox=e.style.viewBox);return}e.attrs=e.style,e.style={};const{attrs:p,style:b}=e;p.transform&&(b.transform=p.transform,delete p.transform),(b.transform||p.transformOrigin)&&(b.transformOrigin=p.transformOrigin??"50% 50%",delete p.transformOrigin),b.transform&&(b.transformBox=(m==null?void 0:m.transformBox)??"fill-box",delete p.transformBox),t!==void 0&&(p.x=t),n!==void 0&&(p.y=n),r!==void 0&&(p.scale=r),s!==void 0&&AH(p,s,o,c,!1)}const XN=()=>({...px(),attrs:{}}),QN=e=>typeof e=="string"&&e.toLowerCase()==="svg";function RH(e,t,n,r){const s=x.useMemo(()=>{const o=XN();return ZN(o,t,QN(r),e.transformTemplate,e.style),{...o.attrs,style:{...o.style}}},[t]);if(e.style){const o={};KN(o,e.style,e),s.style={...o,...s.style}}return s}const DH=["animate","circle","defs","desc","ellipse","g","image","line","filter","marker","mask","metadata","path","pattern","polygon","polyline","rect","stop","switch","symbol","svg","text","tspan","use","view"];function gx(e){return typeof e!="string"||e.includes("-")?!1:!!(DH.indexOf(e)>-1||/[A-Z]/u.test(e))}function NH(e=!1){return(n,r,s,{latestValues:o},c)=>{const f=(gx(n)?RH:TH)(r,o,c,n),h=tH(r,typeof n=="string",e),m=n!==x.Fragment?{...h,...f,ref:s}:{},{children:p}=r,b=x.useMemo(()=>fr(p)?p.get():p,[p]);return x.createElement(n,{...m,children:b})}}function GT(e){const t=[{},{}];return e==null||e.values.forEach((n,r)=>{t[0][r]=n.get(),t[1][r]=n.getVelocity()}),t}function yx(e,t,n,r){if(typeof t=="function"){const[s,o]=GT(r);t=t(n!==void 0?n:e.custom,s,o)}if(typeof t=="string"&&(t=e.variants&&e.variants[t]),typeof t=="function"){const[s,o]=GT(r);t=t(n!==void 0?n:e.custom,s,o)}return t}function Jh(e){return fr(e)?e.get():e}function OH({scrapeMotionValuesFromProps:e,createRenderState:t},n,r,s){return{latestValues:kH(n,r,s,e),renderState:t()}}const JN=e=>(t,n)=>{const r=x.useContext(lp),s=x.useContext(sx),o=()=>OH(e,t,r,s);return n?o():GI(o)};function kH(e,t,n,r){const s={},o=r(e,{});for(const b in o)s[b]=Jh(o[b]);let{initial:c,animate:u}=e;const f=up(e),h=IN(e);t&&h&&!f&&e.inherit!==!1&&(c===void 0&&(c=t.initial),u===void 0&&(u=t.animate));let m=n?n.initial===!1:!1;m=m||c===!1;const p=m?u:c;if(p&&typeof p!="boolean"&&!cp(p)){const b=Array.isArray(p)?p:[p];for(let w=0;w<b.length;w++){const S=yx(e,b[w]);if(S){const{transitionEnd:E,transition:C,...T}=S;for(const _ in T){let A=T[_];if(Array.isArray(A)){const O=m?A.length-1:0;A=A[O]}A!==null&&(s[_]=A)}for(const _ in E)s[_]=E[_]}}}return s}function vx(e,t,n){var o;const{style:r}=e,s={};for(const c in r)(fr(r[c])||t.style&&fr(t.style[c])||GN(c,e)||((o=n==null?void 0:n.getValue(c))==null?void 0:o.liveStyle)!==void 0)&&(s[c]=r[c]);return s}const jH={useVisualState:JN({scrapeMotionValuesFromProps:vx,createRenderState:px})};function eO(e,t,n){const r=vx(e,t,n);for(const s in e)if(fr(e[s])||fr(t[s])){const o=Bc.indexOf(s)!==-1?"attr"+s.charAt(0).toUpperCase()+s.substring(1):s;r[o]=e[s]}return r}const PH={useVisualState:JN({scrapeMotionValuesFromProps:eO,createRenderState:XN})};function LH(e,t){return function(r,{forwardMotionProps:s}={forwardMotionProps:!1}){const c={...gx(r)?PH:jH,preloadedFeatures:e,useRender:NH(s),createVisualElement:t,Component:r};return uH(c)}}function kd(e,t,n){const r=e.getProps();return yx(r,t,n!==void 0?n:r.custom,e)}const bb=e=>Array.isArray(e);let em;function VH(){em=void 0}const Vr={now:()=>(em===void 0&&Vr.set(rr.isProcessing||$s.useManualTiming?rr.timestamp:performance.now()),em),set:e=>{em=e,queueMicrotask(VH)}};function bx(e,t){e.indexOf(t)===-1&&e.push(t)}function xx(e,t){const n=e.indexOf(t);n>-1&&e.splice(n,1)}class wx{constructor(){this.subscriptions=[]}add(t){return bx(this.subscriptions,t),()=>xx(this.subscriptions,t)}notify(t,n,r){const s=this.subscriptions.length;if(s)if(s===1)this.subscriptions[0](t,n,r);else for(let o=0;o<s;o++){const c=this.subscriptions[o];c&&c(t,n,r)}}getSize(){return this.subscriptions.length}clear(){this.subscriptions.length=0}}function tO(e,t){return t?e*(1e3/t):0}const WT=30,zH=e=>!isNaN(parseFloat(e));class BH{constructor(t,n={}){this.canTrackVelocity=null,this.events={},this.updateAndNotify=(r,s=!0)=>{var c,u;const o=Vr.now();if(this.updatedAt!==o&&this.setPrevFrameValue(),this.prev=this.current,this.setCurrent(r),this.current!==this.prev&&((c=this.events.change)==null||c.notify(this.current),this.dependents))for(const f of this.dependents)f.dirty();s&&((u=this.events.renderRequest)==null||u.notify(this.current))},this.hasAnimated=!1,this.setCurrent(t),this.owner=n.owner}setCurrent(t){this.current=t,this.updatedAt=Vr.now(),this.canTrackVelocity===null&&t!==void 0&&(this.canTrackVelocity=zH(this.current))}setPrevFrameValue(t=this.current){this.prevFrameValue=t,this.prevUpdatedAt=this.updatedAt}onChange(t){return this.on("change",t)}on(t,n){this.events[t]||(this.events[t]=new wx);const r=this.events[t].add(n);return t==="change"?()=>{r(),dn.read(()=>{this.events.change.getSize()||this.stop()})}:r}clearListeners(){for(const t in this.events)this.events[t].clear()}attach(t,n){this.passiveEffect=t,this.stopPassiveEffect=n}set(t,n=!0){!n||!this.passiveEffect?this.updateAndNotify(t,n):this.passiveEffect(t,this.updateAndNotify)}setWithVelocity(t,n,r){this.set(n),this.prev=void 0,this.prevFrameValue=t,this.prevUpdatedAt=this.updatedAt-r}jump(t,n=!0){this.updateAndNotify(t),this.prev=t,this.prevUpdatedAt=this.prevFrameValue=void 0,n&&this.stop(),this.stopPassiveEffect&&this.stopPassiveEffect()}dirty(){var t;(t=this.events.change)==null||t.notify(this.current)}addDependent(t){this.dependents||(this.dependents=new Set),this.dependents.add(t)}removeDependent(t){this.dependents&&this.dependents.delete(t)}get(){return this.current}getPrevious(){return this.prev}getVelocity(){const t=Vr.now();if(!this.canTrackVelocity||this.prevFrameValue===void 0||t-this.updatedAt>WT)return 0;const n=Math.min(this.updatedAt-this.prevUpdatedAt,WT);return tO(parseFloat(this.current)-parseFloat(this.prevFrameValue),n)}start(t){return this.stop(),new Promise(n=>{this.hasAnimated=!0,this.animation=t(n),this.events.animationStart&&this.events.animationStart.notify()}).then(()=>{this.events.animationComplete&&this.events.animationComplete.notify(),this.clearAnimation()})}stop(){this.animation&&(this.animation.stop(),this.events.animationCancel&&this.events.animationCancel.notify()),this.clearAnimation()}isAnimating(){return!!this.animation}clearAnimation(){delete this.animation}destroy(){var t,n;(t=this.dependents)==null||t.clear(),(n=this.events.destroy)==null||n.notify(),this.clearListeners(),this.stop(),this.stopPassiveEffect&&this.stopPassiveEffect()}}function xc(e,t){return new BH(e,t)}function UH(e,t,n){e.hasValue(t)?e.getValue(t).set(n):e.addValue(t,xc(n))}function FH(e){return bb(e)?e[e.length-1]||0:e}function IH(e,t){const n=kd(e,t);let{transitionEnd:r={},transition:s={},...o}=n||{};o={...o,...r};for(const c in o){const u=FH(o[c]);UH(e,c,u)}}function HH(e){return!!(fr(e)&&e.add)}function xb(e,t){const n=e.getValue("willChange");if(HH(n))return n.add(t);if(!n&&$s.WillChange){const r=new $s.WillChange("auto");e.addValue("willChange",r),r.add(t)}}function nO(e){return e.props[HN]}const $H=e=>e!==null;function qH(e,{repeat:t,repeatType:n="loop"},r){const s=e.filter($H),o=t&&n!=="loop"&&t%2===1?0:s.length-1;return s[o]}const YH={type:"spring",stiffness:500,damping:25,restSpeed:10},GH=e=>({type:"spring",stiffness:550,damping:e===0?2*Math.sqrt(550):30,restSpeed:10}),WH={type:"keyframes",duration:.8},KH={type:"keyframes",ease:[.25,.1,.35,1],duration:.3},ZH=(e,{keyframes:t})=>t.length>2?WH:Uc.has(e)?e.startsWith("scale")?GH(t[1]):YH:KH;function XH({when:e,delay:t,delayChildren:n,staggerChildren:r,staggerDirection:s,repeat:o,repeatType:c,repeatDelay:u,from:f,elapsed:h,...m}){return!!Object.keys(m).length}function Sx(e,t){return(e==null?void 0:e[t])??(e==null?void 0:e.default)??e}const ss=e=>e*1e3,is=e=>e/1e3,dd=e=>Math.round(e*1e5)/1e5,Ex=/-?(?:\d+(?:\.\d+)?|\.\d+)/gu;function QH(e){return e==null}const JH=/^(?:#[\da-f]{3,8}|(?:rgb|hsl)a?\((?:-?[\d.]+%?[,\s]+){2}-?[\d.]+%?\s*(?:[,/]\s*)?(?:\b\d+(?:\.\d+)?|\.\d+)?%?\))$/iu,Cx=(e,t)=>n=>!!(typeof n=="string"&&JH.test(n)&&n.startsWith(e)||t&&!QH(n)&&Object.prototype.hasOwnProperty.call(n,t)),rO=(e,t,n)=>r=>{if(typeof r!="string")return r;const[s,o,c,u]=r.match(Ex);return{[e]:parseFloat(s),[t]:parseFloat(o),[n]:parseFloat(c),alpha:u!==void 0?parseFloat(u):1}},e7=e=>qs(0,255,e),Jy={...Fc,transform:e=>Math.round(e7(e))},Ro={test:Cx("rgb","red"),parse:rO("red","green","blue"),transform:({red:e,green:t,blue:n,alpha:r=1})=>"rgba("+Jy.transform(e)+", "+Jy.transform(t)+", "+Jy.transform(n)+", "+dd(Od.transform(r))+")"};function t7(e){let t="",n="",r="",s="";return e.length>5?(t=e.substring(1,3),n=e.substring(3,5),r=e.substring(5,7),s=e.substring(7,9)):(t=e.substring(1,2),n=e.substring(2,3),r=e.substring(3,4),s=e.substring(4,5),t+=t,n+=n,r+=r,s+=s),{red:parseInt(t,16),green:parseInt(n,16),blue:parseInt(r,16),alpha:s?parseInt(s,16)/255:1}}const wb={test:Cx("#"),parse:t7,transform:Ro.transform},$l={test:Cx("hsl","hue"),parse:rO("hue","saturation","lightness"),transform:({hue:e,saturation:t,lightness:n,alpha:r=1})=>"hsla("+Math.round(e)+", "+as.transform(dd(t))+", "+as.transform(dd(n))+", "+dd(Od.transform(r))+")"},cr={test:e=>Ro.test(e)||wb.test(e)||$l.test(e),parse:e=>Ro.test(e)?Ro.parse(e):$l.test(e)?$l.parse(e):wb.parse(e),transform:e=>typeof e=="string"?e:e.hasOwnProperty("red")?Ro.transform(e):$l.transform(e)},n7=/(?:#[\da-f]{3,8}|(?:rgb|hsl)a?\((?:-?[\d.]+%?[,\s]+){2}-?[\d.]+%?\s*(?:[,/]\s*)?(?:\b\d+(?:\.\d+)?|\.\d+)?%?\))/giu;function r7(e){var t,n;return isNaN(e)&&typeof e=="string"&&(((t=e.match(Ex))==null?void 0:t.length)||0)+(((n=e.match(n7))==null?void 0:n.length)||0)>0}const aO="number",sO="color",a7="var",s7="var(",KT="${}",i7=/var\s*\(\s*--(?:[\w-]+\s*|[\w-]+\s*,(?:\s*[^)(\s]|\s*\((?:[^)(]|\([^)(]*\))*\))+\s*)\)|#[\da-f]{3,8}|(?:rgb|hsl)a?\((?:-?[\d.]+%?[,\s]+){2}-?[\d.]+%?\s*(?:[,/]\s*)?(?:\b\d+(?:\.\d+)?|\.\d+)?%?\)|-?(?:\d+(?:\.\d+)?|\.\d+)/giu;function jd(e){const t=e.toString(),n=[],r={color:[],number:[],var:[]},s=[];let o=0;const u=t.replace(i7,f=>(cr.test(f)?(r.color.push(o),s.push(sO),n.push(cr.parse(f))):f.startsWith(s7)?(r.var.push(o),s.push(a7),n.push(f)):(r.number.push(o),s.push(aO),n.push(parseFloat(f))),++o,KT)).split(KT);return{values:n,split:u,indexes:r,types:s}}function iO(e){return jd(e).values}function oO(e){const{split:t,types:n}=jd(e),r=t.length;return s=>{let o="";for(let c=0;c<r;c++)if(o+=t[c],s[c]!==void 0){const u=n[c];u===aO?o+=dd(s[c]):u===sO?o+=cr.transform(s[c]):o+=s[c]}return o}}const o7=e=>typeof e=="number"?0:e;function l7(e){const t=iO(e);return oO(e)(t.map(o7))}const Qi={test:r7,parse:iO,createTransformer:oO,getAnimatableNone:l7};function ev(e,t,n){return n<0&&(n+=1),n>1&&(n-=1),n<1/6?e+(t-e)*6*n:n<1/2?t:n<2/3?e+(t-e)*(2/3-n)*6:e}function c7({hue:e,saturation:t,lightness:n,alpha:r}){e/=360,t/=100,n/=100;let s=0,o=0,c=0;if(!t)s=o=c=n;else{const u=n<.5?n*(1+t):n+t-n*t,f=2*n-u;s=ev(f,u,e+1/3),o=ev(f,u,e),c=ev(f,u,e-1/3)}return{red:Math.round(s*255),green:Math.round(o*255),blue:Math.round(c*255),alpha:r}}function Dm(e,t){return n=>n>0?t:e}const cn=(e,t,n)=>e+(t-e)*n,tv=(e,t,n)=>{const r=e*e,s=n*(t*t-r)+r;return s<0?0:Math.sqrt(s)},u7=[wb,Ro,$l],d7=e=>u7.find(t=>t.test(e));function ZT(e){const t=d7(e);if(!t)return!1;let n=t.parse(e);return t===$l&&(n=c7(n)),n}const XT=(e,t)=>{const n=ZT(e),r=ZT(t);if(!n||!r)return Dm(e,t);const s={...n};return o=>(s.red=tv(n.red,r.red,o),s.green=tv(n.green,r.green,o),s.blue=tv(n.blue,r.blue,o),s.alpha=cn(n.alpha,r.alpha,o),Ro.transform(s))},Sb=new Set(["none","hidden"]);function f7(e,t){return Sb.has(e)?n=>n<=0?e:t:n=>n>=1?t:e}const h7=(e,t)=>n=>t(e(n)),of=(...e)=>e.reduce(h7);function m7(e,t){return n=>cn(e,t,n)}function Tx(e){return typeof e=="number"?m7:typeof e=="string"?fx(e)?Dm:cr.test(e)?XT:y7:Array.isArray(e)?lO:typeof e=="object"?cr.test(e)?XT:p7:Dm}function lO(e,t){const n=[...e],r=n.length,s=e.map((o,c)=>Tx(o)(o,t[c]));return o=>{for(let c=0;c<r;c++)n[c]=s[c](o);return n}}function p7(e,t){const n={...e,...t},r={};for(const s in n)e[s]!==void 0&&t[s]!==void 0&&(r[s]=Tx(e[s])(e[s],t[s]));return s=>{for(const o in r)n[o]=r[o](s);return n}}function g7(e,t){const n=[],r={color:0,var:0,number:0};for(let s=0;s<t.values.length;s++){const o=t.types[s],c=e.indexes[o][r[o]],u=e.values[c]??0;n[s]=u,r[o]++}return n}const y7=(e,t)=>{const n=Qi.createTransformer(t),r=jd(e),s=jd(t);return r.indexes.var.length===s.indexes.var.length&&r.indexes.color.length===s.indexes.color.length&&r.indexes.number.length>=s.indexes.number.length?Sb.has(e)&&!s.values.length||Sb.has(t)&&!r.values.length?f7(e,t):of(lO(g7(r,s),s.values),n):Dm(e,t)};function cO(e,t,n){return typeof e=="number"&&typeof t=="number"&&typeof n=="number"?cn(e,t,n):Tx(e)(e,t)}const v7=e=>{const t=({timestamp:n})=>e(n);return{start:(n=!0)=>dn.update(t,n),stop:()=>Xi(t),now:()=>rr.isProcessing?rr.timestamp:Vr.now()}},uO=(e,t,n=10)=>{let r="";const s=Math.max(Math.round(t/n),2);for(let o=0;o<s;o++)r+=e(o/(s-1))+", ";return`linear(${r.substring(0,r.length-2)})`},Nm=2e4;function Mx(e){let t=0;const n=50;let r=e.next(t);for(;!r.done&&t<Nm;)t+=n,r=e.next(t);return t>=Nm?1/0:t}function b7(e,t=100,n){const r=n({...e,keyframes:[0,t]}),s=Math.min(Mx(r),Nm);return{type:"keyframes",ease:o=>r.next(s*o).value/t,duration:is(s)}}const x7=5;function dO(e,t,n){const r=Math.max(t-x7,0);return tO(n-e(r),t-r)}const vn={stiffness:100,damping:10,mass:1,velocity:0,duration:800,bounce:.3,visualDuration:.3,restSpeed:{granular:.01,default:2},restDelta:{granular:.005,default:.5},minDuration:.01,maxDuration:10,minDamping:.05,maxDamping:1},QT=.001;function w7({duration:e=vn.duration,bounce:t=vn.bounce,velocity:n=vn.velocity,mass:r=vn.mass}){let s,o,c=1-t;c=qs(vn.minDamping,vn.maxDamping,c),e=qs(vn.minDuration,vn.maxDuration,is(e)),c<1?(s=h=>{const m=h*c,p=m*e,b=m-n,w=Eb(h,c),S=Math.exp(-p);return QT-b/w*S},o=h=>{const p=h*c*e,b=p*n+n,w=Math.pow(c,2)*Math.pow(h,2)*e,S=Math.exp(-p),E=Eb(Math.pow(h,2),c);return(-s(h)+QT>0?-1:1)*((b-w)*S)/E}):(s=h=>{const m=Math.exp(-h*e),p=(h-n)*e+1;return-.001+m*p},o=h=>{const m=Math.exp(-h*e),p=(n-h)*(e*e);return m*p});const u=5/e,f=E7(s,o,u);if(e=ss(e),isNaN(f))return{stiffness:vn.stiffness,damping:vn.damping,duration:e};{const h=Math.pow(f,2)*r;return{stiffness:h,damping:c*2*Math.sqrt(r*h),duration:e}}}const S7=12;function E7(e,t,n){let r=n;for(let s=1;s<S7;s++)r=r-e(r)/t(r);return r}function Eb(e,t){return e*Math.sqrt(1-t*t)}const C7=["duration","bounce"],T7=["stiffness","damping","mass"];function JT(e,t){return t.some(n=>e[n]!==void 0)}function M7(e){let t={velocity:vn.velocity,stiffness:vn.stiffness,damping:vn.damping,mass:vn.mass,isResolvedFromDuration:!1,...e};if(!JT(e,T7)&&JT(e,C7))if(e.visualDuration){const n=e.visualDuration,r=2*Math.PI/(n*1.2),s=r*r,o=2*qs(.05,1,1-(e.bounce||0))*Math.sqrt(s);t={...t,mass:vn.mass,stiffness:s,damping:o}}else{const n=w7(e);t={...t,...n,mass:vn.mass},t.isResolvedFromDuration=!0}return t}function Om(e=vn.visualDuration,t=vn.bounce){const n=typeof e!="object"?{visualDuration:e,keyframes:[0,1],bounce:t}:e;let{restSpeed:r,restDelta:s}=n;const o=n.keyframes[0],c=n.keyframes[n.keyframes.length-1],u={done:!1,value:o},{stiffness:f,damping:h,mass:m,duration:p,velocity:b,isResolvedFromDuration:w}=M7({...n,velocity:-is(n.velocity||0)}),S=b||0,E=h/(2*Math.sqrt(f*m)),C=c-o,T=is(Math.sqrt(f/m)),_=Math.abs(C)<5;r||(r=_?vn.restSpeed.granular:vn.restSpeed.default),s||(s=_?vn.restDelta.granular:vn.restDelta.default);let A;if(E<1){const R=Eb(T,E);A=D=>{const L=Math.exp(-E*T*D);return c-L*((S+E*T*C)/R*Math.sin(R*D)+C*Math.cos(R*D))}}else if(E===1)A=R=>c-Math.exp(-T*R)*(C+(S+T*C)*R);else{const R=T*Math.sqrt(E*E-1);A=D=>{const L=Math.exp(-E*T*D),k=Math.min(R*D,300);return c-L*((S+E*T*C)*Math.sinh(k)+R*C*Math.cosh(k))/R}}const O={calculatedDuration:w&&p||null,next:R=>{const D=A(R);if(w)u.done=R>=p;else{let L=R===0?S:0;E<1&&(L=R===0?ss(S):dO(A,R,D));const k=Math.abs(L)<=r,H=Math.abs(c-D)<=s;u.done=k&&H}return u.value=u.done?c:D,u},toString:()=>{const R=Math.min(Mx(O),Nm),D=uO(L=>O.next(R*L).value,R,30);return R+"ms "+D},toTransition:()=>{}};return O}Om.applyToOptions=e=>{const t=b7(e,100,Om);return e.ease=t.ease,e.duration=ss(t.duration),e.type="keyframes",e};function Cb({keyframes:e,velocity:t=0,power:n=.8,timeConstant:r=325,bounceDamping:s=10,bounceStiffness:o=500,modifyTarget:c,min:u,max:f,restDelta:h=.5,restSpeed:m}){const p=e[0],b={done:!1,value:p},w=k=>u!==void 0&&k<u||f!==void 0&&k>f,S=k=>u===void 0?f:f===void 0||Math.abs(u-k)<Math.abs(f-k)?u:f;let E=n*t;const C=p+E,T=c===void 0?C:c(C);T!==C&&(E=T-p);const _=k=>-E*Math.exp(-k/r),A=k=>T+_(k),O=k=>{const H=_(k),X=A(k);b.done=Math.abs(H)<=h,b.value=b.done?T:X};let R,D;const L=k=>{w(b.value)&&(R=k,D=Om({keyframes:[b.value,S(b.value)],velocity:dO(A,k,b.value),damping:s,stiffness:o,restDelta:h,restSpeed:m}))};return L(0),{calculatedDuration:null,next:k=>{let H=!1;return!D&&R===void 0&&(H=!0,O(k),L(k)),R!==void 0&&k>=R?D.next(k-R):(!H&&O(k),b)}}}const Pd=(e,t,n)=>{const r=t-e;return r===0?1:(n-e)/r};function _7(e,t,n){const r=[],s=n||$s.mix||cO,o=e.length-1;for(let c=0;c<o;c++){let u=s(e[c],e[c+1]);if(t){const f=Array.isArray(t)?t[c]||ba:t;u=of(f,u)}r.push(u)}return r}function A7(e,t,{clamp:n=!0,ease:r,mixer:s}={}){const o=e.length;if(ux(o===t.length),o===1)return()=>t[0];if(o===2&&t[0]===t[1])return()=>t[1];const c=e[0]===e[1];e[0]>e[o-1]&&(e=[...e].reverse(),t=[...t].reverse());const u=_7(t,r,s),f=u.length,h=m=>{if(c&&m<e[0])return t[0];let p=0;if(f>1)for(;p<e.length-2&&!(m<e[p+1]);p++);const b=Pd(e[p],e[p+1],m);return u[p](b)};return n?m=>h(qs(e[0],e[o-1],m)):h}function R7(e,t){const n=e[e.length-1];for(let r=1;r<=t;r++){const s=Pd(0,t,r);e.push(cn(n,1,s))}}function D7(e){const t=[0];return R7(t,e.length-1),t}function N7(e,t){return e.map(n=>n*t)}const fO=(e,t,n)=>(((1-3*n+3*t)*e+(3*n-6*t))*e+3*t)*e,O7=1e-7,k7=12;function j7(e,t,n,r,s){let o,c,u=0;do c=t+(n-t)/2,o=fO(c,r,s)-e,o>0?n=c:t=c;while(Math.abs(o)>O7&&++u<k7);return c}function lf(e,t,n,r){if(e===t&&n===r)return ba;const s=o=>j7(o,0,1,e,n);return o=>o===0||o===1?o:fO(s(o),t,r)}const P7=lf(.42,0,1,1),L7=lf(0,0,.58,1),hO=lf(.42,0,.58,1),V7=e=>Array.isArray(e)&&typeof e[0]!="number",mO=e=>t=>t<=.5?e(2*t)/2:(2-e(2*(1-t)))/2,pO=e=>t=>1-e(1-t),gO=lf(.33,1.53,.69,.99),_x=pO(gO),yO=mO(_x),vO=e=>(e*=2)<1?.5*_x(e):.5*(2-Math.pow(2,-10*(e-1))),Ax=e=>1-Math.sin(Math.acos(e)),bO=pO(Ax),xO=mO(Ax),wO=e=>Array.isArray(e)&&typeof e[0]=="number",z7={linear:ba,easeIn:P7,easeInOut:hO,easeOut:L7,circIn:Ax,circInOut:xO,circOut:bO,backIn:_x,backInOut:yO,backOut:gO,anticipate:vO},B7=e=>typeof e=="string",eM=e=>{if(wO(e)){ux(e.length===4);const[t,n,r,s]=e;return lf(t,n,r,s)}else if(B7(e))return z7[e];return e};function U7(e,t){return e.map(()=>t||hO).splice(0,e.length-1)}function fd({duration:e=300,keyframes:t,times:n,ease:r="easeInOut"}){const s=V7(r)?r.map(eM):eM(r),o={done:!1,value:t[0]},c=N7(n&&n.length===t.length?n:D7(t),e),u=A7(c,t,{ease:Array.isArray(s)?s:U7(t,s)});return{calculatedDuration:e,next:f=>(o.value=u(f),o.done=f>=e,o)}}const F7=e=>e!==null;function Rx(e,{repeat:t,repeatType:n="loop"},r,s=1){const o=e.filter(F7),u=s<0||t&&n!=="loop"&&t%2===1?0:o.length-1;return!u||r===void 0?o[u]:r}const I7={decay:Cb,inertia:Cb,tween:fd,keyframes:fd,spring:Om};function SO(e){typeof e.type=="string"&&(e.type=I7[e.type])}class Dx{constructor(){this.updateFinished()}get finished(){return this._finished}updateFinished(){this._finished=new Promise(t=>{this.resolve=t})}notifyFinished(){this.resolve()}then(t,n){return this.finished.then(t,n)}}const H7=e=>e/100;class Nx extends Dx{constructor(t){super(),this.state="idle",this.startTime=null,this.isStopped=!1,this.currentTime=0,this.holdTime=null,this.playbackSpeed=1,this.stop=()=>{var r,s;const{motionValue:n}=this.options;n&&n.updatedAt!==Vr.now()&&this.tick(Vr.now()),this.isStopped=!0,this.state!=="idle"&&(this.teardown(),(s=(r=this.options).onStop)==null||s.call(r))},this.options=t,this.initAnimation(),this.play(),t.autoplay===!1&&this.pause()}initAnimation(){const{options:t}=this;SO(t);const{type:n=fd,repeat:r=0,repeatDelay:s=0,repeatType:o,velocity:c=0}=t;let{keyframes:u}=t;const f=n||fd;f!==fd&&typeof u[0]!="number"&&(this.mixKeyframes=of(H7,cO(u[0],u[1])),u=[0,100]);const h=f({...t,keyframes:u});o==="mirror"&&(this.mirroredGenerator=f({...t,keyframes:[...u].reverse(),velocity:-c})),h.calculatedDuration===null&&(h.calculatedDuration=Mx(h));const{calculatedDuration:m}=h;this.calculatedDuration=m,this.resolvedDuration=m+s,this.totalDuration=this.resolvedDuration*(r+1)-s,this.generator=h}updateTime(t){const n=Math.round(t-this.startTime)*this.playbackSpeed;this.holdTime!==null?this.currentTime=this.holdTime:this.currentTime=n}tick(t,n=!1){const{generator:r,totalDuration:s,mixKeyframes:o,mirroredGenerator:c,resolvedDuration:u,calculatedDuration:f}=this;if(this.startTime===null)return r.next(0);const{delay:h=0,keyframes:m,repeat:p,repeatType:b,repeatDelay:w,type:S,onUpdate:E,finalKeyframe:C}=this.options;this.speed>0?this.startTime=Math.min(this.startTime,t):this.speed<0&&(this.startTime=Math.min(t-s/this.speed,this.startTime)),n?this.currentTime=t:this.updateTime(t);const T=this.currentTime-h*(this.playbackSpeed>=0?1:-1),_=this.playbackSpeed>=0?T<0:T>s;this.currentTime=Math.max(T,0),this.state==="finished"&&this.holdTime===null&&(this.currentTime=s);let A=this.currentTime,O=r;if(p){const k=Math.min(this.currentTime,s)/u;let H=Math.floor(k),X=k%1;!X&&k>=1&&(X=1),X===1&&H--,H=Math.min(H,p+1),!!(H%2)&&(b==="reverse"?(X=1-X,w&&(X-=w/u)):b==="mirror"&&(O=c)),A=qs(0,1,X)*u}const R=_?{done:!1,value:m[0]}:O.next(A);o&&(R.value=o(R.value));let{done:D}=R;!_&&f!==null&&(D=this.playbackSpeed>=0?this.currentTime>=s:this.currentTime<=0);const L=this.holdTime===null&&(this.state==="finished"||this.state==="running"&&D);return L&&S!==Cb&&(R.value=Rx(m,this.options,C,this.speed)),E&&E(R.value),L&&this.finish(),R}then(t,n){return this.finished.then(t,n)}get duration(){return is(this.calculatedDuration)}get time(){return is(this.currentTime)}set time(t){var n;t=ss(t),this.currentTime=t,this.startTime===null||this.holdTime!==null||this.playbackSpeed===0?this.holdTime=t:this.driver&&(this.startTime=this.driver.now()-t/this.playbackSpeed),(n=this.driver)==null||n.start(!1)}get speed(){return this.playbackSpeed}set speed(t){this.updateTime(Vr.now());const n=this.playbackSpeed!==t;this.playbackSpeed=t,n&&(this.time=is(this.currentTime))}play(){var s,o;if(this.isStopped)return;const{driver:t=v7,startTime:n}=this.options;this.driver||(this.driver=t(c=>this.tick(c))),(o=(s=this.options).onPlay)==null||o.call(s);const r=this.driver.now();this.state==="finished"?(this.updateFinished(),this.startTime=r):this.holdTime!==null?this.startTime=r-this.holdTime:this.startTime||(this.startTime=n??r),this.state==="finished"&&this.speed<0&&(this.startTime+=this.calculatedDuration),this.holdTime=null,this.state="running",this.driver.start()}pause(){this.state="paused",this.updateTime(Vr.now()),this.holdTime=this.currentTime}complete(){this.state!=="running"&&this.play(),this.state="finished",this.holdTime=null}finish(){var t,n;this.notifyFinished(),this.teardown(),this.state="finished",(n=(t=this.options).onComplete)==null||n.call(t)}cancel(){var t,n;this.holdTime=null,this.startTime=0,this.tick(0),this.teardown(),(n=(t=this.options).onCancel)==null||n.call(t)}teardown(){this.state="idle",this.stopDriver(),this.startTime=this.holdTime=null}stopDriver(){this.driver&&(this.driver.stop(),this.driver=void 0)}sample(t){return this.startTime=0,this.tick(t,!0)}attachTimeline(t){var n;return this.options.allowFlatten&&(this.options.type="keyframes",this.options.ease="linear",this.initAnimation()),(n=this.driver)==null||n.stop(),t.observe(this)}}function $7(e){for(let t=1;t<e.length;t++)e[t]??(e[t]=e[t-1])}const Do=e=>e*180/Math.PI,Tb=e=>{const t=Do(Math.atan2(e[1],e[0]));return Mb(t)},q7={x:4,y:5,translateX:4,translateY:5,scaleX:0,scaleY:3,scale:e=>(Math.abs(e[0])+Math.abs(e[3]))/2,rotate:Tb,rotateZ:Tb,skewX:e=>Do(Math.atan(e[1])),skewY:e=>Do(Math.atan(e[2])),skew:e=>(Math.abs(e[1])+Math.abs(e[2]))/2},Mb=e=>(e=e%360,e<0&&(e+=360),e),tM=Tb,nM=e=>Math.sqrt(e[0]*e[0]+e[1]*e[1]),rM=e=>Math.sqrt(e[4]*e[4]+e[5]*e[5]),Y7={x:12,y:13,z:14,translateX:12,translateY:13,translateZ:14,scaleX:nM,scaleY:rM,scale:e=>(nM(e)+rM(e))/2,rotateX:e=>Mb(Do(Math.atan2(e[6],e[5]))),rotateY:e=>Mb(Do(Math.atan2(-e[2],e[0]))),rotateZ:tM,rotate:tM,skewX:e=>Do(Math.atan(e[4])),skewY:e=>Do(Math.atan(e[1])),skew:e=>(Math.abs(e[1])+Math.abs(e[4]))/2};function _b(e){return e.includes("scale")?1:0}function Ab(e,t){if(!e||e==="none")return _b(t);const n=e.match(/^matrix3d\(([-\d.e\s,]+)\)$/u);let r,s;if(n)r=Y7,s=n;else{const u=e.match(/^matrix\(([-\d.e\s,]+)\)$/u);r=q7,s=u}if(!s)return _b(t);const o=r[t],c=s[1].split(",").map(W7);return typeof o=="function"?o(c):c[o]}const G7=(e,t)=>{const{transform:n="none"}=getComputedStyle(e);return Ab(n,t)};function W7(e){return parseFloat(e.trim())}const aM=e=>e===Fc||e===at,K7=new Set(["x","y","z"]),Z7=Bc.filter(e=>!K7.has(e));function X7(e){const t=[];return Z7.forEach(n=>{const r=e.getValue(n);r!==void 0&&(t.push([n,r.get()]),r.set(n.startsWith("scale")?1:0))}),t}const Uo={width:({x:e},{paddingLeft:t="0",paddingRight:n="0"})=>e.max-e.min-parseFloat(t)-parseFloat(n),height:({y:e},{paddingTop:t="0",paddingBottom:n="0"})=>e.max-e.min-parseFloat(t)-parseFloat(n),top:(e,{top:t})=>parseFloat(t),left:(e,{left:t})=>parseFloat(t),bottom:({y:e},{top:t})=>parseFloat(t)+(e.max-e.min),right:({x:e},{left:t})=>parseFloat(t)+(e.max-e.min),x:(e,{transform:t})=>Ab(t,"x"),y:(e,{transform:t})=>Ab(t,"y")};Uo.translateX=Uo.x;Uo.translateY=Uo.y;const Fo=new Set;let Rb=!1,Db=!1,Nb=!1;function EO(){if(Db){const e=Array.from(Fo).filter(r=>r.needsMeasurement),t=new Set(e.map(r=>r.element)),n=new Map;t.forEach(r=>{const s=X7(r);s.length&&(n.set(r,s),r.render())}),e.forEach(r=>r.measureInitialState()),t.forEach(r=>{r.render();const s=n.get(r);s&&s.forEach(([o,c])=>{var u;(u=r.getValue(o))==null||u.set(c)})}),e.forEach(r=>r.measureEndState()),e.forEach(r=>{r.suspendedScrollY!==void 0&&window.scrollTo(0,r.suspendedScrollY)})}Db=!1,Rb=!1,Fo.forEach(e=>e.complete(Nb)),Fo.clear()}function CO(){Fo.forEach(e=>{e.readKeyframes(),e.needsMeasurement&&(Db=!0)})}function Q7(){Nb=!0,CO(),EO(),Nb=!1}class Ox{constructor(t,n,r,s,o,c=!1){this.state="pending",this.isAsync=!1,this.needsMeasurement=!1,this.unresolvedKeyframes=[...t],this.onComplete=n,this.name=r,this.motionValue=s,this.element=o,this.isAsync=c}scheduleResolve(){this.state="scheduled",this.isAsync?(Fo.add(this),Rb||(Rb=!0,dn.read(CO),dn.resolveKeyframes(EO))):(this.readKeyframes(),this.complete())}readKeyframes(){const{unresolvedKeyframes:t,name:n,element:r,motionValue:s}=this;if(t[0]===null){const o=s==null?void 0:s.get(),c=t[t.length-1];if(o!==void 0)t[0]=o;else if(r&&n){const u=r.readValue(n,c);u!=null&&(t[0]=u)}t[0]===void 0&&(t[0]=c),s&&o===void 0&&s.set(t[0])}$7(t)}setFinalKeyframe(){}measureInitialState(){}renderEndStyles(){}measureEndState(){}complete(t=!1){this.state="complete",this.onComplete(this.unresolvedKeyframes,this.finalKeyframe,t),Fo.delete(this)}cancel(){this.state==="scheduled"&&(Fo.delete(this),this.state="pending")}resume(){this.state==="pending"&&this.scheduleResolve()}}const J7=e=>e.startsWith("--");function e$(e,t,n){J7(t)?e.style.setProperty(t,n):e.style[t]=n}function kx(e){let t;return()=>(t===void 0&&(t=e()),t)}const t$=kx(()=>window.ScrollTimeline!==void 0),n$={};function r$(e,t){const n=kx(e);return()=>n$[t]??n()}const TO=r$(()=>{try{document.createElement("div").animate({opacity:0},{easing:"linear(0, 1)"})}catch{return!1}return!0},"linearEasing"),id=([e,t,n,r])=>`cubic-bezier(${e}, ${t}, ${n}, ${r})`,sM={linear:"linear",ease:"ease",easeIn:"ease-in",easeOut:"ease-out",easeInOut:"ease-in-out",circIn:id([0,.65,.55,1]),circOut:id([.55,0,1,.45]),backIn:id([.31,.01,.66,-.59]),backOut:id([.33,1.53,.69,.99])};function MO(e,t){if(e)return typeof e=="function"?TO()?uO(e,t):"ease-out":wO(e)?id(e):Array.isArray(e)?e.map(n=>MO(n,t)||sM.easeOut):sM[e]}function a$(e,t,n,{delay:r=0,duration:s=300,repeat:o=0,repeatType:c="loop",ease:u="easeOut",times:f}={},h=void 0){const m={[t]:n};f&&(m.offset=f);const p=MO(u,s);Array.isArray(p)&&(m.easing=p);const b={delay:r,duration:s,easing:Array.isArray(p)?"linear":p,fill:"both",iterations:o+1,direction:c==="reverse"?"alternate":"normal"};return h&&(b.pseudoElement=h),e.animate(m,b)}function _O(e){return typeof e=="function"&&"applyToOptions"in e}function s$({type:e,...t}){return _O(e)&&TO()?e.applyToOptions(t):(t.duration??(t.duration=300),t.ease??(t.ease="easeOut"),t)}class i$ extends Dx{constructor(t){if(super(),this.finishedTime=null,this.isStopped=!1,!t)return;const{element:n,name:r,keyframes:s,pseudoElement:o,allowFlatten:c=!1,finalKeyframe:u,onComplete:f}=t;this.isPseudoElement=!!o,this.allowFlatten=c,this.options=t,ux(typeof t.type!="string");const h=s$(t);this.animation=a$(n,r,s,h,o),h.autoplay===!1&&this.animation.pause(),this.animation.onfinish=()=>{if(this.finishedTime=this.time,!o){const m=Rx(s,this.options,u,this.speed);this.updateMotionValue?this.updateMotionValue(m):e$(n,r,m),this.animation.cancel()}f==null||f(),this.notifyFinished()}}play(){this.isStopped||(this.animation.play(),this.state==="finished"&&this.updateFinished())}pause(){this.animation.pause()}complete(){var t,n;(n=(t=this.animation).finish)==null||n.call(t)}cancel(){try{this.animation.cancel()}catch{}}stop(){if(this.isStopped)return;this.isStopped=!0;const{state:t}=this;t==="idle"||t==="finished"||(this.updateMotionValue?this.updateMotionValue():this.commitStyles(),this.isPseudoElement||this.cancel())}commitStyles(){var t,n;this.isPseudoElement||(n=(t=this.animation).commitStyles)==null||n.call(t)}get duration(){var n,r;const t=((r=(n=this.animation.effect)==null?void 0:n.getComputedTiming)==null?void 0:r.call(n).duration)||0;return is(Number(t))}get time(){return is(Number(this.animation.currentTime)||0)}set time(t){this.finishedTime=null,this.animation.currentTime=ss(t)}get speed(){return this.animation.playbackRate}set speed(t){t<0&&(this.finishedTime=null),this.animation.playbackRate=t}get state(){return this.finishedTime!==null?"finished":this.animation.playState}get startTime(){return Number(this.animation.startTime)}set startTime(t){this.animation.startTime=t}attachTimeline({timeline:t,observe:n}){var r;return this.allowFlatten&&((r=this.animation.effect)==null||r.updateTiming({easing:"linear"})),this.animation.onfinish=null,t&&t$()?(this.animation.timeline=t,ba):n(this)}}const AO={anticipate:vO,backInOut:yO,circInOut:xO};function o$(e){return e in AO}function l$(e){typeof e.ease=="string"&&o$(e.ease)&&(e.ease=AO[e.ease])}const iM=10;class c$ extends i${constructor(t){l$(t),SO(t),super(t),t.startTime&&(this.startTime=t.startTime),this.options=t}updateMotionValue(t){const{motionValue:n,onUpdate:r,onComplete:s,element:o,...c}=this.options;if(!n)return;if(t!==void 0){n.set(t);return}const u=new Nx({...c,autoplay:!1}),f=ss(this.finishedTime??this.time);n.setWithVelocity(u.sample(f-iM).value,u.sample(f).value,iM),u.stop()}}const oM=(e,t)=>t==="zIndex"?!1:!!(typeof e=="number"||Array.isArray(e)||typeof e=="string"&&(Qi.test(e)||e==="0")&&!e.startsWith("url("));function u$(e){const t=e[0];if(e.length===1)return!0;for(let n=0;n<e.length;n++)if(e[n]!==t)return!0}function d$(e,t,n,r){const s=e[0];if(s===null)return!1;if(t==="display"||t==="visibility")return!0;const o=e[e.length-1],c=oM(s,t),u=oM(o,t);return!c||!u?!1:u$(e)||(n==="spring"||_O(n))&&r}const f$=new Set(["opacity","clipPath","filter","transform"]),h$=kx(()=>Object.hasOwnProperty.call(Element.prototype,"animate"));function m$(e){var h;const{motionValue:t,name:n,repeatDelay:r,repeatType:s,damping:o,type:c}=e;if(!zN((h=t==null?void 0:t.owner)==null?void 0:h.current))return!1;const{onUpdate:u,transformTemplate:f}=t.owner.getProps();return h$()&&n&&f$.has(n)&&(n!=="transform"||!f)&&!u&&!r&&s!=="mirror"&&o!==0&&c!=="inertia"}const p$=40;class g$ extends Dx{constructor({autoplay:t=!0,delay:n=0,type:r="keyframes",repeat:s=0,repeatDelay:o=0,repeatType:c="loop",keyframes:u,name:f,motionValue:h,element:m,...p}){var S;super(),this.stop=()=>{var E,C;this._animation&&(this._animation.stop(),(E=this.stopTimeline)==null||E.call(this)),(C=this.keyframeResolver)==null||C.cancel()},this.createdAt=Vr.now();const b={autoplay:t,delay:n,type:r,repeat:s,repeatDelay:o,repeatType:c,name:f,motionValue:h,element:m,...p},w=(m==null?void 0:m.KeyframeResolver)||Ox;this.keyframeResolver=new w(u,(E,C,T)=>this.onKeyframesResolved(E,C,b,!T),f,h,m),(S=this.keyframeResolver)==null||S.scheduleResolve()}onKeyframesResolved(t,n,r,s){this.keyframeResolver=void 0;const{name:o,type:c,velocity:u,delay:f,isHandoff:h,onUpdate:m}=r;this.resolvedAt=Vr.now(),d$(t,o,c,u)||(($s.instantAnimations||!f)&&(m==null||m(Rx(t,r,n))),t[0]=t[t.length-1],r.duration=0,r.repeat=0);const b={startTime:s?this.resolvedAt?this.resolvedAt-this.createdAt>p$?this.resolvedAt:this.createdAt:this.createdAt:void 0,finalKeyframe:n,...r,keyframes:t},w=!h&&m$(b)?new c$({...b,element:b.motionValue.owner.current}):new Nx(b);w.finished.then(()=>this.notifyFinished()).catch(ba),this.pendingTimeline&&(this.stopTimeline=w.attachTimeline(this.pendingTimeline),this.pendingTimeline=void 0),this._animation=w}get finished(){return this._animation?this.animation.finished:this._finished}then(t,n){return this.finished.finally(t).then(()=>{})}get animation(){var t;return this._animation||((t=this.keyframeResolver)==null||t.resume(),Q7()),this._animation}get duration(){return this.animation.duration}get time(){return this.animation.time}set time(t){this.animation.time=t}get speed(){return this.animation.speed}get state(){return this.animation.state}set speed(t){this.animation.speed=t}get startTime(){return this.animation.startTime}attachTimeline(t){return this._animation?this.stopTimeline=this.animation.attachTimeline(t):this.pendingTimeline=t,()=>this.stop()}play(){this.animation.play()}pause(){this.animation.pause()}complete(){this.animation.complete()}cancel(){var t;this._animation&&this.animation.cancel(),(t=this.keyframeResolver)==null||t.cancel()}}const jx=(e,t,n,r={},s,o)=>c=>{const u=Sx(r,e)||{},f=u.delay||r.delay||0;let{elapsed:h=0}=r;h=h-ss(f);const m={keyframes:Array.isArray(n)?n:[null,n],ease:"easeOut",velocity:t.getVelocity(),...u,delay:-h,onUpdate:b=>{t.set(b),u.onUpdate&&u.onUpdate(b)},onComplete:()=>{c(),u.onComplete&&u.onComplete()},name:e,motionValue:t,element:o?void 0:s};XH(u)||Object.assign(m,ZH(e,m)),m.duration&&(m.duration=ss(m.duration)),m.repeatDelay&&(m.repeatDelay=ss(m.repeatDelay)),m.from!==void 0&&(m.keyframes[0]=m.from);let p=!1;if((m.type===!1||m.duration===0&&!m.repeatDelay)&&(m.duration=0,m.delay===0&&(p=!0)),($s.instantAnimations||$s.skipAnimations)&&(p=!0,m.duration=0,m.delay=0),m.allowFlatten=!u.type&&!u.ease,p&&!o&&t.get()!==void 0){const b=qH(m.keyframes,u);if(b!==void 0){dn.update(()=>{m.onUpdate(b),m.onComplete()});return}}return u.isSync?new Nx(m):new g$(m)},RO=new Set(["width","height","top","left","right","bottom",...Bc]);function y$({protectedKeys:e,needsAnimating:t},n){const r=e.hasOwnProperty(n)&&t[n]!==!0;return t[n]=!1,r}function DO(e,t,{delay:n=0,transitionOverride:r,type:s}={}){let{transition:o=e.getDefaultTransition(),transitionEnd:c,...u}=t;r&&(o=r);const f=[],h=s&&e.animationState&&e.animationState.getState()[s];for(const m in u){const p=e.getValue(m,e.latestValues[m]??null),b=u[m];if(b===void 0||h&&y$(h,m))continue;const w={delay:n,...Sx(o||{},m)},S=p.get();if(S!==void 0&&!p.isAnimating&&!Array.isArray(b)&&b===S&&!w.velocity)continue;let E=!1;if(window.MotionHandoffAnimation){const T=nO(e);if(T){const _=window.MotionHandoffAnimation(T,m,dn);_!==null&&(w.startTime=_,E=!0)}}xb(e,m),p.start(jx(m,p,b,e.shouldReduceMotion&&RO.has(m)?{type:!1}:w,e,E));const C=p.animation;C&&f.push(C)}return c&&Promise.all(f).then(()=>{dn.update(()=>{c&&IH(e,c)})}),f}function Ob(e,t,n={}){var f;const r=kd(e,t,n.type==="exit"?(f=e.presenceContext)==null?void 0:f.custom:void 0);let{transition:s=e.getDefaultTransition()||{}}=r||{};n.transitionOverride&&(s=n.transitionOverride);const o=r?()=>Promise.all(DO(e,r,n)):()=>Promise.resolve(),c=e.variantChildren&&e.variantChildren.size?(h=0)=>{const{delayChildren:m=0,staggerChildren:p,staggerDirection:b}=s;return v$(e,t,m+h,p,b,n)}:()=>Promise.resolve(),{when:u}=s;if(u){const[h,m]=u==="beforeChildren"?[o,c]:[c,o];return h().then(()=>m())}else return Promise.all([o(),c(n.delay)])}function v$(e,t,n=0,r=0,s=1,o){const c=[],u=(e.variantChildren.size-1)*r,f=s===1?(h=0)=>h*r:(h=0)=>u-h*r;return Array.from(e.variantChildren).sort(b$).forEach((h,m)=>{h.notify("AnimationStart",t),c.push(Ob(h,t,{...o,delay:n+f(m)}).then(()=>h.notify("AnimationComplete",t)))}),Promise.all(c)}function b$(e,t){return e.sortNodePosition(t)}function x$(e,t,n={}){e.notify("AnimationStart",t);let r;if(Array.isArray(t)){const s=t.map(o=>Ob(e,o,n));r=Promise.all(s)}else if(typeof t=="string")r=Ob(e,t,n);else{const s=typeof t=="function"?kd(e,t,n.custom):t;r=Promise.all(DO(e,s,n))}return r.then(()=>{e.notify("AnimationComplete",t)})}function NO(e,t){if(!Array.isArray(t))return!1;const n=t.length;if(n!==e.length)return!1;for(let r=0;r<n;r++)if(t[r]!==e[r])return!1;return!0}const w$=ox.length;function OO(e){if(!e)return;if(!e.isControllingVariants){const n=e.parent?OO(e.parent)||{}:{};return e.props.initial!==void 0&&(n.initial=e.props.initial),n}const t={};for(let n=0;n<w$;n++){const r=ox[n],s=e.props[r];(Dd(s)||s===!1)&&(t[r]=s)}return t}const S$=[...ix].reverse(),E$=ix.length;function C$(e){return t=>Promise.all(t.map(({animation:n,options:r})=>x$(e,n,r)))}function T$(e){let t=C$(e),n=lM(),r=!0;const s=f=>(h,m)=>{var b;const p=kd(e,m,f==="exit"?(b=e.presenceContext)==null?void 0:b.custom:void 0);if(p){const{transition:w,transitionEnd:S,...E}=p;h={...h,...E,...S}}return h};function o(f){t=f(e)}function c(f){const{props:h}=e,m=OO(e.parent)||{},p=[],b=new Set;let w={},S=1/0;for(let C=0;C<E$;C++){const T=S$[C],_=n[T],A=h[T]!==void 0?h[T]:m[T],O=Dd(A),R=T===f?_.isActive:null;R===!1&&(S=C);let D=A===m[T]&&A!==h[T]&&O;if(D&&r&&e.manuallyAnimateOnMount&&(D=!1),_.protectedKeys={...w},!_.isActive&&R===null||!A&&!_.prevProp||cp(A)||typeof A=="boolean")continue;const L=M$(_.prevProp,A);let k=L||T===f&&_.isActive&&!D&&O||C>S&&O,H=!1;const X=Array.isArray(A)?A:[A];let oe=X.reduce(s(T),{});R===!1&&(oe={});const{prevResolvedValues:ce={}}=_,de={...ce,...oe},Q=K=>{k=!0,b.has(K)&&(H=!0,b.delete(K)),_.needsAnimating[K]=!0;const I=e.getValue(K);I&&(I.liveStyle=!1)};for(const K in de){const I=oe[K],J=ce[K];if(w.hasOwnProperty(K))continue;let j=!1;bb(I)&&bb(J)?j=!NO(I,J):j=I!==J,j?I!=null?Q(K):b.add(K):I!==void 0&&b.has(K)?Q(K):_.protectedKeys[K]=!0}_.prevProp=A,_.prevResolvedValues=oe,_.isActive&&(w={...w,...oe}),r&&e.blockInitialAnimation&&(k=!1),k&&(!(D&&L)||H)&&p.push(...X.map(K=>({animation:K,options:{type:T}})))}if(b.size){const C={};if(typeof h.initial!="boolean"){const T=kd(e,Array.isArray(h.initial)?h.initial[0]:h.initial);T&&T.transition&&(C.transition=T.transition)}b.forEach(T=>{const _=e.getBaseTarget(T),A=e.getValue(T);A&&(A.liveStyle=!0),C[T]=_??null}),p.push({animation:C})}let E=!!p.length;return r&&(h.initial===!1||h.initial===h.animate)&&!e.manuallyAnimateOnMount&&(E=!1),r=!1,E?t(p):Promise.resolve()}function u(f,h){var p;if(n[f].isActive===h)return Promise.resolve();(p=e.variantChildren)==null||p.forEach(b=>{var w;return(w=b.animationState)==null?void 0:w.setActive(f,h)}),n[f].isActive=h;const m=c(f);for(const b in n)n[b].protectedKeys={};return m}return{animateChanges:c,setActive:u,setAnimateFunction:o,getState:()=>n,reset:()=>{n=lM(),r=!0}}}function M$(e,t){return typeof t=="string"?t!==e:Array.isArray(t)?!NO(t,e):!1}function So(e=!1){return{isActive:e,protectedKeys:{},needsAnimating:{},prevResolvedValues:{}}}function lM(){return{animate:So(!0),whileInView:So(),whileHover:So(),whileTap:So(),whileDrag:So(),whileFocus:So(),exit:So()}}class to{constructor(t){this.isMounted=!1,this.node=t}update(){}}class _$ extends to{constructor(t){super(t),t.animationState||(t.animationState=T$(t))}updateAnimationControlsSubscription(){const{animate:t}=this.node.getProps();cp(t)&&(this.unmountControls=t.subscribe(this.node))}mount(){this.updateAnimationControlsSubscription()}update(){const{animate:t}=this.node.getProps(),{animate:n}=this.node.prevProps||{};t!==n&&this.updateAnimationControlsSubscription()}unmount(){var t;this.node.animationState.reset(),(t=this.unmountControls)==null||t.call(this)}}let A$=0;class R$ extends to{constructor(){super(...arguments),this.id=A$++}update(){if(!this.node.presenceContext)return;const{isPresent:t,onExitComplete:n}=this.node.presenceContext,{isPresent:r}=this.node.prevPresenceContext||{};if(!this.node.animationState||t===r)return;const s=this.node.animationState.setActive("exit",!t);n&&!t&&s.then(()=>{n(this.id)})}mount(){const{register:t,onExitComplete:n}=this.node.presenceContext||{};n&&n(this.id),t&&(this.unmount=t(this.id))}unmount(){}}const D$={animation:{Feature:_$},exit:{Feature:R$}};function Ld(e,t,n,r={passive:!0}){return e.addEventListener(t,n,r),()=>e.removeEventListener(t,n)}const Px=e=>e.pointerType==="mouse"?typeof e.button!="number"||e.button<=0:e.isPrimary!==!1;function cf(e){return{point:{x:e.pageX,y:e.pageY}}}const N$=e=>t=>Px(t)&&e(t,cf(t));function hd(e,t,n,r){return Ld(e,t,N$(n),r)}function kO({top:e,left:t,right:n,bottom:r}){return{x:{min:t,max:n},y:{min:e,max:r}}}function O$({x:e,y:t}){return{top:t.min,right:e.max,bottom:t.max,left:e.min}}function k$(e,t){if(!t)return e;const n=t({x:e.left,y:e.top}),r=t({x:e.right,y:e.bottom});return{top:n.y,left:n.x,bottom:r.y,right:r.x}}const jO=1e-4,j$=1-jO,P$=1+jO,PO=.01,L$=0-PO,V$=0+PO;function xr(e){return e.max-e.min}function z$(e,t,n){return Math.abs(e-t)<=n}function cM(e,t,n,r=.5){e.origin=r,e.originPoint=cn(t.min,t.max,e.origin),e.scale=xr(n)/xr(t),e.translate=cn(n.min,n.max,e.origin)-e.originPoint,(e.scale>=j$&&e.scale<=P$||isNaN(e.scale))&&(e.scale=1),(e.translate>=L$&&e.translate<=V$||isNaN(e.translate))&&(e.translate=0)}function md(e,t,n,r){cM(e.x,t.x,n.x,r?r.originX:void 0),cM(e.y,t.y,n.y,r?r.originY:void 0)}function uM(e,t,n){e.min=n.min+t.min,e.max=e.min+xr(t)}function B$(e,t,n){uM(e.x,t.x,n.x),uM(e.y,t.y,n.y)}function dM(e,t,n){e.min=t.min-n.min,e.max=e.min+xr(t)}function pd(e,t,n){dM(e.x,t.x,n.x),dM(e.y,t.y,n.y)}const fM=()=>({translate:0,scale:1,origin:0,originPoint:0}),ql=()=>({x:fM(),y:fM()}),hM=()=>({min:0,max:0}),wn=()=>({x:hM(),y:hM()});function pa(e){return[e("x"),e("y")]}function nv(e){return e===void 0||e===1}function kb({scale:e,scaleX:t,scaleY:n}){return!nv(e)||!nv(t)||!nv(n)}function Eo(e){return kb(e)||LO(e)||e.z||e.rotate||e.rotateX||e.rotateY||e.skewX||e.skewY}function LO(e){return mM(e.x)||mM(e.y)}function mM(e){return e&&e!=="0%"}function km(e,t,n){const r=e-n,s=t*r;return n+s}function pM(e,t,n,r,s){return s!==void 0&&(e=km(e,s,r)),km(e,n,r)+t}function jb(e,t=0,n=1,r,s){e.min=pM(e.min,t,n,r,s),e.max=pM(e.max,t,n,r,s)}function VO(e,{x:t,y:n}){jb(e.x,t.translate,t.scale,t.originPoint),jb(e.y,n.translate,n.scale,n.originPoint)}const gM=.999999999999,yM=1.0000000000001;function U$(e,t,n,r=!1){const s=n.length;if(!s)return;t.x=t.y=1;let o,c;for(let u=0;u<s;u++){o=n[u],c=o.projectionDelta;const{visualElement:f}=o.options;f&&f.props.style&&f.props.style.display==="contents"||(r&&o.options.layoutScroll&&o.scroll&&o!==o.root&&Gl(e,{x:-o.scroll.offset.x,y:-o.scroll.offset.y}),c&&(t.x*=c.x.scale,t.y*=c.y.scale,VO(e,c)),r&&Eo(o.latestValues)&&Gl(e,o.latestValues))}t.x<yM&&t.x>gM&&(t.x=1),t.y<yM&&t.y>gM&&(t.y=1)}function Yl(e,t){e.min=e.min+t,e.max=e.max+t}function vM(e,t,n,r,s=.5){const o=cn(e.min,e.max,s);jb(e,t,n,o,r)}function Gl(e,t){vM(e.x,t.x,t.scaleX,t.scale,t.originX),vM(e.y,t.y,t.scaleY,t.scale,t.originY)}function zO(e,t){return kO(k$(e.getBoundingClientRect(),t))}function F$(e,t,n){const r=zO(e,n),{scroll:s}=t;return s&&(Yl(r.x,s.offset.x),Yl(r.y,s.offset.y)),r}const BO=({current:e})=>e?e.ownerDocument.defaultView:null,bM=(e,t)=>Math.abs(e-t);function I$(e,t){const n=bM(e.x,t.x),r=bM(e.y,t.y);return Math.sqrt(n**2+r**2)}class UO{constructor(t,n,{transformPagePoint:r,contextWindow:s,dragSnapToOrigin:o=!1}={}){if(this.startEvent=null,this.lastMoveEvent=null,this.lastMoveEventInfo=null,this.handlers={},this.contextWindow=window,this.updatePoint=()=>{if(!(this.lastMoveEvent&&this.lastMoveEventInfo))return;const p=av(this.lastMoveEventInfo,this.history),b=this.startEvent!==null,w=I$(p.offset,{x:0,y:0})>=3;if(!b&&!w)return;const{point:S}=p,{timestamp:E}=rr;this.history.push({...S,timestamp:E});const{onStart:C,onMove:T}=this.handlers;b||(C&&C(this.lastMoveEvent,p),this.startEvent=this.lastMoveEvent),T&&T(this.lastMoveEvent,p)},this.handlePointerMove=(p,b)=>{this.lastMoveEvent=p,this.lastMoveEventInfo=rv(b,this.transformPagePoint),dn.update(this.updatePoint,!0)},this.handlePointerUp=(p,b)=>{this.end();const{onEnd:w,onSessionEnd:S,resumeAnimation:E}=this.handlers;if(this.dragSnapToOrigin&&E&&E(),!(this.lastMoveEvent&&this.lastMoveEventInfo))return;const C=av(p.type==="pointercancel"?this.lastMoveEventInfo:rv(b,this.transformPagePoint),this.history);this.startEvent&&w&&w(p,C),S&&S(p,C)},!Px(t))return;this.dragSnapToOrigin=o,this.handlers=n,this.transformPagePoint=r,this.contextWindow=s||window;const c=cf(t),u=rv(c,this.transformPagePoint),{point:f}=u,{timestamp:h}=rr;this.history=[{...f,timestamp:h}];const{onSessionStart:m}=n;m&&m(t,av(u,this.history)),this.removeListeners=of(hd(this.contextWindow,"pointermove",this.handlePointerMove),hd(this.contextWindow,"pointerup",this.handlePointerUp),hd(this.contextWindow,"pointercancel",this.handlePointerUp))}updateHandlers(t){this.handlers=t}end(){this.removeListeners&&this.removeListeners(),Xi(this.updatePoint)}}function rv(e,t){return t?{point:t(e.point)}:e}function xM(e,t){return{x:e.x-t.x,y:e.y-t.y}}function av({point:e},t){return{point:e,delta:xM(e,FO(t)),offset:xM(e,H$(t)),velocity:$$(t,.1)}}function H$(e){return e[0]}function FO(e){return e[e.length-1]}function $$(e,t){if(e.length<2)return{x:0,y:0};let n=e.length-1,r=null;const s=FO(e);for(;n>=0&&(r=e[n],!(s.timestamp-r.timestamp>ss(t)));)n--;if(!r)return{x:0,y:0};const o=is(s.timestamp-r.timestamp);if(o===0)return{x:0,y:0};const c={x:(s.x-r.x)/o,y:(s.y-r.y)/o};return c.x===1/0&&(c.x=0),c.y===1/0&&(c.y=0),c}function q$(e,{min:t,max:n},r){return t!==void 0&&e<t?e=r?cn(t,e,r.min):Math.max(e,t):n!==void 0&&e>n&&(e=r?cn(n,e,r.max):Math.min(e,n)),e}function wM(e,t,n){return{min:t!==void 0?e.min+t:void 0,max:n!==void 0?e.max+n-(e.max-e.min):void 0}}function Y$(e,{top:t,left:n,bottom:r,right:s}){return{x:wM(e.x,n,s),y:wM(e.y,t,r)}}function SM(e,t){let n=t.min-e.min,r=t.max-e.max;return t.max-t.min<e.max-e.min&&([n,r]=[r,n]),{min:n,max:r}}function G$(e,t){return{x:SM(e.x,t.x),y:SM(e.y,t.y)}}function W$(e,t){let n=.5;const r=xr(e),s=xr(t);return s>r?n=Pd(t.min,t.max-r,e.min):r>s&&(n=Pd(e.min,e.max-s,t.min)),qs(0,1,n)}function K$(e,t){const n={};return t.min!==void 0&&(n.min=t.min-e.min),t.max!==void 0&&(n.max=t.max-e.min),n}const Pb=.35;function Z$(e=Pb){return e===!1?e=0:e===!0&&(e=Pb),{x:EM(e,"left","right"),y:EM(e,"top","bottom")}}function EM(e,t,n){return{min:CM(e,t),max:CM(e,n)}}function CM(e,t){return typeof e=="number"?e:e[t]||0}const _a={x:!1,y:!1};function IO(){return _a.x||_a.y}function X$(e){return e==="x"||e==="y"?_a[e]?null:(_a[e]=!0,()=>{_a[e]=!1}):_a.x||_a.y?null:(_a.x=_a.y=!0,()=>{_a.x=_a.y=!1})}const Q$=new WeakMap;class J${constructor(t){this.openDragLock=null,this.isDragging=!1,this.currentDirection=null,this.originPoint={x:0,y:0},this.constraints=!1,this.hasMutatedConstraints=!1,this.elastic=wn(),this.visualElement=t}start(t,{snapToCursor:n=!1}={}){const{presenceContext:r}=this.visualElement;if(r&&r.isPresent===!1)return;const s=m=>{const{dragSnapToOrigin:p}=this.getProps();p?this.pauseAnimation():this.stopAnimation(),n&&this.snapToCursor(cf(m).point)},o=(m,p)=>{const{drag:b,dragPropagation:w,onDragStart:S}=this.getProps();if(b&&!w&&(this.openDragLock&&this.openDragLock(),this.openDragLock=X$(b),!this.openDragLock))return;this.isDragging=!0,this.currentDirection=null,this.resolveConstraints(),this.visualElement.projection&&(this.visualElement.projection.isAnimationBlocked=!0,this.visualElement.projection.target=void 0),pa(C=>{let T=this.getAxisMotionValue(C).get()||0;if(as.test(T)){const{projection:_}=this.visualElement;if(_&&_.layout){const A=_.layout.layoutBox[C];A&&(T=xr(A)*(parseFloat(T)/100))}}this.originPoint[C]=T}),S&&dn.postRender(()=>S(m,p)),xb(this.visualElement,"transform");const{animationState:E}=this.visualElement;E&&E.setActive("whileDrag",!0)},c=(m,p)=>{const{dragPropagation:b,dragDirectionLock:w,onDirectionLock:S,onDrag:E}=this.getProps();if(!b&&!this.openDragLock)return;const{offset:C}=p;if(w&&this.currentDirection===null){this.currentDirection=eq(C),this.currentDirection!==null&&S&&S(this.currentDirection);return}this.updateAxis("x",p.point,C),this.updateAxis("y",p.point,C),this.visualElement.render(),E&&E(m,p)},u=(m,p)=>this.stop(m,p),f=()=>pa(m=>{var p;return this.getAnimationState(m)==="paused"&&((p=this.getAxisMotionValue(m).animation)==null?void 0:p.play())}),{dragSnapToOrigin:h}=this.getProps();this.panSession=new UO(t,{onSessionStart:s,onStart:o,onMove:c,onSessionEnd:u,resumeAnimation:f},{transformPagePoint:this.visualElement.getTransformPagePoint(),dragSnapToOrigin:h,contextWindow:BO(this.visualElement)})}stop(t,n){const r=this.isDragging;if(this.cancel(),!r)return;const{velocity:s}=n;this.startAnimation(s);const{onDragEnd:o}=this.getProps();o&&dn.postRender(()=>o(t,n))}cancel(){this.isDragging=!1;const{projection:t,animationState:n}=this.visualElement;t&&(t.isAnimationBlocked=!1),this.panSession&&this.panSession.end(),this.panSession=void 0;const{dragPropagation:r}=this.getProps();!r&&this.openDragLock&&(this.openDragLock(),this.openDragLock=null),n&&n.setActive("whileDrag",!1)}updateAxis(t,n,r){const{drag:s}=this.getProps();if(!r||!Uh(t,s,this.currentDirection))return;const o=this.getAxisMotionValue(t);let c=this.originPoint[t]+r[t];this.constraints&&this.constraints[t]&&(c=q$(c,this.constraints[t],this.elastic[t])),o.set(c)}resolveConstraints(){var o;const{dragConstraints:t,dragElastic:n}=this.getProps(),r=this.visualElement.projection&&!this.visualElement.projection.layout?this.visualElement.projection.measure(!1):(o=this.visualElement.projection)==null?void 0:o.layout,s=this.constraints;t&&Hl(t)?this.constraints||(this.constraints=this.resolveRefConstraints()):t&&r?this.constraints=Y$(r.layoutBox,t):this.constraints=!1,this.elastic=Z$(n),s!==this.constraints&&r&&this.constraints&&!this.hasMutatedConstraints&&pa(c=>{this.constraints!==!1&&this.getAxisMotionValue(c)&&(this.constraints[c]=K$(r.layoutBox[c],this.constraints[c]))})}resolveRefConstraints(){const{dragConstraints:t,onMeasureDragConstraints:n}=this.getProps();if(!t||!Hl(t))return!1;const r=t.current,{projection:s}=this.visualElement;if(!s||!s.layout)return!1;const o=F$(r,s.root,this.visualElement.getTransformPagePoint());let c=G$(s.layout.layoutBox,o);if(n){const u=n(O$(c));this.hasMutatedConstraints=!!u,u&&(c=kO(u))}return c}startAnimation(t){const{drag:n,dragMomentum:r,dragElastic:s,dragTransition:o,dragSnapToOrigin:c,onDragTransitionEnd:u}=this.getProps(),f=this.constraints||{},h=pa(m=>{if(!Uh(m,n,this.currentDirection))return;let p=f&&f[m]||{};c&&(p={min:0,max:0});const b=s?200:1e6,w=s?40:1e7,S={type:"inertia",velocity:r?t[m]:0,bounceStiffness:b,bounceDamping:w,timeConstant:750,restDelta:1,restSpeed:10,...o,...p};return this.startAxisValueAnimation(m,S)});return Promise.all(h).then(u)}startAxisValueAnimation(t,n){const r=this.getAxisMotionValue(t);return xb(this.visualElement,t),r.start(jx(t,r,0,n,this.visualElement,!1))}stopAnimation(){pa(t=>this.getAxisMotionValue(t).stop())}pauseAnimation(){pa(t=>{var n;return(n=this.getAxisMotionValue(t).animation)==null?void 0:n.pause()})}getAnimationState(t){var n;return(n=this.getAxisMotionValue(t).animation)==null?void 0:n.state}getAxisMotionValue(t){const n=`_drag${t.toUpperCase()}`,r=this.visualElement.getProps(),s=r[n];return s||this.visualElement.getValue(t,(r.initial?r.initial[t]:void 0)||0)}snapToCursor(t){pa(n=>{const{drag:r}=this.getProps();if(!Uh(n,r,this.currentDirection))return;const{projection:s}=this.visualElement,o=this.getAxisMotionValue(n);if(s&&s.layout){const{min:c,max:u}=s.layout.layoutBox[n];o.set(t[n]-cn(c,u,.5))}})}scalePositionWithinConstraints(){if(!this.visualElement.current)return;const{drag:t,dragConstraints:n}=this.getProps(),{projection:r}=this.visualElement;if(!Hl(n)||!r||!this.constraints)return;this.stopAnimation();const s={x:0,y:0};pa(c=>{const u=this.getAxisMotionValue(c);if(u&&this.constraints!==!1){const f=u.get();s[c]=W$({min:f,max:f},this.constraints[c])}});const{transformTemplate:o}=this.visualElement.getProps();this.visualElement.current.style.transform=o?o({},""):"none",r.root&&r.root.updateScroll(),r.updateLayout(),this.resolveConstraints(),pa(c=>{if(!Uh(c,t,null))return;const u=this.getAxisMotionValue(c),{min:f,max:h}=this.constraints[c];u.set(cn(f,h,s[c]))})}addListeners(){if(!this.visualElement.current)return;Q$.set(this.visualElement,this);const t=this.visualElement.current,n=hd(t,"pointerdown",f=>{const{drag:h,dragListener:m=!0}=this.getProps();h&&m&&this.start(f)}),r=()=>{const{dragConstraints:f}=this.getProps();Hl(f)&&f.current&&(this.constraints=this.resolveRefConstraints())},{projection:s}=this.visualElement,o=s.addEventListener("measure",r);s&&!s.layout&&(s.root&&s.root.updateScroll(),s.updateLayout()),dn.read(r);const c=Ld(window,"resize",()=>this.scalePositionWithinConstraints()),u=s.addEventListener("didUpdate",({delta:f,hasLayoutChanged:h})=>{this.isDragging&&h&&(pa(m=>{const p=this.getAxisMotionValue(m);p&&(this.originPoint[m]+=f[m].translate,p.set(p.get()+f[m].translate))}),this.visualElement.render())});return()=>{c(),n(),o(),u&&u()}}getProps(){const t=this.visualElement.getProps(),{drag:n=!1,dragDirectionLock:r=!1,dragPropagation:s=!1,dragConstraints:o=!1,dragElastic:c=Pb,dragMomentum:u=!0}=t;return{...t,drag:n,dragDirectionLock:r,dragPropagation:s,dragConstraints:o,dragElastic:c,dragMomentum:u}}}function Uh(e,t,n){return(t===!0||t===e)&&(n===null||n===e)}function eq(e,t=10){let n=null;return Math.abs(e.y)>t?n="y":Math.abs(e.x)>t&&(n="x"),n}class tq extends to{constructor(t){super(t),this.removeGroupControls=ba,this.removeListeners=ba,this.controls=new J$(t)}mount(){const{dragControls:t}=this.node.getProps();t&&(this.removeGroupControls=t.subscribe(this.controls)),this.removeListeners=this.controls.addListeners()||ba}unmount(){this.removeGroupControls(),this.removeListeners()}}const TM=e=>(t,n)=>{e&&dn.postRender(()=>e(t,n))};class nq extends to{constructor(){super(...arguments),this.removePointerDownListener=ba}onPointerDown(t){this.session=new UO(t,this.createPanHandlers(),{transformPagePoint:this.node.getTransformPagePoint(),contextWindow:BO(this.node)})}createPanHandlers(){const{onPanSessionStart:t,onPanStart:n,onPan:r,onPanEnd:s}=this.node.getProps();return{onSessionStart:TM(t),onStart:TM(n),onMove:r,onEnd:(o,c)=>{delete this.session,s&&dn.postRender(()=>s(o,c))}}}mount(){this.removePointerDownListener=hd(this.node.current,"pointerdown",t=>this.onPointerDown(t))}update(){this.session&&this.session.updateHandlers(this.createPanHandlers())}unmount(){this.removePointerDownListener(),this.session&&this.session.end()}}const tm={hasAnimatedSinceResize:!0,hasEverUpdated:!1};function MM(e,t){return t.max===t.min?0:e/(t.max-t.min)*100}const Wu={correct:(e,t)=>{if(!t.target)return e;if(typeof e=="string")if(at.test(e))e=parseFloat(e);else return e;const n=MM(e,t.target.x),r=MM(e,t.target.y);return`${n}% ${r}%`}},rq={correct:(e,{treeScale:t,projectionDelta:n})=>{const r=e,s=Qi.parse(e);if(s.length>5)return r;const o=Qi.createTransformer(e),c=typeof s[0]!="number"?1:0,u=n.x.scale*t.x,f=n.y.scale*t.y;s[0+c]/=u,s[1+c]/=f;const h=cn(u,f,.5);return typeof s[2+c]=="number"&&(s[2+c]/=h),typeof s[3+c]=="number"&&(s[3+c]/=h),o(s)}};class aq extends x.Component{componentDidMount(){const{visualElement:t,layoutGroup:n,switchLayoutGroup:r,layoutId:s}=this.props,{projection:o}=t;gH(sq),o&&(n.group&&n.group.add(o),r&&r.register&&s&&r.register(o),o.root.didUpdate(),o.addEventListener("animationComplete",()=>{this.safeToRemove()}),o.setOptions({...o.options,onExitComplete:()=>this.safeToRemove()})),tm.hasEverUpdated=!0}getSnapshotBeforeUpdate(t){const{layoutDependency:n,visualElement:r,drag:s,isPresent:o}=this.props,{projection:c}=r;return c&&(c.isPresent=o,s||t.layoutDependency!==n||n===void 0||t.isPresent!==o?c.willUpdate():this.safeToRemove(),t.isPresent!==o&&(o?c.promote():c.relegate()||dn.postRender(()=>{const u=c.getStack();(!u||!u.members.length)&&this.safeToRemove()}))),null}componentDidUpdate(){const{projection:t}=this.props.visualElement;t&&(t.root.didUpdate(),cx.postRender(()=>{!t.currentAnimation&&t.isLead()&&this.safeToRemove()}))}componentWillUnmount(){const{visualElement:t,layoutGroup:n,switchLayoutGroup:r}=this.props,{projection:s}=t;s&&(s.scheduleCheckAfterUnmount(),n&&n.group&&n.group.remove(s),r&&r.deregister&&r.deregister(s))}safeToRemove(){const{safeToRemove:t}=this.props;t&&t()}render(){return null}}function HO(e){const[t,n]=KI(),r=x.useContext(PN);return g.jsx(aq,{...e,layoutGroup:r,switchLayoutGroup:x.useContext($N),isPresent:t,safeToRemove:n})}const sq={borderRadius:{...Wu,applyTo:["borderTopLeftRadius","borderTopRightRadius","borderBottomLeftRadius","borderBottomRightRadius"]},borderTopLeftRadius:Wu,borderTopRightRadius:Wu,borderBottomLeftRadius:Wu,borderBottomRightRadius:Wu,boxShadow:rq};function iq(e,t,n){const r=fr(e)?e:xc(e);return r.start(jx("",r,t,n)),r.animation}const oq=(e,t)=>e.depth-t.depth;class lq{constructor(){this.children=[],this.isDirty=!1}add(t){bx(this.children,t),this.isDirty=!0}remove(t){xx(this.children,t),this.isDirty=!0}forEach(t){this.isDirty&&this.children.sort(oq),this.isDirty=!1,this.children.forEach(t)}}function cq(e,t){const n=Vr.now(),r=({timestamp:s})=>{const o=s-n;o>=t&&(Xi(r),e(o-t))};return dn.setup(r,!0),()=>Xi(r)}const $O=["TopLeft","TopRight","BottomLeft","BottomRight"],uq=$O.length,_M=e=>typeof e=="string"?parseFloat(e):e,AM=e=>typeof e=="number"||at.test(e);function dq(e,t,n,r,s,o){s?(e.opacity=cn(0,n.opacity??1,fq(r)),e.opacityExit=cn(t.opacity??1,0,hq(r))):o&&(e.opacity=cn(t.opacity??1,n.opacity??1,r));for(let c=0;c<uq;c++){const u=`border${$O[c]}Radius`;let f=RM(t,u),h=RM(n,u);if(f===void 0&&h===void 0)continue;f||(f=0),h||(h=0),f===0||h===0||AM(f)===AM(h)?(e[u]=Math.max(cn(_M(f),_M(h),r),0),(as.test(h)||as.test(f))&&(e[u]+="%")):e[u]=h}(t.rotate||n.rotate)&&(e.rotate=cn(t.rotate||0,n.rotate||0,r))}function RM(e,t){return e[t]!==void 0?e[t]:e.borderRadius}const fq=qO(0,.5,bO),hq=qO(.5,.95,ba);function qO(e,t,n){return r=>r<e?0:r>t?1:n(Pd(e,t,r))}function DM(e,t){e.min=t.min,e.max=t.max}function ma(e,t){DM(e.x,t.x),DM(e.y,t.y)}function NM(e,t){e.translate=t.translate,e.scale=t.scale,e.originPoint=t.originPoint,e.origin=t.origin}function OM(e,t,n,r,s){return e-=t,e=km(e,1/n,r),s!==void 0&&(e=km(e,1/s,r)),e}function mq(e,t=0,n=1,r=.5,s,o=e,c=e){if(as.test(t)&&(t=parseFloat(t),t=cn(c.min,c.max,t/100)-c.min),typeof t!="number")return;let u=cn(o.min,o.max,r);e===o&&(u-=t),e.min=OM(e.min,t,n,u,s),e.max=OM(e.max,t,n,u,s)}function kM(e,t,[n,r,s],o,c){mq(e,t[n],t[r],t[s],t.scale,o,c)}const pq=["x","scaleX","originX"],gq=["y","scaleY","originY"];function jM(e,t,n,r){kM(e.x,t,pq,n?n.x:void 0,r?r.x:void 0),kM(e.y,t,gq,n?n.y:void 0,r?r.y:void 0)}function PM(e){return e.translate===0&&e.scale===1}function YO(e){return PM(e.x)&&PM(e.y)}function LM(e,t){return e.min===t.min&&e.max===t.max}function yq(e,t){return LM(e.x,t.x)&&LM(e.y,t.y)}function VM(e,t){return Math.round(e.min)===Math.round(t.min)&&Math.round(e.max)===Math.round(t.max)}function GO(e,t){return VM(e.x,t.x)&&VM(e.y,t.y)}function zM(e){return xr(e.x)/xr(e.y)}function BM(e,t){return e.translate===t.translate&&e.scale===t.scale&&e.originPoint===t.originPoint}class vq{constructor(){this.members=[]}add(t){bx(this.members,t),t.scheduleRender()}remove(t){if(xx(this.members,t),t===this.prevLead&&(this.prevLead=void 0),t===this.lead){const n=this.members[this.members.length-1];n&&this.promote(n)}}relegate(t){const n=this.members.findIndex(s=>t===s);if(n===0)return!1;let r;for(let s=n;s>=0;s--){const o=this.members[s];if(o.isPresent!==!1){r=o;break}}return r?(this.promote(r),!0):!1}promote(t,n){const r=this.lead;if(t!==r&&(this.prevLead=r,this.lead=t,t.show(),r)){r.instance&&r.scheduleRender(),t.scheduleRender(),t.resumeFrom=r,n&&(t.resumeFrom.preserveOpacity=!0),r.snapshot&&(t.snapshot=r.snapshot,t.snapshot.latestValues=r.animationValues||r.latestValues),t.root&&t.root.isUpdating&&(t.isLayoutDirty=!0);const{crossfade:s}=t.options;s===!1&&r.hide()}}exitAnimationComplete(){this.members.forEach(t=>{const{options:n,resumingFrom:r}=t;n.onExitComplete&&n.onExitComplete(),r&&r.options.onExitComplete&&r.options.onExitComplete()})}scheduleRender(){this.members.forEach(t=>{t.instance&&t.scheduleRender(!1)})}removeLeadSnapshot(){this.lead&&this.lead.snapshot&&(this.lead.snapshot=void 0)}}function bq(e,t,n){let r="";const s=e.x.translate/t.x,o=e.y.translate/t.y,c=(n==null?void 0:n.z)||0;if((s||o||c)&&(r=`translate3d(${s}px, ${o}px, ${c}px) `),(t.x!==1||t.y!==1)&&(r+=`scale(${1/t.x}, ${1/t.y}) `),n){const{transformPerspective:h,rotate:m,rotateX:p,rotateY:b,skewX:w,skewY:S}=n;h&&(r=`perspective(${h}px) ${r}`),m&&(r+=`rotate(${m}deg) `),p&&(r+=`rotateX(${p}deg) `),b&&(r+=`rotateY(${b}deg) `),w&&(r+=`skewX(${w}deg) `),S&&(r+=`skewY(${S}deg) `)}const u=e.x.scale*t.x,f=e.y.scale*t.y;return(u!==1||f!==1)&&(r+=`scale(${u}, ${f})`),r||"none"}function WO(e){return VN(e)&&"ownerSVGElement"in e}function xq(e){return WO(e)&&e.tagName==="svg"}const sv=["","X","Y","Z"],wq={visibility:"hidden"},Sq=1e3;let Eq=0;function iv(e,t,n,r){const{latestValues:s}=t;s[e]&&(n[e]=s[e],t.setStaticValue(e,0),r&&(r[e]=0))}function KO(e){if(e.hasCheckedOptimisedAppear=!0,e.root===e)return;const{visualElement:t}=e.options;if(!t)return;const n=nO(t);if(window.MotionHasOptimisedAnimation(n,"transform")){const{layout:s,layoutId:o}=e.options;window.MotionCancelOptimisedAnimation(n,"transform",dn,!(s||o))}const{parent:r}=e;r&&!r.hasCheckedOptimisedAppear&&KO(r)}function ZO({attachResizeListener:e,defaultParent:t,measureScroll:n,checkIsScrollRoot:r,resetTransform:s}){return class{constructor(c={},u=t==null?void 0:t()){this.id=Eq++,this.animationId=0,this.children=new Set,this.options={},this.isTreeAnimating=!1,this.isAnimationBlocked=!1,this.isLayoutDirty=!1,this.isProjectionDirty=!1,this.isSharedProjectionDirty=!1,this.isTransformDirty=!1,this.updateManuallyBlocked=!1,this.updateBlockedByResize=!1,this.isUpdating=!1,this.isSVG=!1,this.needsReset=!1,this.shouldResetTransform=!1,this.hasCheckedOptimisedAppear=!1,this.treeScale={x:1,y:1},this.eventHandlers=new Map,this.hasTreeAnimated=!1,this.updateScheduled=!1,this.scheduleUpdate=()=>this.update(),this.projectionUpdateScheduled=!1,this.checkUpdateFailed=()=>{this.isUpdating&&(this.isUpdating=!1,this.clearAllSnapshots())},this.updateProjection=()=>{this.projectionUpdateScheduled=!1,this.nodes.forEach(Mq),this.nodes.forEach(Nq),this.nodes.forEach(Oq),this.nodes.forEach(_q)},this.resolvedRelativeTargetAt=0,this.hasProjected=!1,this.isVisible=!0,this.animationProgress=0,this.sharedNodes=new Map,this.latestValues=c,this.root=u?u.root||u:this,this.path=u?[...u.path,u]:[],this.parent=u,this.depth=u?u.depth+1:0;for(let f=0;f<this.path.length;f++)this.path[f].shouldResetTransform=!0;this.root===this&&(this.nodes=new lq)}addEventListener(c,u){return this.eventHandlers.has(c)||this.eventHandlers.set(c,new wx),this.eventHandlers.get(c).add(u)}notifyListeners(c,...u){const f=this.eventHandlers.get(c);f&&f.notify(...u)}hasListeners(c){return this.eventHandlers.has(c)}mount(c){if(this.instance)return;this.isSVG=WO(c)&&!xq(c),this.instance=c;const{layoutId:u,layout:f,visualElement:h}=this.options;if(h&&!h.current&&h.mount(c),this.root.nodes.add(this),this.parent&&this.parent.children.add(this),this.root.hasTreeAnimated&&(f||u)&&(this.isLayoutDirty=!0),e){let m;const p=()=>this.root.updateBlockedByResize=!1;e(c,()=>{this.root.updateBlockedByResize=!0,m&&m(),m=cq(p,250),tm.hasAnimatedSinceResize&&(tm.hasAnimatedSinceResize=!1,this.nodes.forEach(FM))})}u&&this.root.registerSharedNode(u,this),this.options.animate!==!1&&h&&(u||f)&&this.addEventListener("didUpdate",({delta:m,hasLayoutChanged:p,hasRelativeLayoutChanged:b,layout:w})=>{if(this.isTreeAnimationBlocked()){this.target=void 0,this.relativeTarget=void 0;return}const S=this.options.transition||h.getDefaultTransition()||Vq,{onLayoutAnimationStart:E,onLayoutAnimationComplete:C}=h.getProps(),T=!this.targetLayout||!GO(this.targetLayout,w),_=!p&&b;if(this.options.layoutRoot||this.resumeFrom||_||p&&(T||!this.currentAnimation)){this.resumeFrom&&(this.resumingFrom=this.resumeFrom,this.resumingFrom.resumingFrom=void 0);const A={...Sx(S,"layout"),onPlay:E,onComplete:C};(h.shouldReduceMotion||this.options.layoutRoot)&&(A.delay=0,A.type=!1),this.startAnimation(A),this.setAnimationOrigin(m,_)}else p||FM(this),this.isLead()&&this.options.onExitComplete&&this.options.onExitComplete();this.targetLayout=w})}unmount(){this.options.layoutId&&this.willUpdate(),this.root.nodes.remove(this);const c=this.getStack();c&&c.remove(this),this.parent&&this.parent.children.delete(this),this.instance=void 0,this.eventHandlers.clear(),Xi(this.updateProjection)}blockUpdate(){this.updateManuallyBlocked=!0}unblockUpdate(){this.updateManuallyBlocked=!1}isUpdateBlocked(){return this.updateManuallyBlocked||this.updateBlockedByResize}isTreeAnimationBlocked(){return this.isAnimationBlocked||this.parent&&this.parent.isTreeAnimationBlocked()||!1}startUpdate(){this.isUpdateBlocked()||(this.isUpdating=!0,this.nodes&&this.nodes.forEach(kq),this.animationId++)}getTransformTemplate(){const{visualElement:c}=this.options;return c&&c.getProps().transformTemplate}willUpdate(c=!0){if(this.root.hasTreeAnimated=!0,this.root.isUpdateBlocked()){this.options.onExitComplete&&this.options.onExitComplete();return}if(window.MotionCancelOptimisedAnimation&&!this.hasCheckedOptimisedAppear&&KO(this),!this.root.isUpdating&&this.root.startUpdate(),this.isLayoutDirty)return;this.isLayoutDirty=!0;for(let m=0;m<this.path.length;m++){const p=this.path[m];p.shouldResetTransform=!0,p.updateScroll("snapshot"),p.options.layoutRoot&&p.willUpdate(!1)}const{layoutId:u,layout:f}=this.options;if(u===void 0&&!f)return;const h=this.getTransformTemplate();this.prevTransformTemplateValue=h?h(this.latestValues,""):void 0,this.updateSnapshot(),c&&this.notifyListeners("willUpdate")}update(){if(this.updateScheduled=!1,this.isUpdateBlocked()){this.unblockUpdate(),this.clearAllSnapshots(),this.nodes.forEach(UM);return}this.isUpdating||this.nodes.forEach(Rq),this.isUpdating=!1,this.nodes.forEach(Dq),this.nodes.forEach(Cq),this.nodes.forEach(Tq),this.clearAllSnapshots();const u=Vr.now();rr.delta=qs(0,1e3/60,u-rr.timestamp),rr.timestamp=u,rr.isProcessing=!0,Qy.update.process(rr),Qy.preRender.process(rr),Qy.render.process(rr),rr.isProcessing=!1}didUpdate(){this.updateScheduled||(this.updateScheduled=!0,cx.read(this.scheduleUpdate))}clearAllSnapshots(){this.nodes.forEach(Aq),this.sharedNodes.forEach(jq)}scheduleUpdateProjection(){this.projectionUpdateScheduled||(this.projectionUpdateScheduled=!0,dn.preRender(this.updateProjection,!1,!0))}scheduleCheckAfterUnmount(){dn.postRender(()=>{this.isLayoutDirty?this.root.didUpdate():this.root.checkUpdateFailed()})}updateSnapshot(){this.snapshot||!this.instance||(this.snapshot=this.measure(),this.snapshot&&!xr(this.snapshot.measuredBox.x)&&!xr(this.snapshot.measuredBox.y)&&(this.snapshot=void 0))}updateLayout(){if(!this.instance||(this.updateScroll(),!(this.options.alwaysMeasureLayout&&this.isLead())&&!this.isLayoutDirty))return;if(this.resumeFrom&&!this.resumeFrom.instance)for(let f=0;f<this.path.length;f++)this.path[f].updateScroll();const c=this.layout;this.layout=this.measure(!1),this.layoutCorrected=wn(),this.isLayoutDirty=!1,this.projectionDelta=void 0,this.notifyListeners("measure",this.layout.layoutBox);const{visualElement:u}=this.options;u&&u.notify("LayoutMeasure",this.layout.layoutBox,c?c.layoutBox:void 0)}updateScroll(c="measure"){let u=!!(this.options.layoutScroll&&this.instance);if(this.scroll&&this.scroll.animationId===this.root.animationId&&this.scroll.phase===c&&(u=!1),u&&this.instance){const f=r(this.instance);this.scroll={animationId:this.root.animationId,phase:c,isRoot:f,offset:n(this.instance),wasRoot:this.scroll?this.scroll.isRoot:f}}}resetTransform(){if(!s)return;const c=this.isLayoutDirty||this.shouldResetTransform||this.options.alwaysMeasureLayout,u=this.projectionDelta&&!YO(this.projectionDelta),f=this.getTransformTemplate(),h=f?f(this.latestValues,""):void 0,m=h!==this.prevTransformTemplateValue;c&&this.instance&&(u||Eo(this.latestValues)||m)&&(s(this.instance,h),this.shouldResetTransform=!1,this.scheduleRender())}measure(c=!0){const u=this.measurePageBox();let f=this.removeElementScroll(u);return c&&(f=this.removeTransform(f)),zq(f),{animationId:this.root.animationId,measuredBox:u,layoutBox:f,latestValues:{},source:this.id}}measurePageBox(){var h;const{visualElement:c}=this.options;if(!c)return wn();const u=c.measureViewportBox();if(!(((h=this.scroll)==null?void 0:h.wasRoot)||this.path.some(Bq))){const{scroll:m}=this.root;m&&(Yl(u.x,m.offset.x),Yl(u.y,m.offset.y))}return u}removeElementScroll(c){var f;const u=wn();if(ma(u,c),(f=this.scroll)!=null&&f.wasRoot)return u;for(let h=0;h<this.path.length;h++){const m=this.path[h],{scroll:p,options:b}=m;m!==this.root&&p&&b.layoutScroll&&(p.wasRoot&&ma(u,c),Yl(u.x,p.offset.x),Yl(u.y,p.offset.y))}return u}applyTransform(c,u=!1){const f=wn();ma(f,c);for(let h=0;h<this.path.length;h++){const m=this.path[h];!u&&m.options.layoutScroll&&m.scroll&&m!==m.root&&Gl(f,{x:-m.scroll.offset.x,y:-m.scroll.offset.y}),Eo(m.latestValues)&&Gl(f,m.latestValues)}return Eo(this.latestValues)&&Gl(f,this.latestValues),f}removeTransform(c){const u=wn();ma(u,c);for(let f=0;f<this.path.length;f++){const h=this.path[f];if(!h.instance||!Eo(h.latestValues))continue;kb(h.latestValues)&&h.updateSnapshot();const m=wn(),p=h.measurePageBox();ma(m,p),jM(u,h.latestValues,h.snapshot?h.snapshot.layoutBox:void 0,m)}return Eo(this.latestValues)&&jM(u,this.latestValues),u}setTargetDelta(c){this.targetDelta=c,this.root.scheduleUpdateProjection(),this.isProjectionDirty=!0}setOptions(c){this.options={...this.options,...c,crossfade:c.crossfade!==void 0?c.crossfade:!0}}clearMeasurements(){this.scroll=void 0,this.layout=void 0,this.snapshot=void 0,this.prevTransformTemplateValue=void 0,this.targetDelta=void 0,this.target=void 0,this.isLayoutDirty=!1}forceRelativeParentToResolveTarget(){this.relativeParent&&this.relativeParent.resolvedRelativeTargetAt!==rr.timestamp&&this.relativeParent.resolveTargetDelta(!0)}resolveTargetDelta(c=!1){var b;const u=this.getLead();this.isProjectionDirty||(this.isProjectionDirty=u.isProjectionDirty),this.isTransformDirty||(this.isTransformDirty=u.isTransformDirty),this.isSharedProjectionDirty||(this.isSharedProjectionDirty=u.isSharedProjectionDirty);const f=!!this.resumingFrom||this!==u;if(!(c||f&&this.isSharedProjectionDirty||this.isProjectionDirty||(b=this.parent)!=null&&b.isProjectionDirty||this.attemptToResolveRelativeTarget||this.root.updateBlockedByResize))return;const{layout:m,layoutId:p}=this.options;if(!(!this.layout||!(m||p))){if(this.resolvedRelativeTargetAt=rr.timestamp,!this.targetDelta&&!this.relativeTarget){const w=this.getClosestProjectingParent();w&&w.layout&&this.animationProgress!==1?(this.relativeParent=w,this.forceRelativeParentToResolveTarget(),this.relativeTarget=wn(),this.relativeTargetOrigin=wn(),pd(this.relativeTargetOrigin,this.layout.layoutBox,w.layout.layoutBox),ma(this.relativeTarget,this.relativeTargetOrigin)):this.relativeParent=this.relativeTarget=void 0}if(!(!this.relativeTarget&&!this.targetDelta)&&(this.target||(this.target=wn(),this.targetWithTransforms=wn()),this.relativeTarget&&this.relativeTargetOrigin&&this.relativeParent&&this.relativeParent.target?(this.forceRelativeParentToResolveTarget(),B$(this.target,this.relativeTarget,this.relativeParent.target)):this.targetDelta?(this.resumingFrom?this.target=this.applyTransform(this.layout.layoutBox):ma(this.target,this.layout.layoutBox),VO(this.target,this.targetDelta)):ma(this.target,this.layout.layoutBox),this.attemptToResolveRelativeTarget)){this.attemptToResolveRelativeTarget=!1;const w=this.getClosestProjectingParent();w&&!!w.resumingFrom==!!this.resumingFrom&&!w.options.layoutScroll&&w.target&&this.animationProgress!==1?(this.relativeParent=w,this.forceRelativeParentToResolveTarget(),this.relativeTarget=wn(),this.relativeTargetOrigin=wn(),pd(this.relativeTargetOrigin,this.target,w.target),ma(this.relativeTarget,this.relativeTargetOrigin)):this.relativeParent=this.relativeTarget=void 0}}}getClosestProjectingParent(){if(!(!this.parent||kb(this.parent.latestValues)||LO(this.parent.latestValues)))return this.parent.isProjecting()?this.parent:this.parent.getClosestProjectingParent()}isProjecting(){return!!((this.relativeTarget||this.targetDelta||this.options.layoutRoot)&&this.layout)}calcProjection(){var S;const c=this.getLead(),u=!!this.resumingFrom||this!==c;let f=!0;if((this.isProjectionDirty||(S=this.parent)!=null&&S.isProjectionDirty)&&(f=!1),u&&(this.isSharedProjectionDirty||this.isTransformDirty)&&(f=!1),this.resolvedRelativeTargetAt===rr.timestamp&&(f=!1),f)return;const{layout:h,layoutId:m}=this.options;if(this.isTreeAnimating=!!(this.parent&&this.parent.isTreeAnimating||this.currentAnimation||this.pendingAnimation),this.isTreeAnimating||(this.targetDelta=this.relativeTarget=void 0),!this.layout||!(h||m))return;ma(this.layoutCorrected,this.layout.layoutBox);const p=this.treeScale.x,b=this.treeScale.y;U$(this.layoutCorrected,this.treeScale,this.path,u),c.layout&&!c.target&&(this.treeScale.x!==1||this.treeScale.y!==1)&&(c.target=c.layout.layoutBox,c.targetWithTransforms=wn());const{target:w}=c;if(!w){this.prevProjectionDelta&&(this.createProjectionDeltas(),this.scheduleRender());return}!this.projectionDelta||!this.prevProjectionDelta?this.createProjectionDeltas():(NM(this.prevProjectionDelta.x,this.projectionDelta.x),NM(this.prevProjectionDelta.y,this.projectionDelta.y)),md(this.projectionDelta,this.layoutCorrected,w,this.latestValues),(this.treeScale.x!==p||this.treeScale.y!==b||!BM(this.projectionDelta.x,this.prevProjectionDelta.x)||!BM(this.projectionDelta.y,this.prevProjectionDelta.y))&&(this.hasProjected=!0,this.scheduleRender(),this.notifyListeners("projectionUpdate",w))}hide(){this.isVisible=!1}show(){this.isVisible=!0}scheduleRender(c=!0){var u;if((u=this.options.visualElement)==null||u.scheduleRender(),c){const f=this.getStack();f&&f.scheduleRender()}this.resumingFrom&&!this.resumingFrom.instance&&(this.resumingFrom=void 0)}createProjectionDeltas(){this.prevProjectionDelta=ql(),this.projectionDelta=ql(),this.projectionDeltaWithTransform=ql()}setAnimationOrigin(c,u=!1){const f=this.snapshot,h=f?f.latestValues:{},m={...this.latestValues},p=ql();(!this.relativeParent||!this.relativeParent.options.layoutRoot)&&(this.relativeTarget=this.relativeTargetOrigin=void 0),this.attemptToResolveRelativeTarget=!u;const b=wn(),w=f?f.source:void 0,S=this.layout?this.layout.source:void 0,E=w!==S,C=this.getStack(),T=!C||C.members.length<=1,_=!!(E&&!T&&this.options.crossfade===!0&&!this.path.some(Lq));this.animationProgress=0;let A;this.mixTargetDelta=O=>{const R=O/1e3;IM(p.x,c.x,R),IM(p.y,c.y,R),this.setTargetDelta(p),this.relativeTarget&&this.relativeTargetOrigin&&this.layout&&this.relativeParent&&this.relativeParent.layout&&(pd(b,this.layout.layoutBox,this.relativeParent.layout.layoutBox),Pq(this.relativeTarget,this.relativeTargetOrigin,b,R),A&&yq(this.relativeTarget,A)&&(this.isProjectionDirty=!1),A||(A=wn()),ma(A,this.relativeTarget)),E&&(this.animationValues=m,dq(m,h,this.latestValues,R,_,T)),this.root.scheduleUpdateProjection(),this.scheduleRender(),this.animationProgress=R},this.mixTargetDelta(this.options.layoutRoot?1e3:0)}startAnimation(c){var u,f,h;this.notifyListeners("animationStart"),(u=this.currentAnimation)==null||u.stop(),(h=(f=this.resumingFrom)==null?void 0:f.currentAnimation)==null||h.stop(),this.pendingAnimation&&(Xi(this.pendingAnimation),this.pendingAnimation=void 0),this.pendingAnimation=dn.update(()=>{tm.hasAnimatedSinceResize=!0,this.motionValue||(this.motionValue=xc(0)),this.currentAnimation=iq(this.motionValue,[0,1e3],{...c,velocity:0,isSync:!0,onUpdate:m=>{this.mixTargetDelta(m),c.onUpdate&&c.onUpdate(m)},onStop:()=>{},onComplete:()=>{c.onComplete&&c.onComplete(),this.completeAnimation()}}),this.resumingFrom&&(this.resumingFrom.currentAnimation=this.currentAnimation),this.pendingAnimation=void 0})}completeAnimation(){this.resumingFrom&&(this.resumingFrom.currentAnimation=void 0,this.resumingFrom.preserveOpacity=void 0);const c=this.getStack();c&&c.exitAnimationComplete(),this.resumingFrom=this.currentAnimation=this.animationValues=void 0,this.notifyListeners("animationComplete")}finishAnimation(){this.currentAnimation&&(this.mixTargetDelta&&this.mixTargetDelta(Sq),this.currentAnimation.stop()),this.completeAnimation()}applyTransformsToTarget(){const c=this.getLead();let{targetWithTransforms:u,target:f,layout:h,latestValues:m}=c;if(!(!u||!f||!h)){if(this!==c&&this.layout&&h&&XO(this.options.animationType,this.layout.layoutBox,h.layoutBox)){f=this.target||wn();const p=xr(this.layout.layoutBox.x);f.x.min=c.target.x.min,f.x.max=f.x.min+p;const b=xr(this.layout.layoutBox.y);f.y.min=c.target.y.min,f.y.max=f.y.min+b}ma(u,f),Gl(u,m),md(this.projectionDeltaWithTransform,this.layoutCorrected,u,m)}}registerSharedNode(c,u){this.sharedNodes.has(c)||this.sharedNodes.set(c,new vq),this.sharedNodes.get(c).add(u);const h=u.options.initialPromotionConfig;u.promote({transition:h?h.transition:void 0,preserveFollowOpacity:h&&h.shouldPreserveFollowOpacity?h.shouldPreserveFollowOpacity(u):void 0})}isLead(){const c=this.getStack();return c?c.lead===this:!0}getLead(){var u;const{layoutId:c}=this.options;return c?((u=this.getStack())==null?void 0:u.lead)||this:this}getPrevLead(){var u;const{layoutId:c}=this.options;return c?(u=this.getStack())==null?void 0:u.prevLead:void 0}getStack(){const{layoutId:c}=this.options;if(c)return this.root.sharedNodes.get(c)}promote({needsReset:c,transition:u,preserveFollowOpacity:f}={}){const h=this.getStack();h&&h.promote(this,f),c&&(this.projectionDelta=void 0,this.needsReset=!0),u&&this.setOptions({transition:u})}relegate(){const c=this.getStack();return c?c.relegate(this):!1}resetSkewAndRotation(){const{visualElement:c}=this.options;if(!c)return;let u=!1;const{latestValues:f}=c;if((f.z||f.rotate||f.rotateX||f.rotateY||f.rotateZ||f.skewX||f.skewY)&&(u=!0),!u)return;const h={};f.z&&iv("z",c,h,this.animationValues);for(let m=0;m<sv.length;m++)iv(`rotate${sv[m]}`,c,h,this.animationValues),iv(`skew${sv[m]}`,c,h,this.animationValues);c.render();for(const m in h)c.setStaticValue(m,h[m]),this.animationValues&&(this.animationValues[m]=h[m]);c.scheduleRender()}getProjectionStyles(c){if(!this.instance||this.isSVG)return;if(!this.isVisible)return wq;const u={visibility:""},f=this.getTransformTemplate();if(this.needsReset)return this.needsReset=!1,u.opacity="",u.pointerEvents=Jh(c==null?void 0:c.pointerEvents)||"",u.transform=f?f(this.latestValues,""):"none",u;const h=this.getLead();if(!this.projectionDelta||!this.layout||!h.target){const w={};return this.options.layoutId&&(w.opacity=this.latestValues.opacity!==void 0?this.latestValues.opacity:1,w.pointerEvents=Jh(c==null?void 0:c.pointerEvents)||""),this.hasProjected&&!Eo(this.latestValues)&&(w.transform=f?f({},""):"none",this.hasProjected=!1),w}const m=h.animationValues||h.latestValues;this.applyTransformsToTarget(),u.transform=bq(this.projectionDeltaWithTransform,this.treeScale,m),f&&(u.transform=f(m,u.transform));const{x:p,y:b}=this.projectionDelta;u.transformOrigin=`${p.origin*100}% ${b.origin*100}% 0`,h.animationValues?u.opacity=h===this?m.opacity??this.latestValues.opacity??1:this.preserveOpacity?this.latestValues.opacity:m.opacityExit:u.opacity=h===this?m.opacity!==void 0?m.opacity:"":m.opacityExit!==void 0?m.opacityExit:0;for(const w in Nd){if(m[w]===void 0)continue;const{correct:S,applyTo:E,isCSSVariable:C}=Nd[w],T=u.transform==="none"?m[w]:S(m[w],h);if(E){const _=E.length;for(let A=0;A<_;A++)u[E[A]]=T}else C?this.options.visualElement.renderState.vars[w]=T:u[w]=T}return this.options.layoutId&&(u.pointerEvents=h===this?Jh(c==null?void 0:c.pointerEvents)||"":"none"),u}clearSnapshot(){this.resumeFrom=this.snapshot=void 0}resetTree(){this.root.nodes.forEach(c=>{var u;return(u=c.currentAnimation)==null?void 0:u.stop()}),this.root.nodes.forEach(UM),this.root.sharedNodes.clear()}}}function Cq(e){e.updateLayout()}function Tq(e){var n;const t=((n=e.resumeFrom)==null?void 0:n.snapshot)||e.snapshot;if(e.isLead()&&e.layout&&t&&e.hasListeners("didUpdate")){const{layoutBox:r,measuredBox:s}=e.layout,{animationType:o}=e.options,c=t.source!==e.layout.source;o==="size"?pa(p=>{const b=c?t.measuredBox[p]:t.layoutBox[p],w=xr(b);b.min=r[p].min,b.max=b.min+w}):XO(o,t.layoutBox,r)&&pa(p=>{const b=c?t.measuredBox[p]:t.layoutBox[p],w=xr(r[p]);b.max=b.min+w,e.relativeTarget&&!e.currentAnimation&&(e.isProjectionDirty=!0,e.relativeTarget[p].max=e.relativeTarget[p].min+w)});const u=ql();md(u,r,t.layoutBox);const f=ql();c?md(f,e.applyTransform(s,!0),t.measuredBox):md(f,r,t.layoutBox);const h=!YO(u);let m=!1;if(!e.resumeFrom){const p=e.getClosestProjectingParent();if(p&&!p.resumeFrom){const{snapshot:b,layout:w}=p;if(b&&w){const S=wn();pd(S,t.layoutBox,b.layoutBox);const E=wn();pd(E,r,w.layoutBox),GO(S,E)||(m=!0),p.options.layoutRoot&&(e.relativeTarget=E,e.relativeTargetOrigin=S,e.relativeParent=p)}}}e.notifyListeners("didUpdate",{layout:r,snapshot:t,delta:f,layoutDelta:u,hasLayoutChanged:h,hasRelativeLayoutChanged:m})}else if(e.isLead()){const{onExitComplete:r}=e.options;r&&r()}e.options.transition=void 0}function Mq(e){e.parent&&(e.isProjecting()||(e.isProjectionDirty=e.parent.isProjectionDirty),e.isSharedProjectionDirty||(e.isSharedProjectionDirty=!!(e.isProjectionDirty||e.parent.isProjectionDirty||e.parent.isSharedProjectionDirty)),e.isTransformDirty||(e.isTransformDirty=e.parent.isTransformDirty))}function _q(e){e.isProjectionDirty=e.isSharedProjectionDirty=e.isTransformDirty=!1}function Aq(e){e.clearSnapshot()}function UM(e){e.clearMeasurements()}function Rq(e){e.isLayoutDirty=!1}function Dq(e){const{visualElement:t}=e.options;t&&t.getProps().onBeforeLayoutMeasure&&t.notify("BeforeLayoutMeasure"),e.resetTransform()}function FM(e){e.finishAnimation(),e.targetDelta=e.relativeTarget=e.target=void 0,e.isProjectionDirty=!0}function Nq(e){e.resolveTargetDelta()}function Oq(e){e.calcProjection()}function kq(e){e.resetSkewAndRotation()}function jq(e){e.removeLeadSnapshot()}function IM(e,t,n){e.translate=cn(t.translate,0,n),e.scale=cn(t.scale,1,n),e.origin=t.origin,e.originPoint=t.originPoint}function HM(e,t,n,r){e.min=cn(t.min,n.min,r),e.max=cn(t.max,n.max,r)}function Pq(e,t,n,r){HM(e.x,t.x,n.x,r),HM(e.y,t.y,n.y,r)}function Lq(e){return e.animationValues&&e.animationValues.opacityExit!==void 0}const Vq={duration:.45,ease:[.4,0,.1,1]},$M=e=>typeof navigator<"u"&&navigator.userAgent&&navigator.userAgent.toLowerCase().includes(e),qM=$M("applewebkit/")&&!$M("chrome/")?Math.round:ba;function YM(e){e.min=qM(e.min),e.max=qM(e.max)}function zq(e){YM(e.x),YM(e.y)}function XO(e,t,n){return e==="position"||e==="preserve-aspect"&&!z$(zM(t),zM(n),.2)}function Bq(e){var t;return e!==e.root&&((t=e.scroll)==null?void 0:t.wasRoot)}const Uq=ZO({attachResizeListener:(e,t)=>Ld(e,"resize",t),measureScroll:()=>({x:document.documentElement.scrollLeft||document.body.scrollLeft,y:document.documentElement.scrollTop||document.body.scrollTop}),checkIsScrollRoot:()=>!0}),ov={current:void 0},QO=ZO({measureScroll:e=>({x:e.scrollLeft,y:e.scrollTop}),defaultParent:()=>{if(!ov.current){const e=new Uq({});e.mount(window),e.setOptions({layoutScroll:!0}),ov.current=e}return ov.current},resetTransform:(e,t)=>{e.style.transform=t!==void 0?t:"none"},checkIsScrollRoot:e=>window.getComputedStyle(e).position==="fixed"}),Fq={pan:{Feature:nq},drag:{Feature:tq,ProjectionNode:QO,MeasureLayout:HO}};function Iq(e,t,n){if(e instanceof EventTarget)return[e];if(typeof e=="string"){let r=document;const s=(n==null?void 0:n[e])??r.querySelectorAll(e);return s?Array.from(s):[]}return Array.from(e)}function JO(e,t){const n=Iq(e),r=new AbortController,s={passive:!0,...t,signal:r.signal};return[n,s,()=>r.abort()]}function GM(e){return!(e.pointerType==="touch"||IO())}function Hq(e,t,n={}){const[r,s,o]=JO(e,n),c=u=>{if(!GM(u))return;const{target:f}=u,h=t(f,u);if(typeof h!="function"||!f)return;const m=p=>{GM(p)&&(h(p),f.removeEventListener("pointerleave",m))};f.addEventListener("pointerleave",m,s)};return r.forEach(u=>{u.addEventListener("pointerenter",c,s)}),o}function WM(e,t,n){const{props:r}=e;e.animationState&&r.whileHover&&e.animationState.setActive("whileHover",n==="Start");const s="onHover"+n,o=r[s];o&&dn.postRender(()=>o(t,cf(t)))}class $q extends to{mount(){const{current:t}=this.node;t&&(this.unmount=Hq(t,(n,r)=>(WM(this.node,r,"Start"),s=>WM(this.node,s,"End"))))}unmount(){}}class qq extends to{constructor(){super(...arguments),this.isActive=!1}onFocus(){let t=!1;try{t=this.node.current.matches(":focus-visible")}catch{t=!0}!t||!this.node.animationState||(this.node.animationState.setActive("whileFocus",!0),this.isActive=!0)}onBlur(){!this.isActive||!this.node.animationState||(this.node.animationState.setActive("whileFocus",!1),this.isActive=!1)}mount(){this.unmount=of(Ld(this.node.current,"focus",()=>this.onFocus()),Ld(this.node.current,"blur",()=>this.onBlur()))}unmount(){}}const ek=(e,t)=>t?e===t?!0:ek(e,t.parentElement):!1,Yq=new Set(["BUTTON","INPUT","SELECT","TEXTAREA","A"]);function Gq(e){return Yq.has(e.tagName)||e.tabIndex!==-1}const nm=new WeakSet;function KM(e){return t=>{t.key==="Enter"&&e(t)}}function lv(e,t){e.dispatchEvent(new PointerEvent("pointer"+t,{isPrimary:!0,bubbles:!0}))}const Wq=(e,t)=>{const n=e.currentTarget;if(!n)return;const r=KM(()=>{if(nm.has(n))return;lv(n,"down");const s=KM(()=>{lv(n,"up")}),o=()=>lv(n,"cancel");n.addEventListener("keyup",s,t),n.addEventListener("blur",o,t)});n.addEventListener("keydown",r,t),n.addEventListener("blur",()=>n.removeEventListener("keydown",r),t)};function ZM(e){return Px(e)&&!IO()}function Kq(e,t,n={}){const[r,s,o]=JO(e,n),c=u=>{const f=u.currentTarget;if(!ZM(u))return;nm.add(f);const h=t(f,u),m=(w,S)=>{window.removeEventListener("pointerup",p),window.removeEventListener("pointercancel",b),nm.has(f)&&nm.delete(f),ZM(w)&&typeof h=="function"&&h(w,{success:S})},p=w=>{m(w,f===window||f===document||n.useGlobalTarget||ek(f,w.target))},b=w=>{m(w,!1)};window.addEventListener("pointerup",p,s),window.addEventListener("pointercancel",b,s)};return r.forEach(u=>{(n.useGlobalTarget?window:u).addEventListener("pointerdown",c,s),zN(u)&&(u.addEventListener("focus",h=>Wq(h,s)),!Gq(u)&&!u.hasAttribute("tabindex")&&(u.tabIndex=0))}),o}function XM(e,t,n){const{props:r}=e;if(e.current instanceof HTMLButtonElement&&e.current.disabled)return;e.animationState&&r.whileTap&&e.animationState.setActive("whileTap",n==="Start");const s="onTap"+(n==="End"?"":n),o=r[s];o&&dn.postRender(()=>o(t,cf(t)))}class Zq extends to{mount(){const{current:t}=this.node;t&&(this.unmount=Kq(t,(n,r)=>(XM(this.node,r,"Start"),(s,{success:o})=>XM(this.node,s,o?"End":"Cancel")),{useGlobalTarget:this.node.props.globalTapTarget}))}unmount(){}}const Lb=new WeakMap,cv=new WeakMap,Xq=e=>{const t=Lb.get(e.target);t&&t(e)},Qq=e=>{e.forEach(Xq)};function Jq({root:e,...t}){const n=e||document;cv.has(n)||cv.set(n,{});const r=cv.get(n),s=JSON.stringify(t);return r[s]||(r[s]=new IntersectionObserver(Qq,{root:e,...t})),r[s]}function eY(e,t,n){const r=Jq(t);return Lb.set(e,n),r.observe(e),()=>{Lb.delete(e),r.unobserve(e)}}const tY={some:0,all:1};class nY extends to{constructor(){super(...arguments),this.hasEnteredView=!1,this.isInView=!1}startObserver(){this.unmount();const{viewport:t={}}=this.node.getProps(),{root:n,margin:r,amount:s="some",once:o}=t,c={root:n?n.current:void 0,rootMargin:r,threshold:typeof s=="number"?s:tY[s]},u=f=>{const{isIntersecting:h}=f;if(this.isInView===h||(this.isInView=h,o&&!h&&this.hasEnteredView))return;h&&(this.hasEnteredView=!0),this.node.animationState&&this.node.animationState.setActive("whileInView",h);const{onViewportEnter:m,onViewportLeave:p}=this.node.getProps(),b=h?m:p;b&&b(f)};return eY(this.node.current,c,u)}mount(){this.startObserver()}update(){if(typeof IntersectionObserver>"u")return;const{props:t,prevProps:n}=this.node;["amount","margin","root"].some(rY(t,n))&&this.startObserver()}unmount(){}}function rY({viewport:e={}},{viewport:t={}}={}){return n=>e[n]!==t[n]}const aY={inView:{Feature:nY},tap:{Feature:Zq},focus:{Feature:qq},hover:{Feature:$q}},sY={layout:{ProjectionNode:QO,MeasureLayout:HO}},Vb={current:null},tk={current:!1};function iY(){if(tk.current=!0,!!ax)if(window.matchMedia){const e=window.matchMedia("(prefers-reduced-motion)"),t=()=>Vb.current=e.matches;e.addListener(t),t()}else Vb.current=!1}const oY=new WeakMap;function lY(e,t,n){for(const r in t){const s=t[r],o=n[r];if(fr(s))e.addValue(r,s);else if(fr(o))e.addValue(r,xc(s,{owner:e}));else if(o!==s)if(e.hasValue(r)){const c=e.getValue(r);c.liveStyle===!0?c.jump(s):c.hasAnimated||c.set(s)}else{const c=e.getStaticValue(r);e.addValue(r,xc(c!==void 0?c:s,{owner:e}))}}for(const r in n)t[r]===void 0&&e.removeValue(r);return t}const nk=e=>/^-?(?:\d+(?:\.\d+)?|\.\d+)$/u.test(e),rk=e=>/^0[^.\s]+$/u.test(e),cY={test:e=>e==="auto",parse:e=>e},ak=e=>t=>t.test(e),sk=[Fc,at,as,Ri,vH,yH,cY],QM=e=>sk.find(ak(e)),uY=[...sk,cr,Qi],dY=e=>uY.find(ak(e)),fY=new Set(["brightness","contrast","saturate","opacity"]);function hY(e){const[t,n]=e.slice(0,-1).split("(");if(t==="drop-shadow")return e;const[r]=n.match(Ex)||[];if(!r)return e;const s=n.replace(r,"");let o=fY.has(t)?1:0;return r!==n&&(o*=100),t+"("+o+s+")"}const mY=/\b([a-z-]*)\(.*?\)/gu,zb={...Qi,getAnimatableNone:e=>{const t=e.match(mY);return t?t.map(hY).join(" "):e}},pY={...hx,color:cr,backgroundColor:cr,outlineColor:cr,fill:cr,stroke:cr,borderColor:cr,borderTopColor:cr,borderRightColor:cr,borderBottomColor:cr,borderLeftColor:cr,filter:zb,WebkitFilter:zb},ik=e=>pY[e];function ok(e,t){let n=ik(e);return n!==zb&&(n=Qi),n.getAnimatableNone?n.getAnimatableNone(t):void 0}const JM=["AnimationStart","AnimationComplete","Update","BeforeLayoutMeasure","LayoutMeasure","LayoutAnimationStart","LayoutAnimationComplete"];class gY{scrapeMotionValuesFromProps(t,n,r){return{}}constructor({parent:t,props:n,presenceContext:r,reducedMotionConfig:s,blockInitialAnimation:o,visualState:c},u={}){this.current=null,this.children=new Set,this.isVariantNode=!1,this.isControllingVariants=!1,this.shouldReduceMotion=null,this.values=new Map,this.KeyframeResolver=Ox,this.features={},this.valueSubscriptions=new Map,this.prevMotionValues={},this.events={},this.propEventSubscriptions={},this.notifyUpdate=()=>this.notify("Update",this.latestValues),this.render=()=>{this.current&&(this.triggerBuild(),this.renderInstance(this.current,this.renderState,this.props.style,this.projection))},this.renderScheduledAt=0,this.scheduleRender=()=>{const b=Vr.now();this.renderScheduledAt<b&&(this.renderScheduledAt=b,dn.render(this.render,!1,!0))};const{latestValues:f,renderState:h}=c;this.latestValues=f,this.baseTarget={...f},this.initialValues=n.initial?{...f}:{},this.renderState=h,this.parent=t,this.props=n,this.presenceContext=r,this.depth=t?t.depth+1:0,this.reducedMotionConfig=s,this.options=u,this.blockInitialAnimation=!!o,this.isControllingVariants=up(n),this.isVariantNode=IN(n),this.isVariantNode&&(this.variantChildren=new Set),this.manuallyAnimateOnMount=!!(t&&t.current);const{willChange:m,...p}=this.scrapeMotionValuesFromProps(n,{},this);for(const b in p){const w=p[b];f[b]!==void 0&&fr(w)&&w.set(f[b],!1)}}mount(t){this.current=t,oY.set(t,this),this.projection&&!this.projection.instance&&this.projection.mount(t),this.parent&&this.isVariantNode&&!this.isControllingVariants&&(this.removeFromVariantTree=this.parent.addVariantChild(this)),this.values.forEach((n,r)=>this.bindToMotionValue(r,n)),tk.current||iY(),this.shouldReduceMotion=this.reducedMotionConfig==="never"?!1:this.reducedMotionConfig==="always"?!0:Vb.current,this.parent&&this.parent.children.add(this),this.update(this.props,this.presenceContext)}unmount(){this.projection&&this.projection.unmount(),Xi(this.notifyUpdate),Xi(this.render),this.valueSubscriptions.forEach(t=>t()),this.valueSubscriptions.clear(),this.removeFromVariantTree&&this.removeFromVariantTree(),this.parent&&this.parent.children.delete(this);for(const t in this.events)this.events[t].clear();for(const t in this.features){const n=this.features[t];n&&(n.unmount(),n.isMounted=!1)}this.current=null}bindToMotionValue(t,n){this.valueSubscriptions.has(t)&&this.valueSubscriptions.get(t)();const r=Uc.has(t);r&&this.onBindTransform&&this.onBindTransform();const s=n.on("change",u=>{this.latestValues[t]=u,this.props.onUpdate&&dn.preRender(this.notifyUpdate),r&&this.projection&&(this.projection.isTransformDirty=!0)}),o=n.on("renderRequest",this.scheduleRender);let c;window.MotionCheckAppearSync&&(c=window.MotionCheckAppearSync(this,t,n)),this.valueSubscriptions.set(t,()=>{s(),o(),c&&c(),n.owner&&n.stop()})}sortNodePosition(t){return!this.current||!this.sortInstanceNodePosition||this.type!==t.type?0:this.sortInstanceNodePosition(this.current,t.current)}updateFeatures(){let t="animation";for(t in bc){const n=bc[t];if(!n)continue;const{isEnabled:r,Feature:s}=n;if(!this.features[t]&&s&&r(this.props)&&(this.features[t]=new s(this)),this.features[t]){const o=this.features[t];o.isMounted?o.update():(o.mount(),o.isMounted=!0)}}}triggerBuild(){this.build(this.renderState,this.latestValues,this.props)}measureViewportBox(){return this.current?this.measureInstanceViewportBox(this.current,this.props):wn()}getStaticValue(t){return this.latestValues[t]}setStaticValue(t,n){this.latestValues[t]=n}update(t,n){(t.transformTemplate||this.props.transformTemplate)&&this.scheduleRender(),this.prevProps=this.props,this.props=t,this.prevPresenceContext=this.presenceContext,this.presenceContext=n;for(let r=0;r<JM.length;r++){const s=JM[r];this.propEventSubscriptions[s]&&(this.propEventSubscriptions[s](),delete this.propEventSubscriptions[s]);const o="on"+s,c=t[o];c&&(this.propEventSubscriptions[s]=this.on(s,c))}this.prevMotionValues=lY(this,this.scrapeMotionValuesFromProps(t,this.prevProps,this),this.prevMotionValues),this.handleChildMotionValue&&this.handleChildMotionValue()}getProps(){return this.props}getVariant(t){return this.props.variants?this.props.variants[t]:void 0}getDefaultTransition(){return this.props.transition}getTransformPagePoint(){return this.props.transformPagePoint}getClosestVariantNode(){return this.isVariantNode?this:this.parent?this.parent.getClosestVariantNode():void 0}addVariantChild(t){const n=this.getClosestVariantNode();if(n)return n.variantChildren&&n.variantChildren.add(t),()=>n.variantChildren.delete(t)}addValue(t,n){const r=this.values.get(t);n!==r&&(r&&this.removeValue(t),this.bindToMotionValue(t,n),this.values.set(t,n),this.latestValues[t]=n.get())}removeValue(t){this.values.delete(t);const n=this.valueSubscriptions.get(t);n&&(n(),this.valueSubscriptions.delete(t)),delete this.latestValues[t],this.removeValueFromRenderState(t,this.renderState)}hasValue(t){return this.values.has(t)}getValue(t,n){if(this.props.values&&this.props.values[t])return this.props.values[t];let r=this.values.get(t);return r===void 0&&n!==void 0&&(r=xc(n===null?void 0:n,{owner:this}),this.addValue(t,r)),r}readValue(t,n){let r=this.latestValues[t]!==void 0||!this.current?this.latestValues[t]:this.getBaseTargetFromProps(this.props,t)??this.readValueFromInstance(this.current,t,this.options);return r!=null&&(typeof r=="string"&&(nk(r)||rk(r))?r=parseFloat(r):!dY(r)&&Qi.test(n)&&(r=ok(t,n)),this.setBaseTarget(t,fr(r)?r.get():r)),fr(r)?r.get():r}setBaseTarget(t,n){this.baseTarget[t]=n}getBaseTarget(t){var o;const{initial:n}=this.props;let r;if(typeof n=="string"||typeof n=="object"){const c=yx(this.props,n,(o=this.presenceContext)==null?void 0:o.custom);c&&(r=c[t])}if(n&&r!==void 0)return r;const s=this.getBaseTargetFromProps(this.props,t);return s!==void 0&&!fr(s)?s:this.initialValues[t]!==void 0&&r===void 0?void 0:this.baseTarget[t]}on(t,n){return this.events[t]||(this.events[t]=new wx),this.events[t].add(n)}notify(t,...n){this.events[t]&&this.events[t].notify(...n)}}const yY=/^var\(--(?:([\w-]+)|([\w-]+), ?([a-zA-Z\d ()%#.,-]+))\)/u;function vY(e){const t=yY.exec(e);if(!t)return[,];const[,n,r,s]=t;return[`--${n??r}`,s]}function lk(e,t,n=1){const[r,s]=vY(e);if(!r)return;const o=window.getComputedStyle(t).getPropertyValue(r);if(o){const c=o.trim();return nk(c)?parseFloat(c):c}return fx(s)?lk(s,t,n+1):s}function bY(e){return typeof e=="number"?e===0:e!==null?e==="none"||e==="0"||rk(e):!0}const xY=new Set(["auto","none","0"]);function wY(e,t,n){let r=0,s;for(;r<e.length&&!s;){const o=e[r];typeof o=="string"&&!xY.has(o)&&jd(o).values.length&&(s=e[r]),r++}if(s&&n)for(const o of t)e[o]=ok(n,s)}class SY extends Ox{constructor(t,n,r,s,o){super(t,n,r,s,o,!0)}readKeyframes(){const{unresolvedKeyframes:t,element:n,name:r}=this;if(!n||!n.current)return;super.readKeyframes();for(let f=0;f<t.length;f++){let h=t[f];if(typeof h=="string"&&(h=h.trim(),fx(h))){const m=lk(h,n.current);m!==void 0&&(t[f]=m),f===t.length-1&&(this.finalKeyframe=h)}}if(this.resolveNoneKeyframes(),!RO.has(r)||t.length!==2)return;const[s,o]=t,c=QM(s),u=QM(o);if(c!==u)if(aM(c)&&aM(u))for(let f=0;f<t.length;f++){const h=t[f];typeof h=="string"&&(t[f]=parseFloat(h))}else Uo[r]&&(this.needsMeasurement=!0)}resolveNoneKeyframes(){const{unresolvedKeyframes:t,name:n}=this,r=[];for(let s=0;s<t.length;s++)(t[s]===null||bY(t[s]))&&r.push(s);r.length&&wY(t,r,n)}measureInitialState(){const{element:t,unresolvedKeyframes:n,name:r}=this;if(!t||!t.current)return;r==="height"&&(this.suspendedScrollY=window.pageYOffset),this.measuredOrigin=Uo[r](t.measureViewportBox(),window.getComputedStyle(t.current)),n[0]=this.measuredOrigin;const s=n[n.length-1];s!==void 0&&t.getValue(r,s).jump(s,!1)}measureEndState(){var u;const{element:t,name:n,unresolvedKeyframes:r}=this;if(!t||!t.current)return;const s=t.getValue(n);s&&s.jump(this.measuredOrigin,!1);const o=r.length-1,c=r[o];r[o]=Uo[n](t.measureViewportBox(),window.getComputedStyle(t.current)),c!==null&&this.finalKeyframe===void 0&&(this.finalKeyframe=c),(u=this.removedTransforms)!=null&&u.length&&this.removedTransforms.forEach(([f,h])=>{t.getValue(f).set(h)}),this.resolveNoneKeyframes()}}class ck extends gY{constructor(){super(...arguments),this.KeyframeResolver=SY}sortInstanceNodePosition(t,n){return t.compareDocumentPosition(n)&2?1:-1}getBaseTargetFromProps(t,n){return t.style?t.style[n]:void 0}removeValueFromRenderState(t,{vars:n,style:r}){delete n[t],delete r[t]}handleChildMotionValue(){this.childSubscription&&(this.childSubscription(),delete this.childSubscription);const{children:t}=this.props;fr(t)&&(this.childSubscription=t.on("change",n=>{this.current&&(this.current.textContent=`${n}`)}))}}function uk(e,{style:t,vars:n},r,s){Object.assign(e.style,t,s&&s.getProjectionStyles(r));for(const o in n)e.style.setProperty(o,n[o])}function EY(e){return window.getComputedStyle(e)}class CY extends ck{constructor(){super(...arguments),this.type="html",this.renderInstance=uk}readValueFromInstance(t,n){var r;if(Uc.has(n))return(r=this.projection)!=null&&r.isProjecting?_b(n):G7(t,n);{const s=EY(t),o=(dx(n)?s.getPropertyValue(n):s[n])||0;return typeof o=="string"?o.trim():o}}measureInstanceViewportBox(t,{transformPagePoint:n}){return zO(t,n)}build(t,n,r){mx(t,n,r.transformTemplate)}scrapeMotionValuesFromProps(t,n,r){return vx(t,n,r)}}const dk=new Set(["baseFrequency","diffuseConstant","kernelMatrix","kernelUnitLength","keySplines","keyTimes","limitingConeAngle","markerHeight","markerWidth","numOctaves","targetX","targetY","surfaceScale","specularConstant","specularExponent","stdDeviation","tableValues","viewBox","gradientTransform","pathLength","startOffset","textLength","lengthAdjust"]);function TY(e,t,n,r){uk(e,t,void 0,r);for(const s in t.attrs)e.setAttribute(dk.has(s)?s:lx(s),t.attrs[s])}class MY extends ck{constructor(){super(...arguments),this.type="svg",this.isSVGTag=!1,this.measureInstanceViewportBox=wn}getBaseTargetFromProps(t,n){return t[n]}readValueFromInstance(t,n){if(Uc.has(n)){const r=ik(n);return r&&r.default||0}return n=dk.has(n)?n:lx(n),t.getAttribute(n)}scrapeMotionValuesFromProps(t,n,r){return eO(t,n,r)}build(t,n,r){ZN(t,n,this.isSVGTag,r.transformTemplate,r.style)}renderInstance(t,n,r,s){TY(t,n,r,s)}mount(t){this.isSVGTag=QN(t.tagName),super.mount(t)}}const _Y=(e,t)=>gx(e)?new MY(t):new CY(t,{allowProjection:e!==x.Fragment}),AY=LH({...D$,...aY,...Fq,...sY},_Y),RY=nH(AY),DY=({className:e,size:t=50,delay:n=0,duration:r=6,colorFrom:s="#ffaa40",colorTo:o="#9c40ff",transition:c,style:u,reverse:f=!1,initialOffset:h=0})=>g.jsx("div",{className:"pointer-events-none absolute inset-0 rounded-[inherit] border border-transparent [mask-clip:padding-box,border-box] [mask-composite:intersect] [mask-image:linear-gradient(transparent,transparent),linear-gradient(#000,#000)]",children:g.jsx(RY.div,{className:be("absolute aspect-square","bg-gradient-to-l from-[var(--color-from)] via-[var(--color-to)] to-transparent",e),style:{width:t,offsetPath:`rect(0 auto auto 0 round ${t}px)`,"--color-from":s,"--color-to":o,...u},initial:{offsetDistance:`${h}%`},animate:{offsetDistance:f?[`${100-h}%`,`${-h}%`]:[`${h}%`,`${100+h}%`]},transition:{repeat:1/0,ease:"linear",duration:r,delay:-n,...c}})});function NY(){const e=Gs(),t=jc({resolver:Lc(uI)}),n=Hs({mutationFn:async s=>{await Tn.post("/auth/register",{email:s.email,password:s.password,name:s.name})},onSuccess:async(s,o)=>{await Tn.post("/auth/login",{email:o.email,password:o.password}),e("/dashboard"),En.success("Registration successful! You are now logged in.")}});function r(s){n.mutate(s)}return g.jsx(Pc,{...t,children:g.jsxs("form",{className:"space-y-4",onSubmit:t.handleSubmit(r),children:[g.jsx(On,{control:t.control,name:"name",render:({field:s})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Name"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter your name",...s})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:t.control,name:"email",render:({field:s})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Email"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter your email",...s})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:t.control,name:"password",render:({field:s})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Password"}),g.jsx(Pn,{children:g.jsx(Cn,{type:"password",placeholder:"Enter your password",...s})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:t.control,name:"confirmPassword",render:({field:s})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Confirm Password"}),g.jsx(Pn,{children:g.jsx(Cn,{type:"password",placeholder:"Confirm your password",...s})}),g.jsx(Ln,{})]})}),g.jsx("div",{className:"flex justify-end",children:g.jsx(Ut,{type:"submit",children:"Register"})})]})})}function Pr({className:e,...t}){return g.jsx("div",{"data-slot":"card",className:be("bg-card text-card-foreground flex flex-col gap-6 rounded-xl border py-6 shadow-sm",e),...t})}function Lx({className:e,...t}){return g.jsx("div",{"data-slot":"card-header",className:be("@container/card-header grid auto-rows-min grid-rows-[auto_auto] items-start gap-1.5 px-6 has-data-[slot=card-action]:grid-cols-[1fr_auto] [.border-b]:pb-6",e),...t})}function Vx({className:e,...t}){return g.jsx("div",{"data-slot":"card-title",className:be("leading-none font-semibold",e),...t})}function Lr({className:e,...t}){return g.jsx("div",{"data-slot":"card-content",className:be("px-6",e),...t})}var dp="Tabs",[OY,LQ]=cs(dp,[Im]),fk=Im(),[kY,zx]=OY(dp),hk=x.forwardRef((e,t)=>{const{__scopeTabs:n,value:r,onValueChange:s,defaultValue:o,orientation:c="horizontal",dir:u,activationMode:f="automatic",...h}=e,m=l0(u),[p,b]=Ac({prop:r,onChange:s,defaultProp:o??"",caller:dp});return g.jsx(kY,{scope:n,baseId:wr(),value:p,onValueChange:b,orientation:c,dir:m,activationMode:f,children:g.jsx(Mt.div,{dir:m,"data-orientation":c,...h,ref:t})})});hk.displayName=dp;var mk="TabsList",pk=x.forwardRef((e,t)=>{const{__scopeTabs:n,loop:r=!0,...s}=e,o=zx(mk,n),c=fk(n);return g.jsx(cR,{asChild:!0,...c,orientation:o.orientation,dir:o.dir,loop:r,children:g.jsx(Mt.div,{role:"tablist","aria-orientation":o.orientation,...s,ref:t})})});pk.displayName=mk;var gk="TabsTrigger",yk=x.forwardRef((e,t)=>{const{__scopeTabs:n,value:r,disabled:s=!1,...o}=e,c=zx(gk,n),u=fk(n),f=xk(c.baseId,r),h=wk(c.baseId,r),m=r===c.value;return g.jsx(uR,{asChild:!0,...u,focusable:!s,active:m,children:g.jsx(Mt.button,{type:"button",role:"tab","aria-selected":m,"aria-controls":h,"data-state":m?"active":"inactive","data-disabled":s?"":void 0,disabled:s,id:f,...o,ref:t,onMouseDown:Ze(e.onMouseDown,p=>{!s&&p.button===0&&p.ctrlKey===!1?c.onValueChange(r):p.preventDefault()}),onKeyDown:Ze(e.onKeyDown,p=>{[" ","Enter"].includes(p.key)&&c.onValueChange(r)}),onFocus:Ze(e.onFocus,()=>{const p=c.activationMode!=="manual";!m&&!s&&p&&c.onValueChange(r)})})})});yk.displayName=gk;var vk="TabsContent",bk=x.forwardRef((e,t)=>{const{__scopeTabs:n,value:r,forceMount:s,children:o,...c}=e,u=zx(vk,n),f=xk(u.baseId,r),h=wk(u.baseId,r),m=r===u.value,p=x.useRef(m);return x.useEffect(()=>{const b=requestAnimationFrame(()=>p.current=!1);return()=>cancelAnimationFrame(b)},[]),g.jsx(ra,{present:s||m,children:({present:b})=>g.jsx(Mt.div,{"data-state":m?"active":"inactive","data-orientation":u.orientation,role:"tabpanel","aria-labelledby":f,hidden:!b,id:h,tabIndex:0,...c,ref:t,style:{...e.style,animationDuration:p.current?"0s":void 0},children:b&&o})})});bk.displayName=vk;function xk(e,t){return`${e}-trigger-${t}`}function wk(e,t){return`${e}-content-${t}`}var jY=hk,PY=pk,LY=yk,VY=bk;function zY({className:e,...t}){return g.jsx(jY,{"data-slot":"tabs",className:be("flex flex-col gap-2",e),...t})}function BY({className:e,...t}){return g.jsx(PY,{"data-slot":"tabs-list",className:be("bg-muted text-muted-foreground inline-flex h-9 w-fit items-center justify-center rounded-lg p-[3px]",e),...t})}function e_({className:e,...t}){return g.jsx(LY,{"data-slot":"tabs-trigger",className:be("data-[state=active]:bg-background dark:data-[state=active]:text-foreground focus-visible:border-ring focus-visible:ring-ring/50 focus-visible:outline-ring dark:data-[state=active]:border-input dark:data-[state=active]:bg-input/30 text-foreground dark:text-muted-foreground inline-flex h-[calc(100%-1px)] flex-1 items-center justify-center gap-1.5 rounded-md border border-transparent px-2 py-1 text-sm font-medium whitespace-nowrap transition-[color,box-shadow] focus-visible:ring-[3px] focus-visible:outline-1 disabled:pointer-events-none disabled:opacity-50 data-[state=active]:shadow-sm [&_svg]:pointer-events-none [&_svg]:shrink-0 [&_svg:not([class*='size-'])]:size-4",e),...t})}function t_({className:e,...t}){return g.jsx(VY,{"data-slot":"tabs-content",className:be("flex-1 outline-none",e),...t})}function UY(){return g.jsxs(Pr,{className:"relative min-w-md overflow-hidden",children:[g.jsx(Lx,{children:g.jsx(Vx,{children:g.jsxs(Zr,{className:"flex items-center gap-2",to:"/",children:[g.jsx(Ps,{}),g.jsx("span",{children:"EV Charging Reservation System"})]})})}),g.jsx(Lr,{children:g.jsxs(zY,{defaultValue:"login",className:"w-full",children:[g.jsxs(BY,{className:"w-full",children:[g.jsx(e_,{value:"login",children:"Login"}),g.jsx(e_,{value:"register",children:"Register"})]}),g.jsx(t_,{value:"login",children:g.jsx(YI,{})}),g.jsx(t_,{value:"register",children:g.jsx(NY,{})})]})}),g.jsx(DY,{duration:8,size:100})]})}var fp="Popover",[Sk,VQ]=cs(fp,[Nc]),uf=Nc(),[FY,no]=Sk(fp),Ek=e=>{const{__scopePopover:t,children:n,open:r,defaultOpen:s,onOpenChange:o,modal:c=!1}=e,u=uf(t),f=x.useRef(null),[h,m]=x.useState(!1),[p,b]=Ac({prop:r,defaultProp:s??!1,onChange:o,caller:fp});return g.jsx(b0,{...u,children:g.jsx(FY,{scope:t,contentId:wr(),triggerRef:f,open:p,onOpenChange:b,onOpenToggle:x.useCallback(()=>b(w=>!w),[b]),hasCustomAnchor:h,onCustomAnchorAdd:x.useCallback(()=>m(!0),[]),onCustomAnchorRemove:x.useCallback(()=>m(!1),[]),modal:c,children:n})})};Ek.displayName=fp;var Ck="PopoverAnchor",IY=x.forwardRef((e,t)=>{const{__scopePopover:n,...r}=e,s=no(Ck,n),o=uf(n),{onCustomAnchorAdd:c,onCustomAnchorRemove:u}=s;return x.useEffect(()=>(c(),()=>u()),[c,u]),g.jsx(Fm,{...o,...r,ref:t})});IY.displayName=Ck;var Tk="PopoverTrigger",Mk=x.forwardRef((e,t)=>{const{__scopePopover:n,...r}=e,s=no(Tk,n),o=uf(n),c=fn(t,s.triggerRef),u=g.jsx(Mt.button,{type:"button","aria-haspopup":"dialog","aria-expanded":s.open,"aria-controls":s.contentId,"data-state":Nk(s.open),...r,ref:c,onClick:Ze(e.onClick,s.onOpenToggle)});return s.hasCustomAnchor?u:g.jsx(Fm,{asChild:!0,...o,children:u})});Mk.displayName=Tk;var Bx="PopoverPortal",[HY,$Y]=Sk(Bx,{forceMount:void 0}),_k=e=>{const{__scopePopover:t,forceMount:n,children:r,container:s}=e,o=no(Bx,t);return g.jsx(HY,{scope:t,forceMount:n,children:g.jsx(ra,{present:n||o.open,children:g.jsx(Xd,{asChild:!0,container:s,children:r})})})};_k.displayName=Bx;var wc="PopoverContent",Ak=x.forwardRef((e,t)=>{const n=$Y(wc,e.__scopePopover),{forceMount:r=n.forceMount,...s}=e,o=no(wc,e.__scopePopover);return g.jsx(ra,{present:r||o.open,children:o.modal?g.jsx(YY,{...s,ref:t}):g.jsx(GY,{...s,ref:t})})});Ak.displayName=wc;var qY=Io("PopoverContent.RemoveScroll"),YY=x.forwardRef((e,t)=>{const n=no(wc,e.__scopePopover),r=x.useRef(null),s=fn(t,r),o=x.useRef(!1);return x.useEffect(()=>{const c=r.current;if(c)return S0(c)},[]),g.jsx($m,{as:qY,allowPinchZoom:!0,children:g.jsx(Rk,{...e,ref:s,trapFocus:n.open,disableOutsidePointerEvents:!0,onCloseAutoFocus:Ze(e.onCloseAutoFocus,c=>{var u;c.preventDefault(),o.current||(u=n.triggerRef.current)==null||u.focus()}),onPointerDownOutside:Ze(e.onPointerDownOutside,c=>{const u=c.detail.originalEvent,f=u.button===0&&u.ctrlKey===!0,h=u.button===2||f;o.current=h},{checkForDefaultPrevented:!1}),onFocusOutside:Ze(e.onFocusOutside,c=>c.preventDefault(),{checkForDefaultPrevented:!1})})})}),GY=x.forwardRef((e,t)=>{const n=no(wc,e.__scopePopover),r=x.useRef(!1),s=x.useRef(!1);return g.jsx(Rk,{...e,ref:t,trapFocus:!1,disableOutsidePointerEvents:!1,onCloseAutoFocus:o=>{var c,u;(c=e.onCloseAutoFocus)==null||c.call(e,o),o.defaultPrevented||(r.current||(u=n.triggerRef.current)==null||u.focus(),o.preventDefault()),r.current=!1,s.current=!1},onInteractOutside:o=>{var f,h;(f=e.onInteractOutside)==null||f.call(e,o),o.defaultPrevented||(r.current=!0,o.detail.originalEvent.type==="pointerdown"&&(s.current=!0));const c=o.target;((h=n.triggerRef.current)==null?void 0:h.contains(c))&&o.preventDefault(),o.detail.originalEvent.type==="focusin"&&s.current&&o.preventDefault()}})}),Rk=x.forwardRef((e,t)=>{const{__scopePopover:n,trapFocus:r,onOpenAutoFocus:s,onCloseAutoFocus:o,disableOutsidePointerEvents:c,onEscapeKeyDown:u,onPointerDownOutside:f,onFocusOutside:h,onInteractOutside:m,...p}=e,b=no(wc,n),w=uf(n);return c0(),g.jsx(Vm,{asChild:!0,loop:!0,trapped:r,onMountAutoFocus:s,onUnmountAutoFocus:o,children:g.jsx(Kd,{asChild:!0,disableOutsidePointerEvents:c,onInteractOutside:m,onEscapeKeyDown:u,onPointerDownOutside:f,onFocusOutside:h,onDismiss:()=>b.onOpenChange(!1),children:g.jsx(x0,{"data-state":Nk(b.open),role:"dialog",id:b.contentId,...w,...p,ref:t,style:{...p.style,"--radix-popover-content-transform-origin":"var(--radix-popper-transform-origin)","--radix-popover-content-available-width":"var(--radix-popper-available-width)","--radix-popover-content-available-height":"var(--radix-popper-available-height)","--radix-popover-trigger-width":"var(--radix-popper-anchor-width)","--radix-popover-trigger-height":"var(--radix-popper-anchor-height)"}})})})}),Dk="PopoverClose",WY=x.forwardRef((e,t)=>{const{__scopePopover:n,...r}=e,s=no(Dk,n);return g.jsx(Mt.button,{type:"button",...r,ref:t,onClick:Ze(e.onClick,()=>s.onOpenChange(!1))})});WY.displayName=Dk;var KY="PopoverArrow",ZY=x.forwardRef((e,t)=>{const{__scopePopover:n,...r}=e,s=uf(n);return g.jsx(w0,{...s,...r,ref:t})});ZY.displayName=KY;function Nk(e){return e?"open":"closed"}var XY=Ek,QY=Mk,JY=_k,eG=Ak;function Bb({...e}){return g.jsx(XY,{"data-slot":"popover",...e})}function Ub({...e}){return g.jsx(QY,{"data-slot":"popover-trigger",...e})}function Fb({className:e,align:t="center",sideOffset:n=4,...r}){return g.jsx(JY,{children:g.jsx(eG,{"data-slot":"popover-content",align:t,sideOffset:n,className:be("bg-popover text-popover-foreground data-[state=open]:animate-in data-[state=closed]:animate-out data-[state=closed]:fade-out-0 data-[state=open]:fade-in-0 data-[state=closed]:zoom-out-95 data-[state=open]:zoom-in-95 data-[side=bottom]:slide-in-from-top-2 data-[side=left]:slide-in-from-right-2 data-[side=right]:slide-in-from-left-2 data-[side=top]:slide-in-from-bottom-2 z-50 w-72 origin-(--radix-popover-content-transform-origin) rounded-md border p-4 shadow-md outline-hidden",e),...r})})}var n_=1,tG=.9,nG=.8,rG=.17,uv=.1,dv=.999,aG=.9999,sG=.99,iG=/[\\\/_+.#"@\[\(\{&]/,oG=/[\\\/_+.#"@\[\(\{&]/g,lG=/[\s-]/,Ok=/[\s-]/g;function Ib(e,t,n,r,s,o,c){if(o===t.length)return s===e.length?n_:sG;var u=`${s},${o}`;if(c[u]!==void 0)return c[u];for(var f=r.charAt(o),h=n.indexOf(f,s),m=0,p,b,w,S;h>=0;)p=Ib(e,t,n,r,h+1,o+1,c),p>m&&(h===s?p*=n_:iG.test(e.charAt(h-1))?(p*=nG,w=e.slice(s,h-1).match(oG),w&&s>0&&(p*=Math.pow(dv,w.length))):lG.test(e.charAt(h-1))?(p*=tG,S=e.slice(s,h-1).match(Ok),S&&s>0&&(p*=Math.pow(dv,S.length))):(p*=rG,s>0&&(p*=Math.pow(dv,h-s))),e.charAt(h)!==t.charAt(o)&&(p*=aG)),(p<uv&&n.charAt(h-1)===r.charAt(o+1)||r.charAt(o+1)===r.charAt(o)&&n.charAt(h-1)!==r.charAt(o))&&(b=Ib(e,t,n,r,h+1,o+2,c),b*uv>p&&(p=b*uv)),p>m&&(m=p),h=n.indexOf(f,h+1);return c[u]=m,m}function r_(e){return e.toLowerCase().replace(Ok," ")}function cG(e,t,n){return e=n&&n.length>0?`${e+" "+n.join(" ")}`:e,Ib(e,t,r_(e),r_(t),0,0,{})}var Ku='[cmdk-group=""]',fv='[cmdk-group-items=""]',uG='[cmdk-group-heading=""]',kk='[cmdk-item=""]',a_=`${kk}:not([aria-disabled="true"])`,Hb="cmdk-item-select",Fl="data-value",dG=(e,t,n)=>cG(e,t,n),jk=x.createContext(void 0),df=()=>x.useContext(jk),Pk=x.createContext(void 0),Ux=()=>x.useContext(Pk),Lk=x.createContext(void 0),Vk=x.forwardRef((e,t)=>{let n=Il(()=>{var B,q;return{search:"",value:(q=(B=e.value)!=null?B:e.defaultValue)!=null?q:"",selectedItemId:void 0,filtered:{count:0,items:new Map,groups:new Set}}}),r=Il(()=>new Set),s=Il(()=>new Map),o=Il(()=>new Map),c=Il(()=>new Set),u=zk(e),{label:f,children:h,value:m,onValueChange:p,filter:b,shouldFilter:w,loop:S,disablePointerSelection:E=!1,vimBindings:C=!0,...T}=e,_=wr(),A=wr(),O=wr(),R=x.useRef(null),D=SG();Ko(()=>{if(m!==void 0){let B=m.trim();n.current.value=B,L.emit()}},[m]),Ko(()=>{D(6,de)},[]);let L=x.useMemo(()=>({subscribe:B=>(c.current.add(B),()=>c.current.delete(B)),snapshot:()=>n.current,setState:(B,q,le)=>{var ge,he,Se,_e;if(!Object.is(n.current[B],q)){if(n.current[B]=q,B==="search")ce(),X(),D(1,oe);else if(B==="value"){if(document.activeElement.hasAttribute("cmdk-input")||document.activeElement.hasAttribute("cmdk-root")){let ke=document.getElementById(O);ke?ke.focus():(ge=document.getElementById(_))==null||ge.focus()}if(D(7,()=>{var ke;n.current.selectedItemId=(ke=Q())==null?void 0:ke.id,L.emit()}),le||D(5,de),((he=u.current)==null?void 0:he.value)!==void 0){let ke=q??"";(_e=(Se=u.current).onValueChange)==null||_e.call(Se,ke);return}}L.emit()}},emit:()=>{c.current.forEach(B=>B())}}),[]),k=x.useMemo(()=>({value:(B,q,le)=>{var ge;q!==((ge=o.current.get(B))==null?void 0:ge.value)&&(o.current.set(B,{value:q,keywords:le}),n.current.filtered.items.set(B,H(q,le)),D(2,()=>{X(),L.emit()}))},item:(B,q)=>(r.current.add(B),q&&(s.current.has(q)?s.current.get(q).add(B):s.current.set(q,new Set([B]))),D(3,()=>{ce(),X(),n.current.value||oe(),L.emit()}),()=>{o.current.delete(B),r.current.delete(B),n.current.filtered.items.delete(B);let le=Q();D(4,()=>{ce(),(le==null?void 0:le.getAttribute("id"))===B&&oe(),L.emit()})}),group:B=>(s.current.has(B)||s.current.set(B,new Set),()=>{o.current.delete(B),s.current.delete(B)}),filter:()=>u.current.shouldFilter,label:f||e["aria-label"],getDisablePointerSelection:()=>u.current.disablePointerSelection,listId:_,inputId:O,labelId:A,listInnerRef:R}),[]);function H(B,q){var le,ge;let he=(ge=(le=u.current)==null?void 0:le.filter)!=null?ge:dG;return B?he(B,n.current.search,q):0}function X(){if(!n.current.search||u.current.shouldFilter===!1)return;let B=n.current.filtered.items,q=[];n.current.filtered.groups.forEach(ge=>{let he=s.current.get(ge),Se=0;he.forEach(_e=>{let ke=B.get(_e);Se=Math.max(ke,Se)}),q.push([ge,Se])});let le=R.current;fe().sort((ge,he)=>{var Se,_e;let ke=ge.getAttribute("id"),Fe=he.getAttribute("id");return((Se=B.get(Fe))!=null?Se:0)-((_e=B.get(ke))!=null?_e:0)}).forEach(ge=>{let he=ge.closest(fv);he?he.appendChild(ge.parentElement===he?ge:ge.closest(`${fv} > *`)):le.appendChild(ge.parentElement===le?ge:ge.closest(`${fv} > *`))}),q.sort((ge,he)=>he[1]-ge[1]).forEach(ge=>{var he;let Se=(he=R.current)==null?void 0:he.querySelector(`${Ku}[${Fl}="${encodeURIComponent(ge[0])}"]`);Se==null||Se.parentElement.appendChild(Se)})}function oe(){let B=fe().find(le=>le.getAttribute("aria-disabled")!=="true"),q=B==null?void 0:B.getAttribute(Fl);L.setState("value",q||void 0)}function ce(){var B,q,le,ge;if(!n.current.search||u.current.shouldFilter===!1){n.current.filtered.count=r.current.size;return}n.current.filtered.groups=new Set;let he=0;for(let Se of r.current){let _e=(q=(B=o.current.get(Se))==null?void 0:B.value)!=null?q:"",ke=(ge=(le=o.current.get(Se))==null?void 0:le.keywords)!=null?ge:[],Fe=H(_e,ke);n.current.filtered.items.set(Se,Fe),Fe>0&&he++}for(let[Se,_e]of s.current)for(let ke of _e)if(n.current.filtered.items.get(ke)>0){n.current.filtered.groups.add(Se);break}n.current.filtered.count=he}function de(){var B,q,le;let ge=Q();ge&&(((B=ge.parentElement)==null?void 0:B.firstChild)===ge&&((le=(q=ge.closest(Ku))==null?void 0:q.querySelector(uG))==null||le.scrollIntoView({block:"nearest"})),ge.scrollIntoView({block:"nearest"}))}function Q(){var B;return(B=R.current)==null?void 0:B.querySelector(`${kk}[aria-selected="true"]`)}function fe(){var B;return Array.from(((B=R.current)==null?void 0:B.querySelectorAll(a_))||[])}function P(B){let q=fe()[B];q&&L.setState("value",q.getAttribute(Fl))}function K(B){var q;let le=Q(),ge=fe(),he=ge.findIndex(_e=>_e===le),Se=ge[he+B];(q=u.current)!=null&&q.loop&&(Se=he+B<0?ge[ge.length-1]:he+B===ge.length?ge[0]:ge[he+B]),Se&&L.setState("value",Se.getAttribute(Fl))}function I(B){let q=Q(),le=q==null?void 0:q.closest(Ku),ge;for(;le&&!ge;)le=B>0?xG(le,Ku):wG(le,Ku),ge=le==null?void 0:le.querySelector(a_);ge?L.setState("value",ge.getAttribute(Fl)):K(B)}let J=()=>P(fe().length-1),j=B=>{B.preventDefault(),B.metaKey?J():B.altKey?I(1):K(1)},W=B=>{B.preventDefault(),B.metaKey?P(0):B.altKey?I(-1):K(-1)};return x.createElement(Mt.div,{ref:t,tabIndex:-1,...T,"cmdk-root":"",onKeyDown:B=>{var q;(q=T.onKeyDown)==null||q.call(T,B);let le=B.nativeEvent.isComposing||B.keyCode===229;if(!(B.defaultPrevented||le))switch(B.key){case"n":case"j":{C&&B.ctrlKey&&j(B);break}case"ArrowDown":{j(B);break}case"p":case"k":{C&&B.ctrlKey&&W(B);break}case"ArrowUp":{W(B);break}case"Home":{B.preventDefault(),P(0);break}case"End":{B.preventDefault(),J();break}case"Enter":{B.preventDefault();let ge=Q();if(ge){let he=new Event(Hb);ge.dispatchEvent(he)}}}}},x.createElement("label",{"cmdk-label":"",htmlFor:k.inputId,id:k.labelId,style:CG},f),hp(e,B=>x.createElement(Pk.Provider,{value:L},x.createElement(jk.Provider,{value:k},B))))}),fG=x.forwardRef((e,t)=>{var n,r;let s=wr(),o=x.useRef(null),c=x.useContext(Lk),u=df(),f=zk(e),h=(r=(n=f.current)==null?void 0:n.forceMount)!=null?r:c==null?void 0:c.forceMount;Ko(()=>{if(!h)return u.item(s,c==null?void 0:c.id)},[h]);let m=Bk(s,o,[e.value,e.children,o],e.keywords),p=Ux(),b=Ji(D=>D.value&&D.value===m.current),w=Ji(D=>h||u.filter()===!1?!0:D.search?D.filtered.items.get(s)>0:!0);x.useEffect(()=>{let D=o.current;if(!(!D||e.disabled))return D.addEventListener(Hb,S),()=>D.removeEventListener(Hb,S)},[w,e.onSelect,e.disabled]);function S(){var D,L;E(),(L=(D=f.current).onSelect)==null||L.call(D,m.current)}function E(){p.setState("value",m.current,!0)}if(!w)return null;let{disabled:C,value:T,onSelect:_,forceMount:A,keywords:O,...R}=e;return x.createElement(Mt.div,{ref:zs(o,t),...R,id:s,"cmdk-item":"",role:"option","aria-disabled":!!C,"aria-selected":!!b,"data-disabled":!!C,"data-selected":!!b,onPointerMove:C||u.getDisablePointerSelection()?void 0:E,onClick:C?void 0:S},e.children)}),hG=x.forwardRef((e,t)=>{let{heading:n,children:r,forceMount:s,...o}=e,c=wr(),u=x.useRef(null),f=x.useRef(null),h=wr(),m=df(),p=Ji(w=>s||m.filter()===!1?!0:w.search?w.filtered.groups.has(c):!0);Ko(()=>m.group(c),[]),Bk(c,u,[e.value,e.heading,f]);let b=x.useMemo(()=>({id:c,forceMount:s}),[s]);return x.createElement(Mt.div,{ref:zs(u,t),...o,"cmdk-group":"",role:"presentation",hidden:p?void 0:!0},n&&x.createElement("div",{ref:f,"cmdk-group-heading":"","aria-hidden":!0,id:h},n),hp(e,w=>x.createElement("div",{"cmdk-group-items":"",role:"group","aria-labelledby":n?h:void 0},x.createElement(Lk.Provider,{value:b},w))))}),mG=x.forwardRef((e,t)=>{let{alwaysRender:n,...r}=e,s=x.useRef(null),o=Ji(c=>!c.search);return!n&&!o?null:x.createElement(Mt.div,{ref:zs(s,t),...r,"cmdk-separator":"",role:"separator"})}),pG=x.forwardRef((e,t)=>{let{onValueChange:n,...r}=e,s=e.value!=null,o=Ux(),c=Ji(h=>h.search),u=Ji(h=>h.selectedItemId),f=df();return x.useEffect(()=>{e.value!=null&&o.setState("search",e.value)},[e.value]),x.createElement(Mt.input,{ref:t,...r,"cmdk-input":"",autoComplete:"off",autoCorrect:"off",spellCheck:!1,"aria-autocomplete":"list",role:"combobox","aria-expanded":!0,"aria-controls":f.listId,"aria-labelledby":f.labelId,"aria-activedescendant":u,id:f.inputId,type:"text",value:s?e.value:c,onChange:h=>{s||o.setState("search",h.target.value),n==null||n(h.target.value)}})}),gG=x.forwardRef((e,t)=>{let{children:n,label:r="Suggestions",...s}=e,o=x.useRef(null),c=x.useRef(null),u=Ji(h=>h.selectedItemId),f=df();return x.useEffect(()=>{if(c.current&&o.current){let h=c.current,m=o.current,p,b=new ResizeObserver(()=>{p=requestAnimationFrame(()=>{let w=h.offsetHeight;m.style.setProperty("--cmdk-list-height",w.toFixed(1)+"px")})});return b.observe(h),()=>{cancelAnimationFrame(p),b.unobserve(h)}}},[]),x.createElement(Mt.div,{ref:zs(o,t),...s,"cmdk-list":"",role:"listbox",tabIndex:-1,"aria-activedescendant":u,"aria-label":r,id:f.listId},hp(e,h=>x.createElement("div",{ref:zs(c,f.listInnerRef),"cmdk-list-sizer":""},h)))}),yG=x.forwardRef((e,t)=>{let{open:n,onOpenChange:r,overlayClassName:s,contentClassName:o,container:c,...u}=e;return x.createElement(L0,{open:n,onOpenChange:r},x.createElement(V0,{container:c},x.createElement(z0,{"cmdk-overlay":"",className:s}),x.createElement(B0,{"aria-label":e.label,"cmdk-dialog":"",className:o},x.createElement(Vk,{ref:t,...u}))))}),vG=x.forwardRef((e,t)=>Ji(n=>n.filtered.count===0)?x.createElement(Mt.div,{ref:t,...e,"cmdk-empty":"",role:"presentation"}):null),bG=x.forwardRef((e,t)=>{let{progress:n,children:r,label:s="Loading...",...o}=e;return x.createElement(Mt.div,{ref:t,...o,"cmdk-loading":"",role:"progressbar","aria-valuenow":n,"aria-valuemin":0,"aria-valuemax":100,"aria-label":s},hp(e,c=>x.createElement("div",{"aria-hidden":!0},c)))}),Ic=Object.assign(Vk,{List:gG,Item:fG,Input:pG,Group:hG,Separator:mG,Dialog:yG,Empty:vG,Loading:bG});function xG(e,t){let n=e.nextElementSibling;for(;n;){if(n.matches(t))return n;n=n.nextElementSibling}}function wG(e,t){let n=e.previousElementSibling;for(;n;){if(n.matches(t))return n;n=n.previousElementSibling}}function zk(e){let t=x.useRef(e);return Ko(()=>{t.current=e}),t}var Ko=typeof window>"u"?x.useEffect:x.useLayoutEffect;function Il(e){let t=x.useRef();return t.current===void 0&&(t.current=e()),t}function Ji(e){let t=Ux(),n=()=>e(t.snapshot());return x.useSyncExternalStore(t.subscribe,n,n)}function Bk(e,t,n,r=[]){let s=x.useRef(),o=df();return Ko(()=>{var c;let u=(()=>{var h;for(let m of n){if(typeof m=="string")return m.trim();if(typeof m=="object"&&"current"in m)return m.current?(h=m.current.textContent)==null?void 0:h.trim():s.current}})(),f=r.map(h=>h.trim());o.value(e,u,f),(c=t.current)==null||c.setAttribute(Fl,u),s.current=u}),s}var SG=()=>{let[e,t]=x.useState(),n=Il(()=>new Map);return Ko(()=>{n.current.forEach(r=>r()),n.current=new Map},[e]),(r,s)=>{n.current.set(r,s),t({})}};function EG(e){let t=e.type;return typeof t=="function"?t(e.props):"render"in t?t.render(e.props):e}function hp({asChild:e,children:t},n){return e&&x.isValidElement(t)?x.cloneElement(EG(t),{ref:t.ref},n(t.props.children)):n(t)}var CG={position:"absolute",width:"1px",height:"1px",padding:"0",margin:"-1px",overflow:"hidden",clip:"rect(0, 0, 0, 0)",whiteSpace:"nowrap",borderWidth:"0"};function TG({className:e,...t}){return g.jsx(Ic,{"data-slot":"command",className:be("bg-popover text-popover-foreground flex h-full w-full flex-col overflow-hidden rounded-md",e),...t})}function MG({className:e,...t}){return g.jsxs("div",{"data-slot":"command-input-wrapper",className:"flex h-9 items-center gap-2 border-b px-3",children:[g.jsx(L5,{className:"size-4 shrink-0 opacity-50"}),g.jsx(Ic.Input,{"data-slot":"command-input",className:be("placeholder:text-muted-foreground flex h-10 w-full rounded-md bg-transparent py-3 text-sm outline-hidden disabled:cursor-not-allowed disabled:opacity-50",e),...t})]})}function _G({className:e,...t}){return g.jsx(Ic.List,{"data-slot":"command-list",className:be("max-h-[300px] scroll-py-1 overflow-x-hidden overflow-y-auto",e),...t})}function AG({...e}){return g.jsx(Ic.Empty,{"data-slot":"command-empty",className:"py-6 text-center text-sm",...e})}function RG({className:e,...t}){return g.jsx(Ic.Group,{"data-slot":"command-group",className:be("text-foreground [&_[cmdk-group-heading]]:text-muted-foreground overflow-hidden p-1 [&_[cmdk-group-heading]]:px-2 [&_[cmdk-group-heading]]:py-1.5 [&_[cmdk-group-heading]]:text-xs [&_[cmdk-group-heading]]:font-medium",e),...t})}function DG({className:e,...t}){return g.jsx(Ic.Item,{"data-slot":"command-item",className:be("data-[selected=true]:bg-accent data-[selected=true]:text-accent-foreground [&_svg:not([class*='text-'])]:text-muted-foreground relative flex cursor-default items-center gap-2 rounded-sm px-2 py-1.5 text-sm outline-hidden select-none data-[disabled=true]:pointer-events-none data-[disabled=true]:opacity-50 [&_svg]:pointer-events-none [&_svg]:shrink-0 [&_svg:not([class*='size-'])]:size-4",e),...t})}const s_=e=>{let t;const n=new Set,r=(h,m)=>{const p=typeof h=="function"?h(t):h;if(!Object.is(p,t)){const b=t;t=m??(typeof p!="object"||p===null)?p:Object.assign({},t,p),n.forEach(w=>w(t,b))}},s=()=>t,u={setState:r,getState:s,getInitialState:()=>f,subscribe:h=>(n.add(h),()=>n.delete(h))},f=t=e(r,s,u);return u},NG=e=>e?s_(e):s_,OG=e=>e;function kG(e,t=OG){const n=G.useSyncExternalStore(e.subscribe,()=>t(e.getState()),()=>t(e.getInitialState()));return G.useDebugValue(n),n}const i_=e=>{const t=NG(e),n=r=>kG(t,r);return Object.assign(n,t),n},jG=e=>e?i_(e):i_,Jr=jG(e=>({stationId:null,setStationId:t=>e({stationId:t,pumpNumber:null,vehicleId:null}),pumpNumber:null,setPumpNumber:t=>e({pumpNumber:t,vehicleId:null}),vehicleId:null,setVehicleId:t=>e({vehicleId:t}),isReserving:!1,setIsReserving:t=>e({isReserving:t}),resetValues:()=>e({stationId:null,pumpNumber:null,vehicleId:null})}));function PG(){var h;const[e,t]=x.useState(!1),[n,r]=x.useState(""),[s,o]=x.useState([]),c=Jr(m=>m.stationId),u=Jr(m=>m.setStationId),{data:f}=Ks({queryKey:["ev-stations"],queryFn:async()=>(await Tn.get("/stations")).data});return x.useEffect(()=>{if(f){const m=f.map(p=>({id:p.id.toString(),name:p.name,location:p.location,label:g.jsxs("div",{className:"flex items-center space-x-2",children:[g.jsx(kv,{className:"inline"}),g.jsxs("span",{children:[g.jsx("span",{className:"font-semibold",children:p.name})," -"," ",p.location," (",p.numberOfPumps," pumps)"]})]})}));o(m)}},[f]),g.jsxs(Bb,{open:e,onOpenChange:t,children:[g.jsx(Ub,{asChild:!0,children:g.jsxs(Ut,{variant:"outline",role:"combobox",size:"lg","aria-expanded":e,className:"w-full justify-between bg-sky-500 hover:bg-sky-800 dark:bg-sky-700 dark:hover:bg-sky-950 hover:text-white text-white font-semibold",children:[c?(h=s.find(m=>m.id===c))==null?void 0:h.label:g.jsxs(g.Fragment,{children:[g.jsx(kv,{}),"Select EV station..."]}),g.jsx(i5,{className:"opacity-50"})]})}),g.jsx(Fb,{className:"p-0",children:g.jsxs(TG,{children:[g.jsx(MG,{placeholder:"Search station...",className:"h-9",onValueChange:r}),g.jsxs(_G,{children:[g.jsx(AG,{children:"No station found."}),g.jsx(RG,{children:s.filter(m=>(m.name+" "+m.location).toLowerCase().includes(n.toLowerCase())).map(m=>g.jsxs(DG,{value:m.name+" "+m.location,onSelect:()=>{u(m.id),t(!1)},children:[m.label,g.jsx(J3,{className:be("ml-auto",c===m.id?"opacity-100":"opacity-0")})]},m.id))})]})]})})]})}function LG(){const e=Jr(c=>c.stationId),t=Jr(c=>c.pumpNumber),n=Jr(c=>c.setPumpNumber),{data:r}=Ks({queryKey:["ev-stations"],queryFn:async()=>(await Tn.get("/stations")).data}),[s,o]=x.useState(0);return x.useEffect(()=>{if(r&&e){const c=r.find(u=>u.id.toString()===e);o((c==null?void 0:c.numberOfPumps)||0)}},[r,e]),e?g.jsxs("div",{className:"flex flex-col items-center space-y-4",children:[g.jsx("div",{className:"text-sky-700 dark:text-sky-400 font-semibold",children:t?`Selected Pump: ${t}`:"Select pump"}),g.jsx("div",{className:"flex gap-4 flex-wrap justify-center",children:Array.from({length:s},(c,u)=>u+1).map(c=>g.jsx(Ut,{type:"button",onClick:()=>n(c),className:be("w-12 h-12 rounded-full flex items-center justify-center text-lg font-bold border-2 transition-colors",t===c?"bg-sky-500 text-white border-sky-500 shadow-lg dark:shadow-sky-800 dark:bg-sky-400":"bg-white dark:bg-gray-800 text-sky-500 border-sky-300 hover:bg-sky-100 dark:hover:bg-sky-900"),children:c},c))})]}):null}function VG(){const e=Ws(),t=Jr(f=>f.vehicleId),n=Jr(f=>f.setVehicleId),r=Jr(f=>f.pumpNumber),{data:s,isPending:o,error:c,isError:u}=Ks({queryKey:["vehicles",e==null?void 0:e.id],queryFn:async()=>(await Tn.get("/vehicles",{params:{ownerId:e!=null&&e.isAdmin||e==null?void 0:e.id}})).data});return r?o?g.jsx("div",{className:"flex items-center justify-center h-full space-x-2",children:g.jsx(Tc,{className:"animate-spin"})}):u?g.jsxs("div",{className:"text-red-500",children:["Error loading vehicles:"," ",c instanceof Error?c.message:"Unknown error"]}):g.jsx("div",{className:"w-full flex flex-col items-center space-y-4 mt-4",children:g.jsx("div",{className:"w-full flex flex-wrap gap-4 justify-center",children:s.map(f=>g.jsxs("div",{className:be("flex flex-col items-center justify-center p-4 rounded-lg border-2 shadow transition-colors cursor-pointer min-w-[140px] min-h-[120px] bg-white dark:bg-gray-800",t===f.id?"border-sky-500 ring-1 ring-sky-300 dark:ring-sky-600 bg-sky-50 dark:bg-sky-900 ":"border-gray-200 dark:border-gray-700 hover:border-sky-400"),onClick:()=>n(f.id),children:[g.jsx(Ps,{className:"w-8 h-8 mb-2 text-sky-500"}),g.jsxs("div",{className:"font-semibold text-gray-800 dark:text-white text-center",children:[f.make," - ",f.model]}),g.jsx("div",{className:"text-xs text-gray-500 dark:text-gray-300 text-center",children:f.plateNumber})]},f.id))})}):null}const hv={},od={};function gd(e,t){try{const r=(hv[e]||(hv[e]=new Intl.DateTimeFormat("en-GB",{timeZone:e,hour:"numeric",timeZoneName:"longOffset"}).format))(t).split("GMT")[1]||"";return r in od?od[r]:o_(r,r.split(":"))}catch{if(e in od)return od[e];const n=e==null?void 0:e.match(zG);return n?o_(e,n.slice(1)):NaN}}const zG=/([+-]\d\d):?(\d\d)?/;function o_(e,t){const n=+t[0],r=+(t[1]||0);return od[e]=n>0?n*60+r:n*60-r}class Ja extends Date{constructor(...t){super(),t.length>1&&typeof t[t.length-1]=="string"&&(this.timeZone=t.pop()),this.internal=new Date,isNaN(gd(this.timeZone,this))?this.setTime(NaN):t.length?typeof t[0]=="number"&&(t.length===1||t.length===2&&typeof t[1]!="number")?this.setTime(t[0]):typeof t[0]=="string"?this.setTime(+new Date(t[0])):t[0]instanceof Date?this.setTime(+t[0]):(this.setTime(+new Date(...t)),Uk(this),$b(this)):this.setTime(Date.now())}static tz(t,...n){return n.length?new Ja(...n,t):new Ja(Date.now(),t)}withTimeZone(t){return new Ja(+this,t)}getTimezoneOffset(){return-gd(this.timeZone,this)}setTime(t){return Date.prototype.setTime.apply(this,arguments),$b(this),+this}[Symbol.for("constructDateFrom")](t){return new Ja(+new Date(t),this.timeZone)}}const l_=/^(get|set)(?!UTC)/;Object.getOwnPropertyNames(Date.prototype).forEach(e=>{if(!l_.test(e))return;const t=e.replace(l_,"$1UTC");Ja.prototype[t]&&(e.startsWith("get")?Ja.prototype[e]=function(){return this.internal[t]()}:(Ja.prototype[e]=function(){return Date.prototype[t].apply(this.internal,arguments),BG(this),+this},Ja.prototype[t]=function(){return Date.prototype[t].apply(this,arguments),$b(this),+this}))});function $b(e){e.internal.setTime(+e),e.internal.setUTCMinutes(e.internal.getUTCMinutes()-e.getTimezoneOffset())}function BG(e){Date.prototype.setFullYear.call(e,e.internal.getUTCFullYear(),e.internal.getUTCMonth(),e.internal.getUTCDate()),Date.prototype.setHours.call(e,e.internal.getUTCHours(),e.internal.getUTCMinutes(),e.internal.getUTCSeconds(),e.internal.getUTCMilliseconds()),Uk(e)}function Uk(e){const t=gd(e.timeZone,e),n=new Date(+e);n.setUTCHours(n.getUTCHours()-1);const r=-new Date(+e).getTimezoneOffset(),s=-new Date(+n).getTimezoneOffset(),o=r-s,c=Date.prototype.getHours.apply(e)!==e.internal.getUTCHours();o&&c&&e.internal.setUTCMinutes(e.internal.getUTCMinutes()+o);const u=r-t;u&&Date.prototype.setUTCMinutes.call(e,Date.prototype.getUTCMinutes.call(e)+u);const f=gd(e.timeZone,e),m=-new Date(+e).getTimezoneOffset()-f,p=f!==t,b=m-u;if(p&&b){Date.prototype.setUTCMinutes.call(e,Date.prototype.getUTCMinutes.call(e)+b);const w=gd(e.timeZone,e),S=f-w;S&&(e.internal.setUTCMinutes(e.internal.getUTCMinutes()+S),Date.prototype.setUTCMinutes.call(e,Date.prototype.getUTCMinutes.call(e)+S))}}class ur extends Ja{static tz(t,...n){return n.length?new ur(...n,t):new ur(Date.now(),t)}toISOString(){const[t,n,r]=this.tzComponents(),s=`${t}${n}:${r}`;return this.internal.toISOString().slice(0,-1)+s}toString(){return`${this.toDateString()} ${this.toTimeString()}`}toDateString(){const[t,n,r,s]=this.internal.toUTCString().split(" ");return`${t==null?void 0:t.slice(0,-1)} ${r} ${n} ${s}`}toTimeString(){const t=this.internal.toUTCString().split(" ")[4],[n,r,s]=this.tzComponents();return`${t} GMT${n}${r}${s} (${UG(this.timeZone,this)})`}toLocaleString(t,n){return Date.prototype.toLocaleString.call(this,t,{...n,timeZone:(n==null?void 0:n.timeZone)||this.timeZone})}toLocaleDateString(t,n){return Date.prototype.toLocaleDateString.call(this,t,{...n,timeZone:(n==null?void 0:n.timeZone)||this.timeZone})}toLocaleTimeString(t,n){return Date.prototype.toLocaleTimeString.call(this,t,{...n,timeZone:(n==null?void 0:n.timeZone)||this.timeZone})}tzComponents(){const t=this.getTimezoneOffset(),n=t>0?"-":"+",r=String(Math.floor(Math.abs(t)/60)).padStart(2,"0"),s=String(Math.abs(t)%60).padStart(2,"0");return[n,r,s]}withTimeZone(t){return new ur(+this,t)}[Symbol.for("constructDateFrom")](t){return new ur(+new Date(t),this.timeZone)}}function UG(e,t){return new Intl.DateTimeFormat("en-GB",{timeZone:e,timeZoneName:"long"}).format(t).slice(12)}var Ye;(function(e){e.Root="root",e.Chevron="chevron",e.Day="day",e.DayButton="day_button",e.CaptionLabel="caption_label",e.Dropdowns="dropdowns",e.Dropdown="dropdown",e.DropdownRoot="dropdown_root",e.Footer="footer",e.MonthGrid="month_grid",e.MonthCaption="month_caption",e.MonthsDropdown="months_dropdown",e.Month="month",e.Months="months",e.Nav="nav",e.NextMonthButton="button_next",e.PreviousMonthButton="button_previous",e.Week="week",e.Weeks="weeks",e.Weekday="weekday",e.Weekdays="weekdays",e.WeekNumber="week_number",e.WeekNumberHeader="week_number_header",e.YearsDropdown="years_dropdown"})(Ye||(Ye={}));var ln;(function(e){e.disabled="disabled",e.hidden="hidden",e.outside="outside",e.focused="focused",e.today="today"})(ln||(ln={}));var ka;(function(e){e.range_end="range_end",e.range_middle="range_middle",e.range_start="range_start",e.selected="selected"})(ka||(ka={}));var Gr;(function(e){e.weeks_before_enter="weeks_before_enter",e.weeks_before_exit="weeks_before_exit",e.weeks_after_enter="weeks_after_enter",e.weeks_after_exit="weeks_after_exit",e.caption_after_enter="caption_after_enter",e.caption_after_exit="caption_after_exit",e.caption_before_enter="caption_before_enter",e.caption_before_exit="caption_before_exit"})(Gr||(Gr={}));const Fk=6048e5,FG=864e5,c_=Symbol.for("constructDateFrom");function qn(e,t){return typeof e=="function"?e(t):e&&typeof e=="object"&&c_ in e?e[c_](t):e instanceof Date?new e.constructor(t):new Date(t)}function Xt(e,t){return qn(t||e,e)}function Ik(e,t,n){const r=Xt(e,n==null?void 0:n.in);return isNaN(t)?qn(e,NaN):(t&&r.setDate(r.getDate()+t),r)}function Hk(e,t,n){const r=Xt(e,n==null?void 0:n.in);if(isNaN(t))return qn(e,NaN);if(!t)return r;const s=r.getDate(),o=qn(e,r.getTime());o.setMonth(r.getMonth()+t+1,0);const c=o.getDate();return s>=c?o:(r.setFullYear(o.getFullYear(),o.getMonth(),s),r)}let IG={};function ff(){return IG}function Sc(e,t){var u,f,h,m;const n=ff(),r=(t==null?void 0:t.weekStartsOn)??((f=(u=t==null?void 0:t.locale)==null?void 0:u.options)==null?void 0:f.weekStartsOn)??n.weekStartsOn??((m=(h=n.locale)==null?void 0:h.options)==null?void 0:m.weekStartsOn)??0,s=Xt(e,t==null?void 0:t.in),o=s.getDay(),c=(o<r?7:0)+o-r;return s.setDate(s.getDate()-c),s.setHours(0,0,0,0),s}function Vd(e,t){return Sc(e,{...t,weekStartsOn:1})}function $k(e,t){const n=Xt(e,t==null?void 0:t.in),r=n.getFullYear(),s=qn(n,0);s.setFullYear(r+1,0,4),s.setHours(0,0,0,0);const o=Vd(s),c=qn(n,0);c.setFullYear(r,0,4),c.setHours(0,0,0,0);const u=Vd(c);return n.getTime()>=o.getTime()?r+1:n.getTime()>=u.getTime()?r:r-1}function u_(e){const t=Xt(e),n=new Date(Date.UTC(t.getFullYear(),t.getMonth(),t.getDate(),t.getHours(),t.getMinutes(),t.getSeconds(),t.getMilliseconds()));return n.setUTCFullYear(t.getFullYear()),+e-+n}function Hc(e,...t){const n=qn.bind(null,t.find(r=>typeof r=="object"));return t.map(n)}function zd(e,t){const n=Xt(e,t==null?void 0:t.in);return n.setHours(0,0,0,0),n}function qk(e,t,n){const[r,s]=Hc(n==null?void 0:n.in,e,t),o=zd(r),c=zd(s),u=+o-u_(o),f=+c-u_(c);return Math.round((u-f)/FG)}function HG(e,t){const n=$k(e,t),r=qn(e,0);return r.setFullYear(n,0,4),r.setHours(0,0,0,0),Vd(r)}function $G(e,t,n){return Ik(e,t*7,n)}function qG(e,t,n){return Hk(e,t*12,n)}function YG(e,t){let n,r=t==null?void 0:t.in;return e.forEach(s=>{!r&&typeof s=="object"&&(r=qn.bind(null,s));const o=Xt(s,r);(!n||n<o||isNaN(+o))&&(n=o)}),qn(r,n||NaN)}function GG(e,t){let n,r=t==null?void 0:t.in;return e.forEach(s=>{!r&&typeof s=="object"&&(r=qn.bind(null,s));const o=Xt(s,r);(!n||n>o||isNaN(+o))&&(n=o)}),qn(r,n||NaN)}function WG(e,t,n){const[r,s]=Hc(n==null?void 0:n.in,e,t);return+zd(r)==+zd(s)}function Yk(e){return e instanceof Date||typeof e=="object"&&Object.prototype.toString.call(e)==="[object Date]"}function KG(e){return!(!Yk(e)&&typeof e!="number"||isNaN(+Xt(e)))}function ZG(e,t,n){const[r,s]=Hc(n==null?void 0:n.in,e,t),o=r.getFullYear()-s.getFullYear(),c=r.getMonth()-s.getMonth();return o*12+c}function XG(e,t){const n=Xt(e,t==null?void 0:t.in),r=n.getMonth();return n.setFullYear(n.getFullYear(),r+1,0),n.setHours(23,59,59,999),n}function QG(e,t){const[n,r]=Hc(e,t.start,t.end);return{start:n,end:r}}function JG(e,t){const{start:n,end:r}=QG(t==null?void 0:t.in,e);let s=+n>+r;const o=s?+n:+r,c=s?r:n;c.setHours(0,0,0,0),c.setDate(1);let u=1;const f=[];for(;+c<=o;)f.push(qn(n,c)),c.setMonth(c.getMonth()+u);return s?f.reverse():f}function eW(e,t){const n=Xt(e,t==null?void 0:t.in);return n.setDate(1),n.setHours(0,0,0,0),n}function tW(e,t){const n=Xt(e,t==null?void 0:t.in),r=n.getFullYear();return n.setFullYear(r+1,0,0),n.setHours(23,59,59,999),n}function Gk(e,t){const n=Xt(e,t==null?void 0:t.in);return n.setFullYear(n.getFullYear(),0,1),n.setHours(0,0,0,0),n}function Wk(e,t){var u,f,h,m;const n=ff(),r=(t==null?void 0:t.weekStartsOn)??((f=(u=t==null?void 0:t.locale)==null?void 0:u.options)==null?void 0:f.weekStartsOn)??n.weekStartsOn??((m=(h=n.locale)==null?void 0:h.options)==null?void 0:m.weekStartsOn)??0,s=Xt(e,t==null?void 0:t.in),o=s.getDay(),c=(o<r?-7:0)+6-(o-r);return s.setDate(s.getDate()+c),s.setHours(23,59,59,999),s}function nW(e,t){return Wk(e,{...t,weekStartsOn:1})}const rW={lessThanXSeconds:{one:"less than a second",other:"less than {{count}} seconds"},xSeconds:{one:"1 second",other:"{{count}} seconds"},halfAMinute:"half a minute",lessThanXMinutes:{one:"less than a minute",other:"less than {{count}} minutes"},xMinutes:{one:"1 minute",other:"{{count}} minutes"},aboutXHours:{one:"about 1 hour",other:"about {{count}} hours"},xHours:{one:"1 hour",other:"{{count}} hours"},xDays:{one:"1 day",other:"{{count}} days"},aboutXWeeks:{one:"about 1 week",other:"about {{count}} weeks"},xWeeks:{one:"1 week",other:"{{count}} weeks"},aboutXMonths:{one:"about 1 month",other:"about {{count}} months"},xMonths:{one:"1 month",other:"{{count}} months"},aboutXYears:{one:"about 1 year",other:"about {{count}} years"},xYears:{one:"1 year",other:"{{count}} years"},overXYears:{one:"over 1 year",other:"over {{count}} years"},almostXYears:{one:"almost 1 year",other:"almost {{count}} years"}},aW=(e,t,n)=>{let r;const s=rW[e];return typeof s=="string"?r=s:t===1?r=s.one:r=s.other.replace("{{count}}",t.toString()),n!=null&&n.addSuffix?n.comparison&&n.comparison>0?"in "+r:r+" ago":r};function mv(e){return(t={})=>{const n=t.width?String(t.width):e.defaultWidth;return e.formats[n]||e.formats[e.defaultWidth]}}const sW={full:"EEEE, MMMM do, y",long:"MMMM do, y",medium:"MMM d, y",short:"MM/dd/yyyy"},iW={full:"h:mm:ss a zzzz",long:"h:mm:ss a z",medium:"h:mm:ss a",short:"h:mm a"},oW={full:"{{date}} 'at' {{time}}",long:"{{date}} 'at' {{time}}",medium:"{{date}}, {{time}}",short:"{{date}}, {{time}}"},lW={date:mv({formats:sW,defaultWidth:"full"}),time:mv({formats:iW,defaultWidth:"full"}),dateTime:mv({formats:oW,defaultWidth:"full"})},cW={lastWeek:"'last' eeee 'at' p",yesterday:"'yesterday at' p",today:"'today at' p",tomorrow:"'tomorrow at' p",nextWeek:"eeee 'at' p",other:"P"},uW=(e,t,n,r)=>cW[e];function Zu(e){return(t,n)=>{const r=n!=null&&n.context?String(n.context):"standalone";let s;if(r==="formatting"&&e.formattingValues){const c=e.defaultFormattingWidth||e.defaultWidth,u=n!=null&&n.width?String(n.width):c;s=e.formattingValues[u]||e.formattingValues[c]}else{const c=e.defaultWidth,u=n!=null&&n.width?String(n.width):e.defaultWidth;s=e.values[u]||e.values[c]}const o=e.argumentCallback?e.argumentCallback(t):t;return s[o]}}const dW={narrow:["B","A"],abbreviated:["BC","AD"],wide:["Before Christ","Anno Domini"]},fW={narrow:["1","2","3","4"],abbreviated:["Q1","Q2","Q3","Q4"],wide:["1st quarter","2nd quarter","3rd quarter","4th quarter"]},hW={narrow:["J","F","M","A","M","J","J","A","S","O","N","D"],abbreviated:["Jan","Feb","Mar","Apr","May","Jun","Jul","Aug","Sep","Oct","Nov","Dec"],wide:["January","February","March","April","May","June","July","August","September","October","November","December"]},mW={narrow:["S","M","T","W","T","F","S"],short:["Su","Mo","Tu","We","Th","Fr","Sa"],abbreviated:["Sun","Mon","Tue","Wed","Thu","Fri","Sat"],wide:["Sunday","Monday","Tuesday","Wednesday","Thursday","Friday","Saturday"]},pW={narrow:{am:"a",pm:"p",midnight:"mi",noon:"n",morning:"morning",afternoon:"afternoon",evening:"evening",night:"night"},abbreviated:{am:"AM",pm:"PM",midnight:"midnight",noon:"noon",morning:"morning",afternoon:"afternoon",evening:"evening",night:"night"},wide:{am:"a.m.",pm:"p.m.",midnight:"midnight",noon:"noon",morning:"morning",afternoon:"afternoon",evening:"evening",night:"night"}},gW={narrow:{am:"a",pm:"p",midnight:"mi",noon:"n",morning:"in the morning",afternoon:"in the afternoon",evening:"in the evening",night:"at night"},abbreviated:{am:"AM",pm:"PM",midnight:"midnight",noon:"noon",morning:"in the morning",afternoon:"in the afternoon",evening:"in the evening",night:"at night"},wide:{am:"a.m.",pm:"p.m.",midnight:"midnight",noon:"noon",morning:"in the morning",afternoon:"in the afternoon",evening:"in the evening",night:"at night"}},yW=(e,t)=>{const n=Number(e),r=n%100;if(r>20||r<10)switch(r%10){case 1:return n+"st";case 2:return n+"nd";case 3:return n+"rd"}return n+"th"},vW={ordinalNumber:yW,era:Zu({values:dW,defaultWidth:"wide"}),quarter:Zu({values:fW,defaultWidth:"wide",argumentCallback:e=>e-1}),month:Zu({values:hW,defaultWidth:"wide"}),day:Zu({values:mW,defaultWidth:"wide"}),dayPeriod:Zu({values:pW,defaultWidth:"wide",formattingValues:gW,defaultFormattingWidth:"wide"})};function Xu(e){return(t,n={})=>{const r=n.width,s=r&&e.matchPatterns[r]||e.matchPatterns[e.defaultMatchWidth],o=t.match(s);if(!o)return null;const c=o[0],u=r&&e.parsePatterns[r]||e.parsePatterns[e.defaultParseWidth],f=Array.isArray(u)?xW(u,p=>p.test(c)):bW(u,p=>p.test(c));let h;h=e.valueCallback?e.valueCallback(f):f,h=n.valueCallback?n.valueCallback(h):h;const m=t.slice(c.length);return{value:h,rest:m}}}function bW(e,t){for(const n in e)if(Object.prototype.hasOwnProperty.call(e,n)&&t(e[n]))return n}function xW(e,t){for(let n=0;n<e.length;n++)if(t(e[n]))return n}function wW(e){return(t,n={})=>{const r=t.match(e.matchPattern);if(!r)return null;const s=r[0],o=t.match(e.parsePattern);if(!o)return null;let c=e.valueCallback?e.valueCallback(o[0]):o[0];c=n.valueCallback?n.valueCallback(c):c;const u=t.slice(s.length);return{value:c,rest:u}}}const SW=/^(\d+)(th|st|nd|rd)?/i,EW=/\d+/i,CW={narrow:/^(b|a)/i,abbreviated:/^(b\.?\s?c\.?|b\.?\s?c\.?\s?e\.?|a\.?\s?d\.?|c\.?\s?e\.?)/i,wide:/^(before christ|before common era|anno domini|common era)/i},TW={any:[/^b/i,/^(a|c)/i]},MW={narrow:/^[1234]/i,abbreviated:/^q[1234]/i,wide:/^[1234](th|st|nd|rd)? quarter/i},_W={any:[/1/i,/2/i,/3/i,/4/i]},AW={narrow:/^[jfmasond]/i,abbreviated:/^(jan|feb|mar|apr|may|jun|jul|aug|sep|oct|nov|dec)/i,wide:/^(january|february|march|april|may|june|july|august|september|october|november|december)/i},RW={narrow:[/^j/i,/^f/i,/^m/i,/^a/i,/^m/i,/^j/i,/^j/i,/^a/i,/^s/i,/^o/i,/^n/i,/^d/i],any:[/^ja/i,/^f/i,/^mar/i,/^ap/i,/^may/i,/^jun/i,/^jul/i,/^au/i,/^s/i,/^o/i,/^n/i,/^d/i]},DW={narrow:/^[smtwf]/i,short:/^(su|mo|tu|we|th|fr|sa)/i,abbreviated:/^(sun|mon|tue|wed|thu|fri|sat)/i,wide:/^(sunday|monday|tuesday|wednesday|thursday|friday|saturday)/i},NW={narrow:[/^s/i,/^m/i,/^t/i,/^w/i,/^t/i,/^f/i,/^s/i],any:[/^su/i,/^m/i,/^tu/i,/^w/i,/^th/i,/^f/i,/^sa/i]},OW={narrow:/^(a|p|mi|n|(in the|at) (morning|afternoon|evening|night))/i,any:/^([ap]\.?\s?m\.?|midnight|noon|(in the|at) (morning|afternoon|evening|night))/i},kW={any:{am:/^a/i,pm:/^p/i,midnight:/^mi/i,noon:/^no/i,morning:/morning/i,afternoon:/afternoon/i,evening:/evening/i,night:/night/i}},jW={ordinalNumber:wW({matchPattern:SW,parsePattern:EW,valueCallback:e=>parseInt(e,10)}),era:Xu({matchPatterns:CW,defaultMatchWidth:"wide",parsePatterns:TW,defaultParseWidth:"any"}),quarter:Xu({matchPatterns:MW,defaultMatchWidth:"wide",parsePatterns:_W,defaultParseWidth:"any",valueCallback:e=>e+1}),month:Xu({matchPatterns:AW,defaultMatchWidth:"wide",parsePatterns:RW,defaultParseWidth:"any"}),day:Xu({matchPatterns:DW,defaultMatchWidth:"wide",parsePatterns:NW,defaultParseWidth:"any"}),dayPeriod:Xu({matchPatterns:OW,defaultMatchWidth:"any",parsePatterns:kW,defaultParseWidth:"any"})},Fx={code:"en-US",formatDistance:aW,formatLong:lW,formatRelative:uW,localize:vW,match:jW,options:{weekStartsOn:0,firstWeekContainsDate:1}};function PW(e,t){const n=Xt(e,t==null?void 0:t.in);return qk(n,Gk(n))+1}function Kk(e,t){const n=Xt(e,t==null?void 0:t.in),r=+Vd(n)-+HG(n);return Math.round(r/Fk)+1}function Zk(e,t){var m,p,b,w;const n=Xt(e,t==null?void 0:t.in),r=n.getFullYear(),s=ff(),o=(t==null?void 0:t.firstWeekContainsDate)??((p=(m=t==null?void 0:t.locale)==null?void 0:m.options)==null?void 0:p.firstWeekContainsDate)??s.firstWeekContainsDate??((w=(b=s.locale)==null?void 0:b.options)==null?void 0:w.firstWeekContainsDate)??1,c=qn((t==null?void 0:t.in)||e,0);c.setFullYear(r+1,0,o),c.setHours(0,0,0,0);const u=Sc(c,t),f=qn((t==null?void 0:t.in)||e,0);f.setFullYear(r,0,o),f.setHours(0,0,0,0);const h=Sc(f,t);return+n>=+u?r+1:+n>=+h?r:r-1}function LW(e,t){var u,f,h,m;const n=ff(),r=(t==null?void 0:t.firstWeekContainsDate)??((f=(u=t==null?void 0:t.locale)==null?void 0:u.options)==null?void 0:f.firstWeekContainsDate)??n.firstWeekContainsDate??((m=(h=n.locale)==null?void 0:h.options)==null?void 0:m.firstWeekContainsDate)??1,s=Zk(e,t),o=qn((t==null?void 0:t.in)||e,0);return o.setFullYear(s,0,r),o.setHours(0,0,0,0),Sc(o,t)}function Xk(e,t){const n=Xt(e,t==null?void 0:t.in),r=+Sc(n,t)-+LW(n,t);return Math.round(r/Fk)+1}function qt(e,t){const n=e<0?"-":"",r=Math.abs(e).toString().padStart(t,"0");return n+r}const Ti={y(e,t){const n=e.getFullYear(),r=n>0?n:1-n;return qt(t==="yy"?r%100:r,t.length)},M(e,t){const n=e.getMonth();return t==="M"?String(n+1):qt(n+1,2)},d(e,t){return qt(e.getDate(),t.length)},a(e,t){const n=e.getHours()/12>=1?"pm":"am";switch(t){case"a":case"aa":return n.toUpperCase();case"aaa":return n;case"aaaaa":return n[0];case"aaaa":default:return n==="am"?"a.m.":"p.m."}},h(e,t){return qt(e.getHours()%12||12,t.length)},H(e,t){return qt(e.getHours(),t.length)},m(e,t){return qt(e.getMinutes(),t.length)},s(e,t){return qt(e.getSeconds(),t.length)},S(e,t){const n=t.length,r=e.getMilliseconds(),s=Math.trunc(r*Math.pow(10,n-3));return qt(s,t.length)}},zl={midnight:"midnight",noon:"noon",morning:"morning",afternoon:"afternoon",evening:"evening",night:"night"},d_={G:function(e,t,n){const r=e.getFullYear()>0?1:0;switch(t){case"G":case"GG":case"GGG":return n.era(r,{width:"abbreviated"});case"GGGGG":return n.era(r,{width:"narrow"});case"GGGG":default:return n.era(r,{width:"wide"})}},y:function(e,t,n){if(t==="yo"){const r=e.getFullYear(),s=r>0?r:1-r;return n.ordinalNumber(s,{unit:"year"})}return Ti.y(e,t)},Y:function(e,t,n,r){const s=Zk(e,r),o=s>0?s:1-s;if(t==="YY"){const c=o%100;return qt(c,2)}return t==="Yo"?n.ordinalNumber(o,{unit:"year"}):qt(o,t.length)},R:function(e,t){const n=$k(e);return qt(n,t.length)},u:function(e,t){const n=e.getFullYear();return qt(n,t.length)},Q:function(e,t,n){const r=Math.ceil((e.getMonth()+1)/3);switch(t){case"Q":return String(r);case"QQ":return qt(r,2);case"Qo":return n.ordinalNumber(r,{unit:"quarter"});case"QQQ":return n.quarter(r,{width:"abbreviated",context:"formatting"});case"QQQQQ":return n.quarter(r,{width:"narrow",context:"formatting"});case"QQQQ":default:return n.quarter(r,{width:"wide",context:"formatting"})}},q:function(e,t,n){const r=Math.ceil((e.getMonth()+1)/3);switch(t){case"q":return String(r);case"qq":return qt(r,2);case"qo":return n.ordinalNumber(r,{unit:"quarter"});case"qqq":return n.quarter(r,{width:"abbreviated",context:"standalone"});case"qqqqq":return n.quarter(r,{width:"narrow",context:"standalone"});case"qqqq":default:return n.quarter(r,{width:"wide",context:"standalone"})}},M:function(e,t,n){const r=e.getMonth();switch(t){case"M":case"MM":return Ti.M(e,t);case"Mo":return n.ordinalNumber(r+1,{unit:"month"});case"MMM":return n.month(r,{width:"abbreviated",context:"formatting"});case"MMMMM":return n.month(r,{width:"narrow",context:"formatting"});case"MMMM":default:return n.month(r,{width:"wide",context:"formatting"})}},L:function(e,t,n){const r=e.getMonth();switch(t){case"L":return String(r+1);case"LL":return qt(r+1,2);case"Lo":return n.ordinalNumber(r+1,{unit:"month"});case"LLL":return n.month(r,{width:"abbreviated",context:"standalone"});case"LLLLL":return n.month(r,{width:"narrow",context:"standalone"});case"LLLL":default:return n.month(r,{width:"wide",context:"standalone"})}},w:function(e,t,n,r){const s=Xk(e,r);return t==="wo"?n.ordinalNumber(s,{unit:"week"}):qt(s,t.length)},I:function(e,t,n){const r=Kk(e);return t==="Io"?n.ordinalNumber(r,{unit:"week"}):qt(r,t.length)},d:function(e,t,n){return t==="do"?n.ordinalNumber(e.getDate(),{unit:"date"}):Ti.d(e,t)},D:function(e,t,n){const r=PW(e);return t==="Do"?n.ordinalNumber(r,{unit:"dayOfYear"}):qt(r,t.length)},E:function(e,t,n){const r=e.getDay();switch(t){case"E":case"EE":case"EEE":return n.day(r,{width:"abbreviated",context:"formatting"});case"EEEEE":return n.day(r,{width:"narrow",context:"formatting"});case"EEEEEE":return n.day(r,{width:"short",context:"formatting"});case"EEEE":default:return n.day(r,{width:"wide",context:"formatting"})}},e:function(e,t,n,r){const s=e.getDay(),o=(s-r.weekStartsOn+8)%7||7;switch(t){case"e":return String(o);case"ee":return qt(o,2);case"eo":return n.ordinalNumber(o,{unit:"day"});case"eee":return n.day(s,{width:"abbreviated",context:"formatting"});case"eeeee":return n.day(s,{width:"narrow",context:"formatting"});case"eeeeee":return n.day(s,{width:"short",context:"formatting"});case"eeee":default:return n.day(s,{width:"wide",context:"formatting"})}},c:function(e,t,n,r){const s=e.getDay(),o=(s-r.weekStartsOn+8)%7||7;switch(t){case"c":return String(o);case"cc":return qt(o,t.length);case"co":return n.ordinalNumber(o,{unit:"day"});case"ccc":return n.day(s,{width:"abbreviated",context:"standalone"});case"ccccc":return n.day(s,{width:"narrow",context:"standalone"});case"cccccc":return n.day(s,{width:"short",context:"standalone"});case"cccc":default:return n.day(s,{width:"wide",context:"standalone"})}},i:function(e,t,n){const r=e.getDay(),s=r===0?7:r;switch(t){case"i":return String(s);case"ii":return qt(s,t.length);case"io":return n.ordinalNumber(s,{unit:"day"});case"iii":return n.day(r,{width:"abbreviated",context:"formatting"});case"iiiii":return n.day(r,{width:"narrow",context:"formatting"});case"iiiiii":return n.day(r,{width:"short",context:"formatting"});case"iiii":default:return n.day(r,{width:"wide",context:"formatting"})}},a:function(e,t,n){const s=e.getHours()/12>=1?"pm":"am";switch(t){case"a":case"aa":return n.dayPeriod(s,{width:"abbreviated",context:"formatting"});case"aaa":return n.dayPeriod(s,{width:"abbreviated",context:"formatting"}).toLowerCase();case"aaaaa":return n.dayPeriod(s,{width:"narrow",context:"formatting"});case"aaaa":default:return n.dayPeriod(s,{width:"wide",context:"formatting"})}},b:function(e,t,n){const r=e.getHours();let s;switch(r===12?s=zl.noon:r===0?s=zl.midnight:s=r/12>=1?"pm":"am",t){case"b":case"bb":return n.dayPeriod(s,{width:"abbreviated",context:"formatting"});case"bbb":return n.dayPeriod(s,{width:"abbreviated",context:"formatting"}).toLowerCase();case"bbbbb":return n.dayPeriod(s,{width:"narrow",context:"formatting"});case"bbbb":default:return n.dayPeriod(s,{width:"wide",context:"formatting"})}},B:function(e,t,n){const r=e.getHours();let s;switch(r>=17?s=zl.evening:r>=12?s=zl.afternoon:r>=4?s=zl.morning:s=zl.night,t){case"B":case"BB":case"BBB":return n.dayPeriod(s,{width:"abbreviated",context:"formatting"});case"BBBBB":return n.dayPeriod(s,{width:"narrow",context:"formatting"});case"BBBB":default:return n.dayPeriod(s,{width:"wide",context:"formatting"})}},h:function(e,t,n){if(t==="ho"){let r=e.getHours()%12;return r===0&&(r=12),n.ordinalNumber(r,{unit:"hour"})}return Ti.h(e,t)},H:function(e,t,n){return t==="Ho"?n.ordinalNumber(e.getHours(),{unit:"hour"}):Ti.H(e,t)},K:function(e,t,n){const r=e.getHours()%12;return t==="Ko"?n.ordinalNumber(r,{unit:"hour"}):qt(r,t.length)},k:function(e,t,n){let r=e.getHours();return r===0&&(r=24),t==="ko"?n.ordinalNumber(r,{unit:"hour"}):qt(r,t.length)},m:function(e,t,n){return t==="mo"?n.ordinalNumber(e.getMinutes(),{unit:"minute"}):Ti.m(e,t)},s:function(e,t,n){return t==="so"?n.ordinalNumber(e.getSeconds(),{unit:"second"}):Ti.s(e,t)},S:function(e,t){return Ti.S(e,t)},X:function(e,t,n){const r=e.getTimezoneOffset();if(r===0)return"Z";switch(t){case"X":return h_(r);case"XXXX":case"XX":return Co(r);case"XXXXX":case"XXX":default:return Co(r,":")}},x:function(e,t,n){const r=e.getTimezoneOffset();switch(t){case"x":return h_(r);case"xxxx":case"xx":return Co(r);case"xxxxx":case"xxx":default:return Co(r,":")}},O:function(e,t,n){const r=e.getTimezoneOffset();switch(t){case"O":case"OO":case"OOO":return"GMT"+f_(r,":");case"OOOO":default:return"GMT"+Co(r,":")}},z:function(e,t,n){const r=e.getTimezoneOffset();switch(t){case"z":case"zz":case"zzz":return"GMT"+f_(r,":");case"zzzz":default:return"GMT"+Co(r,":")}},t:function(e,t,n){const r=Math.trunc(+e/1e3);return qt(r,t.length)},T:function(e,t,n){return qt(+e,t.length)}};function f_(e,t=""){const n=e>0?"-":"+",r=Math.abs(e),s=Math.trunc(r/60),o=r%60;return o===0?n+String(s):n+String(s)+t+qt(o,2)}function h_(e,t){return e%60===0?(e>0?"-":"+")+qt(Math.abs(e)/60,2):Co(e,t)}function Co(e,t=""){const n=e>0?"-":"+",r=Math.abs(e),s=qt(Math.trunc(r/60),2),o=qt(r%60,2);return n+s+t+o}const m_=(e,t)=>{switch(e){case"P":return t.date({width:"short"});case"PP":return t.date({width:"medium"});case"PPP":return t.date({width:"long"});case"PPPP":default:return t.date({width:"full"})}},Qk=(e,t)=>{switch(e){case"p":return t.time({width:"short"});case"pp":return t.time({width:"medium"});case"ppp":return t.time({width:"long"});case"pppp":default:return t.time({width:"full"})}},VW=(e,t)=>{const n=e.match(/(P+)(p+)?/)||[],r=n[1],s=n[2];if(!s)return m_(e,t);let o;switch(r){case"P":o=t.dateTime({width:"short"});break;case"PP":o=t.dateTime({width:"medium"});break;case"PPP":o=t.dateTime({width:"long"});break;case"PPPP":default:o=t.dateTime({width:"full"});break}return o.replace("{{date}}",m_(r,t)).replace("{{time}}",Qk(s,t))},zW={p:Qk,P:VW},BW=/^D+$/,UW=/^Y+$/,FW=["D","DD","YY","YYYY"];function IW(e){return BW.test(e)}function HW(e){return UW.test(e)}function $W(e,t,n){const r=qW(e,t,n);if(console.warn(r),FW.includes(e))throw new RangeError(r)}function qW(e,t,n){const r=e[0]==="Y"?"years":"days of the month";return`Use \`${e.toLowerCase()}\` instead of \`${e}\` (in \`${t}\`) for formatting ${r} to the input \`${n}\`; see: https://github.com/date-fns/date-fns/blob/master/docs/unicodeTokens.md`}const YW=/[yYQqMLwIdDecihHKkms]o|(\w)\1*|''|'(''|[^'])+('|$)|./g,GW=/P+p+|P+|p+|''|'(''|[^'])+('|$)|./g,WW=/^'([^]*?)'?$/,KW=/''/g,ZW=/[a-zA-Z]/;function Jk(e,t,n){var m,p,b,w,S,E,C,T;const r=ff(),s=(n==null?void 0:n.locale)??r.locale??Fx,o=(n==null?void 0:n.firstWeekContainsDate)??((p=(m=n==null?void 0:n.locale)==null?void 0:m.options)==null?void 0:p.firstWeekContainsDate)??r.firstWeekContainsDate??((w=(b=r.locale)==null?void 0:b.options)==null?void 0:w.firstWeekContainsDate)??1,c=(n==null?void 0:n.weekStartsOn)??((E=(S=n==null?void 0:n.locale)==null?void 0:S.options)==null?void 0:E.weekStartsOn)??r.weekStartsOn??((T=(C=r.locale)==null?void 0:C.options)==null?void 0:T.weekStartsOn)??0,u=Xt(e,n==null?void 0:n.in);if(!KG(u))throw new RangeError("Invalid time value");let f=t.match(GW).map(_=>{const A=_[0];if(A==="p"||A==="P"){const O=zW[A];return O(_,s.formatLong)}return _}).join("").match(YW).map(_=>{if(_==="''")return{isToken:!1,value:"'"};const A=_[0];if(A==="'")return{isToken:!1,value:XW(_)};if(d_[A])return{isToken:!0,value:_};if(A.match(ZW))throw new RangeError("Format string contains an unescaped latin alphabet character `"+A+"`");return{isToken:!1,value:_}});s.localize.preprocessor&&(f=s.localize.preprocessor(u,f));const h={firstWeekContainsDate:o,weekStartsOn:c,locale:s};return f.map(_=>{if(!_.isToken)return _.value;const A=_.value;(!(n!=null&&n.useAdditionalWeekYearTokens)&&HW(A)||!(n!=null&&n.useAdditionalDayOfYearTokens)&&IW(A))&&$W(A,t,String(e));const O=d_[A[0]];return O(u,A,s.localize,h)}).join("")}function XW(e){const t=e.match(WW);return t?t[1].replace(KW,"'"):e}function QW(e,t){const n=Xt(e,t==null?void 0:t.in),r=n.getFullYear(),s=n.getMonth(),o=qn(n,0);return o.setFullYear(r,s+1,0),o.setHours(0,0,0,0),o.getDate()}function JW(e,t){return Xt(e,t==null?void 0:t.in).getMonth()}function eK(e,t){return Xt(e,t==null?void 0:t.in).getFullYear()}function tK(e,t){return+Xt(e)>+Xt(t)}function nK(e,t){return+Xt(e)<+Xt(t)}function rK(e,t,n){const[r,s]=Hc(n==null?void 0:n.in,e,t);return r.getFullYear()===s.getFullYear()&&r.getMonth()===s.getMonth()}function aK(e,t,n){const[r,s]=Hc(n==null?void 0:n.in,e,t);return r.getFullYear()===s.getFullYear()}function sK(e,t,n){const r=Xt(e,n==null?void 0:n.in),s=r.getFullYear(),o=r.getDate(),c=qn(e,0);c.setFullYear(s,t,15),c.setHours(0,0,0,0);const u=QW(c);return r.setMonth(t,Math.min(o,u)),r}function iK(e,t,n){const r=Xt(e,n==null?void 0:n.in);return isNaN(+r)?qn(e,NaN):(r.setFullYear(t),r)}const p_=5,oK=4;function lK(e,t){const n=t.startOfMonth(e),r=n.getDay()>0?n.getDay():7,s=t.addDays(e,-r+1),o=t.addDays(s,p_*7-1);return t.getMonth(e)===t.getMonth(o)?p_:oK}function ej(e,t){const n=t.startOfMonth(e),r=n.getDay();return r===1?n:r===0?t.addDays(n,-1*6):t.addDays(n,-1*(r-1))}function cK(e,t){const n=ej(e,t),r=lK(e,t);return t.addDays(n,r*7-1)}class Zs{constructor(t,n){this.Date=Date,this.today=()=>{var r;return(r=this.overrides)!=null&&r.today?this.overrides.today():this.options.timeZone?ur.tz(this.options.timeZone):new this.Date},this.newDate=(r,s,o)=>{var c;return(c=this.overrides)!=null&&c.newDate?this.overrides.newDate(r,s,o):this.options.timeZone?new ur(r,s,o,this.options.timeZone):new Date(r,s,o)},this.addDays=(r,s)=>{var o;return(o=this.overrides)!=null&&o.addDays?this.overrides.addDays(r,s):Ik(r,s)},this.addMonths=(r,s)=>{var o;return(o=this.overrides)!=null&&o.addMonths?this.overrides.addMonths(r,s):Hk(r,s)},this.addWeeks=(r,s)=>{var o;return(o=this.overrides)!=null&&o.addWeeks?this.overrides.addWeeks(r,s):$G(r,s)},this.addYears=(r,s)=>{var o;return(o=this.overrides)!=null&&o.addYears?this.overrides.addYears(r,s):qG(r,s)},this.differenceInCalendarDays=(r,s)=>{var o;return(o=this.overrides)!=null&&o.differenceInCalendarDays?this.overrides.differenceInCalendarDays(r,s):qk(r,s)},this.differenceInCalendarMonths=(r,s)=>{var o;return(o=this.overrides)!=null&&o.differenceInCalendarMonths?this.overrides.differenceInCalendarMonths(r,s):ZG(r,s)},this.eachMonthOfInterval=r=>{var s;return(s=this.overrides)!=null&&s.eachMonthOfInterval?this.overrides.eachMonthOfInterval(r):JG(r)},this.endOfBroadcastWeek=r=>{var s;return(s=this.overrides)!=null&&s.endOfBroadcastWeek?this.overrides.endOfBroadcastWeek(r):cK(r,this)},this.endOfISOWeek=r=>{var s;return(s=this.overrides)!=null&&s.endOfISOWeek?this.overrides.endOfISOWeek(r):nW(r)},this.endOfMonth=r=>{var s;return(s=this.overrides)!=null&&s.endOfMonth?this.overrides.endOfMonth(r):XG(r)},this.endOfWeek=(r,s)=>{var o;return(o=this.overrides)!=null&&o.endOfWeek?this.overrides.endOfWeek(r,s):Wk(r,this.options)},this.endOfYear=r=>{var s;return(s=this.overrides)!=null&&s.endOfYear?this.overrides.endOfYear(r):tW(r)},this.format=(r,s,o)=>{var u;const c=(u=this.overrides)!=null&&u.format?this.overrides.format(r,s,this.options):Jk(r,s,this.options);return this.options.numerals&&this.options.numerals!=="latn"?this.replaceDigits(c):c},this.getISOWeek=r=>{var s;return(s=this.overrides)!=null&&s.getISOWeek?this.overrides.getISOWeek(r):Kk(r)},this.getMonth=(r,s)=>{var o;return(o=this.overrides)!=null&&o.getMonth?this.overrides.getMonth(r,this.options):JW(r,this.options)},this.getYear=(r,s)=>{var o;return(o=this.overrides)!=null&&o.getYear?this.overrides.getYear(r,this.options):eK(r,this.options)},this.getWeek=(r,s)=>{var o;return(o=this.overrides)!=null&&o.getWeek?this.overrides.getWeek(r,this.options):Xk(r,this.options)},this.isAfter=(r,s)=>{var o;return(o=this.overrides)!=null&&o.isAfter?this.overrides.isAfter(r,s):tK(r,s)},this.isBefore=(r,s)=>{var o;return(o=this.overrides)!=null&&o.isBefore?this.overrides.isBefore(r,s):nK(r,s)},this.isDate=r=>{var s;return(s=this.overrides)!=null&&s.isDate?this.overrides.isDate(r):Yk(r)},this.isSameDay=(r,s)=>{var o;return(o=this.overrides)!=null&&o.isSameDay?this.overrides.isSameDay(r,s):WG(r,s)},this.isSameMonth=(r,s)=>{var o;return(o=this.overrides)!=null&&o.isSameMonth?this.overrides.isSameMonth(r,s):rK(r,s)},this.isSameYear=(r,s)=>{var o;return(o=this.overrides)!=null&&o.isSameYear?this.overrides.isSameYear(r,s):aK(r,s)},this.max=r=>{var s;return(s=this.overrides)!=null&&s.max?this.overrides.max(r):YG(r)},this.min=r=>{var s;return(s=this.overrides)!=null&&s.min?this.overrides.min(r):GG(r)},this.setMonth=(r,s)=>{var o;return(o=this.overrides)!=null&&o.setMonth?this.overrides.setMonth(r,s):sK(r,s)},this.setYear=(r,s)=>{var o;return(o=this.overrides)!=null&&o.setYear?this.overrides.setYear(r,s):iK(r,s)},this.startOfBroadcastWeek=(r,s)=>{var o;return(o=this.overrides)!=null&&o.startOfBroadcastWeek?this.overrides.startOfBroadcastWeek(r,this):ej(r,this)},this.startOfDay=r=>{var s;return(s=this.overrides)!=null&&s.startOfDay?this.overrides.startOfDay(r):zd(r)},this.startOfISOWeek=r=>{var s;return(s=this.overrides)!=null&&s.startOfISOWeek?this.overrides.startOfISOWeek(r):Vd(r)},this.startOfMonth=r=>{var s;return(s=this.overrides)!=null&&s.startOfMonth?this.overrides.startOfMonth(r):eW(r)},this.startOfWeek=(r,s)=>{var o;return(o=this.overrides)!=null&&o.startOfWeek?this.overrides.startOfWeek(r,this.options):Sc(r,this.options)},this.startOfYear=r=>{var s;return(s=this.overrides)!=null&&s.startOfYear?this.overrides.startOfYear(r):Gk(r)},this.options={locale:Fx,...t},this.overrides=n}getDigitMap(){const{numerals:t="latn"}=this.options,n=new Intl.NumberFormat("en-US",{numberingSystem:t}),r={};for(let s=0;s<10;s++)r[s.toString()]=n.format(s);return r}replaceDigits(t){const n=this.getDigitMap();return t.replace(/\d/g,r=>n[r]||r)}formatNumber(t){return this.replaceDigits(t.toString())}}const ds=new Zs;class tj{constructor(t,n,r=ds){this.date=t,this.displayMonth=n,this.outside=!!(n&&!r.isSameMonth(t,n)),this.dateLib=r}isEqualTo(t){return this.dateLib.isSameDay(t.date,this.date)&&this.dateLib.isSameMonth(t.displayMonth,this.displayMonth)}}class uK{constructor(t,n){this.date=t,this.weeks=n}}class dK{constructor(t,n){this.days=n,this.weekNumber=t}}function ks(e,t,n=!1,r=ds){let{from:s,to:o}=e;const{differenceInCalendarDays:c,isSameDay:u}=r;return s&&o?(c(o,s)<0&&([s,o]=[o,s]),c(t,s)>=(n?1:0)&&c(o,t)>=(n?1:0)):!n&&o?u(o,t):!n&&s?u(s,t):!1}function nj(e){return!!(e&&typeof e=="object"&&"before"in e&&"after"in e)}function Ix(e){return!!(e&&typeof e=="object"&&"from"in e)}function rj(e){return!!(e&&typeof e=="object"&&"after"in e)}function aj(e){return!!(e&&typeof e=="object"&&"before"in e)}function sj(e){return!!(e&&typeof e=="object"&&"dayOfWeek"in e)}function ij(e,t){return Array.isArray(e)&&e.every(t.isDate)}function js(e,t,n=ds){const r=Array.isArray(t)?t:[t],{isSameDay:s,differenceInCalendarDays:o,isAfter:c}=n;return r.some(u=>{if(typeof u=="boolean")return u;if(n.isDate(u))return s(e,u);if(ij(u,n))return u.includes(e);if(Ix(u))return ks(u,e,!1,n);if(sj(u))return Array.isArray(u.dayOfWeek)?u.dayOfWeek.includes(e.getDay()):u.dayOfWeek===e.getDay();if(nj(u)){const f=o(u.before,e),h=o(u.after,e),m=f>0,p=h<0;return c(u.before,u.after)?p&&m:m||p}return rj(u)?o(e,u.after)>0:aj(u)?o(u.before,e)>0:typeof u=="function"?u(e):!1})}function fK(e,t,n){const{disabled:r,hidden:s,modifiers:o,showOutsideDays:c,broadcastCalendar:u,today:f}=t,{isSameDay:h,isSameMonth:m,startOfMonth:p,isBefore:b,endOfMonth:w,isAfter:S}=n,E=t.startMonth&&p(t.startMonth),C=t.endMonth&&w(t.endMonth),T={[ln.focused]:[],[ln.outside]:[],[ln.disabled]:[],[ln.hidden]:[],[ln.today]:[]},_={};for(const A of e){const{date:O,displayMonth:R}=A,D=!!(R&&!m(O,R)),L=!!(E&&b(O,E)),k=!!(C&&S(O,C)),H=!!(r&&js(O,r,n)),X=!!(s&&js(O,s,n))||L||k||!u&&!c&&D||u&&c===!1&&D,oe=h(O,f??n.today());D&&T.outside.push(A),H&&T.disabled.push(A),X&&T.hidden.push(A),oe&&T.today.push(A),o&&Object.keys(o).forEach(ce=>{const de=o==null?void 0:o[ce];de&&js(O,de,n)&&(_[ce]?_[ce].push(A):_[ce]=[A])})}return A=>{const O={[ln.focused]:!1,[ln.disabled]:!1,[ln.hidden]:!1,[ln.outside]:!1,[ln.today]:!1},R={};for(const D in T){const L=T[D];O[D]=L.some(k=>k===A)}for(const D in _)R[D]=_[D].some(L=>L===A);return{...O,...R}}}function hK(e,t,n={}){return Object.entries(e).filter(([,s])=>s===!0).reduce((s,[o])=>(n[o]?s.push(n[o]):t[ln[o]]?s.push(t[ln[o]]):t[ka[o]]&&s.push(t[ka[o]]),s),[t[Ye.Day]])}function mK(e){return G.createElement("button",{...e})}function pK(e){return G.createElement("span",{...e})}function gK(e){const{size:t=24,orientation:n="left",className:r}=e;return G.createElement("svg",{className:r,width:t,height:t,viewBox:"0 0 24 24"},n==="up"&&G.createElement("polygon",{points:"6.77 17 12.5 11.43 18.24 17 20 15.28 12.5 8 5 15.28"}),n==="down"&&G.createElement("polygon",{points:"6.77 8 12.5 13.57 18.24 8 20 9.72 12.5 17 5 9.72"}),n==="left"&&G.createElement("polygon",{points:"16 18.112 9.81111111 12 16 5.87733333 14.0888889 4 6 12 14.0888889 20"}),n==="right"&&G.createElement("polygon",{points:"8 18.112 14.18888889 12 8 5.87733333 9.91111111 4 18 12 9.91111111 20"}))}function yK(e){const{day:t,modifiers:n,...r}=e;return G.createElement("td",{...r})}function vK(e){const{day:t,modifiers:n,...r}=e,s=G.useRef(null);return G.useEffect(()=>{var o;n.focused&&((o=s.current)==null||o.focus())},[n.focused]),G.createElement("button",{ref:s,...r})}function bK(e){const{options:t,className:n,components:r,classNames:s,...o}=e,c=[s[Ye.Dropdown],n].join(" "),u=t==null?void 0:t.find(({value:f})=>f===o.value);return G.createElement("span",{"data-disabled":o.disabled,className:s[Ye.DropdownRoot]},G.createElement(r.Select,{className:c,...o},t==null?void 0:t.map(({value:f,label:h,disabled:m})=>G.createElement(r.Option,{key:f,value:f,disabled:m},h))),G.createElement("span",{className:s[Ye.CaptionLabel],"aria-hidden":!0},u==null?void 0:u.label,G.createElement(r.Chevron,{orientation:"down",size:18,className:s[Ye.Chevron]})))}function xK(e){return G.createElement("div",{...e})}function wK(e){return G.createElement("div",{...e})}function SK(e){const{calendarMonth:t,displayIndex:n,...r}=e;return G.createElement("div",{...r},e.children)}function EK(e){const{calendarMonth:t,displayIndex:n,...r}=e;return G.createElement("div",{...r})}function CK(e){return G.createElement("table",{...e})}function TK(e){return G.createElement("div",{...e})}const oj=x.createContext(void 0);function hf(){const e=x.useContext(oj);if(e===void 0)throw new Error("useDayPicker() must be used within a custom component.");return e}function MK(e){const{components:t}=hf();return G.createElement(t.Dropdown,{...e})}function _K(e){const{onPreviousClick:t,onNextClick:n,previousMonth:r,nextMonth:s,...o}=e,{components:c,classNames:u,labels:{labelPrevious:f,labelNext:h}}=hf(),m=x.useCallback(b=>{s&&(n==null||n(b))},[s,n]),p=x.useCallback(b=>{r&&(t==null||t(b))},[r,t]);return G.createElement("nav",{...o},G.createElement(c.PreviousMonthButton,{type:"button",className:u[Ye.PreviousMonthButton],tabIndex:r?void 0:-1,"aria-disabled":r?void 0:!0,"aria-label":f(r),onClick:p},G.createElement(c.Chevron,{disabled:r?void 0:!0,className:u[Ye.Chevron],orientation:"left"})),G.createElement(c.NextMonthButton,{type:"button",className:u[Ye.NextMonthButton],tabIndex:s?void 0:-1,"aria-disabled":s?void 0:!0,"aria-label":h(s),onClick:m},G.createElement(c.Chevron,{disabled:s?void 0:!0,orientation:"right",className:u[Ye.Chevron]})))}function AK(e){const{components:t}=hf();return G.createElement(t.Button,{...e})}function RK(e){return G.createElement("option",{...e})}function DK(e){const{components:t}=hf();return G.createElement(t.Button,{...e})}function NK(e){const{rootRef:t,...n}=e;return G.createElement("div",{...n,ref:t})}function OK(e){return G.createElement("select",{...e})}function kK(e){const{week:t,...n}=e;return G.createElement("tr",{...n})}function jK(e){return G.createElement("th",{...e})}function PK(e){return G.createElement("thead",{"aria-hidden":!0},G.createElement("tr",{...e}))}function LK(e){const{week:t,...n}=e;return G.createElement("th",{...n})}function VK(e){return G.createElement("th",{...e})}function zK(e){return G.createElement("tbody",{...e})}function BK(e){const{components:t}=hf();return G.createElement(t.Dropdown,{...e})}const UK=Object.freeze(Object.defineProperty({__proto__:null,Button:mK,CaptionLabel:pK,Chevron:gK,Day:yK,DayButton:vK,Dropdown:bK,DropdownNav:xK,Footer:wK,Month:SK,MonthCaption:EK,MonthGrid:CK,Months:TK,MonthsDropdown:MK,Nav:_K,NextMonthButton:AK,Option:RK,PreviousMonthButton:DK,Root:NK,Select:OK,Week:kK,WeekNumber:LK,WeekNumberHeader:VK,Weekday:jK,Weekdays:PK,Weeks:zK,YearsDropdown:BK},Symbol.toStringTag,{value:"Module"}));function FK(e){return{...UK,...e}}function IK(e){const t={"data-mode":e.mode??void 0,"data-required":"required"in e?e.required:void 0,"data-multiple-months":e.numberOfMonths&&e.numberOfMonths>1||void 0,"data-week-numbers":e.showWeekNumber||void 0,"data-broadcast-calendar":e.broadcastCalendar||void 0,"data-nav-layout":e.navLayout||void 0};return Object.entries(e).forEach(([n,r])=>{n.startsWith("data-")&&(t[n]=r)}),t}function Hx(){const e={};for(const t in Ye)e[Ye[t]]=`rdp-${Ye[t]}`;for(const t in ln)e[ln[t]]=`rdp-${ln[t]}`;for(const t in ka)e[ka[t]]=`rdp-${ka[t]}`;for(const t in Gr)e[Gr[t]]=`rdp-${Gr[t]}`;return e}function lj(e,t,n){return(n??new Zs(t)).format(e,"LLLL y")}const HK=lj;function $K(e,t,n){return(n??new Zs(t)).format(e,"d")}function qK(e,t=ds){return t.format(e,"LLLL")}function YK(e,t=ds){return e<10?t.formatNumber(`0${e.toLocaleString()}`):t.formatNumber(`${e.toLocaleString()}`)}function GK(){return""}function WK(e,t,n){return(n??new Zs(t)).format(e,"cccccc")}function cj(e,t=ds){return t.format(e,"yyyy")}const KK=cj,ZK=Object.freeze(Object.defineProperty({__proto__:null,formatCaption:lj,formatDay:$K,formatMonthCaption:HK,formatMonthDropdown:qK,formatWeekNumber:YK,formatWeekNumberHeader:GK,formatWeekdayName:WK,formatYearCaption:KK,formatYearDropdown:cj},Symbol.toStringTag,{value:"Module"}));function XK(e){return e!=null&&e.formatMonthCaption&&!e.formatCaption&&(e.formatCaption=e.formatMonthCaption),e!=null&&e.formatYearCaption&&!e.formatYearDropdown&&(e.formatYearDropdown=e.formatYearCaption),{...ZK,...e}}function QK(e,t,n,r,s){const{startOfMonth:o,startOfYear:c,endOfYear:u,eachMonthOfInterval:f,getMonth:h}=s;return f({start:c(e),end:u(e)}).map(b=>{const w=r.formatMonthDropdown(b,s),S=h(b),E=t&&b<o(t)||n&&b>o(n)||!1;return{value:S,label:w,disabled:E}})}function JK(e,t={},n={}){let r={...t==null?void 0:t[Ye.Day]};return Object.entries(e).filter(([,s])=>s===!0).forEach(([s])=>{r={...r,...n==null?void 0:n[s]}}),r}function eZ(e,t,n){const r=e.today(),s=t?e.startOfISOWeek(r):e.startOfWeek(r),o=[];for(let c=0;c<7;c++){const u=e.addDays(s,c);o.push(u)}return o}function tZ(e,t,n,r){if(!e||!t)return;const{startOfYear:s,endOfYear:o,addYears:c,getYear:u,isBefore:f,isSameYear:h}=r,m=s(e),p=o(t),b=[];let w=m;for(;f(w,p)||h(w,p);)b.push(w),w=c(w,1);return b.map(S=>{const E=n.formatYearDropdown(S,r);return{value:u(S),label:E,disabled:!1}})}function uj(e,t,n){return(n??new Zs(t)).format(e,"LLLL y")}const nZ=uj;function rZ(e,t,n,r){let s=(r??new Zs(n)).format(e,"PPPP");return t!=null&&t.today&&(s=`Today, ${s}`),s}function dj(e,t,n,r){let s=(r??new Zs(n)).format(e,"PPPP");return t.today&&(s=`Today, ${s}`),t.selected&&(s=`${s}, selected`),s}const aZ=dj;function sZ(){return""}function iZ(e){return"Choose the Month"}function oZ(e){return"Go to the Next Month"}function lZ(e){return"Go to the Previous Month"}function cZ(e,t,n){return(n??new Zs(t)).format(e,"cccc")}function uZ(e,t){return`Week ${e}`}function dZ(e){return"Week Number"}function fZ(e){return"Choose the Year"}const hZ=Object.freeze(Object.defineProperty({__proto__:null,labelCaption:nZ,labelDay:aZ,labelDayButton:dj,labelGrid:uj,labelGridcell:rZ,labelMonthDropdown:iZ,labelNav:sZ,labelNext:oZ,labelPrevious:lZ,labelWeekNumber:uZ,labelWeekNumberHeader:dZ,labelWeekday:cZ,labelYearDropdown:fZ},Symbol.toStringTag,{value:"Module"})),mf=e=>e instanceof HTMLElement?e:null,pv=e=>[...e.querySelectorAll("[data-animated-month]")??[]],mZ=e=>mf(e.querySelector("[data-animated-month]")),gv=e=>mf(e.querySelector("[data-animated-caption]")),yv=e=>mf(e.querySelector("[data-animated-weeks]")),pZ=e=>mf(e.querySelector("[data-animated-nav]")),gZ=e=>mf(e.querySelector("[data-animated-weekdays]"));function yZ(e,t,{classNames:n,months:r,focused:s,dateLib:o}){const c=x.useRef(null),u=x.useRef(r),f=x.useRef(!1);x.useLayoutEffect(()=>{const h=u.current;if(u.current=r,!t||!e.current||!(e.current instanceof HTMLElement)||r.length===0||h.length===0||r.length!==h.length)return;const m=o.isSameMonth(r[0].date,h[0].date),p=o.isAfter(r[0].date,h[0].date),b=p?n[Gr.caption_after_enter]:n[Gr.caption_before_enter],w=p?n[Gr.weeks_after_enter]:n[Gr.weeks_before_enter],S=c.current,E=e.current.cloneNode(!0);if(E instanceof HTMLElement?(pv(E).forEach(A=>{if(!(A instanceof HTMLElement))return;const O=mZ(A);O&&A.contains(O)&&A.removeChild(O);const R=gv(A);R&&R.classList.remove(b);const D=yv(A);D&&D.classList.remove(w)}),c.current=E):c.current=null,f.current||m||s)return;const C=S instanceof HTMLElement?pv(S):[],T=pv(e.current);if(T&&T.every(_=>_ instanceof HTMLElement)&&C&&C.every(_=>_ instanceof HTMLElement)){f.current=!0,e.current.style.isolation="isolate";const _=pZ(e.current);_&&(_.style.zIndex="1"),T.forEach((A,O)=>{const R=C[O];if(!R)return;A.style.position="relative",A.style.overflow="hidden";const D=gv(A);D&&D.classList.add(b);const L=yv(A);L&&L.classList.add(w);const k=()=>{f.current=!1,e.current&&(e.current.style.isolation=""),_&&(_.style.zIndex=""),D&&D.classList.remove(b),L&&L.classList.remove(w),A.style.position="",A.style.overflow="",A.contains(R)&&A.removeChild(R)};R.style.pointerEvents="none",R.style.position="absolute",R.style.overflow="hidden",R.setAttribute("aria-hidden","true");const H=gZ(R);H&&(H.style.opacity="0");const X=gv(R);X&&(X.classList.add(p?n[Gr.caption_before_exit]:n[Gr.caption_after_exit]),X.addEventListener("animationend",k));const oe=yv(R);oe&&oe.classList.add(p?n[Gr.weeks_before_exit]:n[Gr.weeks_after_exit]),A.insertBefore(R,A.firstChild)})}})}function vZ(e,t,n,r){const s=e[0],o=e[e.length-1],{ISOWeek:c,fixedWeeks:u,broadcastCalendar:f}=n??{},{addDays:h,differenceInCalendarDays:m,differenceInCalendarMonths:p,endOfBroadcastWeek:b,endOfISOWeek:w,endOfMonth:S,endOfWeek:E,isAfter:C,startOfBroadcastWeek:T,startOfISOWeek:_,startOfWeek:A}=r,O=f?T(s,r):c?_(s):A(s),R=f?b(o):c?w(S(o)):E(S(o)),D=m(R,O),L=p(o,s)+1,k=[];for(let oe=0;oe<=D;oe++){const ce=h(O,oe);if(t&&C(ce,t))break;k.push(ce)}const X=(f?35:42)*L;if(u&&k.length<X){const oe=X-k.length;for(let ce=0;ce<oe;ce++){const de=h(k[k.length-1],1);k.push(de)}}return k}function bZ(e){const t=[];return e.reduce((n,r)=>{const s=r.weeks.reduce((o,c)=>[...o,...c.days],t);return[...n,...s]},t)}function xZ(e,t,n,r){const{numberOfMonths:s=1}=n,o=[];for(let c=0;c<s;c++){const u=r.addMonths(e,c);if(t&&u>t)break;o.push(u)}return o}function g_(e,t){const{month:n,defaultMonth:r,today:s=t.today(),numberOfMonths:o=1,endMonth:c,startMonth:u}=e;let f=n||r||s;const{differenceInCalendarMonths:h,addMonths:m,startOfMonth:p}=t;if(c&&h(c,f)<0){const b=-1*(o-1);f=m(c,b)}return u&&h(f,u)<0&&(f=u),p(f)}function wZ(e,t,n,r){const{addDays:s,endOfBroadcastWeek:o,endOfISOWeek:c,endOfMonth:u,endOfWeek:f,getISOWeek:h,getWeek:m,startOfBroadcastWeek:p,startOfISOWeek:b,startOfWeek:w}=r,S=e.reduce((E,C)=>{const T=n.broadcastCalendar?p(C,r):n.ISOWeek?b(C):w(C),_=n.broadcastCalendar?o(C):n.ISOWeek?c(u(C)):f(u(C)),A=t.filter(L=>L>=T&&L<=_),O=n.broadcastCalendar?35:42;if(n.fixedWeeks&&A.length<O){const L=t.filter(k=>{const H=O-A.length;return k>_&&k<=s(_,H)});A.push(...L)}const R=A.reduce((L,k)=>{const H=n.ISOWeek?h(k):m(k),X=L.find(ce=>ce.weekNumber===H),oe=new tj(k,C,r);return X?X.days.push(oe):L.push(new dK(H,[oe])),L},[]),D=new uK(C,R);return E.push(D),E},[]);return n.reverseMonths?S.reverse():S}function SZ(e,t){let{startMonth:n,endMonth:r}=e;const{startOfYear:s,startOfDay:o,startOfMonth:c,endOfMonth:u,addYears:f,endOfYear:h,newDate:m,today:p}=t,{fromYear:b,toYear:w,fromMonth:S,toMonth:E}=e;!n&&S&&(n=S),!n&&b&&(n=t.newDate(b,0,1)),!r&&E&&(r=E),!r&&w&&(r=m(w,11,31));const C=e.captionLayout==="dropdown"||e.captionLayout==="dropdown-years";return n?n=c(n):b?n=m(b,0,1):!n&&C&&(n=s(f(e.today??p(),-100))),r?r=u(r):w?r=m(w,11,31):!r&&C&&(r=h(e.today??p())),[n&&o(n),r&&o(r)]}function EZ(e,t,n,r){if(n.disableNavigation)return;const{pagedNavigation:s,numberOfMonths:o=1}=n,{startOfMonth:c,addMonths:u,differenceInCalendarMonths:f}=r,h=s?o:1,m=c(e);if(!t)return u(m,h);if(!(f(t,e)<o))return u(m,h)}function CZ(e,t,n,r){if(n.disableNavigation)return;const{pagedNavigation:s,numberOfMonths:o}=n,{startOfMonth:c,addMonths:u,differenceInCalendarMonths:f}=r,h=s?o??1:1,m=c(e);if(!t)return u(m,-h);if(!(f(m,t)<=0))return u(m,-h)}function TZ(e){const t=[];return e.reduce((n,r)=>[...n,...r.weeks],t)}function mp(e,t){const[n,r]=x.useState(e);return[t===void 0?n:t,r]}function MZ(e,t){const[n,r]=SZ(e,t),{startOfMonth:s,endOfMonth:o}=t,c=g_(e,t),[u,f]=mp(c,e.month?c:void 0);x.useEffect(()=>{const D=g_(e,t);f(D)},[e.timeZone]);const h=xZ(u,r,e,t),m=vZ(h,e.endMonth?o(e.endMonth):void 0,e,t),p=wZ(h,m,e,t),b=TZ(p),w=bZ(p),S=CZ(u,n,e,t),E=EZ(u,r,e,t),{disableNavigation:C,onMonthChange:T}=e,_=D=>b.some(L=>L.days.some(k=>k.isEqualTo(D))),A=D=>{if(C)return;let L=s(D);n&&L<s(n)&&(L=s(n)),r&&L>s(r)&&(L=s(r)),f(L),T==null||T(L)};return{months:p,weeks:b,days:w,navStart:n,navEnd:r,previousMonth:S,nextMonth:E,goToMonth:A,goToDay:D=>{_(D)||A(D.date)}}}var Ga;(function(e){e[e.Today=0]="Today",e[e.Selected=1]="Selected",e[e.LastFocused=2]="LastFocused",e[e.FocusedModifier=3]="FocusedModifier"})(Ga||(Ga={}));function y_(e){return!e[ln.disabled]&&!e[ln.hidden]&&!e[ln.outside]}function _Z(e,t,n,r){let s,o=-1;for(const c of e){const u=t(c);y_(u)&&(u[ln.focused]&&o<Ga.FocusedModifier?(s=c,o=Ga.FocusedModifier):r!=null&&r.isEqualTo(c)&&o<Ga.LastFocused?(s=c,o=Ga.LastFocused):n(c.date)&&o<Ga.Selected?(s=c,o=Ga.Selected):u[ln.today]&&o<Ga.Today&&(s=c,o=Ga.Today))}return s||(s=e.find(c=>y_(t(c)))),s}function AZ(e,t,n,r,s,o,c){const{ISOWeek:u,broadcastCalendar:f}=o,{addDays:h,addMonths:m,addWeeks:p,addYears:b,endOfBroadcastWeek:w,endOfISOWeek:S,endOfWeek:E,max:C,min:T,startOfBroadcastWeek:_,startOfISOWeek:A,startOfWeek:O}=c;let D={day:h,week:p,month:m,year:b,startOfWeek:L=>f?_(L,c):u?A(L):O(L),endOfWeek:L=>f?w(L):u?S(L):E(L)}[e](n,t==="after"?1:-1);return t==="before"&&r?D=C([r,D]):t==="after"&&s&&(D=T([s,D])),D}function fj(e,t,n,r,s,o,c,u=0){if(u>365)return;const f=AZ(e,t,n.date,r,s,o,c),h=!!(o.disabled&&js(f,o.disabled,c)),m=!!(o.hidden&&js(f,o.hidden,c)),p=f,b=new tj(f,p,c);return!h&&!m?b:fj(e,t,b,r,s,o,c,u+1)}function RZ(e,t,n,r,s){const{autoFocus:o}=e,[c,u]=x.useState(),f=_Z(t.days,n,r||(()=>!1),c),[h,m]=x.useState(o?f:void 0);return{isFocusTarget:E=>!!(f!=null&&f.isEqualTo(E)),setFocused:m,focused:h,blur:()=>{u(h),m(void 0)},moveFocus:(E,C)=>{if(!h)return;const T=fj(E,C,h,t.navStart,t.navEnd,e,s);T&&(t.goToDay(T),m(T))}}}function DZ(e,t){const{selected:n,required:r,onSelect:s}=e,[o,c]=mp(n,s?n:void 0),u=s?n:o,{isSameDay:f}=t,h=w=>(u==null?void 0:u.some(S=>f(S,w)))??!1,{min:m,max:p}=e;return{selected:u,select:(w,S,E)=>{let C=[...u??[]];if(h(w)){if((u==null?void 0:u.length)===m||r&&(u==null?void 0:u.length)===1)return;C=u==null?void 0:u.filter(T=>!f(T,w))}else(u==null?void 0:u.length)===p?C=[w]:C=[...C,w];return s||c(C),s==null||s(C,w,S,E),C},isSelected:h}}function NZ(e,t,n=0,r=0,s=!1,o=ds){const{from:c,to:u}=t||{},{isSameDay:f,isAfter:h,isBefore:m}=o;let p;if(!c&&!u)p={from:e,to:n>0?void 0:e};else if(c&&!u)f(c,e)?s?p={from:c,to:void 0}:p=void 0:m(e,c)?p={from:e,to:c}:p={from:c,to:e};else if(c&&u)if(f(c,e)&&f(u,e))s?p={from:c,to:u}:p=void 0;else if(f(c,e))p={from:c,to:n>0?void 0:e};else if(f(u,e))p={from:e,to:n>0?void 0:e};else if(m(e,c))p={from:e,to:u};else if(h(e,c))p={from:c,to:e};else if(h(e,u))p={from:c,to:e};else throw new Error("Invalid range");if(p!=null&&p.from&&(p!=null&&p.to)){const b=o.differenceInCalendarDays(p.to,p.from);r>0&&b>r?p={from:e,to:void 0}:n>1&&b<n&&(p={from:e,to:void 0})}return p}function OZ(e,t,n=ds){const r=Array.isArray(t)?t:[t];let s=e.from;const o=n.differenceInCalendarDays(e.to,e.from),c=Math.min(o,6);for(let u=0;u<=c;u++){if(r.includes(s.getDay()))return!0;s=n.addDays(s,1)}return!1}function v_(e,t,n=ds){return ks(e,t.from,!1,n)||ks(e,t.to,!1,n)||ks(t,e.from,!1,n)||ks(t,e.to,!1,n)}function kZ(e,t,n=ds){const r=Array.isArray(t)?t:[t];if(r.filter(u=>typeof u!="function").some(u=>typeof u=="boolean"?u:n.isDate(u)?ks(e,u,!1,n):ij(u,n)?u.some(f=>ks(e,f,!1,n)):Ix(u)?u.from&&u.to?v_(e,{from:u.from,to:u.to},n):!1:sj(u)?OZ(e,u.dayOfWeek,n):nj(u)?n.isAfter(u.before,u.after)?v_(e,{from:n.addDays(u.after,1),to:n.addDays(u.before,-1)},n):js(e.from,u,n)||js(e.to,u,n):rj(u)||aj(u)?js(e.from,u,n)||js(e.to,u,n):!1))return!0;const c=r.filter(u=>typeof u=="function");if(c.length){let u=e.from;const f=n.differenceInCalendarDays(e.to,e.from);for(let h=0;h<=f;h++){if(c.some(m=>m(u)))return!0;u=n.addDays(u,1)}}return!1}function jZ(e,t){const{disabled:n,excludeDisabled:r,selected:s,required:o,onSelect:c}=e,[u,f]=mp(s,c?s:void 0),h=c?s:u;return{selected:h,select:(b,w,S)=>{const{min:E,max:C}=e,T=b?NZ(b,h,E,C,o,t):void 0;return r&&n&&(T!=null&&T.from)&&T.to&&kZ({from:T.from,to:T.to},n,t)&&(T.from=b,T.to=void 0),c||f(T),c==null||c(T,b,w,S),T},isSelected:b=>h&&ks(h,b,!1,t)}}function PZ(e,t){const{selected:n,required:r,onSelect:s}=e,[o,c]=mp(n,s?n:void 0),u=s?n:o,{isSameDay:f}=t;return{selected:u,select:(p,b,w)=>{let S=p;return!r&&u&&u&&f(p,u)&&(S=void 0),s||c(S),s==null||s(S,p,b,w),S},isSelected:p=>u?f(u,p):!1}}function LZ(e,t){const n=PZ(e,t),r=DZ(e,t),s=jZ(e,t);switch(e.mode){case"single":return n;case"multiple":return r;case"range":return s;default:return}}function VZ(e){var ar;let t=e;t.timeZone&&(t={...e},t.today&&(t.today=new ur(t.today,t.timeZone)),t.month&&(t.month=new ur(t.month,t.timeZone)),t.defaultMonth&&(t.defaultMonth=new ur(t.defaultMonth,t.timeZone)),t.startMonth&&(t.startMonth=new ur(t.startMonth,t.timeZone)),t.endMonth&&(t.endMonth=new ur(t.endMonth,t.timeZone)),t.mode==="single"&&t.selected?t.selected=new ur(t.selected,t.timeZone):t.mode==="multiple"&&t.selected?t.selected=(ar=t.selected)==null?void 0:ar.map($e=>new ur($e,t.timeZone)):t.mode==="range"&&t.selected&&(t.selected={from:t.selected.from?new ur(t.selected.from,t.timeZone):void 0,to:t.selected.to?new ur(t.selected.to,t.timeZone):void 0}));const{components:n,formatters:r,labels:s,dateLib:o,locale:c,classNames:u}=x.useMemo(()=>{const $e={...Fx,...t.locale};return{dateLib:new Zs({locale:$e,weekStartsOn:t.broadcastCalendar?1:t.weekStartsOn,firstWeekContainsDate:t.firstWeekContainsDate,useAdditionalWeekYearTokens:t.useAdditionalWeekYearTokens,useAdditionalDayOfYearTokens:t.useAdditionalDayOfYearTokens,timeZone:t.timeZone,numerals:t.numerals},t.dateLib),components:FK(t.components),formatters:XK(t.formatters),labels:{...hZ,...t.labels},locale:$e,classNames:{...Hx(),...t.classNames}}},[t.locale,t.broadcastCalendar,t.weekStartsOn,t.firstWeekContainsDate,t.useAdditionalWeekYearTokens,t.useAdditionalDayOfYearTokens,t.timeZone,t.numerals,t.dateLib,t.components,t.formatters,t.labels,t.classNames]),{captionLayout:f,mode:h,navLayout:m,numberOfMonths:p=1,onDayBlur:b,onDayClick:w,onDayFocus:S,onDayKeyDown:E,onDayMouseEnter:C,onDayMouseLeave:T,onNextClick:_,onPrevClick:A,showWeekNumber:O,styles:R}=t,{formatCaption:D,formatDay:L,formatMonthDropdown:k,formatWeekNumber:H,formatWeekNumberHeader:X,formatWeekdayName:oe,formatYearDropdown:ce}=r,de=MZ(t,o),{days:Q,months:fe,navStart:P,navEnd:K,previousMonth:I,nextMonth:J,goToMonth:j}=de,W=fK(Q,t,o),{isSelected:B,select:q,selected:le}=LZ(t,o)??{},{blur:ge,focused:he,isFocusTarget:Se,moveFocus:_e,setFocused:ke}=RZ(t,de,W,B??(()=>!1),o),{labelDayButton:Fe,labelGridcell:nt,labelGrid:Me,labelMonthDropdown:ct,labelNav:ot,labelPrevious:Yt,labelNext:an,labelWeekday:At,labelWeekNumber:zn,labelWeekNumberHeader:Ot,labelYearDropdown:z}=s,ee=x.useMemo(()=>eZ(o,t.ISOWeek),[o,t.ISOWeek]),se=h!==void 0||w!==void 0,Ee=x.useCallback(()=>{I&&(j(I),A==null||A(I))},[I,j,A]),Ce=x.useCallback(()=>{J&&(j(J),_==null||_(J))},[j,J,_]),we=x.useCallback(($e,kt)=>bt=>{bt.preventDefault(),bt.stopPropagation(),ke($e),q==null||q($e.date,kt,bt),w==null||w($e.date,kt,bt)},[q,w,ke]),Ae=x.useCallback(($e,kt)=>bt=>{ke($e),S==null||S($e.date,kt,bt)},[S,ke]),Be=x.useCallback(($e,kt)=>bt=>{ge(),b==null||b($e.date,kt,bt)},[ge,b]),lt=x.useCallback(($e,kt)=>bt=>{const hn={ArrowLeft:["day",t.dir==="rtl"?"after":"before"],ArrowRight:["day",t.dir==="rtl"?"before":"after"],ArrowDown:["week","after"],ArrowUp:["week","before"],PageUp:[bt.shiftKey?"year":"month","before"],PageDown:[bt.shiftKey?"year":"month","after"],Home:["startOfWeek","before"],End:["endOfWeek","after"]};if(hn[bt.key]){bt.preventDefault(),bt.stopPropagation();const[mn,Ge]=hn[bt.key];_e(mn,Ge)}E==null||E($e.date,kt,bt)},[_e,E,t.dir]),pt=x.useCallback(($e,kt)=>bt=>{C==null||C($e.date,kt,bt)},[C]),tn=x.useCallback(($e,kt)=>bt=>{T==null||T($e.date,kt,bt)},[T]),Gt=x.useCallback($e=>kt=>{const bt=Number(kt.target.value),hn=o.setMonth(o.startOfMonth($e),bt);j(hn)},[o,j]),Bn=x.useCallback($e=>kt=>{const bt=Number(kt.target.value),hn=o.setYear(o.startOfMonth($e),bt);j(hn)},[o,j]),{className:An,style:Qn}=x.useMemo(()=>({className:[u[Ye.Root],t.className].filter(Boolean).join(" "),style:{...R==null?void 0:R[Ye.Root],...t.style}}),[u,t.className,t.style,R]),Yn=IK(t),Gn=x.useRef(null);yZ(Gn,!!t.animate,{classNames:u,months:fe,focused:he,dateLib:o});const Wn={dayPickerProps:t,selected:le,select:q,isSelected:B,months:fe,nextMonth:J,previousMonth:I,goToMonth:j,getModifiers:W,components:n,classNames:u,styles:R,labels:s,formatters:r};return G.createElement(oj.Provider,{value:Wn},G.createElement(n.Root,{rootRef:t.animate?Gn:void 0,className:An,style:Qn,dir:t.dir,id:t.id,lang:t.lang,nonce:t.nonce,title:t.title,role:t.role,"aria-label":t["aria-label"],...Yn},G.createElement(n.Months,{className:u[Ye.Months],style:R==null?void 0:R[Ye.Months]},!t.hideNavigation&&!m&&G.createElement(n.Nav,{"data-animated-nav":t.animate?"true":void 0,className:u[Ye.Nav],style:R==null?void 0:R[Ye.Nav],"aria-label":ot(),onPreviousClick:Ee,onNextClick:Ce,previousMonth:I,nextMonth:J}),fe.map(($e,kt)=>{const bt=QK($e.date,P,K,r,o),hn=tZ(P,K,r,o);return G.createElement(n.Month,{"data-animated-month":t.animate?"true":void 0,className:u[Ye.Month],style:R==null?void 0:R[Ye.Month],key:kt,displayIndex:kt,calendarMonth:$e},m==="around"&&!t.hideNavigation&&kt===0&&G.createElement(n.PreviousMonthButton,{type:"button",className:u[Ye.PreviousMonthButton],tabIndex:I?void 0:-1,"aria-disabled":I?void 0:!0,"aria-label":Yt(I),onClick:Ee,"data-animated-button":t.animate?"true":void 0},G.createElement(n.Chevron,{disabled:I?void 0:!0,className:u[Ye.Chevron],orientation:t.dir==="rtl"?"right":"left"})),G.createElement(n.MonthCaption,{"data-animated-caption":t.animate?"true":void 0,className:u[Ye.MonthCaption],style:R==null?void 0:R[Ye.MonthCaption],calendarMonth:$e,displayIndex:kt},f!=null&&f.startsWith("dropdown")?G.createElement(n.DropdownNav,{className:u[Ye.Dropdowns],style:R==null?void 0:R[Ye.Dropdowns]},f==="dropdown"||f==="dropdown-months"?G.createElement(n.MonthsDropdown,{className:u[Ye.MonthsDropdown],"aria-label":ct(),classNames:u,components:n,disabled:!!t.disableNavigation,onChange:Gt($e.date),options:bt,style:R==null?void 0:R[Ye.Dropdown],value:o.getMonth($e.date)}):G.createElement("span",null,k($e.date,o)),f==="dropdown"||f==="dropdown-years"?G.createElement(n.YearsDropdown,{className:u[Ye.YearsDropdown],"aria-label":z(o.options),classNames:u,components:n,disabled:!!t.disableNavigation,onChange:Bn($e.date),options:hn,style:R==null?void 0:R[Ye.Dropdown],value:o.getYear($e.date)}):G.createElement("span",null,ce($e.date,o)),G.createElement("span",{role:"status","aria-live":"polite",style:{border:0,clip:"rect(0 0 0 0)",height:"1px",margin:"-1px",overflow:"hidden",padding:0,position:"absolute",width:"1px",whiteSpace:"nowrap",wordWrap:"normal"}},D($e.date,o.options,o))):G.createElement(n.CaptionLabel,{className:u[Ye.CaptionLabel],role:"status","aria-live":"polite"},D($e.date,o.options,o))),m==="around"&&!t.hideNavigation&&kt===p-1&&G.createElement(n.NextMonthButton,{type:"button",className:u[Ye.NextMonthButton],tabIndex:J?void 0:-1,"aria-disabled":J?void 0:!0,"aria-label":an(J),onClick:Ce,"data-animated-button":t.animate?"true":void 0},G.createElement(n.Chevron,{disabled:J?void 0:!0,className:u[Ye.Chevron],orientation:t.dir==="rtl"?"left":"right"})),kt===p-1&&m==="after"&&!t.hideNavigation&&G.createElement(n.Nav,{"data-animated-nav":t.animate?"true":void 0,className:u[Ye.Nav],style:R==null?void 0:R[Ye.Nav],"aria-label":ot(),onPreviousClick:Ee,onNextClick:Ce,previousMonth:I,nextMonth:J}),G.createElement(n.MonthGrid,{role:"grid","aria-multiselectable":h==="multiple"||h==="range","aria-label":Me($e.date,o.options,o)||void 0,className:u[Ye.MonthGrid],style:R==null?void 0:R[Ye.MonthGrid]},!t.hideWeekdays&&G.createElement(n.Weekdays,{"data-animated-weekdays":t.animate?"true":void 0,className:u[Ye.Weekdays],style:R==null?void 0:R[Ye.Weekdays]},O&&G.createElement(n.WeekNumberHeader,{"aria-label":Ot(o.options),className:u[Ye.WeekNumberHeader],style:R==null?void 0:R[Ye.WeekNumberHeader],scope:"col"},X()),ee.map((mn,Ge)=>G.createElement(n.Weekday,{"aria-label":At(mn,o.options,o),className:u[Ye.Weekday],key:Ge,style:R==null?void 0:R[Ye.Weekday],scope:"col"},oe(mn,o.options,o)))),G.createElement(n.Weeks,{"data-animated-weeks":t.animate?"true":void 0,className:u[Ye.Weeks],style:R==null?void 0:R[Ye.Weeks]},$e.weeks.map((mn,Ge)=>G.createElement(n.Week,{className:u[Ye.Week],key:mn.weekNumber,style:R==null?void 0:R[Ye.Week],week:mn},O&&G.createElement(n.WeekNumber,{week:mn,style:R==null?void 0:R[Ye.WeekNumber],"aria-label":zn(mn.weekNumber,{locale:c}),className:u[Ye.WeekNumber],scope:"row",role:"rowheader"},H(mn.weekNumber,o)),mn.days.map(it=>{const{date:_t}=it,Qe=W(it);if(Qe[ln.focused]=!Qe.hidden&&!!(he!=null&&he.isEqualTo(it)),Qe[ka.selected]=(B==null?void 0:B(_t))||Qe.selected,Ix(le)){const{from:pe,to:xe}=le;Qe[ka.range_start]=!!(pe&&xe&&o.isSameDay(_t,pe)),Qe[ka.range_end]=!!(pe&&xe&&o.isSameDay(_t,xe)),Qe[ka.range_middle]=ks(le,_t,!0,o)}const U=JK(Qe,R,t.modifiersStyles),Y=hK(Qe,u,t.modifiersClassNames),ne=!se&&!Qe.hidden?nt(_t,Qe,o.options,o):void 0;return G.createElement(n.Day,{key:`${o.format(_t,"yyyy-MM-dd")}_${o.format(it.displayMonth,"yyyy-MM")}`,day:it,modifiers:Qe,className:Y.join(" "),style:U,role:"gridcell","aria-selected":Qe.selected||void 0,"aria-label":ne,"data-day":o.format(_t,"yyyy-MM-dd"),"data-month":it.outside?o.format(_t,"yyyy-MM"):void 0,"data-selected":Qe.selected||void 0,"data-disabled":Qe.disabled||void 0,"data-hidden":Qe.hidden||void 0,"data-outside":it.outside||void 0,"data-focused":Qe.focused||void 0,"data-today":Qe.today||void 0},!Qe.hidden&&se?G.createElement(n.DayButton,{className:u[Ye.DayButton],style:R==null?void 0:R[Ye.DayButton],type:"button",day:it,modifiers:Qe,disabled:Qe.disabled||void 0,tabIndex:Se(it)?0:-1,"aria-label":Fe(_t,Qe,o.options,o),onClick:we(it,Qe),onBlur:Be(it,Qe),onFocus:Ae(it,Qe),onKeyDown:lt(it,Qe),onMouseEnter:pt(it,Qe),onMouseLeave:tn(it,Qe)},L(_t,o.options,o)):!Qe.hidden&&L(it.date,o.options,o))}))))))})),t.footer&&G.createElement(n.Footer,{className:u[Ye.Footer],style:R==null?void 0:R[Ye.Footer],role:"status","aria-live":"polite"},t.footer)))}function zZ({className:e,classNames:t,showOutsideDays:n=!0,captionLayout:r="label",buttonVariant:s="ghost",formatters:o,components:c,...u}){const f=Hx();return g.jsx(VZ,{showOutsideDays:n,className:be("bg-background group/calendar p-3 [--cell-size:--spacing(8)] [[data-slot=card-content]_&]:bg-transparent [[data-slot=popover-content]_&]:bg-transparent",String.raw`rtl:**:[.rdp-button\_next>svg]:rotate-180`,String.raw`rtl:**:[.rdp-button\_previous>svg]:rotate-180`,e),captionLayout:r,formatters:{formatMonthDropdown:h=>h.toLocaleString("default",{month:"short"}),...o},classNames:{root:be("w-fit",f.root),months:be("flex gap-4 flex-col md:flex-row relative",f.months),month:be("flex flex-col w-full gap-4",f.month),nav:be("flex items-center gap-1 w-full absolute top-0 inset-x-0 justify-between",f.nav),button_previous:be(Cd({variant:s}),"size-(--cell-size) aria-disabled:opacity-50 p-0 select-none",f.button_previous),button_next:be(Cd({variant:s}),"size-(--cell-size) aria-disabled:opacity-50 p-0 select-none",f.button_next),month_caption:be("flex items-center justify-center h-(--cell-size) w-full px-(--cell-size)",f.month_caption),dropdowns:be("w-full flex items-center text-sm font-medium justify-center h-(--cell-size) gap-1.5",f.dropdowns),dropdown_root:be("relative has-focus:border-ring border border-input shadow-xs has-focus:ring-ring/50 has-focus:ring-[3px] rounded-md",f.dropdown_root),dropdown:be("absolute inset-0 opacity-0",f.dropdown),caption_label:be("select-none font-medium",r==="label"?"text-sm":"rounded-md pl-2 pr-1 flex items-center gap-1 text-sm h-8 [&>svg]:text-muted-foreground [&>svg]:size-3.5",f.caption_label),table:"w-full border-collapse",weekdays:be("flex",f.weekdays),weekday:be("text-muted-foreground rounded-md flex-1 font-normal text-[0.8rem] select-none",f.weekday),week:be("flex w-full mt-2",f.week),week_number_header:be("select-none w-(--cell-size)",f.week_number_header),week_number:be("text-[0.8rem] select-none text-muted-foreground",f.week_number),day:be("relative w-full h-full p-0 text-center [&:first-child[data-selected=true]_button]:rounded-l-md [&:last-child[data-selected=true]_button]:rounded-r-md group/day aspect-square select-none",f.day),range_start:be("rounded-l-md bg-accent",f.range_start),range_middle:be("rounded-none",f.range_middle),range_end:be("rounded-r-md bg-accent",f.range_end),today:be("bg-accent text-accent-foreground rounded-md data-[selected=true]:rounded-none",f.today),outside:be("text-muted-foreground aria-selected:text-muted-foreground",f.outside),disabled:be("text-muted-foreground opacity-50",f.disabled),hidden:be("invisible",f.hidden),...t},components:{Root:({className:h,rootRef:m,...p})=>g.jsx("div",{"data-slot":"calendar",ref:m,className:be(h),...p}),Chevron:({className:h,orientation:m,...p})=>m==="left"?g.jsx(bA,{className:be("size-4",h),...p}):m==="right"?g.jsx(i0,{className:be("size-4",h),...p}):g.jsx(vA,{className:be("size-4",h),...p}),DayButton:BZ,WeekNumber:({children:h,...m})=>g.jsx("td",{...m,children:g.jsx("div",{className:"flex size-(--cell-size) items-center justify-center text-center",children:h})}),...c},...u})}function BZ({className:e,day:t,modifiers:n,...r}){const s=Hx(),o=x.useRef(null);return x.useEffect(()=>{var c;n.focused&&((c=o.current)==null||c.focus())},[n.focused]),g.jsx(Ut,{ref:o,variant:"ghost",size:"icon","data-day":t.date.toLocaleDateString(),"data-selected-single":n.selected&&!n.range_start&&!n.range_end&&!n.range_middle,"data-range-start":n.range_start,"data-range-end":n.range_end,"data-range-middle":n.range_middle,className:be("data-[selected-single=true]:bg-primary data-[selected-single=true]:text-primary-foreground data-[range-middle=true]:bg-accent data-[range-middle=true]:text-accent-foreground data-[range-start=true]:bg-primary data-[range-start=true]:text-primary-foreground data-[range-end=true]:bg-primary data-[range-end=true]:text-primary-foreground group-data-[focused=true]/day:border-ring group-data-[focused=true]/day:ring-ring/50 dark:hover:text-accent-foreground flex aspect-square size-auto w-full min-w-(--cell-size) flex-col gap-1 leading-none font-normal group-data-[focused=true]/day:relative group-data-[focused=true]/day:z-10 group-data-[focused=true]/day:ring-[3px] data-[range-end=true]:rounded-md data-[range-end=true]:rounded-r-md data-[range-middle=true]:rounded-none data-[range-start=true]:rounded-md data-[range-start=true]:rounded-l-md [&>span]:text-xs [&>span]:opacity-70",s.day,e),...r})}function UZ(){const[e,t]=x.useState(!1),[n,r]=x.useState(!1),[s,o]=x.useState(void 0),c=Ws(),u=Jr(E=>E.vehicleId),f=Jr(E=>E.stationId),h=Jr(E=>E.pumpNumber),m=Jr(E=>E.setIsReserving),p=Jr(E=>E.resetValues),b=Hs({mutationFn:async E=>(await Tn.post("/charging-sessions",{userId:c==null?void 0:c.id,vehicleId:u,stationId:f,pumpNumber:h,isReserved:E,startTime:s?s.toISOString():new Date().toISOString()}),E),onSuccess:E=>{En.success(`Charging session ${E?"reserved":"started"} successfully!`),E||m(!0),p()},onError:E=>{En.error(`Failed to reserve charging session: ${E.message}`)}});function w(){b.mutate(!1)}function S(){b.mutate(!0),t(!1)}return g.jsx(Pr,{children:g.jsxs(Lr,{className:"flex justify-center items-center flex-col space-y-4",children:[g.jsx("span",{className:"text-gray-600 dark:text-white font-semibold",children:"Choose EV Station you would like to reserve"}),g.jsx(PG,{}),g.jsx(LG,{}),g.jsx(VG,{}),g.jsxs("div",{className:"flex items-center space-x-2",children:[g.jsxs(Bb,{open:e,onOpenChange:t,children:[g.jsx(Ub,{asChild:!0,children:g.jsx(Ut,{variant:"outline",disabled:!u||!h,children:"Reserve"})}),g.jsx(Fb,{children:g.jsxs("div",{className:"flex flex-col gap-4",children:[g.jsxs("div",{className:"flex items-center gap-4",children:[g.jsxs("div",{className:"flex flex-col gap-3",children:[g.jsx(eb,{htmlFor:"date",className:"px-1",children:"Date"}),g.jsxs(Bb,{open:n,onOpenChange:r,children:[g.jsx(Ub,{asChild:!0,children:g.jsxs(Ut,{variant:"outline",id:"date",className:"w-32 justify-between font-normal",children:[s?Jk(s,"dd/MM/yyyy"):"Select date",g.jsx(vA,{})]})}),g.jsx(Fb,{className:"w-auto overflow-hidden p-0",align:"start",children:g.jsx(zZ,{mode:"single",selected:s,captionLayout:"dropdown",onSelect:E=>{o(E),r(!1)}})})]})]}),g.jsxs("div",{className:"flex flex-col gap-3",children:[g.jsx(eb,{htmlFor:"time",className:"px-1",children:"Time"}),g.jsx(Cn,{type:"time",id:"time",step:"1",defaultValue:"10:30:00",className:"bg-background appearance-none [&::-webkit-calendar-picker-indicator]:hidden [&::-webkit-calendar-picker-indicator]:appearance-none"})]})]}),g.jsx(Ut,{onClick:S,children:"Confirm Reserve"})]})})]}),g.jsx(Ut,{disabled:!u||!h,onClick:w,children:"Start"})]})]})})}const FZ=Wm("inline-flex items-center justify-center rounded-md border text-xs font-medium w-fit whitespace-nowrap shrink-0 [&>svg]:size-3 [&>svg]:pointer-events-none focus-visible:border-ring focus-visible:ring-ring/50 focus-visible:ring-[3px] aria-invalid:ring-destructive/20 dark:aria-invalid:ring-destructive/40 aria-invalid:border-destructive transition-[color,box-shadow] overflow-hidden",{variants:{variant:{default:"border-transparent bg-primary text-primary-foreground [a&]:hover:bg-primary/90",secondary:"border-transparent bg-secondary text-secondary-foreground [a&]:hover:bg-secondary/90",destructive:"border-transparent bg-destructive text-white [a&]:hover:bg-destructive/90 focus-visible:ring-destructive/20 dark:focus-visible:ring-destructive/40 dark:bg-destructive/60",outline:"text-foreground [a&]:hover:bg-accent [a&]:hover:text-accent-foreground",success:"border-transparent bg-green-100 text-green-800 dark:bg-green-900 dark:text-green-100",warning:"border-transparent bg-yellow-100 text-yellow-800 dark:bg-yellow-900 dark:text-yellow-100",primary:"border-transparent bg-blue-100 text-blue-800 dark:bg-blue-900 dark:text-blue-100"},size:{default:"py-0.5  px-2 gap-1",lg:"py-1 px-3 gap-4"}},defaultVariants:{variant:"default",size:"default"}});function Or({className:e,variant:t,asChild:n=!1,...r}){const s=n?Cc:"span";return g.jsx(s,{"data-slot":"badge",className:be(FZ({variant:t}),e),...r})}function IZ(e){return Object.prototype.toString.call(e)==="[object Object]"}function b_(e){return IZ(e)||Array.isArray(e)}function HZ(){return!!(typeof window<"u"&&window.document&&window.document.createElement)}function $x(e,t){const n=Object.keys(e),r=Object.keys(t);if(n.length!==r.length)return!1;const s=JSON.stringify(Object.keys(e.breakpoints||{})),o=JSON.stringify(Object.keys(t.breakpoints||{}));return s!==o?!1:n.every(c=>{const u=e[c],f=t[c];return typeof u=="function"?`${u}`==`${f}`:!b_(u)||!b_(f)?u===f:$x(u,f)})}function x_(e){return e.concat().sort((t,n)=>t.name>n.name?1:-1).map(t=>t.options)}function $Z(e,t){if(e.length!==t.length)return!1;const n=x_(e),r=x_(t);return n.every((s,o)=>{const c=r[o];return $x(s,c)})}function qx(e){return typeof e=="number"}function qb(e){return typeof e=="string"}function pp(e){return typeof e=="boolean"}function w_(e){return Object.prototype.toString.call(e)==="[object Object]"}function un(e){return Math.abs(e)}function Yx(e){return Math.sign(e)}function yd(e,t){return un(e-t)}function qZ(e,t){if(e===0||t===0||un(e)<=un(t))return 0;const n=yd(un(e),un(t));return un(n/e)}function YZ(e){return Math.round(e*100)/100}function Bd(e){return Ud(e).map(Number)}function ja(e){return e[pf(e)]}function pf(e){return Math.max(0,e.length-1)}function Gx(e,t){return t===pf(e)}function S_(e,t=0){return Array.from(Array(e),(n,r)=>t+r)}function Ud(e){return Object.keys(e)}function hj(e,t){return[e,t].reduce((n,r)=>(Ud(r).forEach(s=>{const o=n[s],c=r[s],u=w_(o)&&w_(c);n[s]=u?hj(o,c):c}),n),{})}function Yb(e,t){return typeof t.MouseEvent<"u"&&e instanceof t.MouseEvent}function GZ(e,t){const n={start:r,center:s,end:o};function r(){return 0}function s(f){return o(f)/2}function o(f){return t-f}function c(f,h){return qb(e)?n[e](f):e(t,f,h)}return{measure:c}}function Fd(){let e=[];function t(s,o,c,u={passive:!0}){let f;if("addEventListener"in s)s.addEventListener(o,c,u),f=()=>s.removeEventListener(o,c,u);else{const h=s;h.addListener(c),f=()=>h.removeListener(c)}return e.push(f),r}function n(){e=e.filter(s=>s())}const r={add:t,clear:n};return r}function WZ(e,t,n,r){const s=Fd(),o=1e3/60;let c=null,u=0,f=0;function h(){s.add(e,"visibilitychange",()=>{e.hidden&&S()})}function m(){w(),s.clear()}function p(C){if(!f)return;c||(c=C,n(),n());const T=C-c;for(c=C,u+=T;u>=o;)n(),u-=o;const _=u/o;r(_),f&&(f=t.requestAnimationFrame(p))}function b(){f||(f=t.requestAnimationFrame(p))}function w(){t.cancelAnimationFrame(f),c=null,u=0,f=0}function S(){c=null,u=0}return{init:h,destroy:m,start:b,stop:w,update:n,render:r}}function KZ(e,t){const n=t==="rtl",r=e==="y",s=r?"y":"x",o=r?"x":"y",c=!r&&n?-1:1,u=m(),f=p();function h(S){const{height:E,width:C}=S;return r?E:C}function m(){return r?"top":n?"right":"left"}function p(){return r?"bottom":n?"left":"right"}function b(S){return S*c}return{scroll:s,cross:o,startEdge:u,endEdge:f,measureSize:h,direction:b}}function Zo(e=0,t=0){const n=un(e-t);function r(h){return h<e}function s(h){return h>t}function o(h){return r(h)||s(h)}function c(h){return o(h)?r(h)?e:t:h}function u(h){return n?h-n*Math.ceil((h-t)/n):h}return{length:n,max:t,min:e,constrain:c,reachedAny:o,reachedMax:s,reachedMin:r,removeOffset:u}}function mj(e,t,n){const{constrain:r}=Zo(0,e),s=e+1;let o=c(t);function c(b){return n?un((s+b)%s):r(b)}function u(){return o}function f(b){return o=c(b),p}function h(b){return m().set(u()+b)}function m(){return mj(e,u(),n)}const p={get:u,set:f,add:h,clone:m};return p}function ZZ(e,t,n,r,s,o,c,u,f,h,m,p,b,w,S,E,C,T,_){const{cross:A,direction:O}=e,R=["INPUT","SELECT","TEXTAREA"],D={passive:!1},L=Fd(),k=Fd(),H=Zo(50,225).constrain(w.measure(20)),X={mouse:300,touch:400},oe={mouse:500,touch:600},ce=S?43:25;let de=!1,Q=0,fe=0,P=!1,K=!1,I=!1,J=!1;function j(Me){if(!_)return;function ct(Yt){(pp(_)||_(Me,Yt))&&he(Yt)}const ot=t;L.add(ot,"dragstart",Yt=>Yt.preventDefault(),D).add(ot,"touchmove",()=>{},D).add(ot,"touchend",()=>{}).add(ot,"touchstart",ct).add(ot,"mousedown",ct).add(ot,"touchcancel",_e).add(ot,"contextmenu",_e).add(ot,"click",ke,!0)}function W(){L.clear(),k.clear()}function B(){const Me=J?n:t;k.add(Me,"touchmove",Se,D).add(Me,"touchend",_e).add(Me,"mousemove",Se,D).add(Me,"mouseup",_e)}function q(Me){const ct=Me.nodeName||"";return R.includes(ct)}function le(){return(S?oe:X)[J?"mouse":"touch"]}function ge(Me,ct){const ot=p.add(Yx(Me)*-1),Yt=m.byDistance(Me,!S).distance;return S||un(Me)<H?Yt:C&&ct?Yt*.5:m.byIndex(ot.get(),0).distance}function he(Me){const ct=Yb(Me,r);J=ct,I=S&&ct&&!Me.buttons&&de,de=yd(s.get(),c.get())>=2,!(ct&&Me.button!==0)&&(q(Me.target)||(P=!0,o.pointerDown(Me),h.useFriction(0).useDuration(0),s.set(c),B(),Q=o.readPoint(Me),fe=o.readPoint(Me,A),b.emit("pointerDown")))}function Se(Me){if(!Yb(Me,r)&&Me.touches.length>=2)return _e(Me);const ot=o.readPoint(Me),Yt=o.readPoint(Me,A),an=yd(ot,Q),At=yd(Yt,fe);if(!K&&!J&&(!Me.cancelable||(K=an>At,!K)))return _e(Me);const zn=o.pointerMove(Me);an>E&&(I=!0),h.useFriction(.3).useDuration(.75),u.start(),s.add(O(zn)),Me.preventDefault()}function _e(Me){const ot=m.byDistance(0,!1).index!==p.get(),Yt=o.pointerUp(Me)*le(),an=ge(O(Yt),ot),At=qZ(Yt,an),zn=ce-10*At,Ot=T+At/50;K=!1,P=!1,k.clear(),h.useDuration(zn).useFriction(Ot),f.distance(an,!S),J=!1,b.emit("pointerUp")}function ke(Me){I&&(Me.stopPropagation(),Me.preventDefault(),I=!1)}function Fe(){return P}return{init:j,destroy:W,pointerDown:Fe}}function XZ(e,t){let r,s;function o(p){return p.timeStamp}function c(p,b){const S=`client${(b||e.scroll)==="x"?"X":"Y"}`;return(Yb(p,t)?p:p.touches[0])[S]}function u(p){return r=p,s=p,c(p)}function f(p){const b=c(p)-c(s),w=o(p)-o(r)>170;return s=p,w&&(r=p),b}function h(p){if(!r||!s)return 0;const b=c(s)-c(r),w=o(p)-o(r),S=o(p)-o(s)>170,E=b/w;return w&&!S&&un(E)>.1?E:0}return{pointerDown:u,pointerMove:f,pointerUp:h,readPoint:c}}function QZ(){function e(n){const{offsetTop:r,offsetLeft:s,offsetWidth:o,offsetHeight:c}=n;return{top:r,right:s+o,bottom:r+c,left:s,width:o,height:c}}return{measure:e}}function JZ(e){function t(r){return e*(r/100)}return{measure:t}}function eX(e,t,n,r,s,o,c){const u=[e].concat(r);let f,h,m=[],p=!1;function b(C){return s.measureSize(c.measure(C))}function w(C){if(!o)return;h=b(e),m=r.map(b);function T(_){for(const A of _){if(p)return;const O=A.target===e,R=r.indexOf(A.target),D=O?h:m[R],L=b(O?e:r[R]);if(un(L-D)>=.5){C.reInit(),t.emit("resize");break}}}f=new ResizeObserver(_=>{(pp(o)||o(C,_))&&T(_)}),n.requestAnimationFrame(()=>{u.forEach(_=>f.observe(_))})}function S(){p=!0,f&&f.disconnect()}return{init:w,destroy:S}}function tX(e,t,n,r,s,o){let c=0,u=0,f=s,h=o,m=e.get(),p=0;function b(){const D=r.get()-e.get(),L=!f;let k=0;return L?(c=0,n.set(r),e.set(r),k=D):(n.set(e),c+=D/f,c*=h,m+=c,e.add(c),k=m-p),u=Yx(k),p=m,R}function w(){const D=r.get()-t.get();return un(D)<.001}function S(){return f}function E(){return u}function C(){return c}function T(){return A(s)}function _(){return O(o)}function A(D){return f=D,R}function O(D){return h=D,R}const R={direction:E,duration:S,velocity:C,seek:b,settled:w,useBaseFriction:_,useBaseDuration:T,useFriction:O,useDuration:A};return R}function nX(e,t,n,r,s){const o=s.measure(10),c=s.measure(50),u=Zo(.1,.99);let f=!1;function h(){return!(f||!e.reachedAny(n.get())||!e.reachedAny(t.get()))}function m(w){if(!h())return;const S=e.reachedMin(t.get())?"min":"max",E=un(e[S]-t.get()),C=n.get()-t.get(),T=u.constrain(E/c);n.subtract(C*T),!w&&un(C)<o&&(n.set(e.constrain(n.get())),r.useDuration(25).useBaseFriction())}function p(w){f=!w}return{shouldConstrain:h,constrain:m,toggleActive:p}}function rX(e,t,n,r,s){const o=Zo(-t+e,0),c=p(),u=m(),f=b();function h(S,E){return yd(S,E)<=1}function m(){const S=c[0],E=ja(c),C=c.lastIndexOf(S),T=c.indexOf(E)+1;return Zo(C,T)}function p(){return n.map((S,E)=>{const{min:C,max:T}=o,_=o.constrain(S),A=!E,O=Gx(n,E);return A?T:O||h(C,_)?C:h(T,_)?T:_}).map(S=>parseFloat(S.toFixed(3)))}function b(){if(t<=e+s)return[o.max];if(r==="keepSnaps")return c;const{min:S,max:E}=u;return c.slice(S,E)}return{snapsContained:f,scrollContainLimit:u}}function aX(e,t,n){const r=t[0],s=n?r-e:ja(t);return{limit:Zo(s,r)}}function sX(e,t,n,r){const o=t.min+.1,c=t.max+.1,{reachedMin:u,reachedMax:f}=Zo(o,c);function h(b){return b===1?f(n.get()):b===-1?u(n.get()):!1}function m(b){if(!h(b))return;const w=e*(b*-1);r.forEach(S=>S.add(w))}return{loop:m}}function iX(e){const{max:t,length:n}=e;function r(o){const c=o-t;return n?c/-n:0}return{get:r}}function oX(e,t,n,r,s){const{startEdge:o,endEdge:c}=e,{groupSlides:u}=s,f=p().map(t.measure),h=b(),m=w();function p(){return u(r).map(E=>ja(E)[c]-E[0][o]).map(un)}function b(){return r.map(E=>n[o]-E[o]).map(E=>-un(E))}function w(){return u(h).map(E=>E[0]).map((E,C)=>E+f[C])}return{snaps:h,snapsAligned:m}}function lX(e,t,n,r,s,o){const{groupSlides:c}=s,{min:u,max:f}=r,h=m();function m(){const b=c(o),w=!e||t==="keepSnaps";return n.length===1?[o]:w?b:b.slice(u,f).map((S,E,C)=>{const T=!E,_=Gx(C,E);if(T){const A=ja(C[0])+1;return S_(A)}if(_){const A=pf(o)-ja(C)[0]+1;return S_(A,ja(C)[0])}return S})}return{slideRegistry:h}}function cX(e,t,n,r,s){const{reachedAny:o,removeOffset:c,constrain:u}=r;function f(S){return S.concat().sort((E,C)=>un(E)-un(C))[0]}function h(S){const E=e?c(S):u(S),C=t.map((_,A)=>({diff:m(_-E,0),index:A})).sort((_,A)=>un(_.diff)-un(A.diff)),{index:T}=C[0];return{index:T,distance:E}}function m(S,E){const C=[S,S+n,S-n];if(!e)return S;if(!E)return f(C);const T=C.filter(_=>Yx(_)===E);return T.length?f(T):ja(C)-n}function p(S,E){const C=t[S]-s.get(),T=m(C,E);return{index:S,distance:T}}function b(S,E){const C=s.get()+S,{index:T,distance:_}=h(C),A=!e&&o(C);if(!E||A)return{index:T,distance:S};const O=t[T]-_,R=S+m(O,0);return{index:T,distance:R}}return{byDistance:b,byIndex:p,shortcut:m}}function uX(e,t,n,r,s,o,c){function u(p){const b=p.distance,w=p.index!==t.get();o.add(b),b&&(r.duration()?e.start():(e.update(),e.render(1),e.update())),w&&(n.set(t.get()),t.set(p.index),c.emit("select"))}function f(p,b){const w=s.byDistance(p,b);u(w)}function h(p,b){const w=t.clone().set(p),S=s.byIndex(w.get(),b);u(S)}return{distance:f,index:h}}function dX(e,t,n,r,s,o,c,u){const f={passive:!0,capture:!0};let h=0;function m(w){if(!u)return;function S(E){if(new Date().getTime()-h>10)return;c.emit("slideFocusStart"),e.scrollLeft=0;const _=n.findIndex(A=>A.includes(E));qx(_)&&(s.useDuration(0),r.index(_,0),c.emit("slideFocus"))}o.add(document,"keydown",p,!1),t.forEach((E,C)=>{o.add(E,"focus",T=>{(pp(u)||u(w,T))&&S(C)},f)})}function p(w){w.code==="Tab"&&(h=new Date().getTime())}return{init:m}}function ld(e){let t=e;function n(){return t}function r(f){t=c(f)}function s(f){t+=c(f)}function o(f){t-=c(f)}function c(f){return qx(f)?f:f.get()}return{get:n,set:r,add:s,subtract:o}}function pj(e,t){const n=e.scroll==="x"?c:u,r=t.style;let s=null,o=!1;function c(b){return`translate3d(${b}px,0px,0px)`}function u(b){return`translate3d(0px,${b}px,0px)`}function f(b){if(o)return;const w=YZ(e.direction(b));w!==s&&(r.transform=n(w),s=w)}function h(b){o=!b}function m(){o||(r.transform="",t.getAttribute("style")||t.removeAttribute("style"))}return{clear:m,to:f,toggleActive:h}}function fX(e,t,n,r,s,o,c,u,f){const m=Bd(s),p=Bd(s).reverse(),b=T().concat(_());function w(L,k){return L.reduce((H,X)=>H-s[X],k)}function S(L,k){return L.reduce((H,X)=>w(H,k)>0?H.concat([X]):H,[])}function E(L){return o.map((k,H)=>({start:k-r[H]+.5+L,end:k+t-.5+L}))}function C(L,k,H){const X=E(k);return L.map(oe=>{const ce=H?0:-n,de=H?n:0,Q=H?"end":"start",fe=X[oe][Q];return{index:oe,loopPoint:fe,slideLocation:ld(-1),translate:pj(e,f[oe]),target:()=>u.get()>fe?ce:de}})}function T(){const L=c[0],k=S(p,L);return C(k,n,!1)}function _(){const L=t-c[0]-1,k=S(m,L);return C(k,-n,!0)}function A(){return b.every(({index:L})=>{const k=m.filter(H=>H!==L);return w(k,t)<=.1})}function O(){b.forEach(L=>{const{target:k,translate:H,slideLocation:X}=L,oe=k();oe!==X.get()&&(H.to(oe),X.set(oe))})}function R(){b.forEach(L=>L.translate.clear())}return{canLoop:A,clear:R,loop:O,loopPoints:b}}function hX(e,t,n){let r,s=!1;function o(f){if(!n)return;function h(m){for(const p of m)if(p.type==="childList"){f.reInit(),t.emit("slidesChanged");break}}r=new MutationObserver(m=>{s||(pp(n)||n(f,m))&&h(m)}),r.observe(e,{childList:!0})}function c(){r&&r.disconnect(),s=!0}return{init:o,destroy:c}}function mX(e,t,n,r){const s={};let o=null,c=null,u,f=!1;function h(){u=new IntersectionObserver(S=>{f||(S.forEach(E=>{const C=t.indexOf(E.target);s[C]=E}),o=null,c=null,n.emit("slidesInView"))},{root:e.parentElement,threshold:r}),t.forEach(S=>u.observe(S))}function m(){u&&u.disconnect(),f=!0}function p(S){return Ud(s).reduce((E,C)=>{const T=parseInt(C),{isIntersecting:_}=s[T];return(S&&_||!S&&!_)&&E.push(T),E},[])}function b(S=!0){if(S&&o)return o;if(!S&&c)return c;const E=p(S);return S&&(o=E),S||(c=E),E}return{init:h,destroy:m,get:b}}function pX(e,t,n,r,s,o){const{measureSize:c,startEdge:u,endEdge:f}=e,h=n[0]&&s,m=S(),p=E(),b=n.map(c),w=C();function S(){if(!h)return 0;const _=n[0];return un(t[u]-_[u])}function E(){if(!h)return 0;const _=o.getComputedStyle(ja(r));return parseFloat(_.getPropertyValue(`margin-${f}`))}function C(){return n.map((_,A,O)=>{const R=!A,D=Gx(O,A);return R?b[A]+m:D?b[A]+p:O[A+1][u]-_[u]}).map(un)}return{slideSizes:b,slideSizesWithGaps:w,startGap:m,endGap:p}}function gX(e,t,n,r,s,o,c,u,f){const{startEdge:h,endEdge:m,direction:p}=e,b=qx(n);function w(T,_){return Bd(T).filter(A=>A%_===0).map(A=>T.slice(A,A+_))}function S(T){return T.length?Bd(T).reduce((_,A,O)=>{const R=ja(_)||0,D=R===0,L=A===pf(T),k=s[h]-o[R][h],H=s[h]-o[A][m],X=!r&&D?p(c):0,oe=!r&&L?p(u):0,ce=un(H-oe-(k+X));return O&&ce>t+f&&_.push(A),L&&_.push(T.length),_},[]).map((_,A,O)=>{const R=Math.max(O[A-1]||0);return T.slice(R,_)}):[]}function E(T){return b?w(T,n):S(T)}return{groupSlides:E}}function yX(e,t,n,r,s,o,c){const{align:u,axis:f,direction:h,startIndex:m,loop:p,duration:b,dragFree:w,dragThreshold:S,inViewThreshold:E,slidesToScroll:C,skipSnaps:T,containScroll:_,watchResize:A,watchSlides:O,watchDrag:R,watchFocus:D}=o,L=2,k=QZ(),H=k.measure(t),X=n.map(k.measure),oe=KZ(f,h),ce=oe.measureSize(H),de=JZ(ce),Q=GZ(u,ce),fe=!p&&!!_,P=p||!!_,{slideSizes:K,slideSizesWithGaps:I,startGap:J,endGap:j}=pX(oe,H,X,n,P,s),W=gX(oe,ce,C,p,H,X,J,j,L),{snaps:B,snapsAligned:q}=oX(oe,Q,H,X,W),le=-ja(B)+ja(I),{snapsContained:ge,scrollContainLimit:he}=rX(ce,le,q,_,L),Se=fe?ge:q,{limit:_e}=aX(le,Se,p),ke=mj(pf(Se),m,p),Fe=ke.clone(),nt=Bd(n),Me=({dragHandler:tn,scrollBody:Gt,scrollBounds:Bn,options:{loop:An}})=>{An||Bn.constrain(tn.pointerDown()),Gt.seek()},ct=({scrollBody:tn,translate:Gt,location:Bn,offsetLocation:An,previousLocation:Qn,scrollLooper:Yn,slideLooper:Gn,dragHandler:Wn,animation:ar,eventHandler:$e,scrollBounds:kt,options:{loop:bt}},hn)=>{const mn=tn.settled(),Ge=!kt.shouldConstrain(),it=bt?mn:mn&&Ge,_t=it&&!Wn.pointerDown();_t&&ar.stop();const Qe=Bn.get()*hn+Qn.get()*(1-hn);An.set(Qe),bt&&(Yn.loop(tn.direction()),Gn.loop()),Gt.to(An.get()),_t&&$e.emit("settle"),it||$e.emit("scroll")},ot=WZ(r,s,()=>Me(pt),tn=>ct(pt,tn)),Yt=.68,an=Se[ke.get()],At=ld(an),zn=ld(an),Ot=ld(an),z=ld(an),ee=tX(At,Ot,zn,z,b,Yt),se=cX(p,Se,le,_e,z),Ee=uX(ot,ke,Fe,ee,se,z,c),Ce=iX(_e),we=Fd(),Ae=mX(t,n,c,E),{slideRegistry:Be}=lX(fe,_,Se,he,W,nt),lt=dX(e,n,Be,Ee,ee,we,c,D),pt={ownerDocument:r,ownerWindow:s,eventHandler:c,containerRect:H,slideRects:X,animation:ot,axis:oe,dragHandler:ZZ(oe,e,r,s,z,XZ(oe,s),At,ot,Ee,ee,se,ke,c,de,w,S,T,Yt,R),eventStore:we,percentOfView:de,index:ke,indexPrevious:Fe,limit:_e,location:At,offsetLocation:Ot,previousLocation:zn,options:o,resizeHandler:eX(t,c,s,n,oe,A,k),scrollBody:ee,scrollBounds:nX(_e,Ot,z,ee,de),scrollLooper:sX(le,_e,Ot,[At,Ot,zn,z]),scrollProgress:Ce,scrollSnapList:Se.map(Ce.get),scrollSnaps:Se,scrollTarget:se,scrollTo:Ee,slideLooper:fX(oe,ce,le,K,I,B,Se,Ot,n),slideFocus:lt,slidesHandler:hX(t,c,O),slidesInView:Ae,slideIndexes:nt,slideRegistry:Be,slidesToScroll:W,target:z,translate:pj(oe,t)};return pt}function vX(){let e={},t;function n(h){t=h}function r(h){return e[h]||[]}function s(h){return r(h).forEach(m=>m(t,h)),f}function o(h,m){return e[h]=r(h).concat([m]),f}function c(h,m){return e[h]=r(h).filter(p=>p!==m),f}function u(){e={}}const f={init:n,emit:s,off:c,on:o,clear:u};return f}const bX={align:"center",axis:"x",container:null,slides:null,containScroll:"trimSnaps",direction:"ltr",slidesToScroll:1,inViewThreshold:0,breakpoints:{},dragFree:!1,dragThreshold:10,loop:!1,skipSnaps:!1,duration:25,startIndex:0,active:!0,watchDrag:!0,watchResize:!0,watchSlides:!0,watchFocus:!0};function xX(e){function t(o,c){return hj(o,c||{})}function n(o){const c=o.breakpoints||{},u=Ud(c).filter(f=>e.matchMedia(f).matches).map(f=>c[f]).reduce((f,h)=>t(f,h),{});return t(o,u)}function r(o){return o.map(c=>Ud(c.breakpoints||{})).reduce((c,u)=>c.concat(u),[]).map(e.matchMedia)}return{mergeOptions:t,optionsAtMedia:n,optionsMediaQueries:r}}function wX(e){let t=[];function n(o,c){return t=c.filter(({options:u})=>e.optionsAtMedia(u).active!==!1),t.forEach(u=>u.init(o,e)),c.reduce((u,f)=>Object.assign(u,{[f.name]:f}),{})}function r(){t=t.filter(o=>o.destroy())}return{init:n,destroy:r}}function jm(e,t,n){const r=e.ownerDocument,s=r.defaultView,o=xX(s),c=wX(o),u=Fd(),f=vX(),{mergeOptions:h,optionsAtMedia:m,optionsMediaQueries:p}=o,{on:b,off:w,emit:S}=f,E=oe;let C=!1,T,_=h(bX,jm.globalOptions),A=h(_),O=[],R,D,L;function k(){const{container:nt,slides:Me}=A;D=(qb(nt)?e.querySelector(nt):nt)||e.children[0];const ot=qb(Me)?D.querySelectorAll(Me):Me;L=[].slice.call(ot||D.children)}function H(nt){const Me=yX(e,D,L,r,s,nt,f);if(nt.loop&&!Me.slideLooper.canLoop()){const ct=Object.assign({},nt,{loop:!1});return H(ct)}return Me}function X(nt,Me){C||(_=h(_,nt),A=m(_),O=Me||O,k(),T=H(A),p([_,...O.map(({options:ct})=>ct)]).forEach(ct=>u.add(ct,"change",oe)),A.active&&(T.translate.to(T.location.get()),T.animation.init(),T.slidesInView.init(),T.slideFocus.init(Fe),T.eventHandler.init(Fe),T.resizeHandler.init(Fe),T.slidesHandler.init(Fe),T.options.loop&&T.slideLooper.loop(),D.offsetParent&&L.length&&T.dragHandler.init(Fe),R=c.init(Fe,O)))}function oe(nt,Me){const ct=W();ce(),X(h({startIndex:ct},nt),Me),f.emit("reInit")}function ce(){T.dragHandler.destroy(),T.eventStore.clear(),T.translate.clear(),T.slideLooper.clear(),T.resizeHandler.destroy(),T.slidesHandler.destroy(),T.slidesInView.destroy(),T.animation.destroy(),c.destroy(),u.clear()}function de(){C||(C=!0,u.clear(),ce(),f.emit("destroy"),f.clear())}function Q(nt,Me,ct){!A.active||C||(T.scrollBody.useBaseFriction().useDuration(Me===!0?0:A.duration),T.scrollTo.index(nt,ct||0))}function fe(nt){const Me=T.index.add(1).get();Q(Me,nt,-1)}function P(nt){const Me=T.index.add(-1).get();Q(Me,nt,1)}function K(){return T.index.add(1).get()!==W()}function I(){return T.index.add(-1).get()!==W()}function J(){return T.scrollSnapList}function j(){return T.scrollProgress.get(T.offsetLocation.get())}function W(){return T.index.get()}function B(){return T.indexPrevious.get()}function q(){return T.slidesInView.get()}function le(){return T.slidesInView.get(!1)}function ge(){return R}function he(){return T}function Se(){return e}function _e(){return D}function ke(){return L}const Fe={canScrollNext:K,canScrollPrev:I,containerNode:_e,internalEngine:he,destroy:de,off:w,on:b,emit:S,plugins:ge,previousScrollSnap:B,reInit:E,rootNode:Se,scrollNext:fe,scrollPrev:P,scrollProgress:j,scrollSnapList:J,scrollTo:Q,selectedScrollSnap:W,slideNodes:ke,slidesInView:q,slidesNotInView:le};return X(t,n),setTimeout(()=>f.emit("init"),0),Fe}jm.globalOptions=void 0;function Wx(e={},t=[]){const n=x.useRef(e),r=x.useRef(t),[s,o]=x.useState(),[c,u]=x.useState(),f=x.useCallback(()=>{s&&s.reInit(n.current,r.current)},[s]);return x.useEffect(()=>{$x(n.current,e)||(n.current=e,f())},[e,f]),x.useEffect(()=>{$Z(r.current,t)||(r.current=t,f())},[t,f]),x.useEffect(()=>{if(HZ()&&c){jm.globalOptions=Wx.globalOptions;const h=jm(c,n.current,r.current);return o(h),()=>h.destroy()}else o(void 0)},[c,o]),[u,s]}Wx.globalOptions=void 0;const gj=x.createContext(null);function gp(){const e=x.useContext(gj);if(!e)throw new Error("useCarousel must be used within a <Carousel />");return e}function vv({orientation:e="horizontal",opts:t,setApi:n,plugins:r,className:s,children:o,...c}){const[u,f]=Wx({...t,axis:e==="horizontal"?"x":"y"},r),[h,m]=x.useState(!1),[p,b]=x.useState(!1),w=x.useCallback(T=>{T&&(m(T.canScrollPrev()),b(T.canScrollNext()))},[]),S=x.useCallback(()=>{f==null||f.scrollPrev()},[f]),E=x.useCallback(()=>{f==null||f.scrollNext()},[f]),C=x.useCallback(T=>{T.key==="ArrowLeft"?(T.preventDefault(),S()):T.key==="ArrowRight"&&(T.preventDefault(),E())},[S,E]);return x.useEffect(()=>{!f||!n||n(f)},[f,n]),x.useEffect(()=>{if(f)return w(f),f.on("reInit",w),f.on("select",w),()=>{f==null||f.off("select",w)}},[f,w]),g.jsx(gj.Provider,{value:{carouselRef:u,api:f,opts:t,orientation:e||((t==null?void 0:t.axis)==="y"?"vertical":"horizontal"),scrollPrev:S,scrollNext:E,canScrollPrev:h,canScrollNext:p},children:g.jsx("div",{onKeyDownCapture:C,className:be("relative",s),role:"region","aria-roledescription":"carousel","data-slot":"carousel",...c,children:o})})}function bv({className:e,...t}){const{carouselRef:n,orientation:r}=gp();return g.jsx("div",{ref:n,className:"overflow-hidden","data-slot":"carousel-content",children:g.jsx("div",{className:be("flex",r==="horizontal"?"-ml-4":"-mt-4 flex-col",e),...t})})}function xv({className:e,...t}){const{orientation:n}=gp();return g.jsx("div",{role:"group","aria-roledescription":"slide","data-slot":"carousel-item",className:be("min-w-0 shrink-0 grow-0 basis-full",n==="horizontal"?"pl-4":"pt-4",e),...t})}function wv({className:e,variant:t="outline",size:n="icon",...r}){const{orientation:s,scrollPrev:o,canScrollPrev:c}=gp();return g.jsxs(Ut,{"data-slot":"carousel-previous",variant:t,size:n,className:be("absolute size-8 rounded-full",s==="horizontal"?"top-1/2 -left-12 -translate-y-1/2":"-top-12 left-1/2 -translate-x-1/2 rotate-90",e),disabled:!c,onClick:o,...r,children:[g.jsx(q3,{}),g.jsx("span",{className:"sr-only",children:"Previous slide"})]})}function Sv({className:e,variant:t="outline",size:n="icon",...r}){const{orientation:s,scrollNext:o,canScrollNext:c}=gp();return g.jsxs(Ut,{"data-slot":"carousel-next",variant:t,size:n,className:be("absolute size-8 rounded-full",s==="horizontal"?"top-1/2 -right-12 -translate-y-1/2":"-bottom-12 left-1/2 -translate-x-1/2 rotate-90",e),disabled:!c,onClick:o,...r,children:[g.jsx($h,{}),g.jsx("span",{className:"sr-only",children:"Next slide"})]})}function Ev({session:e,isCompleted:t,isCharging:n=!1}){const r=s=>new Date(s).toLocaleString("en-MY",{year:"numeric",month:"long",day:"numeric",hour:"2-digit",minute:"2-digit"});return g.jsxs(Pr,{className:"h-full max-w-sm",children:[g.jsx(Lx,{children:g.jsxs("div",{className:"flex items-center justify-between",children:[g.jsx(Vx,{className:"text-base font-semibold",children:e.station.name}),g.jsxs(Or,{variant:n?"success":t?"primary":"warning",className:"text-xs",children:[n&&g.jsxs(g.Fragment,{children:[g.jsx(ts,{className:"size-4 text-green-500 dark:text-green-400"}),"Charging"]}),!n&&(t?"Completed":"Reserved")]})]})}),g.jsxs(Lr,{className:"space-y-1",children:[g.jsxs("div",{className:"flex items-center gap-2 text-xs text-muted-foreground",children:[g.jsx(Ps,{className:"size-4"}),g.jsxs("span",{children:[e.vehicle.make," ",e.vehicle.model]})]}),g.jsxs("div",{className:"flex items-center gap-2 text-xs text-muted-foreground",children:[g.jsx(kv,{className:"size-4"}),g.jsxs("span",{children:["Pump #",e.pumpNumber]})]}),g.jsxs("div",{className:"flex items-center gap-2 text-xs text-muted-foreground",children:[g.jsx(Ov,{className:"size-4"}),g.jsx("span",{children:r(e.startTime)})]})]})]})}function SX(){const e=Ws(),t=zc(),[n,r]=x.useState(!1),[s,o]=x.useState(!1),[c,u]=x.useState(!1),[f,h]=x.useState(null),[m,p]=x.useState(new Map),{data:b,isPending:w,error:S,isError:E}=Ks({queryKey:["reserving-user",e==null?void 0:e.id],queryFn:async()=>(await Tn.get("/charging-sessions",{params:{userId:e==null?void 0:e.id,size:100}})).data});function C(k){En.success(`🔋 ${k.vehicle.make} ${k.vehicle.model} is fully charged!`,{description:`Plate: ${k.vehicle.plateNumber} - Station: ${k.station.name}`,duration:5e3}),t.invalidateQueries({queryKey:["reserving-user",e==null?void 0:e.id]})}const T=()=>{if(f&&f.readyState===WebSocket.OPEN)return;const k=new WebSocket("wss://ev-reservation.pixcel.org/ws/charging");k.onopen=()=>{k.send(JSON.stringify({action:"subscribe",topic:"mine"}))},k.onmessage=H=>{var ce;let X;try{X=JSON.parse(H.data)}catch{console.error("Bad JSON from server:",H.data);return}if(((ce=X.vehicle.owner)==null?void 0:ce.id)!==(e==null?void 0:e.id))return;const oe=`${X.station.id}-${X.vehicle.id}-${X.pump}`;p(de=>{const Q=new Map(de);return X.status==="completed"?(Q.delete(oe),C(X)):Q.set(oe,X),Q})},k.onerror=()=>{console.error("WebSocket error")},k.onclose=()=>{console.log("WebSocket closed")},h(k)},_=()=>{f&&(f.close(),h(null))};if(x.useEffect(()=>(T(),()=>{_()}),[e==null?void 0:e.id]),w)return g.jsx("div",{className:"flex items-center justify-center h-full space-x-2",children:g.jsx(Tc,{className:"animate-spin"})});if(E)return g.jsxs("div",{className:"text-red-500",children:["Error loading vehicles:"," ",S instanceof Error?S.message:"Unknown error"]});const A=b.content.filter(k=>k.isCompleted),O=b.content.filter(k=>k.isReserved),R=(k,H=5)=>{const X=[];for(let oe=0;oe<k.length;oe+=H)X.push(k.slice(oe,oe+H));return X},D=(k,H=5)=>{const X=[];for(let oe=0;oe<k.length;oe+=H)X.push(k.slice(oe,oe+H));return X},L=k=>({id:k.sessionId,user:e,vehicle:k.vehicle,station:k.station,pumpNumber:k.pump,isCompleted:!1,isReserved:!1,isCharging:!0,startTime:new Date().toISOString()});return g.jsxs("div",{className:"space-y-8 p-4",children:[g.jsxs("div",{children:[g.jsxs("div",{className:"flex items-center gap-4 mb-4",children:[g.jsx(ts,{className:"size-4 text-yellow-600"}),g.jsx("h2",{className:"text-xl font-semibold",children:"Current Sessions"}),g.jsx(Or,{variant:"secondary",children:m.size}),g.jsxs(Ut,{size:"small",variant:"ghost",onClick:()=>u(!c),className:"ml-auto",children:[c?g.jsx(Dy,{}):g.jsx(Ny,{}),c?"Hide":"Show"]})]}),c&&g.jsx("div",{className:"px-8",children:m.size>0?g.jsxs(vv,{opts:{align:"start",loop:!0},className:"w-full",children:[g.jsx(bv,{children:D([...m.values()]).map((k,H)=>g.jsx(xv,{children:g.jsx("div",{className:"grid grid-cols-1 md:grid-cols-2 lg:grid-cols-3 xl:grid-cols-5 gap-4",children:k.map(X=>{const oe=`${X.station.id}-${X.vehicle.id}-${X.pump}`;return g.jsx(Ev,{session:L(X),isCompleted:!1,isCharging:!0},oe)})})},H))}),D([...m.values()]).length>1&&g.jsxs(g.Fragment,{children:[g.jsx(wv,{}),g.jsx(Sv,{})]})]}):g.jsx(Pr,{className:"text-center py-8",children:g.jsxs(Lr,{children:[g.jsx(ts,{className:"h-12 w-12 mx-auto text-muted-foreground mb-4"}),g.jsx("p",{className:"text-muted-foreground",children:"No current charging sessions"})]})})})]}),g.jsxs("div",{className:"flex justify-between",children:[g.jsxs("div",{className:"flex items-center gap-4",children:[g.jsx(om,{className:"size-4 text-green-600"}),g.jsx("h2",{className:"text-xl font-semibold",children:"Completed Sessions"}),g.jsx(Or,{variant:"secondary",children:A.length})]}),g.jsxs(Ut,{size:"small",variant:"ghost",onClick:()=>r(!n),children:[n?g.jsx(Dy,{}):g.jsx(Ny,{}),n?"Hide":"Show"]})]}),n&&g.jsx("div",{className:"px-8",children:A.length>0?g.jsxs(vv,{opts:{align:"start",loop:!0},className:"w-full",children:[g.jsx(bv,{children:R(A).map((k,H)=>g.jsx(xv,{children:g.jsx("div",{className:"grid grid-cols-1 md:grid-cols-2 lg:grid-cols-3 xl:grid-cols-5 gap-4",children:k.map(X=>g.jsx(Ev,{session:X,isCompleted:!0},X.id))})},H))}),R(A).length>1&&g.jsxs(g.Fragment,{children:[g.jsx(wv,{}),g.jsx(Sv,{})]})]}):g.jsx(Pr,{className:"text-center py-8",children:g.jsxs(Lr,{children:[g.jsx(om,{className:"h-12 w-12 mx-auto text-muted-foreground mb-4"}),g.jsx("p",{className:"text-muted-foreground",children:"No completed sessions yet"})]})})}),g.jsxs("div",{children:[g.jsxs("div",{className:"flex items-center gap-4 mb-4",children:[g.jsx(Ov,{className:"size-4 text-blue-600"}),g.jsx("h2",{className:"text-xl font-semibold",children:"Reserved Sessions"}),g.jsx(Or,{variant:"secondary",children:O.length}),g.jsxs(Ut,{size:"small",variant:"ghost",onClick:()=>o(!s),className:"ml-auto",children:[s?g.jsx(Dy,{}):g.jsx(Ny,{}),s?"Hide":"Show"]})]}),s&&g.jsx("div",{className:"px-8",children:O.length>0?g.jsxs(vv,{opts:{align:"start",loop:!0},className:"w-full",children:[g.jsx(bv,{children:R(O).map((k,H)=>g.jsx(xv,{children:g.jsx("div",{className:"grid grid-cols-1 md:grid-cols-2 lg:grid-cols-3 xl:grid-cols-5 gap-4",children:k.map(X=>g.jsx(Ev,{session:X,isCompleted:!1},X.id))})},H))}),R(O).length>1&&g.jsxs(g.Fragment,{children:[g.jsx(wv,{}),g.jsx(Sv,{})]})]}):g.jsx(Pr,{className:"text-center py-8",children:g.jsxs(Lr,{children:[g.jsx(Ov,{className:"h-12 w-12 mx-auto text-muted-foreground mb-4"}),g.jsx("p",{className:"text-muted-foreground",children:"No reserved sessions"})]})})})]})]})}function E_(){return g.jsx("div",{className:"flex flex-1 flex-col",children:g.jsxs("div",{className:"container flex flex-col flex-1 mx-auto space-y-6",children:[g.jsx("div",{className:"flex flex-1 flex-col space-y-4 justify-center items-center",children:g.jsx(UZ,{})}),g.jsx(SX,{})]})})}function Kx({className:e,...t}){return g.jsx("div",{"data-slot":"table-container",className:"relative w-full overflow-x-auto",children:g.jsx("table",{"data-slot":"table",className:be("w-full caption-bottom text-sm",e),...t})})}function Zx({className:e,...t}){return g.jsx("thead",{"data-slot":"table-header",className:be("[&_tr]:border-b",e),...t})}function Xx({className:e,...t}){return g.jsx("tbody",{"data-slot":"table-body",className:be("[&_tr:last-child]:border-0",e),...t})}function Ec({className:e,...t}){return g.jsx("tr",{"data-slot":"table-row",className:be("hover:bg-muted/50 data-[state=selected]:bg-muted border-b transition-colors",e),...t})}function kr({className:e,...t}){return g.jsx("th",{"data-slot":"table-head",className:be("text-foreground h-10 px-2 text-left align-middle font-medium whitespace-nowrap [&:has([role=checkbox])]:pr-0 [&>[role=checkbox]]:translate-y-[2px]",e),...t})}function jr({className:e,...t}){return g.jsx("td",{"data-slot":"table-cell",className:be("p-2 align-middle whitespace-nowrap [&:has([role=checkbox])]:pr-0 [&>[role=checkbox]]:translate-y-[2px]",e),...t})}function EX(){const e=Gs(),{data:t,isPending:n,isError:r,error:s}=Ks({queryKey:["ev-stations"],queryFn:async()=>(await Tn.get("/stations")).data});function o(){e("/ev-stations/create")}function c(u){e(`/ev-stations/update/${u}`)}return n?g.jsx("div",{className:"flex items-center justify-center h-full space-x-2",children:g.jsx(Tc,{className:"animate-spin"})}):r?g.jsxs("div",{className:"text-red-500",children:["Error loading EV stations: ",s.message]}):g.jsx("div",{className:"flex flex-col space-y-4",children:g.jsxs("div",{className:"container mx-auto p-6 space-y-6",children:[g.jsxs("div",{className:"flex items-center justify-between",children:[g.jsx("h1",{className:"font-semibold text-lg",children:"Registered stations"}),g.jsxs(Ut,{onClick:o,variant:"outline",children:[g.jsx(xA,{}),"Register Station"]})]}),g.jsxs(Kx,{children:[g.jsx(Zx,{children:g.jsxs(Ec,{children:[g.jsx(kr,{children:"Name"}),g.jsx(kr,{children:"Location"}),g.jsx(kr,{children:"Number Of Pump"})]})}),g.jsx(Xx,{children:t.map(u=>g.jsxs(Ec,{onClick:()=>c(u.id),className:"cursor-pointer hover:bg-sky-100 dark:hover:bg-sky-950",children:[g.jsx(jr,{children:u.name}),g.jsx(jr,{children:u.location}),g.jsx(jr,{children:u.numberOfPumps})]},u.id))})]})]})})}const yj=op({name:ea().min(1,"Name is required"),location:ea().min(1,"Location is required"),numberOfPumps:ea().refine(e=>!Number.isNaN(parseInt(e,10)),{message:"Expected number, received a string"})}),CX=yj.extend({id:lI().int().positive("ID must be a positive integer")});function TX(){const e=jc({resolver:Lc(yj)}),t=Hs({mutationFn:async r=>{await Tn.post("/stations",{...r})},onSuccess:()=>En.success("EV Station created successfully!"),onError:r=>En.error(`Error creating EV Station: ${r}`)});function n(r){t.mutate(r)}return g.jsx("div",{className:"container mx-auto p-6 space-y-6",children:g.jsx(Pc,{...e,children:g.jsxs("form",{className:"space-y-4",onSubmit:e.handleSubmit(n),children:[g.jsx(On,{control:e.control,name:"name",render:({field:r})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Name"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter station name",...r})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:e.control,name:"location",render:({field:r})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Location"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter station location",...r})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:e.control,name:"numberOfPumps",render:({field:r})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Number of Pumps"}),g.jsx(Pn,{children:g.jsx(Cn,{type:"number",placeholder:"Enter number of pumps",...r})}),g.jsx(Ln,{})]})}),g.jsx("div",{className:"flex justify-end",children:g.jsx(Ut,{type:"submit",children:"Register"})})]})})})}var vj="AlertDialog",[MX,zQ]=cs(vj,[XR]),Xs=XR(),bj=e=>{const{__scopeAlertDialog:t,...n}=e,r=Xs(t);return g.jsx(L0,{...r,...n,modal:!0})};bj.displayName=vj;var _X="AlertDialogTrigger",xj=x.forwardRef((e,t)=>{const{__scopeAlertDialog:n,...r}=e,s=Xs(n);return g.jsx(BF,{...s,...r,ref:t})});xj.displayName=_X;var AX="AlertDialogPortal",wj=e=>{const{__scopeAlertDialog:t,...n}=e,r=Xs(t);return g.jsx(V0,{...r,...n})};wj.displayName=AX;var RX="AlertDialogOverlay",Sj=x.forwardRef((e,t)=>{const{__scopeAlertDialog:n,...r}=e,s=Xs(n);return g.jsx(z0,{...s,...r,ref:t})});Sj.displayName=RX;var Ql="AlertDialogContent",[DX,NX]=MX(Ql),OX=gA("AlertDialogContent"),Ej=x.forwardRef((e,t)=>{const{__scopeAlertDialog:n,children:r,...s}=e,o=Xs(n),c=x.useRef(null),u=fn(t,c),f=x.useRef(null);return g.jsx(PF,{contentName:Ql,titleName:Cj,docsSlug:"alert-dialog",children:g.jsx(DX,{scope:n,cancelRef:f,children:g.jsxs(B0,{role:"alertdialog",...o,...s,ref:u,onOpenAutoFocus:Ze(s.onOpenAutoFocus,h=>{var m;h.preventDefault(),(m=f.current)==null||m.focus({preventScroll:!0})}),onPointerDownOutside:h=>h.preventDefault(),onInteractOutside:h=>h.preventDefault(),children:[g.jsx(OX,{children:r}),g.jsx(jX,{contentRef:c})]})})})});Ej.displayName=Ql;var Cj="AlertDialogTitle",Tj=x.forwardRef((e,t)=>{const{__scopeAlertDialog:n,...r}=e,s=Xs(n);return g.jsx(hD,{...s,...r,ref:t})});Tj.displayName=Cj;var Mj="AlertDialogDescription",_j=x.forwardRef((e,t)=>{const{__scopeAlertDialog:n,...r}=e,s=Xs(n);return g.jsx(mD,{...s,...r,ref:t})});_j.displayName=Mj;var kX="AlertDialogAction",Aj=x.forwardRef((e,t)=>{const{__scopeAlertDialog:n,...r}=e,s=Xs(n);return g.jsx(U0,{...s,...r,ref:t})});Aj.displayName=kX;var Rj="AlertDialogCancel",Dj=x.forwardRef((e,t)=>{const{__scopeAlertDialog:n,...r}=e,{cancelRef:s}=NX(Rj,n),o=Xs(n),c=fn(t,s);return g.jsx(U0,{...o,...r,ref:c})});Dj.displayName=Rj;var jX=({contentRef:e})=>{const t=`\`${Ql}\` requires a description for the component to be accessible for screen reader users.
 
 You can add a description to the \`${Ql}\` by passing a \`${Mj}\` component as a child, which also benefits sighted users by adding visible context to the dialog.
 
 Alternatively, you can use your own component as a description by assigning it an \`id\` and passing the same value to the \`aria-describedby\` prop in \`${Ql}\`. If the description is confusing or duplicative for sighted users, you can use the \`@radix-ui/react-visually-hidden\` primitive as a wrapper around your description component.
 
-For more information, see https://radix-ui.com/primitives/docs/components/alert-dialog`;return x.useEffect(()=>{var r;document.getElementById((r=e.current)==null?void 0:r.getAttribute("aria-describedby"))||console.warn(t)},[t,e]),null},PX=bj,LX=xj,VX=wj,zX=Sj,BX=Ej,UX=Aj,FX=Dj,IX=Tj,HX=_j;function Nj({...e}){return g.jsx(PX,{"data-slot":"alert-dialog",...e})}function Oj({...e}){return g.jsx(LX,{"data-slot":"alert-dialog-trigger",...e})}function $X({...e}){return g.jsx(VX,{"data-slot":"alert-dialog-portal",...e})}function qX({className:e,...t}){return g.jsx(zX,{"data-slot":"alert-dialog-overlay",className:be("data-[state=open]:animate-in data-[state=closed]:animate-out data-[state=closed]:fade-out-0 data-[state=open]:fade-in-0 fixed inset-0 z-50 bg-black/50",e),...t})}function kj({className:e,...t}){return g.jsxs($X,{children:[g.jsx(qX,{}),g.jsx(BX,{"data-slot":"alert-dialog-content",className:be("bg-background data-[state=open]:animate-in data-[state=closed]:animate-out data-[state=closed]:fade-out-0 data-[state=open]:fade-in-0 data-[state=closed]:zoom-out-95 data-[state=open]:zoom-in-95 fixed top-[50%] left-[50%] z-50 grid w-full max-w-[calc(100%-2rem)] translate-x-[-50%] translate-y-[-50%] gap-4 rounded-lg border p-6 shadow-lg duration-200 sm:max-w-lg",e),...t})]})}function jj({className:e,...t}){return g.jsx("div",{"data-slot":"alert-dialog-header",className:be("flex flex-col gap-2 text-center sm:text-left",e),...t})}function Pj({className:e,...t}){return g.jsx("div",{"data-slot":"alert-dialog-footer",className:be("flex flex-col-reverse gap-2 sm:flex-row sm:justify-end",e),...t})}function Lj({className:e,...t}){return g.jsx(IX,{"data-slot":"alert-dialog-title",className:be("text-lg font-semibold",e),...t})}function Vj({className:e,...t}){return g.jsx(HX,{"data-slot":"alert-dialog-description",className:be("text-muted-foreground text-sm",e),...t})}function zj({className:e,...t}){return g.jsx(UX,{className:be(Cd(),e),...t})}function Bj({className:e,...t}){return g.jsx(FX,{className:be(Cd({variant:"outline"}),e),...t})}function YX(){const{id:e}=oA(),t=zc(),{data:n,isPending:r,isError:s,error:o}=Ks({queryKey:["ev-stations",e],queryFn:async()=>{const p=await Tn.get(`/stations/${e}`);return console.log("Response data:",p.data),p.data}}),c=Hs({mutationFn:async p=>{await Tn.put(`/stations/${e}`,{...p,numberOfPumps:parseInt(p.numberOfPumps,10)})},onSuccess:()=>{t.invalidateQueries({queryKey:["ev-stations"]}),t.invalidateQueries({queryKey:["ev-stations",e]}),En.success("EV Station updated successfully!")},onError:p=>{En.error(`Error updating EV Station: ${p}`)}}),u=Hs({mutationFn:async()=>{await Tn.delete(`/stations/${e}`)},onSuccess:()=>{t.invalidateQueries({queryKey:["ev-stations"]}),En.success("EV Station deleted successfully!")},onError:p=>{En.error(`Error deleting EV Station: ${p}`)}}),f=jc({defaultValues:{...n,numberOfPumps:n==null?void 0:n.numberOfPumps.toString()},resolver:Lc(CX)});function h(p){c.mutate(p)}function m(){u.mutate()}return r?g.jsx("div",{className:"flex items-center justify-center h-full space-x-2",children:g.jsx(Tc,{className:"animate-spin"})}):s?g.jsxs("div",{className:"text-red-500",children:["Error loading EV stations: ",o.message]}):g.jsx("div",{className:"container mx-auto p-6 space-y-6",children:g.jsx(Pc,{...f,children:g.jsxs("form",{className:"space-y-4",onSubmit:f.handleSubmit(h),children:[g.jsx(On,{control:f.control,name:"name",render:({field:p})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Name"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter station name",...p})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:f.control,name:"location",render:({field:p})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Location"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter station location",...p})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:f.control,name:"numberOfPumps",render:({field:p})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Number of Pumps"}),g.jsx(Pn,{children:g.jsx(Cn,{type:"number",placeholder:"Enter number of pumps",...p})}),g.jsx(Ln,{})]})}),g.jsxs("div",{className:"flex space-x-2 justify-end",children:[g.jsxs(Nj,{children:[g.jsx(Oj,{asChild:!0,children:g.jsx(Ut,{type:"button",variant:"ghost",className:"text-red-500",children:"Delete"})}),g.jsxs(kj,{children:[g.jsxs(jj,{children:[g.jsx(Lj,{children:"Are you absolutely sure?"}),g.jsx(Vj,{children:"This action cannot be undone. This will permanently delete your data."})]}),g.jsxs(Pj,{children:[g.jsx(Bj,{children:"Cancel"}),g.jsx(zj,{onClick:m,children:"Continue"})]})]})]}),g.jsx(Ut,{type:"submit",children:"Update"})]})]})})})}function GX(){const[e,t]=x.useState({x:0,y:0});return x.useEffect(()=>{const n=r=>{t({x:r.clientX,y:r.clientY})};return window.addEventListener("mousemove",n),()=>{window.removeEventListener("mousemove",n)}},[]),e}function WX(e){e=e.replace("#",""),e.length===3&&(e=e.split("").map(o=>o+o).join(""));const t=parseInt(e,16),n=t>>16&255,r=t>>8&255,s=t&255;return[n,r,s]}const KX=({className:e="",quantity:t=100,staticity:n=50,ease:r=50,size:s=.4,refresh:o=!1,color:c,vx:u=0,vy:f=0,...h})=>{const m=x.useRef(null),p=x.useRef(null),b=x.useRef(null),w=x.useRef([]),S=GX(),E=x.useRef({x:0,y:0}),C=x.useRef({w:0,h:0}),T=typeof window<"u"?window.devicePixelRatio:1,_=x.useRef(null),A=x.useRef(null);x.useEffect(()=>{m.current&&(b.current=m.current.getContext("2d")),O(),de();const Q=()=>{A.current&&clearTimeout(A.current),A.current=setTimeout(()=>{O()},200)};return window.addEventListener("resize",Q),()=>{_.current!=null&&window.cancelAnimationFrame(_.current),A.current&&clearTimeout(A.current),window.removeEventListener("resize",Q)}},[c]),x.useEffect(()=>{R()},[S.x,S.y]),x.useEffect(()=>{O()},[o]);const O=()=>{D(),oe()},R=()=>{if(m.current){const Q=m.current.getBoundingClientRect(),{w:fe,h:P}=C.current,K=S.x-Q.left-fe/2,I=S.y-Q.top-P/2;K<fe/2&&K>-fe/2&&I<P/2&&I>-P/2&&(E.current.x=K,E.current.y=I)}},D=()=>{if(p.current&&m.current&&b.current){C.current.w=p.current.offsetWidth,C.current.h=p.current.offsetHeight,m.current.width=C.current.w*T,m.current.height=C.current.h*T,m.current.style.width=`${C.current.w}px`,m.current.style.height=`${C.current.h}px`,b.current.scale(T,T),w.current=[];for(let Q=0;Q<t;Q++){const fe=L();H(fe)}}},L=()=>{const Q=Math.floor(Math.random()*C.current.w),fe=Math.floor(Math.random()*C.current.h),P=0,K=0,I=Math.floor(Math.random()*2)+s,J=0,j=parseFloat((Math.random()*.6+.1).toFixed(1)),W=(Math.random()-.5)*.1,B=(Math.random()-.5)*.1,q=.1+Math.random()*4;return{x:Q,y:fe,translateX:P,translateY:K,size:I,alpha:J,targetAlpha:j,dx:W,dy:B,magnetism:q}},k=WX(c||"#ffffff"),H=(Q,fe=!1)=>{if(b.current){const{x:P,y:K,translateX:I,translateY:J,size:j,alpha:W}=Q;b.current.translate(I,J),b.current.beginPath(),b.current.arc(P,K,j,0,2*Math.PI),b.current.fillStyle=`rgba(${k.join(", ")}, ${W})`,b.current.fill(),b.current.setTransform(T,0,0,T,0,0),fe||w.current.push(Q)}},X=()=>{b.current&&b.current.clearRect(0,0,C.current.w,C.current.h)},oe=()=>{X();const Q=t;for(let fe=0;fe<Q;fe++){const P=L();H(P)}},ce=(Q,fe,P,K,I)=>{const J=(Q-fe)*(I-K)/(P-fe)+K;return J>0?J:0},de=()=>{X(),w.current.forEach((Q,fe)=>{const K=[Q.x+Q.translateX-Q.size,C.current.w-Q.x-Q.translateX-Q.size,Q.y+Q.translateY-Q.size,C.current.h-Q.y-Q.translateY-Q.size].reduce((J,j)=>Math.min(J,j)),I=parseFloat(ce(K,0,20,0,1).toFixed(2));if(I>1?(Q.alpha+=.02,Q.alpha>Q.targetAlpha&&(Q.alpha=Q.targetAlpha)):Q.alpha=Q.targetAlpha*I,Q.x+=Q.dx+u,Q.y+=Q.dy+f,Q.translateX+=(E.current.x/(n/Q.magnetism)-Q.translateX)/r,Q.translateY+=(E.current.y/(n/Q.magnetism)-Q.translateY)/r,H(Q,!0),Q.x<-Q.size||Q.x>C.current.w+Q.size||Q.y<-Q.size||Q.y>C.current.h+Q.size){w.current.splice(fe,1);const J=L();H(J)}}),_.current=window.requestAnimationFrame(de)};return g.jsx("div",{className:be("pointer-events-none",e),ref:p,"aria-hidden":"true",...h,children:g.jsx("canvas",{ref:m,className:"size-full"})})},ZX=Wm(be("relative cursor-pointer group transition-all animate-rainbow","inline-flex items-center justify-center gap-2 shrink-0","rounded-sm outline-none focus-visible:ring-[3px] aria-invalid:border-destructive","text-sm font-medium whitespace-nowrap","disabled:pointer-events-none disabled:opacity-50","[&_svg]:pointer-events-none [&_svg:not([class*='size-'])]:size-4 [&_svg]:shrink-0"),{variants:{variant:{default:"border-0 bg-[linear-gradient(#121213,#121213),linear-gradient(#121213_50%,rgba(18,18,19,0.6)_80%,rgba(18,18,19,0)),linear-gradient(90deg,var(--color-1),var(--color-5),var(--color-3),var(--color-4),var(--color-2))] bg-[length:200%] text-primary-foreground dark:text-black [background-clip:padding-box,border-box,border-box] [background-origin:border-box] [border:calc(0.125rem)_solid_transparent] before:absolute before:bottom-[-20%] before:left-1/2 before:z-0 before:h-1/5 before:w-3/5 before:-translate-x-1/2 before:animate-rainbow before:bg-[linear-gradient(90deg,var(--color-1),var(--color-5),var(--color-3),var(--color-4),var(--color-2))] before:[filter:blur(0.75rem)] dark:bg-[linear-gradient(#fff,#fff),linear-gradient(#fff_50%,rgba(255,255,255,0.6)_80%,rgba(0,0,0,0)),linear-gradient(90deg,var(--color-1),var(--color-5),var(--color-3),var(--color-4),var(--color-2))]",outline:"border border-input border-b-transparent bg-[linear-gradient(#ffffff,#ffffff),linear-gradient(#ffffff_50%,rgba(18,18,19,0.6)_80%,rgba(18,18,19,0)),linear-gradient(90deg,var(--color-1),var(--color-5),var(--color-3),var(--color-4),var(--color-2))] bg-[length:200%] text-accent-foreground [background-clip:padding-box,border-box,border-box] [background-origin:border-box] before:absolute before:bottom-[-20%] before:left-1/2 before:z-0 before:h-1/5 before:w-3/5 before:-translate-x-1/2 before:animate-rainbow before:bg-[linear-gradient(90deg,var(--color-1),var(--color-5),var(--color-3),var(--color-4),var(--color-2))] before:[filter:blur(0.75rem)] dark:bg-[linear-gradient(#0a0a0a,#0a0a0a),linear-gradient(#0a0a0a_50%,rgba(255,255,255,0.6)_80%,rgba(0,0,0,0)),linear-gradient(90deg,var(--color-1),var(--color-5),var(--color-3),var(--color-4),var(--color-2))]"},size:{default:"h-9 px-4 py-2",sm:"h-8 rounded-xl px-3 text-xs",lg:"h-11 rounded-xl px-8",icon:"size-9"}},defaultVariants:{variant:"default",size:"default"}}),Uj=G.forwardRef(({className:e,variant:t,size:n,asChild:r=!1,...s},o)=>{const c=r?Cc:"button";return g.jsx(c,{"data-slot":"button",className:be(ZX({variant:t,size:n,className:e})),ref:o,...s})});Uj.displayName="RainbowButton";function XX(){const e=Gs(),{theme:t}=Wb(),[n,r]=x.useState("#ffffff");x.useEffect(()=>{r(t==="dark"?"#ffffff":"#000000")},[t]);function s(){e("/auth")}const o=[{icon:g.jsx(cC,{className:"h-8 w-8 text-primary"}),title:"Smart Reservations",description:"Reserve charging slots in advance or start charging immediately"},{icon:g.jsx(jv,{className:"h-8 w-8 text-primary"}),title:"Station Management",description:"Comprehensive EV charging station management with multiple pumps"},{icon:g.jsx(Ps,{className:"h-8 w-8 text-primary"}),title:"Vehicle Profiles",description:"Manage multiple vehicles with different battery capacities"},{icon:g.jsx(X3,{className:"h-8 w-8 text-primary"}),title:"Real-time Monitoring",description:"Live tracking of charging progress with WebSocket updates"},{icon:g.jsx(mC,{className:"h-8 w-8 text-primary"}),title:"Multi-user Support",description:"Secure user authentication and session management"},{icon:g.jsx(z5,{className:"h-8 w-8 text-primary"}),title:"Enterprise Ready",description:"Built with Spring Boot backend and React frontend"}],c=["Real-time charging progress via WebSocket","Automated charging session management","Advanced pagination and filtering","RESTful API architecture","Responsive web design","Secure authentication system","Utilizes Java Threads for concurrent processing"];return g.jsxs("div",{className:"min-h-screen bg-gradient-to-br from-blue-50 via-white to-green-50 dark:from-gray-900 dark:via-gray-800 dark:to-gray-900",children:[g.jsx("nav",{className:"border-b bg-white/80 backdrop-blur-sm dark:bg-gray-900/80 sticky top-0 z-50",children:g.jsxs("div",{className:"container mx-auto px-4 py-4 flex justify-between items-center",children:[g.jsxs("div",{className:"flex items-center space-x-2",children:[g.jsx(ts,{className:"h-8 w-8 text-primary"}),g.jsx("span",{className:"text-2xl font-bold text-gray-900 dark:text-white",children:"EV Charging Reservation System"})]}),g.jsxs("div",{className:"flex items-center space-x-4",children:[g.jsx(QD,{}),g.jsxs(Uj,{onClick:s,children:["Get Started",g.jsx($h,{className:"ml-2 h-4 w-4"})]})]})]})}),g.jsxs("div",{className:"relative flex pt-4 w-full flex-col items-center justify-center overflow-hidden rounded-lg",children:[g.jsx("img",{src:"https://upload.wikimedia.org/wikipedia/en/8/8c/UiTMlogo.gif",alt:"uitm logo",className:"h-12"}),g.jsxs("h1",{className:"text-5xl md:text-7xl font-bold text-gray-900 dark:text-white mb-6 leading-tight",children:["Smart EV Charging",g.jsx("span",{className:"text-primary block",children:"Reservation System"})]}),g.jsx("p",{className:"text-xl text-gray-600 dark:text-gray-300 mb-8 max-w-2xl mx-auto leading-relaxed",children:"Streamline your electric vehicle charging experience with our intelligent reservation platform. Schedule charging sessions, monitor progress in real-time, and manage multiple vehicles effortlessly."}),g.jsxs("div",{className:"flex flex-col sm:flex-row gap-4 justify-center mb-12",children:[g.jsxs(Ut,{onClick:s,size:"lg",className:"bg-primary hover:bg-primary/90 text-lg px-8 py-6",children:["Start Charging",g.jsx(ts,{className:"ml-2 h-5 w-5"})]}),g.jsxs(Ut,{variant:"outline",size:"lg",className:"text-lg px-8 py-6",onClick:()=>{var u;return(u=document.getElementById("features"))==null?void 0:u.scrollIntoView({behavior:"smooth"})},children:["Learn More",g.jsx($h,{className:"ml-2 h-5 w-5"})]})]}),g.jsxs("div",{className:"grid grid-cols-2 md:grid-cols-4 gap-8 mt-16",children:[g.jsxs("div",{className:"text-center",children:[g.jsx("div",{className:"text-3xl font-bold text-primary mb-2",children:"24/7"}),g.jsx("div",{className:"text-gray-600 dark:text-gray-400",children:"Available"})]}),g.jsxs("div",{className:"text-center",children:[g.jsx("div",{className:"text-3xl font-bold text-primary mb-2",children:"Real-time"}),g.jsx("div",{className:"text-gray-600 dark:text-gray-400",children:"Monitoring"})]}),g.jsxs("div",{className:"text-center",children:[g.jsx("div",{className:"text-3xl font-bold text-primary mb-2",children:"Multi"}),g.jsx("div",{className:"text-gray-600 dark:text-gray-400",children:"Vehicle"})]}),g.jsxs("div",{className:"text-center",children:[g.jsx("div",{className:"text-3xl font-bold text-primary mb-2",children:"Smart"}),g.jsx("div",{className:"text-gray-600 dark:text-gray-400",children:"Scheduling"})]})]}),g.jsx(KX,{className:"absolute inset-0 z-0",quantity:100,ease:80,color:n,refresh:!0})]}),g.jsx("section",{id:"features",className:"py-20",children:g.jsxs("div",{className:"container mx-auto px-4",children:[g.jsxs("div",{className:"text-center mb-16",children:[g.jsx("h2",{className:"text-4xl font-bold text-gray-900 dark:text-white mb-4",children:"Powerful Features"}),g.jsx("p",{className:"text-xl text-gray-600 dark:text-gray-300 max-w-2xl mx-auto",children:"Everything you need to manage EV charging efficiently"})]}),g.jsx("div",{className:"grid md:grid-cols-2 lg:grid-cols-3 gap-8",children:o.map((u,f)=>g.jsx(Pr,{className:"border-0 shadow-lg hover:shadow-xl transition-all duration-300 hover:scale-105",children:g.jsxs(Lr,{className:"p-8",children:[g.jsx("div",{className:"mb-4",children:u.icon}),g.jsx("h3",{className:"text-xl font-semibold text-gray-900 dark:text-white mb-3",children:u.title}),g.jsx("p",{className:"text-gray-600 dark:text-gray-300 leading-relaxed",children:u.description})]})},f))})]})}),g.jsx("section",{className:"py-20",children:g.jsxs("div",{className:"container mx-auto px-4",children:[g.jsxs("div",{className:"text-center mb-16",children:[g.jsx("h2",{className:"text-4xl font-bold text-gray-900 dark:text-white mb-4",children:"How It Works"}),g.jsx("p",{className:"text-xl text-gray-600 dark:text-gray-300 max-w-2xl mx-auto",children:"Simple steps to get your EV charged"})]}),g.jsxs("div",{className:"grid md:grid-cols-4 gap-8",children:[g.jsxs("div",{className:"text-center",children:[g.jsx("div",{className:"w-16 h-16 bg-primary/10 rounded-full flex items-center justify-center mx-auto mb-4",children:g.jsx(mC,{className:"h-8 w-8 text-primary"})}),g.jsx("h3",{className:"text-lg font-semibold mb-2",children:"1. Register"}),g.jsx("p",{className:"text-gray-600 dark:text-gray-400",children:"Create your account and add your vehicles"})]}),g.jsxs("div",{className:"text-center",children:[g.jsx("div",{className:"w-16 h-16 bg-primary/10 rounded-full flex items-center justify-center mx-auto mb-4",children:g.jsx(jv,{className:"h-8 w-8 text-primary"})}),g.jsx("h3",{className:"text-lg font-semibold mb-2",children:"2. Find Station"}),g.jsx("p",{className:"text-gray-600 dark:text-gray-400",children:"Locate available charging stations"})]}),g.jsxs("div",{className:"text-center",children:[g.jsx("div",{className:"w-16 h-16 bg-primary/10 rounded-full flex items-center justify-center mx-auto mb-4",children:g.jsx(cC,{className:"h-8 w-8 text-primary"})}),g.jsx("h3",{className:"text-lg font-semibold mb-2",children:"3. Reserve"}),g.jsx("p",{className:"text-gray-600 dark:text-gray-400",children:"Book your charging slot or start immediately"})]}),g.jsxs("div",{className:"text-center",children:[g.jsx("div",{className:"w-16 h-16 bg-primary/10 rounded-full flex items-center justify-center mx-auto mb-4",children:g.jsx(b5,{className:"h-8 w-8 text-primary"})}),g.jsx("h3",{className:"text-lg font-semibold mb-2",children:"4. Monitor"}),g.jsx("p",{className:"text-gray-600 dark:text-gray-400",children:"Track charging progress in real-time"})]})]})]})}),g.jsx("section",{className:"bg-gray-50 dark:bg-gray-900 py-20",children:g.jsx("div",{className:"container mx-auto px-4",children:g.jsxs("div",{className:"max-w-4xl mx-auto",children:[g.jsxs("div",{className:"text-center mb-16",children:[g.jsx("h2",{className:"text-4xl font-bold text-gray-900 dark:text-white mb-4",children:"Technical Excellence"}),g.jsx("p",{className:"text-xl text-gray-600 dark:text-gray-300",children:"Built with modern technologies for reliability and performance"})]}),g.jsxs("div",{className:"grid md:grid-cols-2 gap-12 items-center",children:[g.jsxs("div",{children:[g.jsx("h3",{className:"text-2xl font-semibold text-gray-900 dark:text-white mb-6",children:"Advanced Capabilities"}),g.jsx("ul",{className:"space-y-4",children:c.map((u,f)=>g.jsxs("li",{className:"flex items-start space-x-3",children:[g.jsx(c5,{className:"h-6 w-6 text-green-500 flex-shrink-0 mt-0.5"}),g.jsx("span",{className:"text-gray-600 dark:text-gray-300",children:u})]},f))})]}),g.jsxs("div",{className:"space-y-6",children:[g.jsx(Pr,{className:"border-0 shadow-lg",children:g.jsxs(Lr,{className:"p-6",children:[g.jsxs("div",{className:"flex items-center space-x-3 mb-3",children:[g.jsx("div",{className:"w-10 h-10 bg-orange-100 dark:bg-orange-900/20 rounded-lg flex items-center justify-center",children:g.jsx(m5,{className:"h-5 w-5 text-orange-600"})}),g.jsx("span",{className:"font-semibold",children:"Spring Boot Backend"})]}),g.jsx("p",{className:"text-sm text-gray-600 dark:text-gray-400",children:"Robust Java backend with JPA, WebSocket support, and RESTful APIs"})]})}),g.jsx(Pr,{className:"border-0 shadow-lg",children:g.jsxs(Lr,{className:"p-6",children:[g.jsxs("div",{className:"flex items-center space-x-3 mb-3",children:[g.jsx("div",{className:"w-10 h-10 bg-blue-100 dark:bg-blue-900/20 rounded-lg flex items-center justify-center",children:g.jsx(U5,{className:"h-5 w-5 text-blue-600"})}),g.jsx("span",{className:"font-semibold",children:"React Frontend"})]}),g.jsx("p",{className:"text-sm text-gray-600 dark:text-gray-400",children:"Modern React with TypeScript, Tailwind CSS, and shadcn/ui components"})]})})]})]})]})})}),g.jsx("section",{className:"bg-primary py-20",children:g.jsxs("div",{className:"container mx-auto px-4 text-center",children:[g.jsx("h2",{className:"text-4xl font-bold text-white mb-4",children:"Ready to Start Charging?"}),g.jsx("p",{className:"text-xl text-blue-100 mb-8 max-w-2xl mx-auto",children:"Join the future of EV charging management. Simple, smart, and efficient."}),g.jsxs(Ut,{onClick:s,size:"lg",variant:"secondary",className:"text-lg px-8 py-6",children:["Get Started Now",g.jsx($h,{className:"ml-2 h-5 w-5"})]})]})}),g.jsx("footer",{className:"bg-gray-900 text-white py-12",children:g.jsx("div",{className:"container mx-auto px-4",children:g.jsxs("div",{className:"flex flex-col md:flex-row justify-between items-center",children:[g.jsxs("div",{className:"flex items-center space-x-2 mb-4 md:mb-0",children:[g.jsx(ts,{className:"h-6 w-6"}),g.jsx("span",{className:"text-lg font-semibold",children:"EV Reserve"})]}),g.jsx("div",{className:"text-gray-400 text-center md:text-right",children:g.jsx("p",{children:"© 2025 UiTM EV Reservation System. Built for the future of mobility."})})]})})})]})}function QX(){const[e,t]=x.useState("Connecting..."),[n,r]=x.useState(new Map),[s,o]=x.useState(null),[c,u]=x.useState(!1),[f,h]=x.useState(1),m=5,{data:p,isPending:b}=Ks({queryKey:["charging-sessions",f,m],queryFn:async()=>(await Tn.get("/charging-sessions",{params:{isCompleted:!0,page:f,size:m}})).data,staleTime:3e4}),w=()=>{if(s&&s.readyState===WebSocket.OPEN)return;u(!0),t("Connecting...");const T=new WebSocket("wss://ev-reservation.pixcel.org/ws/charging");T.onopen=()=>{t("Connected"),u(!1),T.send("Hello from client!")},T.onmessage=_=>{let A;try{A=JSON.parse(_.data)}catch{console.error("Bad JSON from server:",_.data);return}const O=`${A.station.id}-${A.vehicle.id}-${A.pump}`;r(R=>{const D=new Map(R);return A.status==="completed"?(D.delete(O),console.log(`vehicle ${A.vehicle.plateNumber} is completed`)):D.set(O,A),D})},T.onerror=()=>{t("Error"),u(!1)},T.onclose=()=>{t("Disconnected"),u(!1)},o(T)},S=()=>{s&&(s.close(),o(null),t("Disconnected"))};x.useEffect(()=>(w(),()=>{S()}),[]);const E=()=>{switch(e){case"Connected":return g.jsxs(Or,{variant:"success",className:"flex items-center gap-1",children:[g.jsx(Ry,{className:"w-3 h-3"}),"Connected"]});case"Connecting...":return g.jsxs(Or,{variant:"warning",className:"flex items-center gap-1",children:[g.jsx(hC,{className:"w-3 h-3 animate-spin"}),"Connecting..."]});case"Error":return g.jsxs(Or,{variant:"destructive",className:"flex items-center gap-1",children:[g.jsx(dC,{className:"w-3 h-3"}),"Error"]});case"Disconnected":return g.jsxs(Or,{variant:"destructive",className:"flex items-center gap-1",children:[g.jsx(uC,{className:"w-3 h-3"}),"Disconnected"]});default:return null}},C=T=>T>=1e3?`${(T/1e3).toFixed(1)} kW`:`${T} W`;return g.jsx("div",{className:"min-h-screen bg-gradient-to-br from-background via-background to-muted/20 dark:from-background dark:via-background dark:to-background",children:g.jsxs("div",{className:"container mx-auto p-6 space-y-6",children:[g.jsxs("div",{className:"flex flex-col sm:flex-row justify-between items-start sm:items-center gap-4",children:[E(),g.jsx("div",{className:"flex items-center gap-3",children:g.jsxs("div",{className:"flex gap-2",children:[g.jsxs(Ut,{onClick:w,disabled:e==="Connected"||c,size:"small",variant:"outline",className:"flex items-center gap-2",children:[g.jsx(K5,{className:"w-4 h-4"}),"Connect"]}),g.jsxs(Ut,{onClick:S,disabled:e==="Disconnected",size:"small",variant:"outline",className:"flex items-center gap-2",children:[g.jsx(G5,{className:"w-4 h-4"}),"Disconnect"]})]})})]}),g.jsxs("div",{className:"grid grid-cols-1 md:grid-cols-3 gap-4 mb-6",children:[g.jsx(Pr,{className:"border-border/50 bg-card/50 backdrop-blur-sm",children:g.jsx(Lr,{className:"p-4",children:g.jsxs("div",{className:"flex items-center justify-between",children:[g.jsxs("div",{children:[g.jsx("p",{className:"text-sm font-medium text-muted-foreground",children:"Active Sessions"}),g.jsx("p",{className:"text-2xl font-bold text-foreground",children:n.size})]}),g.jsx(Ps,{className:"w-8 h-8 text-primary"})]})})}),g.jsx(Pr,{className:"border-border/50 bg-card/50 backdrop-blur-sm",children:g.jsx(Lr,{className:"p-4",children:g.jsxs("div",{className:"flex items-center justify-between",children:[g.jsxs("div",{children:[g.jsx("p",{className:"text-sm font-medium text-muted-foreground",children:"Total Power"}),g.jsx("p",{className:"text-2xl font-bold text-foreground",children:C([...n.values()].reduce((T,_)=>T+_.chargingRate,0))})]}),g.jsx(om,{className:"w-8 h-8 text-green-500"})]})})}),g.jsx(Pr,{className:"border-border/50 bg-card/50 backdrop-blur-sm",children:g.jsx(Lr,{className:"p-4",children:g.jsxs("div",{className:"flex items-center justify-between",children:[g.jsxs("div",{children:[g.jsx("p",{className:"text-sm font-medium text-muted-foreground",children:"Connection"}),g.jsx("p",{className:"text-2xl font-bold text-foreground",children:e})]}),e==="Connected"?g.jsx(Ry,{className:"w-8 h-8 text-green-500"}):g.jsx(dC,{className:"w-8 h-8 text-red-500"})]})})})]}),n.size===0?g.jsx(Pr,{className:"border-border/50 bg-card/50 backdrop-blur-sm",children:g.jsx(Lr,{className:"p-8 text-center",children:g.jsxs("div",{className:"flex flex-col items-center gap-4",children:[g.jsx("div",{className:"w-16 h-16 rounded-full bg-muted/50 flex items-center justify-center",children:g.jsx(Ps,{className:"w-8 h-8 text-muted-foreground"})}),g.jsxs("div",{children:[g.jsx("p",{className:"text-lg font-semibold text-foreground",children:"No Active Sessions"}),g.jsx("p",{className:"text-muted-foreground",children:e==="Connected"?"Waiting for charging sessions to begin...":"Connect to start monitoring charging sessions"})]})]})})}):g.jsx("div",{className:"grid gap-6 md:grid-cols-2 lg:grid-cols-3",children:[...n.values()].map(T=>{const _=`${T.station.id}-${T.vehicle.id}-${T.pump}`;return g.jsxs(Pr,{className:"group border-border/50 bg-card/50 backdrop-blur-sm hover:shadow-lg hover:shadow-primary/5 transition-all duration-300 hover:border-primary/20",children:[g.jsx(Lx,{className:"pb-3",children:g.jsxs("div",{className:"flex items-start justify-between",children:[g.jsxs("div",{className:"flex items-center gap-2",children:[g.jsx("div",{className:"w-10 h-10 rounded-lg bg-primary/10 flex items-center justify-center",children:g.jsx(ts,{className:"w-5 h-5 text-primary"})}),g.jsxs("div",{children:[g.jsx(Vx,{className:"text-lg font-semibold text-foreground group-hover:text-primary transition-colors",children:T.station.name}),g.jsxs("div",{className:"flex items-center gap-1 text-sm text-muted-foreground",children:[g.jsx(jv,{className:"w-3 h-3"}),T.station.location]})]})]}),g.jsxs(Or,{variant:"outline",className:"text-xs",children:["Pump #",T.pump]})]})}),g.jsxs(Lr,{className:"space-y-4",children:[g.jsxs("div",{className:"flex items-center gap-3 p-3 rounded-lg bg-muted/30 dark:bg-muted/20",children:[g.jsx(Ps,{className:"w-5 h-5 text-primary"}),g.jsxs("div",{className:"flex-1 min-w-0",children:[g.jsxs("p",{className:"font-medium text-foreground truncate",children:[T.vehicle.make," ",T.vehicle.model]}),g.jsx("p",{className:"text-sm text-muted-foreground font-mono",children:T.vehicle.plateNumber})]})]}),g.jsxs("div",{className:"flex items-center justify-between p-3 rounded-lg bg-gradient-to-r from-green-50 to-emerald-50 dark:from-green-950/20 dark:to-emerald-950/20 border border-green-200/50 dark:border-green-800/30",children:[g.jsxs("div",{className:"flex items-center gap-2",children:[g.jsx("div",{className:"w-8 h-8 rounded-full bg-green-100 dark:bg-green-900/50 flex items-center justify-center",children:g.jsx(ts,{className:"w-4 h-4 text-green-600 dark:text-green-400"})}),g.jsx("span",{className:"text-sm font-medium text-green-700 dark:text-green-300",children:"Charging Rate"})]}),g.jsxs("div",{className:"text-right",children:[g.jsx("p",{className:"text-xl font-bold text-green-700 dark:text-green-300",children:C(T.chargingRate)}),g.jsxs("div",{className:"flex items-center gap-1",children:[g.jsx("div",{className:"w-2 h-2 rounded-full bg-green-500 animate-pulse"}),g.jsx("span",{className:"text-xs text-green-600 dark:text-green-400",children:"Active"})]})]})]}),g.jsxs("div",{className:"flex items-center justify-between text-sm",children:[g.jsx("span",{className:"text-muted-foreground",children:"Battery Capacity"}),g.jsxs("div",{className:"flex items-center gap-1",children:[g.jsx(om,{className:"w-4 h-4 text-blue-500"}),g.jsxs("span",{className:"font-medium text-foreground",children:[T.vehicle.batteryCapacity," kWh"]})]})]})]})]},_)})}),g.jsxs("div",{className:"flex items-center gap-2",children:[g.jsx(fC,{className:"w-6 h-6 text-primary"}),g.jsx("span",{className:"font-semibold",children:"Charging Session History"})]}),b?g.jsxs("div",{className:"flex items-center justify-center py-8",children:[g.jsx(hC,{className:"w-6 h-6 animate-spin text-muted-foreground"}),g.jsx("span",{className:"ml-2 text-muted-foreground",children:"Loading history..."})]}):p!=null&&p.content&&p.content.length>0?g.jsxs(g.Fragment,{children:[g.jsxs(Kx,{children:[g.jsx(Zx,{children:g.jsxs(Ec,{children:[g.jsx(kr,{children:"User"}),g.jsx(kr,{children:"Vehicle"}),g.jsx(kr,{children:"Station"}),g.jsx(kr,{children:"Pump"}),g.jsx(kr,{children:"Start Time"}),g.jsx(kr,{children:"Status"})]})}),g.jsx(Xx,{children:p.content.map(T=>g.jsxs(Ec,{children:[g.jsx(jr,{children:g.jsxs("div",{children:[g.jsx("p",{className:"font-medium",children:T.user.name}),g.jsx("p",{className:"text-sm text-muted-foreground",children:T.user.email})]})}),g.jsx(jr,{children:g.jsxs("div",{children:[g.jsxs("p",{className:"font-medium",children:[T.vehicle.make," ",T.vehicle.model]}),g.jsx("p",{className:"text-sm text-muted-foreground font-mono",children:T.vehicle.plateNumber})]})}),g.jsx(jr,{children:g.jsxs("div",{children:[g.jsx("p",{className:"font-medium",children:T.station.name}),g.jsx("p",{className:"text-sm text-muted-foreground",children:T.station.location})]})}),g.jsx(jr,{children:g.jsxs(Or,{variant:"outline",children:["#",T.pumpNumber]})}),g.jsx(jr,{children:g.jsx("time",{className:"text-sm",children:new Date(T.startTime).toLocaleString()})}),g.jsx(jr,{children:T.isCompleted?g.jsxs(Or,{variant:"success",className:"flex items-center gap-1 w-fit",children:[g.jsx(Ry,{className:"w-3 h-3"}),"Completed"]}):T.isCharging?g.jsxs(Or,{variant:"warning",className:"flex items-center gap-1 w-fit",children:[g.jsx(ts,{className:"w-3 h-3"}),"Charging"]}):g.jsxs(Or,{variant:"outline",className:"flex items-center gap-1 w-fit",children:[g.jsx(uC,{className:"w-3 h-3"}),"Reserved"]})})]},T.id))})]}),p.totalPages>1&&g.jsxs("div",{className:"flex items-center justify-between mt-4 pt-4 border-t border-border/50",children:[g.jsxs("p",{className:"text-sm text-muted-foreground",children:["Showing ",(f-1)*m+1," to"," ",Math.min(f*m,p.totalElements)," ","of ",p.totalElements," sessions"]}),g.jsxs("div",{className:"flex items-center gap-2",children:[g.jsx(Ut,{variant:"outline",size:"icon",onClick:()=>h(T=>Math.max(1,T-1)),disabled:f===1,className:"flex items-center gap-1",children:g.jsx(bA,{className:"w-4 h-4"})}),g.jsxs("span",{className:"text-sm text-muted-foreground",children:["Page ",f," of ",p.totalPages]}),g.jsx(Ut,{variant:"outline",size:"icon",onClick:()=>h(T=>Math.min(p.totalPages,T+1)),disabled:f>=p.totalPages,className:"flex items-center gap-1",children:g.jsx(i0,{className:"w-4 h-4"})})]})]})]}):g.jsx("div",{className:"text-center py-8",children:g.jsxs("div",{className:"flex flex-col items-center gap-4",children:[g.jsx("div",{className:"w-16 h-16 rounded-full bg-muted/50 flex items-center justify-center",children:g.jsx(fC,{className:"w-8 h-8 text-muted-foreground"})}),g.jsxs("div",{children:[g.jsx("p",{className:"text-lg font-semibold text-foreground",children:"No History Available"}),g.jsx("p",{className:"text-muted-foreground",children:"No completed charging sessions found"})]})]})})]})})}function JX(){var t;const e=Ws();return g.jsxs("div",{className:"container mx-auto p-6 space-y-6 flex flex-col items-center",children:[g.jsx("div",{className:"size-20 rounded-full bg-primary flex items-center justify-center text-white text-2xl font-bold",children:((t=e==null?void 0:e.name)==null?void 0:t.charAt(0).toUpperCase())||"U"}),g.jsxs("div",{className:"flex flex-col items-center",children:[(e==null?void 0:e.isAdmin)&&g.jsx(Or,{variant:"outline",className:"mb-2",children:"Admin"}),g.jsx("span",{className:"font-semibold",children:e==null?void 0:e.name}),g.jsxs("div",{className:"flex items-center space-x-2",children:[g.jsx(M5,{className:"size-4"}),g.jsx("span",{className:"text-muted-foreground text-sm",children:e==null?void 0:e.email})]})]})]})}function eQ(){const e=Ws(),t=Gs(),{data:n,isPending:r,isError:s,error:o}=Ks({queryKey:["vehicles",e==null?void 0:e.id],queryFn:async()=>(await Tn.get("/vehicles",{params:{ownerId:e!=null&&e.isAdmin||e==null?void 0:e.id}})).data});function c(){t("/vehicles/create")}function u(f){t(`/vehicles/update/${f}`)}return r?g.jsx("div",{className:"flex items-center justify-center h-full space-x-2",children:g.jsx(Tc,{className:"animate-spin"})}):s?g.jsxs("div",{className:"text-red-500",children:["Error loading vehicles: ",o.message]}):g.jsx("div",{className:"flex flex-col space-y-4",children:g.jsxs("div",{className:"container mx-auto p-6 space-y-6",children:[g.jsxs("div",{className:"flex items-center justify-between",children:[g.jsx("h1",{className:"font-semibold text-lg",children:"Registered vehicles"}),g.jsxs(Ut,{onClick:c,variant:"outline",children:[g.jsx(Ps,{}),"Register Vehicle"]})]}),g.jsxs(Kx,{children:[g.jsx(Zx,{children:g.jsxs(Ec,{children:[g.jsx(kr,{children:"Make"}),g.jsx(kr,{children:"Model"}),g.jsx(kr,{children:"Plate Number"}),g.jsx(kr,{children:"Battery Capacity"}),(e==null?void 0:e.isAdmin)&&g.jsx(kr,{children:"Owner"})]})}),g.jsx(Xx,{children:n.map(f=>{var h;return g.jsxs(Ec,{onClick:()=>u(f.id),className:"cursor-pointer hover:bg-sky-100 dark:hover:bg-sky-950",children:[g.jsx(jr,{children:f.make}),g.jsx(jr,{children:f.model}),g.jsx(jr,{children:f.plateNumber}),g.jsx(jr,{children:f.batteryCapacity}),(e==null?void 0:e.isAdmin)&&g.jsx(jr,{children:((h=f==null?void 0:f.owner)==null?void 0:h.name)??"-"})]},f.id)})})]})]})})}const Fj=op({make:ea().min(1,{message:"Make is required"}),model:ea().min(1,{message:"Model is required"}),plateNumber:ea().min(1,{message:"Plate number is required"}),batteryCapacity:ea().min(1,{message:"Battery capacity is required"}).regex(/^\d+$/,{message:"Battery capacity must be a number"})}),tQ=Fj;function nQ(){const e=Ws(),t=zc(),n=Gs(),r=jc({resolver:Lc(Fj)}),s=Hs({mutationFn:async c=>{await Tn.post("/vehicles",{...c,batteryCapacity:parseInt(c.batteryCapacity,10),owner:e})},onSuccess:()=>{En.success("Vehicle created successfully!"),t.invalidateQueries({queryKey:["vehicles",e==null?void 0:e.id]}),n("/vehicles")},onError:c=>En.error(`Error creating vehicle: ${c}`)});function o(c){s.mutate(c)}return g.jsx("div",{className:"container mx-auto p-6 space-y-6",children:g.jsx(Pc,{...r,children:g.jsxs("form",{className:"space-y-4",onSubmit:r.handleSubmit(o),children:[g.jsx(On,{control:r.control,name:"make",render:({field:c})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Make"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter vehicle make",...c})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:r.control,name:"model",render:({field:c})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Model"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter vehicle model",...c})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:r.control,name:"plateNumber",render:({field:c})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Plate Number"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter plate number",...c})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:r.control,name:"batteryCapacity",render:({field:c})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Battery Capacity"}),g.jsx(Pn,{children:g.jsx(Cn,{type:"number",placeholder:"Enter battery capacity",...c})}),g.jsx(Ln,{})]})}),g.jsx("div",{className:"flex justify-end",children:g.jsx(Ut,{type:"submit",children:"Register"})})]})})})}function rQ(){const{id:e}=oA(),t=Ws(),n=Gs(),r=zc(),{data:s,isPending:o,isError:c,error:u}=Ks({queryKey:["vehicles",e],queryFn:async()=>(await Tn.get(`/vehicles/${e}`)).data}),f=Hs({mutationFn:async w=>{await Tn.put(`/vehicles/${e}`,{...w,batteryCapacity:parseInt(w.batteryCapacity,10),ownerId:t==null?void 0:t.id})},onSuccess:()=>{r.invalidateQueries({queryKey:["vehicles",t==null?void 0:t.id]}),r.invalidateQueries({queryKey:["vehicles",e]}),En.success("Vehicle updated successfully!")},onError:w=>{En.error(`Error updating vehicle: ${w}`)}}),h=Hs({mutationFn:async()=>{await Tn.delete(`/vehicles/${e}`)},onSuccess:()=>{r.invalidateQueries({queryKey:["vehicles"]}),En.success("Vehicle deleted successfully!"),n("/vehicles")},onError:w=>{En.error(`Error deleting vehicle: ${w}`)}}),m=jc({defaultValues:s?{...s,batteryCapacity:s.batteryCapacity.toString()}:void 0,resolver:Lc(tQ),values:s?{...s,batteryCapacity:s.batteryCapacity.toString()}:void 0});function p(w){f.mutate(w)}function b(){h.mutate()}return o?g.jsx("div",{className:"flex items-center justify-center h-full space-x-2",children:g.jsx(Tc,{className:"animate-spin"})}):c?g.jsxs("div",{className:"text-red-500",children:["Error loading vehicle: ",u.message]}):g.jsx("div",{className:"container mx-auto p-6 space-y-6",children:g.jsx(Pc,{...m,children:g.jsxs("form",{className:"space-y-4",onSubmit:m.handleSubmit(p),children:[g.jsx(On,{control:m.control,name:"make",render:({field:w})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Make"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter vehicle make",...w})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:m.control,name:"model",render:({field:w})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Model"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter vehicle model",...w})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:m.control,name:"plateNumber",render:({field:w})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Plate Number"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter plate number",...w})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:m.control,name:"batteryCapacity",render:({field:w})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Battery Capacity"}),g.jsx(Pn,{children:g.jsx(Cn,{type:"number",placeholder:"Enter battery capacity",...w})}),g.jsx(Ln,{})]})}),g.jsxs("div",{className:"flex space-x-2 justify-end",children:[g.jsxs(Nj,{children:[g.jsx(Oj,{asChild:!0,children:g.jsx(Ut,{type:"button",variant:"ghost",className:"text-red-500",children:"Delete"})}),g.jsxs(kj,{children:[g.jsxs(jj,{children:[g.jsx(Lj,{children:"Are you absolutely sure?"}),g.jsx(Vj,{children:"This action cannot be undone. This will permanently delete your data."})]}),g.jsxs(Pj,{children:[g.jsx(Bj,{children:"Cancel"}),g.jsx(zj,{onClick:b,children:"Continue"})]})]})]}),g.jsx(Ut,{type:"submit",children:"Update"})]})]})})})}const aQ=S3([{path:"/",Component:XX},{path:"auth",Component:j3,children:[{index:!0,Component:UY}]},{Component:m8,children:[{path:"dashboard",Component:E_},{path:"vehicles",children:[{index:!0,Component:eQ},{path:"create",Component:nQ},{path:"update/:id",Component:rQ}]},{path:"ev-stations",children:[{index:!0,Component:EX},{path:"create",Component:TX},{path:"update/:id",Component:YX}]},{path:"profile",Component:JX},{path:"monitoring",Component:QX},{path:"*",Component:E_}]}]);var Cv={exports:{}},Qu={},Tv={exports:{}},Mv={};/**
+For more information, see https://radix-ui.com/primitives/docs/components/alert-dialog`;return x.useEffect(()=>{var r;document.getElementById((r=e.current)==null?void 0:r.getAttribute("aria-describedby"))||console.warn(t)},[t,e]),null},PX=bj,LX=xj,VX=wj,zX=Sj,BX=Ej,UX=Aj,FX=Dj,IX=Tj,HX=_j;function Nj({...e}){return g.jsx(PX,{"data-slot":"alert-dialog",...e})}function Oj({...e}){return g.jsx(LX,{"data-slot":"alert-dialog-trigger",...e})}function $X({...e}){return g.jsx(VX,{"data-slot":"alert-dialog-portal",...e})}function qX({className:e,...t}){return g.jsx(zX,{"data-slot":"alert-dialog-overlay",className:be("data-[state=open]:animate-in data-[state=closed]:animate-out data-[state=closed]:fade-out-0 data-[state=open]:fade-in-0 fixed inset-0 z-50 bg-black/50",e),...t})}function kj({className:e,...t}){return g.jsxs($X,{children:[g.jsx(qX,{}),g.jsx(BX,{"data-slot":"alert-dialog-content",className:be("bg-background data-[state=open]:animate-in data-[state=closed]:animate-out data-[state=closed]:fade-out-0 data-[state=open]:fade-in-0 data-[state=closed]:zoom-out-95 data-[state=open]:zoom-in-95 fixed top-[50%] left-[50%] z-50 grid w-full max-w-[calc(100%-2rem)] translate-x-[-50%] translate-y-[-50%] gap-4 rounded-lg border p-6 shadow-lg duration-200 sm:max-w-lg",e),...t})]})}function jj({className:e,...t}){return g.jsx("div",{"data-slot":"alert-dialog-header",className:be("flex flex-col gap-2 text-center sm:text-left",e),...t})}function Pj({className:e,...t}){return g.jsx("div",{"data-slot":"alert-dialog-footer",className:be("flex flex-col-reverse gap-2 sm:flex-row sm:justify-end",e),...t})}function Lj({className:e,...t}){return g.jsx(IX,{"data-slot":"alert-dialog-title",className:be("text-lg font-semibold",e),...t})}function Vj({className:e,...t}){return g.jsx(HX,{"data-slot":"alert-dialog-description",className:be("text-muted-foreground text-sm",e),...t})}function zj({className:e,...t}){return g.jsx(UX,{className:be(Cd(),e),...t})}function Bj({className:e,...t}){return g.jsx(FX,{className:be(Cd({variant:"outline"}),e),...t})}function YX(){const{id:e}=oA(),t=zc(),{data:n,isPending:r,isError:s,error:o}=Ks({queryKey:["ev-stations",e],queryFn:async()=>{const p=await Tn.get(`/stations/${e}`);return console.log("Response data:",p.data),p.data}}),c=Hs({mutationFn:async p=>{await Tn.put(`/stations/${e}`,{...p,numberOfPumps:parseInt(p.numberOfPumps,10)})},onSuccess:()=>{t.invalidateQueries({queryKey:["ev-stations"]}),t.invalidateQueries({queryKey:["ev-stations",e]}),En.success("EV Station updated successfully!")},onError:p=>{En.error(`Error updating EV Station: ${p}`)}}),u=Hs({mutationFn:async()=>{await Tn.delete(`/stations/${e}`)},onSuccess:()=>{t.invalidateQueries({queryKey:["ev-stations"]}),En.success("EV Station deleted successfully!")},onError:p=>{En.error(`Error deleting EV Station: ${p}`)}}),f=jc({defaultValues:{...n,numberOfPumps:n==null?void 0:n.numberOfPumps.toString()},resolver:Lc(CX)});function h(p){c.mutate(p)}function m(){u.mutate()}return r?g.jsx("div",{className:"flex items-center justify-center h-full space-x-2",children:g.jsx(Tc,{className:"animate-spin"})}):s?g.jsxs("div",{className:"text-red-500",children:["Error loading EV stations: ",o.message]}):g.jsx("div",{className:"container mx-auto p-6 space-y-6",children:g.jsx(Pc,{...f,children:g.jsxs("form",{className:"space-y-4",onSubmit:f.handleSubmit(h),children:[g.jsx(On,{control:f.control,name:"name",render:({field:p})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Name"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter station name",...p})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:f.control,name:"location",render:({field:p})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Location"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter station location",...p})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:f.control,name:"numberOfPumps",render:({field:p})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Number of Pumps"}),g.jsx(Pn,{children:g.jsx(Cn,{type:"number",placeholder:"Enter number of pumps",...p})}),g.jsx(Ln,{})]})}),g.jsxs("div",{className:"flex space-x-2 justify-end",children:[g.jsxs(Nj,{children:[g.jsx(Oj,{asChild:!0,children:g.jsx(Ut,{type:"button",variant:"ghost",className:"text-red-500",children:"Delete"})}),g.jsxs(kj,{children:[g.jsxs(jj,{children:[g.jsx(Lj,{children:"Are you absolutely sure?"}),g.jsx(Vj,{children:"This action cannot be undone. This will permanently delete your data."})]}),g.jsxs(Pj,{children:[g.jsx(Bj,{children:"Cancel"}),g.jsx(zj,{onClick:m,children:"Continue"})]})]})]}),g.jsx(Ut,{type:"submit",children:"Update"})]})]})})})}function GX(){const[e,t]=x.useState({x:0,y:0});return x.useEffect(()=>{const n=r=>{t({x:r.clientX,y:r.clientY})};return window.addEventListener("mousemove",n),()=>{window.removeEventListener("mousemove",n)}},[]),e}function WX(e){e=e.replace("#",""),e.length===3&&(e=e.split("").map(o=>o+o).join(""));const t=parseInt(e,16),n=t>>16&255,r=t>>8&255,s=t&255;return[n,r,s]}const KX=({className:e="",quantity:t=100,staticity:n=50,ease:r=50,size:s=.4,refresh:o=!1,color:c,vx:u=0,vy:f=0,...h})=>{const m=x.useRef(null),p=x.useRef(null),b=x.useRef(null),w=x.useRef([]),S=GX(),E=x.useRef({x:0,y:0}),C=x.useRef({w:0,h:0}),T=typeof window<"u"?window.devicePixelRatio:1,_=x.useRef(null),A=x.useRef(null);x.useEffect(()=>{m.current&&(b.current=m.current.getContext("2d")),O(),de();const Q=()=>{A.current&&clearTimeout(A.current),A.current=setTimeout(()=>{O()},200)};return window.addEventListener("resize",Q),()=>{_.current!=null&&window.cancelAnimationFrame(_.current),A.current&&clearTimeout(A.current),window.removeEventListener("resize",Q)}},[c]),x.useEffect(()=>{R()},[S.x,S.y]),x.useEffect(()=>{O()},[o]);const O=()=>{D(),oe()},R=()=>{if(m.current){const Q=m.current.getBoundingClientRect(),{w:fe,h:P}=C.current,K=S.x-Q.left-fe/2,I=S.y-Q.top-P/2;K<fe/2&&K>-fe/2&&I<P/2&&I>-P/2&&(E.current.x=K,E.current.y=I)}},D=()=>{if(p.current&&m.current&&b.current){C.current.w=p.current.offsetWidth,C.current.h=p.current.offsetHeight,m.current.width=C.current.w*T,m.current.height=C.current.h*T,m.current.style.width=`${C.current.w}px`,m.current.style.height=`${C.current.h}px`,b.current.scale(T,T),w.current=[];for(let Q=0;Q<t;Q++){const fe=L();H(fe)}}},L=()=>{const Q=Math.floor(Math.random()*C.current.w),fe=Math.floor(Math.random()*C.current.h),P=0,K=0,I=Math.floor(Math.random()*2)+s,J=0,j=parseFloat((Math.random()*.6+.1).toFixed(1)),W=(Math.random()-.5)*.1,B=(Math.random()-.5)*.1,q=.1+Math.random()*4;return{x:Q,y:fe,translateX:P,translateY:K,size:I,alpha:J,targetAlpha:j,dx:W,dy:B,magnetism:q}},k=WX(c||"#ffffff"),H=(Q,fe=!1)=>{if(b.current){const{x:P,y:K,translateX:I,translateY:J,size:j,alpha:W}=Q;b.current.translate(I,J),b.current.beginPath(),b.current.arc(P,K,j,0,2*Math.PI),b.current.fillStyle=`rgba(${k.join(", ")}, ${W})`,b.current.fill(),b.current.setTransform(T,0,0,T,0,0),fe||w.current.push(Q)}},X=()=>{b.current&&b.current.clearRect(0,0,C.current.w,C.current.h)},oe=()=>{X();const Q=t;for(let fe=0;fe<Q;fe++){const P=L();H(P)}},ce=(Q,fe,P,K,I)=>{const J=(Q-fe)*(I-K)/(P-fe)+K;return J>0?J:0},de=()=>{X(),w.current.forEach((Q,fe)=>{const K=[Q.x+Q.translateX-Q.size,C.current.w-Q.x-Q.translateX-Q.size,Q.y+Q.translateY-Q.size,C.current.h-Q.y-Q.translateY-Q.size].reduce((J,j)=>Math.min(J,j)),I=parseFloat(ce(K,0,20,0,1).toFixed(2));if(I>1?(Q.alpha+=.02,Q.alpha>Q.targetAlpha&&(Q.alpha=Q.targetAlpha)):Q.alpha=Q.targetAlpha*I,Q.x+=Q.dx+u,Q.y+=Q.dy+f,Q.translateX+=(E.current.x/(n/Q.magnetism)-Q.translateX)/r,Q.translateY+=(E.current.y/(n/Q.magnetism)-Q.translateY)/r,H(Q,!0),Q.x<-Q.size||Q.x>C.current.w+Q.size||Q.y<-Q.size||Q.y>C.current.h+Q.size){w.current.splice(fe,1);const J=L();H(J)}}),_.current=window.requestAnimationFrame(de)};return g.jsx("div",{className:be("pointer-events-none",e),ref:p,"aria-hidden":"true",...h,children:g.jsx("canvas",{ref:m,className:"size-full"})})},ZX=Wm(be("relative cursor-pointer group transition-all animate-rainbow","inline-flex items-center justify-center gap-2 shrink-0","rounded-sm outline-none focus-visible:ring-[3px] aria-invalid:border-destructive","text-sm font-medium whitespace-nowrap","disabled:pointer-events-none disabled:opacity-50","[&_svg]:pointer-events-none [&_svg:not([class*='size-'])]:size-4 [&_svg]:shrink-0"),{variants:{variant:{default:"border-0 bg-[linear-gradient(#121213,#121213),linear-gradient(#121213_50%,rgba(18,18,19,0.6)_80%,rgba(18,18,19,0)),linear-gradient(90deg,var(--color-1),var(--color-5),var(--color-3),var(--color-4),var(--color-2))] bg-[length:200%] text-primary-foreground dark:text-black [background-clip:padding-box,border-box,border-box] [background-origin:border-box] [border:calc(0.125rem)_solid_transparent] before:absolute before:bottom-[-20%] before:left-1/2 before:z-0 before:h-1/5 before:w-3/5 before:-translate-x-1/2 before:animate-rainbow before:bg-[linear-gradient(90deg,var(--color-1),var(--color-5),var(--color-3),var(--color-4),var(--color-2))] before:[filter:blur(0.75rem)] dark:bg-[linear-gradient(#fff,#fff),linear-gradient(#fff_50%,rgba(255,255,255,0.6)_80%,rgba(0,0,0,0)),linear-gradient(90deg,var(--color-1),var(--color-5),var(--color-3),var(--color-4),var(--color-2))]",outline:"border border-input border-b-transparent bg-[linear-gradient(#ffffff,#ffffff),linear-gradient(#ffffff_50%,rgba(18,18,19,0.6)_80%,rgba(18,18,19,0)),linear-gradient(90deg,var(--color-1),var(--color-5),var(--color-3),var(--color-4),var(--color-2))] bg-[length:200%] text-accent-foreground [background-clip:padding-box,border-box,border-box] [background-origin:border-box] before:absolute before:bottom-[-20%] before:left-1/2 before:z-0 before:h-1/5 before:w-3/5 before:-translate-x-1/2 before:animate-rainbow before:bg-[linear-gradient(90deg,var(--color-1),var(--color-5),var(--color-3),var(--color-4),var(--color-2))] before:[filter:blur(0.75rem)] dark:bg-[linear-gradient(#0a0a0a,#0a0a0a),linear-gradient(#0a0a0a_50%,rgba(255,255,255,0.6)_80%,rgba(0,0,0,0)),linear-gradient(90deg,var(--color-1),var(--color-5),var(--color-3),var(--color-4),var(--color-2))]"},size:{default:"h-9 px-4 py-2",sm:"h-8 rounded-xl px-3 text-xs",lg:"h-11 rounded-xl px-8",icon:"size-9"}},defaultVariants:{variant:"default",size:"default"}}),Uj=G.forwardRef(({className:e,variant:t,size:n,asChild:r=!1,...s},o)=>{const c=r?Cc:"button";return g.jsx(c,{"data-slot":"button",className:be(ZX({variant:t,size:n,className:e})),ref:o,...s})});Uj.displayName="RainbowButton";function XX(){const e=Gs(),{theme:t}=Wb(),[n,r]=x.useState("#ffffff");x.useEffect(()=>{r(t==="dark"?"#ffffff":"#000000")},[t]);function s(){e("/auth")}const o=[{icon:g.jsx(cC,{className:"h-8 w-8 text-primary"}),title:"Smart Reservations",description:"Reserve charging slots in advance or start charging immediately"},{icon:g.jsx(jv,{className:"h-8 w-8 text-primary"}),title:"Station Management",description:"Comprehensive EV charging station management with multiple pumps"},{icon:g.jsx(Ps,{className:"h-8 w-8 text-primary"}),title:"Vehicle Profiles",description:"Manage multiple vehicles with different battery capacities"},{icon:g.jsx(X3,{className:"h-8 w-8 text-primary"}),title:"Real-time Monitoring",description:"Live tracking of charging progress with WebSocket updates"},{icon:g.jsx(mC,{className:"h-8 w-8 text-primary"}),title:"Multi-user Support",description:"Secure user authentication and session management"},{icon:g.jsx(z5,{className:"h-8 w-8 text-primary"}),title:"Enterprise Ready",description:"Built with Spring Boot backend and React frontend"}],c=["Real-time charging progress via WebSocket","Automated charging session management","Advanced pagination and filtering","RESTful API architecture","Responsive web design","Secure authentication system","Utilizes Java Threads for concurrent processing"];return g.jsxs("div",{className:"min-h-screen bg-gradient-to-br from-blue-50 via-white to-green-50 dark:from-gray-900 dark:via-gray-800 dark:to-gray-900",children:[g.jsx("nav",{className:"border-b bg-white/80 backdrop-blur-sm dark:bg-gray-900/80 sticky top-0 z-50",children:g.jsxs("div",{className:"container mx-auto px-4 py-4 flex justify-between items-center",children:[g.jsxs("div",{className:"flex items-center space-x-2",children:[g.jsx(ts,{className:"h-8 w-8 text-primary"}),g.jsx("span",{className:"text-2xl font-bold text-gray-900 dark:text-white",children:"EV Charging Reservation System"})]}),g.jsxs("div",{className:"flex items-center space-x-4",children:[g.jsx(QD,{}),g.jsxs(Uj,{onClick:s,children:["Get Started",g.jsx($h,{className:"ml-2 h-4 w-4"})]})]})]})}),g.jsxs("div",{className:"relative flex pt-4 w-full flex-col items-center justify-center overflow-hidden rounded-lg",children:[g.jsx("img",{src:"https://upload.wikimedia.org/wikipedia/en/8/8c/UiTMlogo.gif",alt:"uitm logo",className:"h-12"}),g.jsxs("h1",{className:"text-5xl md:text-7xl font-bold text-gray-900 dark:text-white mb-6 leading-tight",children:["Smart EV Charging",g.jsx("span",{className:"text-primary block",children:"Reservation System"})]}),g.jsx("p",{className:"text-xl text-gray-600 dark:text-gray-300 mb-8 max-w-2xl mx-auto leading-relaxed",children:"Streamline your electric vehicle charging experience with our intelligent reservation platform. Schedule charging sessions, monitor progress in real-time, and manage multiple vehicles effortlessly."}),g.jsxs("div",{className:"flex flex-col sm:flex-row gap-4 justify-center mb-12",children:[g.jsxs(Ut,{onClick:s,size:"lg",className:"bg-primary hover:bg-primary/90 text-lg px-8 py-6",children:["Start Charging",g.jsx(ts,{className:"ml-2 h-5 w-5"})]}),g.jsxs(Ut,{variant:"outline",size:"lg",className:"text-lg px-8 py-6",onClick:()=>{var u;return(u=document.getElementById("features"))==null?void 0:u.scrollIntoView({behavior:"smooth"})},children:["Learn More",g.jsx($h,{className:"ml-2 h-5 w-5"})]})]}),g.jsxs("div",{className:"grid grid-cols-2 md:grid-cols-4 gap-8 mt-16",children:[g.jsxs("div",{className:"text-center",children:[g.jsx("div",{className:"text-3xl font-bold text-primary mb-2",children:"24/7"}),g.jsx("div",{className:"text-gray-600 dark:text-gray-400",children:"Available"})]}),g.jsxs("div",{className:"text-center",children:[g.jsx("div",{className:"text-3xl font-bold text-primary mb-2",children:"Real-time"}),g.jsx("div",{className:"text-gray-600 dark:text-gray-400",children:"Monitoring"})]}),g.jsxs("div",{className:"text-center",children:[g.jsx("div",{className:"text-3xl font-bold text-primary mb-2",children:"Multi"}),g.jsx("div",{className:"text-gray-600 dark:text-gray-400",children:"Vehicle"})]}),g.jsxs("div",{className:"text-center",children:[g.jsx("div",{className:"text-3xl font-bold text-primary mb-2",children:"Smart"}),g.jsx("div",{className:"text-gray-600 dark:text-gray-400",children:"Scheduling"})]})]}),g.jsx(KX,{className:"absolute inset-0 z-0",quantity:100,ease:80,color:n,refresh:!0})]}),g.jsx("section",{id:"features",className:"py-20",children:g.jsxs("div",{className:"container mx-auto px-4",children:[g.jsxs("div",{className:"text-center mb-16",children:[g.jsx("h2",{className:"text-4xl font-bold text-gray-900 dark:text-white mb-4",children:"Powerful Features"}),g.jsx("p",{className:"text-xl text-gray-600 dark:text-gray-300 max-w-2xl mx-auto",children:"Everything you need to manage EV charging efficiently"})]}),g.jsx("div",{className:"grid md:grid-cols-2 lg:grid-cols-3 gap-8",children:o.map((u,f)=>g.jsx(Pr,{className:"border-0 shadow-lg hover:shadow-xl transition-all duration-300 hover:scale-105",children:g.jsxs(Lr,{className:"p-8",children:[g.jsx("div",{className:"mb-4",children:u.icon}),g.jsx("h3",{className:"text-xl font-semibold text-gray-900 dark:text-white mb-3",children:u.title}),g.jsx("p",{className:"text-gray-600 dark:text-gray-300 leading-relaxed",children:u.description})]})},f))})]})}),g.jsx("section",{className:"py-20",children:g.jsxs("div",{className:"container mx-auto px-4",children:[g.jsxs("div",{className:"text-center mb-16",children:[g.jsx("h2",{className:"text-4xl font-bold text-gray-900 dark:text-white mb-4",children:"How It Works"}),g.jsx("p",{className:"text-xl text-gray-600 dark:text-gray-300 max-w-2xl mx-auto",children:"Simple steps to get your EV charged"})]}),g.jsxs("div",{className:"grid md:grid-cols-4 gap-8",children:[g.jsxs("div",{className:"text-center",children:[g.jsx("div",{className:"w-16 h-16 bg-primary/10 rounded-full flex items-center justify-center mx-auto mb-4",children:g.jsx(mC,{className:"h-8 w-8 text-primary"})}),g.jsx("h3",{className:"text-lg font-semibold mb-2",children:"1. Register"}),g.jsx("p",{className:"text-gray-600 dark:text-gray-400",children:"Create your account and add your vehicles"})]}),g.jsxs("div",{className:"text-center",children:[g.jsx("div",{className:"w-16 h-16 bg-primary/10 rounded-full flex items-center justify-center mx-auto mb-4",children:g.jsx(jv,{className:"h-8 w-8 text-primary"})}),g.jsx("h3",{className:"text-lg font-semibold mb-2",children:"2. Find Station"}),g.jsx("p",{className:"text-gray-600 dark:text-gray-400",children:"Locate available charging stations"})]}),g.jsxs("div",{className:"text-center",children:[g.jsx("div",{className:"w-16 h-16 bg-primary/10 rounded-full flex items-center justify-center mx-auto mb-4",children:g.jsx(cC,{className:"h-8 w-8 text-primary"})}),g.jsx("h3",{className:"text-lg font-semibold mb-2",children:"3. Reserve"}),g.jsx("p",{className:"text-gray-600 dark:text-gray-400",children:"Book your charging slot or start immediately"})]}),g.jsxs("div",{className:"text-center",children:[g.jsx("div",{className:"w-16 h-16 bg-primary/10 rounded-full flex items-center justify-center mx-auto mb-4",children:g.jsx(b5,{className:"h-8 w-8 text-primary"})}),g.jsx("h3",{className:"text-lg font-semibold mb-2",children:"4. Monitor"}),g.jsx("p",{className:"text-gray-600 dark:text-gray-400",children:"Track charging progress in real-time"})]})]})]})}),g.jsx("section",{className:"bg-gray-50 dark:bg-gray-900 py-20",children:g.jsx("div",{className:"container mx-auto px-4",children:g.jsxs("div",{className:"max-w-4xl mx-auto",children:[g.jsxs("div",{className:"text-center mb-16",children:[g.jsx("h2",{className:"text-4xl font-bold text-gray-900 dark:text-white mb-4",children:"Technical Excellence"}),g.jsx("p",{className:"text-xl text-gray-600 dark:text-gray-300",children:"Built with modern technologies for reliability and performance"})]}),g.jsxs("div",{className:"grid md:grid-cols-2 gap-12 items-center",children:[g.jsxs("div",{children:[g.jsx("h3",{className:"text-2xl font-semibold text-gray-900 dark:text-white mb-6",children:"Advanced Capabilities"}),g.jsx("ul",{className:"space-y-4",children:c.map((u,f)=>g.jsxs("li",{className:"flex items-start space-x-3",children:[g.jsx(c5,{className:"h-6 w-6 text-green-500 flex-shrink-0 mt-0.5"}),g.jsx("span",{className:"text-gray-600 dark:text-gray-300",children:u})]},f))})]}),g.jsxs("div",{className:"space-y-6",children:[g.jsx(Pr,{className:"border-0 shadow-lg",children:g.jsxs(Lr,{className:"p-6",children:[g.jsxs("div",{className:"flex items-center space-x-3 mb-3",children:[g.jsx("div",{className:"w-10 h-10 bg-orange-100 dark:bg-orange-900/20 rounded-lg flex items-center justify-center",children:g.jsx(m5,{className:"h-5 w-5 text-orange-600"})}),g.jsx("span",{className:"font-semibold",children:"Spring Boot Backend"})]}),g.jsx("p",{className:"text-sm text-gray-600 dark:text-gray-400",children:"Robust Java backend with JPA, WebSocket support, and RESTful APIs"})]})}),g.jsx(Pr,{className:"border-0 shadow-lg",children:g.jsxs(Lr,{className:"p-6",children:[g.jsxs("div",{className:"flex items-center space-x-3 mb-3",children:[g.jsx("div",{className:"w-10 h-10 bg-blue-100 dark:bg-blue-900/20 rounded-lg flex items-center justify-center",children:g.jsx(U5,{className:"h-5 w-5 text-blue-600"})}),g.jsx("span",{className:"font-semibold",children:"React Frontend"})]}),g.jsx("p",{className:"text-sm text-gray-600 dark:text-gray-400",children:"Modern React with TypeScript, Tailwind CSS, and shadcn/ui components"})]})})]})]})]})})}),g.jsx("section",{className:"bg-primary py-20",children:g.jsxs("div",{className:"container mx-auto px-4 text-center",children:[g.jsx("h2",{className:"text-4xl font-bold text-white mb-4",children:"Ready to Start Charging?"}),g.jsx("p",{className:"text-xl text-blue-100 mb-8 max-w-2xl mx-auto",children:"Join the future of EV charging management. Simple, smart, and efficient."}),g.jsxs(Ut,{onClick:s,size:"lg",variant:"secondary",className:"text-lg px-8 py-6",children:["Get Started Now",g.jsx($h,{className:"ml-2 h-5 w-5"})]})]})}),g.jsx("footer",{className:"bg-gray-900 text-white py-12",children:g.jsx("div",{className:"container mx-auto px-4",children:g.jsxs("div",{className:"flex flex-col md:flex-row justify-between items-center",children:[g.jsxs("div",{className:"flex items-center space-x-2 mb-4 md:mb-0",children:[g.jsx(ts,{className:"h-6 w-6"}),g.jsx("span",{className:"text-lg font-semibold",children:"EV Reserve"})]}),g.jsx("div",{className:"text-gray-400 text-center md:text-right",children:g.jsx("p",{children:"© 2025 UiTM EV Reservation System. Built for the future of mobility."})})]})})})]})}function QX(){const[e,t]=x.useState("Connecting..."),[n,r]=x.useState(new Map),[s,o]=x.useState(null),[c,u]=x.useState(!1),[f,h]=x.useState(1),m=5,{data:p,isPending:b}=Ks({queryKey:["charging-sessions",f,m],queryFn:async()=>(await Tn.get("/charging-sessions",{params:{isCompleted:!0,page:f,size:m}})).data,staleTime:3e4}),w=()=>{if(s&&s.readyState===WebSocket.OPEN)return;u(!0),t("Connecting...");const T=new WebSocket("wss://ev-reservation.pixcel.org/ws/charging");T.onopen=()=>{t("Connected"),u(!1),Tn.get("/stations").then(P=>P.data.forEach(j=>T.send(JSON.stringify({action:"subscribe",topic:"station",id:j.id}))))},T.onmessage=_=>{let A;try{A=JSON.parse(_.data)}catch{console.error("Bad JSON from server:",_.data);return}const O=`${A.station.id}-${A.vehicle.id}-${A.pump}`;r(R=>{const D=new Map(R);return A.status==="completed"?(D.delete(O),console.log(`vehicle ${A.vehicle.plateNumber} is completed`)):D.set(O,A),D})},T.onerror=()=>{t("Error"),u(!1)},T.onclose=()=>{t("Disconnected"),u(!1)},o(T)},S=()=>{s&&(s.close(),o(null),t("Disconnected"))};x.useEffect(()=>(w(),()=>{S()}),[]);const E=()=>{switch(e){case"Connected":return g.jsxs(Or,{variant:"success",className:"flex items-center gap-1",children:[g.jsx(Ry,{className:"w-3 h-3"}),"Connected"]});case"Connecting...":return g.jsxs(Or,{variant:"warning",className:"flex items-center gap-1",children:[g.jsx(hC,{className:"w-3 h-3 animate-spin"}),"Connecting..."]});case"Error":return g.jsxs(Or,{variant:"destructive",className:"flex items-center gap-1",children:[g.jsx(dC,{className:"w-3 h-3"}),"Error"]});case"Disconnected":return g.jsxs(Or,{variant:"destructive",className:"flex items-center gap-1",children:[g.jsx(uC,{className:"w-3 h-3"}),"Disconnected"]});default:return null}},C=T=>T>=1e3?`${(T/1e3).toFixed(1)} kW`:`${T} W`;return g.jsx("div",{className:"min-h-screen bg-gradient-to-br from-background via-background to-muted/20 dark:from-background dark:via-background dark:to-background",children:g.jsxs("div",{className:"container mx-auto p-6 space-y-6",children:[g.jsxs("div",{className:"flex flex-col sm:flex-row justify-between items-start sm:items-center gap-4",children:[E(),g.jsx("div",{className:"flex items-center gap-3",children:g.jsxs("div",{className:"flex gap-2",children:[g.jsxs(Ut,{onClick:w,disabled:e==="Connected"||c,size:"small",variant:"outline",className:"flex items-center gap-2",children:[g.jsx(K5,{className:"w-4 h-4"}),"Connect"]}),g.jsxs(Ut,{onClick:S,disabled:e==="Disconnected",size:"small",variant:"outline",className:"flex items-center gap-2",children:[g.jsx(G5,{className:"w-4 h-4"}),"Disconnect"]})]})})]}),g.jsxs("div",{className:"grid grid-cols-1 md:grid-cols-3 gap-4 mb-6",children:[g.jsx(Pr,{className:"border-border/50 bg-card/50 backdrop-blur-sm",children:g.jsx(Lr,{className:"p-4",children:g.jsxs("div",{className:"flex items-center justify-between",children:[g.jsxs("div",{children:[g.jsx("p",{className:"text-sm font-medium text-muted-foreground",children:"Active Sessions"}),g.jsx("p",{className:"text-2xl font-bold text-foreground",children:n.size})]}),g.jsx(Ps,{className:"w-8 h-8 text-primary"})]})})}),g.jsx(Pr,{className:"border-border/50 bg-card/50 backdrop-blur-sm",children:g.jsx(Lr,{className:"p-4",children:g.jsxs("div",{className:"flex items-center justify-between",children:[g.jsxs("div",{children:[g.jsx("p",{className:"text-sm font-medium text-muted-foreground",children:"Total Power"}),g.jsx("p",{className:"text-2xl font-bold text-foreground",children:C([...n.values()].reduce((T,_)=>T+_.chargingRate,0))})]}),g.jsx(om,{className:"w-8 h-8 text-green-500"})]})})}),g.jsx(Pr,{className:"border-border/50 bg-card/50 backdrop-blur-sm",children:g.jsx(Lr,{className:"p-4",children:g.jsxs("div",{className:"flex items-center justify-between",children:[g.jsxs("div",{children:[g.jsx("p",{className:"text-sm font-medium text-muted-foreground",children:"Connection"}),g.jsx("p",{className:"text-2xl font-bold text-foreground",children:e})]}),e==="Connected"?g.jsx(Ry,{className:"w-8 h-8 text-green-500"}):g.jsx(dC,{className:"w-8 h-8 text-red-500"})]})})})]}),n.size===0?g.jsx(Pr,{className:"border-border/50 bg-card/50 backdrop-blur-sm",children:g.jsx(Lr,{className:"p-8 text-center",children:g.jsxs("div",{className:"flex flex-col items-center gap-4",children:[g.jsx("div",{className:"w-16 h-16 rounded-full bg-muted/50 flex items-center justify-center",children:g.jsx(Ps,{className:"w-8 h-8 text-muted-foreground"})}),g.jsxs("div",{children:[g.jsx("p",{className:"text-lg font-semibold text-foreground",children:"No Active Sessions"}),g.jsx("p",{className:"text-muted-foreground",children:e==="Connected"?"Waiting for charging sessions to begin...":"Connect to start monitoring charging sessions"})]})]})})}):g.jsx("div",{className:"grid gap-6 md:grid-cols-2 lg:grid-cols-3",children:[...n.values()].map(T=>{const _=`${T.station.id}-${T.vehicle.id}-${T.pump}`;return g.jsxs(Pr,{className:"group border-border/50 bg-card/50 backdrop-blur-sm hover:shadow-lg hover:shadow-primary/5 transition-all duration-300 hover:border-primary/20",children:[g.jsx(Lx,{className:"pb-3",children:g.jsxs("div",{className:"flex items-start justify-between",children:[g.jsxs("div",{className:"flex items-center gap-2",children:[g.jsx("div",{className:"w-10 h-10 rounded-lg bg-primary/10 flex items-center justify-center",children:g.jsx(ts,{className:"w-5 h-5 text-primary"})}),g.jsxs("div",{children:[g.jsx(Vx,{className:"text-lg font-semibold text-foreground group-hover:text-primary transition-colors",children:T.station.name}),g.jsxs("div",{className:"flex items-center gap-1 text-sm text-muted-foreground",children:[g.jsx(jv,{className:"w-3 h-3"}),T.station.location]})]})]}),g.jsxs(Or,{variant:"outline",className:"text-xs",children:["Pump #",T.pump]})]})}),g.jsxs(Lr,{className:"space-y-4",children:[g.jsxs("div",{className:"flex items-center gap-3 p-3 rounded-lg bg-muted/30 dark:bg-muted/20",children:[g.jsx(Ps,{className:"w-5 h-5 text-primary"}),g.jsxs("div",{className:"flex-1 min-w-0",children:[g.jsxs("p",{className:"font-medium text-foreground truncate",children:[T.vehicle.make," ",T.vehicle.model]}),g.jsx("p",{className:"text-sm text-muted-foreground font-mono",children:T.vehicle.plateNumber})]})]}),g.jsxs("div",{className:"flex items-center justify-between p-3 rounded-lg bg-gradient-to-r from-green-50 to-emerald-50 dark:from-green-950/20 dark:to-emerald-950/20 border border-green-200/50 dark:border-green-800/30",children:[g.jsxs("div",{className:"flex items-center gap-2",children:[g.jsx("div",{className:"w-8 h-8 rounded-full bg-green-100 dark:bg-green-900/50 flex items-center justify-center",children:g.jsx(ts,{className:"w-4 h-4 text-green-600 dark:text-green-400"})}),g.jsx("span",{className:"text-sm font-medium text-green-700 dark:text-green-300",children:"Charging Rate"})]}),g.jsxs("div",{className:"text-right",children:[g.jsx("p",{className:"text-xl font-bold text-green-700 dark:text-green-300",children:C(T.chargingRate)}),g.jsxs("div",{className:"flex items-center gap-1",children:[g.jsx("div",{className:"w-2 h-2 rounded-full bg-green-500 animate-pulse"}),g.jsx("span",{className:"text-xs text-green-600 dark:text-green-400",children:"Active"})]})]})]}),g.jsxs("div",{className:"flex items-center justify-between text-sm",children:[g.jsx("span",{className:"text-muted-foreground",children:"Battery Capacity"}),g.jsxs("div",{className:"flex items-center gap-1",children:[g.jsx(om,{className:"w-4 h-4 text-blue-500"}),g.jsxs("span",{className:"font-medium text-foreground",children:[T.vehicle.batteryCapacity," kWh"]})]})]})]})]},_)})}),g.jsxs("div",{className:"flex items-center gap-2",children:[g.jsx(fC,{className:"w-6 h-6 text-primary"}),g.jsx("span",{className:"font-semibold",children:"Charging Session History"})]}),b?g.jsxs("div",{className:"flex items-center justify-center py-8",children:[g.jsx(hC,{className:"w-6 h-6 animate-spin text-muted-foreground"}),g.jsx("span",{className:"ml-2 text-muted-foreground",children:"Loading history..."})]}):p!=null&&p.content&&p.content.length>0?g.jsxs(g.Fragment,{children:[g.jsxs(Kx,{children:[g.jsx(Zx,{children:g.jsxs(Ec,{children:[g.jsx(kr,{children:"User"}),g.jsx(kr,{children:"Vehicle"}),g.jsx(kr,{children:"Station"}),g.jsx(kr,{children:"Pump"}),g.jsx(kr,{children:"Start Time"}),g.jsx(kr,{children:"Status"})]})}),g.jsx(Xx,{children:p.content.map(T=>g.jsxs(Ec,{children:[g.jsx(jr,{children:g.jsxs("div",{children:[g.jsx("p",{className:"font-medium",children:T.user.name}),g.jsx("p",{className:"text-sm text-muted-foreground",children:T.user.email})]})}),g.jsx(jr,{children:g.jsxs("div",{children:[g.jsxs("p",{className:"font-medium",children:[T.vehicle.make," ",T.vehicle.model]}),g.jsx("p",{className:"text-sm text-muted-foreground font-mono",children:T.vehicle.plateNumber})]})}),g.jsx(jr,{children:g.jsxs("div",{children:[g.jsx("p",{className:"font-medium",children:T.station.name}),g.jsx("p",{className:"text-sm text-muted-foreground",children:T.station.location})]})}),g.jsx(jr,{children:g.jsxs(Or,{variant:"outline",children:["#",T.pumpNumber]})}),g.jsx(jr,{children:g.jsx("time",{className:"text-sm",children:new Date(T.startTime).toLocaleString()})}),g.jsx(jr,{children:T.isCompleted?g.jsxs(Or,{variant:"success",className:"flex items-center gap-1 w-fit",children:[g.jsx(Ry,{className:"w-3 h-3"}),"Completed"]}):T.isCharging?g.jsxs(Or,{variant:"warning",className:"flex items-center gap-1 w-fit",children:[g.jsx(ts,{className:"w-3 h-3"}),"Charging"]}):g.jsxs(Or,{variant:"outline",className:"flex items-center gap-1 w-fit",children:[g.jsx(uC,{className:"w-3 h-3"}),"Reserved"]})})]},T.id))})]}),p.totalPages>1&&g.jsxs("div",{className:"flex items-center justify-between mt-4 pt-4 border-t border-border/50",children:[g.jsxs("p",{className:"text-sm text-muted-foreground",children:["Showing ",(f-1)*m+1," to"," ",Math.min(f*m,p.totalElements)," ","of ",p.totalElements," sessions"]}),g.jsxs("div",{className:"flex items-center gap-2",children:[g.jsx(Ut,{variant:"outline",size:"icon",onClick:()=>h(T=>Math.max(1,T-1)),disabled:f===1,className:"flex items-center gap-1",children:g.jsx(bA,{className:"w-4 h-4"})}),g.jsxs("span",{className:"text-sm text-muted-foreground",children:["Page ",f," of ",p.totalPages]}),g.jsx(Ut,{variant:"outline",size:"icon",onClick:()=>h(T=>Math.min(p.totalPages,T+1)),disabled:f>=p.totalPages,className:"flex items-center gap-1",children:g.jsx(i0,{className:"w-4 h-4"})})]})]})]}):g.jsx("div",{className:"text-center py-8",children:g.jsxs("div",{className:"flex flex-col items-center gap-4",children:[g.jsx("div",{className:"w-16 h-16 rounded-full bg-muted/50 flex items-center justify-center",children:g.jsx(fC,{className:"w-8 h-8 text-muted-foreground"})}),g.jsxs("div",{children:[g.jsx("p",{className:"text-lg font-semibold text-foreground",children:"No History Available"}),g.jsx("p",{className:"text-muted-foreground",children:"No completed charging sessions found"})]})]})})]})})}function JX(){var t;const e=Ws();return g.jsxs("div",{className:"container mx-auto p-6 space-y-6 flex flex-col items-center",children:[g.jsx("div",{className:"size-20 rounded-full bg-primary flex items-center justify-center text-white text-2xl font-bold",children:((t=e==null?void 0:e.name)==null?void 0:t.charAt(0).toUpperCase())||"U"}),g.jsxs("div",{className:"flex flex-col items-center",children:[(e==null?void 0:e.isAdmin)&&g.jsx(Or,{variant:"outline",className:"mb-2",children:"Admin"}),g.jsx("span",{className:"font-semibold",children:e==null?void 0:e.name}),g.jsxs("div",{className:"flex items-center space-x-2",children:[g.jsx(M5,{className:"size-4"}),g.jsx("span",{className:"text-muted-foreground text-sm",children:e==null?void 0:e.email})]})]})]})}function eQ(){const e=Ws(),t=Gs(),{data:n,isPending:r,isError:s,error:o}=Ks({queryKey:["vehicles",e==null?void 0:e.id],queryFn:async()=>(await Tn.get("/vehicles",{params:{ownerId:e!=null&&e.isAdmin||e==null?void 0:e.id}})).data});function c(){t("/vehicles/create")}function u(f){t(`/vehicles/update/${f}`)}return r?g.jsx("div",{className:"flex items-center justify-center h-full space-x-2",children:g.jsx(Tc,{className:"animate-spin"})}):s?g.jsxs("div",{className:"text-red-500",children:["Error loading vehicles: ",o.message]}):g.jsx("div",{className:"flex flex-col space-y-4",children:g.jsxs("div",{className:"container mx-auto p-6 space-y-6",children:[g.jsxs("div",{className:"flex items-center justify-between",children:[g.jsx("h1",{className:"font-semibold text-lg",children:"Registered vehicles"}),g.jsxs(Ut,{onClick:c,variant:"outline",children:[g.jsx(Ps,{}),"Register Vehicle"]})]}),g.jsxs(Kx,{children:[g.jsx(Zx,{children:g.jsxs(Ec,{children:[g.jsx(kr,{children:"Make"}),g.jsx(kr,{children:"Model"}),g.jsx(kr,{children:"Plate Number"}),g.jsx(kr,{children:"Battery Capacity"}),(e==null?void 0:e.isAdmin)&&g.jsx(kr,{children:"Owner"})]})}),g.jsx(Xx,{children:n.map(f=>{var h;return g.jsxs(Ec,{onClick:()=>u(f.id),className:"cursor-pointer hover:bg-sky-100 dark:hover:bg-sky-950",children:[g.jsx(jr,{children:f.make}),g.jsx(jr,{children:f.model}),g.jsx(jr,{children:f.plateNumber}),g.jsx(jr,{children:f.batteryCapacity}),(e==null?void 0:e.isAdmin)&&g.jsx(jr,{children:((h=f==null?void 0:f.owner)==null?void 0:h.name)??"-"})]},f.id)})})]})]})})}const Fj=op({make:ea().min(1,{message:"Make is required"}),model:ea().min(1,{message:"Model is required"}),plateNumber:ea().min(1,{message:"Plate number is required"}),batteryCapacity:ea().min(1,{message:"Battery capacity is required"}).regex(/^\d+$/,{message:"Battery capacity must be a number"})}),tQ=Fj;function nQ(){const e=Ws(),t=zc(),n=Gs(),r=jc({resolver:Lc(Fj)}),s=Hs({mutationFn:async c=>{await Tn.post("/vehicles",{...c,batteryCapacity:parseInt(c.batteryCapacity,10),owner:e})},onSuccess:()=>{En.success("Vehicle created successfully!"),t.invalidateQueries({queryKey:["vehicles",e==null?void 0:e.id]}),n("/vehicles")},onError:c=>En.error(`Error creating vehicle: ${c}`)});function o(c){s.mutate(c)}return g.jsx("div",{className:"container mx-auto p-6 space-y-6",children:g.jsx(Pc,{...r,children:g.jsxs("form",{className:"space-y-4",onSubmit:r.handleSubmit(o),children:[g.jsx(On,{control:r.control,name:"make",render:({field:c})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Make"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter vehicle make",...c})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:r.control,name:"model",render:({field:c})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Model"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter vehicle model",...c})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:r.control,name:"plateNumber",render:({field:c})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Plate Number"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter plate number",...c})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:r.control,name:"batteryCapacity",render:({field:c})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Battery Capacity"}),g.jsx(Pn,{children:g.jsx(Cn,{type:"number",placeholder:"Enter battery capacity",...c})}),g.jsx(Ln,{})]})}),g.jsx("div",{className:"flex justify-end",children:g.jsx(Ut,{type:"submit",children:"Register"})})]})})})}function rQ(){const{id:e}=oA(),t=Ws(),n=Gs(),r=zc(),{data:s,isPending:o,isError:c,error:u}=Ks({queryKey:["vehicles",e],queryFn:async()=>(await Tn.get(`/vehicles/${e}`)).data}),f=Hs({mutationFn:async w=>{await Tn.put(`/vehicles/${e}`,{...w,batteryCapacity:parseInt(w.batteryCapacity,10),ownerId:t==null?void 0:t.id})},onSuccess:()=>{r.invalidateQueries({queryKey:["vehicles",t==null?void 0:t.id]}),r.invalidateQueries({queryKey:["vehicles",e]}),En.success("Vehicle updated successfully!")},onError:w=>{En.error(`Error updating vehicle: ${w}`)}}),h=Hs({mutationFn:async()=>{await Tn.delete(`/vehicles/${e}`)},onSuccess:()=>{r.invalidateQueries({queryKey:["vehicles"]}),En.success("Vehicle deleted successfully!"),n("/vehicles")},onError:w=>{En.error(`Error deleting vehicle: ${w}`)}}),m=jc({defaultValues:s?{...s,batteryCapacity:s.batteryCapacity.toString()}:void 0,resolver:Lc(tQ),values:s?{...s,batteryCapacity:s.batteryCapacity.toString()}:void 0});function p(w){f.mutate(w)}function b(){h.mutate()}return o?g.jsx("div",{className:"flex items-center justify-center h-full space-x-2",children:g.jsx(Tc,{className:"animate-spin"})}):c?g.jsxs("div",{className:"text-red-500",children:["Error loading vehicle: ",u.message]}):g.jsx("div",{className:"container mx-auto p-6 space-y-6",children:g.jsx(Pc,{...m,children:g.jsxs("form",{className:"space-y-4",onSubmit:m.handleSubmit(p),children:[g.jsx(On,{control:m.control,name:"make",render:({field:w})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Make"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter vehicle make",...w})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:m.control,name:"model",render:({field:w})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Model"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter vehicle model",...w})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:m.control,name:"plateNumber",render:({field:w})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Plate Number"}),g.jsx(Pn,{children:g.jsx(Cn,{placeholder:"Enter plate number",...w})}),g.jsx(Ln,{})]})}),g.jsx(On,{control:m.control,name:"batteryCapacity",render:({field:w})=>g.jsxs(kn,{children:[g.jsx(jn,{children:"Battery Capacity"}),g.jsx(Pn,{children:g.jsx(Cn,{type:"number",placeholder:"Enter battery capacity",...w})}),g.jsx(Ln,{})]})}),g.jsxs("div",{className:"flex space-x-2 justify-end",children:[g.jsxs(Nj,{children:[g.jsx(Oj,{asChild:!0,children:g.jsx(Ut,{type:"button",variant:"ghost",className:"text-red-500",children:"Delete"})}),g.jsxs(kj,{children:[g.jsxs(jj,{children:[g.jsx(Lj,{children:"Are you absolutely sure?"}),g.jsx(Vj,{children:"This action cannot be undone. This will permanently delete your data."})]}),g.jsxs(Pj,{children:[g.jsx(Bj,{children:"Cancel"}),g.jsx(zj,{onClick:b,children:"Continue"})]})]})]}),g.jsx(Ut,{type:"submit",children:"Update"})]})]})})})}const aQ=S3([{path:"/",Component:XX},{path:"auth",Component:j3,children:[{index:!0,Component:UY}]},{Component:m8,children:[{path:"dashboard",Component:E_},{path:"vehicles",children:[{index:!0,Component:eQ},{path:"create",Component:nQ},{path:"update/:id",Component:rQ}]},{path:"ev-stations",children:[{index:!0,Component:EX},{path:"create",Component:TX},{path:"update/:id",Component:YX}]},{path:"profile",Component:JX},{path:"monitoring",Component:QX},{path:"*",Component:E_}]}]);var Cv={exports:{}},Qu={},Tv={exports:{}},Mv={};/**
  * @license React
  * scheduler.production.js
  *
@@ -0,0 +1,95 @@
+package edu.uitm.ev_reservation;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Base class of tests that need PostgreSQL itself: the native lease queries,
+ * the migrations and the statement counts.
+ *
+ * With {@code TEST_DATABASE_URL} set (and {@code TEST_DATABASE_USERNAME} and
+ * {@code TEST_DATABASE_PASSWORD}) the tests use that database, in schemas of
+ * their own so nothing else in it is touched. Otherwise they start a
+ * Testcontainers PostgreSQL, and without Docker they are skipped.
+ *
+ * Spring tests run in the {@link #SCHEMA} schema, which is dropped once per
+ * run and migrated by Flyway when the first context starts, so it always
+ * matches the current scripts.
+ */
+public abstract class PostgresTest {
+
+  public static final String SCHEMA = "ev_reservation_test";
+
+  private static final String URL = setting("TEST_DATABASE_URL");
+  private static PostgreSQLContainer<?> container;
+  private static boolean schemaDropped;
+
+  @BeforeAll
+  static void requirePostgres() throws SQLException {
+    assumeTrue(URL != null || DockerClientFactory.instance().isDockerAvailable(),
+        "Needs TEST_DATABASE_URL or Docker");
+    dropSchemaOnce();
+  }
+
+  private static synchronized void dropSchemaOnce() throws SQLException {
+    if (schemaDropped) {
+      return;
+    }
+    try (Connection connection = connect("public");
+        Statement statement = connection.createStatement()) {
+      statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+    }
+    schemaDropped = true;
+  }
+
+  @DynamicPropertySource
+  static void postgres(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", () -> jdbcUrl(SCHEMA));
+    registry.add("spring.datasource.username", PostgresTest::username);
+    registry.add("spring.datasource.password", PostgresTest::password);
+    registry.add("spring.flyway.schemas", () -> SCHEMA);
+  }
+
+  /**
+   * JDBC URL of the test database with {@code schema} as the current schema.
+   */
+  public static String jdbcUrl(String schema) {
+    String url = URL != null ? URL : container().getJdbcUrl();
+    return url + (url.contains("?") ? "&" : "?") + "currentSchema=" + schema;
+  }
+
+  public static String username() {
+    return URL != null ? setting("TEST_DATABASE_USERNAME") : container().getUsername();
+  }
+
+  public static String password() {
+    return URL != null ? setting("TEST_DATABASE_PASSWORD") : container().getPassword();
+  }
+
+  public static Connection connect(String schema) throws SQLException {
+    return DriverManager.getConnection(jdbcUrl(schema), username(), password());
+  }
+
+  private static synchronized PostgreSQLContainer<?> container() {
+    if (container == null) {
+      container = new PostgreSQLContainer<>("postgres:16-alpine");
+      container.start();
+    }
+    return container;
+  }
+
+  private static String setting(String name) {
+    String value = System.getProperty(name, System.getenv(name));
+    return value == null || value.isBlank() ? null : value;
+  }
+}
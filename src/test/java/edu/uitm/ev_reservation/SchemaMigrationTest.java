@@ -0,0 +1,146 @@
+package edu.uitm.ev_reservation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+/**
+ * Runs the migrations on an empty schema and on one shaped like the databases
+ * that ddl-auto=update created, and checks that both end up the same.
+ */
+class SchemaMigrationTest extends PostgresTest {
+
+  private static final String EMPTY = "migration_empty";
+  private static final String BASELINE = "migration_baseline";
+
+  @Test
+  void migratesAnEmptySchema() throws SQLException, IOException {
+    recreate(EMPTY);
+
+    MigrateResult result = migrate(EMPTY);
+
+    assertThat(result.success).isTrue();
+    assertThat(result.migrationsExecuted).isEqualTo(migrationCount());
+    assertThat(migrate(EMPTY).migrationsExecuted).isZero();
+  }
+
+  @Test
+  void adoptsABaselineSchemaAndMigratesItLikeAnEmptyOne() throws SQLException, IOException {
+    recreate(EMPTY);
+    migrate(EMPTY);
+    recreate(BASELINE);
+    try (Connection connection = PostgresTest.connect(BASELINE)) {
+      ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/baseline_schema.sql"));
+    }
+
+    MigrateResult result = migrate(BASELINE);
+
+    assertThat(result.success).isTrue();
+    assertThat(result.migrationsExecuted).isEqualTo(migrationCount());
+    assertThat(columns(BASELINE)).isEqualTo(columns(EMPTY));
+    assertThat(indexes(BASELINE)).containsAll(indexes(EMPTY));
+    assertThat(list(BASELINE, "SELECT status FROM charging_sessions")).containsExactly("COMPLETED");
+    // Emails are folded to lower case unless that would collide
+    assertThat(list(BASELINE, "SELECT email FROM users ORDER BY id"))
+        .containsExactly("driver@example.com", "Driver@Example.com", "fleet@example.com", "FLEET@example.com");
+  }
+
+  @Test
+  void derivesSessionStatusFromTheOldFlags() throws SQLException {
+    recreate(EMPTY);
+    migrate(EMPTY, "2");
+    try (Connection connection = PostgresTest.connect(EMPTY);
+        Statement statement = connection.createStatement()) {
+      statement.execute("INSERT INTO charging_sessions "
+          + "(id, pump_number, is_completed, is_charging, is_reserved, start_time, charged_units) VALUES "
+          + "(1, 1, true, false, false, '2025-06-01 08:00', 60000), "
+          + "(2, 1, false, true, false, '2025-06-01 08:00', 20000), "
+          // Stopped before its first checkpoint, by hand or by a failure
+          + "(3, 1, false, false, false, '2025-06-01 08:00', NULL), "
+          + "(4, 1, false, false, true, '2025-06-01 08:00', 0), "
+          + "(5, 1, false, false, false, NULL, 5000), "
+          // Not reserved, so started on creation without a start time
+          + "(6, 1, false, false, false, NULL, NULL), "
+          // Reservations still to start
+          + "(7, 1, false, false, true, now() + interval '1 day', NULL), "
+          + "(8, 1, false, false, true, now() + interval '1 day', 0)");
+    }
+
+    migrate(EMPTY);
+
+    assertThat(list(EMPTY, "SELECT id || ' ' || status FROM charging_sessions ORDER BY id"))
+        .containsExactly("1 COMPLETED", "2 CHARGING", "3 STOPPED", "4 STOPPED", "5 STOPPED", "6 STOPPED",
+            "7 PENDING", "8 PENDING");
+  }
+
+  private static MigrateResult migrate(String schema) {
+    return migrate(schema, "latest");
+  }
+
+  private static MigrateResult migrate(String schema, String target) {
+    // Same settings as application.properties
+    return Flyway.configure()
+        .dataSource(PostgresTest.jdbcUrl(schema), PostgresTest.username(), PostgresTest.password())
+        .schemas(schema)
+        .locations("classpath:db/migration")
+        .baselineOnMigrate(true)
+        .baselineVersion("0")
+        .target(target)
+        .load()
+        .migrate();
+  }
+
+  private static int migrationCount() throws IOException {
+    return new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/V*__*.sql").length;
+  }
+
+  private static void recreate(String schema) throws SQLException {
+    try (Connection connection = PostgresTest.connect("public");
+        Statement statement = connection.createStatement()) {
+      statement.execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+      statement.execute("CREATE SCHEMA " + schema);
+    }
+  }
+
+  private static List<String> columns(String schema) throws SQLException {
+    return list(schema, "SELECT table_name || '.' || column_name || ' ' || data_type || ' ' || is_nullable "
+        + "FROM information_schema.columns WHERE table_schema = ? AND table_name <> 'flyway_schema_history' "
+        + "ORDER BY table_name, column_name", schema);
+  }
+
+  private static List<String> indexes(String schema) throws SQLException {
+    return list(schema, "SELECT tablename || ' ' || replace(regexp_replace(indexdef, '^CREATE (UNIQUE )?INDEX \\S+ ', "
+        + "'\\1'), schemaname || '.', '') FROM pg_indexes WHERE schemaname = ? AND indexname LIKE 'idx_%' "
+        + "ORDER BY 1", schema);
+  }
+
+  private static List<String> list(String schema, String sql, String... parameters) throws SQLException {
+    List<String> rows = new ArrayList<>();
+    try (Connection connection = PostgresTest.connect(schema);
+        PreparedStatement statement = connection.prepareStatement(sql)) {
+      for (int i = 0; i < parameters.length; i++) {
+        statement.setString(i + 1, parameters[i]);
+      }
+      try (ResultSet result = statement.executeQuery()) {
+        while (result.next()) {
+          rows.add(result.getString(1));
+        }
+      }
+    }
+    return rows;
+  }
+}
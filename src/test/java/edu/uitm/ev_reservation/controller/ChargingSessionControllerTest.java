@@ -0,0 +1,69 @@
+package edu.uitm.ev_reservation.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpSession;
+
+import edu.uitm.ev_reservation.entity.User;
+import edu.uitm.ev_reservation.repository.ChargingSessionRepository;
+import edu.uitm.ev_reservation.sse.ChargingProgressStreams;
+
+class ChargingSessionControllerTest {
+
+  private static final long SESSION_ID = 7L;
+  private static final long OWNER_ID = 1L;
+
+  private final ChargingSessionRepository repository = mock(ChargingSessionRepository.class);
+  private final ChargingProgressStreams streams = mock(ChargingProgressStreams.class);
+  private final ChargingSessionController controller = new ChargingSessionController(repository, null, null, null,
+      null, null, null, null, streams, null);
+
+  @BeforeEach
+  void setUp() {
+    when(repository.findUserIdById(SESSION_ID)).thenReturn(Optional.of(OWNER_ID));
+  }
+
+  @Test
+  void otherDriversCannotStreamASession() {
+    ResponseEntity<?> response = controller.streamChargingSession(SESSION_ID, "3", "legacy", loggedIn(2L, false));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    verify(streams, never()).openSessionStream(anyLong(), any(), anyBoolean());
+  }
+
+  @Test
+  void anonymousRequestsCannotStreamASession() {
+    ResponseEntity<?> response = controller.streamChargingSession(SESSION_ID, null, "legacy", new MockHttpSession());
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    verify(streams, never()).openSessionStream(anyLong(), any(), anyBoolean());
+  }
+
+  @Test
+  void ownerAndAdminsCanStreamASession() {
+    assertThat(controller.streamChargingSession(SESSION_ID, null, "legacy", loggedIn(OWNER_ID, false))
+        .getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(controller.streamChargingSession(SESSION_ID, null, "compact", loggedIn(2L, true))
+        .getStatusCode()).isEqualTo(HttpStatus.OK);
+  }
+
+  static MockHttpSession loggedIn(long userId, boolean admin) {
+    MockHttpSession session = new MockHttpSession();
+    session.setAttribute("user", User.builder().id(userId).email("user" + userId + "@example.com").isAdmin(admin)
+        .build());
+    return session;
+  }
+}
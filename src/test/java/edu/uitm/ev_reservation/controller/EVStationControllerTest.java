@@ -0,0 +1,65 @@
+package edu.uitm.ev_reservation.controller;
+
+import static edu.uitm.ev_reservation.controller.ChargingSessionControllerTest.loggedIn;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpSession;
+
+import edu.uitm.ev_reservation.repository.EVStationRepository;
+import edu.uitm.ev_reservation.service.StationAvailabilityIndex;
+import edu.uitm.ev_reservation.sse.ChargingProgressStreams;
+
+@ExtendWith(MockitoExtension.class)
+class EVStationControllerTest {
+
+  private static final long STATION_ID = 1L;
+
+  @Mock
+  private EVStationRepository stationRepository;
+
+  @Mock
+  private ChargingProgressStreams chargingProgressStreams;
+
+  @Mock
+  private StationAvailabilityIndex stationAvailabilityIndex;
+
+  @InjectMocks
+  private EVStationController controller;
+
+  @Test
+  void driversCannotStreamAStation() {
+    ResponseEntity<?> response = controller.streamStation(STATION_ID, "3", "legacy", loggedIn(1L, false));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    verify(chargingProgressStreams, never()).openStationStream(anyLong(), any(), anyBoolean());
+  }
+
+  @Test
+  void anonymousRequestsCannotStreamAStation() {
+    ResponseEntity<?> response = controller.streamStation(STATION_ID, null, "legacy", new MockHttpSession());
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+    verify(chargingProgressStreams, never()).openStationStream(anyLong(), any(), anyBoolean());
+  }
+
+  @Test
+  void adminsCanStreamAStation() {
+    when(stationRepository.existsById(STATION_ID)).thenReturn(true);
+
+    assertThat(controller.streamStation(STATION_ID, null, "legacy", loggedIn(1L, true)).getStatusCode())
+        .isEqualTo(HttpStatus.OK);
+  }
+}
@@ -0,0 +1,96 @@
+package edu.uitm.ev_reservation.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import edu.uitm.ev_reservation.PostgresTest;
+import edu.uitm.ev_reservation.entity.User;
+import edu.uitm.ev_reservation.entity.Vehicle;
+import edu.uitm.ev_reservation.repository.UserRepository;
+import edu.uitm.ev_reservation.repository.VehicleRepository;
+
+/**
+ * The vehicle endpoints return entities whose owner is lazy. Outside a
+ * transaction, as in a request, they must come back with the owner loaded
+ * or serializing them fails.
+ */
+@DataJpaTest
+@AutoConfigureJson
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(VehicleController.class)
+class VehicleControllerTest extends PostgresTest {
+
+  @Autowired
+  private VehicleController vehicleController;
+
+  @Autowired
+  private VehicleRepository vehicleRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  private User owner;
+  private User buyer;
+
+  @BeforeEach
+  void setUp() {
+    owner = userRepository.save(User.builder().email("owner@example.com").password("x").name("Owner").build());
+    buyer = userRepository.save(User.builder().email("buyer@example.com").password("x").name("Buyer").build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    for (User user : List.of(owner, buyer)) {
+      vehicleRepository.deleteAll(vehicleRepository.findByOwnerId(user.getId()));
+      userRepository.delete(user);
+    }
+  }
+
+  @Test
+  void updatedVehicleSerializesWithItsOwner() throws Exception {
+    Vehicle vehicle = vehicleRepository.save(new Vehicle(null, "Make", "Model", "EV 1", 60_000, owner));
+
+    JsonNode updated = serialize(vehicleController.updateVehicle(vehicle.getId(),
+        new Vehicle(null, "Make", "Model S", "EV 2", 75_000, null)));
+    JsonNode sold = serialize(vehicleController.updateVehicle(vehicle.getId(),
+        new Vehicle(null, "Make", "Model S", "EV 2", 75_000, User.builder().id(buyer.getId()).build())));
+
+    assertThat(updated.path("model").asText()).isEqualTo("Model S");
+    assertThat(updated.path("owner").path("email").asText()).isEqualTo("owner@example.com");
+    assertThat(sold.path("owner").path("email").asText()).isEqualTo("buyer@example.com");
+  }
+
+  @Test
+  void createdVehicleSerializesWithItsOwner() throws Exception {
+    JsonNode created = serialize(vehicleController.createVehicle(
+        new Vehicle(null, "Make", "Model", "EV 3", 60_000, User.builder().id(owner.getId()).build())));
+
+    assertThat(created.path("plateNumber").asText()).isEqualTo("EV 3");
+    assertThat(created.path("owner").path("email").asText()).isEqualTo("owner@example.com");
+  }
+
+  private JsonNode serialize(ResponseEntity<Vehicle> response) throws Exception {
+    assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+    return objectMapper.readTree(objectMapper.writeValueAsString(response.getBody()));
+  }
+}
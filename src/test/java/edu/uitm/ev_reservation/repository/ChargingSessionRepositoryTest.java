@@ -0,0 +1,112 @@
+package edu.uitm.ev_reservation.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import edu.uitm.ev_reservation.PostgresTest;
+import edu.uitm.ev_reservation.dto.ChargingSessionResponseDto;
+import edu.uitm.ev_reservation.entity.ChargingSession;
+import edu.uitm.ev_reservation.entity.ChargingSessionStatus;
+import edu.uitm.ev_reservation.entity.EVStation;
+import edu.uitm.ev_reservation.entity.User;
+import edu.uitm.ev_reservation.entity.Vehicle;
+import edu.uitm.ev_reservation.mapper.DtoMapper;
+
+/**
+ * The session listings cost the same number of statements for a page of any
+ * size: the page query and its count, with no select per session for its
+ * user, vehicle, owner or station.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ChargingSessionRepositoryTest extends PostgresTest {
+
+  private static final int SESSIONS = 25;
+  private static final Set<ChargingSessionStatus> STATUSES = EnumSet.allOf(ChargingSessionStatus.class);
+
+  @Autowired
+  private ChargingSessionRepository chargingSessionRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  private User driver;
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    driver = entityManager.persist(User.builder().email("driver@example.com").password("x").name("Driver").build());
+    // Every session has its own vehicle, owner and station, so lazy loading would show as one select each
+    for (int i = 0; i < SESSIONS; i++) {
+      User owner = entityManager.persist(User.builder().email("owner" + i + "@example.com").password("x")
+          .name("Owner " + i).build());
+      Vehicle vehicle = entityManager.persist(Vehicle.builder().make("Make").model("Model")
+          .plateNumber("EV " + i).batteryCapacity(60_000).owner(owner).build());
+      EVStation station = entityManager.persist(EVStation.builder().name("Station " + i).location("Here")
+          .numberOfPumps(2).build());
+      entityManager.persist(ChargingSession.builder().user(driver).vehicle(vehicle).station(station)
+          .pumpNumber(1).status(ChargingSessionStatus.COMPLETED).startTime(new Date()).build());
+    }
+    entityManager.flush();
+    entityManager.clear();
+    statistics = entityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class)
+        .getStatistics();
+  }
+
+  @Test
+  void entityListingMappedToDtosRunsTheSameStatementsForAnyPageSize() {
+    long small = statementsFor(() -> DtoMapper.toChargingSessionResponseDtoPage(
+        chargingSessionRepository.findSessionsWithFilters(driver.getId(), STATUSES, page(5))));
+    long large = statementsFor(() -> DtoMapper.toChargingSessionResponseDtoPage(
+        chargingSessionRepository.findSessionsWithFilters(driver.getId(), STATUSES, page(20))));
+
+    assertThat(small).isEqualTo(2);
+    assertThat(large).isEqualTo(small);
+  }
+
+  @Test
+  void dtoListingRunsTheSameStatementsForAnyPageSize() {
+    long small = statementsFor(
+        () -> chargingSessionRepository.findSessionDtosWithFilters(driver.getId(), STATUSES, page(5)));
+    long large = statementsFor(
+        () -> chargingSessionRepository.findSessionDtosWithFilters(driver.getId(), STATUSES, page(20)));
+
+    assertThat(small).isEqualTo(2);
+    assertThat(large).isEqualTo(small);
+  }
+
+  // Checks the details of every session came back filled in, not just that the page did
+  private long statementsFor(Supplier<Page<ChargingSessionResponseDto>> listing) {
+    entityManager.clear();
+    statistics.clear();
+    List<ChargingSessionResponseDto> content = listing.get().getContent();
+    for (ChargingSessionResponseDto session : content) {
+      assertThat(session.getUser().getEmail()).isEqualTo("driver@example.com");
+      assertThat(session.getVehicle().getOwner().getName()).startsWith("Owner ");
+      assertThat(session.getStation().getName()).startsWith("Station ");
+    }
+    assertThat(content).isNotEmpty();
+    return statistics.getPrepareStatementCount();
+  }
+
+  private static PageRequest page(int size) {
+    return PageRequest.of(0, size, Sort.by("id"));
+  }
+}
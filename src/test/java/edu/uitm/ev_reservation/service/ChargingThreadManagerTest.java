@@ -0,0 +1,101 @@
+package edu.uitm.ev_reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import edu.uitm.ev_reservation.dto.ChargingProgressMessage;
+import edu.uitm.ev_reservation.entity.ChargingSession;
+import edu.uitm.ev_reservation.entity.ChargingSessionStatus;
+import edu.uitm.ev_reservation.entity.EVStation;
+import edu.uitm.ev_reservation.entity.User;
+import edu.uitm.ev_reservation.entity.Vehicle;
+import edu.uitm.ev_reservation.repository.ChargingSessionRepository;
+import edu.uitm.ev_reservation.service.PumpAllocationIndex.AllocationResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ChargingThreadManagerTest {
+
+  private static final long SESSION_ID = 7L;
+  private static final int BATTERY_CAPACITY = 60_000;
+
+  private final EVStation station = EVStation.builder().id(1L).name("Hub").location("Here").numberOfPumps(2).build();
+  private final Vehicle vehicle = Vehicle.builder().id(1L).batteryCapacity(BATTERY_CAPACITY).build();
+  private final ChargingSessionRepository repository = mock(ChargingSessionRepository.class);
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  // Ticks are a thousand wall seconds apart, so nothing ticks on its own while a test runs
+  private final ChargingClock clock = new ChargingClock(ChargingClock.Mode.SIMULATED, 0.001, "2025-06-01T08:00:00Z");
+  private final List<ChargingProgressMessage> published = new CopyOnWriteArrayList<>();
+
+  private PumpAllocationIndex pumps;
+  private SessionStateWriter writer;
+  private ChargingThreadManager manager;
+
+  @BeforeEach
+  void setUp() {
+    ChargingMetrics metrics = new ChargingMetrics(new SimpleMeterRegistry());
+    ProgressEventBus bus = new InMemoryProgressEventBus();
+    bus.subscribe(published::add);
+    pumps = new PumpAllocationIndex(repository, clock);
+    writer = new SessionStateWriter(jdbcTemplate, metrics, 200, Integer.MAX_VALUE);
+    manager = new ChargingThreadManager(bus, repository, pumps, writer,
+        new SessionLeases(repository, clock, false, "node-a", 30), clock, metrics, 1,
+        ChargingThreadManager.ExecutionMode.PLATFORM, 10);
+  }
+
+  @AfterEach
+  void tearDown() {
+    manager.shutdown();
+  }
+
+  @Test
+  void sessionWhoseStartIsRefusedStopsAndFreesItsPump() {
+    // The row was stopped elsewhere before the start was flushed
+    when(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class))).thenReturn(new int[] {0});
+    manager.startChargingSessionImmediately(bookedSession());
+    assertThat(manager.isSessionCharging(SESSION_ID)).isTrue();
+
+    writer.flush();
+
+    assertThat(manager.isSessionCharging(SESSION_ID)).isFalse();
+    assertThat(pumps.currentBookings(station.getId(), clock.millis())).isEmpty();
+    assertThat(published.get(published.size() - 1).getStatus()).isEqualTo("stopped");
+  }
+
+  @Test
+  void sessionWhoseStartIsWrittenKeepsCharging() {
+    when(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class))).thenReturn(new int[] {1});
+    manager.startChargingSessionImmediately(bookedSession());
+
+    writer.flush();
+
+    assertThat(manager.isSessionCharging(SESSION_ID)).isTrue();
+    assertThat(pumps.currentBookings(station.getId(), clock.millis()).get(1).getSessionId()).isEqualTo(SESSION_ID);
+  }
+
+  private ChargingSession bookedSession() {
+    AllocationResult result = pumps.reserve(station, 1, new Date(clock.millis()), BATTERY_CAPACITY);
+    assertThat(result.getStatus()).isEqualTo(AllocationResult.Status.ALLOCATED);
+    pumps.bind(result.getBooking(), SESSION_ID);
+    return ChargingSession.builder()
+        .id(SESSION_ID)
+        .user(User.builder().id(1L).build())
+        .vehicle(vehicle)
+        .station(station)
+        .pumpNumber(1)
+        .status(ChargingSessionStatus.PENDING)
+        .build();
+  }
+}
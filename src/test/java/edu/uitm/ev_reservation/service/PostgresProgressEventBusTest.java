@@ -0,0 +1,104 @@
+package edu.uitm.ev_reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import edu.uitm.ev_reservation.PostgresTest;
+import edu.uitm.ev_reservation.dto.ChargingProgressMessage;
+
+/**
+ * Two nodes relaying progress through LISTEN/NOTIFY on a real PostgreSQL.
+ */
+class PostgresProgressEventBusTest extends PostgresTest {
+
+  private static final String CHANNEL = "charging_progress_test";
+
+  private final List<PostgresProgressEventBus> buses = new ArrayList<>();
+  private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+      new DriverManagerDataSource(jdbcUrl("public"), username(), password()));
+
+  @AfterEach
+  void shutDown() {
+    buses.forEach(PostgresProgressEventBus::shutdown);
+  }
+
+  @Test
+  void progressReachesOtherNodesAndNotItsOwnAgain() throws Exception {
+    BlockingQueue<ChargingProgressMessage> onA = new LinkedBlockingQueue<>();
+    BlockingQueue<ChargingProgressMessage> onB = new LinkedBlockingQueue<>();
+    PostgresProgressEventBus nodeA = bus("node-a", onA);
+    bus("node-b", onB);
+    awaitListeners(2);
+
+    nodeA.publish(progress(1L));
+
+    assertThat(onB.poll(5, TimeUnit.SECONDS)).extracting(ChargingProgressMessage::getSessionId).isEqualTo(1L);
+    assertThat(onA.poll(5, TimeUnit.SECONDS)).extracting(ChargingProgressMessage::getSessionId).isEqualTo(1L);
+    // The batch comes back to node A too, and is skipped there
+    assertThat(onA.poll(1, TimeUnit.SECONDS)).isNull();
+  }
+
+  @Test
+  void listenerKeepsGoingAfterBatchesItCannotRead() throws Exception {
+    BlockingQueue<ChargingProgressMessage> onB = new LinkedBlockingQueue<>();
+    PostgresProgressEventBus nodeA = bus("node-a", new LinkedBlockingQueue<>());
+    bus("node-b", onB);
+    awaitListeners(2);
+
+    sendNotification("not json");
+    sendNotification("{\"node\":\"node-c\",\"events\":[{\"sessionId\":{}}]}");
+    nodeA.publish(progress(2L));
+
+    assertThat(onB.poll(5, TimeUnit.SECONDS)).extracting(ChargingProgressMessage::getSessionId).isEqualTo(2L);
+  }
+
+  private PostgresProgressEventBus bus(String nodeId, BlockingQueue<ChargingProgressMessage> received) {
+    DataSourceProperties properties = new DataSourceProperties();
+    properties.setUrl(jdbcUrl("public"));
+    properties.setUsername(username());
+    properties.setPassword(password());
+    PostgresProgressEventBus bus = new PostgresProgressEventBus(properties, jdbcTemplate,
+        new SessionLeases(null, null, false, nodeId, 30), CHANNEL, 50, 1000);
+    bus.subscribe(received::add);
+    bus.start();
+    buses.add(bus);
+    return bus;
+  }
+
+  // NOTIFY only reaches connections that are already listening
+  private void awaitListeners(int count) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (listeners() < count && System.nanoTime() < deadline) {
+      Thread.sleep(50);
+    }
+    assertThat(listeners()).isEqualTo(count);
+  }
+
+  private int listeners() {
+    return jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM pg_stat_activity WHERE query = 'LISTEN " + CHANNEL + "'", Integer.class);
+  }
+
+  private void sendNotification(String payload) {
+    jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL, payload);
+  }
+
+  private static ChargingProgressMessage progress(long sessionId) {
+    return ChargingProgressMessage.builder()
+        .sessionId(sessionId)
+        .status("charging")
+        .timestamp(System.currentTimeMillis())
+        .build();
+  }
+}
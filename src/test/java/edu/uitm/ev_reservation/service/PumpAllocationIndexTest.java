@@ -0,0 +1,92 @@
+package edu.uitm.ev_reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.uitm.ev_reservation.entity.ChargingSession;
+import edu.uitm.ev_reservation.entity.ChargingSessionStatus;
+import edu.uitm.ev_reservation.entity.EVStation;
+import edu.uitm.ev_reservation.entity.Vehicle;
+import edu.uitm.ev_reservation.repository.ChargingSessionRepository;
+import edu.uitm.ev_reservation.service.PumpAllocationIndex.AllocationResult;
+
+class PumpAllocationIndexTest {
+
+  // 60 ticks, one minute on the pump
+  private static final int BATTERY_CAPACITY = 60_000;
+  private static final long MINUTE = 60_000;
+
+  private final EVStation station = EVStation.builder().id(1L).name("Hub").location("Here").numberOfPumps(2).build();
+  private final Vehicle vehicle = Vehicle.builder().id(1L).batteryCapacity(BATTERY_CAPACITY).build();
+  private final ChargingSessionRepository repository = mock(ChargingSessionRepository.class);
+
+  // Barely moves while a test runs, so the seeded windows can be checked against now
+  private final ChargingClock clock = new ChargingClock(ChargingClock.Mode.SIMULATED, 0.001, "2025-06-01T08:00:00Z");
+  private long now;
+
+  @BeforeEach
+  void setUp() {
+    now = clock.millis();
+  }
+
+  @Test
+  void overlappingRowsAreQueuedBehindEachOtherInsteadOfReplaced() {
+    when(repository.findUnfinishedBookings()).thenReturn(List.of(
+        session(3L, ChargingSessionStatus.PENDING, new Date(now + MINUTE + MINUTE / 2)),
+        session(2L, ChargingSessionStatus.PENDING, new Date(now - 10 * MINUTE)),
+        session(1L, ChargingSessionStatus.CHARGING, null)));
+    PumpAllocationIndex index = new PumpAllocationIndex(repository, clock);
+
+    index.loadBookings();
+
+    // The running session keeps the pump; the overdue reservation and the one it now overlaps queue up behind it
+    assertThat(index.currentBookings(1L, now).get(1).getSessionId()).isEqualTo(1L);
+    AllocationResult result = index.reserve(station, 1, new Date(now + MINUTE / 2), BATTERY_CAPACITY);
+    assertThat(result.getStatus()).isEqualTo(AllocationResult.Status.CONFLICT);
+    assertThat(result.getSuggestedPump()).isEqualTo(2);
+    assertThat(result.getNextAvailableAt().getTime()).isCloseTo(now + 3 * MINUTE, within(1000L));
+
+    // Releasing each session frees exactly its own window
+    index.release(1L);
+    assertThat(index.currentBookings(1L, now).get(1).getSessionId()).isEqualTo(2L);
+    index.release(2L);
+    index.release(3L);
+    assertThat(index.currentBookings(1L, now)).isEmpty();
+  }
+
+  @Test
+  void runningSessionsOnTheSamePumpDoNotOverwriteEachOther() {
+    when(repository.findUnfinishedBookings()).thenReturn(List.of(
+        session(5L, ChargingSessionStatus.CHARGING, null),
+        session(4L, ChargingSessionStatus.CHARGING, null)));
+    PumpAllocationIndex index = new PumpAllocationIndex(repository, clock);
+
+    index.loadBookings();
+
+    AllocationResult result = index.reserve(station, 1, new Date(now), BATTERY_CAPACITY);
+    assertThat(result.getStatus()).isEqualTo(AllocationResult.Status.CONFLICT);
+    assertThat(result.getNextAvailableAt().getTime()).isCloseTo(now + 2 * MINUTE, within(1000L));
+    index.release(4L);
+    assertThat(index.currentBookings(1L, now).get(1).getSessionId()).isEqualTo(5L);
+  }
+
+  private ChargingSession session(Long id, ChargingSessionStatus status, Date startTime) {
+    return ChargingSession.builder()
+        .id(id)
+        .vehicle(vehicle)
+        .station(station)
+        .pumpNumber(1)
+        .isReserved(startTime != null)
+        .status(status)
+        .startTime(startTime)
+        .build();
+  }
+}
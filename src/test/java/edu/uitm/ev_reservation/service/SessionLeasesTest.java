@@ -0,0 +1,123 @@
+package edu.uitm.ev_reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import edu.uitm.ev_reservation.PostgresTest;
+import edu.uitm.ev_reservation.entity.ChargingSessionStatus;
+import edu.uitm.ev_reservation.repository.ChargingSessionRepository;
+
+/**
+ * Two nodes sharing one charging_sessions table through the lease queries.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SessionLeasesTest extends PostgresTest {
+
+  private static final long MINUTE = 60_000;
+
+  @Autowired
+  private ChargingSessionRepository chargingSessionRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private final ChargingClock clock = new ChargingClock(ChargingClock.Mode.SYSTEM, 1, null);
+
+  @BeforeEach
+  void clearSessions() {
+    jdbcTemplate.update("DELETE FROM charging_sessions");
+  }
+
+  @Test
+  void nodesSplitDueReservationsWithoutWaitingOnEachOther() throws Exception {
+    List<Long> due = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      due.add(insert(ChargingSessionStatus.PENDING, true, clock.millis() - (i + 1) * MINUTE));
+    }
+    Long later = insert(ChargingSessionStatus.PENDING, true, clock.millis() + 10 * MINUTE);
+    insert(ChargingSessionStatus.CHARGING, false, clock.millis() - MINUTE);
+    SessionLeases nodeA = leases("node-a", 30);
+    SessionLeases nodeB = leases("node-b", 30);
+
+    // Node A still holds the row locks of its claim while node B claims; B skips those rows instead of blocking
+    List<Long> claimedByB = new ArrayList<>();
+    List<Long> claimedByA = new TransactionTemplate(transactionManager).execute(status -> {
+      List<Long> claimed = nodeA.claimDueReservations(2);
+      claimedByB.addAll(CompletableFuture.supplyAsync(() -> nodeB.claimDueReservations(10))
+          .orTimeout(10, TimeUnit.SECONDS)
+          .join());
+      return claimed;
+    });
+
+    assertThat(claimedByA).hasSize(2);
+    assertThat(claimedByB).hasSize(3).doesNotContainAnyElementsOf(claimedByA);
+    List<Long> claimed = new ArrayList<>(claimedByA);
+    claimed.addAll(claimedByB);
+    assertThat(claimed).containsExactlyInAnyOrderElementsOf(due).doesNotContain(later);
+    for (Long sessionId : claimedByA) {
+      assertThat(leaseOwner(sessionId)).isEqualTo("node-a");
+    }
+
+    // Live leases are not claimed again, and only their holder can take the session
+    assertThat(nodeA.claimDueReservations(10)).isEmpty();
+    assertThat(nodeB.claimDueReservations(10)).isEmpty();
+    assertThat(nodeA.claim(claimedByB.get(0))).isFalse();
+    assertThat(nodeB.claim(claimedByB.get(0))).isTrue();
+  }
+
+  @Test
+  void abandonedSessionIsTakenOverOnceItsLeaseExpires() throws Exception {
+    Long sessionId = insert(ChargingSessionStatus.CHARGING, false, clock.millis() - MINUTE);
+    SessionLeases nodeA = leases("node-a", 1);
+    SessionLeases nodeB = leases("node-b", 30);
+
+    assertThat(nodeA.claim(sessionId)).isTrue();
+    assertThat(nodeB.claimAbandonedChargingSessions(10)).isEmpty();
+    assertThat(nodeA.renew(List.of(sessionId))).containsExactly(sessionId);
+
+    // Node A stops renewing
+    Thread.sleep(1500);
+
+    assertThat(nodeB.claimAbandonedChargingSessions(10)).containsExactly(sessionId);
+    assertThat(leaseOwner(sessionId)).isEqualTo("node-b");
+    // Node A finds out on its next renewal and drops the session
+    assertThat(nodeA.renew(List.of(sessionId))).isEmpty();
+    assertThat(nodeA.claim(sessionId)).isFalse();
+    assertThat(nodeB.renew(List.of(sessionId))).containsExactly(sessionId);
+  }
+
+  private SessionLeases leases(String nodeId, long leaseSeconds) {
+    return new SessionLeases(chargingSessionRepository, clock, true, nodeId, leaseSeconds);
+  }
+
+  private Long insert(ChargingSessionStatus status, boolean reserved, long startTime) {
+    return jdbcTemplate.queryForObject("INSERT INTO charging_sessions (pump_number, is_reserved, status, start_time) "
+        + "VALUES (1, ?, ?, ?) RETURNING id", Long.class, reserved, status.name(), new Timestamp(startTime));
+  }
+
+  private String leaseOwner(Long sessionId) {
+    return jdbcTemplate.queryForObject("SELECT lease_owner FROM charging_sessions WHERE id = ?", String.class,
+        sessionId);
+  }
+}
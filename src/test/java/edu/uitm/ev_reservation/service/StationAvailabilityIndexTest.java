@@ -0,0 +1,89 @@
+package edu.uitm.ev_reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.uitm.ev_reservation.dto.ChargingProgressMessage;
+import edu.uitm.ev_reservation.dto.StationAvailabilityDto;
+import edu.uitm.ev_reservation.entity.EVStation;
+import edu.uitm.ev_reservation.mapper.DtoMapper;
+import edu.uitm.ev_reservation.repository.ChargingSessionRepository;
+import edu.uitm.ev_reservation.repository.EVStationRepository;
+
+class StationAvailabilityIndexTest {
+
+  private final EVStation hub = EVStation.builder().id(1L).name("Hub").location("Here").numberOfPumps(2).build();
+  private final EVStation annex = EVStation.builder().id(2L).name("Annex").location("There").numberOfPumps(4).build();
+  private final EVStationRepository stationRepository = mock(EVStationRepository.class);
+  private final ProgressEventBus bus = new InMemoryProgressEventBus();
+  private final ChargingClock clock = new ChargingClock(ChargingClock.Mode.SIMULATED, 0.001, "2025-06-01T08:00:00Z");
+
+  @Test
+  void unknownStationsAreAnsweredFromMemory() {
+    when(stationRepository.findAll()).thenReturn(List.of(hub));
+    StationAvailabilityIndex index = index(60);
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(index.getAvailability(2L)).isNull();
+      assertThat(index.getAvailability(List.of(1L, 2L))).extracting(StationAvailabilityDto::getStationId)
+          .containsExactly(1L);
+    }
+
+    verify(stationRepository).findAll();
+    verifyNoMoreInteractions(stationRepository);
+  }
+
+  @Test
+  void stationCreatedElsewhereIsFoundOnceTheReloadIsDue() {
+    when(stationRepository.findAll()).thenReturn(List.of(hub), List.of(hub, annex));
+    StationAvailabilityIndex index = index(0);
+
+    assertThat(index.getAvailability(2L).getNumberOfPumps()).isEqualTo(4);
+    assertThat(index.getAvailability(2L).getFree()).isEqualTo(4);
+
+    // Known from then on, without another reload
+    verify(stationRepository, times(2)).findAll();
+    verifyNoMoreInteractions(stationRepository);
+  }
+
+  @Test
+  void progressOfARemovedStationDoesNotBringItBack() {
+    when(stationRepository.findAll()).thenReturn(List.of(hub, annex));
+    StationAvailabilityIndex index = index(60);
+    index.removeStation(2L);
+
+    bus.publish(progress(hub, "charging"));
+    bus.publish(progress(annex, "charging"));
+    bus.publish(progress(annex, "stopped"));
+
+    assertThat(index.getAvailability(1L).getCharging()).isEqualTo(1);
+    assertThat(index.getAvailability(2L)).isNull();
+    assertThat(index.getAvailability((List<Long>) null)).extracting(StationAvailabilityDto::getStationId)
+        .containsExactly(1L);
+  }
+
+  private StationAvailabilityIndex index(long reloadIntervalSeconds) {
+    PumpAllocationIndex pumps = new PumpAllocationIndex(mock(ChargingSessionRepository.class), clock);
+    StationAvailabilityIndex index = new StationAvailabilityIndex(stationRepository, pumps, clock,
+        bus, 15, reloadIntervalSeconds);
+    index.loadStations();
+    return index;
+  }
+
+  private static ChargingProgressMessage progress(EVStation station, String status) {
+    return ChargingProgressMessage.builder()
+        .sessionId(station.getId())
+        .station(DtoMapper.toEVStationResponseDto(station))
+        .pump(1)
+        .status(status)
+        .build();
+  }
+}
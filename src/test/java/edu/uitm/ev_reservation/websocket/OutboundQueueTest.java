@@ -0,0 +1,84 @@
+package edu.uitm.ev_reservation.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import edu.uitm.ev_reservation.websocket.ChargingWebSocketHandler.SlowConsumerPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OutboundQueueTest {
+
+  private static final int CAPACITY = 2;
+
+  private final WebSocketSession session = mock(WebSocketSession.class);
+  // Runs nothing until the test says so, so the queue fills up as behind a stalled client
+  private final Queue<Runnable> sender = new ArrayDeque<>();
+  private final List<String> sent = new ArrayList<>();
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final Counter dropped = registry.counter("dropped");
+  private final Counter evictions = registry.counter("evictions");
+  private final OutboundQueue queue = new OutboundQueue(session, sender::add, SlowConsumerPolicy.CONFLATE, CAPACITY,
+      Integer.MAX_VALUE, 60_000, dropped, evictions);
+
+  @BeforeEach
+  void setUp() throws Exception {
+    when(session.isOpen()).thenReturn(true);
+    doAnswer(invocation -> sent.add(((WebSocketMessage<?>) invocation.getArgument(0)).getPayload().toString()))
+        .when(session).sendMessage(any());
+  }
+
+  @Test
+  void fullQueueConflatesTicksButStillDeliversStateChanges() {
+    queue.offer(null, frame("1 started"));
+    queue.offer(1L, frame("1 charging 10"));
+
+    assertThat(queue.offer(1L, frame("1 charging 20"))).isTrue();
+    assertThat(queue.offer(2L, frame("2 charging 10"))).isFalse();
+    assertThat(queue.offer(null, frame("1 stopped"))).isTrue();
+    drain();
+
+    assertThat(sent).containsExactly("1 started", "1 charging 20", "1 stopped");
+    assertThat(dropped.count()).isEqualTo(1);
+  }
+
+  @Test
+  void clientTooFarBehindForAStateChangeIsDisconnected() throws Exception {
+    for (int i = 0; i < CAPACITY * 2; i++) {
+      assertThat(queue.offer(null, frame(i + " started"))).isTrue();
+    }
+
+    assertThat(queue.offer(null, frame("0 stopped"))).isFalse();
+    drain();
+
+    assertThat(sent).isEmpty();
+    assertThat(evictions.count()).isEqualTo(1);
+    verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+  }
+
+  private void drain() {
+    for (Runnable task; (task = sender.poll()) != null;) {
+      task.run();
+    }
+  }
+
+  private static TextMessage frame(String payload) {
+    return new TextMessage(payload);
+  }
+}
@@ -0,0 +1,19 @@
+-- Schema that ddl-auto=update created before the migrations existed
+create table charging_sessions (is_charging boolean not null, is_completed boolean not null, is_reserved boolean not null, pump_number integer not null, id bigint generated by default as identity, start_time timestamp(6), station_id bigint, user_id bigint, vehicle_id bigint, primary key (id));
+create table ev_stations (number_of_pumps integer not null, id bigint generated by default as identity, location varchar(255) not null, name varchar(255) not null, primary key (id));
+create table users (is_admin boolean, id bigint generated by default as identity, email varchar(255) not null unique, name varchar(255), password varchar(255) not null, primary key (id));
+create table vehicles (battery_capacity integer not null, id bigint generated by default as identity, owner_id bigint, make varchar(255), model varchar(255), plate_number varchar(255), primary key (id));
+alter table if exists charging_sessions add constraint FKq9bhb17yn9okmr1el02n0oa6y foreign key (station_id) references ev_stations;
+alter table if exists charging_sessions add constraint FKr4swm8javvl0huxp3wgx8o5iv foreign key (user_id) references users;
+alter table if exists charging_sessions add constraint FKs2v5x8y6djuepahxqy1ia9d9p foreign key (vehicle_id) references vehicles;
+alter table if exists vehicles add constraint FKi251m7sfpn4k64pif7wk70jlu foreign key (owner_id) references users;
+
+insert into users (email, password, name, is_admin) values ('driver@example.com', 'secret', 'Driver', false);
+-- Inserted by hand rather than through registration, which lower-cases emails
+insert into users (email, password, name, is_admin) values ('Driver@Example.com', 'secret', 'Driver', false);
+insert into users (email, password, name, is_admin) values ('Fleet@Example.com', 'secret', 'Fleet', false);
+insert into users (email, password, name, is_admin) values ('FLEET@example.com', 'secret', 'Fleet', false);
+insert into ev_stations (name, location, number_of_pumps) values ('Hub', 'Shah Alam', 4);
+insert into vehicles (make, model, plate_number, battery_capacity, owner_id) values ('Proton', 'e.MAS 7', 'WXY 1234', 60000, 1);
+insert into charging_sessions (user_id, vehicle_id, station_id, pump_number, is_completed, is_reserved, is_charging, start_time)
+  values (1, 1, 1, 1, true, false, false, '2025-06-01 08:00:00');